@@ -0,0 +1,66 @@
+#version 120
+
+#ifdef GL_ES
+precision mediump float;
+precision mediump int;
+#endif
+
+attribute vec4 a_position;
+attribute vec3 a_prev;
+attribute vec3 a_next;
+attribute vec4 a_color;
+attribute vec2 a_uv;
+
+uniform mat4 u_worldTransform;
+uniform mat4 u_projModelView;
+uniform vec3 u_parentPos;
+// Tangent of the width angle of the line, times the field of view factor
+uniform float u_widthTan;
+uniform float u_alpha;
+
+varying vec4 v_col;
+varying vec2 v_uv;
+
+#ifdef relativisticEffects
+    uniform vec3 u_velDir; // Velocity vector
+    uniform float u_vc; // Fraction of the speed of light, v/c
+
+    #include shader/lib_geometry.glsl
+    #include shader/lib_relativity.glsl
+#endif // relativisticEffects
+
+#ifdef gravitationalWaves
+    uniform vec4 u_hterms; // hpluscos, hplussin, htimescos, htimessin
+    uniform vec3 u_gw; // Location of gravitational wave, cartesian
+    uniform mat3 u_gwmat3; // Rotation matrix so that u_gw = u_gw_mat * (0 0 1)^T
+    uniform float u_ts; // Time in seconds since start
+    uniform float u_omgw; // Wave frequency
+    #include shader/lib_gravwaves.glsl
+#endif // gravitationalWaves
+
+void main() {
+    // Positions of the point and its neighbours relative to the camera
+    vec3 pos = (u_worldTransform * vec4(a_position.xyz - u_parentPos, 1.0)).xyz;
+    vec3 prev = (u_worldTransform * vec4(a_prev - u_parentPos, 1.0)).xyz;
+    vec3 next = (u_worldTransform * vec4(a_next - u_parentPos, 1.0)).xyz;
+
+    // Expand the line perpendicular to the view direction and to the line,
+    // a_uv.y tells the side, so that the width angle is constant
+    vec3 side = cross(pos, next - prev);
+    float len = length(side);
+    if (len > 0.0) {
+        pos += side * (u_widthTan * length(pos) / len) * (1.0 - 2.0 * a_uv.y);
+    }
+
+    #ifdef relativisticEffects
+        pos = computeRelativisticAberration(pos, length(pos), u_velDir, u_vc);
+    #endif // relativisticEffects
+
+    #ifdef gravitationalWaves
+        pos = computeGravitationalWaves(pos, u_gw, u_gwmat3, u_ts, u_omgw, u_hterms);
+    #endif // gravitationalWaves
+
+    gl_Position = u_projModelView * vec4(pos, 1.0);
+    v_col = vec4(a_color.rgb, a_color.a * u_alpha);
+    v_uv = a_uv;
+}
@@ -49,6 +49,7 @@ import gaia.cu9.ari.gaiaorbit.script.ScriptingServer;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
 import gaia.cu9.ari.gaiaorbit.util.*;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.EphemerisCache;
 import gaia.cu9.ari.gaiaorbit.util.gaia.GaiaAttitudeServer;
 import gaia.cu9.ari.gaiaorbit.util.gdx.loader.G3dModelLoader;
 import gaia.cu9.ari.gaiaorbit.util.gdx.loader.ObjLoader;
@@ -207,6 +208,9 @@ public class GaiaSky implements ApplicationListener, IObserver, IMainRenderer {
         logger.info(I18n.bundle.format("notif.glversion", Gdx.gl.glGetString(GL20.GL_VERSION)));
         logger.info(I18n.bundle.format("notif.glslversion", Gdx.gl.glGetString(GL20.GL_SHADING_LANGUAGE_VERSION)));
         logger.info("Java version", System.getProperty("java.version"), System.getProperty("java.vendor"));
+        MemInfo.initGpuMemory();
+        if (MemInfo.getGpuMemory() > 0)
+            logger.info("Graphics memory", Math.round(MemInfo.getGpuMemory()) + " MB");
 
         // Frame buffer map
         fbmap = new HashMap<>();
@@ -391,6 +395,9 @@ public class GaiaSky implements ApplicationListener, IObserver, IMainRenderer {
         // Subscribe to events
         EventManager.instance.subscribe(this, Events.TOGGLE_AMBIENT_LIGHT, Events.AMBIENT_LIGHT_CMD, Events.RECORD_CAMERA_CMD, Events.CAMERA_MODE_CMD, Events.STEREOSCOPIC_CMD, Events.FRAME_SIZE_UDPATE, Events.SCREENSHOT_SIZE_UDPATE, Events.POST_RUNNABLE, Events.UNPOST_RUNNABLE, Events.SCENE_GRAPH_ADD_OBJECT_CMD, Events.SCENE_GRAPH_ADD_OBJECT_NO_POST_CMD, Events.SCENE_GRAPH_REMOVE_OBJECT_CMD, Events.HOME_CMD);
 
+        // Event dispatch metrics go with the debug info
+        EventManager.instance.setMetricsEnabled(GlobalConf.program.SHOW_DEBUG_INFO);
+
         // Re-enable input
         if (!GlobalConf.runtime.STRIPPED_FOV_MODE)
             EventManager.instance.post(Events.INPUT_ENABLED_CMD, true);
@@ -416,9 +423,9 @@ public class GaiaSky implements ApplicationListener, IObserver, IMainRenderer {
                 // Memory
                 EventManager.instance.post(Events.DEBUG2, MemInfo.getUsedMemory(), MemInfo.getFreeMemory(), MemInfo.getTotalMemory(), MemInfo.getMaxMemory());
                 // Observed objects
-                EventManager.instance.post(Events.DEBUG3, "On display: " + OctreeNode.nObjectsObserved + ", Total loaded: " + StreamingOctreeLoader.getNLoadedStars());
+                EventManager.instance.post(Events.DEBUG3, "On display: " + OctreeNode.nObjectsObserved + ", Total loaded: " + StreamingOctreeLoader.getNLoadedStars() + ", Heap: " + (StreamingOctreeLoader.getHeapBytes() >> 20) + " MB, VRAM: " + (StreamingOctreeLoader.getGpuBytes() >> 20) + " MB");
                 // Observed octants
-                EventManager.instance.post(Events.DEBUG4, "Observed octants: " + OctreeNode.nOctantsObserved + ", Load queue: " + StreamingOctreeLoader.getLoadQueueSize());
+                EventManager.instance.post(Events.DEBUG4, "Observed octants: " + OctreeNode.nOctantsObserved + ", Load queue: " + StreamingOctreeLoader.getLoadQueueSize() + ", Touches/s: " + Math.round(StreamingOctreeLoader.getTouchRate()) + ", Evictions/s: " + Math.round(StreamingOctreeLoader.getEvictionRate()) + ", Prefetch hits: " + Math.round(StreamingOctreeLoader.getPrefetchHitRate() * 100) + "%, wasted: " + StreamingOctreeLoader.getPrefetchWasted());
                 // Frame buffers
                 EventManager.instance.post(Events.DEBUG_BUFFERS, GLFrameBuffer.getManagedStatus());
             }
@@ -536,6 +543,9 @@ public class GaiaSky implements ApplicationListener, IObserver, IMainRenderer {
         // Flush frames
         EventManager.instance.post(Events.FLUSH_FRAMES);
 
+        if (EventManager.instance.isMetricsEnabled())
+            logger.info(EventManager.instance.getMetricsSummary(10));
+
         // Dispose all
         for (IGui gui : guis)
             gui.dispose();
@@ -546,6 +556,9 @@ public class GaiaSky implements ApplicationListener, IObserver, IMainRenderer {
         }
         ModelCache.cache.dispose();
 
+        // Cached ephemerides
+        EphemerisCache.dispose();
+
         // Scripting
         ScriptingServer.dispose();
 
@@ -692,6 +705,7 @@ public class GaiaSky implements ApplicationListener, IObserver, IMainRenderer {
 
         // Update events
         EventManager.instance.dispatchDelayedMessages();
+        EventManager.instance.dispatchMailboxes();
 
         // Update cameras
         cam.update(dt, time);
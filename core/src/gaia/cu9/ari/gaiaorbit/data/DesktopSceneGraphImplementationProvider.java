@@ -7,13 +7,16 @@ package gaia.cu9.ari.gaiaorbit.data;
 
 import gaia.cu9.ari.gaiaorbit.scenegraph.ISceneGraph;
 import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraph;
+import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphConcurrent;
 
 public class DesktopSceneGraphImplementationProvider extends SceneGraphImplementationProvider {
 
     @Override
     public ISceneGraph getImplementation(boolean multithreading, boolean hasOctree, boolean hasStarGroup, int maxThreads) {
-        // Scene graph concurrent has been deprecated, now all stars are in GPU
-        return new SceneGraph();
+        if (multithreading && maxThreads > 1)
+            return new SceneGraphConcurrent(maxThreads);
+        else
+            return new SceneGraph();
     }
 
 }
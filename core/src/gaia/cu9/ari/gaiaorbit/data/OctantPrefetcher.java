@@ -0,0 +1,113 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.data;
+
+import com.badlogic.gdx.utils.TimeUtils;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICameraPath;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+import gaia.cu9.ari.gaiaorbit.util.tree.LoadStatus;
+import gaia.cu9.ari.gaiaorbit.util.tree.OctreeNode;
+
+/**
+ * Predicts the octants which are about to become visible and queues them in
+ * the streaming loader with a lower priority than the octants which are
+ * visible now. The future camera state is taken from the camera path being
+ * played, if any (keyframe paths are played as camera paths), or extrapolated
+ * from the current camera velocity otherwise.
+ *
+ * @author tsagrista
+ */
+public class OctantPrefetcher {
+    /** Minimum time between prefetch passes, in ms **/
+    private static final long PASS_INTERVAL_MS = 250;
+    /** Maximum number of octants queued in each pass **/
+    private static final int MAX_OCTANTS_PER_PASS = 50;
+    /** Number of camera states sampled along the look-ahead time **/
+    private static final int N_SAMPLES = 4;
+
+    /** The camera path being played, if any **/
+    private static volatile ICameraPath cameraPath;
+
+    private final StreamingOctreeLoader loader;
+    private final Vector3d pos, dir;
+    private long lastPassMs = 0;
+
+    public OctantPrefetcher(StreamingOctreeLoader loader) {
+        this.loader = loader;
+        this.pos = new Vector3d();
+        this.dir = new Vector3d();
+    }
+
+    /**
+     * Sets the camera path being played, or null if none
+     *
+     * @param path The camera path
+     */
+    public static void setCameraPath(ICameraPath path) {
+        cameraPath = path;
+    }
+
+    /**
+     * Runs a prefetch pass over the octree, if enough time has passed since
+     * the last one. Must be called from the main thread, after the octree update.
+     * Only the octants whose nodes exist already are prefetched, deeper nodes of
+     * compact metadata are created by the octree update when they are observed.
+     *
+     * @param root   The root of the octree
+     * @param camera The camera
+     */
+    public void update(OctreeNode root, ICamera camera) {
+        float seconds = GlobalConf.scene.OCTREE_PREFETCH_SECONDS;
+        if (seconds <= 0 || root == null)
+            return;
+        long now = TimeUtils.millis();
+        if (now - lastPassMs < PASS_INTERVAL_MS)
+            return;
+        lastPassMs = now;
+
+        // Prefetching never triggers unloading
+        if (loader.loadingPaused || !loader.hasPrefetchRoom())
+            return;
+
+        ICameraPath path = cameraPath;
+        Vector3d vel = camera.getVelocity();
+        if (path == null && (vel == null || vel.len2() == 0))
+            return;
+
+        double fov = camera.getCamera().fieldOfView;
+        int remaining = MAX_OCTANTS_PER_PASS;
+        for (int i = 1; i <= N_SAMPLES && remaining > 0; i++) {
+            double t = seconds * i / N_SAMPLES;
+            if (path != null) {
+                if (!path.sample(t, pos, dir))
+                    break;
+            } else {
+                pos.set(vel).scl(t).add(camera.getPos());
+                dir.set(camera.getDirection());
+            }
+            remaining = visit(root, fov, remaining);
+        }
+    }
+
+    private int visit(OctreeNode octant, double fov, int remaining) {
+        if (remaining <= 0 || !octant.isObservedFrom(pos, dir, fov))
+            return remaining;
+
+        if (octant.getStatus() == LoadStatus.NOT_LOADED && loader.addToQueue(octant, true))
+            remaining--;
+
+        // Only the children the octree update has already created are visited,
+        // they are never created from here
+        for (int i = 0; i < 8; i++) {
+            OctreeNode child = octant.children[i];
+            if (child != null)
+                remaining = visit(child, fov, remaining);
+        }
+        return remaining;
+    }
+}
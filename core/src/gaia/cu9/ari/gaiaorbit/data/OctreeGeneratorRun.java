@@ -13,13 +13,16 @@ import com.badlogic.gdx.utils.TimeUtils;
 import com.beust.jcommander.JCommander;
 import com.beust.jcommander.Parameter;
 import gaia.cu9.ari.gaiaorbit.data.group.AbstractStarGroupDataProvider;
+import gaia.cu9.ari.gaiaorbit.data.group.DR2DataProvider;
 import gaia.cu9.ari.gaiaorbit.data.group.IStarGroupDataProvider;
 import gaia.cu9.ari.gaiaorbit.data.group.STILDataProvider;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.IStarGroupIO;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.MetadataBinaryIO;
+import gaia.cu9.ari.gaiaorbit.data.octreegen.ParallelPageWriter;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.StarGroupBinaryIO;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.StarGroupSerializedIO;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.generator.IOctreeGenerator;
+import gaia.cu9.ari.gaiaorbit.data.octreegen.generator.OctreeGeneratorExternal;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.generator.OctreeGeneratorMag;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.generator.OctreeGeneratorParams;
 import gaia.cu9.ari.gaiaorbit.desktop.format.DesktopDateFormatFactory;
@@ -28,6 +31,7 @@ import gaia.cu9.ari.gaiaorbit.desktop.util.DesktopConfInit;
 import gaia.cu9.ari.gaiaorbit.interfce.ConsoleLogger;
 import gaia.cu9.ari.gaiaorbit.interfce.MessageBean;
 import gaia.cu9.ari.gaiaorbit.interfce.NotificationsInterface;
+import gaia.cu9.ari.gaiaorbit.scenegraph.ParticleGroup.ParticleBean;
 import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
 import gaia.cu9.ari.gaiaorbit.util.*;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
@@ -46,6 +50,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * Generates an octree of star groups. Each octant should have only one object,
@@ -87,6 +92,18 @@ public class OctreeGeneratorRun {
     @Parameter(names = "--serialized", description = "Use the java serialization method instead of the binary format to output the particle files")
     private boolean serialized = false;
 
+    @Parameter(names = "--columnar", description = "Write the particle files using the columnar page format, which is loaded without creating per-star objects. Not readable by older versions")
+    private boolean columnar = false;
+
+    @Parameter(names = "--compactmetadata", description = "Write the metadata in the compact breadth-first format, whose deep nodes are only created when needed. Not readable by older versions")
+    private boolean compactMetadata = false;
+
+    @Parameter(names = "--compress", description = "Compress each particle file as a block with deflate. Smaller files, but they are decompressed to memory when loaded. Only for the binary format, not readable by older versions")
+    private boolean compress = false;
+
+    @Parameter(names = "--writers", description = "Number of threads writing the particle files. Defaults to the number of processors")
+    private int writers = Runtime.getRuntime().availableProcessors();
+
     @Parameter(names = "--pllxerrfaint", description = "Parallax error factor for faint (gmag>=13.1) stars, acceptance criteria as a percentage of parallax error with respect to parallax, in [0..1]")
     private double pllxerrfaint = 0.125;
 
@@ -132,6 +149,18 @@ public class OctreeGeneratorRun {
     @Parameter(names = "--ruwe-file", description = "Location of gzipped file containing the RUWE value for each source id")
     private String ruweFile = null;
 
+    @Parameter(names = "--tables", description = "Write the geometric distances and RUWE values, once parsed, as binary tables next to their files (with .lmap appended), and read those tables instead of the files in later runs. The tables are memory-mapped. --geodistfile and --ruwe-file also accept tables directly")
+    private boolean tables = false;
+
+    @Parameter(names = "--external", description = "Generate the octree out of core. Stars are sorted in runs spilled to --tmpdir and pages are written as octants are finished, so the heap use is bounded by --membudget instead of by the catalog size")
+    private boolean external = false;
+
+    @Parameter(names = "--membudget", description = "If --external is on, heap to use for the stars in memory and the pages waiting to be written, in MB. Defaults to 2048")
+    private long memBudget = 2048;
+
+    @Parameter(names = "--tmpdir", description = "If --external is on, folder for the temporary runs. Defaults to system temp")
+    private String tmpDir = null;
+
     @Parameter(names = {"-h", "--help"}, help = true)
     private boolean help = false;
 
@@ -204,6 +233,9 @@ public class OctreeGeneratorRun {
     }
 
     private OctreeNode generateOctree() throws IOException, InstantiationException, IllegalAccessException, ClassNotFoundException, NoSuchMethodException, InvocationTargetException {
+        if (external)
+            return generateOctreeExternal();
+
         long startMs = TimeUtils.millis();
 
         OctreeGeneratorParams ogp = new OctreeGeneratorParams(maxPart, sunCentre, postprocess, childCount, parentCount);
@@ -211,33 +243,14 @@ public class OctreeGeneratorRun {
         IOctreeGenerator og = new OctreeGeneratorMag(ogp);
 
         Array<StarBean> listLoader = null, list = null;
-        Map<Long, Integer> xmatchTable = null;
+        Map<Long, Integer> xmatchTable = readXmatchTable();
         long[] cpm = null;
 
         if (loaderClass != null) {
             /* CATALOG */
-            String fullLoaderClass = "gaia.cu9.ari.gaiaorbit.data.group." + loaderClass;
-            IStarGroupDataProvider loader = (IStarGroupDataProvider) Class.forName(fullLoaderClass).getDeclaredConstructor().newInstance();
-            loader.setParallaxErrorFactorFaint(pllxerrfaint);
-            loader.setParallaxErrorFactorBright(pllxerrbright);
-            loader.setParallaxZeroPoint(pllxzeropoint);
-            loader.setFileNumberCap(fileNumCap);
-            loader.setMagCorrections(magCorrections);
-            loader.setDistanceCap(distcap);
-            loader.setGeoDistancesFile(geodistFile);
-            loader.setRUWEFile(ruweFile);
-            loader.setRUWECap(ruwe);
+            IStarGroupDataProvider loader = createLoader(xmatchTable);
             cpm = loader.getCountsPerMag();
 
-            if (addHip && xmatchFile != null && !xmatchFile.isEmpty()) {
-                // Load xmatchTable
-                xmatchTable = readXmatchTable(xmatchFile);
-                if (!xmatchTable.isEmpty()) {
-                    // IDs which must be loaded regardless (we need them to update x-matched HIP stars)
-                    loader.setMustLoadIds(new HashSet<>(xmatchTable.keySet()));
-                }
-            }
-
             /* LOAD CATALOG */
             listLoader = (Array<StarBean>) loader.loadData(input);
         }
@@ -245,17 +258,7 @@ public class OctreeGeneratorRun {
         if (addHip) {
             /* HIPPARCOS */
             STILDataProvider stil = new STILDataProvider();
-
-            // All hip stars for which we have a Gaia star, bypass plx >= 0 condition in STILDataProvider
-            if (xmatchTable != null) {
-                Set<Long> mustLoad = new HashSet<>();
-                for (int hip : xmatchTable.values()) {
-                    mustLoad.add(Long.valueOf(hip));
-                }
-                stil.setMustLoadIds(mustLoad);
-            }
-
-            Array<StarBean> listHip = (Array<StarBean>) stil.loadData("data/catalog/hipparcos/hip.vot");
+            Array<StarBean> listHip = loadHip(stil, xmatchTable);
             long[] cpmhip = stil.getCountsPerMag();
             combineCpm(cpm, cpmhip);
             Map<Integer, StarBean> hipMap = new HashMap<>();
@@ -282,45 +285,7 @@ public class OctreeGeneratorRun {
                         if (hipMap.containsKey(hipId)) {
                             StarBean hipStar = hipMap.get(hipId);
 
-                            // POSITION
-                            double x = gaiaStar.x(), y = gaiaStar.y(), z = gaiaStar.z();
-                            aux1.set(x, y, z);
-                            if (Math.abs(aux1.len() - AbstractStarGroupDataProvider.NEGATIVE_DIST) < 1e-10) {
-                                // Negative distance in Gaia star!
-                                // Use Gaia position, HIP distance
-
-                                // Fetch Gaia RA/DEC
-                                Coordinates.cartesianToSpherical(aux1, aux2);
-                                double gaiaRA = aux2.x;
-                                double gaiaDEC = aux2.y;
-
-                                // Fetch HIP distance
-                                aux1.set(hipStar.x(), hipStar.y(), hipStar.z());
-                                Coordinates.cartesianToSpherical(aux1, aux2);
-                                double hipDIST = aux2.z;
-
-                                // Compute new cartesian position
-                                aux1.set(gaiaRA, gaiaDEC, hipDIST);
-                                Coordinates.sphericalToCartesian(aux1, aux2);
-                                x = aux2.x;
-                                y = aux2.y;
-                                z = aux2.z;
-                            }
-
-                            hipStar.id = gaiaStar.id;
-                            hipStar.data[StarBean.I_X] = x;
-                            hipStar.data[StarBean.I_Y] = y;
-                            hipStar.data[StarBean.I_Z] = z;
-                            hipStar.data[StarBean.I_PMX] = gaiaStar.pmx();
-                            hipStar.data[StarBean.I_PMY] = gaiaStar.pmy();
-                            hipStar.data[StarBean.I_PMZ] = gaiaStar.pmz();
-                            hipStar.data[StarBean.I_MUALPHA] = gaiaStar.mualpha();
-                            hipStar.data[StarBean.I_MUDELTA] = gaiaStar.mudelta();
-                            hipStar.data[StarBean.I_RADVEL] = gaiaStar.radvel();
-                            hipStar.data[StarBean.I_APPMAG] = gaiaStar.appmag();
-                            hipStar.data[StarBean.I_ABSMAG] = gaiaStar.absmag();
-                            hipStar.data[StarBean.I_COL] = gaiaStar.col();
-                            hipStar.data[StarBean.I_SIZE] = gaiaStar.size();
+                            updateHipStar(hipStar, gaiaStar, aux1, aux2);
                             starhits++;
                         } else {
                             notFoundHipStars++;
@@ -368,20 +333,195 @@ public class OctreeGeneratorRun {
         delete(particlesFolder);
 
         /** WRITE METADATA **/
-        metadataFile.createNewFile();
+        writeMetadata(octree, metadataFile);
 
-        logger.info("Writing metadata (" + octree.numNodes() + " nodes): " + metadataFile.getAbsolutePath());
+        /** WRITE PARTICLES **/
+        ParallelPageWriter pageWriter = createPageWriter();
+        particlesFolder.mkdirs();
+        int failed;
+        try {
+            writeParticlesToFiles(pageWriter, octree);
+        } finally {
+            failed = pageWriter.shutdown();
+        }
+        if (failed > 0)
+            logger.error(failed + " particle files could not be written");
 
-        MetadataBinaryIO metadataWriter = new MetadataBinaryIO();
-        metadataWriter.writeMetadata(octree, new FileOutputStream(metadataFile));
+        long writingMs = TimeUtils.millis();
+        double writingSecs = (writingMs - generatingMs) / 1000.0;
 
-        /** WRITE PARTICLES **/
-        IStarGroupIO particleWriter = serialized ? new StarGroupSerializedIO() : new StarGroupBinaryIO();
+        logStats(octree, cpm, list.size, loadingSecs, generatingSecs, writingSecs);
+
+        return octree;
+    }
+
+    /**
+     * Generates the octree with {@link OctreeGeneratorExternal}. The stars are
+     * passed to the generator as they are loaded, and the DR2 loader streams
+     * them file by file, so the catalog is never in memory as a whole. The
+     * Hipparcos stars are added at the end, once they have been updated with
+     * their Gaia counterparts.
+     */
+    private OctreeNode generateOctreeExternal() throws IOException, InstantiationException, IllegalAccessException, ClassNotFoundException, NoSuchMethodException, InvocationTargetException {
+        long startMs = TimeUtils.millis();
+
+        /** CLEAN CURRENT OUT DIR **/
+        File metadataFile = new File(outFolder, "metadata.bin");
+        delete(metadataFile);
+        File particlesFolder = new File(outFolder, "particles/");
+        delete(particlesFolder);
         particlesFolder.mkdirs();
-        writeParticlesToFiles(particleWriter, octree);
+
+        OctreeGeneratorParams ogp = new OctreeGeneratorParams(maxPart, sunCentre, postprocess, childCount, parentCount);
+        ParallelPageWriter pageWriter = createPageWriter();
+        long[] cpm = null;
+        long nStars;
+        long loadingMs;
+        double loadingSecs;
+        OctreeGeneratorExternal og;
+        OctreeNode octree;
+        try {
+            og = new OctreeGeneratorExternal(ogp, pageWriter, particlesFolder, tmpDir != null ? new File(tmpDir) : null, memBudget * 1024L * 1024L);
+
+            Map<Long, Integer> xmatchTable = readXmatchTable();
+
+            /* HIPPARCOS */
+            Array<StarBean> listHip = null;
+            Map<Integer, StarBean> hipMap = new HashMap<>();
+            if (addHip) {
+                STILDataProvider stil = new STILDataProvider();
+                listHip = loadHip(stil, xmatchTable);
+                cpm = stil.getCountsPerMag();
+                for (StarBean star : listHip) {
+                    hipMap.put(star.hip(), star);
+                }
+            }
+
+            if (loaderClass != null) {
+                /* CATALOG */
+                IStarGroupDataProvider loader = createLoader(xmatchTable);
+                cpm = combineCpm(loader.getCountsPerMag(), cpm);
+
+                final Map<Long, Integer> xmatch = addHip ? xmatchTable : null;
+                final long[] hits = new long[2];
+                final Vector3d aux1 = new Vector3d();
+                final Vector3d aux2 = new Vector3d();
+                Consumer<StarBean> addStar = (StarBean gaiaStar) -> {
+                    if (xmatch == null || !xmatch.containsKey(gaiaStar.id)) {
+                        og.add(gaiaStar);
+                    } else {
+                        // Update hipStar using gaiaStar data
+                        StarBean hipStar = hipMap.get(xmatch.get(gaiaStar.id));
+                        if (hipStar != null) {
+                            updateHipStar(hipStar, gaiaStar, aux1, aux2);
+                            hits[0]++;
+                        } else {
+                            hits[1]++;
+                        }
+                    }
+                };
+
+                /* LOAD CATALOG */
+                if (loader instanceof DR2DataProvider) {
+                    ((DR2DataProvider) loader).streamData(input, 1d, (Array<StarBean> stars) -> {
+                        for (StarBean gaiaStar : stars)
+                            addStar.accept(gaiaStar);
+                        stars.clear();
+                    });
+                } else {
+                    for (ParticleBean pb : loader.loadData(input))
+                        addStar.accept((StarBean) pb);
+                }
+                if (addHip)
+                    logger.info(hits[0] + " of " + listHip.size + " HIP stars' data updated due to being matched to a Gaia star (" + hits[1] + " not found - negative parallax?)");
+            }
+            if (listHip != null)
+                og.addAll(listHip);
+
+            loadingMs = TimeUtils.millis();
+            loadingSecs = ((loadingMs - startMs) / 1000.0);
+            logger.info("TIME STATS: Data loaded in " + loadingSecs + " seconds");
+
+            nStars = og.getStarCount();
+            octree = og.generate();
+        } finally {
+            // Stops the writer threads also when loading or generating fails
+            pageWriter.shutdown();
+        }
+        if (octree == null) {
+            logger.info("No stars were loaded, please check out the parameters");
+            return null;
+        }
+
+        long generatingMs = TimeUtils.millis();
+        double generatingSecs = ((generatingMs - loadingMs) / 1000.0);
+        logger.info("TIME STATS: Octree generated and particles written in " + generatingSecs + " seconds");
+
+        /** NUMBERS **/
+        logger.info("Octree generated with " + octree.numNodes() + " octants and " + octree.nObjects + " particles");
+        logger.info(og.getDiscarded() + " particles have been discarded due to density");
+
+        /** WRITE METADATA **/
+        writeMetadata(octree, metadataFile);
 
         long writingMs = TimeUtils.millis();
         double writingSecs = (writingMs - generatingMs) / 1000.0;
+
+        logStats(octree, cpm, nStars, loadingSecs, generatingSecs, writingSecs);
+
+        return octree;
+    }
+
+    private ParallelPageWriter createPageWriter() {
+        IStarGroupIO particleWriter = serialized ? new StarGroupSerializedIO() : new StarGroupBinaryIO(columnar, compress);
+        // Enough pending pages to keep all writers busy
+        return new ParallelPageWriter(particleWriter, writers, writers * 4);
+    }
+
+    private IStarGroupDataProvider createLoader(Map<Long, Integer> xmatchTable) throws InstantiationException, IllegalAccessException, ClassNotFoundException, NoSuchMethodException, InvocationTargetException {
+        String fullLoaderClass = "gaia.cu9.ari.gaiaorbit.data.group." + loaderClass;
+        IStarGroupDataProvider loader = (IStarGroupDataProvider) Class.forName(fullLoaderClass).getDeclaredConstructor().newInstance();
+        loader.setParallaxErrorFactorFaint(pllxerrfaint);
+        loader.setParallaxErrorFactorBright(pllxerrbright);
+        loader.setParallaxZeroPoint(pllxzeropoint);
+        loader.setFileNumberCap(fileNumCap);
+        loader.setMagCorrections(magCorrections);
+        loader.setDistanceCap(distcap);
+        loader.setWriteTables(tables);
+        loader.setGeoDistancesFile(geodistFile);
+        loader.setRUWEFile(ruweFile);
+        loader.setRUWECap(ruwe);
+
+        if (xmatchTable != null && !xmatchTable.isEmpty()) {
+            // IDs which must be loaded regardless (we need them to update x-matched HIP stars)
+            loader.setMustLoadIds(new HashSet<>(xmatchTable.keySet()));
+        }
+        return loader;
+    }
+
+    private Array<StarBean> loadHip(STILDataProvider stil, Map<Long, Integer> xmatchTable) {
+        // All hip stars for which we have a Gaia star, bypass plx >= 0 condition in STILDataProvider
+        if (xmatchTable != null) {
+            Set<Long> mustLoad = new HashSet<>();
+            for (int hip : xmatchTable.values()) {
+                mustLoad.add(Long.valueOf(hip));
+            }
+            stil.setMustLoadIds(mustLoad);
+        }
+
+        return (Array<StarBean>) stil.loadData("data/catalog/hipparcos/hip.vot");
+    }
+
+    private void writeMetadata(OctreeNode octree, File metadataFile) throws IOException {
+        metadataFile.createNewFile();
+
+        logger.info("Writing metadata (" + octree.numNodes() + " nodes): " + metadataFile.getAbsolutePath());
+
+        MetadataBinaryIO metadataWriter = new MetadataBinaryIO();
+        metadataWriter.writeMetadata(octree, new BufferedOutputStream(new FileOutputStream(metadataFile)), compactMetadata);
+    }
+
+    private void logStats(OctreeNode octree, long[] cpm, long nStars, double loadingSecs, double generatingSecs, double writingSecs) {
         double totalSecs = loadingSecs + generatingSecs + writingSecs;
 
         int[][] stats = octree.stats();
@@ -391,7 +531,7 @@ public class OctreeGeneratorRun {
             logger.info("STAR COUNTS STATS");
             logger.info("=================");
             for (int level = 0; level < cpm.length; level++) {
-                logger.info("Magnitude " + level + ": " + cpm[level] + " stars (" + formatter.format((double) cpm[level] * 100d / (double) list.size) + "%)");
+                logger.info("Magnitude " + level + ": " + cpm[level] + " stars (" + formatter.format((double) cpm[level] * 100d / (double) nStars) + "%)");
             }
             logger.info();
         }
@@ -400,11 +540,11 @@ public class OctreeGeneratorRun {
         logger.info("OCTREE STATS");
         logger.info("============");
         logger.info("Octants: " + octree.numNodes());
-        logger.info("Particles: " + list.size);
+        logger.info("Particles: " + nStars);
         logger.info("Depth: " + octree.getMaxDepth());
         int level = 0;
         for (int[] levelinfo : stats) {
-            logger.info("   Level " + level + ": " + levelinfo[0] + " octants, " + levelinfo[1] + " stars (" + formatter.format((double) levelinfo[1] * 100d / (double) list.size) + "%)");
+            logger.info("   Level " + level + ": " + levelinfo[0] + " octants, " + levelinfo[1] + " stars (" + formatter.format((double) levelinfo[1] * 100d / (double) nStars) + "%)");
             level++;
         }
         logger.info();
@@ -415,8 +555,51 @@ public class OctreeGeneratorRun {
         logger.info("Generating: " + generatingSecs + " seconds");
         logger.info("Writing: " + writingSecs + " seconds");
         logger.info("Total: " + totalSecs + " seconds");
+    }
 
-        return octree;
+    /**
+     * Updates the data of a Hipparcos star with the data of its cross-matched Gaia star
+     */
+    private void updateHipStar(StarBean hipStar, StarBean gaiaStar, Vector3d aux1, Vector3d aux2) {
+        // POSITION
+        double x = gaiaStar.x(), y = gaiaStar.y(), z = gaiaStar.z();
+        aux1.set(x, y, z);
+        if (Math.abs(aux1.len() - AbstractStarGroupDataProvider.NEGATIVE_DIST) < 1e-10) {
+            // Negative distance in Gaia star!
+            // Use Gaia position, HIP distance
+
+            // Fetch Gaia RA/DEC
+            Coordinates.cartesianToSpherical(aux1, aux2);
+            double gaiaRA = aux2.x;
+            double gaiaDEC = aux2.y;
+
+            // Fetch HIP distance
+            aux1.set(hipStar.x(), hipStar.y(), hipStar.z());
+            Coordinates.cartesianToSpherical(aux1, aux2);
+            double hipDIST = aux2.z;
+
+            // Compute new cartesian position
+            aux1.set(gaiaRA, gaiaDEC, hipDIST);
+            Coordinates.sphericalToCartesian(aux1, aux2);
+            x = aux2.x;
+            y = aux2.y;
+            z = aux2.z;
+        }
+
+        hipStar.id = gaiaStar.id;
+        hipStar.data[StarBean.I_X] = x;
+        hipStar.data[StarBean.I_Y] = y;
+        hipStar.data[StarBean.I_Z] = z;
+        hipStar.data[StarBean.I_PMX] = gaiaStar.pmx();
+        hipStar.data[StarBean.I_PMY] = gaiaStar.pmy();
+        hipStar.data[StarBean.I_PMZ] = gaiaStar.pmz();
+        hipStar.data[StarBean.I_MUALPHA] = gaiaStar.mualpha();
+        hipStar.data[StarBean.I_MUDELTA] = gaiaStar.mudelta();
+        hipStar.data[StarBean.I_RADVEL] = gaiaStar.radvel();
+        hipStar.data[StarBean.I_APPMAG] = gaiaStar.appmag();
+        hipStar.data[StarBean.I_ABSMAG] = gaiaStar.absmag();
+        hipStar.data[StarBean.I_COL] = gaiaStar.col();
+        hipStar.data[StarBean.I_SIZE] = gaiaStar.size();
     }
 
     private long[] combineCpm(long[] cpm1, long[] cpm2) {
@@ -431,22 +614,33 @@ public class OctreeGeneratorRun {
         return cpm1;
     }
 
-    private void writeParticlesToFiles(IStarGroupIO particleWriter, OctreeNode current) throws IOException {
+    private void writeParticlesToFiles(ParallelPageWriter pageWriter, OctreeNode current) throws IOException {
         // Write current
         if (current.ownObjects > 0) {
-            File particles = new File(outFolder + "/particles/", "particles_" + String.format("%06d", current.pageId) + ".bin");
-            logger.info("Writing " + current.ownObjects + " particles of node " + current.pageId + " to " + particles.getAbsolutePath());
-            particleWriter.writeParticles(current.objects, new BufferedOutputStream(new FileOutputStream(particles)));
+            File particles = OctreeGeneratorExternal.pageFile(new File(outFolder + "/particles/"), current.pageId);
+            logger.debug("Writing " + current.ownObjects + " particles of node " + current.pageId + " to " + particles.getAbsolutePath());
+            pageWriter.write(particles, current.objects);
         }
 
         // Write each child
         if (current.childrenCount > 0)
             for (OctreeNode child : current.children) {
                 if (child != null)
-                    writeParticlesToFiles(particleWriter, child);
+                    writeParticlesToFiles(pageWriter, child);
             }
     }
 
+    /**
+     * Reads the cross-match table if the Hipparcos catalog is added to a catalog
+     *
+     * @return The table, or null if there is none
+     */
+    private Map<Long, Integer> readXmatchTable() {
+        if (loaderClass != null && addHip && xmatchFile != null && !xmatchFile.isEmpty())
+            return readXmatchTable(xmatchFile);
+        return null;
+    }
+
     private Map<Long, Integer> readXmatchTable(String xmatchFile) {
         File xm = new File(xmatchFile);
         if (xm.exists()) {
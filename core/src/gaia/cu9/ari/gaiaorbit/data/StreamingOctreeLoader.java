@@ -15,12 +15,15 @@ import gaia.cu9.ari.gaiaorbit.event.IObserver;
 import gaia.cu9.ari.gaiaorbit.scenegraph.AbstractPositionEntity;
 import gaia.cu9.ari.gaiaorbit.scenegraph.Constellation;
 import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
 import gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper.AbstractOctreeWrapper;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.I18n;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.Pair;
 import gaia.cu9.ari.gaiaorbit.util.tree.LoadStatus;
+import gaia.cu9.ari.gaiaorbit.util.tree.OctantLru;
 import gaia.cu9.ari.gaiaorbit.util.tree.OctreeNode;
 
 import java.io.FileNotFoundException;
@@ -29,9 +32,10 @@ import java.util.Comparator;
 import java.util.Queue;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Contains the infrastructure common to all multifile octree loaders which
@@ -56,7 +60,7 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     protected static final long MIN_QUEUE_CLEAR_MS = 2000;
 
     /**
-     * Maximum number of pages to send to load every batch
+     * Maximum number of pages to send to load every batch, per loader worker
      **/
     protected static final int MAX_LOAD_CHUNK = 5;
 
@@ -67,6 +71,19 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     /** Max number of stars loaded at once **/
     protected final long maxLoadedStars;
 
+    /** Bytes held by the loaded octants in the heap **/
+    protected final AtomicLong heapBytes = new AtomicLong(0);
+    /** Bytes held by the loaded octants in vertex buffers **/
+    protected final AtomicLong gpuBytes = new AtomicLong(0);
+    /** Bytes of vertex buffers of unloaded octants which are still to be disposed in the GL thread **/
+    protected final AtomicLong pendingGpuBytes = new AtomicLong(0);
+    /** Bytes of idle vertex buffers kept in the mesh pools for reuse **/
+    protected volatile long pooledGpuBytes = 0;
+    /** Memory budgets, in bytes **/
+    protected final long heapBudget, vramBudget;
+    /** Fractions of the budgets at which unloading starts and down to which it goes **/
+    protected final float highWatermark, lowWatermark;
+
     /** The octant loading queue **/
     protected Queue<OctreeNode> toLoadQueue = null;
 
@@ -80,10 +97,19 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     protected String name, description;
 
     /**
-     * This queue is sorted ascending by access date, so that we know which
+     * This list is sorted ascending by access date, so that we know which
      * element to release if needed (oldest)
      **/
-    protected Queue<OctreeNode> toUnloadQueue;
+    protected OctantLru toUnloadQueue;
+
+    /** Predicts and queues the octants which are about to become visible **/
+    protected OctantPrefetcher prefetcher;
+    /** Prefetch statistics: octants queued, prefetched octants observed, and prefetched octants unloaded without being observed **/
+    protected final AtomicLong prefetchQueued = new AtomicLong(0), prefetchHits = new AtomicLong(0), prefetchWasted = new AtomicLong(0);
+
+    /** Touches and evictions per second, sampled from the unload list **/
+    private float touchRate, evictionRate;
+    private long lastRateMs, lastTouches, lastEvictions;
 
     /** Loaded octant ids, for logging **/
     protected long[] loadedIds;
@@ -98,6 +124,13 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     /** Daemon thread that gets the data loading requests and serves them **/
     protected DaemonLoader daemon;
 
+    /** Number of loader workers **/
+    protected final int nWorkers;
+    /** Loader workers, which read and decode octants in parallel **/
+    protected ExecutorService workers;
+    /** Collects the octants read by the workers so that they are published by the daemon **/
+    protected CompletionService<Pair<OctreeNode, AbstractPositionEntity>> readOctants;
+
     public StreamingOctreeLoader() {
         // TODO Use memory info to work this figure out
         // We assume 1Gb of graphics memory
@@ -105,10 +138,18 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
         // CPU ~ 136 byte/star
         maxLoadedStars = GlobalConf.scene.MAX_LOADED_STARS;
         logger.info(this.getClass().getSimpleName(), "Maximum loaded stars setting: " + maxLoadedStars);
-
-        Comparator<OctreeNode> depthComparator = (OctreeNode o1, OctreeNode o2) -> Integer.compare(o1.depth, o2.depth);
+        nWorkers = GlobalConf.scene.getOctreeLoaderThreads();
+        heapBudget = GlobalConf.scene.getOctreeHeapBudgetBytes();
+        vramBudget = GlobalConf.scene.getOctreeVramBudgetBytes();
+        highWatermark = GlobalConf.scene.OCTREE_MEM_HIGH_WATERMARK;
+        lowWatermark = GlobalConf.scene.OCTREE_MEM_LOW_WATERMARK;
+        logger.info(this.getClass().getSimpleName(), "Memory budgets: heap " + (heapBudget == Long.MAX_VALUE ? "unlimited" : (heapBudget >> 20) + " MB") + ", vram " + (vramBudget >> 20) + " MB");
+
+        // Prefetched octants go after the observed ones, then by depth
+        Comparator<OctreeNode> depthComparator = (OctreeNode o1, OctreeNode o2) -> o1.prefetched != o2.prefetched ? (o1.prefetched ? 1 : -1) : Integer.compare(o1.depth, o2.depth);
         toLoadQueue = new PriorityBlockingQueue<OctreeNode>(LOAD_QUEUE_MAX_SIZE, depthComparator);
-        toUnloadQueue = new ArrayBlockingQueue<OctreeNode>(LOAD_QUEUE_MAX_SIZE);
+        prefetcher = new OctantPrefetcher(this);
+        toUnloadQueue = new OctantLru();
 
         maxLoadedIds = 50;
         idxLoadedIds = 0;
@@ -131,6 +172,19 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
         AbstractOctreeWrapper octreeWrapper = loadOctreeData();
 
         if (octreeWrapper != null) {
+            /**
+             * INITIALIZE LOADER WORKERS
+             */
+            final AtomicInteger workerSequence = new AtomicInteger(0);
+            workers = Executors.newFixedThreadPool(nWorkers, (Runnable r) -> {
+                Thread t = new Thread(r, "octree-loader-worker-" + workerSequence.getAndIncrement());
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+            readOctants = new ExecutorCompletionService<>(workers);
+            logger.info(this.getClass().getSimpleName(), "Octree loader workers: " + nWorkers);
+
             /**
              * INITIALIZE DAEMON LOADER THREAD
              */
@@ -201,6 +255,77 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
         }
     }
 
+    /**
+     * Runs the prefetcher, which queues the octants that are about to
+     * become visible
+     *
+     * @param root   The root octant
+     * @param camera The camera
+     */
+    public static void prefetch(OctreeNode root, ICamera camera) {
+        if (instance != null && instance.daemon != null) {
+            instance.prefetcher.update(root, camera);
+        }
+    }
+
+    /**
+     * Called when a prefetched octant is observed for the first time. If it
+     * is still in the load queue, it gets the priority of observed octants.
+     *
+     * @param octant The octant
+     */
+    public static void prefetchHit(OctreeNode octant) {
+        if (instance != null && instance.daemon != null) {
+            instance.prefetchHits.incrementAndGet();
+            // The queue is sorted by the prefetch flag, so it is only changed
+            // while the octant is out of the queue, and then re-inserted
+            boolean queued = instance.toLoadQueue.remove(octant);
+            octant.prefetched = false;
+            if (queued)
+                instance.toLoadQueue.add(octant);
+        }
+    }
+
+    /**
+     * Fraction of the prefetched octants that were eventually observed, out of
+     * the ones that were observed or unloaded
+     *
+     * @return The hit rate in [0,1], or -1 if there is no data
+     */
+    public static float getPrefetchHitRate() {
+        if (instance != null && instance.daemon != null) {
+            long hits = instance.prefetchHits.get();
+            long total = hits + instance.prefetchWasted.get();
+            return total > 0 ? (float) hits / total : -1;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Number of prefetched octants that were loaded and then unloaded without
+     * ever being observed
+     *
+     * @return The number of wasted loads, or -1 if there is no streaming loader
+     */
+    public static long getPrefetchWasted() {
+        if (instance != null && instance.daemon != null) {
+            return instance.prefetchWasted.get();
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Whether there is room to prefetch octants, both in the load queue and in
+     * the memory budgets
+     *
+     * @return Whether prefetching is possible
+     */
+    protected boolean hasPrefetchRoom() {
+        return toLoadQueue.size() < LOAD_QUEUE_MAX_SIZE / 2 && !overBudget(highWatermark);
+    }
+
     /**
      * Clears the current load queue
      */
@@ -230,6 +355,147 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
         }
     }
 
+    /**
+     * Bytes held by the loaded octants in the heap
+     *
+     * @return The bytes, or -1 if there is no streaming loader
+     */
+    public static long getHeapBytes() {
+        if (instance != null && instance.daemon != null) {
+            return instance.heapBytes.get();
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Bytes held by the loaded octants in vertex buffers, including the idle
+     * ones kept in the mesh pools
+     *
+     * @return The bytes, or -1 if there is no streaming loader
+     */
+    public static long getGpuBytes() {
+        if (instance != null && instance.daemon != null) {
+            return instance.gpuBytes.get() + instance.pooledGpuBytes;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Accounts for the vertex buffers created for an object of the given
+     * octant. Must be called from the GL thread.
+     *
+     * @param octant The octant
+     * @param bytes  The size of the vertex buffers in bytes, with the capacity
+     *               of the buffers, not the size of the data
+     */
+    public static void addGpuBytes(OctreeNode octant, long bytes) {
+        if (instance != null && instance.daemon != null) {
+            synchronized (octant) {
+                octant.gpuBytes += bytes;
+            }
+            instance.gpuBytes.addAndGet(bytes);
+        }
+    }
+
+    /**
+     * Sets the size of the idle vertex buffers kept in the mesh pools, which
+     * count against the graphics memory budget. Must be called from the GL
+     * thread.
+     *
+     * @param bytes The size of the idle vertex buffers in bytes
+     */
+    public static void setPooledGpuBytes(long bytes) {
+        if (instance != null)
+            instance.pooledGpuBytes = bytes;
+    }
+
+    /**
+     * Samples the heap memory of the loaded octants again, since their objects
+     * grow after they are published, when names are decoded and sort and
+     * vertex buffers are created. Called by the daemon before checking the
+     * budgets.
+     *
+     * @param octants Scratch array for the loaded octants
+     */
+    protected void refreshHeapBytes(Array<OctreeNode> octants) {
+        octants.clear();
+        toUnloadQueue.snapshot(octants);
+        for (OctreeNode octant : octants) {
+            synchronized (octant) {
+                Array<AbstractPositionEntity> objects = octant.objects;
+                if (objects == null || octant.getStatus() != LoadStatus.LOADED)
+                    continue;
+                long bytes = 0;
+                for (AbstractPositionEntity object : objects)
+                    bytes += object.getHeapBytes();
+                heapBytes.addAndGet(bytes - octant.heapBytes);
+                octant.heapBytes = bytes;
+            }
+        }
+        octants.clear();
+    }
+
+    /**
+     * Checks whether any of the loaded stars, heap or vertex buffer figures is
+     * at or above the given fraction of its budget
+     *
+     * @param fraction The fraction of the budgets
+     * @return Whether we are over the budget
+     */
+    protected boolean overBudget(float fraction) {
+        return nLoadedStars >= maxLoadedStars * fraction || heapBytes.get() >= heapBudget * fraction || gpuBytes.get() - pendingGpuBytes.get() + pooledGpuBytes >= vramBudget * fraction;
+    }
+
+    /**
+     * Number of octant touches per second
+     *
+     * @return The touch rate, or -1 if there is no streaming loader
+     */
+    public static float getTouchRate() {
+        if (instance != null && instance.daemon != null) {
+            instance.sampleRates();
+            return instance.touchRate;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Number of octant evictions per second
+     *
+     * @return The eviction rate, or -1 if there is no streaming loader
+     */
+    public static float getEvictionRate() {
+        if (instance != null && instance.daemon != null) {
+            instance.sampleRates();
+            return instance.evictionRate;
+        } else {
+            return -1;
+        }
+    }
+
+    /**
+     * Recomputes the touch and eviction rates if at least a second has passed
+     * since the last sample
+     */
+    private synchronized void sampleRates() {
+        long now = TimeUtils.millis();
+        long elapsed = now - lastRateMs;
+        if (elapsed >= 1000) {
+            long touches = toUnloadQueue.getTouches();
+            long evictions = toUnloadQueue.getEvictions();
+            if (lastRateMs > 0) {
+                touchRate = (touches - lastTouches) * 1000f / elapsed;
+                evictionRate = (evictions - lastEvictions) * 1000f / elapsed;
+            }
+            lastTouches = touches;
+            lastEvictions = evictions;
+            lastRateMs = now;
+        }
+    }
+
     /**
      * Moves the octant to the end of the unload queue
      *
@@ -248,23 +514,44 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
      * are loaded right away
      */
     public void emptyLoadQueue() {
-        int n = toLoadQueue.size();
+        // Take the octants out before changing them, the queue is sorted by their prefetch flag
+        int n = 0;
+        OctreeNode octant;
+        while ((octant = toLoadQueue.poll()) != null) {
+            octant.setStatus(LoadStatus.NOT_LOADED);
+            octant.prefetched = false;
+            n++;
+        }
         if (n > 0) {
-            for (OctreeNode octant : toLoadQueue) {
-                octant.setStatus(LoadStatus.NOT_LOADED);
-            }
-            toLoadQueue.clear();
             logger.info(I18n.bundle.format("notif.loadingoctants.emtpied", n));
         }
     }
 
     public void addToQueue(OctreeNode octant) {
+        addToQueue(octant, false);
+    }
+
+    /**
+     * Adds the octant to the load queue, if there is room
+     *
+     * @param octant   The octant
+     * @param prefetch Whether the octant is not observed yet, but is predicted to be
+     *                 observed soon. These are loaded after the observed ones.
+     * @return Whether the octant was added
+     */
+    public boolean addToQueue(OctreeNode octant, boolean prefetch) {
         // Add only if there is room
         if (!loadingPaused)
             if (toLoadQueue.size() < LOAD_QUEUE_MAX_SIZE - 1) {
+                // Must be set before adding, the queue is sorted with it
+                octant.prefetched = prefetch;
                 toLoadQueue.add(octant);
                 octant.setStatus(LoadStatus.QUEUED);
+                if (prefetch)
+                    prefetchQueued.incrementAndGet();
+                return true;
             }
+        return false;
     }
 
     /** Adds a list of octants to the queue to be loaded **/
@@ -279,13 +566,16 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
         // Since higher levels are always observed, or 'touched',
         // it follows naturally that lower levels will always be kept
         // at the head of the queue, whereas higher level octants
-        // are always at the tail and are the last to be unloaded
-        if (toUnloadQueue.contains(octant)) {
-            toUnloadQueue.remove(octant);
+        // are always at the tail and are the last to be unloaded.
+        // Only attempt to unload the octants with a depth larger than preload_depth.
+        // Prefetched octants which have not been observed yet go first, so that
+        // they never push out observed ones
+        if (octant.depth > PRELOAD_DEPTH) {
+            if (octant.prefetched)
+                toUnloadQueue.touchOldest(octant);
+            else
+                toUnloadQueue.touch(octant);
         }
-        // Only attempt to unload the octants with a depth larger than preload_depth
-        if (octant.depth > PRELOAD_DEPTH)
-            toUnloadQueue.offer(octant);
     }
 
     /**
@@ -329,6 +619,7 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     public void loadOctant(final OctreeNode octant, final AbstractOctreeWrapper octreeWrapper, Integer level) throws IOException {
         if (level >= 0) {
             loadOctant(octant, octreeWrapper, false);
+            octant.resolveChildren();
             if (octant.children != null) {
                 for (OctreeNode child : octant.children) {
                     if (child != null && child.nObjects > 0)
@@ -339,7 +630,11 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     }
 
     /**
-     * Loads the objects of the given octants
+     * Loads the objects of the given octants. The octants are read and decoded
+     * in parallel by the loader workers, and then published to the octree
+     * one by one in the calling thread, so that the octree wrapper, the
+     * loaded star count and the unload queue are only modified by a single
+     * thread.
      *
      * @param octants       The list holding the octants to load.
      * @param octreeWrapper The octree wrapper.
@@ -350,28 +645,68 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     public int loadOctants(final Array<OctreeNode> octants, final AbstractOctreeWrapper octreeWrapper, final AtomicBoolean abort) throws IOException {
         int loaded = 0;
         if (octants.size > 0) {
-            int i = 0;
-            OctreeNode octant = octants.get(0);
-            while (i < octants.size && !abort.get()) {
-                if (loadOctant(octant, octreeWrapper, true))
-                    loaded++;
-                i += 1;
-                octant = octants.get(i);
+            for (OctreeNode octant : octants) {
+                readOctants.submit(() -> readOctant(octant, abort));
             }
-            flushLoadedIds();
 
-            if (abort.get()) {
-                // We aborted, roll back status of rest of octants
-                for (int j = i; j < octants.size; j++) {
-                    octants.get(j).setStatus(LoadStatus.NOT_LOADED);
+            boolean interrupted = false;
+            int pending = octants.size;
+            while (pending > 0) {
+                try {
+                    Pair<OctreeNode, AbstractPositionEntity> result = readOctants.take().get();
+                    pending--;
+                    if (result.getSecond() != null) {
+                        publish(result.getFirst(), result.getSecond(), octreeWrapper);
+                        loaded++;
+                    }
+                } catch (InterruptedException e) {
+                    // New data arrived, keep waiting for our octants and wake up later
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    pending--;
+                    logger.error(e);
                 }
             }
+            flushLoadedIds();
+
+            if (interrupted)
+                Thread.currentThread().interrupt();
         }
         return loaded;
     }
 
     /**
-     * Unloads the given octant
+     * Reads the given octant in a loader worker. If an abort is in progress
+     * the octant is not read and its status is rolled back.
+     *
+     * @param octant The octant to read.
+     * @param abort  State variable that will be set to true if an abort is called.
+     * @return A pair with the octant and the object read, which is null if the octant could not be read
+     */
+    private Pair<OctreeNode, AbstractPositionEntity> readOctant(final OctreeNode octant, final AtomicBoolean abort) {
+        AbstractPositionEntity object = null;
+        if (abort.get() || (octant.prefetched && overBudget(highWatermark))) {
+            // We aborted, or there is no room for speculative loads, roll back status
+            octant.setStatus(LoadStatus.NOT_LOADED);
+            octant.prefetched = false;
+        } else {
+            octant.setStatus(LoadStatus.LOADING);
+            try {
+                object = readOctant(octant, true);
+            } catch (Exception e) {
+                logger.error("Error reading octant " + octant.pageId, e);
+            }
+            if (object == null) {
+                octant.setStatus(LoadStatus.LOADING_FAILED);
+            }
+        }
+        return new Pair<>(octant, object);
+    }
+
+    /**
+     * Unloads the given octant. The loaded star count and the heap memory are
+     * released right away, while the objects and their vertex buffers are
+     * disposed later in the GL thread.
      *
      * @param octant
      * @param octreeWrapper
@@ -380,24 +715,41 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
         synchronized (octant) {
             Array<AbstractPositionEntity> objects = octant.objects;
             if (objects != null) {
+                int count = 0;
+                for (AbstractPositionEntity object : objects)
+                    count += object.getStarCount();
+                nLoadedStars -= count;
+                if (octant.prefetched) {
+                    // Loaded but never observed
+                    prefetchWasted.incrementAndGet();
+                    octant.prefetched = false;
+                }
+                heapBytes.addAndGet(-octant.heapBytes);
+                octant.heapBytes = 0;
+                final long pending = octant.gpuBytes;
+                pendingGpuBytes.addAndGet(pending);
+
                 Gdx.app.postRunnable(() -> {
                     try {
                         for (AbstractPositionEntity object : objects) {
-                            int count = object.getStarCount();
                             object.dispose();
                             object.octant = null;
                             octreeWrapper.removeParenthood(object);
                             // Aux info
                             if (GaiaSky.instance != null && GaiaSky.instance.sg != null)
                                 GaiaSky.instance.sg.removeNodeAuxiliaryInfo(object);
-
-                            nLoadedStars -= count;
                         }
                         objects.clear();
                         octant.setStatus(LoadStatus.NOT_LOADED);
                     }catch(Exception e){
                         logger.error("Error disposing octant's objects " + octant.pageId, e);
                         logger.info(GlobalConf.APPLICATION_NAME + " will attempt to continue");
+                    } finally {
+                        synchronized (octant) {
+                            gpuBytes.addAndGet(-octant.gpuBytes);
+                            octant.gpuBytes = 0;
+                        }
+                        pendingGpuBytes.addAndGet(-pending);
                     }
                 });
             }
@@ -406,7 +758,7 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
     }
 
     /**
-     * Loads the data of the given octant
+     * Loads the data of the given octant and publishes it to the octree
      *
      * @param octant        The octant to load.
      * @param octreeWrapper The octree wrapper.
@@ -415,7 +767,48 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
      * @return True if the octant was loaded, false otherwise
      * @throws IOException
      */
-    public abstract boolean loadOctant(final OctreeNode octant, final AbstractOctreeWrapper octreeWrapper, boolean fullinit) throws IOException;
+    public boolean loadOctant(final OctreeNode octant, final AbstractOctreeWrapper octreeWrapper, boolean fullinit) throws IOException {
+        AbstractPositionEntity object = readOctant(octant, fullinit);
+        if (object != null) {
+            publish(octant, object, octreeWrapper);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Publishes the octant and accounts for the heap memory it holds
+     */
+    private void publish(final OctreeNode octant, final AbstractPositionEntity object, final AbstractOctreeWrapper octreeWrapper) {
+        publishOctant(octant, object, octreeWrapper);
+        long bytes = object.getHeapBytes();
+        synchronized (octant) {
+            octant.heapBytes += bytes;
+        }
+        heapBytes.addAndGet(bytes);
+    }
+
+    /**
+     * Reads and decodes the data of the given octant, without adding it to the
+     * octree. This may be called concurrently from several loader workers.
+     *
+     * @param octant   The octant to read.
+     * @param fullinit Whether to fully initialise the objects (on-demand load) or
+     *                 not (startup)
+     * @return The object with the data of the octant, or null if the octant has no data
+     * @throws IOException
+     */
+    public abstract AbstractPositionEntity readOctant(final OctreeNode octant, boolean fullinit) throws IOException;
+
+    /**
+     * Adds the object read for the given octant to the octree and updates the
+     * loader bookkeeping. Only ever called from one thread at a time.
+     *
+     * @param octant        The octant.
+     * @param object        The object read with {@link #readOctant(OctreeNode, boolean)}.
+     * @param octreeWrapper The octree wrapper.
+     */
+    public abstract void publishOctant(final OctreeNode octant, final AbstractPositionEntity object, final AbstractOctreeWrapper octreeWrapper);
 
     /**
      * The daemon loader thread.
@@ -430,6 +823,8 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
         private StreamingOctreeLoader loader;
         private AbstractOctreeWrapper octreeWrapper;
         private Array<OctreeNode> toLoad;
+        /** Scratch array for the loaded octants **/
+        private Array<OctreeNode> loaded;
 
         public DaemonLoader(AbstractOctreeWrapper aow, StreamingOctreeLoader loader) {
             this.awake = false;
@@ -438,6 +833,7 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
             this.loader = loader;
             this.octreeWrapper = aow;
             this.toLoad = new Array<>();
+            this.loaded = new Array<>();
         }
 
         /**
@@ -461,7 +857,8 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
                 while (!instance.toLoadQueue.isEmpty()) {
                     toLoad.clear();
                     int i = 0;
-                    while (instance.toLoadQueue.peek() != null && i <= MAX_LOAD_CHUNK) {
+                    int maxChunk = MAX_LOAD_CHUNK * loader.nWorkers;
+                    while (instance.toLoadQueue.peek() != null && i < maxChunk) {
                         OctreeNode octant = instance.toLoadQueue.poll();
                         toLoad.add(octant);
                         i++;
@@ -480,22 +877,18 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
                     }
 
                     // Release resources if needed
-                    int nUnloaded = 0;
-                    int nStars = loader.nLoadedStars;
-                    if (running && nStars >= loader.maxLoadedStars) //-V6007
-                        while (true) {
+                    loader.refreshHeapBytes(loaded);
+                    if (running && loader.overBudget(loader.highWatermark)) //-V6007
+                        while (loader.overBudget(loader.lowWatermark)) {
                             // Get first in queue (non-accessed for the longest time)
                             // and release it
-                            OctreeNode octant = loader.toUnloadQueue.poll();
-                            if (octant != null && octant.getStatus() == LoadStatus.LOADED) {
-                                loader.unloadOctant(octant, octreeWrapper);
+                            OctreeNode octant = loader.toUnloadQueue.evict();
+                            if (octant == null) {
+                                // Nothing left to release
+                                break;
                             }
-                            if (octant != null && octant.objects != null && octant.objects.size > 0) {
-                                AbstractPositionEntity sg = octant.objects.get(0);
-                                nUnloaded += sg.getStarCount();
-                                if (nStars - nUnloaded < loader.maxLoadedStars * 0.85) {
-                                    break;
-                                }
+                            if (octant.getStatus() == LoadStatus.LOADED) {
+                                loader.unloadOctant(octant, octreeWrapper);
                             }
                         }
 
@@ -539,6 +932,9 @@ public abstract class StreamingOctreeLoader implements IObserver, ISceneGraphLoa
             if (daemon != null) {
                 daemon.stopDaemon();
             }
+            if (workers != null) {
+                workers.shutdownNow();
+            }
             break;
         default:
             break;
@@ -10,21 +10,27 @@ import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.LongMap;
 import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
 import gaia.cu9.ari.gaiaorbit.util.Constants;
-import gaia.cu9.ari.gaiaorbit.util.LargeLongMap;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
 import gaia.cu9.ari.gaiaorbit.util.coord.Coordinates;
+import gaia.cu9.ari.gaiaorbit.util.ds.LongDoubleMap;
+import gaia.cu9.ari.gaiaorbit.util.ds.LongFloatMap;
+import gaia.cu9.ari.gaiaorbit.util.ds.LongPrimitiveMap;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
-import gaia.cu9.ari.gaiaorbit.util.parse.Parser;
+import gaia.cu9.ari.gaiaorbit.util.parse.CsvScanner;
 
 import java.io.*;
-import java.nio.file.Files;
-import java.nio.file.LinkOption;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
 import java.util.zip.GZIPInputStream;
 
 public abstract class AbstractStarGroupDataProvider implements IStarGroupDataProvider {
@@ -35,8 +41,8 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
     protected LongMap<double[]> sphericalPositions;
     protected LongMap<float[]> colors;
     protected long[] countsPerMag;
-    protected LargeLongMap<Double> geoDistances = null;
-    protected LargeLongMap<Float> ruweValues = null;
+    protected LongDoubleMap geoDistances = null;
+    protected LongFloatMap ruweValues = null;
     protected Set<Long> mustLoadIds = null;
 
     /**
@@ -49,6 +55,18 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
      */
     protected String ruweFile = null;
 
+    /**
+     * Extension of the tables of geometric distances and RUWE values written
+     * next to their files
+     */
+    public static final String TABLE_EXTENSION = ".lmap";
+
+    /**
+     * Whether to write the geometric distances and RUWE values as tables next
+     * to their files once parsed, and to use those tables in later runs
+     */
+    protected boolean writeTables = false;
+
     /**
      * RUWE cap value. Will accept all stars with star_ruwe <= ruwe
      */
@@ -177,8 +195,8 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
     }
 
     protected float getRuweValue(long sourceId){
-        if(ruweValues != null && ruweValues.containsKey(sourceId))
-            return ruweValues.get(sourceId);
+        if(ruweValues != null)
+            return ruweValues.get(sourceId, Float.NaN);
         return Float.NaN;
     }
 
@@ -190,8 +208,8 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
      * @return The geometric distance in parsecs if it exists, -1 otherwise.
      */
     protected double getGeoDistance(long sourceId) {
-        if (geoDistances != null && geoDistances.containsKey(sourceId))
-            return geoDistances.get(sourceId);
+        if (geoDistances != null)
+            return geoDistances.get(sourceId, -1);
         return -1;
     }
 
@@ -366,14 +384,32 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
         this.ruwe = RUWE;
     }
 
+    @Override
+    public void setWriteTables(boolean writeTables) {
+        this.writeTables = writeTables;
+    }
+
     private void loadRuweFile() {
         if(ruweFile != null) {
-            ruweValues = new LargeLongMap<Float>(20);
             logger.info("Loading RUWE values from " + ruweFile);
 
-            Path f = Paths.get(ruweFile);
+            File f = new File(ruweFile);
             try {
-                loadRuweFile(f);
+                File table = tableFile(f);
+                if (table != null) {
+                    ruweValues = new LongFloatMap(table);
+                } else {
+                    // RUWE files are always gzipped, whatever their name
+                    List<File> files = listFiles(f);
+                    final LongFloatMap values = new LongFloatMap(expectedLines(files, true));
+                    loadParallel(files, false, true, (scanner) -> {
+                        long sourceId = scanner.parseLong(0);
+                        if (sourceId != 0)
+                            values.put(sourceId, (float) scanner.parseDouble(1));
+                    });
+                    ruweValues = values;
+                    writeTable(ruweValues, f);
+                }
                 logger.info(ruweValues.size() + " RUWE values loaded");
             } catch (Exception e) {
                 logger.error(e, "Loading RUWE file failed: " + f.toString());
@@ -382,79 +418,172 @@ public abstract class AbstractStarGroupDataProvider implements IStarGroupDataPro
         }
     }
 
-    private void loadRuweFile(Path p) throws IOException {
-            InputStream fileStream = new FileInputStream(p.toFile());
-            InputStream gzipStream = new GZIPInputStream(fileStream);
-            BufferedReader br = new BufferedReader(new InputStreamReader(gzipStream));
-            String line;
-            while ((line = br.readLine()) != null) {
-                String[] tokens = line.split("\\s+");
-                Long sourceId = Parser.parseLong(tokens[0].trim());
-                Double ruweVal = Parser.parseDouble(tokens[1].trim());
-                ruweValues.put(sourceId, ruweVal.floatValue());
-
-            }
-            br.close();
-    }
-
     private void loadGeometricDistances() {
-        geoDistances = new LargeLongMap<Double>(10);
         geoDistErrors = 0;
 
         logger.info("Loading geometric distances from " + geoDistFile);
 
-        Path f = Paths.get(geoDistFile);
-        loadGeometricDistances(f);
+        File f = new File(geoDistFile);
+        try {
+            File table = tableFile(f);
+            if (table != null) {
+                geoDistances = new LongDoubleMap(table);
+            } else {
+                List<File> files = listFiles(f);
+                final LongDoubleMap distances = new LongDoubleMap(expectedLines(files, false));
+                final LongAdder errors = new LongAdder();
+                loadParallel(files, true, false, (scanner) -> {
+                    long sourceId = scanner.parseLong(0);
+                    double dist = scanner.parseDouble(1);
+                    if (sourceId != 0 && !Double.isNaN(dist) && dist >= 0) {
+                        distances.put(sourceId, dist);
+                    } else {
+                        logger.debug("Distance " + scanner.getLineNumber() + " is NaN or negative: " + dist);
+                        errors.increment();
+                    }
+                });
+                geoDistances = distances;
+                geoDistErrors = errors.sum();
+                writeTable(geoDistances, f);
+            }
+        } catch (Exception e) {
+            geoDistances = new LongDoubleMap(0);
+            logger.error(e, "Loading failed: " + f.toString());
+        }
 
         logger.info(geoDistances.size() + " geometric distances loaded (" + geoDistErrors + " negative or nan values)");
     }
 
-    private void loadGeometricDistances(Path f) {
-        if (Files.isDirectory(f, LinkOption.NOFOLLOW_LINKS)) {
-            File[] files = f.toFile().listFiles();
-            int nfiles = files.length;
-            int mod = nfiles / 20;
-            int i = 1;
-            for (File file : files) {
-                if (i % mod == 0) {
-                    logger.info("Loading file " + i + "/" + nfiles);
-                }
-                loadGeometricDistances(file.toPath());
-                i++;
-            }
-        } else {
+    /**
+     * The table to read instead of the given file or directory: the file
+     * itself if it is a table, or the table written next to it in a previous
+     * run, if {@link #writeTables} is on and it is up to date
+     *
+     * @return The table, or null if the text files must be parsed
+     */
+    private File tableFile(File f) {
+        if (LongPrimitiveMap.isTable(f))
+            return f;
+        File table = new File(f.getPath() + TABLE_EXTENSION);
+        if (writeTables && LongPrimitiveMap.isTable(table) && table.lastModified() >= f.lastModified())
+            return table;
+        return null;
+    }
+
+    private void writeTable(LongPrimitiveMap map, File f) {
+        if (writeTables) {
+            File table = new File(f.getPath() + TABLE_EXTENSION);
             try {
-                loadGeometricDistanceFile(f);
-            } catch (Exception e) {
-                logger.error(e, "Loading failed: " + f.toString());
+                map.write(table);
+                logger.info("Table written to " + table.getPath());
+            } catch (IOException e) {
+                logger.error(e, "Writing table failed: " + table.getPath());
+            }
+        }
+    }
+
+    private List<File> listFiles(File f) {
+        List<File> files = new ArrayList<>();
+        if (f.isDirectory()) {
+            File[] children = f.listFiles();
+            if (children != null) {
+                for (File child : children)
+                    if (child.isFile())
+                        files.add(child);
             }
+        } else {
+            files.add(f);
         }
+        return files;
+    }
+
+    /**
+     * Rough number of lines of the files from their sizes, which errs on the
+     * large side
+     */
+    private long expectedLines(List<File> files, boolean gzip) {
+        long lines = 0;
+        for (File f : files)
+            lines += f.length() / (isGzip(f, gzip) ? 8 : 16);
+        return lines;
+    }
+
+    private boolean isGzip(File f, boolean gzip) {
+        return gzip || f.getName().endsWith(".gz");
     }
 
-    private void loadGeometricDistanceFile(Path f) throws IOException, RuntimeException {
-        InputStream data = new FileInputStream(f.toFile());
-        BufferedReader br = new BufferedReader(new InputStreamReader(data));
-        // Skip header
-        br.readLine();
-        String line;
-        int i = 0;
+    /**
+     * Parses the white space separated files in a pool of threads, one file
+     * per thread at a time, and passes each line to the parser. If any file
+     * fails, the files not started yet are skipped and the failure is thrown,
+     * so that the partial values are not written to a table.
+     * <p>
+     * The maps live in direct buffers, so the JVM must have enough direct
+     * memory for them, see -XX:MaxDirectMemorySize.
+     *
+     * @param files      The files
+     * @param skipHeader Whether the first line of each file is a header
+     * @param gzip       Whether all the files are gzipped. Otherwise, only the
+     *                   ones whose name ends with .gz are
+     * @param parser     Gets the scanner at each line, called from several threads at once
+     * @throws IOException If a file could not be parsed, or the map could not
+     *                     hold its values
+     */
+    private void loadParallel(List<File> files, boolean skipHeader, boolean gzip, Consumer<CsvScanner> parser) throws IOException, InterruptedException {
+        int nThreads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), files.size()));
+        final AtomicInteger threadSequence = new AtomicInteger(0);
+        ExecutorService workers = Executors.newFixedThreadPool(nThreads, (Runnable r) -> {
+            Thread t = new Thread(r, "sidecar-loader-" + threadSequence.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        final AtomicInteger done = new AtomicInteger(0);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final int nFiles = files.size();
+        final int mod = Math.max(1, nFiles / 20);
+        List<Future<?>> futures = new ArrayList<>(nFiles);
+        for (final File file : files) {
+            futures.add(workers.submit(() -> {
+                if (failed.get())
+                    return null;
+                try (InputStream is = isGzip(file, gzip) ? new GZIPInputStream(new FileInputStream(file), 1 << 16) : new FileInputStream(file)) {
+                    CsvScanner scanner = new CsvScanner(is);
+                    if (skipHeader)
+                        scanner.nextLine();
+                    while (scanner.nextLine()) {
+                        if (scanner.tokenCount() >= 2)
+                            parser.accept(scanner);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    failed.set(true);
+                    throw new IOException("Loading failed: " + file.getPath(), e);
+                } catch (OutOfMemoryError e) {
+                    failed.set(true);
+                    throw new IOException("Out of memory loading " + file.getPath() + ", increase -XX:MaxDirectMemorySize", e);
+                }
+                int n = done.incrementAndGet();
+                if (nFiles > 1 && n % mod == 0)
+                    logger.info("Loading file " + n + "/" + nFiles);
+                return null;
+            }));
+        }
         try {
-            while ((line = br.readLine()) != null) {
-                String[] tokens = line.split("\\s+");
-                Long sourceId = Parser.parseLong(tokens[0].trim());
-                Double dist = Parser.parseDouble(tokens[1].trim());
-                if (!dist.isNaN() && dist >= 0) {
-                    geoDistances.put(sourceId, dist);
-                } else {
-                    logger.debug("Distance " + i + " is NaN or negative: " + dist + " (file " + f.toString() + ")");
-                    geoDistErrors++;
+            IOException failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (failure == null)
+                        failure = cause instanceof IOException ? (IOException) cause : new IOException(cause);
+                    else
+                        failure.addSuppressed(cause);
                 }
-                i++;
             }
-            br.close();
-        } catch (Exception e) {
-            logger.error(e);
-            br.close();
+            if (failure != null)
+                throw failure;
+        } finally {
+            workers.shutdownNow();
         }
     }
 }
@@ -7,11 +7,13 @@ package gaia.cu9.ari.gaiaorbit.data.group;
 
 import com.badlogic.gdx.utils.Array;
 import gaia.cu9.ari.gaiaorbit.scenegraph.ParticleGroup.ParticleBean;
+import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup;
 import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.I18n;
 
 import java.io.*;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 
@@ -30,38 +32,75 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
     @Override
     public Array<? extends ParticleBean> loadData(String file, double factor) {
         logger.info(I18n.bundle.format("notif.datafile", file));
-        loadDataMapped(file, factor);
-        logger.info(I18n.bundle.format("notif.nodeloader", list.size, file));
+        Array<? extends ParticleBean> data = loadDataMapped(file, factor);
+        if (data != null)
+            logger.info(I18n.bundle.format("notif.nodeloader", data.size, file));
 
-        return list;
+        return data;
     }
 
+    /**
+     * Returns a new list on every call and does not touch the shared list of
+     * the provider, so that several loader threads can use one provider at once
+     */
     @Override
     public Array<? extends ParticleBean> loadData(InputStream is, double factor) {
-        list = readData(is);
-        return list;
+        return readData(is);
     }
 
     public void writeData(Array<StarBean> data, OutputStream out) {
+        writeData(data, out, false);
+    }
+
+    /**
+     * Writes the given stars to the output stream.
+     *
+     * @param data     The stars
+     * @param out      The output stream
+     * @param columnar Whether to use the columnar page format (see {@link ColumnarStarData}) or the legacy
+     *                 star-by-star format
+     */
+    public void writeData(Array<StarBean> data, OutputStream out, boolean columnar) {
+        writeData(data, out, columnar, false);
+    }
+
+    /**
+     * Writes the given stars to the output stream.
+     *
+     * @param data       The stars
+     * @param out        The output stream
+     * @param columnar   Whether to use the columnar page format (see {@link ColumnarStarData}) or the legacy
+     *                   star-by-star format
+     * @param compressed Whether to compress the page as a single block (see {@link CompressedPage})
+     * @throws UncheckedIOException If the stars can't be written, so that page writers can count the failure
+     */
+    public void writeData(Array<StarBean> data, OutputStream out, boolean columnar, boolean compressed) {
         // Wrap the FileOutputStream with a DataOutputStream
-        DataOutputStream data_out = new DataOutputStream(out);
-        try {
-            // Size of stars
-            data_out.writeInt(data.size);
-            for (StarBean sb : data) {
-                writeStarBean(sb, data_out);
+        try (DataOutputStream data_out = new DataOutputStream(out)) {
+            if (compressed) {
+                // Encode to memory first, then compress as a block
+                ExposedByteArrayOutputStream page = new ExposedByteArrayOutputStream(data.size * 150 + 64);
+                writePage(data, new DataOutputStream(page), columnar);
+                CompressedPage.write(page.buffer(), page.size(), data_out);
+            } else {
+                writePage(data, data_out, columnar);
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        } catch (Exception e) {
-            logger.error(e);
-        } finally {
-            try {
-                data_out.close();
-            } catch (IOException e) {
-                logger.error(e);
+    private void writePage(Array<StarBean> data, DataOutputStream out, boolean columnar) throws IOException {
+        if (columnar) {
+            ColumnarStarData.write(data, out);
+        } else {
+            // Size of stars
+            out.writeInt(data.size);
+            for (StarBean sb : data) {
+                writeStarBean(sb, out);
             }
         }
-
+        out.flush();
     }
 
     protected void writeStarBean(StarBean sb, DataOutputStream out) throws IOException {
@@ -93,9 +132,17 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
         try {
             // Read size of stars
             int size = data_in.readInt();
-            data = new Array<>(size);
-            for (int i = 0; i < size; i++) {
-                data.add(readStarBean(data_in));
+            if (size == CompressedPage.TOKEN) {
+                // Compressed page, read it all and decompress
+                data = readPage(CompressedPage.decompress(readPage(size, data_in)));
+            } else if (size == ColumnarStarData.TOKEN) {
+                // Columnar page, read it all and convert
+                data = toBeans(new ColumnarStarData(readPage(size, data_in)));
+            } else {
+                data = new Array<>(size);
+                for (int i = 0; i < size; i++) {
+                    data.add(readStarBean(data_in));
+                }
             }
 
         } catch (IOException e) {
@@ -111,6 +158,25 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
         return data;
     }
 
+    /**
+     * Reads the rest of the page whose leading token has already been read
+     *
+     * @param token The token
+     * @param in    The input stream, right after the token
+     * @return The whole page, token included
+     */
+    private ByteBuffer readPage(int token, DataInputStream in) throws IOException {
+        ExposedByteArrayOutputStream bos = new ExposedByteArrayOutputStream(8192);
+        DataOutputStream dos = new DataOutputStream(bos);
+        dos.writeInt(token);
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+            dos.write(buffer, 0, read);
+        }
+        return ByteBuffer.wrap(bos.buffer(), 0, bos.size());
+    }
+
     protected StarBean readStarBean(DataInputStream in) throws IOException {
         double data[] = new double[StarBean.SIZE];
         // Double
@@ -142,17 +208,15 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
         try {
             FileChannel fc = new RandomAccessFile(GlobalConf.data.dataFile(file), "r").getChannel();
 
-            MappedByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
-            // Read size of stars
-            int size = mem.getInt();
-            list = new Array<>(size);
-            for (int i = 0; i < size; i++) {
-                list.add(readStarBean(mem));
-            }
+            ByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            if (CompressedPage.isCompressed(mem))
+                mem = CompressedPage.decompress(mem);
+            // Fill a local list, this may be called from several loader threads at once
+            Array<StarBean> data = readPage(mem);
 
             fc.close();
 
-            return list;
+            return data;
 
         } catch (Exception e) {
             logger.error(e);
@@ -160,7 +224,58 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
         return null;
     }
 
-    public StarBean readStarBean(MappedByteBuffer mem) {
+    /**
+     * Reads the legacy or columnar page at the current position of the buffer
+     */
+    private Array<StarBean> readPage(ByteBuffer mem) {
+        if (ColumnarStarData.isColumnar(mem)) {
+            return toBeans(new ColumnarStarData(mem));
+        } else {
+            // Read size of stars
+            int size = mem.getInt();
+            Array<StarBean> data = new Array<>(size);
+            for (int i = 0; i < size; i++) {
+                data.add(readStarBean(mem));
+            }
+            return data;
+        }
+    }
+
+    /**
+     * Maps the given page file and sets its stars to the given star group. Columnar pages are read
+     * in place, with no star beans, and legacy pages are read into star beans. The file is mapped once,
+     * and compressed pages are decompressed once, to the heap.
+     *
+     * @param file The file
+     * @param sg   The star group
+     * @return Whether the page was read
+     */
+    public boolean loadPageMapped(String file, StarGroup sg) {
+        try (FileChannel fc = new RandomAccessFile(GlobalConf.data.dataFile(file), "r").getChannel()) {
+            ByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            if (CompressedPage.isCompressed(mem))
+                mem = CompressedPage.decompress(mem);
+            if (ColumnarStarData.isColumnar(mem))
+                sg.setData(new ColumnarStarData(mem));
+            else
+                sg.setData(readPage(mem));
+            return true;
+        } catch (Exception e) {
+            logger.error(e);
+        }
+        return false;
+    }
+
+    private Array<StarBean> toBeans(ColumnarStarData columns) {
+        int size = columns.size();
+        Array<StarBean> data = new Array<>(size);
+        for (int i = 0; i < size; i++) {
+            data.add(columns.bean(i));
+        }
+        return data;
+    }
+
+    public StarBean readStarBean(ByteBuffer mem) {
         double data[] = new double[StarBean.SIZE];
         // Double
         for (int i = 0; i < StarBean.I_APPMAG; i++) {
@@ -187,4 +302,17 @@ public class BinaryDataProvider extends AbstractStarGroupDataProvider {
         return new StarBean(data, id, name.toString());
     }
 
+    /**
+     * Gives access to the internal buffer, to avoid a copy
+     */
+    private static class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        ExposedByteArrayOutputStream(int size) {
+            super(size);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+
 }
@@ -0,0 +1,400 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.data.group;
+
+import com.badlogic.gdx.utils.Array;
+import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read-only view over a star page stored in the columnar binary format. Every
+ * attribute is stored in its own primitive column and the names are kept in
+ * a separate string table, so values are read directly from the backing
+ * (usually memory mapped) buffer without creating a {@link StarBean} per star.
+ * Names are only decoded when asked for, and cached afterwards. Stars are
+ * looked up by name, id or HIP number with a table of star indices built the
+ * first time it is needed, straight from the buffer, without decoding names.
+ * <p>
+ * Layout (big endian):
+ * <ul>
+ * <li>header: int token (-1), int version, int number of stars n, int number of name chars</li>
+ * <li>9 double columns of n: x, y, z, pmx, pmy, pmz, mualpha, mudelta, radvel</li>
+ * <li>1 long column of n: ids</li>
+ * <li>4 float columns of n: appmag, absmag, col, size</li>
+ * <li>1 int column of n: hip</li>
+ * <li>n+1 int name offsets, in chars, followed by the UTF-16 name chars</li>
+ * </ul>
+ *
+ * @author tsagrista
+ */
+public class ColumnarStarData {
+    /** Legacy pages start with the star count, which is never negative **/
+    public static final int TOKEN = -1;
+    /** Current version of the columnar page format **/
+    public static final int VERSION = 2;
+    /** Header size in bytes **/
+    public static final int HEADER_SIZE = 16;
+
+    private static final int N_DOUBLE_COLS = StarBean.I_APPMAG;
+    private static final int N_FLOAT_COLS = StarBean.I_HIP - StarBean.I_APPMAG;
+    /** Estimated heap size of a decoded name **/
+    private static final long NAME_BYTES = 56;
+
+    private final ByteBuffer buf;
+    private final int n;
+
+    // Byte offsets of the columns which are not indexed by StarBean indices
+    private final int idOff, floatOff, hipOff, nameIdxOff, nameOff;
+
+    // Lazily decoded names, shared by the loader and update threads
+    private volatile String[] names;
+    // Number of decoded names, so that the heap size is known without scanning them
+    private final AtomicInteger decoded = new AtomicInteger(0);
+    // Lazily built open addressing table of star index + 1, by name, id and HIP number
+    private volatile int[] lookup;
+
+    /**
+     * Creates a view over the given buffer, whose position must point to the
+     * start of the page header. The buffer is not copied.
+     *
+     * @param buf The buffer
+     */
+    public ColumnarStarData(ByteBuffer buf) {
+        int base = buf.position();
+        if (buf.getInt(base) != TOKEN)
+            throw new IllegalArgumentException("Buffer does not contain a columnar star page");
+        int version = buf.getInt(base + 4);
+        if (version > VERSION)
+            throw new IllegalArgumentException("Unsupported columnar star page version: " + version);
+
+        this.buf = buf.slice();
+        this.n = this.buf.getInt(8);
+
+        idOff = HEADER_SIZE + N_DOUBLE_COLS * n * 8;
+        floatOff = idOff + n * 8;
+        hipOff = floatOff + N_FLOAT_COLS * n * 4;
+        nameIdxOff = hipOff + n * 4;
+        nameOff = nameIdxOff + (n + 1) * 4;
+    }
+
+    /**
+     * Checks whether the buffer contains a columnar page at its current position
+     *
+     * @param buf The buffer
+     * @return Whether the page is columnar
+     */
+    public static boolean isColumnar(ByteBuffer buf) {
+        return buf.remaining() >= HEADER_SIZE && buf.getInt(buf.position()) == TOKEN;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    /**
+     * Estimates the heap memory held by this view. The page itself is not
+     * counted, as it is mapped outside of the heap, only the decoded names are.
+     *
+     * @return The estimated size in bytes
+     */
+    public long getHeapBytes() {
+        long bytes = 0;
+        if (names != null)
+            bytes += 16 + n * 4 + (long) decoded.get() * NAME_BYTES;
+        int[] lookup = this.lookup;
+        if (lookup != null)
+            bytes += 16 + lookup.length * 4;
+        return bytes;
+    }
+
+    /**
+     * Gets the value of the given attribute of the i-th star
+     *
+     * @param i   The star index
+     * @param col The attribute index, as in {@link StarBean}
+     * @return The value
+     */
+    public double get(int i, int col) {
+        if (col < N_DOUBLE_COLS)
+            return buf.getDouble(HEADER_SIZE + (col * n + i) * 8);
+        else if (col < StarBean.I_HIP)
+            return buf.getFloat(floatOff + ((col - N_DOUBLE_COLS) * n + i) * 4);
+        else
+            return buf.getInt(hipOff + i * 4);
+    }
+
+    public double x(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_X * n + i) * 8);
+    }
+
+    public double y(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_Y * n + i) * 8);
+    }
+
+    public double z(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_Z * n + i) * 8);
+    }
+
+    public double pmx(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_PMX * n + i) * 8);
+    }
+
+    public double pmy(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_PMY * n + i) * 8);
+    }
+
+    public double pmz(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_PMZ * n + i) * 8);
+    }
+
+    public double mualpha(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_MUALPHA * n + i) * 8);
+    }
+
+    public double mudelta(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_MUDELTA * n + i) * 8);
+    }
+
+    public double radvel(int i) {
+        return buf.getDouble(HEADER_SIZE + (StarBean.I_RADVEL * n + i) * 8);
+    }
+
+    public float appmag(int i) {
+        return buf.getFloat(floatOff + ((StarBean.I_APPMAG - N_DOUBLE_COLS) * n + i) * 4);
+    }
+
+    public float absmag(int i) {
+        return buf.getFloat(floatOff + ((StarBean.I_ABSMAG - N_DOUBLE_COLS) * n + i) * 4);
+    }
+
+    public float col(int i) {
+        return buf.getFloat(floatOff + ((StarBean.I_COL - N_DOUBLE_COLS) * n + i) * 4);
+    }
+
+    public float size(int i) {
+        return buf.getFloat(floatOff + ((StarBean.I_SIZE - N_DOUBLE_COLS) * n + i) * 4);
+    }
+
+    public int hip(int i) {
+        return buf.getInt(hipOff + i * 4);
+    }
+
+    public long id(int i) {
+        return buf.getLong(idOff + i * 8);
+    }
+
+    /**
+     * Returns the name of the i-th star. The name is decoded from the string
+     * table the first time it is requested.
+     *
+     * @param i The star index
+     * @return The name
+     */
+    public String name(int i) {
+        String[] names = this.names;
+        if (names == null) {
+            synchronized (this) {
+                names = this.names;
+                if (names == null)
+                    this.names = names = new String[n];
+            }
+        }
+        String name = names[i];
+        if (name == null) {
+            int start = nameStart(i);
+            char[] chars = new char[nameStart(i + 1) - start];
+            for (int j = 0; j < chars.length; j++)
+                chars[j] = nameChar(start + j);
+            name = new String(chars);
+            // Strings are immutable, so racing threads at most decode the same name twice
+            names[i] = name;
+            decoded.incrementAndGet();
+        }
+        return name;
+    }
+
+    private int nameStart(int i) {
+        return buf.getInt(nameIdxOff + i * 4);
+    }
+
+    private char nameChar(int c) {
+        return buf.getChar(nameOff + c * 2);
+    }
+
+    /**
+     * Finds the star with the given name, id or HIP number (as 'hip N'). The
+     * comparison ignores the case. The lookup table is built in the first call.
+     *
+     * @param key The name, id or HIP number
+     * @return The index of the star, or -1 if it is not in this page
+     */
+    public int indexOf(String key) {
+        int[] table = lookup();
+        int mask = table.length - 1;
+        int h = 0;
+        for (int j = 0; j < key.length(); j++)
+            h = 31 * h + Character.toLowerCase(key.charAt(j));
+        for (int slot = slot(h, mask); table[slot] != 0; slot = (slot + 1) & mask) {
+            int i = table[slot] - 1;
+            if (nameEquals(i, key) || numberEquals(key, 0, id(i)) || (key.regionMatches(true, 0, HIP_PREFIX, 0, HIP_PREFIX.length()) && numberEquals(key, HIP_PREFIX.length(), hip(i))))
+                return i;
+        }
+        return -1;
+    }
+
+    private static final String HIP_PREFIX = "hip ";
+
+    private int[] lookup() {
+        int[] table = lookup;
+        if (table == null) {
+            synchronized (this) {
+                table = lookup;
+                if (table == null)
+                    lookup = table = buildLookup();
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Builds the lookup table, hashing the lower-cased names, ids and HIP
+     * numbers as {@link String#hashCode()} would, without creating strings
+     */
+    private int[] buildLookup() {
+        int nKeys = n;
+        for (int i = 0; i < n; i++) {
+            if (id(i) > 0)
+                nKeys++;
+            if (hip(i) > 0)
+                nKeys++;
+        }
+        int[] table = new int[Math.max(2, Integer.highestOneBit(Math.max(1, nKeys * 2 - 1)) << 1)];
+        int mask = table.length - 1;
+        int hipHash = HIP_PREFIX.hashCode();
+        char[] digits = new char[20];
+        for (int i = 0; i < n; i++) {
+            int h = 0;
+            for (int c = nameStart(i), end = nameStart(i + 1); c < end; c++)
+                h = 31 * h + Character.toLowerCase(nameChar(c));
+            insert(table, mask, h, i);
+            long id = id(i);
+            if (id > 0)
+                insert(table, mask, numberHash(0, id, digits), i);
+            int hip = hip(i);
+            if (hip > 0)
+                insert(table, mask, numberHash(hipHash, hip, digits), i);
+        }
+        return table;
+    }
+
+    private static void insert(int[] table, int mask, int h, int i) {
+        int slot = slot(h, mask);
+        while (table[slot] != 0)
+            slot = (slot + 1) & mask;
+        table[slot] = i + 1;
+    }
+
+    private static int slot(int h, int mask) {
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /** Continues the hash with the decimal digits of the given positive number **/
+    private static int numberHash(int h, long v, char[] digits) {
+        int nd = 0;
+        for (; v > 0; v /= 10)
+            digits[nd++] = (char) ('0' + v % 10);
+        while (nd > 0)
+            h = 31 * h + digits[--nd];
+        return h;
+    }
+
+    /** Whether the key, from the given position, is the decimal form of the given positive number **/
+    private static boolean numberEquals(String key, int from, long v) {
+        if (v <= 0)
+            return false;
+        int pos = key.length() - 1;
+        for (; v > 0; v /= 10, pos--) {
+            if (pos < from || key.charAt(pos) != '0' + v % 10)
+                return false;
+        }
+        return pos == from - 1;
+    }
+
+    private boolean nameEquals(int i, String key) {
+        int start = nameStart(i);
+        if (nameStart(i + 1) - start != key.length())
+            return false;
+        for (int j = 0; j < key.length(); j++) {
+            if (Character.toLowerCase(nameChar(start + j)) != Character.toLowerCase(key.charAt(j)))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates a star bean with the data of the i-th star. Use only when
+     * the rest of the pipeline needs beans.
+     *
+     * @param i The star index
+     * @return A new star bean
+     */
+    public StarBean bean(int i) {
+        double[] data = new double[StarBean.SIZE];
+        for (int col = 0; col < StarBean.SIZE; col++)
+            data[col] = get(i, col);
+        return new StarBean(data, id(i), name(i));
+    }
+
+    /**
+     * Writes the given list of stars to the output stream using the columnar
+     * page format
+     *
+     * @param data The stars
+     * @param out  The output stream
+     * @throws IOException If the write fails
+     */
+    public static void write(Array<StarBean> data, DataOutputStream out) throws IOException {
+        int n = data.size;
+        int nameChars = 0;
+        for (StarBean sb : data)
+            nameChars += sb.name.length();
+
+        // Header
+        out.writeInt(TOKEN);
+        out.writeInt(VERSION);
+        out.writeInt(n);
+        out.writeInt(nameChars);
+
+        // Double columns
+        for (int col = 0; col < N_DOUBLE_COLS; col++)
+            for (int i = 0; i < n; i++)
+                out.writeDouble(data.get(i).data[col]);
+        // Ids
+        for (int i = 0; i < n; i++)
+            out.writeLong(data.get(i).id);
+        // Float columns
+        for (int col = StarBean.I_APPMAG; col < StarBean.I_HIP; col++)
+            for (int i = 0; i < n; i++)
+                out.writeFloat((float) data.get(i).data[col]);
+        // Hip
+        for (int i = 0; i < n; i++)
+            out.writeInt((int) data.get(i).data[StarBean.I_HIP]);
+        // Name table
+        int offset = 0;
+        out.writeInt(offset);
+        for (int i = 0; i < n; i++) {
+            offset += data.get(i).name.length();
+            out.writeInt(offset);
+        }
+        for (int i = 0; i < n; i++)
+            out.writeChars(data.get(i).name);
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.data.group;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Star page compressed as a single block. The block holds a whole legacy or
+ * columnar page, which is decompressed to the heap when loaded, so compressed
+ * pages trade load time for disk space and read bandwidth.
+ * <p>
+ * Layout (big endian):
+ * <ul>
+ * <li>header: int token (-2), int codec, int uncompressed size, int compressed size</li>
+ * <li>the compressed bytes of the page</li>
+ * </ul>
+ *
+ * @author tsagrista
+ */
+public class CompressedPage {
+    /** Distinct from the legacy star count and from {@link ColumnarStarData#TOKEN} **/
+    public static final int TOKEN = -2;
+    /** Header size in bytes **/
+    public static final int HEADER_SIZE = 16;
+    /** Deflate codec, from java.util.zip **/
+    public static final int CODEC_DEFLATE = 1;
+
+    /**
+     * Checks whether the buffer contains a compressed page at its current position
+     *
+     * @param buf The buffer
+     * @return Whether the page is compressed
+     */
+    public static boolean isCompressed(ByteBuffer buf) {
+        return buf.remaining() >= HEADER_SIZE && buf.getInt(buf.position()) == TOKEN;
+    }
+
+    /**
+     * Compresses the given page and writes it to the output stream
+     *
+     * @param page   The bytes of the page
+     * @param length The number of bytes of the page
+     * @param out    The output stream
+     * @throws IOException If the write fails
+     */
+    public static void write(byte[] page, int length, DataOutputStream out) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(page, 0, length);
+            deflater.finish();
+            // Incompressible data grows a few bytes per 16 KB block
+            byte[] compressed = new byte[length + (length >> 12) + 64];
+            int size = 0;
+            while (!deflater.finished()) {
+                if (size == compressed.length) {
+                    byte[] grown = new byte[compressed.length * 2];
+                    System.arraycopy(compressed, 0, grown, 0, size);
+                    compressed = grown;
+                }
+                size += deflater.deflate(compressed, size, compressed.length - size);
+            }
+            out.writeInt(TOKEN);
+            out.writeInt(CODEC_DEFLATE);
+            out.writeInt(length);
+            out.writeInt(size);
+            out.write(compressed, 0, size);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decompresses the page at the current position of the buffer
+     *
+     * @param buf The buffer with the compressed page
+     * @return A heap buffer with the page
+     * @throws IOException If the page is corrupt or uses an unknown codec
+     */
+    public static ByteBuffer decompress(ByteBuffer buf) throws IOException {
+        int base = buf.position();
+        int codec = buf.getInt(base + 4);
+        int length = buf.getInt(base + 8);
+        int size = buf.getInt(base + 12);
+        if (codec != CODEC_DEFLATE)
+            throw new IOException("Unsupported page compression codec: " + codec);
+
+        byte[] compressed;
+        int offset;
+        if (buf.hasArray()) {
+            compressed = buf.array();
+            offset = buf.arrayOffset() + base + HEADER_SIZE;
+        } else {
+            compressed = new byte[size];
+            ByteBuffer src = buf.duplicate();
+            src.position(base + HEADER_SIZE);
+            src.get(compressed);
+            offset = 0;
+        }
+
+        byte[] page = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed, offset, size);
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(page, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+                    break;
+                read += n;
+            }
+            if (read != length)
+                throw new IOException("Truncated compressed page: " + read + " of " + length + " bytes");
+        } catch (DataFormatException e) {
+            throw new IOException(e);
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(page);
+    }
+}
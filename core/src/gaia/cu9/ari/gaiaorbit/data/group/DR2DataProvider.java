@@ -8,6 +8,7 @@ package gaia.cu9.ari.gaiaorbit.data.group;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
 import gaia.cu9.ari.gaiaorbit.scenegraph.ParticleGroup.ParticleBean;
 import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
 import gaia.cu9.ari.gaiaorbit.util.*;
@@ -20,14 +21,18 @@ import gaia.cu9.ari.gaiaorbit.util.format.NumberFormatFactory;
 import gaia.cu9.ari.gaiaorbit.util.io.ByteBufferInputStream;
 import gaia.cu9.ari.gaiaorbit.util.math.MathUtilsd;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
-import gaia.cu9.ari.gaiaorbit.util.parse.Parser;
+import gaia.cu9.ari.gaiaorbit.util.parse.CsvScanner;
 
 import java.io.*;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.file.Paths;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.zip.GZIPInputStream;
 
 /**
@@ -40,9 +45,9 @@ import java.util.zip.GZIPInputStream;
  */
 public class DR2DataProvider extends AbstractStarGroupDataProvider {
     private static final Log logger = Logger.getLogger(DR2DataProvider.class);
-    private static final String comma = ",";
+    private static final char comma = ',';
 
-    private static final String separator = comma;
+    private static final char separator = comma;
 
     /**
      * INDICES:
@@ -80,6 +85,11 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
      */
     private int fileNumberCap = -1;
 
+    /**
+     * Number of threads decoding files in parallel
+     */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
     /**
      * Number formatter
      */
@@ -104,31 +114,96 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
         initLists(10000000);
 
         FileHandle f = GlobalConf.data.dataFileHandle(file);
+        streamData(file, factor, list::addAll);
+        logger.info(I18n.bundle.format("notif.nodeloader", list.size, f.path()));
+        return list;
+    }
+
+    /**
+     * Loads the given file or directory and passes the accepted stars to the
+     * sink, one file at a time. The files of a directory are decoded in
+     * parallel in a pool of worker threads. At most two files per worker are
+     * decoded ahead of the sink, so memory stays bounded however large the
+     * catalog is. The sink always gets the files in name order, in the
+     * calling thread.
+     *
+     * @param file   The file or directory
+     * @param factor Unused
+     * @param sink   Gets the stars of each file
+     * @return The number of stars passed to the sink
+     */
+    public long streamData(String file, double factor, Consumer<Array<StarBean>> sink) {
+        FileHandle f = GlobalConf.data.dataFileHandle(file);
+        Array<FileHandle> files = new Array<>();
         if (f.isDirectory()) {
-            long numFiles = 0;
-            try {
-                numFiles = GlobalResources.fileCount(Paths.get(file));
-            } catch (IOException e) {
-                logger.error("Error counting files in dir: " + file);
-            }
-            // Recursive
-            FileHandle[] files = f.list();
-            Arrays.sort(files, Comparator.comparing(FileHandle::name));
-            int fn = 0;
-            for (FileHandle fh : files) {
-                loadDataMapped(fh.path(), factor, fn + 1, numFiles);
-                //loadFileFh(fh, factor, fn + 1);
-                fn++;
-                if (fileNumberCap > 0 && fn >= fileNumberCap)
+            FileHandle[] children = f.list();
+            Arrays.sort(children, Comparator.comparing(FileHandle::name));
+            for (FileHandle fh : children) {
+                files.add(fh);
+                if (fileNumberCap > 0 && files.size >= fileNumberCap)
                     break;
             }
         } else if (f.name().endsWith(".csv") || f.name().endsWith(".gz")) {
-            loadDataMapped(file, factor, 1, 1);
+            files.add(f);
         } else {
             logger.warn("File skipped: " + f.path());
         }
-        logger.info(I18n.bundle.format("notif.nodeloader", list.size, f.path()));
-        return list;
+        if (files.size == 0)
+            return 0;
+
+        int nThreads = Math.min(parallelism, files.size);
+        final AtomicInteger threadSequence = new AtomicInteger(0);
+        ExecutorService workers = Executors.newFixedThreadPool(nThreads, (Runnable r) -> {
+            Thread t = new Thread(r, "dr2-loader-" + threadSequence.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+        logger.info("Loading " + files.size + " files with " + nThreads + " threads");
+
+        long startMs = TimeUtils.millis();
+        long rows = 0, stars = 0;
+        // Bounded queue of files being decoded, in file order
+        Queue<Future<FileResult>> pending = new ArrayDeque<>();
+        int next = 0;
+        try {
+            while (next < files.size || !pending.isEmpty()) {
+                while (next < files.size && pending.size() < nThreads * 2) {
+                    final FileHandle fh = files.get(next++);
+                    pending.add(workers.submit(() -> readFile(fh.path())));
+                }
+                FileResult result = pending.poll().get();
+                if (result == null)
+                    continue;
+
+                for (int i = 0; i < countsPerMag.length; i++)
+                    countsPerMag[i] += result.countsPerMag[i];
+                rows += result.added + result.discarded;
+                stars += result.added;
+                logFile(result, next - pending.size(), files.size);
+
+                sink.accept(result.stars);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error(e);
+        } catch (ExecutionException e) {
+            logger.error(e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+
+        double secs = Math.max(1, TimeUtils.millis() - startMs) / 1000d;
+        logger.info("Loaded " + stars + "/" + rows + " stars in " + nf.format(secs) + " s (" + Math.round(rows / secs) + " rows/s)");
+        return stars;
+    }
+
+    /**
+     * Sets the number of threads used to decode the files of a directory
+     *
+     * @param parallelism The number of threads
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
     }
 
     public Array<StarBean> loadData(InputStream is, double factor) {
@@ -140,57 +215,79 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
     }
 
     public void loadFileIs(InputStream is, double factor, LongWrap addedStars, LongWrap discardedStars) {
-        // Simple case
-        InputStream data = is;
-        BufferedReader br = new BufferedReader(new InputStreamReader(data));
+        FileResult result = readStream(is, "stream");
+        if (result != null) {
+            list.addAll(result.stars);
+            for (int i = 0; i < countsPerMag.length; i++)
+                countsPerMag[i] += result.countsPerMag[i];
+            addedStars.value += result.added;
+            discardedStars.value += result.discarded;
+        }
+    }
+
+    /**
+     * Decodes the stars of a stream. Can be called from several threads at
+     * once, all the results are in the returned object.
+     *
+     * @param is       The stream, which is closed afterwards
+     * @param fileName The file name, for logging
+     * @return The result, or null if the stream could not be read
+     */
+    private FileResult readStream(InputStream is, String fileName) {
+        FileResult result = new FileResult(fileName);
+        long startMs = TimeUtils.millis();
         try {
-            int i = 0;
-            String line;
-            while ((line = br.readLine()) != null) {
-                // Skip first line
-                if (i > 0) {
+            CsvScanner scanner = new CsvScanner(is, separator);
+            double[] point = new double[StarBean.SIZE + 3];
+            // Skip first line
+            if (scanner.nextLine()) {
+                while (scanner.nextLine()) {
                     // Add star
-                    if (addStar(line)) {
-                        addedStars.value++;
+                    StarBean star = parseStar(scanner, point, result.countsPerMag);
+                    if (star != null) {
+                        result.stars.add(star);
+                        result.added++;
+                        point = new double[StarBean.SIZE + 3];
                     } else {
-                        discardedStars.value++;
+                        result.discarded++;
                     }
                 }
-                i++;
             }
         } catch (IOException e) {
             logger.error(e);
+            return null;
         } finally {
             try {
-                br.close();
+                is.close();
             } catch (IOException e) {
                 logger.error(e);
             }
         }
+        result.ms = TimeUtils.millis() - startMs;
+        return result;
     }
 
     /**
-     * Adds the star if it meets the criteria.
+     * Creates the star in the current line of the scanner if it meets the criteria.
      *
-     * @param line The string line
-     * @return True if star was added, false otherwise
+     * @param tokens       The scanner, positioned at the line
+     * @param point        The array to hold the star data
+     * @param countsPerMag The star counts per magnitude to update
+     * @return The star, or null if it was not accepted
      */
-    private boolean addStar(String line) {
-        String[] tokens = line.split(separator);
-        double[] point = new double[StarBean.SIZE + 3];
-
+    private StarBean parseStar(CsvScanner tokens, double[] point, long[] countsPerMag) {
         // Check that parallax exists (5-param solution), otherwise we have no distance
-        if (!tokens[IDX_PLLX].isEmpty()) {
+        if (!tokens.isEmpty(IDX_PLLX)) {
             /** ID **/
-            long sourceid = Parser.parseLong(tokens[IDX_SOURCE_ID]);
+            long sourceid = tokens.parseLong(IDX_SOURCE_ID);
             boolean mustLoad = mustLoad(sourceid);
 
             /** PARALLAX **/
             // Add the zero point to the parallax
-            double pllx = Parser.parseDouble(tokens[IDX_PLLX]) + parallaxZeroPoint;
+            double pllx = tokens.parseDouble(IDX_PLLX) + parallaxZeroPoint;
             //pllx = 0.0200120072;
-            double pllxerr = Parser.parseDouble(tokens[IDX_PLLX_ERR]);
-            double appmag = Parser.parseDouble(tokens[IDX_G_MAG]);
+            double pllxerr = tokens.parseDouble(IDX_PLLX_ERR);
+            double appmag = tokens.parseDouble(IDX_G_MAG);
 
             // Keep only stars with relevant parallaxes
             if (mustLoad || acceptParallax(appmag, pllx, pllxerr)) {
@@ -204,7 +301,7 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
                     float ruweVal = getRuweValue(sourceid);
                     if (ruweVal > ruwe) {
                         // Do not accept
-                        return false;
+                        return null;
                     }
                 }
 
@@ -220,19 +317,19 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
                         String name = String.valueOf(sourceid);
 
                         /** RA and DEC **/
-                        double ra = Parser.parseDouble(tokens[IDX_RA]);
-                        double dec = Parser.parseDouble(tokens[IDX_DEC]);
+                        double ra = tokens.parseDouble(IDX_RA);
+                        double dec = tokens.parseDouble(IDX_DEC);
                         double rarad = Math.toRadians(ra);
                         double decrad = Math.toRadians(dec);
                         // If distance is negative due to mustLoad, we need to be able to retrieve sph pos later on, so we use 1 m to mark it
                         Vector3d pos = Coordinates.sphericalToCartesian(rarad, decrad, Math.max(dist, NEGATIVE_DIST), new Vector3d());
 
                         /** PROPER MOTIONS in mas/yr **/
-                        double mualphastar = Parser.parseDouble(tokens[IDX_MUALPHA]);
-                        double mudelta = Parser.parseDouble(tokens[IDX_MUDELTA]);
+                        double mualphastar = tokens.parseDouble(IDX_MUALPHA);
+                        double mudelta = tokens.parseDouble(IDX_MUDELTA);
 
                         /** RADIAL VELOCITY in km/s **/
-                        double radvel = Parser.parseDouble(tokens[IDX_RADVEL]);
+                        double radvel = tokens.parseDouble(IDX_RADVEL);
                         if (Double.isNaN(radvel)) {
                             radvel = 0;
                         }
@@ -245,9 +342,9 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
                         // Galactic latitude in radians
                         double magcorraux = 0;
                         if (magCorrections) {
-                            if (tokens.length >= 20 && !tokens[IDX_A_G].isEmpty()) {
+                            if (tokens.tokenCount() >= 20 && !tokens.isEmpty(IDX_A_G)) {
                                 // Take extinction from database
-                                ag = Parser.parseDouble(tokens[IDX_A_G]);
+                                ag = tokens.parseDouble(IDX_A_G);
                             } else {
                                 // Compute extinction analytically
                                 Vector3d posgal = new Vector3d(pos);
@@ -270,9 +367,9 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
                         // Reddening
                         double ebr = 0;
                         if (magCorrections) {
-                            if (tokens.length >= 21 && !tokens[IDX_E_BP_MIN_RP].isEmpty()) {
+                            if (tokens.tokenCount() >= 21 && !tokens.isEmpty(IDX_E_BP_MIN_RP)) {
                                 // Take reddening from table
-                                ebr = Parser.parseDouble(tokens[IDX_E_BP_MIN_RP]);
+                                ebr = tokens.parseDouble(IDX_E_BP_MIN_RP);
                             } else {
                                 // Compute reddening analtytically
                                 ebr = magcorraux * 2.9e-4;
@@ -280,15 +377,15 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
                         }
 
                         // XP = BP - RP - Reddening
-                        float bp = (float) Parser.parseDouble(tokens[IDX_BP_MAG].trim());
-                        float rp = (float) Parser.parseDouble(tokens[IDX_RP_MAG].trim());
+                        float bp = (float) tokens.parseDouble(IDX_BP_MAG);
+                        float rp = (float) tokens.parseDouble(IDX_RP_MAG);
                         double xp = bp - rp - ebr;
 
                         // See Gaia broad band photometry (https://doi.org/10.1051/0004-6361/201015441)
                         double teff;
-                        if (tokens.length > 18 && !tokens[IDX_TEFF].isEmpty()) {
+                        if (tokens.tokenCount() > 18 && !tokens.isEmpty(IDX_TEFF)) {
                             // Use database Teff
-                            teff = Parser.parseDouble(tokens[IDX_TEFF]);
+                            teff = tokens.parseDouble(IDX_TEFF);
                         } else {
                             // Compute Teff from XP color
                             if (xp <= 1.5) {
@@ -321,16 +418,14 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
                         point[StarBean.I_APPMAG] = appmag;
                         point[StarBean.I_ABSMAG] = absmag;
 
-                        list.add(new StarBean(point, sourceid, name));
-
                         int appClmp = (int) MathUtilsd.clamp(appmag, 0, 21);
                         countsPerMag[appClmp] += 1;
-                        return true;
+                        return new StarBean(point, sourceid, name);
                     }
                 }
             }
         }
-        return false;
+        return null;
     }
 
     private class LongWrap {
@@ -354,14 +449,32 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
 
     /**
      * Uses memory mapped files to load catalog files.
-     * This is not working right now
      *
-     * @param file
-     * @param factor
-     * @param fileNumber
-     * @return
+     * @param file       The file
+     * @param factor     Unused
+     * @param fileNumber The file number, for logging, or negative
+     * @param totalFiles The total number of files, for logging, or negative
+     * @return The list of stars, which includes the ones from previous files
      */
     public Array<? extends ParticleBean> loadDataMapped(String file, double factor, int fileNumber, long totalFiles) {
+        FileResult result = readFile(file);
+        if (result == null)
+            return null;
+        list.addAll(result.stars);
+        for (int i = 0; i < countsPerMag.length; i++)
+            countsPerMag[i] += result.countsPerMag[i];
+        logFile(result, fileNumber, totalFiles);
+        return list;
+    }
+
+    /**
+     * Decodes the stars of a file, which is memory mapped. Can be called from
+     * several threads at once.
+     *
+     * @param file The file
+     * @return The result, or null if the file could not be read
+     */
+    private FileResult readFile(String file) {
         boolean gz = file.endsWith(".gz");
         String fileName = file.substring(file.lastIndexOf('/') + 1);
         FileChannel fc = null;
@@ -372,21 +485,12 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
 
             if (gz) {
                 try {
-                    data = new GZIPInputStream(data);
+                    data = new GZIPInputStream(data, 1 << 16);
                 } catch (IOException e) {
                     logger.error(e);
                 }
             }
-            LongWrap addedStars = new LongWrap(0l);
-            LongWrap discardedStars = new LongWrap(0l);
-            loadFileIs(data, factor, addedStars, discardedStars);
-
-            if (fileNumber >= 0 && totalFiles >= 0)
-                logger.info(fileNumber + "/" + totalFiles + " (" + nf.format((double) fileNumber * 100d / (double) totalFiles) + "%): " + fileName + " --> " + addedStars.value + "/" + (addedStars.value + discardedStars.value) + " stars (" + nf.format(100d * (double) addedStars.value / (double) (addedStars.value + discardedStars.value)) + "%)");
-            else
-                logger.info(fileName + " --> " + addedStars.value + "/" + (addedStars.value + discardedStars.value) + " stars (" + nf.format(100d * (double) addedStars.value / (double) (addedStars.value + discardedStars.value)) + "%)");
-
-            return list;
+            return readStream(data, fileName);
         } catch (Exception e) {
             logger.error(e);
         } finally {
@@ -400,4 +504,27 @@ public class DR2DataProvider extends AbstractStarGroupDataProvider {
         return null;
     }
 
+    private void logFile(FileResult result, int fileNumber, long totalFiles) {
+        long rows = result.added + result.discarded;
+        String stats = result.fileName + " --> " + result.added + "/" + rows + " stars (" + nf.format(100d * (double) result.added / (double) rows) + "%), " + Math.round(rows * 1000d / Math.max(1, result.ms)) + " rows/s";
+        if (fileNumber >= 0 && totalFiles >= 0)
+            logger.info(fileNumber + "/" + totalFiles + " (" + nf.format((double) fileNumber * 100d / (double) totalFiles) + "%): " + stats);
+        else
+            logger.info(stats);
+    }
+
+    /**
+     * Stars and statistics of a file
+     */
+    private static class FileResult {
+        final String fileName;
+        final Array<StarBean> stars = new Array<>(false, 1024);
+        final long[] countsPerMag = new long[22];
+        long added, discarded, ms;
+
+        FileResult(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+
 }
@@ -80,6 +80,15 @@ public interface IStarGroupDataProvider extends IParticleGroupDataProvider {
      */
     void setRUWEFile(String RUWEFile);
 
+    /**
+     * Sets whether to write the geometric distances and RUWE values as binary
+     * tables next to their files once parsed, and to use those tables instead
+     * of the files in later runs. Must be set before the files.
+     *
+     * @param writeTables Whether to write and use the tables
+     */
+    void setWriteTables(boolean writeTables);
+
     /**
      * Sets the RUWE criteria. RUWE file must have been set
      *
@@ -12,10 +12,12 @@ import gaia.cu9.ari.gaiaorbit.data.StreamingOctreeLoader;
 import gaia.cu9.ari.gaiaorbit.data.octreegen.MetadataBinaryIO;
 import gaia.cu9.ari.gaiaorbit.event.EventManager;
 import gaia.cu9.ari.gaiaorbit.event.Events;
+import gaia.cu9.ari.gaiaorbit.scenegraph.AbstractPositionEntity;
 import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup;
 import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
 import gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper.AbstractOctreeWrapper;
 import gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper.OctreeWrapper;
+import gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper.OctreeWrapperConcurrent;
 import gaia.cu9.ari.gaiaorbit.util.CatalogInfo;
 import gaia.cu9.ari.gaiaorbit.util.CatalogInfo.CatalogInfoType;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
@@ -45,11 +47,18 @@ public class OctreeGroupLoader extends StreamingOctreeLoader {
 
     /** Binary particle reader **/
     private IParticleGroupDataProvider particleReader;
+    /** Reader for columnar pages, null if not in binary mode **/
+    private BinaryDataProvider binaryReader;
 
     public OctreeGroupLoader() {
         instance = this;
 
-        particleReader = binary ? new BinaryDataProvider() : new SerializedDataProvider();
+        if (binary) {
+            binaryReader = new BinaryDataProvider();
+            particleReader = binaryReader;
+        } else {
+            particleReader = new SerializedDataProvider();
+        }
 
     }
 
@@ -62,17 +71,18 @@ public class OctreeGroupLoader extends StreamingOctreeLoader {
         logger.info(I18n.bundle.format("notif.loading", metadata));
 
         MetadataBinaryIO metadataReader = new MetadataBinaryIO();
-        OctreeNode root = metadataReader.readMetadataMapped(metadata);
+        // Deeper nodes of compact metadata are created when the camera reaches them
+        OctreeNode root = metadataReader.readMetadataMapped(metadata, null, PRELOAD_DEPTH);
 
         if (root != null) {
-            logger.info(I18n.bundle.format("notif.nodeloader", root.numNodes(), metadata));
+            logger.info(I18n.bundle.format("notif.nodeloader", metadataReader.nNodes, metadata));
             logger.info(I18n.bundle.format("notif.loading", particles));
 
             /**
-             * CREATE OCTREE WRAPPER WITH ROOT NODE - particle group is by default
-             * parallel, so we never use OctreeWrapperConcurrent
+             * CREATE OCTREE WRAPPER WITH ROOT NODE - the concurrent one updates
+             * the star groups of the observed octants in parallel
              */
-            AbstractOctreeWrapper octreeWrapper = new OctreeWrapper("Universe", root);
+            AbstractOctreeWrapper octreeWrapper = GlobalConf.performance.MULTITHREADING ? new OctreeWrapperConcurrent("Universe", root) : new OctreeWrapper("Universe", root);
             // Catalog info
             String name = this.name != null ? this.name : "LOD data";
             String description = this.description != null ? this.description : "Octree-based LOD dataset";
@@ -98,13 +108,12 @@ public class OctreeGroupLoader extends StreamingOctreeLoader {
         }
     }
 
-    public boolean loadOctant(final OctreeNode octant, final AbstractOctreeWrapper octreeWrapper, boolean fullinit) throws IOException {
+    @Override
+    public AbstractPositionEntity readOctant(final OctreeNode octant, boolean fullinit) throws IOException {
         FileHandle octantFile = GlobalConf.data.dataFileHandle(particles + "particles_" + String.format("%06d", octant.pageId) + ".bin");
         if (!octantFile.exists() || octantFile.isDirectory()) {
-            return false;
+            return null;
         }
-        @SuppressWarnings("unchecked")
-        Array<StarBean> data = (Array<StarBean>) particleReader.loadDataMapped(octantFile.path(), 1.0);
         StarGroup sg = new StarGroup();
         sg.setName("stargroup-" + sg.id);
         sg.setFadeout(new double[] { 21e5, .5e9 });
@@ -113,10 +122,24 @@ public class OctreeGroupLoader extends StreamingOctreeLoader {
         sg.setSize(6.0);
         sg.setLabelposition(new double[] { 0.0, -5.0e7, -4e8 });
         sg.setCt("Stars");
-        sg.setData(data);
+        // Columnar pages are read in place, legacy pages go through the star bean reader
+        if (binaryReader != null) {
+            if (!binaryReader.loadPageMapped(octantFile.path(), sg))
+                return null;
+        } else {
+            @SuppressWarnings("unchecked")
+            Array<StarBean> data = (Array<StarBean>) particleReader.loadDataMapped(octantFile.path(), 1.0);
+            sg.setData(data);
+        }
         if (fullinit)
             sg.doneLoading(null);
 
+        return sg;
+    }
+
+    @Override
+    public void publishOctant(final OctreeNode octant, final AbstractPositionEntity object, final AbstractOctreeWrapper octreeWrapper) {
+        StarGroup sg = (StarGroup) object;
         synchronized (octant) {
             sg.octant = octant;
             sg.octantId = octant.pageId;
@@ -136,8 +159,6 @@ public class OctreeGroupLoader extends StreamingOctreeLoader {
 
             addLoadedInfo(octant.pageId, octant.countObjects());
         }
-        return true;
-
     }
 
 }
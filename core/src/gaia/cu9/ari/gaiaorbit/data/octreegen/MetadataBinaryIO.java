@@ -5,21 +5,21 @@
 
 package gaia.cu9.ari.gaiaorbit.data.octreegen;
 
+import com.badlogic.gdx.utils.IntIntMap;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
-import gaia.cu9.ari.gaiaorbit.util.Pair;
 import gaia.cu9.ari.gaiaorbit.util.tree.LoadStatus;
+import gaia.cu9.ari.gaiaorbit.util.tree.OctreeIndex;
 import gaia.cu9.ari.gaiaorbit.util.tree.OctreeNode;
 
 import java.io.*;
 import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Writes and reads the metadata to/from binary. The format is as follows:
@@ -39,13 +39,29 @@ import java.util.Map;
  * - 32 bits (int) - ownObjects - The number of objects of this node
  * - 32 bits (int) - childCount - The number of children nodes
  * 
+ * The compact version 2 format starts with a header of four ints: a negative token, the version,
+ * the number of nodes and the maximum depth. It is followed by fixed-size node records in
+ * breadth-first order, as described in {@link OctreeIndex}. Children ids are not stored, as the
+ * children of each node are contiguous. Only the nodes down to a given depth are created when the
+ * metadata is read, the rest are created when their parents first need them.
+ * 
+ * Legacy files are read into an array of nodes and a flat array with the children ids of every
+ * node, and the children are linked once all the nodes are read.
+ * 
  * @author Toni Sagrista
  *
  */
 public class MetadataBinaryIO {
     private static final Log logger = Logger.getLogger(MetadataBinaryIO.class);
+
+    /** Version 2 files start with this, legacy files start with the number of nodes **/
+    public static final int TOKEN = -1;
+    /** Compact format version **/
+    public static final int VERSION = 2;
+    private static final int HEADER_SIZE = 16;
     
-    public Map<Long, Pair<OctreeNode, long[]>> nodesMap;
+    /** Number of nodes of the last metadata read **/
+    public int nNodes;
 
     /**
      * Reads the metadata into an octree node
@@ -65,14 +81,39 @@ public class MetadataBinaryIO {
      * @return The octree node
      */
     public OctreeNode readMetadata(InputStream in, LoadStatus status) {
-        nodesMap = new HashMap<Long, Pair<OctreeNode, long[]>>();
+        return readMetadata(in, status, Integer.MAX_VALUE);
+    }
 
+    /**
+     * Reads the metadata into an octree node
+     *
+     * @param in           Input stream
+     * @param status       The status to set to the nodes, or null
+     * @param preloadDepth In the compact format, nodes deeper than this are only
+     *                     created when their parents resolve their children
+     * @return The octree node
+     */
+    public OctreeNode readMetadata(InputStream in, LoadStatus status, int preloadDepth) {
         DataInputStream data_in = new DataInputStream(in);
         try {
             OctreeNode root = null;
             // Read size of stars
             int size = data_in.readInt();
+            if (size == TOKEN) {
+                // Compact format, read it all
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                DataOutputStream dos = new DataOutputStream(bos);
+                dos.writeInt(size);
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = data_in.read(buffer)) > 0) {
+                    dos.write(buffer, 0, read);
+                }
+                return readCompact(ByteBuffer.wrap(bos.toByteArray()), status, preloadDepth);
+            }
             int maxDepth = 0;
+            OctreeNode[] nodes = new OctreeNode[size];
+            int[] childrenIds = new int[size * 8];
 
             for (int idx = 0; idx < size; idx++) {
                 try {
@@ -84,9 +125,8 @@ public class MetadataBinaryIO {
                     float hsx = data_in.readFloat() / 2f;
                     float hsy = data_in.readFloat() / 2f;
                     float hsz = data_in.readFloat() / 2f;
-                    long[] childrenIds = new long[8];
                     for (int i = 0; i < 8; i++) {
-                        childrenIds[i] = data_in.readInt();
+                        childrenIds[idx * 8 + i] = data_in.readInt();
                     }
                     int depth = data_in.readInt();
                     int nObjects = data_in.readInt();
@@ -96,7 +136,7 @@ public class MetadataBinaryIO {
                     maxDepth = Math.max(maxDepth, depth);
 
                     OctreeNode node = new OctreeNode(pageId, x, y, z, hsx, hsy, hsz, childrenCount, nObjects, ownObjects, depth);
-                    nodesMap.put(pageId, new Pair<OctreeNode, long[]>(node, childrenIds));
+                    nodes[idx] = node;
                     if (status != null)
                         node.setStatus(status);
 
@@ -110,9 +150,10 @@ public class MetadataBinaryIO {
             }
 
             OctreeNode.maxDepth = maxDepth;
+            nNodes = size;
             // All data has arrived
             if (root != null) {
-                root.resolveChildren(nodesMap);
+                linkChildren(nodes, childrenIds);
             } else {
                 logger.error(new RuntimeException("No root node in visualization-metadata"));
             }
@@ -130,17 +171,36 @@ public class MetadataBinaryIO {
     }
 
     public OctreeNode readMetadataMapped(String file, LoadStatus status) {
-        nodesMap = new HashMap<Long, Pair<OctreeNode, long[]>>();
+        return readMetadataMapped(file, status, Integer.MAX_VALUE);
+    }
 
+    /**
+     * Maps the metadata file and reads it into an octree node
+     *
+     * @param file         The file
+     * @param status       The status to set to the nodes, or null
+     * @param preloadDepth In the compact format, nodes deeper than this are only
+     *                     created when their parents resolve their children
+     * @return The octree node
+     */
+    public OctreeNode readMetadataMapped(String file, LoadStatus status, int preloadDepth) {
         try {
             FileChannel fc = new RandomAccessFile(GlobalConf.data.dataFile(file), "r").getChannel();
 
             MappedByteBuffer mem = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+            fc.close();
+
+            if (mem.remaining() >= HEADER_SIZE && mem.getInt(0) == TOKEN) {
+                // Compact format, the mapping stays valid after closing the channel
+                return readCompact(mem, status, preloadDepth);
+            }
 
             OctreeNode root = null;
             // Read size of stars
             int size = mem.getInt();
             int maxDepth = 0;
+            OctreeNode[] nodes = new OctreeNode[size];
+            int[] childrenIds = new int[size * 8];
 
             for (int idx = 0; idx < size; idx++) {
                 try {
@@ -156,9 +216,8 @@ public class MetadataBinaryIO {
                     //float hsz = mem.getFloat() / 2f;
                     mem.position(mem.position() + 4); // skip hsz
                     float hsz = hsx;
-                    long[] childrenIds = new long[8];
                     for (int i = 0; i < 8; i++) {
-                        childrenIds[i] = mem.getInt();
+                        childrenIds[idx * 8 + i] = mem.getInt();
                     }
                     int depth = mem.getInt();
                     int nObjects = mem.getInt();
@@ -168,7 +227,7 @@ public class MetadataBinaryIO {
                     maxDepth = Math.max(maxDepth, depth);
 
                     OctreeNode node = new OctreeNode(pageId, x, y, z, hsx, hsy, hsz, childrenCount, nObjects, ownObjects, depth);
-                    nodesMap.put(pageId, new Pair<OctreeNode, long[]>(node, childrenIds));
+                    nodes[idx] = node;
                     if (status != null)
                         node.setStatus(status);
 
@@ -182,15 +241,14 @@ public class MetadataBinaryIO {
             }
 
             OctreeNode.maxDepth = maxDepth;
+            nNodes = size;
             // All data has arrived
             if (root != null) {
-                root.resolveChildren(nodesMap);
+                linkChildren(nodes, childrenIds);
             } else {
                 logger.error(new RuntimeException("No root node in visualization-metadata"));
             }
 
-            fc.close();
-
             return root;
 
         } catch (Exception e) {
@@ -200,6 +258,59 @@ public class MetadataBinaryIO {
 
     }
 
+    /**
+     * Links the nodes read from legacy metadata with their children
+     *
+     * @param nodes       The nodes, in file order. Nodes which could not be read are null
+     * @param childrenIds The page ids of the 8 children of every node, negative if there is no child
+     */
+    private void linkChildren(OctreeNode[] nodes, int[] childrenIds) {
+        IntIntMap indices = new IntIntMap(nodes.length);
+        for (int idx = 0; idx < nodes.length; idx++)
+            if (nodes[idx] != null)
+                indices.put((int) nodes[idx].pageId, idx);
+
+        for (int idx = 0; idx < nodes.length; idx++) {
+            OctreeNode node = nodes[idx];
+            if (node == null)
+                continue;
+            for (int i = 0; i < 8; i++) {
+                int childId = childrenIds[idx * 8 + i];
+                if (childId >= 0) {
+                    int childIdx = indices.get(childId, -1);
+                    if (childIdx < 0)
+                        throw new RuntimeException("OctreeNode with page ID " + childId + " not found in metadata");
+                    OctreeNode child = nodes[childIdx];
+                    node.children[i] = child;
+                    child.parent = node;
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads compact metadata. Only the nodes down to the preload depth are created.
+     */
+    private OctreeNode readCompact(ByteBuffer mem, LoadStatus status, int preloadDepth) throws IOException {
+        int version = mem.getInt(4);
+        if (version > VERSION)
+            throw new IOException("Unsupported metadata version: " + version);
+        int size = mem.getInt(8);
+        int maxDepth = mem.getInt(12);
+        if (size <= 0) {
+            logger.error(new RuntimeException("No root node in visualization-metadata"));
+            return null;
+        }
+
+        OctreeIndex index = new OctreeIndex(mem, HEADER_SIZE, size, status);
+        OctreeNode root = index.node(0, null);
+        index.materialize(root, preloadDepth);
+
+        OctreeNode.maxDepth = maxDepth;
+        nNodes = size;
+        return root;
+    }
+
     /**
      * Writes the metadata of the given octree node and its descendants to the
      * given output stream in binary.
@@ -208,6 +319,22 @@ public class MetadataBinaryIO {
      * @param out
      */
     public void writeMetadata(OctreeNode root, OutputStream out) {
+        writeMetadata(root, out, false);
+    }
+
+    /**
+     * Writes the metadata of the given octree node and its descendants to the
+     * given output stream in binary.
+     *
+     * @param root    The root node
+     * @param out     The output stream
+     * @param compact Whether to use the compact version 2 format, not readable by older versions
+     */
+    public void writeMetadata(OctreeNode root, OutputStream out, boolean compact) {
+        if (compact) {
+            writeCompact(root, out);
+            return;
+        }
         List<OctreeNode> nodes = new ArrayList<OctreeNode>();
         toList(root, nodes);
 
@@ -244,6 +371,51 @@ public class MetadataBinaryIO {
 
     }
 
+    private void writeCompact(OctreeNode root, OutputStream out) {
+        // Breadth-first, so that the children of each node are contiguous
+        List<OctreeNode> nodes = new ArrayList<OctreeNode>();
+        nodes.add(root);
+        int maxDepth = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            OctreeNode node = nodes.get(i);
+            maxDepth = Math.max(maxDepth, node.depth);
+            for (OctreeNode child : node.children)
+                if (child != null)
+                    nodes.add(child);
+        }
+
+        DataOutputStream data_out = new DataOutputStream(out);
+        try {
+            data_out.writeInt(TOKEN);
+            data_out.writeInt(VERSION);
+            data_out.writeInt(nodes.size());
+            data_out.writeInt(maxDepth);
+
+            for (OctreeNode node : nodes) {
+                int mask = 0;
+                for (int i = 0; i < 8; i++)
+                    if (node.children[i] != null)
+                        mask |= 1 << i;
+                data_out.writeInt((int) node.pageId);
+                data_out.writeFloat((float) node.centre.x);
+                data_out.writeFloat((float) node.centre.y);
+                data_out.writeFloat((float) node.centre.z);
+                data_out.writeFloat((float) node.size.x / 2f);
+                data_out.writeInt(node.nObjects);
+                data_out.writeInt(node.ownObjects);
+                data_out.writeByte(mask);
+                data_out.writeByte(node.depth);
+                data_out.writeShort(0);
+            }
+
+            data_out.close();
+            out.close();
+
+        } catch (IOException e) {
+            logger.error(e);
+        }
+    }
+
     public void toList(OctreeNode node, List<OctreeNode> nodes) {
         nodes.add(node);
         for (OctreeNode child : node.children) {
@@ -0,0 +1,194 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.data.octreegen;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+import gaia.cu9.ari.gaiaorbit.scenegraph.AbstractPositionEntity;
+import gaia.cu9.ari.gaiaorbit.util.Logger;
+import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encodes and writes octant particle pages on a pool of worker threads. At most
+ * a fixed number of pages, and optionally of bytes, are pending at any time,
+ * the caller waits for the workers when that many are queued, so the pages
+ * waiting to be written don't pile up in memory.
+ *
+ * @author tsagrista
+ */
+public class ParallelPageWriter {
+    private static final Log logger = Logger.getLogger(ParallelPageWriter.class);
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final IStarGroupIO writer;
+    private final ExecutorService workers;
+    private final int nThreads;
+    private final Semaphore slots;
+    private final int maxPending;
+
+    // Estimated heap size of the pages waiting to be written, guarded by the lock
+    private final Object pendingLock = new Object();
+    private long pendingBytes = 0;
+    private volatile long maxPendingBytes = Long.MAX_VALUE;
+
+    private final AtomicInteger pages, errors;
+    private final AtomicLong bytes;
+    private long startMs;
+
+    /**
+     * Creates a new page writer
+     *
+     * @param writer     The particle writer, must be safe to use from several threads
+     * @param nThreads   The number of worker threads
+     * @param maxPending The maximum number of pages waiting to be written
+     */
+    public ParallelPageWriter(IStarGroupIO writer, int nThreads, int maxPending) {
+        this.writer = writer;
+        this.nThreads = Math.max(1, nThreads);
+        this.maxPending = Math.max(1, maxPending);
+        this.slots = new Semaphore(this.maxPending);
+        this.pages = new AtomicInteger(0);
+        this.errors = new AtomicInteger(0);
+        this.bytes = new AtomicLong(0);
+        this.startMs = -1;
+
+        final AtomicInteger writerSequence = new AtomicInteger(0);
+        workers = Executors.newFixedThreadPool(this.nThreads, (Runnable r) -> {
+            Thread t = new Thread(r, "page-writer-" + writerSequence.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * @return The particle writer
+     */
+    public IStarGroupIO getWriter() {
+        return writer;
+    }
+
+    /**
+     * Sets the maximum estimated heap size of the pages waiting to be written.
+     * A page larger than this is only queued when no other page is pending.
+     *
+     * @param maxPendingBytes The maximum size in bytes
+     */
+    public void setMaxPendingBytes(long maxPendingBytes) {
+        this.maxPendingBytes = Math.max(1, maxPendingBytes);
+    }
+
+    /**
+     * Queues a page to be written to the given file. The objects must not be
+     * modified afterwards.
+     *
+     * @param file    The page file
+     * @param objects The objects of the octant
+     */
+    public void write(final File file, final Array<AbstractPositionEntity> objects) {
+        write(file, objects, 0);
+    }
+
+    /**
+     * Queues a page to be written to the given file. The objects must not be
+     * modified afterwards.
+     *
+     * @param file    The page file
+     * @param objects The objects of the octant
+     * @param bytes   Estimated heap size of the objects, counted against the
+     *                maximum pending bytes until the page is written
+     */
+    public void write(final File file, final Array<AbstractPositionEntity> objects, final long bytes) {
+        if (startMs < 0)
+            startMs = TimeUtils.millis();
+        slots.acquireUninterruptibly();
+        reserve(bytes);
+        workers.execute(() -> {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file), BUFFER_SIZE)) {
+                writer.writeParticles(objects, out);
+            } catch (Exception e) {
+                errors.incrementAndGet();
+                logger.error(e, "Error writing page " + file.getAbsolutePath());
+            } finally {
+                pages.incrementAndGet();
+                this.bytes.addAndGet(file.length());
+                release(bytes);
+                slots.release();
+            }
+        });
+    }
+
+    /**
+     * Waits until the given bytes fit in the maximum pending bytes, and counts them
+     */
+    private void reserve(long b) {
+        boolean interrupted = false;
+        synchronized (pendingLock) {
+            while (pendingBytes > 0 && pendingBytes + b > maxPendingBytes) {
+                try {
+                    pendingLock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            pendingBytes += b;
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    private void release(long b) {
+        synchronized (pendingLock) {
+            pendingBytes -= b;
+            pendingLock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until all the queued pages are written and reports the throughput
+     *
+     * @return The number of pages which could not be written
+     */
+    public int flush() {
+        slots.acquireUninterruptibly(maxPending);
+        slots.release(maxPending);
+        int n = pages.getAndSet(0);
+        long b = bytes.getAndSet(0);
+        if (n > 0) {
+            double seconds = Math.max(1, TimeUtils.millis() - startMs) / 1000d;
+            logger.info(String.format("Page writer: %d pages, %.1f MB in %.1f s, %.1f pages/s, %.1f MB/s (%d threads)", n, b / 1048576d, seconds, n / seconds, b / 1048576d / seconds, nThreads));
+        }
+        startMs = -1;
+        return errors.getAndSet(0);
+    }
+
+    /**
+     * Writes the pending pages and stops the worker threads
+     *
+     * @return The number of pages which could not be written
+     */
+    public int shutdown() {
+        int failed = flush();
+        workers.shutdown();
+        try {
+            workers.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return failed;
+    }
+}
@@ -24,9 +24,34 @@ import java.io.OutputStream;
 public class StarGroupBinaryIO implements IStarGroupIO {
 
     BinaryDataProvider provider;
+    /** Whether to write the columnar page format **/
+    boolean columnar;
+    /** Whether to compress the pages **/
+    boolean compressed;
 
     public StarGroupBinaryIO() {
+        this(false);
+    }
+
+    /**
+     * Creates a new star group binary reader/writer
+     *
+     * @param columnar Whether to write the particles in the columnar page format
+     */
+    public StarGroupBinaryIO(boolean columnar) {
+        this(columnar, false);
+    }
+
+    /**
+     * Creates a new star group binary reader/writer
+     *
+     * @param columnar   Whether to write the particles in the columnar page format
+     * @param compressed Whether to compress each page as a block
+     */
+    public StarGroupBinaryIO(boolean columnar, boolean compressed) {
         provider = new BinaryDataProvider();
+        this.columnar = columnar;
+        this.compressed = compressed;
     }
 
     /**
@@ -41,7 +66,7 @@ public class StarGroupBinaryIO implements IStarGroupIO {
     public void writeParticles(Array<AbstractPositionEntity> list, OutputStream out) {
         if (list.size > 0) {
             StarGroup sg = (StarGroup) list.get(0);
-            provider.writeData(sg.data(), out);
+            provider.writeData(sg.data(), out, columnar, compressed);
         }
     }
 
@@ -0,0 +1,796 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.data.octreegen.generator;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import gaia.cu9.ari.gaiaorbit.data.octreegen.ParallelPageWriter;
+import gaia.cu9.ari.gaiaorbit.data.octreegen.StarBrightnessComparator;
+import gaia.cu9.ari.gaiaorbit.scenegraph.AbstractPositionEntity;
+import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup;
+import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
+import gaia.cu9.ari.gaiaorbit.util.Constants;
+import gaia.cu9.ari.gaiaorbit.util.math.BoundingBoxd;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+import gaia.cu9.ari.gaiaorbit.util.tree.OctreeNode;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Out-of-core version of {@link OctreeGeneratorMag}, for catalogs which do not
+ * fit in memory. It produces the same octree, but the heap it uses is bounded
+ * by a budget instead of by the size of the catalog:
+ * <ol>
+ * <li>Stars are added one by one. They are buffered until the budget is
+ * reached, then the buffer is sorted by magnitude and spilled to disk as a
+ * run.</li>
+ * <li>The runs are merged into a single magnitude-sorted stream, in several
+ * passes if there are too many of them.</li>
+ * <li>Stars from the stream are assigned to the octants of the current level
+ * until one of them is saturated. The stars of a level are spilled again,
+ * grouped by octant, if they exceed the budget. When the level is done its
+ * pages are queued to the page writer and freed once written.</li>
+ * </ol>
+ * The returned octree only holds the structure and the counts, the metadata
+ * is written from it with {@link gaia.cu9.ari.gaiaorbit.data.octreegen.MetadataBinaryIO}.
+ * Catalogs which fit in the budget never touch the disk.
+ *
+ * @author tsagrista
+ */
+public class OctreeGeneratorExternal extends OctreeGeneratorMag {
+
+    /** Approximate heap size of a star bean without its name, in bytes **/
+    private static final int BEAN_BYTES = 200;
+    /** Maximum number of runs merged at once **/
+    private static final int MAX_FAN_IN = 128;
+    /** Buffer size of each run stream **/
+    private static final int IO_BUFFER = 1 << 16;
+    /** Number of octree levels **/
+    private static final int MAX_LEVELS = 25;
+
+    private final OctreeGeneratorParams params;
+    private final ParallelPageWriter pageWriter;
+    private final File particlesFolder;
+    private final File tmpParent;
+    private final long memoryBudget;
+    private final long pagesBudget;
+    private final Comparator<StarBean> comp;
+
+    private File tmpFolder;
+    private int tmpFiles;
+
+    // Ingestion state
+    private Array<StarBean> buffer;
+    private long bufferBytes;
+    private final Array<File> runs;
+    private long nStars, nCapped, nDiscarded;
+    private double maxDist;
+    private final Vector3d furthest;
+    private final Vector3d aux;
+
+    /**
+     * Creates a new out-of-core generator
+     *
+     * @param params          The generation parameters
+     * @param pageWriter      Writes the pages of the finished octants
+     * @param particlesFolder Folder to write the pages to
+     * @param tmpFolder       Folder for the temporary runs, or null to use the system temporary folder
+     * @param memoryBudget    Heap to use for the stars in memory and the pages
+     *                        waiting to be written, in bytes
+     */
+    public OctreeGeneratorExternal(OctreeGeneratorParams params, ParallelPageWriter pageWriter, File particlesFolder, File tmpFolder, long memoryBudget) {
+        super(params);
+        this.params = params;
+        this.pageWriter = pageWriter;
+        this.particlesFolder = particlesFolder;
+        this.tmpParent = tmpFolder;
+        long budget = Math.max(1 << 20, memoryBudget);
+        // A quarter of the budget is for the pages waiting to be written
+        this.pagesBudget = budget / 4;
+        this.memoryBudget = budget - pagesBudget;
+        pageWriter.setMaxPendingBytes(pagesBudget);
+        this.comp = new StarBrightnessComparator();
+        this.buffer = new Array<>(1024);
+        this.runs = new Array<>();
+        this.furthest = new Vector3d();
+        this.aux = new Vector3d();
+        this.maxDist = Double.MIN_VALUE;
+    }
+
+    /**
+     * Gets the file of the page of the given octant
+     *
+     * @param particlesFolder The particles folder
+     * @param pageId          The id of the octant
+     * @return The page file
+     */
+    public static File pageFile(File particlesFolder, long pageId) {
+        return new File(particlesFolder, "particles_" + String.format("%06d", pageId) + ".bin");
+    }
+
+    /**
+     * Adds a star to the catalog. Stars beyond the maximum distance are ignored.
+     *
+     * @param sb The star
+     */
+    public void add(StarBean sb) {
+        double dist = IOctreeGenerator.pos(sb.data, aux).len();
+        if (dist * Constants.U_TO_PC > params.maxDistanceCap) {
+            nCapped++;
+            return;
+        }
+        if (dist > maxDist) {
+            maxDist = dist;
+            furthest.set(aux);
+        }
+        buffer.add(sb);
+        bufferBytes += beanBytes(sb);
+        nStars++;
+        if (bufferBytes >= memoryBudget)
+            spillBuffer();
+    }
+
+    /**
+     * Adds all the stars in the list to the catalog
+     *
+     * @param list The stars
+     */
+    public void addAll(Array<StarBean> list) {
+        for (StarBean sb : list)
+            add(sb);
+    }
+
+    /**
+     * @return The number of stars added so far, not counting the ones beyond the maximum distance
+     */
+    public long getStarCount() {
+        return nStars;
+    }
+
+    @Override
+    public int getDiscarded() {
+        return (int) Math.min(Integer.MAX_VALUE, nDiscarded);
+    }
+
+    /**
+     * Adds the catalog and generates the octree. The pages are written to the
+     * particles folder. The catalog is cleared so that its stars can be freed
+     * as their pages are written.
+     */
+    @Override
+    public OctreeNode generateOctree(Array<StarBean> catalog) {
+        addAll(catalog);
+        catalog.clear();
+        return generate();
+    }
+
+    /**
+     * Generates the octree with the stars added so far, writing the pages of
+     * the octants as they are finished. The objects of the returned octree are
+     * not set, only their counts.
+     *
+     * @return The root of the octree, or null if there are no stars
+     */
+    public OctreeNode generate() {
+        try {
+            if (nCapped > 0)
+                logger.info(nCapped + " stars beyond " + params.maxDistanceCap + " pc ignored");
+            if (nStars == 0)
+                return null;
+            logger.info("Starting generation of octree with " + nStars + " stars, " + runs.size + " runs spilled, memory budget " + (memoryBudget >> 20) + " MB for stars and " + (pagesBudget >> 20) + " MB for pages being written");
+
+            long start = TimeUtils.millis();
+            if (runs.size > 0)
+                spillBuffer();
+            root = createRoot();
+            StarSource sorted = mergeRuns();
+            logger.info("Runs prepared in " + (TimeUtils.millis() - start) / 1000d + " seconds");
+
+            generateLevels(sorted);
+            sorted.close();
+            if (pageWriter.flush() > 0)
+                throw new IOException("Some pages could not be written");
+
+            if (params.postprocess)
+                postprocess();
+
+            updateNumbers(root);
+            return root;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        } finally {
+            deleteTmpFolder();
+        }
+    }
+
+    /**
+     * Assigns the magnitude-sorted stars to octants, level by level
+     */
+    private void generateLevels(StarSource sorted) throws IOException {
+        // Holds all octree nodes indexed by id
+        LongMap<OctreeNode> idMap = new LongMap<>();
+        idMap.put(root.pageId, root);
+
+        long consumed = 0;
+        int level = 0;
+        LevelPages pages = new LevelPages();
+        logger.info("Generating level " + level + " (" + nStars + " stars left)");
+        StarBean sb;
+        while ((sb = sorted.next()) != null) {
+            if (level == MAX_LEVELS) {
+                nDiscarded++;
+                continue;
+            }
+            consumed++;
+            double x = sb.data[StarBean.I_X];
+            double y = sb.data[StarBean.I_Y];
+            double z = sb.data[StarBean.I_Z];
+            long nodeId = getPositionOctantId(x, y, z, level);
+            OctreeNode octant = idMap.get(nodeId);
+            if (octant == null) {
+                // Create octant and parents if necessary
+                octant = createOctant(nodeId, x, y, z, level);
+                idMap.put(octant.pageId, octant);
+            }
+            if (pages.add(octant, sb) >= params.maxPart) {
+                // On to next level!
+                pages.finish();
+                level++;
+                pages = new LevelPages();
+                if (level < MAX_LEVELS)
+                    logger.info("Generating level " + level + " (" + (nStars - consumed) + " stars left)");
+            }
+        }
+        pages.finish();
+        if (nDiscarded > 0)
+            logger.info(nDiscarded + " stars discarded, all " + MAX_LEVELS + " levels are saturated");
+    }
+
+    /**
+     * Merges low-count nodes with their parents, like {@link OctreeGeneratorMag}
+     * does, by reading back and rewriting their pages
+     */
+    private void postprocess() throws IOException {
+        long mergedNodes = 0;
+        long mergedObjects = 0;
+        Array<OctreeNode> nodes = new Array<>();
+        toList(root, nodes);
+        // Sort by descending depth
+        nodes.sort((n1, n2) -> Integer.compare(n2.depth, n1.depth));
+
+        for (OctreeNode current : nodes) {
+            OctreeNode parent = current.parent;
+            if (parent != null && current.ownObjects > 0 && parent.ownObjects > 0 && current.ownObjects <= params.childCount && parent.ownObjects <= params.parentCount) {
+                // Merge children nodes with parent nodes, remove children
+                Array<StarBean> parentArr = readPage(parent);
+                parentArr.addAll(readPage(current));
+                // Synchronously, the parent may be read again when merged with its own parent
+                try (OutputStream out = new BufferedOutputStream(new FileOutputStream(pageFile(particlesFolder, parent.pageId)), IO_BUFFER)) {
+                    pageWriter.getWriter().writeParticles(group(parentArr), out);
+                }
+                pageFile(particlesFolder, current.pageId).delete();
+                mergedObjects += current.ownObjects;
+                parent.ownObjects = parentArr.size;
+                current.ownObjects = 0;
+                current.remove();
+                // Descendants are no longer in the octree
+                deletePages(current);
+                mergedNodes++;
+            }
+        }
+
+        logger.info("POSTPROCESS EMPTY STATS:");
+        logger.info("    Merged nodes:    " + mergedNodes);
+        logger.info("    Merged objects:  " + mergedObjects);
+    }
+
+    private void deletePages(OctreeNode node) {
+        for (OctreeNode child : node.children) {
+            if (child != null) {
+                if (child.ownObjects > 0)
+                    pageFile(particlesFolder, child.pageId).delete();
+                child.ownObjects = 0;
+                deletePages(child);
+            }
+        }
+    }
+
+    private void toList(OctreeNode node, Array<OctreeNode> nodes) {
+        nodes.add(node);
+        for (OctreeNode child : node.children)
+            if (child != null)
+                toList(child, nodes);
+    }
+
+    /**
+     * Like {@link OctreeNode#updateNumbers()}, but uses the own object counts
+     * since the objects are not kept in the nodes
+     */
+    private int updateNumbers(OctreeNode node) {
+        node.nObjects = node.ownObjects;
+        node.childrenCount = 0;
+        for (OctreeNode child : node.children) {
+            if (child != null) {
+                node.childrenCount++;
+                node.nObjects += updateNumbers(child);
+            }
+        }
+        return node.nObjects;
+    }
+
+    /**
+     * Creates the root node like {@link IOctreeGenerator#startGeneration(Array, OctreeGeneratorParams)}
+     */
+    private OctreeNode createRoot() throws IOException {
+        if (params.sunCentre) {
+            /** THE CENTRE OF THE OCTREE IS THE SUN **/
+            double halfSize = Math.max(Math.max(furthest.x, furthest.y), furthest.z);
+            return new OctreeNode(0, 0, 0, halfSize, halfSize, halfSize, 0);
+        } else {
+            /** THE CENTRE OF THE OCTREE MAY BE ANYWHERE **/
+            // Box from furthest star to star where the volume is maximum, needs a pass over all stars
+            double volume = Double.MIN_VALUE;
+            BoundingBoxd box = new BoundingBoxd();
+            BoundingBoxd auxBox = new BoundingBoxd();
+            Vector3d pos = new Vector3d();
+            if (runs.size > 0) {
+                StarSource all = new Concat(runs);
+                StarBean sb;
+                while ((sb = all.next()) != null)
+                    volume = growBox(sb, volume, box, auxBox, pos);
+                all.close();
+            } else {
+                // All in memory, the buffer must stay untouched for the generation
+                for (StarBean sb : buffer)
+                    volume = growBox(sb, volume, box, auxBox, pos);
+            }
+            double halfSize = Math.max(Math.max(box.getDepth(), box.getHeight()), box.getWidth()) / 2d;
+            return new OctreeNode(box.getCenterX(), box.getCenterY(), box.getCenterZ(), halfSize, halfSize, halfSize, 0);
+        }
+    }
+
+    /**
+     * Sets the box to the one from the furthest star to the given star if its volume is larger
+     *
+     * @return The largest volume so far
+     */
+    private double growBox(StarBean sb, double volume, BoundingBoxd box, BoundingBoxd auxBox, Vector3d pos) {
+        auxBox.set(furthest, IOctreeGenerator.pos(sb.data, pos));
+        double vol = auxBox.getVolume();
+        if (vol > volume) {
+            box.set(auxBox);
+            return vol;
+        }
+        return volume;
+    }
+
+    /**
+     * Sorts the in-memory buffer and writes it to a new run
+     */
+    private void spillBuffer() {
+        if (buffer.size == 0)
+            return;
+        buffer.sort(comp);
+        File run = newTmpFile("run");
+        try (DataOutputStream out = output(run)) {
+            for (StarBean sb : buffer)
+                write(sb, out);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        runs.add(run);
+        logger.info("Spilled run " + runs.size + " with " + buffer.size + " stars");
+        buffer = new Array<>(1024);
+        bufferBytes = 0;
+    }
+
+    /**
+     * Merges the runs into a single sorted source, merging groups of runs to
+     * new runs first if there are too many
+     */
+    private StarSource mergeRuns() throws IOException {
+        if (runs.size == 0) {
+            // All in memory
+            buffer.sort(comp);
+            StarSource source = new ArraySource(buffer);
+            buffer = null;
+            return source;
+        }
+        buffer = null;
+        Array<File> current = new Array<>(runs);
+        runs.clear();
+        int pass = 1;
+        while (current.size > MAX_FAN_IN) {
+            Array<File> next = new Array<>();
+            for (int i = 0; i < current.size; i += MAX_FAN_IN) {
+                Array<File> group = new Array<>();
+                for (int j = i; j < Math.min(current.size, i + MAX_FAN_IN); j++)
+                    group.add(current.get(j));
+                if (group.size == 1) {
+                    next.add(group.get(0));
+                    continue;
+                }
+                File merged = newTmpFile("run");
+                try (Merge merge = new Merge(group); DataOutputStream out = output(merged)) {
+                    StarBean sb;
+                    while ((sb = merge.next()) != null)
+                        write(sb, out);
+                }
+                for (File f : group)
+                    f.delete();
+                next.add(merged);
+            }
+            logger.info("Merge pass " + pass++ + ": " + current.size + " runs to " + next.size);
+            current = next;
+        }
+        return new Merge(current);
+    }
+
+    /**
+     * The stars of one level, grouped by octant. Spilled to disk in runs
+     * sorted by octant when they exceed the budget.
+     */
+    private class LevelPages {
+        private final LongMap<Array<StarBean>> stars = new LongMap<>();
+        private final LongMap<OctreeNode> nodes = new LongMap<>();
+        private final Array<File> levelRuns = new Array<>();
+        private long bytes = 0;
+
+        /**
+         * Adds a star to the given octant
+         *
+         * @return The number of stars in the octant
+         */
+        int add(OctreeNode octant, StarBean sb) throws IOException {
+            Array<StarBean> arr = stars.get(octant.pageId);
+            if (arr == null) {
+                // Array of a fraction of max part (four array resizes gives max part)
+                arr = new Array<>((int) Math.round(params.maxPart * 0.10662224073));
+                stars.put(octant.pageId, arr);
+                nodes.put(octant.pageId, octant);
+            }
+            arr.add(sb);
+            bytes += beanBytes(sb);
+            if (bytes >= memoryBudget)
+                spill();
+            return ++octant.ownObjects;
+        }
+
+        private long[] sortedKeys() {
+            long[] keys = stars.keys().toArray().toArray();
+            Arrays.sort(keys);
+            return keys;
+        }
+
+        private void spill() throws IOException {
+            File run = newTmpFile("level");
+            try (DataOutputStream out = output(run)) {
+                for (long id : sortedKeys()) {
+                    Array<StarBean> arr = stars.get(id);
+                    out.writeLong(id);
+                    out.writeInt(arr.size);
+                    for (StarBean sb : arr)
+                        write(sb, out);
+                }
+            }
+            levelRuns.add(run);
+            stars.clear();
+            bytes = 0;
+        }
+
+        /**
+         * Writes the pages of all the octants of the level
+         */
+        void finish() throws IOException {
+            int nPages = 0;
+            if (levelRuns.size == 0) {
+                for (long id : sortedKeys()) {
+                    writePage(nodes.get(id), stars.get(id));
+                    nPages++;
+                }
+            } else {
+                if (stars.size > 0)
+                    spill();
+                // Blocks of the same octant go in run order, which keeps the magnitude order
+                PriorityQueue<BlockReader> queue = new PriorityQueue<>((b1, b2) -> b1.pageId != b2.pageId ? Long.compare(b1.pageId, b2.pageId) : Integer.compare(b1.index, b2.index));
+                for (int i = 0; i < levelRuns.size; i++) {
+                    BlockReader br = new BlockReader(levelRuns.get(i), i);
+                    if (br.nextBlock())
+                        queue.add(br);
+                }
+                while (!queue.isEmpty()) {
+                    long id = queue.peek().pageId;
+                    Array<StarBean> page = new Array<>();
+                    while (!queue.isEmpty() && queue.peek().pageId == id) {
+                        BlockReader br = queue.poll();
+                        br.readBlock(page);
+                        if (br.nextBlock())
+                            queue.add(br);
+                        else
+                            br.close();
+                    }
+                    writePage(nodes.get(id), page);
+                    nPages++;
+                }
+                for (File f : levelRuns)
+                    f.delete();
+            }
+            stars.clear();
+            nodes.clear();
+            if (nPages > 0)
+                logger.info(nPages + " pages written" + (levelRuns.size > 0 ? " (" + levelRuns.size + " level runs)" : ""));
+        }
+    }
+
+    private void writePage(OctreeNode node, Array<StarBean> list) {
+        long bytes = 0;
+        for (StarBean sb : list)
+            bytes += beanBytes(sb);
+        pageWriter.write(pageFile(particlesFolder, node.pageId), group(list), bytes);
+    }
+
+    private Array<AbstractPositionEntity> group(Array<StarBean> list) {
+        StarGroup sg = new StarGroup();
+        sg.setData(list, false);
+        Array<AbstractPositionEntity> l = new Array<>(1);
+        l.add(sg);
+        return l;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Array<StarBean> readPage(OctreeNode node) throws FileNotFoundException {
+        Array<AbstractPositionEntity> l = pageWriter.getWriter().readParticles(new BufferedInputStream(new FileInputStream(pageFile(particlesFolder, node.pageId)), IO_BUFFER));
+        return new Array<>(((StarGroup) l.get(0)).data());
+    }
+
+    private static long beanBytes(StarBean sb) {
+        return BEAN_BYTES + (sb.name != null ? 2L * sb.name.length() : 0L);
+    }
+
+    private static void write(StarBean sb, DataOutputStream out) throws IOException {
+        for (int i = 0; i < StarBean.SIZE; i++)
+            out.writeDouble(sb.data[i]);
+        out.writeLong(sb.id != null ? sb.id : -1L);
+        out.writeBoolean(sb.name != null);
+        if (sb.name != null)
+            out.writeUTF(sb.name);
+    }
+
+    private static StarBean read(DataInputStream in) throws IOException {
+        double[] data = new double[StarBean.SIZE];
+        for (int i = 0; i < StarBean.SIZE; i++)
+            data[i] = in.readDouble();
+        long id = in.readLong();
+        String name = in.readBoolean() ? in.readUTF() : null;
+        return new StarBean(data, id, name);
+    }
+
+    private static DataOutputStream output(File f) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f), IO_BUFFER));
+    }
+
+    private static DataInputStream input(File f) throws IOException {
+        return new DataInputStream(new BufferedInputStream(new FileInputStream(f), IO_BUFFER));
+    }
+
+    private File newTmpFile(String prefix) {
+        try {
+            if (tmpFolder == null)
+                tmpFolder = (tmpParent != null ? Files.createTempDirectory(tmpParent.toPath(), "octreegen") : Files.createTempDirectory("octreegen")).toFile();
+            return new File(tmpFolder, prefix + "_" + (tmpFiles++) + ".bin");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void deleteTmpFolder() {
+        if (tmpFolder != null) {
+            File[] files = tmpFolder.listFiles();
+            if (files != null)
+                for (File f : files)
+                    f.delete();
+            tmpFolder.delete();
+            tmpFolder = null;
+        }
+    }
+
+    /**
+     * Sequential source of stars
+     */
+    private interface StarSource extends Closeable {
+        /**
+         * @return The next star, or null if there are no more
+         */
+        StarBean next() throws IOException;
+    }
+
+    private static class ArraySource implements StarSource {
+        private final Array<StarBean> stars;
+        private int i = 0;
+
+        ArraySource(Array<StarBean> stars) {
+            this.stars = stars;
+        }
+
+        @Override
+        public StarBean next() {
+            if (i == stars.size)
+                return null;
+            StarBean sb = stars.get(i);
+            // Release the reference, the star goes to a page
+            stars.set(i++, null);
+            return sb;
+        }
+
+        @Override
+        public void close() {
+            stars.clear();
+        }
+    }
+
+    private static class RunSource implements StarSource {
+        private final DataInputStream in;
+        private boolean eof = false;
+
+        RunSource(File run) throws IOException {
+            this.in = input(run);
+        }
+
+        @Override
+        public StarBean next() throws IOException {
+            if (eof)
+                return null;
+            if (!in.markSupported())
+                return read(in);
+            in.mark(1);
+            if (in.read() < 0) {
+                eof = true;
+                return null;
+            }
+            in.reset();
+            return read(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    /**
+     * All the stars of the given runs, one run after the other
+     */
+    private static class Concat implements StarSource {
+        private final Array<File> files;
+        private int i = 0;
+        private RunSource current;
+
+        Concat(Array<File> files) {
+            this.files = files;
+        }
+
+        @Override
+        public StarBean next() throws IOException {
+            while (true) {
+                if (current == null) {
+                    if (i == files.size)
+                        return null;
+                    current = new RunSource(files.get(i++));
+                }
+                StarBean sb = current.next();
+                if (sb != null)
+                    return sb;
+                current.close();
+                current = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (current != null)
+                current.close();
+        }
+    }
+
+    /**
+     * K-way merge of sorted runs. Ties are resolved in run order, so the merge
+     * is stable and gives the same order as sorting the whole catalog.
+     */
+    private class Merge implements StarSource {
+        private final PriorityQueue<Head> queue;
+        private final RunSource[] sources;
+
+        Merge(Array<File> files) throws IOException {
+            sources = new RunSource[files.size];
+            queue = new PriorityQueue<>(Math.max(1, files.size), (h1, h2) -> {
+                int c = comp.compare(h1.star, h2.star);
+                return c != 0 ? c : Integer.compare(h1.index, h2.index);
+            });
+            for (int i = 0; i < files.size; i++) {
+                sources[i] = new RunSource(files.get(i));
+                StarBean sb = sources[i].next();
+                if (sb != null)
+                    queue.add(new Head(sb, i));
+            }
+        }
+
+        @Override
+        public StarBean next() throws IOException {
+            Head head = queue.poll();
+            if (head == null)
+                return null;
+            StarBean sb = head.star;
+            StarBean next = sources[head.index].next();
+            if (next != null) {
+                head.star = next;
+                queue.add(head);
+            }
+            return sb;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (RunSource source : sources)
+                source.close();
+        }
+    }
+
+    private static class Head {
+        StarBean star;
+        final int index;
+
+        Head(StarBean star, int index) {
+            this.star = star;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Reads the octant blocks of a level run
+     */
+    private static class BlockReader implements Closeable {
+        private final DataInputStream in;
+        final int index;
+        long pageId;
+        private int count;
+
+        BlockReader(File run, int index) throws IOException {
+            this.in = input(run);
+            this.index = index;
+        }
+
+        /**
+         * Reads the header of the next block
+         *
+         * @return False if there are no more blocks
+         */
+        boolean nextBlock() throws IOException {
+            try {
+                pageId = in.readLong();
+            } catch (EOFException e) {
+                close();
+                return false;
+            }
+            count = in.readInt();
+            return true;
+        }
+
+        void readBlock(Array<StarBean> out) throws IOException {
+            for (int i = 0; i < count; i++)
+                out.add(read(in));
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -29,7 +29,7 @@ public class OctreeGeneratorMag implements IOctreeGenerator {
 
     private OctreeGeneratorParams params;
     private Comparator<StarBean> comp;
-    private OctreeNode root;
+    protected OctreeNode root;
 
     public OctreeGeneratorMag(OctreeGeneratorParams params) {
         this.params = params;
@@ -133,7 +133,7 @@ public class OctreeGeneratorMag implements IOctreeGenerator {
         return root;
     }
 
-    private OctreeNode createOctant(Long id, double x, double y, double z, int level) {
+    protected OctreeNode createOctant(Long id, double x, double y, double z, int level) {
         Vector3d min = new Vector3d();
         OctreeNode current = root;
         for (int l = 1; l <= level; l++) {
@@ -7,8 +7,6 @@ package gaia.cu9.ari.gaiaorbit.data.orbit;
 
 import gaia.cu9.ari.gaiaorbit.data.util.PointCloudData;
 import gaia.cu9.ari.gaiaorbit.util.Constants;
-import gaia.cu9.ari.gaiaorbit.util.math.Matrix4d;
-import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 import gaia.cu9.ari.gaiaorbit.util.parse.Parser;
 
 import java.io.BufferedReader;
@@ -34,30 +32,22 @@ public class FileDataLoader {
         BufferedReader br = new BufferedReader(new InputStreamReader(data));
         String line;
 
-        Timestamp last = new Timestamp(0);
+        long last = Long.MIN_VALUE;
+        String[] tokens = new String[4];
         while ((line = br.readLine()) != null) {
             if (!line.isEmpty() && !line.startsWith("#")) {
                 // Read line
-                String[] tokens = line.split("\\s+");
-                if (tokens.length >= 4) {
+                if (split(line, tokens) >= 4) {
                     // Valid data line
-                    Timestamp t = Timestamp.valueOf(tokens[0].replace('_', ' '));
-                    Matrix4d transform = new Matrix4d();
-                    transform.scl(Constants.KM_TO_U);
-                    if (!t.equals(last)) {
-                        orbitData.time.add(t.toInstant());
-
+                    long t = Timestamp.valueOf(tokens[0].replace('_', ' ')).getTime();
+                    if (t != last) {
                         /* From Data coordinates to OpenGL world coordinates
                          * Z -> -X
                          * X -> Y
                          * Y -> Z
                         */
-                        Vector3d pos = new Vector3d(parsed(tokens[1]), parsed(tokens[2]), parsed(tokens[3]));
-                        pos.mul(transform);
-                        orbitData.x.add(pos.x);
-                        orbitData.y.add(pos.y);
-                        orbitData.z.add(pos.z);
-                        last.setTime(t.getTime());
+                        orbitData.addPoint(parsed(tokens[1]) * Constants.KM_TO_U, parsed(tokens[2]) * Constants.KM_TO_U, parsed(tokens[3]) * Constants.KM_TO_U, t);
+                        last = t;
                     }
                 }
             }
@@ -68,6 +58,29 @@ public class FileDataLoader {
         return orbitData;
     }
 
+    /**
+     * Splits the line at whitespace into the first tokens, without regular
+     * expressions
+     *
+     * @param line   The line
+     * @param tokens The tokens are put here
+     * @return The number of tokens found, up to the length of the array
+     */
+    private static int split(String line, String[] tokens) {
+        int n = 0, len = line.length(), i = 0;
+        while (n < tokens.length) {
+            while (i < len && Character.isWhitespace(line.charAt(i)))
+                i++;
+            if (i == len)
+                break;
+            int start = i;
+            while (i < len && !Character.isWhitespace(line.charAt(i)))
+                i++;
+            tokens[n++] = line.substring(start, i);
+        }
+        return n;
+    }
+
     protected float parsef(String str) {
         return Parser.parseFloat(str);
     }
@@ -43,10 +43,10 @@ public class OrbitDataWriter {
         BufferedWriter bw = new BufferedWriter(fw);
         bw.write("#time X Y Z");
         bw.newLine();
-        int n = data.x.size;
+        int n = data.getNumPoints();
 
         for (int i = 0; i < n; i++) {
-            bw.write(df.format(data.time.get(i)) + " " + (data.x.get(i) * Constants.U_TO_KM) + " " + (data.y.get(i) * Constants.U_TO_KM) + " " + (data.z.get(i) * Constants.U_TO_KM));
+            bw.write(df.format(data.getDate(i)) + " " + (data.getX(i) * Constants.U_TO_KM) + " " + (data.getY(i) * Constants.U_TO_KM) + " " + (data.getZ(i) * Constants.U_TO_KM));
             bw.newLine();
         }
 
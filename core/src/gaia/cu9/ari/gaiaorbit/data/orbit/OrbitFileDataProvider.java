@@ -12,33 +12,72 @@ import gaia.cu9.ari.gaiaorbit.event.EventManager;
 import gaia.cu9.ari.gaiaorbit.event.Events;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
+import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+
+import java.io.File;
+import java.io.IOException;
 
 /**
- * Reads an orbit file into an OrbitData object.
+ * Reads an orbit file into an OrbitData object. The parsed orbit is written
+ * to a binary file next to the orbit file (with the {@link #BINARY_EXTENSION}
+ * extension appended), which is read instead of the orbit file in later runs
+ * as long as it is not older than it.
  * 
  * @author Toni Sagrista
  *
  */
 public class OrbitFileDataProvider implements IOrbitDataProvider {
+    private static final Log logger = Logger.getLogger(OrbitFileDataProvider.class);
+
+    public static final String BINARY_EXTENSION = ".bin";
+
     PointCloudData data;
 
     @Override
     public void load(String file, OrbitDataLoaderParameter parameter) {
-        FileDataLoader odl = new FileDataLoader();
         try {
             FileHandle f = GlobalConf.data.dataFileHandle(file);
-            data = odl.load(f.read());
+            data = loadBinary(f);
+            if (data == null) {
+                FileDataLoader odl = new FileDataLoader();
+                data = odl.load(f.read());
+                writeBinary(f, data);
+            }
             if (parameter.multiplier != 1f) {
-                int n = data.x.size;
-                for (int i = 0; i < n; i++) {
-                    data.x.set(i, data.x.get(i) * parameter.multiplier);
-                    data.y.set(i, data.y.get(i) * parameter.multiplier);
-                    data.z.set(i, data.z.get(i) * parameter.multiplier);
-                }
+                data.scale(parameter.multiplier);
             }
             EventManager.instance.post(Events.ORBIT_DATA_LOADED, data, file);
         } catch (Exception e) {
-            Logger.getLogger(this.getClass()).error(e);
+            logger.error(e);
+        }
+    }
+
+    private File binaryFile(FileHandle f) {
+        File file = f.file();
+        return file.isFile() ? new File(file.getPath() + BINARY_EXTENSION) : null;
+    }
+
+    private PointCloudData loadBinary(FileHandle f) {
+        File bin = binaryFile(f);
+        if (bin != null && bin.isFile() && bin.lastModified() >= f.file().lastModified()) {
+            try {
+                return PointCloudData.read(bin);
+            } catch (IOException e) {
+                logger.error(e, "Error reading binary orbit file, using " + f.name());
+            }
+        }
+        return null;
+    }
+
+    private void writeBinary(FileHandle f, PointCloudData data) {
+        File bin = binaryFile(f);
+        if (bin != null && bin.getParentFile().canWrite() && data.hasTimes()) {
+            try {
+                data.write(bin);
+            } catch (IOException e) {
+                logger.debug("Binary orbit file can't be written: " + bin.getPath());
+                bin.delete();
+            }
         }
     }
 
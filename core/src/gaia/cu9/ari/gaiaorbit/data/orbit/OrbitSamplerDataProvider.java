@@ -96,19 +96,27 @@ public class OrbitSamplerDataProvider implements IOrbitDataProvider {
         // If num samples is not defined, we use 300 samples per year of period
         int numSamples = parameter.numSamples > 0 ? parameter.numSamples : (int) (300 * parameter.orbitalPeriod / 365);
         numSamples = Math.max(100, Math.min(2000, numSamples));
-        data = new PointCloudData();
+        data = new PointCloudData(numSamples + 2);
         String bodyDesc = parameter.name;
         Instant d = Instant.ofEpochMilli(parameter.ini.getTime());
         double last = 0, accum = 0;
-        Vector3d ecl = new Vector3d();
 
         // Milliseconds of this orbit in one revolution
         long orbitalMs = (long) parameter.orbitalPeriod * 24 * 60 * 60 * 1000;
         long stepMs = orbitalMs / numSamples;
 
+        // Compute all the samples in a batch
+        Instant[] instants = new Instant[numSamples + 1];
+        Vector3d[] ecls = new Vector3d[numSamples + 1];
+        for (int i = 0; i <= numSamples; i++) {
+            instants[i] = Instant.ofEpochMilli(d.toEpochMilli() + i * stepMs);
+            ecls[i] = new Vector3d();
+        }
+        AstroUtils.getEclipticCoordinates(bodyDesc, instants, numSamples + 1, ecls, true);
+
         // Load vsop orbit data
         for (int i = 0; i <= numSamples; i++) {
-            AstroUtils.getEclipticCoordinates(bodyDesc, d, ecl, true);
+            Vector3d ecl = ecls[i];
 
             if (last == 0) {
                 last = Math.toDegrees(ecl.x);
@@ -123,19 +131,13 @@ public class OrbitSamplerDataProvider implements IOrbitDataProvider {
 
             Coordinates.sphericalToCartesian(ecl, ecl);
             ecl.mul(Coordinates.eclToEq()).scl(1);
-            data.x.add(ecl.x);
-            data.y.add(ecl.y);
-            data.z.add(ecl.z);
             d = Instant.ofEpochMilli(d.toEpochMilli() + stepMs);
-            data.time.add(Instant.ofEpochMilli(d.toEpochMilli()));
+            data.addPoint(ecl.x, ecl.y, ecl.z, d.toEpochMilli());
         }
 
         // Close the circle
-        data.x.add(data.x.get(0));
-        data.y.add(data.y.get(0));
-        data.z.add(data.z.get(0));
         d = Instant.ofEpochMilli(d.toEpochMilli() + stepMs);
-        data.time.add(Instant.ofEpochMilli(d.toEpochMilli()));
+        data.addPoint(data.getX(0), data.getY(0), data.getZ(0), d.toEpochMilli());
 
         if (writeData) {
             try {
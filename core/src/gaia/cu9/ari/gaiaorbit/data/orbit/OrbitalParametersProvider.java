@@ -92,15 +92,9 @@ public class OrbitalParametersProvider implements IOrbitDataProvider {
                     y *= Constants.M_TO_U;
                     z *= Constants.M_TO_U;
 
-                    data.x.add(y);
-                    data.y.add(z);
-                    data.z.add(x);
-                    data.time.add(AstroUtils.julianDateToInstant(epoch + t));
+                    data.addPoint(y, z, x, AstroUtils.julianDateToInstant(epoch + t).toEpochMilli());
                 }
-                data.x.add(data.getX(0));
-                data.y.add(data.getY(0));
-                data.z.add(data.getZ(0));
-                data.time.add(data.getDate(0));
+                data.addPoint(data.getX(0), data.getY(0), data.getZ(0), data.getTime(0));
 
                 EventManager.instance.post(Events.ORBIT_DATA_LOADED, data, parameter.name);
             } catch (Exception e) {
@@ -137,10 +131,7 @@ public class OrbitalParametersProvider implements IOrbitDataProvider {
             data = new PointCloudData();
             for (Vector3d point : samples) {
                 point.mul(transform);
-                data.x.add(point.x);
-                data.y.add(point.y);
-                data.z.add(point.z);
-                data.time.add(Instant.now());
+                data.addPoint(point, Instant.now());
             }
             EventManager.instance.post(Events.ORBIT_DATA_LOADED, data, parameter.name);
         } catch (Exception e) {
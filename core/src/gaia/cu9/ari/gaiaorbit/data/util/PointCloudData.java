@@ -6,44 +6,93 @@
 package gaia.cu9.ari.gaiaorbit.data.util;
 
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.utils.Array;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.time.Instant;
+import java.util.Arrays;
 
+/**
+ * A sequence of points, optionally with the time of each of them, such as the
+ * samples of an orbit or a trajectory. The coordinates are kept in a single
+ * primitive array of consecutive (x, y, z) triplets, and the times in a
+ * primitive array of epoch milliseconds, so that a point costs 32 bytes and no
+ * objects.
+ * <p>
+ * Point clouds can be written to and read from a binary file (big endian): a
+ * header with the magic number, the format version, the number of points and
+ * whether they have times; then the times, if any, and the coordinates.
+ */
 public class PointCloudData {
-    // Values of x, y, z in world coordinates
-    public Array<Double> x, y, z;
-    public Array<Instant> time;
+    private static final int MAGIC = 0x50434431;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 16;
 
-    private Vector3d v0, v1;
+    // Values of x, y, z in world coordinates, as consecutive triplets
+    private double[] points;
+    // Times in epoch milliseconds, sorted
+    private long[] times;
+    private int size, timesSize;
+
+    /**
+     * Index of the last interval found by {@link #loadPoint(Vector3d, long)},
+     * only a hint, since the interpolation is usually called with times close
+     * to the previous one
+     */
+    private int lastIndex;
 
     public PointCloudData() {
         this(16);
     }
 
     public PointCloudData(int capacity) {
-        x = new Array<>(capacity);
-        y = new Array<>(capacity);
-        z = new Array<>(capacity);
-        time = new Array<>(capacity);
+        capacity = Math.max(1, capacity);
+        points = new double[capacity * 3];
+        times = new long[0];
+    }
 
-        v0 = new Vector3d();
-        v1 = new Vector3d();
+    /**
+     * Creates a point cloud backed by the given arrays, which are not copied
+     *
+     * @param points The points as consecutive (x, y, z) triplets
+     * @param times  The times of the points in epoch milliseconds, sorted, or
+     *               null if the points have no times
+     * @param n      The number of points
+     */
+    public PointCloudData(double[] points, long[] times, int n) {
+        if (points.length < n * 3 || (times != null && times.length < n))
+            throw new IllegalArgumentException("The arrays can't hold " + n + " points");
+        this.points = points;
+        this.times = times != null ? times : new long[0];
+        this.size = n;
+        this.timesSize = times != null ? n : 0;
     }
 
     /** Clears all data **/
     public void clear() {
-        x.clear();
-        y.clear();
-        z.clear();
-        time.clear();
-        v0.setZero();
-        v1.setZero();
+        size = 0;
+        timesSize = 0;
+        lastIndex = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
     }
 
-    public boolean isEmpty(){
-        return x.isEmpty() && y.isEmpty() && z.isEmpty();
+    /**
+     * Makes sure there is room for the given number of points without growing
+     * the arrays
+     *
+     * @param capacity The number of points
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity * 3 > points.length)
+            points = Arrays.copyOf(points, Math.max(capacity, size + (size >> 1)) * 3);
     }
 
     /**
@@ -56,11 +105,9 @@ public class PointCloudData {
     public void addPoints(double[] points) {
         if (points.length % 3 == 0) {
             int nPoints = points.length / 3;
-            for (int i = 0; i < nPoints; i++) {
-                x.add(points[i * 3]);
-                y.add(points[i * 3 + 1]);
-                z.add(points[i * 3 + 2]);
-            }
+            ensureCapacity(size + nPoints);
+            System.arraycopy(points, 0, this.points, size * 3, points.length);
+            size += nPoints;
         }
     }
 
@@ -70,9 +117,50 @@ public class PointCloudData {
      * @param point The point
      */
     public void addPoint(Vector3d point) {
-        x.add(point.x);
-        y.add(point.y);
-        z.add(point.z);
+        addPoint(point.x, point.y, point.z);
+    }
+
+    /**
+     * Adds a single point to this point cloud
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     */
+    public void addPoint(double x, double y, double z) {
+        ensureCapacity(size + 1);
+        int i = size * 3;
+        points[i] = x;
+        points[i + 1] = y;
+        points[i + 2] = z;
+        size++;
+    }
+
+    /**
+     * Adds a single point with its time to this point cloud. Times must be
+     * added in increasing order.
+     *
+     * @param x    The x coordinate
+     * @param y    The y coordinate
+     * @param z    The z coordinate
+     * @param time The time in epoch milliseconds
+     */
+    public void addPoint(double x, double y, double z, long time) {
+        addPoint(x, y, z);
+        if (timesSize == times.length)
+            times = Arrays.copyOf(times, Math.max(size, timesSize + (timesSize >> 1)));
+        times[timesSize++] = time;
+    }
+
+    /**
+     * Adds a single point with its time to this point cloud. Times must be
+     * added in increasing order.
+     *
+     * @param point The point
+     * @param time  The time
+     */
+    public void addPoint(Vector3d point, Instant time) {
+        addPoint(point.x, point.y, point.z, time.toEpochMilli());
     }
 
     /**
@@ -83,39 +171,67 @@ public class PointCloudData {
      * @param index
      */
     public void loadPoint(Vector3d v, int index) {
-        v.set(x.get(index), y.get(index), z.get(index));
+        int i = index * 3;
+        v.set(points[i], points[i + 1], points[i + 2]);
     }
 
     public int getNumPoints() {
-        return x.size;
+        return size;
+    }
+
+    /**
+     * @return Whether every point has a time
+     */
+    public boolean hasTimes() {
+        return size > 0 && timesSize == size;
     }
 
     public double getX(int index) {
-        return x.get(index);
+        return points[index * 3];
     }
 
-    public void setX(int index, double value){
-        x.set(index, value);
+    public void setX(int index, double value) {
+        points[index * 3] = value;
     }
 
     public double getY(int index) {
-        return y.get(index);
+        return points[index * 3 + 1];
     }
 
-    public void setY(int index, double value){
-        y.set(index, value);
+    public void setY(int index, double value) {
+        points[index * 3 + 1] = value;
     }
 
     public double getZ(int index) {
-        return z.get(index);
+        return points[index * 3 + 2];
     }
 
-    public void setZ(int index, double value){
-        z.set(index, value);
+    public void setZ(int index, double value) {
+        points[index * 3 + 2] = value;
     }
 
     public Instant getDate(int index) {
-        return time.get(index);
+        return Instant.ofEpochMilli(getTime(index));
+    }
+
+    /**
+     * @param index The index of the point
+     * @return The time of the point in epoch milliseconds
+     */
+    public long getTime(int index) {
+        if (index >= timesSize)
+            throw new IndexOutOfBoundsException("index can't be >= " + timesSize + ": " + index);
+        return times[index];
+    }
+
+    /**
+     * Multiplies all the coordinates by the given factor
+     *
+     * @param factor The factor
+     */
+    public void scale(double factor) {
+        for (int i = 0; i < size * 3; i++)
+            points[i] *= factor;
     }
 
     /**
@@ -126,7 +242,8 @@ public class PointCloudData {
      * @param index
      */
     public void loadPointF(Vector3 v, int index) {
-        v.set(x.get(index).floatValue(), y.get(index).floatValue(), z.get(index).floatValue());
+        int i = index * 3;
+        v.set((float) points[i], (float) points[i + 1], (float) points[i + 2]);
     }
 
     /**
@@ -138,56 +255,117 @@ public class PointCloudData {
      * @return Whether the operation completes successfully
      */
     public boolean loadPoint(Vector3d v, Instant instant) {
-        // Data is sorted
-        int idx = binarySearch(time, instant);
+        return loadPoint(v, instant.toEpochMilli());
+    }
 
-        if (idx < 0 || idx >= time.size) {
+    /**
+     * Returns a vector with the data point at the given time. It uses linear
+     * interpolation
+     *
+     * @param v    The vector
+     * @param time The time in epoch milliseconds
+     * @return Whether the operation completes successfully
+     */
+    public boolean loadPoint(Vector3d v, long time) {
+        int idx = search(time);
+        if (idx < 0) {
             // No data for this time
             return false;
         }
 
-        if (time.get(idx).equals(instant)) {
-            v.set(x.get(idx), y.get(idx), z.get(idx));
+        long t0 = times[idx];
+        if (t0 == time || idx == timesSize - 1) {
+            loadPoint(v, idx);
         } else {
             // Interpolate
-            loadPoint(v0, idx);
-            loadPoint(v1, idx + 1);
-            Instant t0 = time.get(idx);
-            Instant t1 = time.get(idx + 1);
-
-            double scl = (double) (instant.toEpochMilli() - t0.toEpochMilli()) / (t1.toEpochMilli() - t0.toEpochMilli());
-            v.set(v1.sub(v0).scl(scl).add(v0));
+            long t1 = times[idx + 1];
+            double scl = (double) (time - t0) / (t1 - t0);
+            int i = idx * 3;
+            v.set(points[i] + (points[i + 3] - points[i]) * scl, points[i + 1] + (points[i + 4] - points[i + 1]) * scl, points[i + 2] + (points[i + 5] - points[i + 2]) * scl);
         }
         return true;
     }
 
-    private int binarySearch(Array<Instant> times, Instant elem) {
-        long time = elem.toEpochMilli();
-        if (time >= times.get(0).toEpochMilli() && time <= times.get(times.size - 1).toEpochMilli()) {
-            return binarySearch(times, time, 0, times.size - 1);
-        } else {
+    /**
+     * Index of the last point whose time is not after the given one, trying
+     * the interval of the previous search and the next one before doing a
+     * binary search
+     *
+     * @return The index, or -1 if the time is out of the data
+     */
+    private int search(long time) {
+        int n = Math.min(timesSize, size);
+        if (n == 0 || time < times[0] || time > times[n - 1])
             return -1;
+
+        int i = lastIndex;
+        if (i < n - 1 && times[i] <= time) {
+            if (time < times[i + 1])
+                return i;
+            if (i < n - 2 && time < times[i + 2])
+                return lastIndex = i + 1;
         }
+
+        // Last index with times[idx] <= time
+        int lo = 0, hi = n - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (times[mid] <= time)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+        return lastIndex = lo;
     }
 
-    private int binarySearch(Array<Instant> times, long time, int i0, int i1) {
-        if (i0 > i1) {
-            return -1;
-        } else if (i0 == i1) {
-            if (times.get(i0).toEpochMilli() > time) {
-                return i0 - 1;
-            } else {
-                return i0;
-            }
+    /**
+     * Writes the points and times to the given binary file
+     *
+     * @param file The file
+     * @throws IOException If the file can't be written
+     */
+    public void write(File file) throws IOException {
+        boolean withTimes = hasTimes();
+        long bytes = HEADER_SIZE + (withTimes ? size * 8L : 0) + size * 24L;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(bytes);
+            MappedByteBuffer b = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+            b.putInt(MAGIC).putInt(VERSION).putInt(size).putInt(withTimes ? 1 : 0);
+            if (withTimes)
+                b.asLongBuffer().put(times, 0, size);
+            b.position(b.position() + (withTimes ? size * 8 : 0));
+            b.asDoubleBuffer().put(points, 0, size * 3);
+            b.force();
         }
+    }
 
-        int mid = (i0 + i1) / 2;
-        if (times.get(mid).toEpochMilli() == time) {
-            return mid;
-        } else if (times.get(mid).toEpochMilli() < time) {
-            return binarySearch(times, time, mid + 1, i1);
-        } else {
-            return binarySearch(times, time, i0, mid);
+    /**
+     * Reads a point cloud from the given binary file, written with
+     * {@link #write(File)}. The file is memory-mapped and copied to the arrays
+     * in bulk.
+     *
+     * @param file The file
+     * @return The point cloud
+     * @throws IOException If the file can't be read or is not a point cloud
+     */
+    public static PointCloudData read(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            ByteBuffer b = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, raf.length());
+            if (b.remaining() < HEADER_SIZE || b.getInt() != MAGIC || b.getInt() != VERSION)
+                throw new IOException("Not a point cloud file: " + file.getAbsolutePath());
+            int n = b.getInt();
+            boolean withTimes = b.getInt() != 0;
+            if (n < 0 || b.remaining() != (withTimes ? n * 8L : 0) + n * 24L)
+                throw new IOException("Point cloud file is truncated: " + file.getAbsolutePath());
+            long[] times = null;
+            if (withTimes) {
+                times = new long[n];
+                b.asLongBuffer().get(times);
+                b.position(b.position() + n * 8);
+            }
+            double[] points = new double[n * 3];
+            b.asDoubleBuffer().get(points);
+            return new PointCloudData(points, times, n);
         }
     }
 
@@ -34,6 +34,7 @@ import gaia.cu9.ari.gaiaorbit.render.PostProcessorFactory;
 import gaia.cu9.ari.gaiaorbit.screenshot.ScreenshotsManager;
 import gaia.cu9.ari.gaiaorbit.util.*;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.EphemerisCache;
 import gaia.cu9.ari.gaiaorbit.util.format.DateFormatFactory;
 import gaia.cu9.ari.gaiaorbit.util.format.NumberFormatFactory;
 import gaia.cu9.ari.gaiaorbit.util.math.MathManager;
@@ -222,6 +223,10 @@ public class GaiaSkyDesktop implements IObserver {
             // Math
             MathManager.initialize();
 
+            // Cached ephemerides
+            if (GlobalConf.data.EPHEMERIS_CACHE)
+                EphemerisCache.initialize(new File(GlobalConf.data.EPHEMERIS_CACHE_LOCATION));
+
             gsd.init();
         } catch (Exception e) {
             CrashReporter.reportCrash(e, logger);
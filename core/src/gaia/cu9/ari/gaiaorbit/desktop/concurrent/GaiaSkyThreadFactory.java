@@ -9,12 +9,13 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * The default thread factory
+ * The default thread factory. Threads are indexed from 1, index 0 is
+ * reserved for the thread which creates the tasks, see {@link MultiThreadIndexer}.
  */
 public class GaiaSkyThreadFactory implements ThreadFactory {
     private static final AtomicInteger poolNumber = new AtomicInteger(0);
     private final ThreadGroup group;
-    private final AtomicInteger threadNumber = new AtomicInteger(0);
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
     private final String namePrefix;
 
     public GaiaSkyThreadFactory() {
@@ -8,7 +8,8 @@ package gaia.cu9.ari.gaiaorbit.desktop.concurrent;
 import gaia.cu9.ari.gaiaorbit.desktop.concurrent.GaiaSkyThreadFactory.GSThread;
 
 /**
- * Thread indexer for a multithread environment.
+ * Thread indexer for a multithread environment. Pool threads have indices
+ * from 1, any other thread has index 0.
  * 
  * @author Toni Sagrista
  *
@@ -26,7 +27,7 @@ public class MultiThreadIndexer extends ThreadIndexer {
 
     @Override
     public int nthreads() {
-        return Runtime.getRuntime().availableProcessors();
+        return ThreadPoolManager.pool != null ? ThreadPoolManager.pool.getCorePoolSize() + 1 : 1;
     }
 
 }
@@ -8,6 +8,12 @@ package gaia.cu9.ari.gaiaorbit.desktop.concurrent;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * Holds the pool of {@link GaiaSkyThreadFactory.GSThread} threads used by the
+ * parallel scene graph update.
+ *
+ * @author Toni Sagrista
+ */
 public class ThreadPoolManager {
 
     /** The executor service containing the pool **/
@@ -17,4 +23,14 @@ public class ThreadPoolManager {
         pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(numThreads, new GaiaSkyThreadFactory());
     }
 
+    /**
+     * Stops the threads of the pool, if it is initialized
+     */
+    public static void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
 }
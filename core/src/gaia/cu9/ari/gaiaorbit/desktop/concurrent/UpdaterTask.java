@@ -6,25 +6,33 @@
 package gaia.cu9.ari.gaiaorbit.desktop.concurrent;
 
 import com.badlogic.gdx.utils.Array;
-import gaia.cu9.ari.gaiaorbit.scenegraph.FadeNode;
-import gaia.cu9.ari.gaiaorbit.scenegraph.Particle;
+import gaia.cu9.ari.gaiaorbit.scenegraph.AbstractPositionEntity;
 import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
 import gaia.cu9.ari.gaiaorbit.util.time.ITimeFrameProvider;
 
 import java.util.concurrent.Callable;
 
+/**
+ * Updates the nodes start, start + step, start + 2 * step, etc. of a list. A
+ * set of tasks with the same step and consecutive starts covers the whole
+ * list. Nodes in an octree get the opacity of their octant.
+ *
+ * @param <T> The node type
+ */
 public class UpdaterTask<T extends SceneGraphNode> implements Callable<Void> {
 
     ICamera camera;
     Array<T> nodes;
     ITimeFrameProvider time;
+    float opacity;
     int start, step;
 
     public UpdaterTask(Array<T> nodes, int start, int step) {
         this.nodes = nodes;
         this.start = start;
         this.step = step;
+        this.opacity = 1f;
     }
 
     public UpdaterTask(Array<T> nodes) {
@@ -36,7 +44,7 @@ public class UpdaterTask<T extends SceneGraphNode> implements Callable<Void> {
         int size = nodes.size;
         for (int i = start; i < size; i += step) {
             SceneGraphNode node = nodes.get(i);
-            float opacity = node instanceof Particle && ((Particle) node).octant != null ? ((Particle) node).octant.opacity : (node instanceof FadeNode ? 1f : node.opacity);
+            float opacity = node instanceof AbstractPositionEntity && ((AbstractPositionEntity) node).octant != null ? this.opacity * ((AbstractPositionEntity) node).octant.opacity : this.opacity;
             node.update(time, node.parent.translation, camera, opacity);
         }
         return null;
@@ -57,8 +65,20 @@ public class UpdaterTask<T extends SceneGraphNode> implements Callable<Void> {
      * @param time
      */
     public void setParameters(ICamera camera, ITimeFrameProvider time) {
+        setParameters(camera, time, 1f);
+    }
+
+    /**
+     * This must be called to prepare the updater task for execution
+     *
+     * @param camera
+     * @param time
+     * @param opacity The opacity of the parent of the nodes
+     */
+    public void setParameters(ICamera camera, ITimeFrameProvider time, float opacity) {
         this.camera = camera;
         this.time = time;
+        this.opacity = opacity;
     }
 
-}
\ No newline at end of file
+}
@@ -354,10 +354,10 @@ public class DesktopPostProcessor implements IPostProcessor, IObserver {
             }
             break;
         case CAMERA_MOTION_UPDATED:
+            // The data array is reused after this call
+            final Vector3d campos = (Vector3d) data[0];
+            final PerspectiveCamera cam = (PerspectiveCamera) data[3];
             Gdx.app.postRunnable(() -> {
-                Vector3d campos = (Vector3d) data[0];
-                PerspectiveCamera cam = (PerspectiveCamera) data[3];
-
                 for (int i = 0; i < RenderType.values().length; i++) {
                     if (pps[i] != null) {
                         PostProcessBean ppb = pps[i];
@@ -154,6 +154,10 @@ public class DesktopConfInit extends ConfInit {
 
         boolean REAL_GAIA_ATTITUDE = Boolean.parseBoolean(p.getProperty("data.attitude.real"));
         boolean HIGH_ACCURACY_POSITIONS = Boolean.parseBoolean(p.getProperty("data.highaccuracy.positions", "false"));
+        boolean EPHEMERIS_CACHE = Boolean.parseBoolean(p.getProperty("data.ephemeris.cache", "true"));
+        String EPHEMERIS_CACHE_LOCATION = p.getProperty("data.ephemeris.cache.location");
+        if (EPHEMERIS_CACHE_LOCATION == null || EPHEMERIS_CACHE_LOCATION.isEmpty())
+            EPHEMERIS_CACHE_LOCATION = SysUtils.getDefaultEphemerisDir().getAbsolutePath();
 
         float LIMIT_MAG_LOAD;
         if (p.getProperty("data.limit.mag") != null && !p.getProperty("data.limit.mag").isEmpty()) {
@@ -161,7 +165,7 @@ public class DesktopConfInit extends ConfInit {
         } else {
             LIMIT_MAG_LOAD = Float.MAX_VALUE;
         }
-        dc.initialize(DATA_LOCATION, CATALOG_JSON_FILE, OBJECTS_JSON_FILE, LIMIT_MAG_LOAD, REAL_GAIA_ATTITUDE, HIGH_ACCURACY_POSITIONS);
+        dc.initialize(DATA_LOCATION, CATALOG_JSON_FILE, OBJECTS_JSON_FILE, LIMIT_MAG_LOAD, REAL_GAIA_ATTITUDE, HIGH_ACCURACY_POSITIONS, EPHEMERIS_CACHE, EPHEMERIS_CACHE_LOCATION);
 
         /** PROGRAM CONF **/
         ProgramConf prc = new ProgramConf();
@@ -250,6 +254,12 @@ public class DesktopConfInit extends ConfInit {
         int SHADOW_MAPPING_N_SHADOWS = MathUtilsd.clamp(Integer.parseInt(p.getProperty("scene.shadowmapping.nshadows", "2")), 0, 4);
         int SHADOW_MAPPING_RESOLUTION = Integer.parseInt(p.getProperty("scene.shadowmapping.resolution", "512"));
         long MAX_LOADED_STARS = Long.parseLong(p.getProperty("scene.octree.maxstars", "10000000"));
+        int OCTREE_LOADER_THREADS = Integer.parseInt(p.getProperty("scene.octree.loader.threads", "0"));
+        int OCTREE_HEAP_BUDGET = Integer.parseInt(p.getProperty("scene.octree.budget.heap", "0"));
+        int OCTREE_VRAM_BUDGET = Integer.parseInt(p.getProperty("scene.octree.budget.vram", "0"));
+        float OCTREE_MEM_HIGH_WATERMARK = MathUtilsd.clamp(Float.parseFloat(p.getProperty("scene.octree.budget.high", "1.0")), 0.1f, 1f);
+        float OCTREE_MEM_LOW_WATERMARK = MathUtilsd.clamp(Float.parseFloat(p.getProperty("scene.octree.budget.low", "0.85")), 0.05f, OCTREE_MEM_HIGH_WATERMARK);
+        float OCTREE_PREFETCH_SECONDS = Float.parseFloat(p.getProperty("scene.octree.prefetch.seconds", "2.0"));
         // Limiting number of stars in 32-bit JVM
         if (ARCH.equals("32")) {
             MAX_LOADED_STARS = 1500000;
@@ -267,7 +277,7 @@ public class DesktopConfInit extends ConfInit {
         float STAR_POINT_SIZE = Float.parseFloat(p.getProperty("scene.star.point.size", "-1"));
         boolean LAZY_TEXTURE_INIT = true;
         SceneConf sc = new SceneConf();
-        sc.initialize(GRAPHICS_QUALITY, OBJECT_FADE_MS, STAR_BRIGHTNESS, AMBIENT_LIGHT, CAMERA_FOV, CAMERA_SPEED, TURNING_SPEED, ROTATION_SPEED, CAMERA_SPEED_LIMIT_IDX, FOCUS_LOCK, FOCUS_LOCK_ORIENTATION, LABEL_SIZE_FACTOR, LABEL_NUMBER_FACTOR, VISIBILITY, ORBIT_RENDERER, LINE_RENDERER, STAR_TH_ANGLE_NONE, STAR_TH_ANGLE_POINT, STAR_TH_ANGLE_QUAD, POINT_ALPHA_MIN, POINT_ALPHA_MAX, OCTREE_PARTICLE_FADE, OCTANT_THRESHOLD_0, OCTANT_THRESHOLD_1, PM_NUM_FACTOR, PM_LEN_FACTOR, N_PM_STARS, PM_COLOR_MODE, PM_ARROWHEADS, STAR_POINT_SIZE, GALAXY_3D, CUBEMAP_FACE_RESOLUTION, CROSSHAIR, CINEMATIC_CAMERA, LAZY_TEXTURE_INIT, FREE_CAMERA_TARGET_MODE_ON, SHADOW_MAPPING, SHADOW_MAPPING_N_SHADOWS, SHADOW_MAPPING_RESOLUTION, MAX_LOADED_STARS);
+        sc.initialize(GRAPHICS_QUALITY, OBJECT_FADE_MS, STAR_BRIGHTNESS, AMBIENT_LIGHT, CAMERA_FOV, CAMERA_SPEED, TURNING_SPEED, ROTATION_SPEED, CAMERA_SPEED_LIMIT_IDX, FOCUS_LOCK, FOCUS_LOCK_ORIENTATION, LABEL_SIZE_FACTOR, LABEL_NUMBER_FACTOR, VISIBILITY, ORBIT_RENDERER, LINE_RENDERER, STAR_TH_ANGLE_NONE, STAR_TH_ANGLE_POINT, STAR_TH_ANGLE_QUAD, POINT_ALPHA_MIN, POINT_ALPHA_MAX, OCTREE_PARTICLE_FADE, OCTANT_THRESHOLD_0, OCTANT_THRESHOLD_1, PM_NUM_FACTOR, PM_LEN_FACTOR, N_PM_STARS, PM_COLOR_MODE, PM_ARROWHEADS, STAR_POINT_SIZE, GALAXY_3D, CUBEMAP_FACE_RESOLUTION, CROSSHAIR, CINEMATIC_CAMERA, LAZY_TEXTURE_INIT, FREE_CAMERA_TARGET_MODE_ON, SHADOW_MAPPING, SHADOW_MAPPING_N_SHADOWS, SHADOW_MAPPING_RESOLUTION, MAX_LOADED_STARS, OCTREE_LOADER_THREADS, OCTREE_HEAP_BUDGET, OCTREE_VRAM_BUDGET, OCTREE_MEM_HIGH_WATERMARK, OCTREE_MEM_LOW_WATERMARK, OCTREE_PREFETCH_SECONDS);
 
         /** FRAME CONF **/
         String renderFolder = null;
@@ -294,8 +304,12 @@ public class DesktopConfInit extends ConfInit {
         CameraKeyframeManager.PathType KF_POS = CameraKeyframeManager.PathType.valueOf(p.getProperty("graphics.camera.keyframe.path.position", CameraKeyframeManager.PathType.SPLINE.toString()));
         CameraKeyframeManager.PathType KF_ORI = CameraKeyframeManager.PathType.valueOf(p.getProperty("graphics.camera.keyframe.path.orientation", CameraKeyframeManager.PathType.SPLINE.toString()));
 
+        int ENCODER_THREADS = Integer.parseInt(p.getProperty("graphics.render.encoder.threads", "0"));
+        int ENCODER_QUEUE_SIZE = Integer.parseInt(p.getProperty("graphics.render.encoder.queue", "8"));
+        ReadbackMode FRAME_READBACK = ReadbackMode.valueOf(p.getProperty("graphics.render.readback", "pbo"));
+
         FrameConf fc = new FrameConf();
-        fc.initialize(RENDER_WIDTH, RENDER_HEIGHT, RENDER_TARGET_FPS, CAMERA_REC_TARGET_FPS, AUTO_FRAME_OUTPUT_CAMERA_PLAY, RENDER_FOLDER, RENDER_FILE_NAME, RENDER_SCREENSHOT_TIME, RENDER_SCREENSHOT_TIME, FRAME_MODE, FRAME_FORMAT, FRAME_QUALITY, KF_POS, KF_ORI);
+        fc.initialize(RENDER_WIDTH, RENDER_HEIGHT, RENDER_TARGET_FPS, CAMERA_REC_TARGET_FPS, AUTO_FRAME_OUTPUT_CAMERA_PLAY, RENDER_FOLDER, RENDER_FILE_NAME, RENDER_SCREENSHOT_TIME, RENDER_SCREENSHOT_TIME, FRAME_MODE, FRAME_FORMAT, FRAME_QUALITY, KF_POS, KF_ORI, ENCODER_THREADS, ENCODER_QUEUE_SIZE, FRAME_READBACK);
 
         /** SCREEN CONF **/
         int SCREEN_WIDTH = Integer.parseInt(p.getProperty("graphics.screen.width"));
@@ -392,6 +406,9 @@ public class DesktopConfInit extends ConfInit {
         p.setProperty("graphics.render.mode", GlobalConf.frame.FRAME_MODE.toString());
         p.setProperty("graphics.render.format", GlobalConf.frame.FRAME_FORMAT.toString().toLowerCase());
         p.setProperty("graphics.render.quality", Float.toString(GlobalConf.frame.FRAME_QUALITY));
+        p.setProperty("graphics.render.encoder.threads", Integer.toString(GlobalConf.frame.ENCODER_THREADS));
+        p.setProperty("graphics.render.encoder.queue", Integer.toString(GlobalConf.frame.ENCODER_QUEUE_SIZE));
+        p.setProperty("graphics.render.readback", GlobalConf.frame.FRAME_READBACK.toString());
 
         /** DATA **/
         p.setProperty("data.location", GlobalConf.data.DATA_LOCATION);
@@ -400,6 +417,8 @@ public class DesktopConfInit extends ConfInit {
         p.setProperty("data.limit.mag", Float.toString(GlobalConf.data.LIMIT_MAG_LOAD));
         p.setProperty("data.attitude.real", Boolean.toString(GlobalConf.data.REAL_GAIA_ATTITUDE));
         p.setProperty("data.highaccuracy.positions", Boolean.toString(GlobalConf.data.HIGH_ACCURACY_POSITIONS));
+        p.setProperty("data.ephemeris.cache", Boolean.toString(GlobalConf.data.EPHEMERIS_CACHE));
+        p.setProperty("data.ephemeris.cache.location", GlobalConf.data.EPHEMERIS_CACHE_LOCATION);
 
         /** SCREEN **/
         p.setProperty("graphics.screen.width", Integer.toString(Gdx.graphics.isFullscreen() ? GlobalConf.screen.SCREEN_WIDTH : Gdx.graphics.getWidth()));
@@ -478,6 +497,12 @@ public class DesktopConfInit extends ConfInit {
         p.setProperty("scene.shadowmapping.nshadows", Integer.toString(GlobalConf.scene.SHADOW_MAPPING_N_SHADOWS));
         p.setProperty("scene.shadowmapping.resolution", Integer.toString(GlobalConf.scene.SHADOW_MAPPING_RESOLUTION));
         p.setProperty("scene.octree.maxstars", Long.toString(GlobalConf.scene.MAX_LOADED_STARS));
+        p.setProperty("scene.octree.loader.threads", Integer.toString(GlobalConf.scene.OCTREE_LOADER_THREADS));
+        p.setProperty("scene.octree.budget.heap", Integer.toString(GlobalConf.scene.OCTREE_HEAP_BUDGET));
+        p.setProperty("scene.octree.budget.vram", Integer.toString(GlobalConf.scene.OCTREE_VRAM_BUDGET));
+        p.setProperty("scene.octree.budget.high", Float.toString(GlobalConf.scene.OCTREE_MEM_HIGH_WATERMARK));
+        p.setProperty("scene.octree.budget.low", Float.toString(GlobalConf.scene.OCTREE_MEM_LOW_WATERMARK));
+        p.setProperty("scene.octree.prefetch.seconds", Float.toString(GlobalConf.scene.OCTREE_PREFETCH_SECONDS));
 
         // Visibility of components
         int idx = 0;
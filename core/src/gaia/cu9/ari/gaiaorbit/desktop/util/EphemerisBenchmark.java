@@ -0,0 +1,114 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.desktop.util;
+
+import gaia.cu9.ari.gaiaorbit.desktop.format.DesktopDateFormatFactory;
+import gaia.cu9.ari.gaiaorbit.desktop.format.DesktopNumberFormatFactory;
+import gaia.cu9.ari.gaiaorbit.interfce.ConsoleLogger;
+import gaia.cu9.ari.gaiaorbit.util.Constants;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf.DataConf;
+import gaia.cu9.ari.gaiaorbit.util.coord.AbstractOrbitCoordinates;
+import gaia.cu9.ari.gaiaorbit.util.coord.MoonAACoordinates;
+import gaia.cu9.ari.gaiaorbit.util.coord.PlutoCoordinates;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.EphemerisCache;
+import gaia.cu9.ari.gaiaorbit.util.coord.vsop87.AbstractVSOP87;
+import gaia.cu9.ari.gaiaorbit.util.format.DateFormatFactory;
+import gaia.cu9.ari.gaiaorbit.util.format.NumberFormatFactory;
+import gaia.cu9.ari.gaiaorbit.util.math.MathManager;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+
+import java.io.File;
+import java.time.Instant;
+import java.util.Random;
+
+/**
+ * Benchmarks the cached Chebyshev ephemerides against the analytic theories
+ * they are fitted to, and reports their errors.
+ * <p>
+ * Arguments: [high|low] accuracy of the theories (default low), years around
+ * the present to sample (default 50), number of samples (default 20000) and
+ * directory of the ephemeris files (default: in memory).
+ *
+ * @author tsagrista
+ */
+public class EphemerisBenchmark {
+
+    private static final String[] PLANETS = { "Mercury", "Venus", "Earth", "Mars", "Jupiter", "Saturn", "Uranus", "Neptune" };
+
+    public static void main(String[] args) throws Exception {
+        NumberFormatFactory.initialize(new DesktopNumberFormatFactory());
+        DateFormatFactory.initialize(new DesktopDateFormatFactory());
+        new ConsoleLogger();
+        boolean highAccuracy = args.length > 0 && args[0].equalsIgnoreCase("high");
+        double years = args.length > 1 ? Double.parseDouble(args[1]) : 50;
+        int samples = args.length > 2 ? Integer.parseInt(args[2]) : 20000;
+        File dir = args.length > 3 ? new File(args[3]) : null;
+
+        GlobalConf.data = new DataConf();
+        GlobalConf.data.HIGH_ACCURACY_POSITIONS = highAccuracy;
+        MathManager.initialize();
+        EphemerisCache.initialize(dir);
+
+        // Random dates around the present
+        Random rnd = new Random(42);
+        long now = System.currentTimeMillis();
+        long span = (long) (years * 365.25 * 86400000d);
+        Instant[] dates = new Instant[samples];
+        for (int i = 0; i < samples; i++)
+            dates[i] = Instant.ofEpochMilli(now + (long) ((rnd.nextDouble() * 2 - 1) * span));
+
+        System.out.println("Ephemeris cache benchmark, " + (highAccuracy ? "high" : "low") + " accuracy theories, " + samples + " dates within " + years + " years from now");
+        System.out.println(String.format("%-10s %8s %12s %12s %14s %14s %12s %12s %8s", "Body", "Window", "Max err[km]", "RMS err[km]", "Max err[mas]", "RMS err[mas]", "Theory[us]", "Cached[us]", "Speedup"));
+        for (String planet : PLANETS) {
+            AbstractVSOP87 theory = (AbstractVSOP87) Class.forName("gaia.cu9.ari.gaiaorbit.util.coord.vsop87." + planet + "VSOP87").getDeclaredConstructor().newInstance();
+            AbstractVSOP87 cached = (AbstractVSOP87) Class.forName("gaia.cu9.ari.gaiaorbit.util.coord.vsop87." + planet + "VSOP87").getDeclaredConstructor().newInstance();
+            theory.setHighAccuracy(highAccuracy);
+            cached.setHighAccuracy(highAccuracy);
+            report(planet, theory, cached, dates);
+        }
+        report("Moon", new MoonAACoordinates(), new MoonAACoordinates(), dates);
+        report("Pluto", new PlutoCoordinates(), new PlutoCoordinates(), dates);
+
+        EphemerisCache.dispose();
+    }
+
+    private static void report(String name, AbstractOrbitCoordinates theory, AbstractOrbitCoordinates cached, Instant[] dates) {
+        double window = cached.getEphemerisWindow();
+        theory.setEphemeriswindow(0d);
+        int n = dates.length;
+        Vector3d a = new Vector3d(), c = new Vector3d();
+
+        // Errors, which also fits all the segments needed
+        double maxKm = 0, sumKm2 = 0, maxMas = 0, sumMas2 = 0;
+        for (int i = 0; i < n; i++) {
+            theory.getEclipticCartesianCoordinates(dates[i], a);
+            cached.getEclipticCartesianCoordinates(dates[i], c);
+            double km = a.dst(c) * Constants.U_TO_KM;
+            double mas = Math.toDegrees(a.dst(c) / a.len()) * 3.6e6;
+            maxKm = Math.max(maxKm, km);
+            maxMas = Math.max(maxMas, mas);
+            sumKm2 += km * km;
+            sumMas2 += mas * mas;
+        }
+
+        // Timings
+        double theoryUs = time(theory, dates, a);
+        double cachedUs = time(cached, dates, c);
+
+        System.out.println(String.format("%-10s %8.1f %12.3e %12.3e %14.3e %14.3e %12.2f %12.2f %8.1f", name, window, maxKm, Math.sqrt(sumKm2 / n), maxMas, Math.sqrt(sumMas2 / n), theoryUs, cachedUs, theoryUs / cachedUs));
+    }
+
+    private static double time(AbstractOrbitCoordinates coordinates, Instant[] dates, Vector3d out) {
+        // Warm up
+        for (int i = 0; i < dates.length; i++)
+            coordinates.getEclipticCartesianCoordinates(dates[i], out);
+        long start = System.nanoTime();
+        for (int i = 0; i < dates.length; i++)
+            coordinates.getEclipticCartesianCoordinates(dates[i], out);
+        return (System.nanoTime() - start) / 1000d / dates.length;
+    }
+}
@@ -127,6 +127,7 @@ public class SysUtils {
     private static final String MAPPINGS_DIR_NAME = "mappings";
     private static final String DATA_DIR_NAME = "data";
     private static final String TMP_DIR_NAME = "tmp";
+    private static final String EPHEMERIS_DIR_NAME = "ephemeris";
     private static final String CRASHREPORTS_DIR_NAME = "crashreports";
 
     /**
@@ -201,6 +202,15 @@ public class SysUtils {
         return new File(getDataDir(), TMP_DIR_NAME);
     }
 
+    /**
+     * Gets a file pointer to the directory of the cached ephemerides.
+     *
+     * @return A pointer to the ephemeris cache directory in the user's home.
+     */
+    public static File getDefaultEphemerisDir() {
+        return new File(getDataDir(), EPHEMERIS_DIR_NAME);
+    }
+
     /**
      * Returns the default data directory. That is ~/.gaiasky/ in Windows and macOS, and ~/.local/share/gaiasky
      * in Linux.
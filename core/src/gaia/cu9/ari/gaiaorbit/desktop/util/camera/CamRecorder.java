@@ -7,10 +7,14 @@ package gaia.cu9.ari.gaiaorbit.desktop.util.camera;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Queue;
+import gaia.cu9.ari.gaiaorbit.data.OctantPrefetcher;
 import gaia.cu9.ari.gaiaorbit.desktop.util.SysUtils;
 import gaia.cu9.ari.gaiaorbit.event.EventManager;
 import gaia.cu9.ari.gaiaorbit.event.Events;
 import gaia.cu9.ari.gaiaorbit.event.IObserver;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICameraPath;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.I18n;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
@@ -34,10 +38,13 @@ import java.util.Date;
  * <p>
  * The time is the time in seconds since the start of the recording, to
  * synchronize with the current FPS in playing mode.
+ * <p>
+ * While playing, the frames are read some time ahead of the current one so
+ * that the octant prefetcher knows where the camera is going.
  *
  * @author Toni Sagrista
  */
-public class CamRecorder implements IObserver {
+public class CamRecorder implements IObserver, ICameraPath {
     private static final Log logger = Logger.getLogger(CamRecorder.class);
     /**
      * Singleton
@@ -67,6 +74,11 @@ public class CamRecorder implements IObserver {
     private long startMs;
     float time;
 
+    /** Frames read ahead of the current one while playing, as [time, pos, dir, up] **/
+    private Queue<double[]> lookahead;
+    /** Frame arrays to reuse **/
+    private Array<double[]> freeFrames;
+
     public static void initialize() {
         // Initialize own
         instance = new CamRecorder();
@@ -84,6 +96,9 @@ public class CamRecorder implements IObserver {
         aux1 = new Vector3d();
         aux2 = new Vector3d();
 
+        lookahead = new Queue<>();
+        freeFrames = new Array<>();
+
         EventManager.instance.subscribe(this, Events.RECORD_CAMERA_CMD, Events.PLAY_CAMERA_CMD, Events.UPDATE_CAM_RECORDER, Events.STOP_CAMERA_PLAY);
     }
 
@@ -105,23 +120,25 @@ public class CamRecorder implements IObserver {
             case PLAYING:
                 if (is != null) {
                     try {
-                        String line;
-                        if ((line = is.readLine()) != null) {
-                            String[] tokens = line.split("\\s+");
-                            EventManager.instance.post(Events.TIME_CHANGE_CMD, Instant.ofEpochMilli(Parser.parseLong(tokens[0])));
+                        fillLookahead();
+                        if (lookahead.size > 0) {
+                            double[] frame = lookahead.removeFirst();
+                            EventManager.instance.post(Events.TIME_CHANGE_CMD, Instant.ofEpochMilli((long) frame[0]));
 
-                            dir.set(Parser.parseDouble(tokens[4]), Parser.parseDouble(tokens[5]), Parser.parseDouble(tokens[6]));
-                            upp.set(Parser.parseDouble(tokens[7]), Parser.parseDouble(tokens[8]), Parser.parseDouble(tokens[9]));
+                            dir.set(frame[4], frame[5], frame[6]);
+                            upp.set(frame[7], frame[8], frame[9]);
 
-                            position.set(Parser.parseDouble(tokens[1]), Parser.parseDouble(tokens[2]), Parser.parseDouble(tokens[3]));
+                            position.set(frame[1], frame[2], frame[3]);
                             direction.set(dir);
                             up.set(upp);
 
+                            freeFrames.add(frame);
                         } else {
                             // Finish off
                             is.close();
                             is = null;
                             mode = RecorderState.IDLE;
+                            OctantPrefetcher.setCameraPath(null);
                             // Stop camera
                             EventManager.instance.post(Events.CAMERA_STOP);
                             // Post notification
@@ -144,6 +161,36 @@ public class CamRecorder implements IObserver {
 
     }
 
+    /**
+     * Reads frames from the camera file until the look-ahead queue covers the
+     * prefetch time, plus the current frame
+     */
+    private void fillLookahead() throws IOException {
+        int nFrames = 1 + (int) Math.ceil(Math.max(0, GlobalConf.scene.OCTREE_PREFETCH_SECONDS) * GlobalConf.frame.CAMERA_REC_TARGET_FPS);
+        String line;
+        while (lookahead.size < nFrames && (line = is.readLine()) != null) {
+            String[] tokens = line.split("\\s+");
+            double[] frame = freeFrames.size > 0 ? freeFrames.pop() : new double[10];
+            frame[0] = Parser.parseLong(tokens[0]);
+            for (int i = 1; i < 10; i++)
+                frame[i] = Parser.parseDouble(tokens[i]);
+            lookahead.addLast(frame);
+        }
+    }
+
+    @Override
+    public boolean sample(double seconds, Vector3d pos, Vector3d dir) {
+        if (mode != RecorderState.PLAYING || lookahead.size == 0)
+            return false;
+        int idx = Math.min((int) Math.round(seconds * GlobalConf.frame.CAMERA_REC_TARGET_FPS), lookahead.size) - 1;
+        if (idx < 0)
+            return false;
+        double[] frame = lookahead.get(idx);
+        pos.set(frame[1], frame[2], frame[3]);
+        dir.set(frame[4], frame[5], frame[6]);
+        return true;
+    }
+
     @Override
     public void notify(Events event, Object... data) {
         switch (event) {
@@ -226,6 +273,8 @@ public class CamRecorder implements IObserver {
                 }
 
                 is = new BufferedReader(new InputStreamReader(file.read()));
+                lookahead.clear();
+                OctantPrefetcher.setCameraPath(this);
 
                 logger.info(I18n.bundle.format("notif.cameraplay.start", file.path()));
                 mode = RecorderState.PLAYING;
@@ -251,6 +300,7 @@ public class CamRecorder implements IObserver {
             case STOP_CAMERA_PLAY:
                 // Stop playing
                 mode = RecorderState.IDLE;
+                OctantPrefetcher.setCameraPath(null);
                 // Stop camera
                 EventManager.instance.post(Events.CAMERA_STOP);
                 // Post notification
@@ -5,19 +5,27 @@
 
 package gaia.cu9.ari.gaiaorbit.event;
 
-import com.badlogic.gdx.utils.IntMap;
-import com.badlogic.gdx.utils.IntMap.Keys;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.Pool;
 import com.badlogic.gdx.utils.TimeUtils;
 import gaia.cu9.ari.gaiaorbit.GaiaSky;
 
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Event manager that allows for subscription of observers to events (identified
  * by strings), and also for the creation of event objects by anyone.
+ * <p>
+ * The observers of each event are kept in an array which is copied whenever
+ * the subscriptions change, so posting takes no locks and can be done from
+ * any thread. Observers are notified in the thread of the post. Threads other
+ * than the main loop can also use {@link #postAsync(Events, Object...)}, which
+ * leaves the event in the mailbox of the thread, to be dispatched by the main
+ * loop in {@link #dispatchMailboxes()}.
  * 
  * @author Toni Sagrista
  *
@@ -52,13 +60,39 @@ public class EventManager implements IObserver {
     /** Telegram pool **/
     private final Pool<Telegram> pool;
 
-    /** Subscriptions Event-Observers **/
-    private IntMap<Set<IObserver>> subscriptions = new IntMap<Set<IObserver>>();
+    /** Empty data, shared by all the posts without data **/
+    private static final Object[] NO_DATA = new Object[0];
+
+    /** Subscriptions Event-Observers, indexed by event ordinal **/
+    private final AtomicReferenceArray<IObserver[]> subscriptions;
+    /** Lock for the changes to the subscriptions **/
+    private final Object subscriptionsLock = new Object();
+
+    /** Reused data arrays of the transient posts of each thread **/
+    private final ThreadLocal<DataStack> dataStacks = ThreadLocal.withInitial(DataStack::new);
+
+    /** Mailboxes of the threads which post asynchronously **/
+    private final CopyOnWriteArrayList<Mailbox> mailboxes = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Mailbox> mailbox = ThreadLocal.withInitial(() -> {
+        Mailbox m = new Mailbox(Thread.currentThread());
+        mailboxes.add(m);
+        return m;
+    });
+
+    /** Metrics, indexed by event ordinal **/
+    private volatile boolean metrics = false;
+    private final AtomicLongArray dispatchCounts, dispatchNanos, mailboxCounts, mailboxNanos;
 
     /** The time frame to use if none is specified **/
     private TimeFrame defaultTimeFrame;
 
     public EventManager() {
+        int nEvents = Events.values().length;
+        this.subscriptions = new AtomicReferenceArray<>(nEvents);
+        this.dispatchCounts = new AtomicLongArray(nEvents);
+        this.dispatchNanos = new AtomicLongArray(nEvents);
+        this.mailboxCounts = new AtomicLongArray(nEvents);
+        this.mailboxNanos = new AtomicLongArray(nEvents);
         this.pool = new Pool<Telegram>(20) {
             protected Telegram newObject() {
                 return new Telegram();
@@ -98,14 +132,37 @@ public class EventManager implements IObserver {
      *            the listener to add
      */
     public void subscribe(IObserver listener, Events msg) {
-        synchronized (subscriptions) {
-            Set<IObserver> listeners = subscriptions.get(msg.ordinal());
+        synchronized (subscriptionsLock) {
+            // Observers are kept in subscription order, sometimes the order matters
+            IObserver[] listeners = subscriptions.get(msg.ordinal());
             if (listeners == null) {
-                // Associate an empty ordered array with the message code. Sometimes the order matters
-                listeners = new LinkedHashSet<IObserver>();
-                subscriptions.put(msg.ordinal(), listeners);
+                subscriptions.set(msg.ordinal(), new IObserver[] { listener });
+            } else if (indexOf(listeners, listener) < 0) {
+                IObserver[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+                copy[listeners.length] = listener;
+                subscriptions.set(msg.ordinal(), copy);
+            }
+        }
+    }
+
+    private static int indexOf(IObserver[] listeners, IObserver listener) {
+        for (int i = 0; i < listeners.length; i++)
+            if (listeners[i].equals(listener))
+                return i;
+        return -1;
+    }
+
+    /** Removes the listener from the observers of the event, the lock must be held **/
+    private void remove(int event, IObserver listener) {
+        IObserver[] listeners = subscriptions.get(event);
+        if (listeners != null) {
+            int i = indexOf(listeners, listener);
+            if (i >= 0) {
+                IObserver[] copy = new IObserver[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, copy.length - i);
+                subscriptions.set(event, copy);
             }
-            listeners.add(listener);
         }
     }
 
@@ -124,11 +181,8 @@ public class EventManager implements IObserver {
      *            The listener to remove.
      **/
     public void unsubscribe(IObserver listener, Events events) {
-        synchronized (subscriptions) {
-            Set<IObserver> listeners = subscriptions.get(events.ordinal());
-            if (listeners != null) {
-                listeners.remove(listener);
-            }
+        synchronized (subscriptionsLock) {
+            remove(events.ordinal(), listener);
         }
     }
 
@@ -139,12 +193,10 @@ public class EventManager implements IObserver {
      *            The listeners to remove.
      */
     public void removeAllSubscriptions(IObserver... listeners) {
-        synchronized (subscriptions) {
-            Keys km = subscriptions.keys();
-            while (km.hasNext) {
-                int key = km.next();
+        synchronized (subscriptionsLock) {
+            for (int event = 0; event < subscriptions.length(); event++) {
                 for (IObserver listener : listeners) {
-                    subscriptions.get(key).remove(listener);
+                    remove(event, listener);
                 }
             }
         }
@@ -157,8 +209,8 @@ public class EventManager implements IObserver {
      *            the message code
      */
     public void clearSubscriptions(Events msg) {
-        synchronized (subscriptions) {
-            subscriptions.remove(msg.ordinal());
+        synchronized (subscriptionsLock) {
+            subscriptions.set(msg.ordinal(), null);
         }
     }
 
@@ -171,16 +223,238 @@ public class EventManager implements IObserver {
      *            The event data.
      */
     public void post(Events event, Object... data) {
-        synchronized (subscriptions) {
-            Set<IObserver> observers = subscriptions.get(event.ordinal());
-            if (observers != null && observers.size() > 0) {
-                for (IObserver observer : observers) {
-                    observer.notify(event, data);
+        IObserver[] observers = subscriptions.get(event.ordinal());
+        if (observers != null && observers.length > 0) {
+            dispatch(event, observers, data);
+        }
+    }
+
+    /**
+     * Posts an event without data.
+     *
+     * @param event
+     *            The event type.
+     */
+    public void post(Events event) {
+        post(event, NO_DATA);
+    }
+
+    /**
+     * Posts an event with one parameter, without allocating the data array.
+     * The array passed to the observers is reused afterwards, so they must
+     * not keep it nor use it after they return, for instance in a runnable.
+     *
+     * @param event
+     *            The event type.
+     * @param a
+     *            The parameter.
+     */
+    public void postTransient(Events event, Object a) {
+        IObserver[] observers = subscriptions.get(event.ordinal());
+        if (observers != null && observers.length > 0) {
+            DataStack stack = dataStacks.get();
+            Object[] data = stack.push(1);
+            data[0] = a;
+            try {
+                dispatch(event, observers, data);
+            } finally {
+                stack.pop(data);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #postTransient(Events, Object)}, with two parameters.
+     */
+    public void postTransient(Events event, Object a, Object b) {
+        IObserver[] observers = subscriptions.get(event.ordinal());
+        if (observers != null && observers.length > 0) {
+            DataStack stack = dataStacks.get();
+            Object[] data = stack.push(2);
+            data[0] = a;
+            data[1] = b;
+            try {
+                dispatch(event, observers, data);
+            } finally {
+                stack.pop(data);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #postTransient(Events, Object)}, with three parameters.
+     */
+    public void postTransient(Events event, Object a, Object b, Object c) {
+        IObserver[] observers = subscriptions.get(event.ordinal());
+        if (observers != null && observers.length > 0) {
+            DataStack stack = dataStacks.get();
+            Object[] data = stack.push(3);
+            data[0] = a;
+            data[1] = b;
+            data[2] = c;
+            try {
+                dispatch(event, observers, data);
+            } finally {
+                stack.pop(data);
+            }
+        }
+    }
+
+    /**
+     * Like {@link #postTransient(Events, Object)}, with four parameters.
+     */
+    public void postTransient(Events event, Object a, Object b, Object c, Object d) {
+        IObserver[] observers = subscriptions.get(event.ordinal());
+        if (observers != null && observers.length > 0) {
+            DataStack stack = dataStacks.get();
+            Object[] data = stack.push(4);
+            data[0] = a;
+            data[1] = b;
+            data[2] = c;
+            data[3] = d;
+            try {
+                dispatch(event, observers, data);
+            } finally {
+                stack.pop(data);
+            }
+        }
+    }
+
+    private void dispatch(Events event, IObserver[] observers, Object[] data) {
+        if (metrics) {
+            long start = System.nanoTime();
+            for (IObserver observer : observers) {
+                observer.notify(event, data);
+            }
+            dispatchCounts.incrementAndGet(event.ordinal());
+            dispatchNanos.addAndGet(event.ordinal(), System.nanoTime() - start);
+        } else {
+            for (IObserver observer : observers) {
+                observer.notify(event, data);
+            }
+        }
+    }
+
+    /**
+     * Leaves the event in the mailbox of the current thread. The main loop
+     * dispatches the events of all the mailboxes in
+     * {@link #dispatchMailboxes()}, so the observers are notified in the main
+     * thread, in the order of the posts of each thread. Meant for threads
+     * other than the main loop, like loaders and servers.
+     *
+     * @param event
+     *            The event type.
+     * @param data
+     *            The event data.
+     */
+    public void postAsync(Events event, Object... data) {
+        mailbox.get().queue.add(new Telegram(event, metrics ? System.nanoTime() : 0, data));
+    }
+
+    /**
+     * Dispatches the events in the mailboxes of all threads. The events posted
+     * while this runs wait for the next call.
+     * <p>
+     * This method must be called each time through the main loop.
+     */
+    public void dispatchMailboxes() {
+        for (Mailbox m : mailboxes) {
+            int n = m.queue.size();
+            for (int i = 0; i < n; i++) {
+                Telegram t = m.queue.poll();
+                if (t == null)
+                    break;
+                if (metrics && t.timestamp != 0) {
+                    mailboxCounts.incrementAndGet(t.event.ordinal());
+                    mailboxNanos.addAndGet(t.event.ordinal(), System.nanoTime() - t.timestamp);
                 }
+                post(t.event, t.data);
+            }
+            if (!m.owner.isAlive() && m.queue.isEmpty()) {
+                mailboxes.remove(m);
             }
         }
     }
 
+    /**
+     * Enables or disables the dispatch metrics. When disabled, the metrics
+     * keep their values.
+     *
+     * @param enabled
+     *            Whether to collect metrics.
+     */
+    public void setMetricsEnabled(boolean enabled) {
+        this.metrics = enabled;
+    }
+
+    public boolean isMetricsEnabled() {
+        return metrics;
+    }
+
+    /** Resets all the metrics to zero **/
+    public void resetMetrics() {
+        for (int i = 0; i < dispatchCounts.length(); i++) {
+            dispatchCounts.set(i, 0);
+            dispatchNanos.set(i, 0);
+            mailboxCounts.set(i, 0);
+            mailboxNanos.set(i, 0);
+        }
+    }
+
+    /**
+     * Summary of the metrics of the events whose observers took the longest
+     *
+     * @param n
+     *            The number of events to include.
+     * @return The summary, one line per event.
+     */
+    public String getMetricsSummary(int n) {
+        Events[] events = Events.values();
+        Integer[] idx = new Integer[events.length];
+        for (int i = 0; i < idx.length; i++)
+            idx[i] = i;
+        Arrays.sort(idx, (a, b) -> Long.compare(dispatchNanos.get(b), dispatchNanos.get(a)));
+        StringBuilder sb = new StringBuilder("Event dispatch metrics (event: posts, total ms, mean us, async posts, mean async wait ms)");
+        for (int i = 0; i < Math.min(n, idx.length) && dispatchCounts.get(idx[i]) > 0; i++) {
+            int e = idx[i];
+            long count = dispatchCounts.get(e), mcount = mailboxCounts.get(e);
+            sb.append('\n').append(events[e]).append(": ").append(count).append(", ").append(dispatchNanos.get(e) / 1e6).append(", ").append(dispatchNanos.get(e) / 1e3 / count).append(", ").append(mcount).append(", ").append(mcount > 0 ? mailboxNanos.get(e) / 1e6 / mcount : 0);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return The number of times the event has been dispatched to its
+     *         observers while the metrics were enabled
+     */
+    public long getDispatchCount(Events event) {
+        return dispatchCounts.get(event.ordinal());
+    }
+
+    /**
+     * @return The total time spent by the observers of the event, in
+     *         nanoseconds
+     */
+    public long getDispatchNanos(Events event) {
+        return dispatchNanos.get(event.ordinal());
+    }
+
+    /**
+     * @return The number of asynchronous posts of the event which have been
+     *         dispatched
+     */
+    public long getMailboxCount(Events event) {
+        return mailboxCounts.get(event.ordinal());
+    }
+
+    /**
+     * @return The total time the asynchronous posts of the event waited in
+     *         the mailboxes, in nanoseconds
+     */
+    public long getMailboxNanos(Events event) {
+        return mailboxNanos.get(event.ordinal());
+    }
+
     /**
      * Posts or registers a new event type with the given data and the default
      * time frame. The default time frame can be changed using the event
@@ -284,7 +558,8 @@ public class EventManager implements IObserver {
     }
 
     public boolean hasSubscriptors(Events event) {
-        return !subscriptions.get(event.ordinal()).isEmpty();
+        IObserver[] observers = subscriptions.get(event.ordinal());
+        return observers != null && observers.length > 0;
     }
 
     @Override
@@ -298,4 +573,42 @@ public class EventManager implements IObserver {
         }
 
     }
+
+    /**
+     * Data arrays of the transient posts of a thread, by nesting depth and
+     * length, since observers may post in turn
+     */
+    private static final class DataStack {
+        private static final int MAX_LENGTH = 4;
+        private Object[][][] arrays = new Object[4][][];
+        private int depth = 0;
+
+        Object[] push(int length) {
+            if (depth == arrays.length)
+                arrays = Arrays.copyOf(arrays, depth * 2);
+            Object[][] level = arrays[depth];
+            if (level == null)
+                level = arrays[depth] = new Object[MAX_LENGTH + 1][];
+            Object[] data = level[length];
+            if (data == null)
+                data = level[length] = new Object[length];
+            depth++;
+            return data;
+        }
+
+        void pop(Object[] data) {
+            Arrays.fill(data, null);
+            depth--;
+        }
+    }
+
+    /** Asynchronous posts of a thread **/
+    private static final class Mailbox {
+        final Thread owner;
+        final ConcurrentLinkedQueue<Telegram> queue = new ConcurrentLinkedQueue<>();
+
+        Mailbox(Thread owner) {
+            this.owner = owner;
+        }
+    }
 }
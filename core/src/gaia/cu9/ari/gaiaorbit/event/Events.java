@@ -1040,6 +1040,12 @@ public enum Events {
      **/
     DISPOSE_PARTICLE_GROUP_GPU_MESH,
 
+    /**
+     * Contains the render group of a VBO render system and the index of its
+     * vertices mesh to be cleared
+     **/
+    DISPOSE_VERTS_GPU_MESH,
+
     /**
      * Start gravitational wave. Contains on-screen position (x,y) of source as two integer parameters
      **/
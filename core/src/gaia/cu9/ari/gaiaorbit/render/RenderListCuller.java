@@ -0,0 +1,278 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.render;
+
+import com.badlogic.gdx.graphics.PerspectiveCamera;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.ThreadPoolManager;
+import gaia.cu9.ari.gaiaorbit.scenegraph.CelestialBody;
+import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode.RenderGroup;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
+import gaia.cu9.ari.gaiaorbit.util.Logger;
+import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Splits the render lists into the subsets visible in each of several views,
+ * such as the faces of the cube map or the eyes of the stereoscopic mode, so
+ * that every view only renders its own renderables. Celestial bodies in the
+ * billboard and model groups are tested with a bounding sphere against the
+ * side planes of the frustum of each view. All other renderables, like lines,
+ * groups and labels, are not culled and their lists are shared by all the
+ * views. With multithreading, the lists are split in the thread pool.
+ *
+ * @author tsagrista
+ */
+public class RenderListCuller {
+    private static final Log logger = Logger.getLogger(RenderListCuller.class);
+
+    /** Render groups whose celestial bodies are culled **/
+    private static final RenderGroup[] CULLED_GROUPS = { RenderGroup.BILLBOARD_STAR, RenderGroup.BILLBOARD_GAL, RenderGroup.BILLBOARD_SSO, RenderGroup.MODEL_NORMAL, RenderGroup.MODEL_DEFAULT, RenderGroup.MODEL_NORMAL_ADDITIVE, RenderGroup.MODEL_ATM, RenderGroup.MODEL_CLOUD, RenderGroup.MODEL_STAR, RenderGroup.MODEL_CLOSEUP };
+    /** Radius of the bounding sphere of models in body radii, to hold atmospheres and rings **/
+    private static final double MODEL_RADII = 3;
+    /** Billboard quads extend this factor times their size to the corners **/
+    private static final double QUAD_CORNER = Math.sqrt(2);
+    /** Number of renderables culled by each task **/
+    private static final int CHUNK = 1000;
+    /** Minimum number of renderables in the culled groups to split them in the pool **/
+    private static final int MIN_PARALLEL = 2000;
+
+    /**
+     * The side planes of the frustum of a view. The planes go through the
+     * origin of the view, and their normals point inwards.
+     */
+    public static class View {
+        private final Vector3d origin = new Vector3d();
+        private final Vector3d[] normals = { new Vector3d(), new Vector3d(), new Vector3d(), new Vector3d() };
+        private final Vector3d dir = new Vector3d(), up = new Vector3d(), right = new Vector3d();
+
+        /**
+         * Sets the view from the state of the given camera
+         *
+         * @param cam The camera
+         */
+        public void set(PerspectiveCamera cam) {
+            set(cam.position, cam.direction, cam.up, cam.fieldOfView, cam.viewportWidth / cam.viewportHeight);
+        }
+
+        /**
+         * Sets the view
+         *
+         * @param position  The position of the camera
+         * @param direction The direction of the camera
+         * @param up        The up vector of the camera
+         * @param fovy      The vertical field of view in degrees
+         * @param aspect    The width of the view over its height
+         */
+        public void set(Vector3 position, Vector3 direction, Vector3 up, float fovy, float aspect) {
+            origin.set(position);
+            this.dir.set(direction).nor();
+            this.right.set(direction).crs(up.x, up.y, up.z).nor();
+            // Make up perpendicular to the direction
+            this.up.set(right).crs(this.dir).nor();
+
+            double hy = Math.toRadians(fovy) / 2d;
+            double hx = Math.atan(Math.tan(hy) * aspect);
+            plane(normals[0], right, hx, -1);
+            plane(normals[1], right, hx, 1);
+            plane(normals[2], this.up, hy, -1);
+            plane(normals[3], this.up, hy, 1);
+        }
+
+        private void plane(Vector3d normal, Vector3d axis, double halfAngle, double sign) {
+            double s = Math.sin(halfAngle), c = Math.cos(halfAngle) * sign;
+            normal.set(dir.x * s + axis.x * c, dir.y * s + axis.y * c, dir.z * s + axis.z * c);
+        }
+
+        /**
+         * Whether a sphere is in the frustum of the view or intersects it
+         *
+         * @param center The center of the sphere
+         * @param radius The radius of the sphere
+         * @return Whether the sphere is visible in this view
+         */
+        public boolean sphereInView(Vector3d center, double radius) {
+            double x = center.x - origin.x, y = center.y - origin.y, z = center.z - origin.z;
+            for (Vector3d n : normals) {
+                if (n.x * x + n.y * y + n.z * z < -radius)
+                    return false;
+            }
+            return true;
+        }
+    }
+
+    private final View[] views;
+    /** Render lists of each view, by render group **/
+    private final Array<Array<Array<IRenderable>>> viewLists;
+    /** Culling tasks of the last cull, by culled group and chunk **/
+    private final List<Task> tasks;
+    /** Tasks to reuse **/
+    private final Array<Task> taskPool;
+    private Array<Array<IRenderable>> lists;
+    private ICamera camera;
+    private boolean culling;
+
+    /**
+     * Culls a chunk of a render list for all the views, so that the bounding
+     * sphere of every renderable is computed only once, by one thread
+     */
+    private class Task implements Callable<Void> {
+        RenderGroup rg;
+        int from, to;
+        /** Visible renderables of the chunk, by view **/
+        final Array<Array<IRenderable>> outs;
+
+        Task() {
+            outs = new Array<>(views.length);
+            for (int v = 0; v < views.length; v++)
+                outs.add(new Array<>(false, CHUNK));
+        }
+
+        @Override
+        public Void call() {
+            Array<IRenderable> in = lists.get(rg.ordinal());
+            for (int i = from; i < to; i++) {
+                IRenderable r = in.get(i);
+                if (culling && r instanceof CelestialBody) {
+                    CelestialBody cb = (CelestialBody) r;
+                    double radius = Math.max(cb.getRadius() * MODEL_RADII, cb.getFuzzyRenderSize(camera) * QUAD_CORNER);
+                    for (int v = 0; v < views.length; v++)
+                        if (views[v].sphereInView(cb.translation, radius))
+                            outs.get(v).add(r);
+                } else {
+                    for (int v = 0; v < views.length; v++)
+                        outs.get(v).add(r);
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Creates a culler with the given number of views
+     *
+     * @param nViews The number of views
+     */
+    public RenderListCuller(int nViews) {
+        int nGroups = RenderGroup.values().length;
+        views = new View[nViews];
+        viewLists = new Array<>(nViews);
+        for (int v = 0; v < nViews; v++) {
+            views[v] = new View();
+            Array<Array<IRenderable>> l = new Array<>(nGroups);
+            l.setSize(nGroups);
+            for (RenderGroup rg : CULLED_GROUPS)
+                l.set(rg.ordinal(), new Array<>(false, 1000));
+            viewLists.add(l);
+        }
+        tasks = new ArrayList<>();
+        taskPool = new Array<>();
+    }
+
+    /**
+     * @param i The index of the view
+     * @return The view, to set it before culling
+     */
+    public View view(int i) {
+        return views[i];
+    }
+
+    /**
+     * Splits the given render lists into the lists of the views, which must be
+     * set beforehand
+     *
+     * @param lists  The render lists, by render group
+     * @param camera The camera
+     */
+    public void cull(Array<Array<IRenderable>> lists, ICamera camera) {
+        this.lists = lists;
+        this.camera = camera;
+        // Relativistic effects and gravitational waves move the renderables in the shaders
+        this.culling = !GlobalConf.runtime.RELATIVISTIC_ABERRATION && !GlobalConf.runtime.GRAVITATIONAL_WAVES;
+
+        // Groups which are not culled are shared
+        for (Array<Array<IRenderable>> l : viewLists) {
+            for (int i = 0; i < lists.size; i++) {
+                if (!isCulled(i))
+                    l.set(i, lists.get(i));
+            }
+        }
+
+        // Chunks of the culled groups
+        for (Task task : tasks)
+            taskPool.add(task);
+        tasks.clear();
+        int n = 0;
+        for (RenderGroup rg : CULLED_GROUPS) {
+            int size = lists.get(rg.ordinal()).size;
+            for (int from = 0; from < size; from += CHUNK) {
+                Task task = taskPool.size > 0 ? taskPool.pop() : new Task();
+                task.rg = rg;
+                task.from = from;
+                task.to = Math.min(size, from + CHUNK);
+                for (Array<IRenderable> out : task.outs)
+                    out.clear();
+                tasks.add(task);
+            }
+            n += size;
+        }
+
+        ExecutorService pool = ThreadPoolManager.pool;
+        boolean done = false;
+        if (pool != null && n >= MIN_PARALLEL) {
+            try {
+                for (Future<Void> f : pool.invokeAll(tasks))
+                    f.get();
+                done = true;
+            } catch (InterruptedException | ExecutionException e) {
+                logger.error(e, "Error culling the render lists, culling them in this thread");
+                for (Task task : tasks)
+                    for (Array<IRenderable> out : task.outs)
+                        out.clear();
+            }
+        }
+        if (!done)
+            for (Task task : tasks)
+                task.call();
+
+        // Join the chunks, in order
+        for (int v = 0; v < views.length; v++) {
+            Array<Array<IRenderable>> l = viewLists.get(v);
+            for (RenderGroup rg : CULLED_GROUPS)
+                l.get(rg.ordinal()).clear();
+            for (Task task : tasks)
+                l.get(task.rg.ordinal()).addAll(task.outs.get(v));
+        }
+    }
+
+    /**
+     * Gets the render lists of the given view, by render group, computed in the
+     * last {@link #cull(Array, ICamera)}
+     *
+     * @param i The index of the view
+     * @return The render lists
+     */
+    public Array<Array<IRenderable>> lists(int i) {
+        return viewLists.get(i);
+    }
+
+    private boolean isCulled(int ordinal) {
+        for (RenderGroup rg : CULLED_GROUPS)
+            if (rg.ordinal() == ordinal)
+                return true;
+        return false;
+    }
+
+}
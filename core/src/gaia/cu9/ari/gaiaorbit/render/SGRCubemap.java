@@ -11,6 +11,7 @@ import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.bitfire.postprocessing.effects.CubemapProjections;
@@ -37,6 +38,9 @@ import java.util.Set;
  */
 public class SGRCubemap extends SGRAbstract implements ISGR, IObserver {
 
+    /** The faces, in rendering order **/
+    private static final CubemapSide[] FACES = new CubemapSide[] { CubemapSide.SIDE_RIGHT, CubemapSide.SIDE_LEFT, CubemapSide.SIDE_UP, CubemapSide.SIDE_DOWN, CubemapSide.SIDE_FRONT, CubemapSide.SIDE_BACK };
+
     Vector3 aux1, aux2, aux3, dirbak, upbak;
 
     StretchViewport stretchViewport;
@@ -46,6 +50,9 @@ public class SGRCubemap extends SGRAbstract implements ISGR, IObserver {
     /** Frame buffers for each side of the cubemap **/
     Map<Integer, FrameBuffer> fbcm;
 
+    /** Splits the render lists by face **/
+    RenderListCuller culler;
+
     public SGRCubemap() {
         super();
         aux1 = new Vector3();
@@ -56,6 +63,7 @@ public class SGRCubemap extends SGRAbstract implements ISGR, IObserver {
         stretchViewport = new StretchViewport(Gdx.graphics.getHeight(), Gdx.graphics.getHeight());
 
         fbcm = new HashMap<Integer, FrameBuffer>();
+        culler = new RenderListCuller(FACES.length);
 
         cubemapEffect = new CubemapProjections();
         cubemapEffect.setProjection(GlobalConf.program.CUBEMAP_PROJECTION);
@@ -91,65 +99,22 @@ public class SGRCubemap extends SGRAbstract implements ISGR, IObserver {
         viewport.setScreenBounds(0, 0, wh, wh);
         viewport.apply();
 
-        // RIGHT +X
-        rc.cubemapSide = CubemapSide.SIDE_RIGHT;
-
-        cam.up.set(upbak);
-        cam.direction.set(dirbak).rotate(upbak, -90);
-        cam.update();
-
-        renderFace(xposfb, camera, sgr, ppb, rw, rh, wh, t);
-
-        // LEFT -X
-        rc.cubemapSide = CubemapSide.SIDE_LEFT;
-
-        cam.up.set(upbak);
-        cam.direction.set(dirbak).rotate(upbak, 90);
-        cam.update();
-
-        renderFace(xnegfb, camera, sgr, ppb, rw, rh, wh, t);
-
-        // UP +Y
-        rc.cubemapSide = CubemapSide.SIDE_UP;
-
-        aux1.set(dirbak);
-        aux2.set(upbak);
-        aux1.crs(aux2).scl(-1);
-        cam.direction.set(dirbak).rotate(aux1, 90);
-        cam.up.set(upbak).rotate(aux1, 90);
-        cam.update();
-
-        renderFace(yposfb, camera, sgr, ppb, rw, rh, wh, t);
-
-        // DOWN -Y
-        rc.cubemapSide = CubemapSide.SIDE_DOWN;
-
-        aux1.set(dirbak);
-        aux2.set(upbak);
-        aux1.crs(aux2).scl(-1);
-        cam.direction.set(dirbak).rotate(aux1, -90);
-        cam.up.set(upbak).rotate(aux1, -90);
-        cam.update();
-
-        renderFace(ynegfb, camera, sgr, ppb, rw, rh, wh, t);
-
-        // FRONT +Z
-        rc.cubemapSide = CubemapSide.SIDE_FRONT;
-
-        cam.direction.set(dirbak);
-        cam.up.set(upbak);
-        cam.update();
-
-        renderFace(zposfb, camera, sgr, ppb, rw, rh, wh, t);
+        // Cull the render lists for all the faces before rendering them
+        for (int i = 0; i < FACES.length; i++) {
+            setFace(cam, FACES[i]);
+            culler.view(i).set(cam.position, cam.direction, cam.up, 90f, 1f);
+        }
+        culler.cull(SceneGraphRenderer.render_lists, camera);
 
-        // BACK -Z
-        rc.cubemapSide = CubemapSide.SIDE_BACK;
+        FrameBuffer[] facefbs = new FrameBuffer[] { xposfb, xnegfb, yposfb, ynegfb, zposfb, znegfb };
+        for (int i = 0; i < FACES.length; i++) {
+            rc.cubemapSide = FACES[i];
 
-        cam.up.set(upbak);
-        cam.direction.set(dirbak).rotate(upbak, -180);
-        cam.update();
+            setFace(cam, FACES[i]);
+            cam.update();
 
-        renderFace(znegfb, camera, sgr, ppb, rw, rh, wh, t);
+            renderFace(facefbs[i], camera, sgr, ppb, rw, rh, wh, t, culler.lists(i));
+        }
 
         // Restore camera parameters
         cam.direction.set(dirbak);
@@ -170,15 +135,62 @@ public class SGRCubemap extends SGRAbstract implements ISGR, IObserver {
 
     }
 
-    private void renderFace(FrameBuffer fb, ICamera camera, SceneGraphRenderer sgr, PostProcessBean ppb, int rw, int rh, int wh, double t) {
-        renderRegularFace(fb, camera, sgr, ppb, rw, rh, wh, t);
+    /**
+     * Points the camera to the given face, from the backed up direction and up
+     * vectors
+     */
+    private void setFace(PerspectiveCamera cam, CubemapSide side) {
+        switch (side) {
+        case SIDE_RIGHT:
+            // RIGHT +X
+            cam.up.set(upbak);
+            cam.direction.set(dirbak).rotate(upbak, -90);
+            break;
+        case SIDE_LEFT:
+            // LEFT -X
+            cam.up.set(upbak);
+            cam.direction.set(dirbak).rotate(upbak, 90);
+            break;
+        case SIDE_UP:
+            // UP +Y
+            aux1.set(dirbak);
+            aux2.set(upbak);
+            aux1.crs(aux2).scl(-1);
+            cam.direction.set(dirbak).rotate(aux1, 90);
+            cam.up.set(upbak).rotate(aux1, 90);
+            break;
+        case SIDE_DOWN:
+            // DOWN -Y
+            aux1.set(dirbak);
+            aux2.set(upbak);
+            aux1.crs(aux2).scl(-1);
+            cam.direction.set(dirbak).rotate(aux1, -90);
+            cam.up.set(upbak).rotate(aux1, -90);
+            break;
+        case SIDE_FRONT:
+            // FRONT +Z
+            cam.direction.set(dirbak);
+            cam.up.set(upbak);
+            break;
+        case SIDE_BACK:
+            // BACK -Z
+            cam.up.set(upbak);
+            cam.direction.set(dirbak).rotate(upbak, -180);
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void renderFace(FrameBuffer fb, ICamera camera, SceneGraphRenderer sgr, PostProcessBean ppb, int rw, int rh, int wh, double t, Array<Array<IRenderable>> lists) {
+        renderRegularFace(fb, camera, sgr, ppb, rw, rh, wh, t, lists);
     }
 
-    private void renderRegularFace(FrameBuffer fb, ICamera camera, SceneGraphRenderer sgr, PostProcessBean ppb, int rw, int rh, int wh, double t) {
+    private void renderRegularFace(FrameBuffer fb, ICamera camera, SceneGraphRenderer sgr, PostProcessBean ppb, int rw, int rh, int wh, double t, Array<Array<IRenderable>> lists) {
         sgr.renderGlowPass(camera);
 
         boolean postproc = postprocessCapture(ppb, fb, wh, wh);
-        sgr.renderScene(camera, t, rc);
+        sgr.renderScene(camera, t, rc, lists);
         postprocessRender(ppb, fb, postproc, camera, rw, rh);
     }
 
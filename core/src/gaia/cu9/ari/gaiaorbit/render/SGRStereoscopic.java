@@ -12,6 +12,7 @@ import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.bitfire.postprocessing.effects.Anaglyphic;
@@ -53,6 +54,9 @@ public class SGRStereoscopic extends SGRAbstract implements ISGR, IObserver {
 
     private Anaglyphic anaglyphic;
 
+    /** Culls the render lists for the current eye **/
+    private RenderListCuller culler;
+
     private Vector3 aux1, aux2, aux3;
     private Vector3d aux1d, aux2d, aux3d, aux4d, aux5d;
 
@@ -68,6 +72,8 @@ public class SGRStereoscopic extends SGRAbstract implements ISGR, IObserver {
         // Init anaglyphic effect
         anaglyphic = new Anaglyphic();
 
+        culler = new RenderListCuller(1);
+
         // Aux vectors
         aux1 = new Vector3();
         aux2 = new Vector3();
@@ -145,7 +151,7 @@ public class SGRStereoscopic extends SGRAbstract implements ISGR, IObserver {
 
             FrameBuffer fb1 = getFrameBuffer(rw, rh, 1);
             boolean postproc = postprocessCapture(ppb, fb1, rw, rh);
-            sgr.renderScene(camera, t, rc);
+            sgr.renderScene(camera, t, rc, cull(camera));
 
             postprocessRender(ppb, fb1, postproc, camera, rw, rh);
             Texture texLeft = fb1.getColorBufferTexture();
@@ -163,7 +169,7 @@ public class SGRStereoscopic extends SGRAbstract implements ISGR, IObserver {
 
             FrameBuffer fb2 = getFrameBuffer(rw, rh, 2);
             postproc = postprocessCapture(ppb, fb2, rw, rh);
-            sgr.renderScene(camera, t, rc);
+            sgr.renderScene(camera, t, rc, cull(camera));
 
             postprocessRender(ppb, fb2, postproc, camera, rw, rh);
             Texture texRight = fb2.getColorBufferTexture();
@@ -233,7 +239,7 @@ public class SGRStereoscopic extends SGRAbstract implements ISGR, IObserver {
 
             FrameBuffer fb3d = getFrameBuffer(boundsw, boundsh);
             boolean postproc = postprocessCapture(ppb, fb3d, boundsw, boundsh);
-            sgr.renderScene(camera, t, rc);
+            sgr.renderScene(camera, t, rc, cull(camera));
 
             Texture tex;
             postprocessRender(ppb, fb3d, postproc, camera, boundsw, boundsh);
@@ -266,7 +272,7 @@ public class SGRStereoscopic extends SGRAbstract implements ISGR, IObserver {
             sgr.renderGlowPass(camera);
 
             postproc = postprocessCapture(ppb, fb3d, boundsw, boundsh);
-            sgr.renderScene(camera, t, rc);
+            sgr.renderScene(camera, t, rc, cull(camera));
 
             postprocessRender(ppb, fb3d, postproc, camera, boundsw, boundsh);
             tex = fb3d.getColorBufferTexture();
@@ -292,6 +298,15 @@ public class SGRStereoscopic extends SGRAbstract implements ISGR, IObserver {
 
     }
 
+    /**
+     * Culls the render lists with the camera of the current eye
+     */
+    private Array<Array<IRenderable>> cull(ICamera camera) {
+        culler.view(0).set(camera.getCamera());
+        culler.cull(SceneGraphRenderer.render_lists, camera);
+        return culler.lists(0);
+    }
+
     private void restoreCameras(ICamera camera, PerspectiveCamera cam, Vector3d backupPosd, Vector3 backupPos, Vector3 backupDir) {
         camera.setPos(backupPosd);
         cam.position.set(backupPos);
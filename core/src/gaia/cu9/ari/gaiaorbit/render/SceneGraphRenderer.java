@@ -27,6 +27,7 @@ import gaia.cu9.ari.gaiaorbit.GaiaSky;
 import gaia.cu9.ari.gaiaorbit.assets.AtmosphereShaderProviderLoader.AtmosphereShaderProviderParameter;
 import gaia.cu9.ari.gaiaorbit.assets.GroundShaderProviderLoader.GroundShaderProviderParameter;
 import gaia.cu9.ari.gaiaorbit.assets.RelativisticShaderProviderLoader.RelativisticShaderProviderParameter;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.ThreadIndexer;
 import gaia.cu9.ari.gaiaorbit.event.EventManager;
 import gaia.cu9.ari.gaiaorbit.event.Events;
 import gaia.cu9.ari.gaiaorbit.event.IObserver;
@@ -80,12 +81,76 @@ public class SceneGraphRenderer extends AbstractRenderer implements IProcessRend
     /** Alpha values for each type **/
     public static float[] alphas;
 
-    private ShaderProgram[] starGroupShaders, particleGroupShaders, particleEffectShaders, orbitElemShaders, pointShaders, lineShaders, lineQuadShaders, lineGpuShaders, mwPointShaders, mwOitShaders, mwNebulaShaders, starPointShaders, galShaders, spriteShaders, starBillboardShaders;
-    private AssetDescriptor<ShaderProgram>[] starGroupDesc, particleGroupDesc, particleEffectDesc, orbitElemDesc, pointDesc, lineDesc, lineQuadDesc, lineGpuDesc, mwPointDesc, mwOitDesc, mwNebulaDesc, starPointDesc, galDesc, spriteDesc, starBillboardDesc;
+    private ShaderProgram[] starGroupShaders, particleGroupShaders, particleEffectShaders, orbitElemShaders, pointShaders, lineShaders, lineQuadShaders, lineGpuShaders, lineQuadGpuShaders, mwPointShaders, mwOitShaders, mwNebulaShaders, starPointShaders, galShaders, spriteShaders, starBillboardShaders;
+    private AssetDescriptor<ShaderProgram>[] starGroupDesc, particleGroupDesc, particleEffectDesc, orbitElemDesc, pointDesc, lineDesc, lineQuadDesc, lineGpuDesc, lineQuadGpuDesc, mwPointDesc, mwOitDesc, mwNebulaDesc, starPointDesc, galDesc, spriteDesc, starBillboardDesc;
 
     /** Render lists for all render groups **/
     public static Array<Array<IRenderable>> render_lists;
 
+    /**
+     * Render lists of the threads of the parallel scene graph update, by
+     * thread index. They are merged into {@link #render_lists} when the update
+     * finishes. The thread with index 0 uses {@link #render_lists} directly.
+     **/
+    private static Array<Array<Array<IRenderable>>> thread_render_lists;
+
+    /**
+     * Creates the render lists of the threads of the parallel scene graph
+     * update, if they don't exist yet
+     *
+     * @param nThreads The number of threads, including the one with index 0
+     */
+    public static void initThreadRenderLists(int nThreads) {
+        if (thread_render_lists == null || thread_render_lists.size < nThreads) {
+            int nGroups = RenderGroup.values().length;
+            Array<Array<Array<IRenderable>>> lists = new Array<>(nThreads);
+            lists.add(render_lists);
+            for (int t = 1; t < nThreads; t++) {
+                Array<Array<IRenderable>> l = new Array<>(nGroups);
+                for (int i = 0; i < nGroups; i++)
+                    l.add(new Array<>(false, 1000));
+                lists.add(l);
+            }
+            thread_render_lists = lists;
+        }
+    }
+
+    /**
+     * Gets the render list of the given group where the current thread adds
+     * its renderables
+     *
+     * @param rg The render group
+     * @return The render list
+     */
+    public static Array<IRenderable> renderList(RenderGroup rg) {
+        if (thread_render_lists != null) {
+            int t = ThreadIndexer.i();
+            if (t > 0)
+                return thread_render_lists.get(t).get(rg.ordinal());
+        }
+        return render_lists.get(rg.ordinal());
+    }
+
+    /**
+     * Appends the render lists of the threads of the parallel update to
+     * {@link #render_lists} and clears them. Must be called by the update
+     * thread once all the other threads are done.
+     */
+    public static void mergeThreadRenderLists() {
+        if (thread_render_lists != null) {
+            for (int t = 1; t < thread_render_lists.size; t++) {
+                Array<Array<IRenderable>> lists = thread_render_lists.get(t);
+                for (int i = 0; i < lists.size; i++) {
+                    Array<IRenderable> l = lists.get(i);
+                    if (l.size > 0) {
+                        render_lists.get(i).addAll(l);
+                        l.clear();
+                    }
+                }
+            }
+        }
+    }
+
     // Two model batches, for front (models), back and atmospheres
     private SpriteBatch spriteBatch, fontBatch;
 
@@ -168,6 +233,7 @@ public class SceneGraphRenderer extends AbstractRenderer implements IProcessRend
         lineDesc = loadShader(manager, "shader/line.cpu.vertex.glsl", "shader/line.cpu.fragment.glsl", genShaderNames("lineCpu"), defines);
         lineQuadDesc = loadShader(manager, "shader/line.quad.vertex.glsl", "shader/line.quad.fragment.glsl", genShaderNames("lineQuad"), defines);
         lineGpuDesc = loadShader(manager, "shader/line.gpu.vertex.glsl", "shader/line.gpu.fragment.glsl", genShaderNames("lineGpu"), defines);
+        lineQuadGpuDesc = loadShader(manager, "shader/line.quad.gpu.vertex.glsl", "shader/line.quad.fragment.glsl", genShaderNames("lineQuadGpu"), defines);
         galDesc = loadShader(manager, "shader/gal.vertex.glsl", "shader/gal.fragment.glsl", genShaderNames("gal"), defines);
         particleEffectDesc = loadShader(manager, "shader/particle.effect.vertex.glsl", "shader/particle.effect.fragment.glsl", genShaderNames("particleEffect"), defines);
         particleGroupDesc = loadShader(manager, "shader/particle.group.vertex.glsl", "shader/particle.group.fragment.glsl", genShaderNames("particleGroup"), defines);
@@ -293,6 +359,11 @@ public class SceneGraphRenderer extends AbstractRenderer implements IProcessRend
          */
         lineGpuShaders = fetchShaderProgram(manager, lineGpuDesc, genShaderFullNames("line-gpu"));
 
+        /*
+         * LINE QUAD GPU
+         */
+        lineQuadGpuShaders = fetchShaderProgram(manager, lineQuadGpuDesc, genShaderFullNames("line-quad-gpu"));
+
         /*
          * MW POINTS
          */
@@ -517,6 +588,10 @@ public class SceneGraphRenderer extends AbstractRenderer implements IProcessRend
         AbstractRenderSystem lineGpuProc = new VertGPURenderSystem(RenderGroup.LINE_GPU, alphas, lineGpuShaders, GL20.GL_LINE_STRIP);
         lineGpuProc.setPreRunnable(blendDepthRunnable);
 
+        // LINES GPU QUAD
+        AbstractRenderSystem lineQuadGpuProc = new LineQuadGPURenderSystem(RenderGroup.LINE_GPU_QUAD, alphas, lineQuadGpuShaders);
+        lineQuadGpuProc.setPreRunnable(blendDepthRunnable);
+
         // POINTS CPU
         AbstractRenderSystem pointProc = new PointRenderSystem(RenderGroup.POINT, alphas, pointShaders);
 
@@ -629,6 +704,7 @@ public class SceneGraphRenderer extends AbstractRenderer implements IProcessRend
         // Primitives
         renderProcesses.add(lineProc);
         renderProcesses.add(lineGpuProc);
+        renderProcesses.add(lineQuadGpuProc);
         renderProcesses.add(pointProc);
         renderProcesses.add(pointGpuProc);
 
@@ -852,6 +928,19 @@ public class SceneGraphRenderer extends AbstractRenderer implements IProcessRend
      * @param rc     The render context
      */
     public void renderScene(ICamera camera, double t, RenderingContext rc) {
+        renderScene(camera, t, rc, render_lists);
+    }
+
+    /**
+     * Renders the scene with the given render lists, for instance the ones
+     * culled for a cube map face
+     *
+     * @param camera The camera to use
+     * @param t      The time in seconds since the start
+     * @param rc     The render context
+     * @param lists  The render lists, by render group
+     */
+    public void renderScene(ICamera camera, double t, RenderingContext rc, Array<Array<IRenderable>> lists) {
         // Update time difference since last update
         for (ComponentType ct : ComponentType.values()) {
             alphas[ct.ordinal()] = calculateAlpha(ct, t);
@@ -863,7 +952,7 @@ public class SceneGraphRenderer extends AbstractRenderer implements IProcessRend
             // If we have no render group, this means all the info is already in
             // the render system. No lists needed
             if (process.getRenderGroup() != null) {
-                Array<IRenderable> l = render_lists.get(process.getRenderGroup().ordinal());
+                Array<IRenderable> l = lists.get(process.getRenderGroup().ordinal());
                 process.render(l, camera, t, rc);
             } else {
                 process.render(null, camera, t, rc);
@@ -0,0 +1,232 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.render.system;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Array;
+import gaia.cu9.ari.gaiaorbit.data.util.PointCloudData;
+import gaia.cu9.ari.gaiaorbit.event.EventManager;
+import gaia.cu9.ari.gaiaorbit.event.Events;
+import gaia.cu9.ari.gaiaorbit.event.IObserver;
+import gaia.cu9.ari.gaiaorbit.render.IGPUVertsRenderable;
+import gaia.cu9.ari.gaiaorbit.render.IRenderable;
+import gaia.cu9.ari.gaiaorbit.scenegraph.Gaia;
+import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode.RenderGroup;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
+import gaia.cu9.ari.gaiaorbit.util.gdx.mesh.IntMesh;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+
+/**
+ * Renders lines as quad strips (polyboards) like {@link LineQuadRenderSystem},
+ * but the strip of each line is built once in a VBO, with the neighbours of
+ * every point, and the shader expands it to the width of the line using the
+ * camera-relative transform of the renderable. The VBO is only rebuilt when the
+ * renderable is marked for update.
+ *
+ * @author tsagrista
+ */
+public class LineQuadGPURenderSystem extends ImmediateRenderSystem implements IObserver {
+    protected ICamera camera;
+    // Offsets of the attributes in a vertex
+    private int uvOffset, prevOffset, nextOffset;
+    // Auxiliary array that holds indices temporarily
+    private int[] tempIndices;
+
+    public LineQuadGPURenderSystem(RenderGroup rg, float[] alphas, ShaderProgram[] shaders) {
+        super(rg, alphas, shaders);
+        EventManager.instance.subscribe(this, Events.DISPOSE_VERTS_GPU_MESH);
+    }
+
+    @Override
+    protected void initShaderProgram() {
+    }
+
+    @Override
+    protected void initVertices() {
+        meshes = new Array<>();
+    }
+
+    /**
+     * Adds a new mesh data to the meshes list
+     *
+     * @param nVertices The number of vertices of the mesh
+     * @param nIndices  The number of indices of the mesh
+     * @return The index of the new mesh data
+     */
+    private int addMeshData(int nVertices, int nIndices) {
+        int mdi = createMeshData();
+        curr = meshes.get(mdi);
+
+        VertexAttribute[] attribs = buildVertexAttributes();
+        curr.mesh = new IntMesh(true, nVertices, nIndices, attribs);
+
+        curr.vertexSize = curr.mesh.getVertexAttributes().vertexSize / 4;
+        curr.colorOffset = curr.mesh.getVertexAttribute(Usage.ColorPacked).offset / 4;
+        uvOffset = curr.mesh.getVertexAttribute(Usage.TextureCoordinates).offset / 4;
+        for (VertexAttribute attrib : curr.mesh.getVertexAttributes()) {
+            if (attrib.alias.equals("a_prev"))
+                prevOffset = attrib.offset / 4;
+            else if (attrib.alias.equals("a_next"))
+                nextOffset = attrib.offset / 4;
+        }
+        return mdi;
+    }
+
+    /**
+     * Builds the quad strip of the renderable and sends it to the GPU. Every
+     * point of the line has two vertices, one on each side (uv.y 0 and 1).
+     */
+    private void toGpu(IGPUVertsRenderable renderable) {
+        // Remove previous line data if present
+        if (renderable.getOffset() >= 0) {
+            clearMeshData(renderable.getOffset());
+            renderable.setOffset(-1);
+        }
+
+        PointCloudData od = renderable.getPointCloud();
+        int n = od.getNumPoints();
+        boolean closed = renderable.isClosedLoop() && n > 2;
+        // Closed loops repeat the first point at the end
+        int nPoints = closed ? n + 1 : n;
+        int nVertices = nPoints * 2;
+        int nIndices = (nPoints - 1) * 6;
+
+        renderable.setOffset(addMeshData(nVertices, nIndices));
+
+        ensureTempVertsSize(nVertices * curr.vertexSize);
+        if (tempIndices == null || tempIndices.length < nIndices)
+            tempIndices = new int[nIndices];
+        curr.vertices = tempVerts;
+        curr.indices = tempIndices;
+
+        float[] cc = renderable.getColor();
+        float color = Color.toFloatBits(cc[0], cc[1], cc[2], 1f);
+        for (int i = 0; i < nPoints; i++) {
+            int point = i % n;
+            int prev = i > 0 ? i - 1 : (closed ? n - 1 : 0);
+            int next = i < nPoints - 1 ? (i + 1) % n : (closed ? 1 : point);
+            float u = (float) i / (nPoints - 1);
+            for (int side = 0; side < 2; side++) {
+                color(color);
+                neighbours(od, prev, next);
+                uv(u, side);
+                vertex((float) od.getX(point), (float) od.getY(point), (float) od.getZ(point));
+            }
+            if (i > 0) {
+                index(curr.numVertices - 4);
+                index(curr.numVertices - 2);
+                index(curr.numVertices - 3);
+
+                index(curr.numVertices - 2);
+                index(curr.numVertices - 1);
+                index(curr.numVertices - 3);
+            }
+        }
+
+        curr.mesh.setVertices(curr.vertices, 0, curr.vertexIdx);
+        curr.mesh.setIndices(curr.indices, 0, curr.indexIdx);
+        renderable.setCount(curr.indexIdx);
+        curr.vertices = null;
+        curr.indices = null;
+        renderable.setInGpu(true);
+    }
+
+    private void neighbours(PointCloudData od, int prev, int next) {
+        int i = curr.vertexIdx + prevOffset;
+        curr.vertices[i] = (float) od.getX(prev);
+        curr.vertices[i + 1] = (float) od.getY(prev);
+        curr.vertices[i + 2] = (float) od.getZ(prev);
+        i = curr.vertexIdx + nextOffset;
+        curr.vertices[i] = (float) od.getX(next);
+        curr.vertices[i + 1] = (float) od.getY(next);
+        curr.vertices[i + 2] = (float) od.getZ(next);
+    }
+
+    private void uv(float u, float v) {
+        curr.vertices[curr.vertexIdx + uvOffset] = u;
+        curr.vertices[curr.vertexIdx + uvOffset + 1] = v;
+    }
+
+    private void index(int idx) {
+        curr.indices[curr.indexIdx++] = idx;
+    }
+
+    @Override
+    public void renderStud(Array<IRenderable> renderables, ICamera camera, double t) {
+        this.camera = camera;
+        ShaderProgram shaderProgram = getShaderProgram();
+
+        shaderProgram.begin();
+        shaderProgram.setUniformMatrix("u_projModelView", camera.getCamera().combined);
+
+        // Relativistic effects
+        addEffectsUniforms(shaderProgram, camera);
+
+        int size = renderables.size;
+        for (int i = 0; i < size; i++) {
+            IGPUVertsRenderable renderable = (IGPUVertsRenderable) renderables.get(i);
+            if (renderable.getPointCloud() == null || renderable.getPointCloud().getNumPoints() < 2)
+                continue;
+
+            if (!renderable.inGpu())
+                toGpu(renderable);
+            curr = meshes.get(renderable.getOffset());
+
+            renderable.blend();
+            renderable.depth();
+
+            shaderProgram.setUniformMatrix("u_worldTransform", renderable.getLocalTransform());
+            shaderProgram.setUniformf("u_widthTan", (float) (renderable.getPrimitiveSize() * LineQuadRenderSystem.baseWidthAngleTan * camera.getFovFactor()));
+            shaderProgram.setUniformf("u_alpha", (float) (renderable.getAlpha()) * getAlpha(renderable));
+            if (renderable.getParent() instanceof Gaia) {
+                Vector3d ppos = ((Gaia) renderable.getParent()).unrotatedPos;
+                shaderProgram.setUniformf("u_parentPos", (float) ppos.x, (float) ppos.y, (float) ppos.z);
+            } else {
+                shaderProgram.setUniformf("u_parentPos", 0, 0, 0);
+            }
+
+            curr.mesh.render(shaderProgram, GL20.GL_TRIANGLES);
+        }
+
+        shaderProgram.end();
+    }
+
+    protected VertexAttribute[] buildVertexAttributes() {
+        Array<VertexAttribute> attribs = new Array<>();
+        attribs.add(new VertexAttribute(Usage.Position, 3, ShaderProgram.POSITION_ATTRIBUTE));
+        attribs.add(new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE));
+        attribs.add(new VertexAttribute(Usage.TextureCoordinates, 2, "a_uv"));
+        attribs.add(new VertexAttribute(Usage.Generic, 3, "a_prev"));
+        attribs.add(new VertexAttribute(Usage.Generic, 3, "a_next"));
+
+        VertexAttribute[] array = new VertexAttribute[attribs.size];
+        for (int i = 0; i < attribs.size; i++)
+            array[i] = attribs.get(i);
+        return array;
+    }
+
+    @Override
+    public void notify(Events event, Object... data) {
+        switch (event) {
+        case DISPOSE_VERTS_GPU_MESH:
+            if (data[0] == getRenderGroup()) {
+                // Posted from the update, which may run in a worker thread. Meshes
+                // are only disposed of in the GL thread
+                final int offset = (Integer) data[1];
+                Gdx.app.postRunnable(() -> clearMeshData(offset));
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+}
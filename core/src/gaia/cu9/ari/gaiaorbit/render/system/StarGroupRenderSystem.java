@@ -8,19 +8,20 @@ package gaia.cu9.ari.gaiaorbit.render.system;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
 import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Array;
 import gaia.cu9.ari.gaiaorbit.GaiaSky;
+import gaia.cu9.ari.gaiaorbit.data.StreamingOctreeLoader;
 import gaia.cu9.ari.gaiaorbit.event.EventManager;
 import gaia.cu9.ari.gaiaorbit.event.Events;
 import gaia.cu9.ari.gaiaorbit.event.IObserver;
 import gaia.cu9.ari.gaiaorbit.render.IRenderable;
 import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode.RenderGroup;
 import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup;
-import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.CameraManager;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.FovCamera;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
@@ -29,16 +30,30 @@ import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.Nature;
 import gaia.cu9.ari.gaiaorbit.util.comp.DistToCameraComparator;
 import gaia.cu9.ari.gaiaorbit.util.coord.AstroUtils;
-import gaia.cu9.ari.gaiaorbit.util.gdx.mesh.IntMesh;
+import gaia.cu9.ari.gaiaorbit.util.gdx.mesh.IntMeshPool;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 
+import java.nio.FloatBuffer;
 import java.util.Comparator;
 
 public class StarGroupRenderSystem extends ImmediateRenderSystem implements IObserver {
+    /** Maximum bytes of vertices sent to the GPU in a frame, at least one group is always sent **/
+    private static final long UPLOAD_BYTES_PER_FRAME = 16 * 1024 * 1024;
+    /** Maximum bytes of free vertex buffers kept for reuse **/
+    private static final long MAX_IDLE_MESH_BYTES = 64 * 1024 * 1024;
+
+    // Vertex layout, in floats
+    private static final VertexAttributes ATTRIBUTES = new VertexAttributes(buildVertexAttributes());
+    public static final int VERTEX_SIZE = ATTRIBUTES.vertexSize / 4;
+    private static final int PM_OFFSET = ATTRIBUTES.findByUsage(Usage.Tangent).offset / 4;
+    private static final int COLOR_OFFSET = ATTRIBUTES.findByUsage(Usage.ColorPacked).offset / 4;
+    private static final int SIZE_OFFSET = ATTRIBUTES.findByUsage(Usage.Generic).offset / 4;
+
     private final double BRIGHTNESS_FACTOR;
 
     private Vector3 aux1;
-    private int sizeOffset, pmOffset;
+    private IntMeshPool meshPool;
+    private long uploadedBytes;
     private float[] pointAlpha, alphaSizeFovBr, pointAlphaHl;
     private ICamera cam;
 
@@ -62,26 +77,147 @@ public class StarGroupRenderSystem extends ImmediateRenderSystem implements IObs
     protected void initVertices() {
         /** STARS **/
         meshes = new Array<>();
+        meshPool = new IntMeshPool(ATTRIBUTES, MAX_IDLE_MESH_BYTES);
+    }
+
+    /**
+     * Packs the vertices of the given star group in the layout of the star
+     * meshes. This is done by the loader threads when the group is loaded, so
+     * that the GL thread only has to copy the result to the GPU.
+     *
+     * @param starGroup The star group
+     * @param out       The output array, of at least size() * VERTEX_SIZE floats
+     */
+    public static void packVertices(StarGroup starGroup, float[] out) {
+        int n = starGroup.size();
+        float sizeFactor = (float) Constants.STAR_SIZE_FACTOR * starGroup.highlightedSizeFactor();
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            // POSITION [u]
+            out[idx] = (float) starGroup.x(i);
+            out[idx + 1] = (float) starGroup.y(i);
+            out[idx + 2] = (float) starGroup.z(i);
+
+            // PROPER MOTION [u/yr]
+            out[idx + PM_OFFSET] = (float) starGroup.pmx(i);
+            out[idx + PM_OFFSET + 1] = (float) starGroup.pmy(i);
+            out[idx + PM_OFFSET + 2] = (float) starGroup.pmz(i);
+
+            // COLOR
+            out[idx + COLOR_OFFSET] = starGroup.getColor(i);
+
+            // SIZE
+            out[idx + SIZE_OFFSET] = (float) starGroup.getSize(i) * sizeFactor;
+
+            idx += VERTEX_SIZE;
+        }
+    }
+
+    /**
+     * Packs the vertices of the given star group in a new array
+     *
+     * @param starGroup The star group
+     * @return The packed vertices
+     */
+    public static float[] packVertices(StarGroup starGroup) {
+        float[] out = new float[starGroup.size() * VERTEX_SIZE];
+        packVertices(starGroup, out);
+        return out;
     }
 
     /**
-     * Adds a new mesh data to the meshes list and increases the mesh data index
+     * Uploads the vertices of the star group to a mesh from the pool, unless
+     * the upload budget for this frame has already been spent
      *
-     * @param nVertices The max number of vertices this mesh data can hold
-     * @return The index of the new mesh data
+     * @param starGroup The star group
+     * @return Whether the group has been uploaded
      */
-    private int addMeshData(int nVertices) {
-        int mdi = createMeshData();
-        curr = meshes.get(mdi);
-
-        VertexAttribute[] attribs = buildVertexAttributes();
-        curr.mesh = new IntMesh(false, nVertices, 0, attribs);
-
-        curr.vertexSize = curr.mesh.getVertexAttributes().vertexSize / 4;
-        curr.colorOffset = curr.mesh.getVertexAttribute(Usage.ColorPacked) != null ? curr.mesh.getVertexAttribute(Usage.ColorPacked).offset / 4 : 0;
-        pmOffset = curr.mesh.getVertexAttribute(Usage.Tangent) != null ? curr.mesh.getVertexAttribute(Usage.Tangent).offset / 4 : 0;
-        sizeOffset = curr.mesh.getVertexAttribute(Usage.Generic) != null ? curr.mesh.getVertexAttribute(Usage.Generic).offset / 4 : 0;
-        return mdi;
+    private boolean upload(StarGroup starGroup) {
+        int n = starGroup.size();
+        long bytes = (long) n * VERTEX_SIZE * 4;
+        // At least one group is uploaded every frame
+        if (uploadedBytes > 0 && uploadedBytes + bytes > UPLOAD_BYTES_PER_FRAME)
+            return false;
+
+        float[] verts = starGroup.packedVertices;
+        starGroup.packedVertices = null;
+        if (verts == null || verts.length < n * VERTEX_SIZE) {
+            // Not packed by the loader
+            ensureTempVertsSize(n * VERTEX_SIZE);
+            packVertices(starGroup, tempVerts);
+            verts = tempVerts;
+        }
+
+        starGroup.offset = createMeshData();
+        curr = meshes.get(starGroup.offset);
+        curr.mesh = meshPool.obtain(n);
+        StreamingOctreeLoader.setPooledGpuBytes(meshPool.getIdleBytes());
+        curr.vertexSize = VERTEX_SIZE;
+        curr.colorOffset = COLOR_OFFSET;
+
+        starGroup.count = n * VERTEX_SIZE;
+        curr.mesh.setVertices(verts, 0, starGroup.count);
+        starGroup.inGpu = true;
+        uploadedBytes += bytes;
+
+        // Highlight may have changed after packing
+        if (starGroup.attribsDirty)
+            updateAttributes(starGroup);
+
+        // Account for the vertex buffers of streamed octants, whose capacity is rounded up by the pool
+        if (starGroup.octant != null)
+            StreamingOctreeLoader.addGpuBytes(starGroup.octant, (long) curr.mesh.getMaxVertices() * ATTRIBUTES.vertexSize);
+        return true;
+    }
+
+    /**
+     * Rewrites the colour and size attributes of a star group which is already
+     * in the GPU, leaving positions and proper motions untouched. Used when
+     * the highlight changes.
+     *
+     * @param starGroup The star group
+     */
+    private void updateAttributes(StarGroup starGroup) {
+        starGroup.attribsDirty = false;
+        MeshData md = meshes.get(starGroup.offset);
+        if (md == null || md.mesh == null)
+            return;
+        // The buffer is not marked dirty, only the touched range is sent
+        FloatBuffer buff = md.mesh.getVerticesBuffer(false);
+        int n = Math.min(starGroup.size(), md.mesh.getNumVertices());
+        if (n <= 0)
+            return;
+        float sizeFactor = (float) Constants.STAR_SIZE_FACTOR * starGroup.highlightedSizeFactor();
+        int idx = 0;
+        for (int i = 0; i < n; i++) {
+            buff.put(idx + COLOR_OFFSET, starGroup.getColor(i));
+            buff.put(idx + SIZE_OFFSET, (float) starGroup.getSize(i) * sizeFactor);
+            idx += VERTEX_SIZE;
+        }
+        int first = Math.min(COLOR_OFFSET, SIZE_OFFSET);
+        int last = (n - 1) * VERTEX_SIZE + Math.max(COLOR_OFFSET, SIZE_OFFSET);
+        md.mesh.updateVerticesRange(first, last - first + 1);
+    }
+
+    @Override
+    public void clearMeshData(int i) {
+        if (i >= 0 && i < meshes.size) {
+            MeshData md = meshes.get(i);
+            if (md != null && md.mesh != null) {
+                // Keep the vertex buffer for the next group
+                meshPool.free(md.mesh);
+                StreamingOctreeLoader.setPooledGpuBytes(meshPool.getIdleBytes());
+                md.mesh = null;
+                meshes.set(i, null);
+            }
+        }
+    }
+
+    @Override
+    public void dispose() {
+        super.dispose();
+        meshPool.dispose();
+        StreamingOctreeLoader.setPooledGpuBytes(0);
     }
 
     @Override
@@ -92,6 +228,7 @@ public class StarGroupRenderSystem extends ImmediateRenderSystem implements IObs
         Gdx.gl20.glEnable(0x8642);
 
         this.cam = camera;
+        uploadedBytes = 0;
         //renderables.sort(comp);
         if (renderables.size > 0) {
 
@@ -103,35 +240,10 @@ public class StarGroupRenderSystem extends ImmediateRenderSystem implements IObs
                          * ADD PARTICLES
                          */
                         if (!starGroup.inGpu) {
-                            int n = starGroup.size();
-                            starGroup.offset = addMeshData(n);
-                            curr = meshes.get(starGroup.offset);
-                            ensureTempVertsSize(n * curr.vertexSize);
-                            for (int i = 0; i < n; i++) {
-                                StarBean p = starGroup.data().get(i);
-                                // COLOR
-                                tempVerts[curr.vertexIdx + curr.colorOffset] = starGroup.getColor(i);
-
-                                // SIZE
-                                tempVerts[curr.vertexIdx + sizeOffset] = (float) (p.size() * Constants.STAR_SIZE_FACTOR) * starGroup.highlightedSizeFactor();
-
-                                // POSITION [u]
-                                tempVerts[curr.vertexIdx] = (float) p.x();
-                                tempVerts[curr.vertexIdx + 1] = (float) p.y();
-                                tempVerts[curr.vertexIdx + 2] = (float) p.z();
-
-                                // PROPER MOTION [u/yr]
-                                tempVerts[curr.vertexIdx + pmOffset] = (float) p.pmx();
-                                tempVerts[curr.vertexIdx + pmOffset + 1] = (float) p.pmy();
-                                tempVerts[curr.vertexIdx + pmOffset + 2] = (float) p.pmz();
-
-                                curr.vertexIdx += curr.vertexSize;
-                            }
-                            starGroup.count = starGroup.size() * curr.vertexSize;
-                            curr.mesh.setVertices(tempVerts, 0, starGroup.count);
-
-                            starGroup.inGpu = true;
-
+                            if (!upload(starGroup))
+                                continue;
+                        } else if (starGroup.attribsDirty) {
+                            updateAttributes(starGroup);
                         }
 
                         /**
@@ -185,7 +297,7 @@ public class StarGroupRenderSystem extends ImmediateRenderSystem implements IObs
         }
     }
 
-    protected VertexAttribute[] buildVertexAttributes() {
+    private static VertexAttribute[] buildVertexAttributes() {
         Array<VertexAttribute> attribs = new Array<>();
         attribs.add(new VertexAttribute(Usage.Position, 3, ShaderProgram.POSITION_ATTRIBUTE));
         attribs.add(new VertexAttribute(Usage.Tangent, 3, "a_pm"));
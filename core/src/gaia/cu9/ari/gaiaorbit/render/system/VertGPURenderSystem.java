@@ -12,6 +12,9 @@ import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.utils.Array;
 import gaia.cu9.ari.gaiaorbit.data.util.PointCloudData;
+import gaia.cu9.ari.gaiaorbit.event.EventManager;
+import gaia.cu9.ari.gaiaorbit.event.Events;
+import gaia.cu9.ari.gaiaorbit.event.IObserver;
 import gaia.cu9.ari.gaiaorbit.render.IGPUVertsRenderable;
 import gaia.cu9.ari.gaiaorbit.render.IRenderable;
 import gaia.cu9.ari.gaiaorbit.scenegraph.Gaia;
@@ -27,13 +30,14 @@ import org.lwjgl.opengl.GL11;
  *
  * @author tsagrista
  */
-public class VertGPURenderSystem<T extends IGPUVertsRenderable> extends ImmediateRenderSystem {
+public class VertGPURenderSystem<T extends IGPUVertsRenderable> extends ImmediateRenderSystem implements IObserver {
     protected ICamera camera;
     protected int glType;
 
     public VertGPURenderSystem(RenderGroup rg, float[] alphas, ShaderProgram[] shaders, int glType) {
         super(rg, alphas, shaders);
         this.glType = glType;
+        EventManager.instance.subscribe(this, Events.DISPOSE_VERTS_GPU_MESH);
     }
 
     public boolean isLine() {
@@ -184,4 +188,20 @@ public class VertGPURenderSystem<T extends IGPUVertsRenderable> extends Immediat
         return array;
     }
 
+    @Override
+    public void notify(Events event, Object... data) {
+        switch (event) {
+        case DISPOSE_VERTS_GPU_MESH:
+            if (data[0] == getRenderGroup()) {
+                // Posted from the update, which may run in a worker thread. Meshes
+                // are only disposed of in the GL thread
+                final int offset = (Integer) data[1];
+                Gdx.app.postRunnable(() -> clearMeshData(offset));
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
 }
@@ -7,15 +7,26 @@ package gaia.cu9.ari.gaiaorbit.rest;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import gaia.cu9.ari.gaiaorbit.event.EventManager;
+import gaia.cu9.ari.gaiaorbit.event.Events;
 import gaia.cu9.ari.gaiaorbit.script.EventScriptingInterface;
 import gaia.cu9.ari.gaiaorbit.script.IScriptingInterface;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.Logger.LoggerLevel;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.*;
+import java.util.function.Function;
 
 import static spark.Spark.*;
 
@@ -74,6 +85,15 @@ import static spark.Spark.*;
  *
  * For testing with curl, a call like the following allows will deal with url-encoding:
  * curl "http://localhost:8080/api/setHeadlineMessage" --data headline='Hi, how are you?'
+ *
+ * Several commands can be run in one round trip by posting a JSON array of commands to
+ * http://localhost:8080/api/batch. Each command has a "cmd" name and a "params" object, and
+ * the "value" of the response holds the responses of the commands, in order:
+ * curl "http://localhost:8080/api/batch" --data '[{"cmd":"setCameraUp","params":{"up":[1,0,0]}},{"cmd":"getScreenWidth"}]'
+ *
+ * Instead of polling the camera, time and focus getters, clients can subscribe to the
+ * telemetry stream with a WebSocket at ws://localhost:8080/api/telemetry?rate=30, see
+ * TelemetryStream.
  */
 
 /**
@@ -122,6 +142,16 @@ public class RESTServer {
          */
         private static Log logger = Logger.getLogger(RESTServer.class);
 
+	/**
+	 * JSON serializer of the responses
+	 */
+	private static Gson gson = new GsonBuilder().serializeNulls().create();
+
+	/**
+	 * Telemetry stream, sampled every frame once activated
+	 */
+	private static TelemetryStream telemetry;
+
 	/* Methods: */
 
 	/**
@@ -164,9 +194,7 @@ public class RESTServer {
 		// response.header("FOO", "bar");
 
 		/* request body */
-		Gson gson = new GsonBuilder().serializeNulls().create();
 		responseString = gson.toJson(ret);
-		logger.debug("HTTP response body: {}.", responseString);
 		return responseString;
 	}
 
@@ -223,15 +251,16 @@ public class RESTServer {
 	 * Returns a list of all matching method declaration strings. To get a list of
 	 * all method declarations, use empty string for methodname.
 	 */
-	private static String[] getMethodDeclarationStrings(String methodname, Class<?> clazz) {
-		Class<?> cisi = clazz;
-		Method[] allMethods = cisi.getDeclaredMethods();
+	private static String[] getMethodDeclarationStrings(String methodname) {
+		if (methodname.length() == 0)
+			return allDeclarations;
 
 		List<String> matchMethodsDeclarations = new ArrayList<String>();
-		for (int i = 0; i < allMethods.length; i++) {
-			if (methodname.length() == 0 || methodname.equals(allMethods[i].getName())) {
-				String declaration = methodDeclarationString(allMethods[i]);
-				matchMethodsDeclarations.add(declaration);
+		Command[] overloads = commands.get(methodname);
+		if (overloads != null) {
+			for (Command command : overloads) {
+				if (command != null)
+					matchMethodsDeclarations.add(command.declaration);
 			}
 		}
 		Collections.sort(matchMethodsDeclarations);
@@ -246,7 +275,7 @@ public class RESTServer {
 	 */
 	private static String[] splitArrayString(String arrayString) {
 		int len = arrayString.length();
-		if (len >= 2 && "[".equals(arrayString.substring(0, 1)) && "]".equals(arrayString.substring(len - 1, len))) {
+		if (len >= 2 && arrayString.charAt(0) == '[' && arrayString.charAt(len - 1) == ']') {
 			return arrayString.substring(1, len - 1).split(",");
 		} else {
 			// probably an array should never be empty
@@ -257,14 +286,152 @@ public class RESTServer {
 		}
 	}
 
+	/**
+	 * Converts an HTTP request string to the type of a parameter
+	 */
+	private interface Converter {
+		Object convert(String value);
+	}
+
+	/**
+	 * Returns the converter from the HTTP request string to the given parameter
+	 * type. We test against both primitives (.TYPE) and objects (.class). You might
+	 * need to add more in the future if you trigger exceptions here...
+	 */
+	private static Converter converter(Class<?> type) {
+		if (Integer.TYPE.equals(type) || Integer.class.equals(type)) {
+			return Integer::parseInt;
+		} else if (Long.TYPE.equals(type) || Long.class.equals(type)) {
+			return Long::parseLong;
+		} else if (Float.TYPE.equals(type) || Float.class.equals(type)) {
+			return Float::parseFloat;
+		} else if (Double.TYPE.equals(type) || Double.class.equals(type)) {
+			return Double::parseDouble;
+		} else if (Boolean.TYPE.equals(type) || Boolean.class.equals(type)) {
+			return Boolean::parseBoolean;
+		} else if (int[].class.equals(type)) {
+			return stringValue -> {
+				String[] svec = splitArrayString(stringValue);
+				int[] dvec = new int[svec.length];
+				for (int vi = 0; vi < svec.length; vi++) {
+					dvec[vi] = Integer.parseInt(svec[vi].trim());
+				}
+				return dvec;
+			};
+		} else if (float[].class.equals(type)) {
+			return stringValue -> {
+				String[] svec = splitArrayString(stringValue);
+				float[] dvec = new float[svec.length];
+				for (int vi = 0; vi < svec.length; vi++) {
+					dvec[vi] = Float.parseFloat(svec[vi]);
+				}
+				return dvec;
+			};
+		} else if (double[].class.equals(type)) {
+			return stringValue -> {
+				String[] svec = splitArrayString(stringValue);
+				double[] dvec = new double[svec.length];
+				for (int vi = 0; vi < svec.length; vi++) {
+					dvec[vi] = Double.parseDouble(svec[vi]);
+				}
+				return dvec;
+			};
+		} else if (String[].class.equals(type)) {
+			return RESTServer::splitArrayString;
+		} else {
+			// String also if it is some other, will raise exception on invocation
+			return stringValue -> stringValue;
+		}
+	}
+
+	/**
+	 * Command of the scripting interface, resolved once at startup. The method
+	 * handle takes the scripting interface instance and the array of arguments,
+	 * and returns the boxed return value, or null for void methods.
+	 */
+	private static class Command {
+		final String name;
+		final String declaration;
+		final String[] paramNames;
+		final Converter[] converters;
+		final MethodHandle handle;
+
+		Command(Method method, MethodHandle handle) {
+			Parameter[] params = method.getParameters();
+			this.name = method.getName();
+			this.declaration = methodDeclarationString(method);
+			this.paramNames = new String[params.length];
+			this.converters = new Converter[params.length];
+			for (int i = 0; i < params.length; i++) {
+				paramNames[i] = params[i].getName();
+				converters[i] = converter(params[i].getType());
+			}
+			this.handle = handle.asType(MethodType.genericMethodType(params.length + 1)).asSpreader(Object[].class, params.length);
+		}
+
+		boolean paramsPresent(Set<String> names) {
+			for (String paramName : paramNames) {
+				if (!names.contains(paramName))
+					return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Dispatch table of the scripting interface. Maps each command name to its
+	 * overloads, indexed by arity.
+	 */
+	private static Map<String, Command[]> commands;
+
+	/**
+	 * Sorted declarations of all commands, for the help
+	 */
+	private static String[] allDeclarations;
+
+	/**
+	 * Builds the dispatch table of the scripting interface, with the method handles
+	 * and argument converters of all its methods.
+	 */
+	private static void initializeCommands() {
+		MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+		Map<String, Command[]> table = new HashMap<String, Command[]>();
+		List<String> declarations = new ArrayList<String>();
+		for (Method method : IScriptingInterface.class.getDeclaredMethods()) {
+			Command command;
+			try {
+				command = new Command(method, lookup.unreflect(method));
+			} catch (IllegalAccessException e) {
+				logger.error(e, "Could not access method " + method.getName());
+				continue;
+			}
+			int arity = command.paramNames.length;
+			Command[] overloads = table.get(command.name);
+			if (overloads == null || overloads.length <= arity) {
+				overloads = overloads == null ? new Command[arity + 1] : Arrays.copyOf(overloads, arity + 1);
+				table.put(command.name, overloads);
+			}
+			if (overloads[arity] != null) {
+				// Only the first one is reachable by name and arity
+				logger.warn("Command {} has several overloads with {} parameters, only '{}' is available", command.name, arity, overloads[arity].declaration);
+				continue;
+			}
+			overloads[arity] = command;
+			declarations.add(command.declaration);
+		}
+		Collections.sort(declarations);
+		commands = table;
+		allDeclarations = declarations.toArray(new String[0]);
+		logger.info("Dispatch table ready with {} commands", declarations.size());
+	}
+
 	/**
 	 * Handles the API call.
 	 *
-	 * This is implemented via Java Reflections and gives access to all methods from
-	 * IScriptingInterface
-	 * (core/src/gaia/cu9/ari/gaiaorbit/script/IScriptingInterface.java).
-	 * Additionally, it provides "special-purpose commands", see commented source
-	 * block.
+	 * This gives access to all methods from IScriptingInterface
+	 * (core/src/gaia/cu9/ari/gaiaorbit/script/IScriptingInterface.java) through
+	 * the dispatch table built at startup. Additionally, it provides
+	 * "special-purpose commands", see commented source block.
 	 *
 	 * Since HTTP request variables are all strings and do provide neither argument
 	 * indices nor argument types, there cannot be a direct translation to Java
@@ -276,7 +443,8 @@ public class RESTServer {
 	private static String handleApiCall(spark.Request request, spark.Response response) {
 
 		// Logging basic request information
-		loggerRequestInfo(request);
+		if (Logger.level.getVal() >= LoggerLevel.DEBUG.getVal())
+			loggerRequestInfo(request);
 
 		// map containing information for http return response
 		Map<String, Object> ret = new HashMap<String, Object>();
@@ -292,193 +460,182 @@ public class RESTServer {
 		// Extract command from http request
 		String cmd = request.params(":cmd");
 
-		// params
-		Set<String> queryParams = request.queryParams();
-
-		// get set of permitted API commands
-		Class<IScriptingInterface> cisi = IScriptingInterface.class;
-		Method[] allMethods = cisi.getDeclaredMethods();
-
 		/* Special-treatment commands */
 		if ("help".equals(cmd)) {
-			logger.debug("Help command received");
 			ret.put("text", "Help: see 'cmd_syntax' for command reference. " + "Vectors are comma-separated.");
-			ret.put("cmd_syntax", getMethodDeclarationStrings("", IScriptingInterface.class));
+			ret.put("cmd_syntax", getMethodDeclarationStrings(""));
 			return responseData(request, response, ret, true);
 		} else if ("debugCall".equals(cmd)) {
-			logger.debug("debugCall received. What to do now?");
 			ret.put("text", "debugCall data");
 			return responseData(request, response, ret, true);
 		}
 
-		/* Method matching (name and parameters) */
-		logger.debug("Method matching...");
-		int matchIndex = -1;
-		boolean methodNameMatches = false;
-		for (int i = 0; i < allMethods.length; i++) {
-			logger.debug("match check cmd={} with method={}...", cmd, allMethods[i].getName());
-
-			// name matches, but parameters may be different
-			if (allMethods[i].getName().equals(cmd)) {
-				logger.debug("  [+] name matches");
-				methodNameMatches = true;
-				Parameter[] methodParams = allMethods[i].getParameters();
-
-				// check if parameters present (and optionally type fits?)
-				boolean allParamsFound = true;
-				for (Parameter p : methodParams) {
-					if (!queryParams.contains(p.getName())) {
-						allParamsFound = false;
-						logger.debug("  [+] method parameters not present");
-						break; // no need to continue checking
-					}
-					// could test for parameter type here...
-				}
+		boolean success = execute(cmd, request.queryParams(), request::queryParams, ret);
+		return responseData(request, response, ret, success);
+	}
 
-				if (allParamsFound) {
-					logger.debug("  [+] method parameters ok");
-					matchIndex = i;
-					break; // no need to continue checking: the the first match
-				}
-			}
+	/**
+	 * Handles the batch call. The body of the request is a JSON array with the
+	 * commands to run, in order. Each command is an object with the command name
+	 * under "cmd" and its parameters under "params", as in the following:
+	 *
+	 * [{"cmd":"setCameraUp","params":{"up":[1,0,0]}},{"cmd":"getScreenWidth"}]
+	 *
+	 * Parameter values are given as they would be in the HTTP request. All commands
+	 * are run, even if some fail. The "value" of the response contains the
+	 * response of each command, in the same order.
+	 */
+	private static String handleBatchCall(spark.Request request, spark.Response response) {
+		Map<String, Object> ret = new HashMap<String, Object>();
+
+		if (!activated) {
+			String msg = "GUI not yet initialized. Please wait...";
+			logger.warn(msg);
+			ret.put("text", msg);
+			return responseData(request, response, ret, false);
 		}
 
-		/* Handle matching result */
-		if (matchIndex >= 0) {
-			/* Found suitable method */
-			logger.debug("Suitable method found: {}", methodDeclarationString(allMethods[matchIndex]));
-
-			Method matchMethod = allMethods[matchIndex];
-			Parameter[] matchParameters = matchMethod.getParameters();
-			Class<?> matchReturnType = matchMethod.getReturnType();
-
-			Object[] arguments = new Object[matchParameters.length];
-			Class<?>[] types = new Class[matchParameters.length];
-
-			/* Prepare method arguments */
-			logger.debug("Preparing method arguments...");
-			for (int i = 0; i < matchParameters.length; i++) {
-				Parameter p = matchParameters[i];
-				String stringValue = request.queryParams(p.getName());
-				logger.debug("  [+] handling parameter '{}'", p.getName());
-
-				// Set type
-				types[i] = p.getType();
-				logger.debug("  [+] parameter getType = '{}', isPrimitive = {}", p.getType().getSimpleName(),
-						p.getType().isPrimitive());
-
-				/*
-				 * Set argument value, handling depends on type: We test against both primitives
-				 * (.TYPE) and objects (.class). You might need to add more in the future if you
-				 * trigger exceptions here...
-				 */
+		JsonArray batch;
+		try {
+			batch = new JsonParser().parse(request.body()).getAsJsonArray();
+		} catch (RuntimeException e) {
+			String msg = "Failed: the body must be a JSON array of commands";
+			logger.warn(msg);
+			ret.put("text", msg);
+			return responseData(request, response, ret, false);
+		}
+
+		List<Map<String, Object>> results = new ArrayList<Map<String, Object>>(batch.size());
+		boolean success = true;
+		for (JsonElement element : batch) {
+			Map<String, Object> result = new HashMap<String, Object>();
+			boolean ok;
+			if (element.isJsonObject() && element.getAsJsonObject().has("cmd")) {
+				JsonObject command = element.getAsJsonObject();
+				String cmd = null;
+				Map<String, String> params = new HashMap<String, String>();
 				try {
-					if (Integer.TYPE.equals(types[i]) || Integer.class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type int");
-						arguments[i] = Integer.parseInt(stringValue);
-
-					} else if (Long.TYPE.equals(types[i]) || Long.class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type long");
-						arguments[i] = Long.parseLong(stringValue);
-
-					} else if (Float.TYPE.equals(types[i]) || Float.class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type float");
-						arguments[i] = Float.parseFloat(stringValue);
-
-					} else if (Double.TYPE.equals(types[i]) || Double.class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type double");
-						arguments[i] = Double.parseDouble(stringValue);
-
-					} else if (Boolean.TYPE.equals(types[i]) || Boolean.class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type boolean");
-						arguments[i] = Boolean.parseBoolean(stringValue);
-
-					} else if (int[].class.equals(types[i]) || Integer[].class.equals(types[i])) {
-						logger.debug("handling parameter as type int[]");
-						String[] svec = splitArrayString(stringValue);
-						int[] dvec = new int[svec.length];
-						for (int vi = 0; vi < svec.length; vi++) {
-							dvec[vi] = Integer.parseInt(svec[vi]);
-						}
-						arguments[i] = dvec;
-						logger.debug("  [+] argument={}", Arrays.toString(dvec));
-
-					} else if (float[].class.equals(types[i]) || Float[].class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type float[]");
-						String[] svec = splitArrayString(stringValue);
-						float[] dvec = new float[svec.length];
-						for (int vi = 0; vi < svec.length; vi++) {
-							dvec[vi] = Float.parseFloat(svec[vi]);
+					cmd = command.get("cmd").getAsString();
+					if (command.has("params")) {
+						for (Map.Entry<String, JsonElement> param : command.getAsJsonObject("params").entrySet()) {
+							params.put(param.getKey(), paramString(param.getValue()));
 						}
-						arguments[i] = dvec;
-						logger.debug("  [+] argument={}", Arrays.toString(dvec));
-
-					} else if (double[].class.equals(types[i]) || Double[].class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type double[]");
-						String[] svec = splitArrayString(stringValue);
-						double[] dvec = new double[svec.length];
-						for (int vi = 0; vi < svec.length; vi++) {
-							dvec[vi] = Double.parseDouble(svec[vi]);
-						}
-						arguments[i] = dvec;
-						logger.debug("  [+] argument={}", Arrays.toString(dvec));
-
-					} else if (String[].class.equals(types[i])) {
-						logger.debug("  [+] handling parameter as type String[]");
-						String[] svec = splitArrayString(stringValue);
-						arguments[i] = svec;
-						logger.debug("  [+] argument={}", Arrays.toString(svec));
-
-					} else {
-						logger.debug("  [+] handling parameter as type String");
-						// String also if it is some other, will raise exception
-						arguments[i] = stringValue;
 					}
-
-				} catch (IllegalArgumentException e) {
-					String msg = String.format("Argument failure with parameter '%s'", p.getName());
-					logger.warn(msg);
-					ret.put("text", msg);
-					ret.put("cmd_syntax", getMethodDeclarationStrings(cmd, IScriptingInterface.class));
-					return responseData(request, response, ret, false);
+				} catch (RuntimeException e) {
+					// Malformed entry, e.g. 'cmd' or a parameter which is not a primitive
+					logger.warn("Failed parsing batch command: " + command);
+					result.put("text", "Failed: malformed command");
+					cmd = null;
 				}
-			}
-
-			/* Invoke method */
-			try {
-				logger.debug("Invoking method...");
-				// note: invoke may return null explicitly or because is void type
-				Object retobj = matchMethod.invoke(EventScriptingInterface.instance(), arguments);
-				if (retobj == null) {
-					logger.debug("Method returned: '{}', return type is {}", retobj, matchReturnType);
+				if (cmd != null) {
+					result.put("cmd", cmd);
+					ok = execute(cmd, params.keySet(), params::get, result);
 				} else {
-					logger.debug("Method returned: '{}', isArray={}", retobj, retobj.getClass().isArray());
+					ok = false;
 				}
-				ret.put("value", retobj);
-			} catch (Exception e) {
-				e.printStackTrace();
+			} else {
+				result.put("text", "Failed: command without 'cmd'");
+				ok = false;
 			}
-			return responseData(request, response, ret, true);
+			result.putIfAbsent("value", null);
+			result.put("success", ok);
+			result.putIfAbsent("text", ok ? "OK" : "Failed");
+			results.add(result);
+			success = success && ok;
+		}
+		ret.put("value", results);
+		return responseData(request, response, ret, success);
+	}
 
+	/**
+	 * Converts a JSON parameter value of a batch command to the string it would
+	 * have in an HTTP request. Arrays are written in square brackets.
+	 */
+	private static String paramString(JsonElement value) {
+		if (value.isJsonArray()) {
+			StringBuilder sb = new StringBuilder("[");
+			JsonArray array = value.getAsJsonArray();
+			for (int i = 0; i < array.size(); i++) {
+				if (i > 0)
+					sb.append(',');
+				sb.append(array.get(i).getAsString());
+			}
+			return sb.append(']').toString();
+		} else if (value.isJsonNull()) {
+			return null;
 		} else {
-			/* No match: could not find matching method */
-			logger.debug("No suitable method found.");
+			return value.getAsString();
+		}
+	}
+
+	/**
+	 * Runs a command of the scripting interface. Picks the overload with most
+	 * parameters whose names are all present, converts the arguments and invokes
+	 * it.
+	 *
+	 * @param cmd    The command name
+	 * @param names  The names of the given parameters
+	 * @param values Gets the string value of a parameter by name
+	 * @param ret    Map where the response data of the command are put
+	 * @return Whether the command was run successfully
+	 */
+	private static boolean execute(String cmd, Set<String> names, Function<String, String> values, Map<String, Object> ret) {
+		/* Method matching (name and parameters) */
+		Command[] overloads = commands.get(cmd);
+		Command match = null;
+		if (overloads != null) {
+			for (int arity = Math.min(names.size(), overloads.length - 1); arity >= 0; arity--) {
+				Command command = overloads[arity];
+				if (command != null && command.paramsPresent(names)) {
+					match = command;
+					break;
+				}
+			}
+		}
 
+		if (match == null) {
+			/* No match: could not find matching method */
 			String msg;
-			if (methodNameMatches) {
+			if (overloads != null) {
 				msg = String.format("Failed: command name '%s' found, "
 						+ "but arguments not compatible.See syntax in 'cmd_syntax'.", cmd);
-				ret.put("cmd_syntax", getMethodDeclarationStrings(cmd, IScriptingInterface.class));
+				ret.put("cmd_syntax", getMethodDeclarationStrings(cmd));
 			} else {
 				msg = String.format("Failed: command name '%s' not found. " + "See syntax in 'cmd_syntax'.", cmd);
-				ret.put("cmd_syntax", getMethodDeclarationStrings("", IScriptingInterface.class));
+				ret.put("cmd_syntax", getMethodDeclarationStrings(""));
 			}
 			logger.warn(msg);
 			ret.put("text", msg);
-			return responseData(request, response, ret, false);
+			return false;
 		}
-	}
 
+		/* Prepare method arguments */
+		Object[] arguments = new Object[match.paramNames.length];
+		for (int i = 0; i < arguments.length; i++) {
+			try {
+				arguments[i] = match.converters[i].convert(values.apply(match.paramNames[i]));
+			} catch (IllegalArgumentException | NullPointerException e) {
+				String msg = String.format("Argument failure with parameter '%s'", match.paramNames[i]);
+				logger.warn(msg);
+				ret.put("text", msg);
+				ret.put("cmd_syntax", getMethodDeclarationStrings(cmd));
+				return false;
+			}
+		}
+
+		/* Invoke method */
+		try {
+			// note: invoke returns null explicitly or because is void type
+			Object target = EventScriptingInterface.instance();
+			Object retobj = (Object) match.handle.invokeExact(target, arguments);
+			ret.put("value", retobj);
+			return true;
+		} catch (Throwable t) {
+			logger.error(t, "Error invoking " + match.declaration);
+			ret.put("text", String.format("Failed: error invoking '%s': %s", cmd, t));
+			return false;
+		}
+	}
 
 	/**
 	 * Initialize the REST server.
@@ -500,6 +657,11 @@ public class RESTServer {
 		try {
 			logger.warn("Starting REST API server on http://localhost:{}", port);
 			port(port);
+
+			/* Telemetry stream, WebSockets must be mapped before any route */
+			telemetry = new TelemetryStream();
+			webSocket("/api/telemetry", telemetry);
+
 			logger.info("Setting routes");
 
 			/*
@@ -511,6 +673,8 @@ public class RESTServer {
 			staticFiles.externalLocation(rest_static_location);
 
 			/* Scripting API mapping */
+			initializeCommands();
+
 			get("/api", (request, response) -> {
 				response.redirect("/api/help");
 				return response;
@@ -518,6 +682,9 @@ public class RESTServer {
 
 			get("/api/:cmd", (request, response) -> handleApiCall(request, response));
 
+			/* Batch of commands, must be mapped before the commands */
+			post("/api/batch", RESTServer::handleBatchCall);
+
 			post("/api/:cmd", RESTServer::handleApiCall);
 
 			logger.info("Startup finished.");
@@ -533,6 +700,10 @@ public class RESTServer {
 	 */
 	public static void activate() {
 		activated = true;
+		if (telemetry != null) {
+			// Sample the telemetry once per frame in the render thread
+			EventManager.instance.post(Events.POST_RUNNABLE, "rest-telemetry", (Runnable) telemetry::sample);
+		}
 	}
 
 	/**
@@ -0,0 +1,214 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.rest;
+
+import com.badlogic.gdx.Gdx;
+import com.google.gson.JsonPrimitive;
+import gaia.cu9.ari.gaiaorbit.GaiaSky;
+import gaia.cu9.ari.gaiaorbit.scenegraph.IFocus;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.CameraManager;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.CameraManager.CameraMode;
+import gaia.cu9.ari.gaiaorbit.util.Constants;
+import gaia.cu9.ari.gaiaorbit.util.Logger;
+import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.WriteCallback;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketError;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Telemetry stream of the REST server. Pushes the state of the camera, the
+ * simulation time, the frame rate and the focus to the connected WebSocket
+ * clients, so that they do not need to poll the getters of the scripting
+ * interface.
+ *
+ * Clients connect to ws://localhost:8080/api/telemetry, optionally with the
+ * rate in frames per second, e.g. ws://localhost:8080/api/telemetry?rate=30.
+ * The default rate is {@link #DEFAULT_RATE}. Each frame is a JSON object like
+ * the following, with positions in km and the time in milliseconds since epoch:
+ *
+ * {"time":1546300800000,"fps":60,"pos":[x,y,z],"dir":[x,y,z],"up":[x,y,z],"mode":"Focus","focus":"Earth"}
+ *
+ * The state is sampled once per frame in the render thread, and only when some
+ * client is due. Frames are sent asynchronously, and each client has a small
+ * buffer of pending frames. When the buffer of a slow client is full, its
+ * oldest frame is dropped, so that the renderer never blocks.
+ *
+ * @author tsagrista
+ */
+@WebSocket
+public class TelemetryStream {
+	private static final Log logger = Logger.getLogger(TelemetryStream.class);
+
+	/** Default rate, in frames per second **/
+	public static final double DEFAULT_RATE = 10;
+	/** Maximum number of pending frames per client **/
+	private static final int BUFFER_SIZE = 4;
+
+	/**
+	 * A connected client, with its own rate and buffer. At most one frame is being
+	 * written to the client at a time, the next one is sent when the write
+	 * finishes.
+	 */
+	private static class Client implements WriteCallback {
+		final Session session;
+		/** Time between frames, in nanoseconds **/
+		final long period;
+		/** Time of the next frame, in nanoseconds **/
+		long next;
+		final ArrayBlockingQueue<String> buffer;
+		final AtomicBoolean sending;
+
+		Client(Session session, double rate) {
+			this.session = session;
+			this.period = rate > 0 ? (long) (1e9 / rate) : 0;
+			this.next = System.nanoTime();
+			this.buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+			this.sending = new AtomicBoolean(false);
+		}
+
+		boolean due(long now) {
+			if (now - next >= 0) {
+				// Skip the frames we missed instead of catching up
+				next = Math.max(next + period, now);
+				return true;
+			}
+			return false;
+		}
+
+		void offer(String frame) {
+			while (!buffer.offer(frame)) {
+				// Full, drop the oldest frame
+				buffer.poll();
+			}
+			send();
+		}
+
+		void send() {
+			if (sending.compareAndSet(false, true)) {
+				String frame = buffer.poll();
+				if (frame == null) {
+					sending.set(false);
+					// A frame may have been offered before we released the flag
+					if (!buffer.isEmpty())
+						send();
+				} else if (session.isOpen()) {
+					session.getRemote().sendString(frame, this);
+				} else {
+					sending.set(false);
+				}
+			}
+		}
+
+		@Override
+		public void writeSuccess() {
+			sending.set(false);
+			send();
+		}
+
+		@Override
+		public void writeFailed(Throwable t) {
+			sending.set(false);
+			logger.debug("Telemetry frame could not be sent to {}: {}", session.getRemoteAddress(), t.getMessage());
+		}
+	}
+
+	/** Connected clients, iterated by the render thread without locking **/
+	private final List<Client> clients;
+
+	private final StringBuilder sb;
+
+	public TelemetryStream() {
+		clients = new CopyOnWriteArrayList<>();
+		sb = new StringBuilder(256);
+	}
+
+	@OnWebSocketConnect
+	public void connected(Session session) {
+		double rate = DEFAULT_RATE;
+		Map<String, List<String>> params = session.getUpgradeRequest().getParameterMap();
+		if (params != null && params.containsKey("rate")) {
+			try {
+				rate = Double.parseDouble(params.get("rate").get(0));
+			} catch (NumberFormatException e) {
+				logger.warn("Wrong telemetry rate '{}', using {}", params.get("rate").get(0), DEFAULT_RATE);
+			}
+		}
+		clients.add(new Client(session, rate));
+		logger.info("Telemetry client connected: {} ({} fps)", session.getRemoteAddress(), rate);
+	}
+
+	@OnWebSocketClose
+	public void closed(Session session, int statusCode, String reason) {
+		remove(session);
+		logger.info("Telemetry client disconnected: {}", session.getRemoteAddress());
+	}
+
+	@OnWebSocketError
+	public void error(Session session, Throwable t) {
+		remove(session);
+		logger.debug("Telemetry client error: {}", t.getMessage());
+	}
+
+	private void remove(Session session) {
+		for (Client client : clients) {
+			if (client.session == session)
+				clients.remove(client);
+		}
+	}
+
+	/**
+	 * Samples the state and pushes it to the clients which are due. Must run once
+	 * per frame in the render thread.
+	 */
+	public void sample() {
+		if (clients.isEmpty())
+			return;
+
+		long now = System.nanoTime();
+		String frame = null;
+		for (Client client : clients) {
+			if (client.due(now)) {
+				if (frame == null)
+					frame = frame();
+				client.offer(frame);
+			}
+		}
+	}
+
+	/**
+	 * Writes the current state as a JSON frame
+	 */
+	private String frame() {
+		GaiaSky gs = GaiaSky.instance;
+		CameraManager cam = gs.cam;
+		sb.setLength(0);
+		sb.append("{\"time\":").append(gs.time.getTime().toEpochMilli());
+		sb.append(",\"fps\":").append(Gdx.graphics.getFramesPerSecond());
+		vector("pos", cam.getPos(), Constants.U_TO_KM);
+		vector("dir", cam.getDirection(), 1);
+		vector("up", cam.getUp(), 1);
+		sb.append(",\"mode\":\"").append(cam.getMode().name()).append('"');
+		IFocus focus = cam.getMode() == CameraMode.Focus ? cam.getFocus() : null;
+		sb.append(",\"focus\":").append(focus != null ? new JsonPrimitive(focus.getName()).toString() : "null");
+		sb.append('}');
+		return sb.toString();
+	}
+
+	private void vector(String key, Vector3d v, double scale) {
+		sb.append(",\"").append(key).append("\":[").append(v.x * scale).append(',').append(v.y * scale).append(',').append(v.z * scale).append(']');
+	}
+
+}
@@ -12,7 +12,6 @@ import com.badlogic.gdx.utils.ObjectMap.Keys;
 import com.badlogic.gdx.utils.ObjectSet;
 import gaia.cu9.ari.gaiaorbit.GaiaSky;
 import gaia.cu9.ari.gaiaorbit.render.system.StarPointRenderSystem;
-import gaia.cu9.ari.gaiaorbit.scenegraph.StarGroup.StarBean;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
 import gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper.AbstractOctreeWrapper;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
@@ -23,7 +22,9 @@ import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 import gaia.cu9.ari.gaiaorbit.util.time.ITimeFrameProvider;
 import gaia.cu9.ari.gaiaorbit.util.tree.IPosition;
 
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class AbstractSceneGraph implements ISceneGraph {
     private static Log logger = Logger.getLogger(AbstractSceneGraph.class);
@@ -37,6 +38,11 @@ public abstract class AbstractSceneGraph implements ISceneGraph {
      * constellations
      **/
     IntMap<IPosition> hipMap;
+    /**
+     * Star groups with columnar data, whose stars are not in the name map and
+     * are looked up on demand
+     **/
+    private final List<StarGroup> columnarGroups;
     /** Number of objects per thread **/
     protected int[] objectsPerThread;
     /** Does it contain an octree **/
@@ -54,6 +60,8 @@ public abstract class AbstractSceneGraph implements ISceneGraph {
         // Objects per thread
         objectsPerThread = new int[1];
 
+        columnarGroups = new CopyOnWriteArrayList<>();
+
         aux3d1 = new Vector3d();
     }
 
@@ -152,10 +160,12 @@ public abstract class AbstractSceneGraph implements ISceneGraph {
                     }
                 }
             } else if (node instanceof StarGroup) {
-                Array<StarBean> stars = ((StarGroup) node).data();
-                for (StarBean s : stars) {
-                    if (s.hip() > 0) {
-                        hipMap.put(s.hip(), new Position(s.x(), s.y(), s.z(), s.pmx(), s.pmy(), s.pmz()));
+                StarGroup sg = (StarGroup) node;
+                int n = sg.size();
+                for (int i = 0; i < n; i++) {
+                    int hip = sg.hip(i);
+                    if (hip > 0) {
+                        hipMap.put(hip, new Position(sg.x(i), sg.y(i), sg.z(i), sg.pmx(i), sg.pmy(i), sg.pmz(i)));
                     }
                 }
             }
@@ -177,11 +187,12 @@ public abstract class AbstractSceneGraph implements ISceneGraph {
                 }
             } else if (node instanceof StarGroup) {
                 StarGroup sg = (StarGroup) node;
-                Array<StarBean> arr = sg.data();
-                if(arr != null) {
-                    for (StarBean sb : arr) {
-                        if (sb != null && sb.hip() >= 0)
-                            hipMap.remove(sb.hip());
+                if(sg.hasData()) {
+                    int n = sg.size();
+                    for (int i = 0; i < n; i++) {
+                        int hip = sg.hip(i);
+                        if (hip >= 0)
+                            hipMap.remove(hip);
                     }
                 }
             }
@@ -204,6 +215,8 @@ public abstract class AbstractSceneGraph implements ISceneGraph {
 
             // Special cases
             node.addToIndex(map);
+            if (node instanceof StarGroup && ((StarGroup) node).isColumnar())
+                columnarGroups.add((StarGroup) node);
         }
     }
 
@@ -220,6 +233,8 @@ public abstract class AbstractSceneGraph implements ISceneGraph {
 
             // Special cases
             node.removeFromIndex(map);
+            if (node instanceof StarGroup)
+                columnarGroups.remove(node);
         }
     }
 
@@ -269,17 +284,33 @@ public abstract class AbstractSceneGraph implements ISceneGraph {
     }
 
     public boolean containsNode(String name) {
-        return stringToNode.containsKey(name);
+        return stringToNode.containsKey(name) || findColumnarGroup(name) != null;
     }
 
     public SceneGraphNode getNode(String name) {
         //return root.getNode(name);
         SceneGraphNode node = stringToNode.get(name);
+        if (node == null)
+            node = findColumnarGroup(name);
         if (node instanceof StarGroup)
             ((StarGroup) node).getFocus(name);
         return node;
     }
 
+    /**
+     * Finds the columnar star group which contains the star with the given name
+     *
+     * @param name The name, id or HIP number of the star
+     * @return The star group, or null
+     */
+    private StarGroup findColumnarGroup(String name) {
+        for (StarGroup sg : columnarGroups) {
+            if (sg.indexOf(name) >= 0)
+                return sg;
+        }
+        return null;
+    }
+
     public Array<SceneGraphNode> getNodes() {
         Array<SceneGraphNode> objects = new Array<>();
         root.addNodes(objects);
@@ -117,6 +117,12 @@ public class CosmicRuler extends AbstractPositionEntity implements I3DTextRender
         }
     }
 
+    @Override
+    public boolean isUpdateThreadBound() {
+        // Posts the ruler distance
+        return true;
+    }
+
     @Override
     public void updateLocalValues(ITimeFrameProvider time, ICamera camera) {
         // Update positions
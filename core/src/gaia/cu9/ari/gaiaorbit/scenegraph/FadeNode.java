@@ -144,10 +144,7 @@ public class FadeNode extends AbstractPositionEntity {
         updateLocal(time, camera);
 
         if (children != null && GaiaSky.instance.isOn(ct)) {
-            for (int i = 0; i < children.size; i++) {
-                SceneGraphNode child = children.get(i);
-                child.update(time, translation, camera, this.opacity);
-            }
+            updateChildren(time, camera, this.opacity);
         }
     }
 
@@ -236,13 +236,13 @@ public class KeyframesPathObject extends VertsObject implements I3DTextRenderabl
 
     public void refreshSingleVector(VertsObject vo, Vector3d pos, Vector3d vec) {
         PointCloudData p = vo.pointCloudData;
-        p.x.set(0, pos.x);
-        p.y.set(0, pos.y);
-        p.z.set(0, pos.z);
+        p.setX(0, pos.x);
+        p.setY(0, pos.y);
+        p.setZ(0, pos.z);
 
-        p.x.set(1, pos.x + vec.x);
-        p.y.set(1, pos.y + vec.y);
-        p.z.set(1, pos.z + vec.z);
+        p.setX(1, pos.x + vec.x);
+        p.setY(1, pos.y + vec.y);
+        p.setZ(1, pos.z + vec.z);
         vo.markForUpdate();
     }
 
@@ -311,13 +311,13 @@ public class KeyframesPathObject extends VertsObject implements I3DTextRenderabl
                 double[] targ = (i % 2 == 0) ? dirs : ups;
                 VertsObject vo = orientations.get(i);
                 PointCloudData p = vo.getPointCloud();
-                p.x.set(0, kts[i / 2 * 3]);
-                p.y.set(0, kts[i / 2 * 3 + 1]);
-                p.z.set(0, kts[i / 2 * 3 + 2]);
+                p.setX(0, kts[i / 2 * 3]);
+                p.setY(0, kts[i / 2 * 3 + 1]);
+                p.setZ(0, kts[i / 2 * 3 + 2]);
 
-                p.x.set(1, kts[i / 2 * 3] + targ[j]);
-                p.y.set(1, kts[i / 2 * 3 + 1] + targ[j + 1]);
-                p.z.set(1, kts[i / 2 * 3 + 2] + targ[j + 2]);
+                p.setX(1, kts[i / 2 * 3] + targ[j]);
+                p.setY(1, kts[i / 2 * 3 + 1] + targ[j + 1]);
+                p.setZ(1, kts[i / 2 * 3 + 2] + targ[j + 2]);
 
                 if (i % 2 == 1)
                     j += 3;
@@ -366,6 +366,12 @@ public class KeyframesPathObject extends VertsObject implements I3DTextRenderabl
         orientations.add(up);
     }
 
+    @Override
+    public boolean isUpdateThreadBound() {
+        // Driven by the keyframes window
+        return true;
+    }
+
     public void update(ITimeFrameProvider time, final Vector3d parentTransform, ICamera camera, float opacity) {
         for (VertsObject vo : objects)
             vo.update(time, parentTransform, camera, opacity);
@@ -375,16 +381,16 @@ public class KeyframesPathObject extends VertsObject implements I3DTextRenderabl
             Vector3d p0 = aux3d1.get();
             Vector3d p1 = aux3d2.get();
             PointCloudData p = vo.pointCloudData;
-            p0.set(p.x.get(0), p.y.get(0), p.z.get(0));
-            p1.set(p.x.get(1), p.y.get(1), p.z.get(1));
+            p.loadPoint(p0, 0);
+            p.loadPoint(p1, 1);
 
             Vector3d c = aux3d3.get().set(camera.getPos());
             double len = Math.max(0.00008, Math.atan(0.03) * c.dst(p0));
 
             Vector3d v = c.set(p1).sub(p0).nor().scl(len);
-            p.x.set(1, p0.x + v.x);
-            p.y.set(1, p0.y + v.y);
-            p.z.set(1, p0.z + v.z);
+            p.setX(1, p0.x + v.x);
+            p.setY(1, p0.y + v.y);
+            p.setZ(1, p0.z + v.z);
             vo.markForUpdate();
         }
 
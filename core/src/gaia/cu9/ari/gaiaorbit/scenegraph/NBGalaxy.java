@@ -111,7 +111,7 @@ public class NBGalaxy extends Particle {
     }
 
     protected boolean addToRender(IRenderable renderable, RenderGroup rg) {
-        SceneGraphRenderer.render_lists.get(rg.ordinal()).add(renderable);
+        SceneGraphRenderer.renderList(rg).add(renderable);
         return true;
     }
 
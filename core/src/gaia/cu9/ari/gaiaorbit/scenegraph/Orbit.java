@@ -90,8 +90,11 @@ public class Orbit extends Polyline {
         alpha = cc[3];
         if (!onlybody) {
             int last = pointCloudData.getNumPoints() - 1;
-            Vector3d v = new Vector3d(pointCloudData.x.get(last), pointCloudData.y.get(last), pointCloudData.z.get(last));
+            Vector3d v = new Vector3d();
+            pointCloudData.loadPoint(v, last);
             this.size = (float) v.len() * 5;
+            // Only periodic orbits are closed, trajectories are not
+            this.closedLoop = oc != null && oc.period > 0;
         } else {
 
         }
@@ -142,7 +145,7 @@ public class Orbit extends Polyline {
                     this.alpha = cc[3];
                 }
 
-                RenderGroup rg = GlobalConf.scene.ORBIT_RENDERER == 1 ? RenderGroup.LINE_GPU : RenderGroup.LINE;
+                RenderGroup rg = gpuRenderGroup(GlobalConf.scene.ORBIT_RENDERER == 1 ? RenderGroup.LINE_GPU : RenderGroup.LINE);
 
                 if (body == null) {
                     // No body, always render
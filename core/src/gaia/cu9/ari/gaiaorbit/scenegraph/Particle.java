@@ -272,7 +272,7 @@ public class Particle extends CelestialBody implements IStarFocus, ILineRenderab
 
     protected boolean addToRender(IRenderable renderable, RenderGroup rg) {
         if (renderOn) {
-            SceneGraphRenderer.render_lists.get(rg.ordinal()).add(renderable);
+            SceneGraphRenderer.renderList(rg).add(renderable);
             return true;
         }
         return false;
@@ -12,7 +12,9 @@ import com.badlogic.gdx.graphics.PerspectiveCamera;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.math.collision.Ray;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.TimeUtils;
 import gaia.cu9.ari.gaiaorbit.GaiaSky;
 import gaia.cu9.ari.gaiaorbit.data.group.IParticleGroupDataProvider;
@@ -31,15 +33,18 @@ import gaia.cu9.ari.gaiaorbit.scenegraph.component.RotationComponent;
 import gaia.cu9.ari.gaiaorbit.util.Constants;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
-import gaia.cu9.ari.gaiaorbit.util.Pair;
 import gaia.cu9.ari.gaiaorbit.util.coord.Coordinates;
 import gaia.cu9.ari.gaiaorbit.util.math.MathUtilsd;
 import gaia.cu9.ari.gaiaorbit.util.math.Quaterniond;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector2d;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 import gaia.cu9.ari.gaiaorbit.util.time.ITimeFrameProvider;
+import gaia.cu9.ari.gaiaorbit.util.tree.KdTree;
 
 import java.io.Serializable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class represents a group of non-focusable particles, all with the same
@@ -166,6 +171,33 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
     // Has been disposed
     public boolean disposed = false;
 
+    /**
+     * Groups with at least this many particles get a spatial index
+     */
+    protected static final int SPATIAL_INDEX_THRESHOLD = 20000;
+    /** Pick candidates from the spatial index are widened by this factor **/
+    private static final double PICK_SLACK = 1.25;
+
+    /**
+     * Builds the spatial indices of all groups in the background
+     */
+    private static ExecutorService indexPool;
+
+    /**
+     * Spatial index over the particle positions at epoch, used for picking.
+     * It is built in the background after loading, and is null until it is
+     * ready.
+     */
+    private volatile KdTree spatialIndex;
+    // Largest radius and largest displacement per year of the indexed particles
+    private double indexMaxRadius, indexMaxDisplacement;
+    // Incremented when the data changes, so that outdated indices are dropped
+    private final AtomicInteger indexGeneration = new AtomicInteger(0);
+    // Candidates of the last pick
+    private final IntArray pickCandidates = new IntArray();
+    // Scratch of the spatial index queries, only used in the main thread
+    private final KdTree.Scratch indexScratch = new KdTree.Scratch();
+
     public ParticleGroup() {
         super();
         inGpu = false;
@@ -205,6 +237,86 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
     @Override
     public void doneLoading(AssetManager manager) {
         super.doneLoading(manager);
+        buildSpatialIndex();
+    }
+
+    private static synchronized ExecutorService indexPool() {
+        if (indexPool == null) {
+            final AtomicInteger indexSequence = new AtomicInteger(0);
+            indexPool = Executors.newSingleThreadExecutor((Runnable r) -> {
+                Thread t = new Thread(r, "spatial-index-" + indexSequence.getAndIncrement());
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        return indexPool;
+    }
+
+    /**
+     * Builds the spatial index of this group in the background, if the group is
+     * large enough. Until it is ready, queries go through all the particles.
+     */
+    protected void buildSpatialIndex() {
+        if (!hasData() || size() < SPATIAL_INDEX_THRESHOLD)
+            return;
+        final int generation = indexGeneration.get();
+        final int n = size();
+        indexPool().execute(() -> {
+            try {
+                long start = TimeUtils.millis();
+                KdTree tree = new KdTree(new KdTree.Points() {
+                    @Override
+                    public int size() {
+                        return n;
+                    }
+
+                    @Override
+                    public double x(int i) {
+                        return ParticleGroup.this.x(i);
+                    }
+
+                    @Override
+                    public double y(int i) {
+                        return ParticleGroup.this.y(i);
+                    }
+
+                    @Override
+                    public double z(int i) {
+                        return ParticleGroup.this.z(i);
+                    }
+                });
+                double maxRadius = 0, maxDisplacement = 0;
+                for (int i = 0; i < n; i++) {
+                    maxRadius = Math.max(maxRadius, getRadius(i));
+                    maxDisplacement = Math.max(maxDisplacement, Math.sqrt(pmx(i) * pmx(i) + pmy(i) * pmy(i) + pmz(i) * pmz(i)));
+                }
+                if (!disposed && generation == indexGeneration.get()) {
+                    indexMaxRadius = maxRadius;
+                    indexMaxDisplacement = maxDisplacement;
+                    spatialIndex = tree;
+                    Logger.getLogger(this.getClass()).debug(getName() + ": spatial index of " + n + " particles built in " + (TimeUtils.millis() - start) + " ms");
+                }
+            } catch (Exception e) {
+                // The data may have been disposed or replaced in the meantime
+                if (!disposed && generation == indexGeneration.get())
+                    Logger.getLogger(this.getClass()).error(e);
+            }
+        });
+    }
+
+    /**
+     * Drops the spatial index, must be called whenever the data change
+     */
+    protected void invalidateSpatialIndex() {
+        indexGeneration.incrementAndGet();
+        spatialIndex = null;
+    }
+
+    /**
+     * @return The spatial index, or null if it is not available
+     */
+    public KdTree getSpatialIndex() {
+        return spatialIndex;
     }
 
     /**
@@ -228,12 +340,12 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
      * @param forceRecompute Recomputes the geometric centre even if it has been already computed
      */
     public Vector3d computeGeomCentre(boolean forceRecompute){
-        if(pointData != null && (forceRecompute || geomCentre == null)){
+        if(hasData() && (forceRecompute || geomCentre == null)){
             geomCentre = new Vector3d(0,0,0);
-            int n = pointData.size;
+            Vector3d aux = aux3d1.get();
+            int n = size();
             for(int i =0; i < n; i++){
-                ParticleBean pb = pointData.get(i);
-                geomCentre.add(pb.x(), pb.y(), pb.z());
+                geomCentre.add(fetchPosition(i, null, aux, 0));
             }
             geomCentre.scl(1d / (double) n);
         }
@@ -249,8 +361,17 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
         return pointData.size;
     }
 
+    /**
+     * Whether this group has data loaded
+     *
+     * @return True if the data is loaded
+     */
+    public boolean hasData() {
+        return pointData != null;
+    }
+
     public void update(ITimeFrameProvider time, final Vector3d parentTransform, ICamera camera, float opacity) {
-        if (pointData != null && this.isVisible()) {
+        if (hasData() && this.isVisible()) {
             this.opacity = 1;
             super.update(time, parentTransform, camera, opacity);
 
@@ -406,7 +527,7 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
 
     @Override
     public int getStarCount() {
-        return pointData.size;
+        return size();
     }
 
     public boolean isActive() {
@@ -498,6 +619,35 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
         return getFocusSize();
     }
 
+    /*
+     * Per-particle accessors. Positions are at epoch, particles have no
+     * proper motion.
+     */
+
+    public double x(int i) {
+        return pointData.get(i).x();
+    }
+
+    public double y(int i) {
+        return pointData.get(i).y();
+    }
+
+    public double z(int i) {
+        return pointData.get(i).z();
+    }
+
+    public double pmx(int i) {
+        return 0;
+    }
+
+    public double pmy(int i) {
+        return 0;
+    }
+
+    public double pmz(int i) {
+        return 0;
+    }
+
     public double getRadius(int i) {
         // All particles have the same radius
         return getRadius();
@@ -533,62 +683,51 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
     }
 
     public void addHit(int screenX, int screenY, int w, int h, int pxdist, NaturalCamera camera, Array<IFocus> hits) {
-        int n = pointData.size;
         if (GaiaSky.instance.isOn(ct) && this.opacity > 0) {
-            Array<Pair<Integer, Double>> temporalHits = new Array<>();
-            for (int i = 0; i < n; i++) {
-                ParticleBean pb = pointData.get(i);
-                Vector3 pos = aux3f1.get();
-                Vector3d posd = fetchPosition(pb, camera.getPos(), aux3d1.get(), getDeltaYears());
-                pos.set(posd.valuesf());
-
-                if (camera.direction.dot(posd) > 0) {
-                    // The star is in front of us
-                    // Diminish the size of the star
-                    // when we are close by
-                    double dist = posd.len();
-                    double angle = getRadius(i) / dist / camera.getFovFactor();
-
-                    PerspectiveCamera pcamera;
-                    if (GlobalConf.program.STEREOSCOPIC_MODE) {
-                        if (screenX < Gdx.graphics.getWidth() / 2f) {
-                            pcamera = camera.getCameraStereoLeft();
-                            pcamera.update();
-                        } else {
-                            pcamera = camera.getCameraStereoRight();
-                            pcamera.update();
-                        }
-                    } else {
-                        pcamera = camera.camera;
-                    }
-
-                    angle = (float) Math.toDegrees(angle * camera.fovFactor) * (40f / pcamera.fieldOfView);
-                    double pixelSize = Math.max(pxdist, ((angle * pcamera.viewportHeight) / pcamera.fieldOfView) / 2);
-                    pcamera.project(pos);
-                    pos.y = pcamera.viewportHeight - pos.y;
-                    if (GlobalConf.program.STEREOSCOPIC_MODE) {
-                        pos.x /= 2;
+            PerspectiveCamera pcamera;
+            if (GlobalConf.program.STEREOSCOPIC_MODE) {
+                if (screenX < Gdx.graphics.getWidth() / 2f) {
+                    pcamera = camera.getCameraStereoLeft();
+                    pcamera.update();
+                } else {
+                    pcamera = camera.getCameraStereoRight();
+                    pcamera.update();
+                }
+            } else {
+                pcamera = camera.camera;
+            }
+            double deltaYears = getDeltaYears();
+
+            // Largest hit, the lowest index wins ties
+            int best = -1;
+            double bestAngle = 0;
+            KdTree tree = spatialIndex;
+            if (tree != null && !GlobalConf.program.STEREOSCOPIC_MODE) {
+                IntArray candidates = pickCandidates;
+                candidates.clear();
+                coneCandidates(tree, screenX, screenY, pxdist, camera, pcamera, deltaYears, candidates);
+                for (int k = 0; k < candidates.size; k++) {
+                    int i = candidates.get(k);
+                    double angle = hitAngle(i, screenX, screenY, pxdist, camera, pcamera, deltaYears);
+                    if (angle >= 0 && (best < 0 || angle > bestAngle || (angle == bestAngle && i < best))) {
+                        best = i;
+                        bestAngle = angle;
                     }
-
-                    // Check click distance
-                    if (pos.dst(screenX % pcamera.viewportWidth, screenY, pos.z) <= pixelSize) {
-                        //Hit
-                        temporalHits.add(new Pair<>(i, angle));
+                }
+            } else {
+                int n = size();
+                for (int i = 0; i < n; i++) {
+                    double angle = hitAngle(i, screenX, screenY, pxdist, camera, pcamera, deltaYears);
+                    if (angle >= 0 && (best < 0 || angle > bestAngle)) {
+                        best = i;
+                        bestAngle = angle;
                     }
                 }
             }
 
-            Pair<Integer, Double> best = null;
-            for (Pair<Integer, Double> hit : temporalHits) {
-                if (best == null)
-                    best = hit;
-                else if (hit.getSecond() > best.getSecond()) {
-                    best = hit;
-                }
-            }
-            if (best != null) {
+            if (best >= 0) {
                 // We found the best hit
-                candidateFocusIndex = best.getFirst();
+                candidateFocusIndex = best;
                 updateFocusDataPos();
                 hits.add(this);
                 return;
@@ -599,6 +738,62 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
         updateFocusDataPos();
     }
 
+    /**
+     * Checks whether the particle is under the given screen position
+     *
+     * @return The view angle of the particle if it is hit, negative otherwise
+     */
+    private double hitAngle(int i, int screenX, int screenY, int pxdist, NaturalCamera camera, PerspectiveCamera pcamera, double deltaYears) {
+        Vector3 pos = aux3f1.get();
+        Vector3d posd = fetchPosition(i, camera.getPos(), aux3d1.get(), deltaYears);
+        pos.set(posd.valuesf());
+
+        if (camera.direction.dot(posd) > 0) {
+            // The star is in front of us
+            // Diminish the size of the star
+            // when we are close by
+            double dist = posd.len();
+            double angle = getRadius(i) / dist / camera.getFovFactor();
+
+            angle = (float) Math.toDegrees(angle * camera.fovFactor) * (40f / pcamera.fieldOfView);
+            double pixelSize = Math.max(pxdist, ((angle * pcamera.viewportHeight) / pcamera.fieldOfView) / 2);
+            pcamera.project(pos);
+            pos.y = pcamera.viewportHeight - pos.y;
+            if (GlobalConf.program.STEREOSCOPIC_MODE) {
+                pos.x /= 2;
+            }
+
+            // Check click distance
+            if (pos.dst(screenX % pcamera.viewportWidth, screenY, pos.z) <= pixelSize) {
+                //Hit
+                return angle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collects the particles which may be hit at the given screen position,
+     * a superset of those which pass {@link #hitAngle}. A hit is at most the
+     * pick distance or the projected radius of the particle away, in pixels,
+     * from the screen position. In angle, this is the cone around the pick ray
+     * with an aperture of the pick distance, grown by the largest radius
+     * scaled by the pixel size.
+     */
+    private void coneCandidates(KdTree tree, int screenX, int screenY, int pxdist, NaturalCamera camera, PerspectiveCamera pcamera, double deltaYears, IntArray out) {
+        Ray ray = pcamera.getPickRay(screenX, screenY);
+        double fov = pcamera.fieldOfView;
+        // Largest angle subtended by a pixel, at the centre of the view
+        double pixelAngle = 2 * Math.tan(Math.toRadians(fov / 2)) / Gdx.graphics.getHeight();
+        // Projected radius in pixels per unit of radius over distance, as in hitAngle
+        double radiusPixels = Math.toDegrees(1) * (40f / fov) * (pcamera.viewportHeight / fov) / 2;
+
+        double angle = Math.min(1.5, PICK_SLACK * pxdist * pixelAngle);
+        double distance = PICK_SLACK * radiusPixels * pixelAngle * indexMaxRadius + indexMaxDisplacement * Math.abs(deltaYears);
+        Vector3d cpos = camera.getPos();
+        tree.cone(cpos.x, cpos.y, cpos.z, ray.direction.x, ray.direction.y, ray.direction.z, angle, distance, out, indexScratch);
+    }
+
     @Override
     public void notify(Events event, Object... data) {
         switch (event) {
@@ -620,15 +815,15 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
         if (focusIndex < 0) {
             focus = null;
         } else {
-            focus = pointData.get(focusIndex);
-            focusPosition.set(focus.data[0], focus.data[1], focus.data[2]);
+            focus = pointData != null ? pointData.get(focusIndex) : null;
+            fetchPosition(focusIndex, null, focusPosition, 0);
             Vector3d possph = Coordinates.cartesianToSpherical(focusPosition, aux3d1.get());
             focusPositionSph.set((float) (MathUtilsd.radDeg * possph.x), (float) (MathUtilsd.radDeg * possph.y));
         }
     }
 
     public void setFocusIndex(int index) {
-        if (index >= 0 && index < pointData.size) {
+        if (index >= 0 && index < size()) {
             candidateFocusIndex = index;
             makeFocus();
         }
@@ -699,6 +894,22 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
             return dest.set(pb.data[0], pb.data[1], pb.data[2]);
     }
 
+    /**
+     * Fetches the real position of the particle at the given index. It will apply the necessary
+     * integrations (i.e. proper motion).
+     *
+     * @param i          The index of the particle
+     * @param campos     The position of the camera. If null, the camera position is
+     *                   not subtracted so that the coordinates are given in the global
+     *                   reference system instead of the camera reference system.
+     * @param dest       The destination fector
+     * @param deltaYears The delta years
+     * @return The vector for chaining
+     */
+    protected Vector3d fetchPosition(int i, Vector3d campos, Vector3d dest, double deltaYears) {
+        return fetchPosition(pointData.get(i), campos, dest, deltaYears);
+    }
+
     /**
      * Returns the delta years to integrate the proper motion.
      *
@@ -727,6 +938,7 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
         EventManager.instance.post(Events.DISPOSE_PARTICLE_GROUP_GPU_MESH, this.offset);
         // Data to be gc'd
         this.pointData = null;
+        invalidateSpatialIndex();
         // Remove focus if needed
         CameraManager cam = GaiaSky.instance.getCameraManager();
         if (cam != null && cam.getFocus() != null && cam.getFocus() == this) {
@@ -741,15 +953,19 @@ public class ParticleGroup extends FadeNode implements I3DTextRenderable, IFocus
     }
 
     @Override
-    public void highlight(boolean hl) {
-        this.inGpu = this.highlighted == hl;
-        super.highlight(hl);
+    public void highlight(boolean hl, int index) {
+        boolean changed = this.highlighted != hl || (hl && this.hlci != index);
+        super.highlight(hl, index);
+        if (changed)
+            highlightChanged();
     }
 
-    @Override
-    public void highlight(boolean hl, int index){
-        this.inGpu = this.highlighted == hl;
-        super.highlight(hl, index);
+    /**
+     * Called when the highlight state or colour changes. By default the
+     * group is sent to the GPU again.
+     */
+    protected void highlightChanged() {
+        this.inGpu = false;
     }
 
 }
@@ -6,9 +6,12 @@
 package gaia.cu9.ari.gaiaorbit.scenegraph;
 
 import com.badlogic.gdx.graphics.GL20;
+import gaia.cu9.ari.gaiaorbit.event.EventManager;
+import gaia.cu9.ari.gaiaorbit.event.Events;
 import gaia.cu9.ari.gaiaorbit.render.ILineRenderable;
 import gaia.cu9.ari.gaiaorbit.render.system.LineRenderSystem;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 
 /**
@@ -18,6 +21,9 @@ import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
  */
 public class Polyline extends VertsObject implements ILineRenderable {
 
+    /** The render group the data are in the GPU for **/
+    private RenderGroup gpuRenderGroup;
+
     public Polyline() {
         super(RenderGroup.LINE_GPU);
     }
@@ -45,7 +51,32 @@ public class Polyline extends VertsObject implements ILineRenderable {
     protected void addToRenderLists(ICamera camera) {
         // Lines only make sense with 2 or more points
         if (pointCloudData != null && pointCloudData.getNumPoints() > 1)
-            addToRender(this, renderGroup);
+            addToRender(this, gpuRenderGroup(renderGroup));
+    }
+
+    /**
+     * Gets the render group to render the line with its data in the GPU.
+     * Polylines only change from time to time, so instead of the CPU line
+     * renderer, which rebuilds every line every frame, they use the GPU
+     * renderer with the same look. If the render group changes, for instance
+     * because the line renderer changed, the data are sent to the GPU again.
+     *
+     * @param rg The render group, {@link RenderGroup#LINE} for the look of the
+     *           current line renderer
+     * @return The GPU render group
+     */
+    protected RenderGroup gpuRenderGroup(RenderGroup rg) {
+        if (rg == RenderGroup.LINE)
+            rg = GlobalConf.scene.isNormalLineRenderer() ? RenderGroup.LINE_GPU : RenderGroup.LINE_GPU_QUAD;
+        if (rg != gpuRenderGroup) {
+            // Free the data in the previous render system, which happens later in the GL thread
+            if (gpuRenderGroup != null && getOffset() >= 0)
+                EventManager.instance.post(Events.DISPOSE_VERTS_GPU_MESH, gpuRenderGroup, getOffset());
+            gpuRenderGroup = rg;
+            setInGpu(false);
+            setOffset(-1);
+        }
+        return rg;
     }
 
     @Override
@@ -0,0 +1,177 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.scenegraph;
+
+import com.badlogic.gdx.utils.Array;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.MultiThreadIndexer;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.ThreadIndexer;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.ThreadPoolManager;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.UpdaterTask;
+import gaia.cu9.ari.gaiaorbit.event.EventManager;
+import gaia.cu9.ari.gaiaorbit.event.Events;
+import gaia.cu9.ari.gaiaorbit.render.SceneGraphRenderer;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
+import gaia.cu9.ari.gaiaorbit.util.time.ITimeFrameProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Implementation of a 3D scene graph which updates independent subtrees in
+ * parallel. When a node with many children is updated in the update thread,
+ * its children are partitioned across the threads of the
+ * {@link ThreadPoolManager} pool, and each thread updates whole subtrees. The
+ * subtrees which contain nodes bound to the update thread (see
+ * {@link SceneGraphNode#isUpdateThreadBound()}) are updated in the update
+ * thread meanwhile. Renderables are added to per-thread render lists, which
+ * are merged once the update finishes.
+ *
+ * @author Toni Sagrista
+ */
+public class SceneGraphConcurrent extends AbstractSceneGraph {
+    /** Nodes with fewer children update them serially **/
+    private static final int MIN_PARALLEL_CHILDREN = 8;
+
+    private final ThreadPoolExecutor pool;
+    private final int nThreads;
+    private Thread updateThread;
+
+    /**
+     * Per nesting level of the parallel updates in the update thread: the
+     * subtrees to update in parallel, those bound to the update thread, and the
+     * tasks
+     */
+    private final Array<Array<SceneGraphNode>> parallelNodes, boundNodes;
+    private final Array<Array<UpdaterTask<SceneGraphNode>>> tasks;
+    private final List<Future<Void>> futures;
+    private int level;
+
+    int nobjects = -1;
+
+    public SceneGraphConcurrent(int numThreads) {
+        super();
+        if (ThreadPoolManager.pool == null)
+            ThreadPoolManager.initialize(numThreads);
+        if (ThreadIndexer.instance == null)
+            ThreadIndexer.initialize(new MultiThreadIndexer());
+        this.pool = ThreadPoolManager.pool;
+        this.nThreads = pool.getCorePoolSize();
+        this.objectsPerThread = new int[1];
+        this.parallelNodes = new Array<>();
+        this.boundNodes = new Array<>();
+        this.tasks = new Array<>();
+        this.futures = new ArrayList<>();
+        this.level = 0;
+    }
+
+    public void update(ITimeFrameProvider time, ICamera camera) {
+        super.update(time, camera);
+        updateThread = Thread.currentThread();
+        SceneGraphRenderer.initThreadRenderLists(ThreadIndexer.instance.nthreads());
+
+        root.translation.set(camera.getInversePos());
+        root.update(time, null, camera);
+        objectsPerThread[0] = root.numChildren;
+
+        // All threads are done, merge their render lists
+        SceneGraphRenderer.mergeThreadRenderLists();
+
+        if (!hasOctree) {
+            if (nobjects < 0)
+                nobjects = getNObjects();
+            EventManager.instance.post(Events.DEBUG3, "Objects: " + nobjects);
+        }
+    }
+
+    /**
+     * Updates the children of the given node in parallel, if it is worth it and
+     * the call comes from the update thread. Nested calls in the pool threads
+     * are serial.
+     *
+     * @param parent  The node
+     * @param time    The time frame provider
+     * @param camera  The camera
+     * @param opacity The opacity to pass to the children
+     * @return Whether the children have been updated
+     */
+    boolean updateChildren(SceneGraphNode parent, ITimeFrameProvider time, ICamera camera, float opacity) {
+        Array<SceneGraphNode> children = parent.children;
+        if (children.size < MIN_PARALLEL_CHILDREN || Thread.currentThread() != updateThread || pool.isShutdown())
+            return false;
+
+        if (level == parallelNodes.size) {
+            Array<SceneGraphNode> nodes = new Array<>(false, 64);
+            parallelNodes.add(nodes);
+            boundNodes.add(new Array<>(false, 16));
+            Array<UpdaterTask<SceneGraphNode>> levelTasks = new Array<>(nThreads);
+            for (int t = 0; t < nThreads; t++)
+                levelTasks.add(new UpdaterTask<>(nodes, t, nThreads));
+            tasks.add(levelTasks);
+        }
+        Array<SceneGraphNode> parallel = parallelNodes.get(level);
+        Array<SceneGraphNode> bound = boundNodes.get(level);
+        Array<UpdaterTask<SceneGraphNode>> levelTasks = tasks.get(level);
+        parallel.clear();
+        bound.clear();
+        for (int i = 0; i < children.size; i++) {
+            SceneGraphNode child = children.get(i);
+            if (isParallelSafe(child))
+                parallel.add(child);
+            else
+                bound.add(child);
+        }
+
+        level++;
+        try {
+            // Start the parallel subtrees
+            int first = futures.size();
+            for (int t = 0; t < nThreads && t < parallel.size; t++) {
+                UpdaterTask<SceneGraphNode> task = levelTasks.get(t);
+                task.setParameters(camera, time, opacity);
+                futures.add(pool.submit(task));
+            }
+
+            // Meanwhile, update the bound subtrees here
+            for (int i = 0; i < bound.size; i++)
+                bound.get(i).update(time, parent.translation, camera, opacity);
+
+            try {
+                for (int i = futures.size() - 1; i >= first; i--)
+                    futures.remove(i).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        } finally {
+            level--;
+        }
+        return true;
+    }
+
+    /**
+     * Whether no node of the subtree is bound to the update thread
+     */
+    private static boolean isParallelSafe(SceneGraphNode node) {
+        if (node.isUpdateThreadBound())
+            return false;
+        if (node.children != null) {
+            for (int i = 0; i < node.children.size; i++)
+                if (!isParallelSafe(node.children.get(i)))
+                    return false;
+        }
+        return true;
+    }
+
+    public void dispose() {
+        super.dispose();
+        ThreadPoolManager.shutdown();
+    }
+
+}
@@ -120,6 +120,8 @@ public class SceneGraphNode implements IStarContainer, IPosition {
         POINT(25),
         /** Point GPU **/
         POINT_GPU(26),
+        /** Line GPU as quad strips **/
+        LINE_GPU_QUAD(27),
 
 
         /** None **/
@@ -488,12 +490,38 @@ public class SceneGraphNode implements IStarContainer, IPosition {
         updateLocal(time, camera);
 
         if (children != null) {
-            for (int i = 0; i < children.size; i++) {
-                children.get(i).update(time, translation, camera, opacity);
-            }
+            updateChildren(time, camera, opacity);
+        }
+    }
+
+    /**
+     * Updates the children of this node. With a {@link SceneGraphConcurrent},
+     * the children of nodes with many children are updated in parallel.
+     *
+     * @param time    The time frame provider
+     * @param camera  The camera
+     * @param opacity The opacity to pass to the children
+     */
+    protected void updateChildren(ITimeFrameProvider time, ICamera camera, float opacity) {
+        if (sg instanceof SceneGraphConcurrent && ((SceneGraphConcurrent) sg).updateChildren(this, time, camera, opacity))
+            return;
+        for (int i = 0; i < children.size; i++) {
+            children.get(i).update(time, translation, camera, opacity);
         }
     }
 
+    /**
+     * Whether this node must be updated in the thread which runs the scene
+     * graph update, and not in a worker thread of the parallel update. This is
+     * the case of nodes which post events during the update, whose observers
+     * may not be thread safe.
+     *
+     * @return Whether the update of this node is bound to the update thread
+     */
+    public boolean isUpdateThreadBound() {
+        return false;
+    }
+
     /**
      * Updates the transform matrix with the transformations that will apply to
      * the children and the local transform matrix with the transformations that
@@ -716,14 +744,16 @@ public class SceneGraphNode implements IStarContainer, IPosition {
     protected boolean addToRender(IRenderable renderable, RenderGroup rg) {
         boolean on = ct.intersects(SceneGraphRenderer.visible);
         if (on || SceneGraphRenderer.alphas[ct.getFirstOrdinal()] > 0) {
-            SceneGraphRenderer.render_lists.get(rg.ordinal()).add(renderable);
+            SceneGraphRenderer.renderList(rg).add(renderable);
             return true;
         }
         return false;
     }
 
     /**
-     * Removes the given renderable from the given render group list.
+     * Removes the given renderable from the given render group list of the
+     * current thread, where {@link #addToRender(IRenderable, RenderGroup)}
+     * added it.
      * 
      * @param renderable
      *            The renderable to remove
@@ -732,11 +762,29 @@ public class SceneGraphNode implements IStarContainer, IPosition {
      * @return True if removed, false otherwise
      */
     protected boolean removeFromRender(IRenderable renderable, RenderGroup rg) {
-        return SceneGraphRenderer.render_lists.get(rg.ordinal()).removeValue(renderable, true);
+        Array<IRenderable> list = SceneGraphRenderer.renderList(rg);
+        // Renderables are usually removed right after being added
+        int idx = list.lastIndexOf(renderable, true);
+        if (idx >= 0) {
+            list.removeIndex(idx);
+            return true;
+        }
+        return false;
     }
 
+    /**
+     * Checks whether the given renderable is in the given render group list of
+     * the current thread, where {@link #addToRender(IRenderable, RenderGroup)}
+     * added it.
+     *
+     * @param renderable
+     *            The renderable
+     * @param rg
+     *            The render group
+     * @return True if it is in the list, false otherwise
+     */
     protected boolean isInRender(IRenderable renderable, RenderGroup rg) {
-        return SceneGraphRenderer.render_lists.get(rg.ordinal()).contains(renderable, true);
+        return SceneGraphRenderer.renderList(rg).lastIndexOf(renderable, true) >= 0;
     }
 
     /**
@@ -759,6 +807,15 @@ public class SceneGraphNode implements IStarContainer, IPosition {
         return 0;
     }
 
+    /**
+     * Estimates the heap memory held by the data of this node
+     *
+     * @return The estimated size in bytes
+     */
+    public long getHeapBytes() {
+        return 0;
+    }
+
     @Override
     public Vector3d getPosition() {
         return null;
@@ -190,6 +190,12 @@ public class Spacecraft extends GenericSpacecraft implements ILineRenderable, IO
 
     }
 
+    @Override
+    public boolean isUpdateThreadBound() {
+        // Posts the spacecraft state
+        return true;
+    }
+
     @Override
     public void updateLocal(ITimeFrameProvider time, ICamera camera) {
         super.updateLocal(time, camera);
@@ -27,6 +27,7 @@ import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.TimeUtils;
 import gaia.cu9.ari.gaiaorbit.GaiaSky;
+import gaia.cu9.ari.gaiaorbit.data.group.ColumnarStarData;
 import gaia.cu9.ari.gaiaorbit.data.group.IStarGroupDataProvider;
 import gaia.cu9.ari.gaiaorbit.event.EventManager;
 import gaia.cu9.ari.gaiaorbit.event.Events;
@@ -34,6 +35,7 @@ import gaia.cu9.ari.gaiaorbit.event.IObserver;
 import gaia.cu9.ari.gaiaorbit.render.*;
 import gaia.cu9.ari.gaiaorbit.render.system.FontRenderSystem;
 import gaia.cu9.ari.gaiaorbit.render.system.LineRenderSystem;
+import gaia.cu9.ari.gaiaorbit.render.system.StarGroupRenderSystem;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.CameraManager;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.CameraManager.CameraMode;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.FovCamera;
@@ -42,6 +44,7 @@ import gaia.cu9.ari.gaiaorbit.scenegraph.component.ModelComponent;
 import gaia.cu9.ari.gaiaorbit.util.*;
 import gaia.cu9.ari.gaiaorbit.util.color.ColourUtils;
 import gaia.cu9.ari.gaiaorbit.util.coord.AstroUtils;
+import gaia.cu9.ari.gaiaorbit.util.ds.IndexSorter;
 import gaia.cu9.ari.gaiaorbit.util.gdx.IntModelBatch;
 import gaia.cu9.ari.gaiaorbit.util.gdx.mesh.IntMesh;
 import gaia.cu9.ari.gaiaorbit.util.gdx.model.IntModel;
@@ -50,14 +53,15 @@ import gaia.cu9.ari.gaiaorbit.util.gravwaves.RelativisticEffectsManager;
 import gaia.cu9.ari.gaiaorbit.util.math.MathUtilsd;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 import gaia.cu9.ari.gaiaorbit.util.time.ITimeFrameProvider;
+import gaia.cu9.ari.gaiaorbit.util.tree.KdTree;
 import gaia.cu9.ari.gaiaorbit.util.tree.OctreeNode;
 import net.jafama.FastMath;
 
-import java.util.Arrays;
-import java.util.Comparator;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 
 /**
  * A particle group which additionally to the xyz position, supports color and
@@ -159,7 +163,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     // Min update time
     private static final double MIN_UPDATE_TIME_MS = 100;
     // Sequence id
-    private static long idSeq = 0;
+    private static AtomicLong idSeq = new AtomicLong(0);
     /**
      * Star model
      **/
@@ -228,31 +232,82 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     private static ThreadPoolExecutor pool;
     private static BlockingQueue<Runnable> workQueue;
 
+    /**
+     * Pool where the chunks of the sort of large groups run in parallel
+     */
+    private static ForkJoinPool sortPool;
+    /** Groups with fewer stars are sorted in a single chunk **/
+    private static final int PARALLEL_SORT_THRESHOLD = 50000;
+
     static {
         workQueue = new LinkedBlockingQueue<>();
         int nThreads = !GlobalConf.performance.MULTITHREADING ? 1 : Math.max(1, GlobalConf.performance.NUMBER_THREADS() - 1);
         pool = new ThreadPoolExecutor(nThreads, nThreads, 5, TimeUnit.SECONDS, workQueue);
         pool.setThreadFactory(new DaemonThreadFactory());
+        sortPool = !GlobalConf.performance.MULTITHREADING ? null : new ForkJoinPool(GlobalConf.performance.NUMBER_THREADS());
     }
 
+    /** Estimated heap size of a star bean, with its data array, id and name **/
+    private static final long BEAN_BYTES = 32 + (16 + StarBean.SIZE * 8) + 16 + 56;
+    /** Estimated heap size of a name index entry, with its table slots and key **/
+    private static final long INDEX_ENTRY_BYTES = 10 + 56;
+
     /**
      * The name index
      */
     ObjectIntMap<String> index;
 
     /**
-     * Additional values
+     * Columnar star data, if this group was loaded from a columnar page. In that
+     * case the point data list is null, and all star attributes are read from here.
      */
-    double[] additional;
+    ColumnarStarData columns;
+
+    /**
+     * Sort keys, with the view angle and the index of each star packed
+     * as in {@link IndexSorter}
+     */
+    long[] sortKeys;
+    // Scratch buffer for full parallel sorts, created when first needed
+    long[] sortTmp;
+    // Sorter of this group, its chunks run in the shared sort pool
+    private final IndexSorter sorter = new IndexSorter(sortPool);
+
+    // State of the current sort, read by the sort key chunks
+    private final Vector3d sortCamPos = new Vector3d();
+    private double sortDeltaYears, sortFactor;
+    private int sortN, sortChunks;
+    private final IntConsumer sortKeysOp = c -> updateSortKeys(IndexSorter.chunkStart(sortN, sortChunks, c), IndexSorter.chunkStart(sortN, sortChunks, c + 1));
 
     // Indices list buffer 1
-    Integer[] indices1;
+    int[] indices1;
     // Indices list buffer 2
-    Integer[] indices2;
-    // Active indices list
-    Integer[] active;
+    int[] indices2;
+    /**
+     * Active indices list, only used in the main thread. Only the first
+     * nActive entries hold the stars of the last sort, see {@link #getNSorted()}.
+     * The rest are left over from earlier sorts and must not be used.
+     */
+    int[] active;
+    // Number of sorted entries in the active list
+    int nActive;
     // Background indices list (the one we sort)
-    Integer[] background;
+    int[] background;
+    // Number of sorted entries in the background list
+    int nBackground;
+    // Swaps the lists in the main thread, created once
+    private final Runnable swapper = this::swapLists;
+
+    /**
+     * Vertices packed by the loader, waiting to be sent to the GPU. Released
+     * after the upload.
+     */
+    public volatile float[] packedVertices;
+
+    /**
+     * Whether the colour and size attributes in the GPU need to be rewritten
+     */
+    public volatile boolean attribsDirty = false;
 
     // Close up stars treated
     private int N_CLOSEUP_STARS;
@@ -265,6 +320,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
      **/
     private Vector3d closestPos, closestPm;
     private String closestName;
+    private int closestIndex = -1;
     private double closestDist;
     private double closestSize;
     private float[] closestCol;
@@ -273,11 +329,6 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
     private Vector3d lastSortCameraPos;
 
-    /**
-     * Comparator
-     **/
-    private Comparator<Integer> comp;
-
     private Vector3d aux;
 
     // Is it updating?
@@ -285,8 +336,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
     public StarGroup() {
         super();
-        id = idSeq++;
-        comp = new StarGroupComparator();
+        id = idSeq.getAndIncrement();
         closestPos = new Vector3d();
         closestPm = new Vector3d();
         lastSortCameraPos = new Vector3d(Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE);
@@ -323,18 +373,25 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
         super.doneLoading(manager);
         initModel();
 
-        // Additional
-        additional = new double[pointData.size];
+        // Sort keys
+        int n = size();
+        sortKeys = new long[n];
 
         // Initialise indices list with natural order
-        indices1 = new Integer[pointData.size];
-        indices2 = new Integer[pointData.size];
-        for (int i = 0; i < pointData.size; i++) {
+        indices1 = new int[n];
+        indices2 = new int[n];
+        for (int i = 0; i < n; i++) {
             indices1[i] = i;
             indices2[i] = i;
         }
         active = indices1;
         background = indices2;
+        // Natural order until the first sort
+        nActive = n;
+        nBackground = n;
+
+        // Pack vertices in this thread, usually a loader worker
+        packedVertices = StarGroupRenderSystem.packVertices(this);
 
         /**
          * INIT UPDATER TASK
@@ -358,19 +415,71 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
     public void setData(Array<StarBean> pointData, boolean regenerateIndex) {
         this.pointData = pointData;
+        this.columns = null;
         this.N_CLOSEUP_STARS = getNCloseupStars();
+        invalidateSpatialIndex();
 
         // Regenerate index
         if (regenerateIndex)
             regenerateIndex();
     }
 
+    /**
+     * Sets the data of this group from a columnar star page. No star beans are
+     * created. Columnar groups have no name index, stars are looked up in the
+     * columnar data itself, see {@link ColumnarStarData#indexOf(String)}.
+     *
+     * @param columns The columnar data
+     */
+    public void setData(ColumnarStarData columns) {
+        this.columns = columns;
+        this.pointData = null;
+        this.index = null;
+        this.N_CLOSEUP_STARS = getNCloseupStars();
+        invalidateSpatialIndex();
+    }
+
     private int getNCloseupStars() {
-        return Math.min(GlobalConf.scene.isHighQuality() ? 80 : (GlobalConf.scene.isNormalQuality() ? 60 : 40), pointData.size);
+        return Math.min(GlobalConf.scene.isHighQuality() ? 80 : (GlobalConf.scene.isNormalQuality() ? 60 : 40), size());
     }
 
     public void regenerateIndex() {
-        index = generateIndex(data());
+        index = columns != null ? null : generateIndex(data());
+    }
+
+    /**
+     * Returns the name index, generating it if needed. Columnar groups have no
+     * name index.
+     *
+     * @return The index, or null
+     */
+    private ObjectIntMap<String> index() {
+        if (index == null && columns == null && hasData())
+            regenerateIndex();
+        return index;
+    }
+
+    /**
+     * Finds the star with the given name, id or HIP number (as 'hip N')
+     *
+     * @param name The name, in lower case
+     * @return The index of the star, or -1 if it is not in this group
+     */
+    public int indexOf(String name) {
+        if (columns != null)
+            return columns.indexOf(name);
+        ObjectIntMap<String> index = index();
+        return index != null ? index.get(name, -1) : -1;
+    }
+
+    /**
+     * Whether this group is backed by columnar data, whose stars are not in
+     * the scene graph name index
+     *
+     * @return Whether the data is columnar
+     */
+    public boolean isColumnar() {
+        return columns != null;
     }
 
     /**
@@ -403,13 +512,92 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     public void computeFixedMeanPosition() {
         if (!fixedMeanPosition) {
             // Mean position
-            for (StarBean point : data()) {
-                pos.add(point.x(), point.y(), point.z());
+            int n = size();
+            for (int i = 0; i < n; i++) {
+                pos.add(x(i), y(i), z(i));
             }
-            pos.scl(1d / pointData.size);
+            pos.scl(1d / n);
         }
     }
 
+    @Override
+    public int size() {
+        return columns != null ? columns.size() : pointData.size;
+    }
+
+    @Override
+    public boolean hasData() {
+        return columns != null || pointData != null;
+    }
+
+    /*
+     * Per-star accessors, valid for both bean lists and columnar data
+     */
+
+    private StarBean bean(int i) {
+        return (StarBean) pointData.get(i);
+    }
+
+    public double x(int i) {
+        return columns != null ? columns.x(i) : bean(i).x();
+    }
+
+    public double y(int i) {
+        return columns != null ? columns.y(i) : bean(i).y();
+    }
+
+    public double z(int i) {
+        return columns != null ? columns.z(i) : bean(i).z();
+    }
+
+    public double pmx(int i) {
+        return columns != null ? columns.pmx(i) : bean(i).pmx();
+    }
+
+    public double pmy(int i) {
+        return columns != null ? columns.pmy(i) : bean(i).pmy();
+    }
+
+    public double pmz(int i) {
+        return columns != null ? columns.pmz(i) : bean(i).pmz();
+    }
+
+    public double mualpha(int i) {
+        return columns != null ? columns.mualpha(i) : bean(i).mualpha();
+    }
+
+    public double mudelta(int i) {
+        return columns != null ? columns.mudelta(i) : bean(i).mudelta();
+    }
+
+    public double radvel(int i) {
+        return columns != null ? columns.radvel(i) : bean(i).radvel();
+    }
+
+    public double appmag(int i) {
+        return columns != null ? columns.appmag(i) : bean(i).appmag();
+    }
+
+    public double absmag(int i) {
+        return columns != null ? columns.absmag(i) : bean(i).absmag();
+    }
+
+    public double col(int i) {
+        return columns != null ? columns.col(i) : bean(i).col();
+    }
+
+    public int hip(int i) {
+        return columns != null ? columns.hip(i) : bean(i).hip();
+    }
+
+    public long id(int i) {
+        return columns != null ? columns.id(i) : bean(i).id;
+    }
+
+    public String name(int i) {
+        return columns != null ? columns.name(i) : bean(i).name;
+    }
+
     public void update(ITimeFrameProvider time, final Vector3d parentTransform, ICamera camera, float opacity) {
         // Fade node visibility
         if (this.isVisible() && active.length > 0) {
@@ -418,24 +606,28 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
             super.update(time, parentTransform, camera, opacity);
 
-            // Update closest star
-            StarBean closestStar = (StarBean) pointData.get(active[0]);
+            // Update closest star, the one with the largest view angle in the last sort
+            int closest = active[0];
 
-            closestPm.set(closestStar.pmx(), closestStar.pmy(), closestStar.pmz()).scl(currDeltaYears);
-            closestPos.set(closestStar.x(), closestStar.y(), closestStar.z()).sub(camera.getPos()).add(closestPm);
-            closestDist = closestPos.len() - getRadius(active[0]);
+            closestPm.set(pmx(closest), pmy(closest), pmz(closest)).scl(currDeltaYears);
+            closestPos.set(x(closest), y(closest), z(closest)).sub(camera.getPos()).add(closestPm);
+            closestDist = closestPos.len() - getRadius(closest);
             Color c = new Color();
-            Color.abgr8888ToColor(c, (float) closestStar.col());
+            Color.abgr8888ToColor(c, (float) col(closest));
             closestCol[0] = c.r;
             closestCol[1] = c.g;
             closestCol[2] = c.b;
             closestCol[3] = c.a;
-            closestSize = getSize(active[0]);
-            closestName = closestStar.name;
+            closestSize = getSize(closest);
+            if (closestIndex != closest) {
+                // Name is resolved lazily
+                closestIndex = closest;
+                closestName = null;
+            }
             camera.setClosestStar(this);
 
             // Model dist
-            modelDist = 172.4643429 * getRadius(active[0]);
+            modelDist = 172.4643429 * getRadius(closest);
         }
 
     }
@@ -447,8 +639,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
      * @param camera The current camera
      */
     public void updateFocus(ITimeFrameProvider time, ICamera camera) {
-        StarBean focus = (StarBean) pointData.get(focusIndex);
-        Vector3d aux = this.fetchPosition(focus, camera.getPos(), aux3d1.get(), currDeltaYears);
+        Vector3d aux = this.fetchPosition(focusIndex, camera.getPos(), aux3d1.get(), currDeltaYears);
 
         this.focusPosition.set(aux).add(camera.getPos());
         this.focusDistToCamera = aux.len();
@@ -466,44 +657,68 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
             return getAbsolutePosition(aux);
         } else {
             double deltaYears = AstroUtils.getMsSince(time.getTime(), epoch_jd) * Nature.MS_TO_Y;
-            return this.fetchPosition(pointData.get(focusIndex), null, aux, deltaYears);
+            return this.fetchPosition(focusIndex, null, aux, deltaYears);
         }
     }
 
     /**
-     * Updates the additional information array, to use for sorting.
-     *
-     * @param camera
+     * Updates the sort keys of the stars in [from, to) with their view angle
+     * (negated, so that the largest go first).
      */
-    public void updateAdditional(ITimeFrameProvider time, ICamera camera) {
-        Vector3d cpos = camera.getPos();
-        double deltaYears = AstroUtils.getMsSince(time.getTime(), epoch_jd) * Nature.MS_TO_Y;
-        int n = pointData.size;
-        for (int i = 0; i < n; i++) {
-            StarBean d = (StarBean) pointData.get(i);
-
-            // Pm
-            Vector3d dx = aux3d2.get().set(d.pmx(), d.pmy(), d.pmz()).scl(deltaYears);
-            // Pos
-            Vector3d x = aux3d1.get().set(d.x(), d.y(), d.z()).add(dx);
-
-            additional[i] = -(((d.size() * Constants.STAR_SIZE_FACTOR) / cpos.dst(x.x, x.y, x.z)) / camera.getFovFactor()) * GlobalConf.scene.STAR_BRIGHTNESS;
+    private void updateSortKeys(int from, int to) {
+        final Vector3d cpos = sortCamPos;
+        final double deltaYears = sortDeltaYears;
+        final double factor = sortFactor;
+        for (int i = from; i < to; i++) {
+            double dx = x(i) + pmx(i) * deltaYears - cpos.x;
+            double dy = y(i) + pmy(i) * deltaYears - cpos.y;
+            double dz = z(i) + pmz(i) * deltaYears - cpos.z;
+            double viewAngle = (getSize(i) * Constants.STAR_SIZE_FACTOR) / Math.sqrt(dx * dx + dy * dy + dz * dz) * factor;
+            sortKeys[i] = IndexSorter.pack(-viewAngle, i);
         }
     }
 
+    /**
+     * Number of sorted stars needed by the renderers: close-up stars, labels and
+     * proper motion lines. Only this many entries of the active list are valid
+     * after a sort, so the renderers clamp their loops to {@link #nActive}.
+     */
+    private int getNSorted() {
+        return (int) Math.min(size(), Math.max(getMaxProperMotionLines(), N_CLOSEUP_STARS * 5L));
+    }
+
     /**
      * Sorts the list of particles using the apparent magnitude (view angle)
      * criterion. This should be called only when the camera frustum is
      * significantly changed. By no means should this be called every cycle.
      * Sorting happens always in the working buffer, which is not the active
      * buffer. After sorting, buffers are swapped.
+     * <p>
+     * Only the stars which are actually rendered are selected and sorted,
+     * and large groups are processed in parallel chunks.
      */
     public void updateSorter(ITimeFrameProvider time, ICamera camera) {
-        // Prepare metadata to sort
-        updateAdditional(time, camera);
-
-        // Sort background list of indices
-        Arrays.sort(background, comp);
+        final int n = size();
+        final int nChunks = n < PARALLEL_SORT_THRESHOLD || sortPool == null ? 1 : sortPool.getParallelism() * 2;
+        final int nSorted = getNSorted();
+        sortCamPos.set(camera.getPos());
+        sortDeltaYears = AstroUtils.getMsSince(time.getTime(), epoch_jd) * Nature.MS_TO_Y;
+        sortFactor = GlobalConf.scene.STAR_BRIGHTNESS / camera.getFovFactor();
+        sortN = n;
+        sortChunks = nChunks;
+
+        // Prepare keys to sort
+        sorter.forEachChunk(nChunks, sortKeysOp);
+
+        // Select and sort the stars we need
+        if (nChunks > 1 && nSorted * nChunks * 2L > n && sortTmp == null)
+            sortTmp = new long[n];
+        sorter.sortTopK(sortKeys, n, nSorted, sortTmp, nChunks);
+
+        // Background list of indices
+        for (int i = 0; i < nSorted; i++)
+            background[i] = IndexSorter.index(sortKeys[i]);
+        nBackground = nSorted;
         // Swap indices lists
         swapBuffers();
         // Update last sort call
@@ -512,16 +727,20 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     }
 
     private void swapBuffers() {
-        Gdx.app.postRunnable(() -> {
-            if (active == indices1) { //-V6013
-                active = indices2;
-                background = indices1;
-            } else {
-                active = indices1;
-                background = indices2;
-            }
+        Gdx.app.postRunnable(swapper);
+    }
 
-        });
+    private void swapLists() {
+        if (active == indices1) { //-V6013
+            active = indices2;
+            background = indices1;
+        } else {
+            active = indices1;
+            background = indices2;
+        }
+        int n = nActive;
+        nActive = nBackground;
+        nBackground = n;
     }
 
     @Override
@@ -557,11 +776,12 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
         /** RENDER ACTUAL STARS **/
         boolean focusRendered = false;
-        for (int i = 0; i < N_CLOSEUP_STARS; i++) {
+        int n = Math.min(N_CLOSEUP_STARS, nActive);
+        for (int i = 0; i < n; i++) {
             renderCloseupStar(active[i], camera, shader, mesh, thpointTimesFovfactor, thupOverFovfactor, thdownOverFovfactor, alph);
             focusRendered = focusRendered || active[i] == focusIndex;
         }
-        if (focus != null && !focusRendered) {
+        if (focusIndex >= 0 && !focusRendered) {
             renderCloseupStar(focusIndex, camera, shader, mesh, thpointTimesFovfactor, thupOverFovfactor, thdownOverFovfactor, alph);
         }
 
@@ -570,10 +790,9 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     Color c = new Color();
 
     private void renderCloseupStar(int idx, ICamera camera, ShaderProgram shader, IntMesh mesh, double thpointTimesFovfactor, double thupOverFovfactor, double thdownOverFovfactor, float alpha) {
-        StarBean star = (StarBean) pointData.get(idx);
         double size = getSize(idx);
         double radius = size * Constants.STAR_SIZE_FACTOR;
-        Vector3d lpos = fetchPosition(star, camera.getPos(), aux3d1.get(), currDeltaYears);
+        Vector3d lpos = fetchPosition(idx, camera.getPos(), aux3d1.get(), currDeltaYears);
         double distToCamera = lpos.len();
         double viewAngle = (radius / distToCamera) / camera.getFovFactor();
 
@@ -644,22 +863,24 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     public void render(LineRenderSystem renderer, ICamera camera, float alpha) {
         alpha *= SceneGraphRenderer.instance.alphas[ComponentTypes.ComponentType.VelocityVectors.ordinal()];
         float thPointTimesFovFactor = (float) GlobalConf.scene.STAR_THRESHOLD_POINT * camera.getFovFactor();
-        int n = (int) Math.min(getMaxProperMotionLines(), pointData.size);
+        int n = (int) Math.min(getMaxProperMotionLines(), nActive);
         for (int i = n - 1; i >= 0; i--) {
-            StarBean star = (StarBean) pointData.get(active[i]);
-            if ((star.radvel() == 0 && !rvLines) || (star.radvel() != 0 && rvLines)) {
-                float radius = (float) (getSize(active[i]) * Constants.STAR_SIZE_FACTOR);
+            int idx = active[i];
+            double radvel = radvel(idx);
+            if ((radvel == 0 && !rvLines) || (radvel != 0 && rvLines)) {
+                float radius = (float) (getSize(idx) * Constants.STAR_SIZE_FACTOR);
+                double pmx = pmx(idx), pmy = pmy(idx), pmz = pmz(idx);
                 // Position
-                Vector3d lpos = fetchPosition(star, camera.getPos(), aux3d1.get(), currDeltaYears);
+                Vector3d lpos = fetchPosition(idx, camera.getPos(), aux3d1.get(), currDeltaYears);
                 // Proper motion
-                Vector3d pm = aux3d2.get().set(star.pmx(), star.pmy(), star.pmz()).scl(currDeltaYears);
+                Vector3d pm = aux3d2.get().set(pmx, pmy, pmz).scl(currDeltaYears);
                 // Rest of attributes
                 float distToCamera = (float) lpos.len();
                 float viewAngle = (float) (((radius / distToCamera) / camera.getFovFactor()) * GlobalConf.scene.STAR_BRIGHTNESS);
-                if (viewAngle >= thPointTimesFovFactor / GlobalConf.scene.PM_NUM_FACTOR && (star.pmx() != 0 || star.pmy() != 0 || star.pmz() != 0)) {
+                if (viewAngle >= thPointTimesFovFactor / GlobalConf.scene.PM_NUM_FACTOR && (pmx != 0 || pmy != 0 || pmz != 0)) {
 
-                    Vector3d p1 = aux3d1.get().set(star.x() + pm.x, star.y() + pm.y, star.z() + pm.z).sub(camera.getPos());
-                    Vector3d ppm = aux3d2.get().set(star.pmx(), star.pmy(), star.pmz()).scl(GlobalConf.scene.PM_LEN_FACTOR);
+                    Vector3d p1 = aux3d1.get().set(x(idx) + pm.x, y(idx) + pm.y, z(idx) + pm.z).sub(camera.getPos());
+                    Vector3d ppm = aux3d2.get().set(pmx, pmy, pmz).scl(GlobalConf.scene.PM_LEN_FACTOR);
                     double p1p2len = ppm.len();
                     Vector3d p2 = aux3d3.get().set(ppm).add(p1);
 
@@ -678,7 +899,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
                         break;
                     case 1:
                         // LENGTH
-                        ppm.set(star.pmx(), star.pmy(), star.pmz());
+                        ppm.set(pmx, pmy, pmz);
                         // Units/year to Km/s
                         ppm.scl(Constants.U_TO_KM / Nature.Y_TO_S);
                         double len = MathUtilsd.clamp(ppm.len(), 0d, maxSpeedKms) / maxSpeedKms;
@@ -689,7 +910,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
                         break;
                     case 2:
                         // HAS RADIAL VELOCITY - blue: stars with RV, red: stars without RV
-                        if (star.radvel() != 0) {
+                        if (radvel != 0) {
                             r = GlobalResources.gBlue[0] + 0.2f;
                             g = GlobalResources.gBlue[1] + 0.4f;
                             b = GlobalResources.gBlue[2] + 0.4f;
@@ -701,7 +922,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
                         break;
                     case 3:
                         // REDSHIFT from Sun - blue: -100 Km/s, red: 100 Km/s
-                        double rav = star.radvel();
+                        double rav = radvel;
                         if (rav != 0) {
                             double max = maxSpeedKms;
                             // rv in [0:1]
@@ -718,7 +939,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
                         // REDSHIFT from Camera - blue: -100 Km/s, red: 100 Km/s
                         if (ppm.len2() != 0) {
                             double max = maxSpeedKms;
-                            ppm.set(star.pmx(), star.pmy(), star.pmz());
+                            ppm.set(pmx, pmy, pmz);
                             // Units/year to Km/s
                             ppm.scl(Constants.U_TO_KM / Nature.Y_TO_S);
                             Vector3d camstar = aux3d4.get().set(p1);
@@ -780,22 +1001,21 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
         float thOverFactor = (float) (GlobalConf.scene.STAR_THRESHOLD_POINT / GlobalConf.scene.LABEL_NUMBER_FACTOR / camera.getFovFactor());
 
         if (camera.getCurrent() instanceof FovCamera) {
-            int n = Math.min(pointData.size, N_CLOSEUP_STARS * 5);
+            int n = Math.min(nActive, N_CLOSEUP_STARS * 5);
             for (int i = 0; i < n; i++) {
-                StarBean star = (StarBean) pointData.get(active[i]);
-                Vector3d lpos = fetchPosition(star, camera.getPos(), aux3d1.get(), currDeltaYears);
+                Vector3d lpos = fetchPosition(active[i], camera.getPos(), aux3d1.get(), currDeltaYears);
                 float distToCamera = (float) lpos.len();
                 float radius = (float) getRadius(active[i]);
                 float viewAngle = (float) (((radius / distToCamera) / camera.getFovFactor()) * GlobalConf.scene.STAR_BRIGHTNESS);
 
                 if (camera.isVisible(GaiaSky.instance.time, viewAngle, lpos, distToCamera)) {
-                    render2DLabel(batch, shader, rc, sys.font2d, camera, star.name, lpos);
+                    render2DLabel(batch, shader, rc, sys.font2d, camera, name(active[i]), lpos);
                 }
             }
         } else {
-            for (int i = 0; i < N_CLOSEUP_STARS; i++) {
-                StarBean star = (StarBean) pointData.get(active[i]);
-                Vector3d lpos = fetchPosition(star, camera.getPos(), aux3d1.get(), currDeltaYears);
+            int n = Math.min(nActive, N_CLOSEUP_STARS);
+            for (int i = 0; i < n; i++) {
+                Vector3d lpos = fetchPosition(active[i], camera.getPos(), aux3d1.get(), currDeltaYears);
                 float distToCamera = (float) lpos.len();
                 float radius = (float) getRadius(active[i]);
                 float viewAngle = (float) (((radius / distToCamera) / camera.getFovFactor()) * GlobalConf.scene.STAR_BRIGHTNESS);
@@ -810,7 +1030,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
                     float textSize = (float) FastMath.tanh(viewAngle) * distToCamera * 1e5f;
                     float alpha = Math.min((float) FastMath.atan(textSize / distToCamera), 1.e-3f);
                     textSize = (float) FastMath.tan(alpha) * distToCamera * 0.5f;
-                    render3DLabel(batch, shader, sys.fontDistanceField, camera, rc, star.name, lpos, textScale() * camera.getFovFactor(), textSize * camera.getFovFactor());
+                    render3DLabel(batch, shader, sys.fontDistanceField, camera, rc, name(active[i]), lpos, textScale() * camera.getFovFactor(), textSize * camera.getFovFactor());
 
                 }
             }
@@ -841,7 +1061,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     }
 
     public double getFocusSize() {
-        return focus.data[StarBean.I_SIZE];
+        return getSize(focusIndex);
     }
 
     // Radius in stars is different!
@@ -855,47 +1075,47 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
     }
 
     public float getAppmag() {
-        return (float) focus.data[StarBean.I_APPMAG];
+        return (float) appmag(focusIndex);
     }
 
     public float getAbsmag() {
-        return (float) focus.data[StarBean.I_ABSMAG];
+        return (float) absmag(focusIndex);
     }
 
     public String getName() {
-        if (focus != null)
-            return ((StarBean) focus).name;
+        if (focusIndex >= 0)
+            return name(focusIndex);
         else
             return null;
     }
 
     public long getId() {
-        if (focus != null)
-            return ((StarBean) focus).id;
+        if (focusIndex >= 0)
+            return id(focusIndex);
         else
             return -1;
     }
 
     @Override
     public double getMuAlpha() {
-        if (focus != null)
-            return focus.data[StarBean.I_MUALPHA];
+        if (focusIndex >= 0)
+            return mualpha(focusIndex);
         else
             return 0;
     }
 
     @Override
     public double getMuDelta() {
-        if (focus != null)
-            return focus.data[StarBean.I_MUDELTA];
+        if (focusIndex >= 0)
+            return mudelta(focusIndex);
         else
             return 0;
     }
 
     @Override
     public double getRadialVelocity() {
-        if (focus != null)
-            return focus.data[StarBean.I_RADVEL];
+        if (focusIndex >= 0)
+            return radvel(focusIndex);
         else
             return 0;
     }
@@ -907,19 +1127,7 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
      * @return The size
      */
     public double getSize(int i) {
-        return ((StarBean) pointData.get(i)).size();
-    }
-
-    /**
-     * Uses whatever precomputed value is in index 8 to compare the values
-     *
-     * @author tsagrista
-     */
-    private class StarGroupComparator implements Comparator<Integer> {
-        @Override
-        public int compare(Integer i1, Integer i2) {
-            return Double.compare(additional[i1], additional[i2]);
-        }
+        return columns != null ? columns.size(i) : bean(i).size();
     }
 
     public class UpdaterTask implements Runnable {
@@ -932,7 +1140,14 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
         @Override
         public void run() {
-            sg.updateSorter(GaiaSky.instance.time, GaiaSky.instance.getICamera());
+            try {
+                if (!sg.disposed)
+                    sg.updateSorter(GaiaSky.instance.time, GaiaSky.instance.getICamera());
+            } catch (Exception e) {
+                // The group may have been disposed while sorting
+                if (!sg.disposed)
+                    Logger.getLogger(StarGroup.class).error(e);
+            }
             updating = false;
         }
 
@@ -969,28 +1184,27 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
     @Override
     public int getHip() {
-        if (focus != null && focus.data[StarBean.I_HIP] > 0)
-            return (int) focus.data[StarBean.I_HIP];
+        if (focusIndex >= 0 && hip(focusIndex) > 0)
+            return hip(focusIndex);
         return -1;
     }
 
     @Override
     public long getCandidateId() {
-        return ((StarBean) pointData.get(candidateFocusIndex)).id;
+        return id(candidateFocusIndex);
     }
 
     @Override
     public String getCandidateName() {
-        return ((StarBean) pointData.get(candidateFocusIndex)).name;
+        return name(candidateFocusIndex);
     }
 
     @Override
     public double getCandidateViewAngleApparent() {
         if (candidateFocusIndex >= 0) {
-            StarBean candidate = (StarBean) pointData.get(candidateFocusIndex);
-            Vector3d aux = candidate.pos(aux3d1.get());
+            Vector3d aux = aux3d1.get().set(x(candidateFocusIndex), y(candidateFocusIndex), z(candidateFocusIndex));
             ICamera camera = GaiaSky.instance.getICamera();
-            double va = (float) ((candidate.radius() / aux.sub(camera.getPos()).len()) / camera.getFovFactor());
+            double va = (float) ((getRadius(candidateFocusIndex) / aux.sub(camera.getPos()).len()) / camera.getFovFactor());
             return va * GlobalConf.scene.STAR_BRIGHTNESS;
         } else {
             return -1;
@@ -1004,6 +1218,8 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
     @Override
     public String getClosestName() {
+        if (closestName == null && closestIndex >= 0 && hasData())
+            closestName = name(closestIndex);
         return this.closestName;
     }
 
@@ -1029,15 +1245,14 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
     @Override
     public IFocus getFocus(String name) {
-        candidateFocusIndex = index.get(name, -1);
+        candidateFocusIndex = indexOf(name);
         return this;
     }
 
     public Vector3d getAbsolutePosition(String name, Vector3d aux) {
-        if (index.containsKey(name)) {
-            int idx = index.get(name, 0);
-            StarBean sb = (StarBean) pointData.get(idx);
-            fetchPosition(sb, null, aux, currDeltaYears);
+        int idx = indexOf(name);
+        if (idx >= 0) {
+            fetchPosition(idx, null, aux, currDeltaYears);
             return aux;
         } else {
             return null;
@@ -1054,6 +1269,15 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
             return dest.set(sb.x(), sb.y(), sb.z()).add(pm);
     }
 
+    @Override
+    protected Vector3d fetchPosition(int i, Vector3d campos, Vector3d dest, double deltaYears) {
+        Vector3d pm = aux.set(pmx(i), pmy(i), pmz(i)).scl(deltaYears);
+        if (campos != null && !campos.hasNaN())
+            return dest.set(x(i), y(i), z(i)).sub(campos).add(pm);
+        else
+            return dest.set(x(i), y(i), z(i)).add(pm);
+    }
+
     @Override
     protected double getDeltaYears() {
         return currDeltaYears;
@@ -1079,6 +1303,8 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
 
     @Override
     protected void addToIndex(ObjectMap<String, SceneGraphNode> map) {
+        // Columnar groups have no index, the scene graph asks them on demand
+        ObjectIntMap<String> index = index();
         if (index != null) {
             ObjectIntMap.Keys<String> keys = index.keys();
             for (String key : keys) {
@@ -1097,26 +1323,48 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
         }
     }
 
+    @Override
+    public long getHeapBytes() {
+        long bytes = 0;
+        if (columns != null)
+            bytes += columns.getHeapBytes();
+        else if (pointData != null)
+            bytes += pointData.size * BEAN_BYTES;
+        ObjectIntMap<String> index = this.index;
+        if (index != null)
+            bytes += index.size * INDEX_ENTRY_BYTES;
+        // Sort keys and index buffers
+        if (sortKeys != null)
+            bytes += sortKeys.length * 16L;
+        if (sortTmp != null)
+            bytes += sortTmp.length * 8L;
+        KdTree spatialIndex = getSpatialIndex();
+        if (spatialIndex != null)
+            bytes += spatialIndex.getHeapBytes();
+        // Vertices waiting to be sent to the GPU
+        float[] packedVertices = this.packedVertices;
+        if (packedVertices != null)
+            bytes += packedVertices.length * 4L;
+        return bytes;
+    }
+
     @Override
     public void dispose() {
         this.disposed = true;
         sg.remove(this, true);
         // Unsubscribe from all events
         EventManager.instance.removeAllSubscriptions(this);
-        // Shut down pool
-        if (pool != null && !pool.isShutdown()) {
-            pool.shutdown();
-            try {
-                // Wait for task to end before proceeding
-                pool.awaitTermination(500, TimeUnit.MILLISECONDS);
-            } catch (Exception e) {
-                Logger.getLogger(this.getClass().getSimpleName()).error(e);
-            }
-        }
-        // Dispose of GPU datOLO
-        EventManager.instance.post(Events.DISPOSE_STAR_GROUP_GPU_MESH, this.offset);
+        // Remove pending sort, the pool is shared by all groups
+        if (updaterTask != null)
+            workQueue.remove(updaterTask);
+        // Dispose of GPU datOLO, the offset is only valid once uploaded
+        if (inGpu)
+            EventManager.instance.post(Events.DISPOSE_STAR_GROUP_GPU_MESH, this.offset);
         // Data to be gc'd
         this.pointData = null;
+        this.packedVertices = null;
+        this.columns = null;
+        invalidateSpatialIndex();
         // Remove focus if needed
         CameraManager cam = GaiaSky.instance.getCameraManager();
         if (cam != null && cam.getFocus() != null && cam.getFocus() == this) {
@@ -1125,8 +1373,14 @@ public class StarGroup extends ParticleGroup implements ILineRenderable, IStarFo
         }
     }
 
+    @Override
+    protected void highlightChanged() {
+        // Only colours and sizes change, the vertex buffer is kept
+        attribsDirty = true;
+    }
+
     public float getColor(int index) {
-        return highlighted ? hlColorFloat[hlci] : (float) ((Array<StarBean>) pointData).get(index).col();
+        return highlighted ? hlColorFloat[hlci] : (float) col(index);
     }
 
     /**
@@ -191,7 +191,7 @@ public abstract class AbstractCamera implements ICamera {
     }
 
     @Override
-    public void checkClosest(IFocus cb) {
+    public synchronized void checkClosest(IFocus cb) {
         // A copy can never bee the closest
         if (!cb.isCopy())
             if (closest == null) {
@@ -270,7 +270,7 @@ public abstract class AbstractCamera implements ICamera {
         return closestStar;
     }
 
-    public void setClosestStar(IStarFocus star) {
+    public synchronized void setClosestStar(IStarFocus star) {
         if (closestStar == null || closestStar.getClosestDist() > star.getClosestDist()) {
             closestStar = star;
         }
@@ -300,8 +300,8 @@ public class CameraManager implements ICamera, IObserver {
             StreamingOctreeLoader.clearQueue();
         }
 
-        // Post event with camera motion parameters
-        EventManager.instance.post(Events.CAMERA_MOTION_UPDATED, current.getPos(), speed, velocitynor, current.getCamera());
+        // Post event with camera motion parameters, every frame
+        EventManager.instance.postTransient(Events.CAMERA_MOTION_UPDATED, current.getPos(), speed, velocitynor, current.getCamera());
 
         // Update last pos and dir
         lastPos.set(current.getPos());
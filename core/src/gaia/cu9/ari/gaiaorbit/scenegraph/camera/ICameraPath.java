@@ -0,0 +1,28 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.scenegraph.camera;
+
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+
+/**
+ * A camera path which is being played, and which knows the camera state in
+ * the near future.
+ *
+ * @author tsagrista
+ */
+public interface ICameraPath {
+
+    /**
+     * Gets the camera state the given time ahead of the current frame
+     *
+     * @param seconds The time ahead, in seconds
+     * @param pos     Vector to put the camera position
+     * @param dir     Vector to put the camera direction
+     * @return False if the path does not know the state at that time
+     */
+    boolean sample(double seconds, Vector3d pos, Vector3d dir);
+
+}
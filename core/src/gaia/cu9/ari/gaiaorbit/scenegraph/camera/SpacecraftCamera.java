@@ -586,7 +586,7 @@ public class SpacecraftCamera extends AbstractCamera implements IObserver {
     }
 
     @Override
-    public void checkClosest(IFocus cb) {
+    public synchronized void checkClosest(IFocus cb) {
         super.checkClosest(cb);
         if (sc != null)
             if (closest2 == null || (cb != sc && cb.getDistToCamera() < closest2.getDistToCamera())) //-V6007
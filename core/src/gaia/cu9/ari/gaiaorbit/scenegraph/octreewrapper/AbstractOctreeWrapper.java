@@ -7,6 +7,7 @@ package gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper;
 
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Pool;
+import gaia.cu9.ari.gaiaorbit.data.StreamingOctreeLoader;
 import gaia.cu9.ari.gaiaorbit.event.EventManager;
 import gaia.cu9.ari.gaiaorbit.event.Events;
 import gaia.cu9.ari.gaiaorbit.render.ComponentTypes;
@@ -128,6 +129,9 @@ public abstract class AbstractOctreeWrapper extends FadeNode implements Iterable
 
                 root.update(translation, camera, roulette, opacity);
 
+                // Queue the octants which are about to be observed
+                StreamingOctreeLoader.prefetch(root, camera);
+
                 if (OctreeNode.nObjectsObserved != lastNumberObjects) {
                     // Need to update the points in renderer
                     AbstractRenderSystem.POINT_UPDATE_FLAG = true;
@@ -164,6 +168,12 @@ public abstract class AbstractOctreeWrapper extends FadeNode implements Iterable
 
     }
 
+    @Override
+    public boolean isUpdateThreadBound() {
+        // Drives the octant streaming, and updates its objects in parallel itself
+        return true;
+    }
+
     /**
      * Runs the update on all the observed and selected octree objects.
      *
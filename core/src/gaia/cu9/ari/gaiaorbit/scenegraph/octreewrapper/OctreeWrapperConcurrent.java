@@ -0,0 +1,85 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper;
+
+import com.badlogic.gdx.utils.Array;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.ThreadPoolManager;
+import gaia.cu9.ari.gaiaorbit.desktop.concurrent.UpdaterTask;
+import gaia.cu9.ari.gaiaorbit.scenegraph.AbstractPositionEntity;
+import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode;
+import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+import gaia.cu9.ari.gaiaorbit.util.time.ITimeFrameProvider;
+import gaia.cu9.ari.gaiaorbit.util.tree.OctreeNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Static Octree wrapper that can be inserted into the scene graph. The objects
+ * in the roulette are partitioned across the threads of the
+ * {@link ThreadPoolManager} pool, and updated in parallel. Falls back to the
+ * single-threaded update if the pool is not initialized.
+ *
+ * @author Toni Sagrista
+ */
+public class OctreeWrapperConcurrent extends AbstractOctreeWrapper {
+    /** Smaller roulettes are updated in the calling thread **/
+    private static final int MIN_PARALLEL_OBJECTS = 16;
+
+    private Array<UpdaterTask<SceneGraphNode>> tasks;
+    private List<Future<Void>> futures;
+
+    public OctreeWrapperConcurrent() {
+        super();
+    }
+
+    public OctreeWrapperConcurrent(String parentName, OctreeNode root) {
+        super(parentName, root);
+        roulette = new Array<SceneGraphNode>(false, root.nObjects);
+    }
+
+    @Override
+    protected void updateOctreeObjects(ITimeFrameProvider time, Vector3d parentTransform, ICamera camera) {
+        ThreadPoolExecutor pool = ThreadPoolManager.pool;
+        int size = roulette.size;
+        if (pool == null || size < MIN_PARALLEL_OBJECTS) {
+            for (int i = 0; i < size; i++) {
+                SceneGraphNode sgn = roulette.get(i);
+                sgn.update(time, parentTransform, camera, this.opacity * ((AbstractPositionEntity) sgn).octant.opacity);
+            }
+            return;
+        }
+
+        int nThreads = pool.getCorePoolSize();
+        if (tasks == null || tasks.size != nThreads) {
+            tasks = new Array<>(nThreads);
+            for (int t = 0; t < nThreads; t++)
+                tasks.add(new UpdaterTask<>(roulette, t, nThreads));
+            futures = new ArrayList<>(nThreads);
+        }
+        // Interleaved partition to balance the load, neighbouring objects in
+        // the roulette come from the same octants and cost about the same
+        futures.clear();
+        for (int t = 0; t < nThreads && t < size; t++) {
+            UpdaterTask<SceneGraphNode> task = tasks.get(t);
+            task.setParameters(camera, time, this.opacity);
+            futures.add(pool.submit(task));
+        }
+        try {
+            for (Future<Void> future : futures)
+                future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+}
@@ -5,98 +5,226 @@
 
 package gaia.cu9.ari.gaiaorbit.screenshot;
 
-import com.badlogic.gdx.utils.Pool;
-import com.badlogic.gdx.utils.Pools;
-import gaia.cu9.ari.gaiaorbit.render.BufferedFrame;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.utils.TimeUtils;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf.ImageFormat;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf.ReadbackMode;
 import gaia.cu9.ari.gaiaorbit.util.I18n;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Buffers the writing of images to disk.
- * 
+ * Writes images to disk asynchronously. Frames are read into pooled pixmaps
+ * and encoded by a pool of worker threads. At most a fixed number of frames
+ * are waiting or being encoded at any time, when that many are pending the
+ * render thread waits for the encoders to catch up, so memory use is bounded.
+ * File names are assigned when the frame is read, so they keep the frame order
+ * even though frames are encoded in parallel. Frames are read synchronously,
+ * or asynchronously with a {@link PixelBufferReadback} in the pbo readback mode.
+ *
  * @author Toni Sagrista
  *
  */
 public class BufferedFileImageRenderer implements IFileImageRenderer {
     private static final Log logger = Logger.getLogger(BufferedFileImageRenderer.class);
-    
-    /** Daemon timer **/
-    private static Timer timer = new Timer(true);
+
+    /** Encoder worker threads **/
+    private final ExecutorService encoders;
+    private final int nThreads;
+
+    /** Frames which can still be submitted before the render thread waits **/
+    private final Semaphore slots;
+    private final int queueSize;
+
+    /** Idle pixmaps, ready to be reused **/
+    private final Queue<Pixmap> pixmapPool;
+
+    // Frames and timing of the current batch, for the throughput report
+    private final AtomicInteger batchFrames;
+    private final AtomicLong batchEncodeNs;
+    private volatile long batchStartMs, batchEndMs;
+    private volatile String batchFolder;
+    private String lastFolder;
+    private int submitted;
+
+    /** Asynchronous readback, created when first used **/
+    private PixelBufferReadback readback;
+    private Thread glThread;
 
     /**
-     * Output frame buffer and BufferedFrame pool
+     * Creates a new renderer
+     *
+     * @param queueSize The maximum number of frames waiting to be encoded
+     * @param nThreads  The number of encoder threads
      */
-    private List<BufferedFrame> outputFrameBuffer;
-    private Pool<BufferedFrame> bfPool;
-    private int bufferSize;
-
-    public BufferedFileImageRenderer(int bufferSize) {
-        this.bufferSize = bufferSize;
-        outputFrameBuffer = new ArrayList<BufferedFrame>(bufferSize);
-        bfPool = Pools.get(BufferedFrame.class, bufferSize);
+    public BufferedFileImageRenderer(int queueSize, int nThreads) {
+        this.queueSize = Math.max(1, queueSize);
+        this.nThreads = Math.max(1, nThreads);
+        this.slots = new Semaphore(this.queueSize);
+        this.pixmapPool = new ConcurrentLinkedQueue<>();
+        this.batchFrames = new AtomicInteger(0);
+        this.batchEncodeNs = new AtomicLong(0);
+
+        final AtomicInteger encoderSequence = new AtomicInteger(0);
+        encoders = Executors.newFixedThreadPool(this.nThreads, (Runnable r) -> {
+            Thread t = new Thread(r, "frame-encoder-" + encoderSequence.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
     }
 
     @Override
     public String saveScreenshot(String folder, String fileprefix, int w, int h, boolean immediate, ImageFormat type, float quality) {
-        String res = null;
-        if (!immediate) {
-            if (outputFrameBuffer.size() >= bufferSize) {
-                flush();
-            }
+        if (immediate) {
+            // Screenshot while the frame buffer is on
+            return ImageRenderer.renderToImageGl20(folder, fileprefix, w, h, type, quality);
+        }
 
-            synchronized (outputFrameBuffer) {
-                BufferedFrame bf = bfPool.obtain();
-                bf.pixmap = ImageRenderer.renderToPixmap(w, h);
-                bf.folder = folder;
-                bf.filename = fileprefix;
+        glThread = Thread.currentThread();
 
-                outputFrameBuffer.add(bf);
-            }
-            res = "buffer";
+        if (!folder.equals(lastFolder)) {
+            Gdx.files.absolute(folder).mkdirs();
+            lastFolder = folder;
+        }
+        // Names are assigned now, in frame order
+        final FileHandle target = ImageRenderer.getTarget(folder, fileprefix, type);
+
+        if (submitted++ == 0)
+            batchStartMs = TimeUtils.millis();
+        batchFolder = folder;
+
+        if (GlobalConf.frame.FRAME_READBACK == ReadbackMode.pbo && PixelBufferReadback.isSupported()) {
+            // Asynchronous, the frame is encoded when it is mapped
+            if (readback == null)
+                readback = new PixelBufferReadback(this::frameRead);
+            readback.read(w, h, new FrameRequest(target, type, quality));
         } else {
-            // Screenshot while the frame buffer is on
-            res = ImageRenderer.renderToImageGl20(folder, fileprefix, w, h, type, quality);
+            // Frames still in the pixel buffers go first
+            if (readback != null)
+                readback.drain();
+            Pixmap pixmap = acquirePixmap(w, h);
+            if (pixmap == null)
+                return null;
+            ImageRenderer.renderToPixmap(pixmap);
+            encode(pixmap, target, type, quality);
+        }
+        return target.path();
+    }
+
+    private void frameRead(ByteBuffer pixels, int w, int h, Object tag) {
+        FrameRequest fr = (FrameRequest) tag;
+        Pixmap pixmap = acquirePixmap(w, h);
+        if (pixmap != null) {
+            ImageRenderer.copyFlipped(pixels, pixmap);
+            encode(pixmap, fr.target, fr.type, fr.quality);
+        }
+    }
+
+    /**
+     * Gets a pixmap for a new frame, waiting for a free slot if the encoders
+     * are behind
+     */
+    private Pixmap acquirePixmap(int w, int h) {
+        // Back-pressure: wait for a free slot
+        try {
+            slots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        return obtainPixmap(w, h);
+    }
+
+    private void encode(final Pixmap pixmap, final FileHandle target, final ImageFormat type, final float quality) {
+        encoders.execute(() -> {
+            long start = TimeUtils.nanoTime();
+            try {
+                ImageRenderer.writePixmapToImage(target, pixmap, type, quality);
+            } catch (Exception e) {
+                logger.error(e);
+            } finally {
+                pixmapPool.add(pixmap);
+                batchEncodeNs.addAndGet(TimeUtils.nanoTime() - start);
+                batchFrames.incrementAndGet();
+                batchEndMs = TimeUtils.millis();
+                slots.release();
+            }
+        });
+    }
+
+    private Pixmap obtainPixmap(int w, int h) {
+        Pixmap pixmap;
+        while ((pixmap = pixmapPool.poll()) != null) {
+            if (pixmap.getWidth() == w && pixmap.getHeight() == h)
+                return pixmap;
+            // Frame size changed
+            pixmap.dispose();
         }
-        return res;
+        return new Pixmap(w, h, Format.RGBA8888);
     }
 
+    /**
+     * Waits until all the pending frames are written, reports the throughput
+     * and releases the idle pixmaps
+     */
     @Override
     public void flush() {
-        synchronized (outputFrameBuffer) {
-            final List<BufferedFrame> outputFrameBufferCopy = new ArrayList<BufferedFrame>(outputFrameBuffer);
-            outputFrameBuffer.clear();
-
-            final int size = outputFrameBufferCopy.size();
-            if (size > 0) {
-                // Notify
-                logger.info(I18n.bundle.get("notif.flushframebuffer"));
-
-                TimerTask tt = new TimerTask() {
-                    @Override
-                    public void run() {
-                        String folder = null;
-                        for (int i = 0; i < size; i++) {
-                            BufferedFrame bf = outputFrameBufferCopy.get(i);
-                            ImageRenderer.writePixmapToImage(bf.folder, bf.filename, bf.pixmap, GlobalConf.frame.FRAME_FORMAT, GlobalConf.frame.FRAME_QUALITY);
-                            folder = bf.folder;
-                            bfPool.free(bf);
-                        }
-                        logger.info(I18n.bundle.format("notif.flushframebuffer.finished", size, folder));
-                    }
-                };
-                timer.schedule(tt, 0);
+        if (readback != null) {
+            if (Thread.currentThread() != glThread) {
+                // Pixel buffers can only be mapped in the GL thread
+                Gdx.app.postRunnable(this::flush);
+                return;
             }
-
+            readback.dispose();
+            readback = null;
         }
+        if (slots.availablePermits() < queueSize) {
+            // Notify
+            logger.info(I18n.bundle.get("notif.flushframebuffer"));
+        }
+        slots.acquireUninterruptibly(queueSize);
+        try {
+            int frames = batchFrames.getAndSet(0);
+            long encodeNs = batchEncodeNs.getAndSet(0);
+            submitted = 0;
+            if (frames > 0) {
+                logger.info(I18n.bundle.format("notif.flushframebuffer.finished", frames, batchFolder));
+                // Overall rate, and rate the encoders could sustain if never idle
+                double seconds = Math.max(1, batchEndMs - batchStartMs) / 1000d;
+                double encodeFps = frames * nThreads / Math.max(1e-3, encodeNs * 1e-9);
+                logger.info(String.format("Frame encoder: %d frames in %.1f s, %.2f frames/s, encode capacity %.2f frames/s (%d threads)", frames, seconds, frames / seconds, encodeFps, nThreads));
+            }
+            Pixmap pixmap;
+            while ((pixmap = pixmapPool.poll()) != null)
+                pixmap.dispose();
+        } finally {
+            slots.release(queueSize);
+        }
+    }
 
+    private static class FrameRequest {
+        final FileHandle target;
+        final ImageFormat type;
+        final float quality;
+
+        FrameRequest(FileHandle target, ImageFormat type, float quality) {
+            this.target = target;
+            this.type = type;
+            this.quality = quality;
+        }
     }
 
 }
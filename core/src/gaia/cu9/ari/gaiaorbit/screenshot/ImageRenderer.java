@@ -11,11 +11,13 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Pixmap.Format;
 import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf.ImageFormat;
 import gaia.cu9.ari.gaiaorbit.util.format.INumberFormat;
 import gaia.cu9.ari.gaiaorbit.util.format.NumberFormatFactory;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 
@@ -62,6 +64,42 @@ public class ImageRenderer {
         return getScreenshot(0, 0, w, h, true);
     }
 
+    /**
+     * Reads the current frame buffer into the given pixmap, which must be in
+     * RGBA8888 format. No new buffers are allocated per frame.
+     *
+     * @param pixmap The pixmap, its size is the size of the region read
+     */
+    public static void renderToPixmap(Pixmap pixmap) {
+        readPixels(pixmap, 0, 0, true);
+    }
+
+    /**
+     * Copies pixels read from the frame buffer (bottom row first) to the
+     * given pixmap, flipping the rows and making them opaque, so that the
+     * result is the same as {@link #renderToPixmap(Pixmap)}.
+     *
+     * @param src    The pixels, in RGBA8888
+     * @param pixmap The pixmap, with the size of the read region
+     */
+    public static void copyFlipped(ByteBuffer src, Pixmap pixmap) {
+        int w = pixmap.getWidth();
+        int h = pixmap.getHeight();
+        final int numBytesPerLine = w * 4;
+        byte[] line = new byte[numBytesPerLine];
+        ByteBuffer pixels = pixmap.getPixels();
+        for (int i = 0; i < h; i++) {
+            src.position((h - i - 1) * numBytesPerLine);
+            src.get(line);
+            for (int j = 3; j < numBytesPerLine; j += 4) {
+                line[j] = (byte) 255;
+            }
+            pixels.position(i * numBytesPerLine);
+            pixels.put(line);
+        }
+        pixels.clear();
+    }
+
     public static String writePixmapToImage(String absoluteLocation, String baseFileName, Pixmap pixmap, ImageFormat type, float quality) {
         /** Make sure the directory exists **/
         FileHandle dir = Gdx.files.absolute(absoluteLocation);
@@ -69,48 +107,82 @@ public class ImageRenderer {
 
         /** Save to file **/
         FileHandle fh = getTarget(absoluteLocation, baseFileName, type);
+        writePixmapToImage(fh, pixmap, type, quality);
+        return fh.path();
+    }
+
+    /**
+     * Writes the pixmap to the given file. Can be called from several threads
+     * at once, each thread keeps its own encoder.
+     *
+     * @param fh      The file
+     * @param pixmap  The pixmap
+     * @param type    The format
+     * @param quality Quality, in case of JPG [0..1]
+     */
+    public static void writePixmapToImage(FileHandle fh, Pixmap pixmap, ImageFormat type, float quality) {
         switch (type) {
         case PNG:
-            PixmapIO.writePNG(fh, pixmap);
+            try {
+                png.get().write(fh, pixmap);
+            } catch (IOException e) {
+                throw new GdxRuntimeException("Error writing PNG: " + fh, e);
+            }
             break;
         case JPG:
-            JPGWriter.setQuality(quality);
-            JPGWriter.write(fh, pixmap);
+            JPGWriter.write(fh, pixmap, quality);
             break;
         }
-        return fh.path();
     }
 
+    /** Per-thread PNG encoder, which keeps its buffers between frames **/
+    private static final ThreadLocal<PixmapIO.PNG> png = ThreadLocal.withInitial(() -> {
+        PixmapIO.PNG writer = new PixmapIO.PNG();
+        writer.setFlipY(false);
+        return writer;
+    });
+
     private static Pixmap getScreenshot(int x, int y, int w, int h, boolean flipY) {
+        final Pixmap pixmap = new Pixmap(w, h, Format.RGBA8888);
+        readPixels(pixmap, x, y, flipY);
+        return pixmap;
+    }
+
+    private static void readPixels(Pixmap pixmap, int x, int y, boolean flipY) {
         Gdx.gl.glPixelStorei(GL20.GL_PACK_ALIGNMENT, 1);
 
-        final Pixmap pixmap = new Pixmap(w, h, Format.RGBA8888);
+        int w = pixmap.getWidth();
+        int h = pixmap.getHeight();
         ByteBuffer pixels = pixmap.getPixels();
+        pixels.clear();
         Gdx.gl.glReadPixels(x, y, w, h, GL20.GL_RGBA, GL20.GL_UNSIGNED_BYTE, pixels);
 
-        final int numBytes = w * h * 4;
-        byte[] lines = new byte[numBytes];
         if (flipY) {
+            // Swap rows in place, and make them opaque
             final int numBytesPerLine = w * 4;
-            for (int i = 0; i < h; i++) {
-                pixels.position((h - i - 1) * numBytesPerLine);
-                pixels.get(lines, i * numBytesPerLine, numBytesPerLine);
-
-                for (int j = 3; j < w * 4; j += 4) {
-                    lines[j + i * w * 4] = (byte) 255;
+            byte[] lineA = new byte[numBytesPerLine];
+            byte[] lineB = new byte[numBytesPerLine];
+            for (int i = 0; i < (h + 1) / 2; i++) {
+                int a = i * numBytesPerLine;
+                int b = (h - i - 1) * numBytesPerLine;
+                pixels.position(a);
+                pixels.get(lineA);
+                pixels.position(b);
+                pixels.get(lineB);
+                for (int j = 3; j < numBytesPerLine; j += 4) {
+                    lineA[j] = (byte) 255;
+                    lineB[j] = (byte) 255;
                 }
+                pixels.position(a);
+                pixels.put(lineB);
+                pixels.position(b);
+                pixels.put(lineA);
             }
-            pixels.clear();
-            pixels.put(lines);
-        } else {
-            pixels.clear();
-            pixels.get(lines);
         }
-
-        return pixmap;
+        pixels.clear();
     }
 
-    private static FileHandle getTarget(String absoluteLocation, String baseFileName, ImageFormat type) {
+    static synchronized FileHandle getTarget(String absoluteLocation, String baseFileName, ImageFormat type) {
         FileHandle fh = Gdx.files.absolute(absoluteLocation + File.separator + baseFileName + getNextSeqNumSuffix() + "." + type.toString().toLowerCase());
         while (fh.exists()) {
             fh = Gdx.files.absolute(absoluteLocation + File.separator + baseFileName + getNextSeqNumSuffix() + "." + type.toString().toLowerCase());
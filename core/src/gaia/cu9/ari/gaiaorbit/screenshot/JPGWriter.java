@@ -16,8 +16,11 @@ import javax.imageio.ImageWriteParam;
 import javax.imageio.ImageWriter;
 import javax.imageio.plugins.jpeg.JPEGImageWriteParam;
 import javax.imageio.stream.FileImageOutputStream;
-import java.awt.image.BufferedImage;
+import java.awt.Transparency;
+import java.awt.color.ColorSpace;
+import java.awt.image.*;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * Writes JPG images
@@ -57,18 +60,37 @@ public class JPGWriter {
     }
 
     public static void write(FileHandle file, Pixmap pix) {
+        write(file, pix, QUALITY);
+    }
+
+    /**
+     * Writes the pixmap to the given file as a JPG image with the given
+     * quality. The pixels are copied in bulk to an image owned by the calling
+     * thread which reads them in the pixmap's RGBA layout, so no per-pixel
+     * conversion is done. Can be called from several threads at once.
+     *
+     * @param file    The file
+     * @param pix     The pixmap, in RGBA8888 format
+     * @param quality The quality, in [0..1]
+     */
+    public static void write(FileHandle file, Pixmap pix, float quality) {
         FileImageOutputStream fios = null;
         try {
-            final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
-            fios = new FileImageOutputStream(file.file());
-            writer.setOutput(fios);
-            writer.write(null, new IIOImage(pixmapToBufferedImage(pix), null, null), jpegParams);
+            Encoder enc = encoder.get();
+            JPEGImageWriteParam params = new JPEGImageWriteParam(null);
+            params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            params.setCompressionQuality(quality);
 
+            fios = new FileImageOutputStream(file.file());
+            enc.writer.setOutput(fios);
+            enc.writer.write(null, new IIOImage(enc.image(pix), null, null), params);
+            enc.writer.reset();
         } catch (IOException e) {
             logger.error(e);
         } finally {
             try {
-                fios.close();
+                if (fios != null)
+                    fios.close();
             } catch (IOException e) {
                 logger.error(e);
             }
@@ -76,25 +98,32 @@ public class JPGWriter {
         }
     }
 
-    static BufferedImage pixmapToBufferedImage(Pixmap p) {
-        int w = p.getWidth();
-        int h = p.getHeight();
-        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_RGB);
-
-        int[] pixels = new int[w * h];
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                //convert RGBA to RGB
-                int value = p.getPixel(x, y);
-                int R = ((value & 0xff000000) >>> 24);
-                int G = ((value & 0x00ff0000) >>> 16);
-                int B = ((value & 0x0000ff00) >>> 8);
-
-                int i = x + (y * w);
-                pixels[i] = (R << 16) | (G << 8) | B;
+    /** Per-thread JPG writer and image wrapping the pixel bytes **/
+    private static final ThreadLocal<Encoder> encoder = ThreadLocal.withInitial(Encoder::new);
+
+    private static class Encoder {
+        private static final ColorModel RGB = new ComponentColorModel(ColorSpace.getInstance(ColorSpace.CS_sRGB), new int[] { 8, 8, 8 }, false, false, Transparency.OPAQUE, DataBuffer.TYPE_BYTE);
+
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        byte[] pixels;
+        BufferedImage img;
+
+        /**
+         * Gets an image with the contents of the pixmap. The image uses the
+         * pixmap's RGBA byte layout and ignores the alpha byte.
+         */
+        BufferedImage image(Pixmap p) {
+            int w = p.getWidth();
+            int h = p.getHeight();
+            if (img == null || img.getWidth() != w || img.getHeight() != h) {
+                pixels = new byte[w * h * 4];
+                WritableRaster raster = Raster.createInterleavedRaster(new DataBufferByte(pixels, pixels.length), w, h, w * 4, 4, new int[] { 0, 1, 2 }, null);
+                img = new BufferedImage(RGB, raster, false, null);
             }
+            ByteBuffer src = p.getPixels().duplicate();
+            src.clear();
+            src.get(pixels, 0, pixels.length);
+            return img;
         }
-        img.setRGB(0, 0, w, h, pixels, 0, w);
-        return img;
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.screenshot;
+
+import com.badlogic.gdx.utils.Disposable;
+import gaia.cu9.ari.gaiaorbit.util.Logger;
+import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import org.lwjgl.opengl.GL;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL15;
+import org.lwjgl.opengl.GL21;
+import org.lwjgl.opengl.GL30;
+import org.lwjgl.opengl.GL32;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the frame buffer asynchronously using a ring of pixel buffer objects.
+ * The read of frame N is issued into a pixel buffer object and only mapped
+ * at frame N+2, so the transfer overlaps with the rendering of the next
+ * frames instead of stalling the pipeline. Frames are always delivered in
+ * the order they were read. Must only be used from the GL thread.
+ *
+ * @author tsagrista
+ */
+public class PixelBufferReadback implements Disposable {
+    private static final Log logger = Logger.getLogger(PixelBufferReadback.class);
+
+    /** Number of pixel buffer objects, frames are mapped RING_SIZE - 1 frames later **/
+    public static final int RING_SIZE = 3;
+    /** Maximum time to wait for a read to finish when mapping it, in ns **/
+    private static final long FENCE_TIMEOUT_NS = 1000000000L;
+
+    /**
+     * Gets the pixels of a frame once they are mapped
+     */
+    public interface FrameListener {
+        /**
+         * Called with the mapped pixels of a frame, in RGBA8888, bottom row first.
+         * The buffer is only valid during the call.
+         *
+         * @param pixels The pixels
+         * @param w      The width
+         * @param h      The height
+         * @param tag    The object passed when the read was issued
+         */
+        void frameRead(ByteBuffer pixels, int w, int h, Object tag);
+    }
+
+    private final FrameListener listener;
+    private final int[] pbos;
+    private final long[] fences;
+    private final Object[] tags;
+    // Slot of the oldest pending read, and number of pending reads
+    private int first, pending;
+    private int width, height;
+
+    /**
+     * Checks whether pixel buffer objects can be used in the current context
+     *
+     * @return Whether asynchronous readback is supported
+     */
+    public static boolean isSupported() {
+        try {
+            return GL.getCapabilities().OpenGL32;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    public PixelBufferReadback(FrameListener listener) {
+        this.listener = listener;
+        this.pbos = new int[RING_SIZE];
+        this.fences = new long[RING_SIZE];
+        this.tags = new Object[RING_SIZE];
+        this.first = 0;
+        this.pending = 0;
+    }
+
+    /**
+     * Issues the read of the current read frame buffer. If the ring is full,
+     * the oldest frame is mapped and delivered to the listener afterwards.
+     *
+     * @param w   The width
+     * @param h   The height
+     * @param tag Object handed to the listener with the frame
+     */
+    public void read(int w, int h, Object tag) {
+        if (w != width || h != height)
+            resize(w, h);
+
+        int slot = (first + pending) % RING_SIZE;
+        GL11.glPixelStorei(GL11.GL_PACK_ALIGNMENT, 1);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pbos[slot]);
+        GL11.glReadPixels(0, 0, w, h, GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, 0L);
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+        fences[slot] = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        tags[slot] = tag;
+        pending++;
+
+        if (pending == RING_SIZE)
+            mapOldest();
+    }
+
+    /**
+     * Maps and delivers all the pending frames, in order
+     */
+    public void drain() {
+        while (pending > 0)
+            mapOldest();
+    }
+
+    /**
+     * @return The number of frames read but not yet delivered
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    private void mapOldest() {
+        int slot = first;
+        Object tag = tags[slot];
+        tags[slot] = null;
+        first = (first + 1) % RING_SIZE;
+        pending--;
+
+        long fence = fences[slot];
+        fences[slot] = 0;
+        if (fence != 0) {
+            int status = GL32.glClientWaitSync(fence, GL32.GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT_NS);
+            GL32.glDeleteSync(fence);
+            if (status == GL32.GL_TIMEOUT_EXPIRED || status == GL32.GL_WAIT_FAILED)
+                logger.error("Frame readback did not complete, the frame may be corrupt");
+        }
+
+        int size = width * height * 4;
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pbos[slot]);
+        ByteBuffer pixels = GL30.glMapBufferRange(GL21.GL_PIXEL_PACK_BUFFER, 0, size, GL30.GL_MAP_READ_BIT);
+        try {
+            if (pixels != null)
+                listener.frameRead(pixels, width, height, tag);
+            else
+                logger.error("Could not map pixel buffer, frame lost");
+        } finally {
+            if (pixels != null)
+                GL15.glUnmapBuffer(GL21.GL_PIXEL_PACK_BUFFER);
+            GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+        }
+    }
+
+    private void resize(int w, int h) {
+        // Pending frames have the old size
+        drain();
+        deleteBuffers();
+        width = w;
+        height = h;
+        for (int i = 0; i < RING_SIZE; i++) {
+            pbos[i] = GL15.glGenBuffers();
+            GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, pbos[i]);
+            GL15.glBufferData(GL21.GL_PIXEL_PACK_BUFFER, (long) w * h * 4, GL15.GL_STREAM_READ);
+        }
+        GL15.glBindBuffer(GL21.GL_PIXEL_PACK_BUFFER, 0);
+        first = 0;
+    }
+
+    private void deleteBuffers() {
+        for (int i = 0; i < RING_SIZE; i++) {
+            if (pbos[i] != 0) {
+                GL15.glDeleteBuffers(pbos[i]);
+                pbos[i] = 0;
+            }
+        }
+        width = 0;
+        height = 0;
+    }
+
+    /**
+     * Delivers the pending frames and deletes the pixel buffer objects
+     */
+    @Override
+    public void dispose() {
+        drain();
+        deleteBuffers();
+    }
+}
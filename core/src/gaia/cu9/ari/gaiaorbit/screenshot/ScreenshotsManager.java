@@ -56,8 +56,7 @@ public class ScreenshotsManager implements IObserver {
 
     public ScreenshotsManager() {
         super();
-        //frameRenderer = new BufferedFileImageRenderer(GlobalConf.runtime.OUTPUT_FRAME_BUFFER_SIZE);
-        frameRenderer = new BasicFileImageRenderer();
+        frameRenderer = new BufferedFileImageRenderer(GlobalConf.frame.ENCODER_QUEUE_SIZE, GlobalConf.frame.getEncoderThreads());
         screenshotRenderer = new BasicFileImageRenderer();
         screenshot = new ScreenshotCmd();
 
@@ -68,7 +67,7 @@ public class ScreenshotsManager implements IObserver {
         if (GlobalConf.frame.RENDER_OUTPUT) {
             switch (GlobalConf.frame.FRAME_MODE) {
             case simple:
-                frameRenderer.saveScreenshot(GlobalConf.frame.RENDER_FOLDER, GlobalConf.frame.RENDER_FILE_NAME, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), true, GlobalConf.frame.FRAME_FORMAT, GlobalConf.frame.FRAME_QUALITY);
+                frameRenderer.saveScreenshot(GlobalConf.frame.RENDER_FOLDER, GlobalConf.frame.RENDER_FILE_NAME, Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), false, GlobalConf.frame.FRAME_FORMAT, GlobalConf.frame.FRAME_QUALITY);
                 break;
             case redraw:
                 // Do not resize post processor
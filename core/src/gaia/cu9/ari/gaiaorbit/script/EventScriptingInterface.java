@@ -41,6 +41,9 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoField;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -72,21 +75,15 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
     private Set<AtomicBoolean> stops;
 
     /**
-     * Used to wait for new frames
+     * Used to wait for frames and conditions checked every frame
      */
-    private final Object frameMonitor;
-
-    /**
-     * Contains the current frame number. Available right after
-     * notify() is called on frameMonitor.
-     */
-    private long frameNumber;
+    private final FrameScheduler frameScheduler;
 
     private EventScriptingInterface() {
         em = EventManager.instance;
         manager = GaiaSky.instance.manager;
 
-        frameMonitor = new Object();
+        frameScheduler = new FrameScheduler();
 
         stops = new HashSet<>();
 
@@ -770,12 +767,15 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
         if (timeOutSeconds < 0)
             timeOutSeconds = Double.MAX_VALUE;
 
-        double startMs = System.currentTimeMillis();
-        double elapsedSeconds = 0;
-        while (obj == null && elapsedSeconds < timeOutSeconds) {
-            sleepFrames(1);
-            obj = sg.getNode(n);
-            elapsedSeconds = (System.currentTimeMillis() - startMs) / 1000d;
+        if (obj == null && timeOutSeconds > 0) {
+            long startMs = System.currentTimeMillis();
+            double timeOutMs = timeOutSeconds * 1000d;
+            AtomicReference<SceneGraphNode> node = new AtomicReference<>();
+            waitFrames(frameScheduler.when(() -> {
+                node.set(sg.getNode(n));
+                return node.get() != null || System.currentTimeMillis() - startMs >= timeOutMs;
+            }));
+            obj = node.get();
         }
         return obj;
     }
@@ -1318,9 +1318,7 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
 
     @Override
     public void waitForInput() {
-        while (inputCode < 0) {
-            sleepFrames(1);
-        }
+        waitFrames(frameScheduler.when(() -> inputCode >= 0));
         // Consume
         inputCode = -1;
 
@@ -1328,18 +1326,14 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
 
     @Override
     public void waitForEnter() {
-        while (inputCode != Keys.ENTER) {
-            sleepFrames(1);
-        }
+        waitFrames(frameScheduler.when(() -> inputCode == Keys.ENTER));
         // Consume
         inputCode = -1;
     }
 
     @Override
     public void waitForInput(int keyCode) {
-        while (inputCode != keyCode) {
-            sleepFrames(1);
-        }
+        waitFrames(frameScheduler.when(() -> inputCode == keyCode));
         // Consume
         inputCode = -1;
     }
@@ -1397,15 +1391,15 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
     public boolean waitFocus(String name, long timeoutMs) {
         long iniTime = TimeUtils.millis();
         NaturalCamera cam = GaiaSky.instance.cam.naturalCamera;
-        while (cam.focus == null || !cam.focus.getName().equalsIgnoreCase(name)) {
-            sleepFrames(1);
-            long spent = TimeUtils.millis() - iniTime;
-            if (timeoutMs > 0 && spent > timeoutMs) {
-                // Timeout!
+        AtomicBoolean timeout = new AtomicBoolean(false);
+        waitFrames(frameScheduler.when(() -> {
+            if (cam.focus != null && cam.focus.getName().equalsIgnoreCase(name))
                 return true;
-            }
-        }
-        return false;
+            // Timeout!
+            timeout.set(timeoutMs > 0 && TimeUtils.millis() - iniTime > timeoutMs);
+            return timeout.get();
+        }));
+        return timeout.get();
     }
 
     private Texture getTexture(String path) {
@@ -1426,9 +1420,7 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
         for (final String path : paths) {
             // This only works in async mode!
             Gdx.app.postRunnable(() -> manager.load(path, Texture.class));
-            while (!manager.isLoaded(path)) {
-                sleepFrames(1);
-            }
+            waitFrames(frameScheduler.when(() -> manager.isLoaded(path)));
             Texture tex = manager.get(path, Texture.class);
             textures.put(path, tex);
         }
@@ -1629,19 +1621,38 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
 
     @Override
     public void sleepFrames(long frames) {
-        long frameCount = 0;
-        while (frameCount < frames) {
-            try {
-                synchronized (frameMonitor) {
-                    frameMonitor.wait();
-                }
-                frameCount++;
-            } catch (InterruptedException e) {
-                logger.error("Error while waiting on frameMonitor", e);
-            }
+        waitFrames(frameScheduler.afterFrames(frames));
+    }
+
+    /**
+     * Blocks the script until the given wait of the frame scheduler is done
+     *
+     * @param wait The wait, from {@link #getFrameScheduler()}
+     * @return Whether the wait is done, false if it was cancelled or failed
+     */
+    private boolean waitFrames(CompletableFuture<Long> wait) {
+        try {
+            wait.get();
+            return true;
+        } catch (CancellationException e) {
+            return false;
+        } catch (InterruptedException | ExecutionException e) {
+            logger.error(e, "Error while waiting for frames");
+            return false;
         }
     }
 
+    /**
+     * Gets the frame scheduler, to wait for a frame number or for a condition,
+     * which is checked once per frame in the render thread. Scripts can block on the
+     * returned futures, or chain actions to them.
+     *
+     * @return The frame scheduler
+     */
+    public FrameScheduler getFrameScheduler() {
+        return frameScheduler;
+    }
+
     /**
      * Checks if the object is the current focus of the given camera. If it is not,
      * it sets it as focus and waits if necessary.
@@ -1663,16 +1674,8 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
                 waitTimeSeconds = Double.MAX_VALUE;
             }
             long start = System.currentTimeMillis();
-            double elapsedSeconds = 0;
-            while (!cam.facingFocus && elapsedSeconds < waitTimeSeconds) {
-                // Wait
-                try {
-                    sleepFrames(1);
-                } catch (Exception e) {
-                    logger.error(e);
-                }
-                elapsedSeconds = (System.currentTimeMillis() - start) / 1000d;
-            }
+            double waitTimeMs = waitTimeSeconds * 1000d;
+            waitFrames(frameScheduler.when(() -> cam.facingFocus || System.currentTimeMillis() - start >= waitTimeMs));
         }
     }
 
@@ -2038,9 +2041,8 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
                         logger.info(data.size + " objects loaded");
                     });
                     // Sync waiting until the node is in the scene graph
-                    while (sync && (starGroup.get() == null || !starGroup.get().inSceneGraph)) {
-                        sleepFrames(1);
-                    }
+                    if (sync)
+                        waitFrames(frameScheduler.when(() -> starGroup.get() != null && starGroup.get().inSceneGraph));
                     sleepFrames(1);
                     return true;
                 } else {
@@ -2131,7 +2133,7 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
 
     @Override
     public long getFrameNumber() {
-        return frameNumber;
+        return frameScheduler.getFrame();
     }
 
     @Override
@@ -2196,11 +2198,8 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
             inputCode = (Integer) data[0];
             break;
         case FRAME_TICK:
-            // New frame
-            frameNumber = (Long) data[0];
-            synchronized (frameMonitor) {
-                frameMonitor.notify();
-            }
+            // New frame, wake up the scripts whose waits are done
+            frameScheduler.frame((Long) data[0]);
             break;
         case DISPOSE:
             // Stop all
@@ -2208,6 +2207,7 @@ public class EventScriptingInterface implements IScriptingInterface, IObserver {
                 if (stop != null)
                     stop.set(true);
             }
+            frameScheduler.dispose();
             break;
         default:
             break;
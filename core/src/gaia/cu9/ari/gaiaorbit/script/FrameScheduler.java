@@ -0,0 +1,157 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.script;
+
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Schedules script waits on frames. Scripts register a target frame number or a
+ * condition and get a future, which is completed with the frame number at the
+ * first frame where the target is reached or the condition holds. All waits are
+ * checked in a single pass per frame in the render thread, and only the threads
+ * whose waits are done are woken up.
+ *
+ * Conditions run in the render thread, so they must be short and must not
+ * block.
+ *
+ * @author tsagrista
+ */
+public class FrameScheduler {
+
+    private static class Wait {
+        /** Target frame, only if there is no condition **/
+        final long frame;
+        final BooleanSupplier condition;
+        final CompletableFuture<Long> future;
+
+        Wait(long frame, BooleanSupplier condition) {
+            this.frame = frame;
+            this.condition = condition;
+            this.future = new CompletableFuture<>();
+        }
+
+        /**
+         * Completes the future if the wait is done
+         *
+         * @return Whether the wait is done
+         */
+        boolean check(long currentFrame) {
+            if (future.isDone())
+                return true;
+            try {
+                if (condition != null ? condition.getAsBoolean() : currentFrame >= frame) {
+                    future.complete(currentFrame);
+                    return true;
+                }
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /** Waits registered since the last frame, from any thread **/
+    private final Queue<Wait> incoming;
+    /** Waits checked every frame, only used in the render thread **/
+    private final Array<Wait> pending;
+    /** Current frame number **/
+    private volatile long frame;
+    private volatile boolean disposed;
+
+    public FrameScheduler() {
+        incoming = new ConcurrentLinkedQueue<>();
+        pending = new Array<>(false, 16);
+    }
+
+    /**
+     * @return The current frame number
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * Waits for the given frame
+     *
+     * @param frame The frame number
+     * @return A future completed with the frame number when the frame is reached
+     */
+    public CompletableFuture<Long> atFrame(long frame) {
+        return register(new Wait(frame, null));
+    }
+
+    /**
+     * Waits for the given number of frames from the current one
+     *
+     * @param frames The number of frames
+     * @return A future completed with the frame number after the frames
+     */
+    public CompletableFuture<Long> afterFrames(long frames) {
+        return atFrame(frame + frames);
+    }
+
+    /**
+     * Waits until the given condition holds. The condition is checked once per
+     * frame in the render thread, starting at the next frame.
+     *
+     * @param condition The condition
+     * @return A future completed with the frame number when the condition holds,
+     * or exceptionally if the condition throws an exception
+     */
+    public CompletableFuture<Long> when(BooleanSupplier condition) {
+        return register(new Wait(0, condition));
+    }
+
+    private CompletableFuture<Long> register(Wait wait) {
+        if (wait.condition == null && wait.frame <= frame) {
+            wait.future.complete(frame);
+        } else {
+            incoming.add(wait);
+            if (disposed)
+                wait.future.cancel(false);
+        }
+        return wait.future;
+    }
+
+    /**
+     * Checks all the waits for the new frame. Must be called once per frame in the
+     * render thread.
+     *
+     * @param frame The frame number
+     */
+    public void frame(long frame) {
+        this.frame = frame;
+        Wait wait;
+        while ((wait = incoming.poll()) != null)
+            pending.add(wait);
+
+        for (int i = pending.size - 1; i >= 0; i--) {
+            if (pending.get(i).check(frame))
+                pending.removeIndex(i);
+        }
+    }
+
+    /**
+     * Cancels all the waits, and the ones to come. Must be called in the render
+     * thread.
+     */
+    public void dispose() {
+        disposed = true;
+        Wait wait;
+        while ((wait = incoming.poll()) != null)
+            pending.add(wait);
+        for (Wait w : pending)
+            w.future.cancel(false);
+        pending.clear();
+    }
+
+}
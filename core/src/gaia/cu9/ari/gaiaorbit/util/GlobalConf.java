@@ -71,6 +71,16 @@ public class GlobalConf {
         redraw
     }
 
+    /**
+     * How frames are read back from the GPU in frame output mode
+     */
+    public enum ReadbackMode {
+        /** glReadPixels to memory, waits for the GPU **/
+        sync,
+        /** Ring of pixel buffer objects, frames are mapped two frames later **/
+        pbo
+    }
+
     public static enum ImageFormat {
         PNG,
         JPG
@@ -487,6 +497,22 @@ public class GlobalConf {
          **/
         public CameraKeyframeManager.PathType KF_PATH_TYPE_ORIENTATION;
 
+        /**
+         * Number of threads that encode and write frames to disk. Set to 0 or
+         * negative to let the program decide.
+         **/
+        public int ENCODER_THREADS;
+        /**
+         * Maximum number of frames waiting to be encoded. Rendering blocks when
+         * this many frames are pending.
+         **/
+        public int ENCODER_QUEUE_SIZE;
+        /**
+         * Frame readback mode. The pbo mode falls back to sync when pixel buffer
+         * objects are not available.
+         **/
+        public ReadbackMode FRAME_READBACK;
+
         public FrameConf() {
             EventManager.instance.subscribe(this, Events.CONFIG_FRAME_OUTPUT_CMD, Events.FRAME_OUTPUT_CMD);
         }
@@ -499,7 +525,7 @@ public class GlobalConf {
             return FRAME_MODE.equals(ScreenshotMode.redraw);
         }
 
-        public void initialize(int rENDER_WIDTH, int rENDER_HEIGHT, int rENDER_TARGET_FPS, int cAMERA_REC_TARGET_FPS, boolean aUTO_FRAME_OUTPUT_CAMERA_PLAY, String rENDER_FOLDER, String rENDER_FILE_NAME, boolean rENDER_SCREENSHOT_TIME, boolean rENDER_OUTPUT, ScreenshotMode fRAME_MODE, ImageFormat fRAME_FORMAT, float fRAME_QUALITY, CameraKeyframeManager.PathType kF_PATH_TYPE_POSITION, CameraKeyframeManager.PathType kF_PATH_TYPE_ORIENTATION) {
+        public void initialize(int rENDER_WIDTH, int rENDER_HEIGHT, int rENDER_TARGET_FPS, int cAMERA_REC_TARGET_FPS, boolean aUTO_FRAME_OUTPUT_CAMERA_PLAY, String rENDER_FOLDER, String rENDER_FILE_NAME, boolean rENDER_SCREENSHOT_TIME, boolean rENDER_OUTPUT, ScreenshotMode fRAME_MODE, ImageFormat fRAME_FORMAT, float fRAME_QUALITY, CameraKeyframeManager.PathType kF_PATH_TYPE_POSITION, CameraKeyframeManager.PathType kF_PATH_TYPE_ORIENTATION, int eNCODER_THREADS, int eNCODER_QUEUE_SIZE, ReadbackMode fRAME_READBACK) {
             RENDER_WIDTH = rENDER_WIDTH;
             RENDER_HEIGHT = rENDER_HEIGHT;
             RENDER_TARGET_FPS = rENDER_TARGET_FPS;
@@ -514,6 +540,21 @@ public class GlobalConf {
             FRAME_QUALITY = fRAME_QUALITY;
             KF_PATH_TYPE_ORIENTATION = kF_PATH_TYPE_ORIENTATION;
             KF_PATH_TYPE_POSITION = kF_PATH_TYPE_POSITION;
+            ENCODER_THREADS = eNCODER_THREADS;
+            ENCODER_QUEUE_SIZE = eNCODER_QUEUE_SIZE;
+            FRAME_READBACK = fRAME_READBACK;
+        }
+
+        /**
+         * Gets the actual number of frame encoder threads to use
+         *
+         * @return The number of frame encoder threads
+         */
+        public int getEncoderThreads() {
+            if (ENCODER_THREADS <= 0)
+                return MathUtilsd.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, 8);
+            else
+                return ENCODER_THREADS;
         }
 
         @Override
@@ -597,8 +638,17 @@ public class GlobalConf {
          * Whether to use the real attitude of Gaia or the NSL approximation
          **/
         public boolean REAL_GAIA_ATTITUDE;
+        /**
+         * Whether to use cached Chebyshev ephemerides for the planets and
+         * moons instead of evaluating their analytic theories
+         **/
+        public boolean EPHEMERIS_CACHE;
+        /**
+         * Directory of the cached ephemerides, which are reused across runs
+         **/
+        public String EPHEMERIS_CACHE_LOCATION;
 
-        public void initialize(String dATA_LOCATION, String cATALOG_JSON_FILE, String oBJECTS_JSON_FILE, float lIMIT_MAG_LOAD, boolean rEAL_GAIA_ATTITUDE, boolean hIGH_ACCURACY_POSITIONS) {
+        public void initialize(String dATA_LOCATION, String cATALOG_JSON_FILE, String oBJECTS_JSON_FILE, float lIMIT_MAG_LOAD, boolean rEAL_GAIA_ATTITUDE, boolean hIGH_ACCURACY_POSITIONS, boolean ePHEMERIS_CACHE, String ePHEMERIS_CACHE_LOCATION) {
 
             DATA_LOCATION = dATA_LOCATION;
             CATALOG_JSON_FILES = cATALOG_JSON_FILE;
@@ -606,6 +656,8 @@ public class GlobalConf {
             LIMIT_MAG_LOAD = lIMIT_MAG_LOAD;
             REAL_GAIA_ATTITUDE = rEAL_GAIA_ATTITUDE;
             HIGH_ACCURACY_POSITIONS = hIGH_ACCURACY_POSITIONS;
+            EPHEMERIS_CACHE = ePHEMERIS_CACHE;
+            EPHEMERIS_CACHE_LOCATION = ePHEMERIS_CACHE_LOCATION;
         }
 
         public void initialize(String cATALOG_JSON_FILE, String oBJECTS_JSON_FILE, boolean dATA_SOURCE_LOCAL, float lIMIT_MAG_LOAD) {
@@ -991,8 +1043,8 @@ public class GlobalConf {
          * Whether to use the general line renderer or a faster GPU-based
          * approach
          * <ul>
-         * <li>0 - Sorted lines (see LINE_RENDERER) - slower but looks
-         * better</li>
+         * <li>0 - Same look as the lines (see LINE_RENDERER), in VBOs - slower
+         * but looks better</li>
          * <li>1 - GPU VBO - faster but looks a bit worse</li>
          * </ul>
          */
@@ -1069,13 +1121,53 @@ public class GlobalConf {
          */
         public long MAX_LOADED_STARS;
 
+        /**
+         * Number of worker threads that read and decode octants of multifile LOD datasets
+         * in parallel. Set to 0 or negative to let the program decide.
+         */
+        public int OCTREE_LOADER_THREADS;
+
+        /**
+         * Heap memory budget in MB for the data of multifile LOD datasets, which
+         * includes the star data, the decoded names and the sort and vertex
+         * buffers. Set to 0 or negative to have no heap budget, so that only
+         * {@link #MAX_LOADED_STARS} limits the loaded data.
+         */
+        public int OCTREE_HEAP_BUDGET;
+
+        /**
+         * Graphics memory budget in MB for the vertex buffers of multifile LOD
+         * datasets. Set to 0 or negative to use half the graphics memory reported
+         * by the driver, or 1 GB if it can't be queried.
+         */
+        public int OCTREE_VRAM_BUDGET;
+
+        /**
+         * Fraction of the memory budgets (and of {@link #MAX_LOADED_STARS}) at which
+         * octants start being unloaded
+         */
+        public float OCTREE_MEM_HIGH_WATERMARK;
+
+        /**
+         * Fraction of the memory budgets (and of {@link #MAX_LOADED_STARS}) down to
+         * which octants are unloaded once unloading starts
+         */
+        public float OCTREE_MEM_LOW_WATERMARK;
+
+        /**
+         * Time in seconds to look ahead along the camera motion or the camera path
+         * being played to prefetch the octants of multifile LOD datasets which are
+         * about to become visible. Set to 0 to disable prefetching.
+         */
+        public float OCTREE_PREFETCH_SECONDS;
+
         public SceneConf() {
             EventManager.instance.subscribe(this, Events.TOGGLE_VISIBILITY_CMD, Events.FOCUS_LOCK_CMD, Events.ORIENTATION_LOCK_CMD, Events.STAR_BRIGHTNESS_CMD, Events.PM_LEN_FACTOR_CMD, Events.PM_NUM_FACTOR_CMD, Events.PM_COLOR_MODE_CMD, Events.PM_ARROWHEADS_CMD, Events.FOV_CHANGED_CMD, Events.CAMERA_SPEED_CMD, Events.ROTATION_SPEED_CMD, Events.TURNING_SPEED_CMD, Events.SPEED_LIMIT_CMD, Events.TRANSIT_COLOUR_CMD, Events.ONLY_OBSERVED_STARS_CMD, Events.COMPUTE_GAIA_SCAN_CMD, Events.OCTREE_PARTICLE_FADE_CMD, Events.STAR_POINT_SIZE_CMD, Events.STAR_POINT_SIZE_INCREASE_CMD, Events.STAR_POINT_SIZE_DECREASE_CMD, Events.STAR_POINT_SIZE_RESET_CMD, Events.STAR_MIN_OPACITY_CMD, Events.AMBIENT_LIGHT_CMD, Events.GALAXY_3D_CMD, Events.CROSSHAIR_CMD, Events.CAMERA_CINEMATIC_CMD, Events.CUBEMAP_RESOLUTION_CMD, Events.LABEL_SIZE_CMD);
         }
 
         public void initialize(int gRAPHICS_QUALITY, long oBJECT_FADE_MS, float sTAR_BRIGHTNESS, float aMBIENT_LIGHT, int cAMERA_FOV, float cAMERA_SPEED, float tURNING_SPEED, float rOTATION_SPEED, int cAMERA_SPEED_LIMIT_IDX, boolean fOCUS_LOCK, boolean fOCUS_LOCK_ORIENTATION, float lABEL_SIZE_FACTOR, float lABEL_NUMBER_FACTOR, boolean[] vISIBILITY, int oRBIT_RENDERER, int lINE_RENDERER, double sTAR_TH_ANGLE_NONE, double sTAR_TH_ANGLE_POINT, double sTAR_TH_ANGLE_QUAD, float pOINT_ALPHA_MIN,
                 float pOINT_ALPHA_MAX, boolean oCTREE_PARTICLE_FADE, float oCTANT_TH_ANGLE_0, float oCTANT_TH_ANGLE_1, float pM_NUM_FACTOR, float pM_LEN_FACTOR, long n_PM_STARS, int pM_COLOR_MODE, boolean pM_ARROWHEADS, float sTAR_POINT_SIZE, boolean gALAXY_3D, int cUBEMAP_FACE_RESOLUTION, boolean cROSSHAIR, boolean cINEMATIC_CAMERA, boolean lAZY_TEXTURE_INIT, boolean fREE_CAMERA_TARGET_MODE_ON, boolean sHADOW_MAPPING, int sHADOW_MAPPING_N_SHADOWS, int sHADOW_MAPPING_RESOLUTION,
-                long mAX_LOADED_STARS) {
+                long mAX_LOADED_STARS, int oCTREE_LOADER_THREADS, int oCTREE_HEAP_BUDGET, int oCTREE_VRAM_BUDGET, float oCTREE_MEM_HIGH_WATERMARK, float oCTREE_MEM_LOW_WATERMARK, float oCTREE_PREFETCH_SECONDS) {
             GRAPHICS_QUALITY = gRAPHICS_QUALITY;
             OBJECT_FADE_MS = oBJECT_FADE_MS;
             STAR_BRIGHTNESS = sTAR_BRIGHTNESS;
@@ -1118,6 +1210,51 @@ public class GlobalConf {
             SHADOW_MAPPING_N_SHADOWS = sHADOW_MAPPING_N_SHADOWS;
             SHADOW_MAPPING_RESOLUTION = sHADOW_MAPPING_RESOLUTION;
             MAX_LOADED_STARS = mAX_LOADED_STARS;
+            OCTREE_LOADER_THREADS = oCTREE_LOADER_THREADS;
+            OCTREE_HEAP_BUDGET = oCTREE_HEAP_BUDGET;
+            OCTREE_VRAM_BUDGET = oCTREE_VRAM_BUDGET;
+            OCTREE_MEM_HIGH_WATERMARK = oCTREE_MEM_HIGH_WATERMARK;
+            OCTREE_MEM_LOW_WATERMARK = oCTREE_MEM_LOW_WATERMARK;
+            OCTREE_PREFETCH_SECONDS = oCTREE_PREFETCH_SECONDS;
+        }
+
+        /**
+         * Returns the actual heap budget for multifile LOD datasets, see {@link #OCTREE_HEAP_BUDGET}
+         *
+         * @return The heap budget in bytes, or {@link Long#MAX_VALUE} if there is none
+         */
+        public long getOctreeHeapBudgetBytes() {
+            if (OCTREE_HEAP_BUDGET <= 0)
+                return Long.MAX_VALUE;
+            else
+                return OCTREE_HEAP_BUDGET * 1024L * 1024L;
+        }
+
+        /**
+         * Returns the actual graphics memory budget for multifile LOD datasets, see {@link #OCTREE_VRAM_BUDGET}
+         *
+         * @return The graphics memory budget in bytes
+         */
+        public long getOctreeVramBudgetBytes() {
+            if (OCTREE_VRAM_BUDGET <= 0) {
+                double gpuMb = MemInfo.getGpuMemory();
+                return gpuMb > 0 ? (long) (gpuMb / 2d * 1024d * 1024d) : 1024L * 1024L * 1024L;
+            } else {
+                return OCTREE_VRAM_BUDGET * 1024L * 1024L;
+            }
+        }
+
+        /**
+         * Returns the actual number of octree loader threads. If the setting is 0 or
+         * negative, half the available processors are used, between 1 and 4.
+         *
+         * @return The number of octree loader threads
+         */
+        public int getOctreeLoaderThreads() {
+            if (OCTREE_LOADER_THREADS <= 0)
+                return MathUtilsd.clamp(Runtime.getRuntime().availableProcessors() / 2, 1, 4);
+            else
+                return OCTREE_LOADER_THREADS;
         }
 
         public void updateSpeedLimit() {
@@ -5,10 +5,23 @@
 
 package gaia.cu9.ari.gaiaorbit.util;
 
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.BufferUtils;
+
+import java.nio.IntBuffer;
+
 public class MemInfo {
 
     private static double BYTE_TO_MB = 1024 * 1024;
 
+    /** GL_GPU_MEMORY_INFO_TOTAL_AVAILABLE_MEMORY_NVX **/
+    private static final int GL_GPU_MEMORY_TOTAL_NVX = 0x9048;
+    /** GL_VBO_FREE_MEMORY_ATI **/
+    private static final int GL_VBO_FREE_MEMORY_ATI = 0x87FB;
+
+    /** Graphics memory in KB, or negative if unknown **/
+    private static long gpuMemoryKb = -1;
+
     public static double getUsedMemory() {
         return (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / BYTE_TO_MB;
     }
@@ -25,4 +38,34 @@ public class MemInfo {
         return (Runtime.getRuntime().maxMemory()) / BYTE_TO_MB;
     }
 
+    /**
+     * Queries the graphics memory using the NVX_gpu_memory_info or the
+     * ATI_meminfo extensions, whichever is available. The first reports the
+     * total memory, the second only the free memory at this point. Must be
+     * called from the GL thread.
+     */
+    public static void initGpuMemory() {
+        try {
+            IntBuffer buf = BufferUtils.newIntBuffer(16);
+            if (Gdx.graphics.supportsExtension("GL_NVX_gpu_memory_info")) {
+                Gdx.gl.glGetIntegerv(GL_GPU_MEMORY_TOTAL_NVX, buf);
+                gpuMemoryKb = buf.get(0);
+            } else if (Gdx.graphics.supportsExtension("GL_ATI_meminfo")) {
+                Gdx.gl.glGetIntegerv(GL_VBO_FREE_MEMORY_ATI, buf);
+                gpuMemoryKb = buf.get(0);
+            }
+        } catch (Exception e) {
+            gpuMemoryKb = -1;
+        }
+    }
+
+    /**
+     * Gets the graphics memory, as queried in {@link #initGpuMemory()}
+     *
+     * @return The graphics memory in MB, or a negative number if unknown
+     */
+    public static double getGpuMemory() {
+        return gpuMemoryKb > 0 ? gpuMemoryKb / 1024d : -1;
+    }
+
 }
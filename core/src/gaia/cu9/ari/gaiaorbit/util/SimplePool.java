@@ -9,6 +9,7 @@ import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.Pool;
 import gaia.cu9.ari.gaiaorbit.scenegraph.*;
 import gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper.OctreeWrapper;
+import gaia.cu9.ari.gaiaorbit.scenegraph.octreewrapper.OctreeWrapperConcurrent;
 import gaia.cu9.ari.gaiaorbit.util.math.Matrix4d;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector2d;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
@@ -25,6 +26,7 @@ public class SimplePool<T> extends Pool<T> {
     private static final int sgn = SceneGraphNode.class.hashCode();
     private static final int matrix4d = Matrix4d.class.hashCode();
     private static final int octreewrapper = OctreeWrapper.class.hashCode();
+    private static final int octreewrapperconcurrent = OctreeWrapperConcurrent.class.hashCode();
 
     final Integer typeHash;
 
@@ -63,6 +65,8 @@ public class SimplePool<T> extends Pool<T> {
 	    return (T) new Matrix4d();
 	if (typeHash == octreewrapper)
 	    return (T) new OctreeWrapper();
+	if (typeHash == octreewrapperconcurrent)
+	    return (T) new OctreeWrapperConcurrent();
 
 	Logger.getLogger(this.getClass()).warn("Class " + typeHash + " is not poolable!");
 	return null;
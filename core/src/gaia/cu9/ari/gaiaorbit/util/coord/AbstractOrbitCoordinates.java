@@ -9,8 +9,16 @@ import gaia.cu9.ari.gaiaorbit.scenegraph.CelestialBody;
 import gaia.cu9.ari.gaiaorbit.scenegraph.ISceneGraph;
 import gaia.cu9.ari.gaiaorbit.scenegraph.Orbit;
 import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode;
+import gaia.cu9.ari.gaiaorbit.util.Constants;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.Logger;
 import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.Ephemeris;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.EphemerisCache;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.IEphemerisSource;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+
+import java.time.Instant;
 
 public abstract class AbstractOrbitCoordinates implements IBodyCoordinates {
     protected static final Log logger = Logger.getLogger(AbstractOrbitCoordinates.class);
@@ -18,6 +26,14 @@ public abstract class AbstractOrbitCoordinates implements IBodyCoordinates {
     protected String orbitname;
     protected Orbit orbit;
 
+    /**
+     * Length in days of the segments of the cached ephemeris, 0 to always use
+     * the analytic theory
+     **/
+    protected double ephemerisWindow;
+    private Ephemeris ephemeris;
+    private boolean ephemerisHighAccuracy;
+
     @Override
     public void doneLoading(Object... params) {
         if (params.length == 0) {
@@ -36,6 +52,76 @@ public abstract class AbstractOrbitCoordinates implements IBodyCoordinates {
         this.orbitname = orbitname;
     }
 
+    public void setEphemeriswindow(Double days) {
+        this.ephemerisWindow = days;
+        this.ephemeris = null;
+    }
+
+    public double getEphemerisWindow() {
+        return ephemerisWindow;
+    }
+
+    /**
+     * Whether the analytic theory uses all its terms
+     */
+    protected boolean isHighAccuracy() {
+        return GlobalConf.data != null && GlobalConf.data.HIGH_ACCURACY_POSITIONS;
+    }
+
+    /**
+     * Gets the analytic theory to fit the cached ephemeris to
+     *
+     * @param highAccuracy Whether to use all the terms of the theory
+     * @return The theory, or null if this body has no cached ephemeris
+     */
+    protected IEphemerisSource getEphemerisSource(boolean highAccuracy) {
+        return null;
+    }
+
+    /**
+     * Gets the ecliptic cartesian coordinates from the cached ephemeris, which
+     * is much faster than evaluating the analytic theory
+     *
+     * @param date The date
+     * @param out  The ecliptic cartesian coordinates in internal units are put here
+     * @return Whether the cached ephemeris covers the date, otherwise the
+     * analytic theory must be used
+     */
+    protected boolean getCachedEclipticCartesianCoordinates(Instant date, Vector3d out) {
+        if (ephemerisWindow <= 0 || EphemerisCache.instance == null)
+            return false;
+        boolean highAccuracy = isHighAccuracy();
+        Ephemeris e = ephemeris;
+        if (e == null || ephemerisHighAccuracy != highAccuracy) {
+            IEphemerisSource source = getEphemerisSource(highAccuracy);
+            if (source == null)
+                return false;
+            e = EphemerisCache.instance.get(getClass().getSimpleName() + (highAccuracy ? "-high" : "-low"), ephemerisWindow, source);
+            ephemeris = e;
+            ephemerisHighAccuracy = highAccuracy;
+        }
+        if (!e.position(AstroUtils.getJulianDateCache(date), out))
+            return false;
+        out.scl(Constants.KM_TO_U);
+        return true;
+    }
+
+    /**
+     * Converts ecliptic cartesian coordinates to spherical, the inverse of
+     * {@link Coordinates#sphericalToCartesian(Vector3d, Vector3d)}
+     *
+     * @param v The cartesian coordinates, which are replaced by the longitude,
+     *          latitude and distance
+     * @return The vector, for chaining
+     */
+    protected static Vector3d cartesianToSpherical(Vector3d v) {
+        double xz = Math.sqrt(v.x * v.x + v.z * v.z);
+        double lon = Math.atan2(v.x, v.z);
+        if (lon < 0)
+            lon += 2 * Math.PI;
+        return v.set(lon, Math.atan2(v.y, xz), Math.sqrt(xz * xz + v.y * v.y));
+    }
+
     @Override
     public Orbit getOrbitObject() {
         return orbit;
@@ -8,6 +8,7 @@ package gaia.cu9.ari.gaiaorbit.util.coord;
 import gaia.cu9.ari.gaiaorbit.util.Constants;
 import gaia.cu9.ari.gaiaorbit.util.LruCache;
 import gaia.cu9.ari.gaiaorbit.util.Nature;
+import gaia.cu9.ari.gaiaorbit.util.coord.vsop87.AbstractVSOP87;
 import gaia.cu9.ari.gaiaorbit.util.coord.vsop87.VSOP87;
 import gaia.cu9.ari.gaiaorbit.util.coord.vsop87.iVSOP87;
 import gaia.cu9.ari.gaiaorbit.util.math.ITrigonometry;
@@ -228,7 +229,7 @@ public class AstroUtils {
         double[] aux = calculateSumlSumr(D, M, Mp, F, E, A1, A2, Lp);
         double suml = aux[0];
         double sumr = aux[1];
-        double sumb = calculateSumb(D, sumr, Mp, F, E, A1, A3, Lp);
+        double sumb = calculateSumb(D, M, Mp, F, E, A1, A3, Lp);
 
         double lambda = prettyAngle(Lp + suml / 1000000.0);
         double beta = prettyAngle((sumb / 1000000.0));
@@ -410,6 +411,38 @@ public class AstroUtils {
         }
     }
 
+    /**
+     * Computes the heliocentric ecliptic latitude and longitude in radians and
+     * the distance in internal units of a body at many instants. The bodies
+     * with VSOP87 series are computed in a single batch.
+     *
+     * @param body
+     *            The body.
+     * @param instants
+     *            The dates to get the positions.
+     * @param n
+     *            The number of dates.
+     * @param out
+     *            The output vectors, one per date.
+     * @param highAccuracy
+     *            Whether to use the full precision algorithms or skip some
+     *            terms for speed
+     */
+    public static void getEclipticCoordinates(String body, Instant[] instants, int n, Vector3d[] out, boolean highAccuracy) {
+        iVSOP87 coor = body.equals("Moon") || body.equals("Pluto") ? null : VSOP87.instance.getVOSP87(body);
+        if (coor instanceof AbstractVSOP87) {
+            double[] tau = new double[n], l = new double[n], b = new double[n], r = new double[n];
+            for (int i = 0; i < n; i++)
+                tau[i] = tau(getJulianDate(instants[i]));
+            ((AbstractVSOP87) coor).getEclipticSphericalCoordinates(tau, n, highAccuracy, l, b, r);
+            for (int i = 0; i < n; i++)
+                out[i].set(l[i], b[i], r[i]);
+        } else {
+            for (int i = 0; i < n; i++)
+                getEclipticCoordinates(body, instants[i], out[i], highAccuracy);
+        }
+    }
+
     private static double prettyAngle(double angle) {
         return angle % 360 + (angle < 0 ? 360 : 0);
     }
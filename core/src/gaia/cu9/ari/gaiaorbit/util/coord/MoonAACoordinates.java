@@ -6,6 +6,7 @@
 package gaia.cu9.ari.gaiaorbit.util.coord;
 
 import gaia.cu9.ari.gaiaorbit.util.Constants;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.IEphemerisSource;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 
 import java.time.Instant;
@@ -18,6 +19,12 @@ import java.time.Instant;
  *
  */
 public class MoonAACoordinates extends AbstractOrbitCoordinates {
+
+    public MoonAACoordinates() {
+        // Default length in days of the segments of the cached ephemeris
+        ephemerisWindow = 16;
+    }
+
     @Override
     public void doneLoading(Object... params) {
         super.doneLoading(params);
@@ -27,27 +34,40 @@ public class MoonAACoordinates extends AbstractOrbitCoordinates {
     public Vector3d getEclipticSphericalCoordinates(Instant date, Vector3d out) {
         if (!Constants.withinVSOPTime(date.toEpochMilli()))
             return null;
+        if (getCachedEclipticCartesianCoordinates(date, out))
+            return cartesianToSpherical(out);
         AstroUtils.moonEclipticCoordinates(date, out);
         // To internal units
         out.z *= Constants.KM_TO_U;
         return out;
     }
 
+    @Override
+    protected IEphemerisSource getEphemerisSource(boolean highAccuracy) {
+        return (double julianDate, Vector3d out) -> {
+            AstroUtils.moonEclipticCoordinates(julianDate, out);
+            Coordinates.sphericalToCartesian(out, out);
+            return true;
+        };
+    }
+
     @Override
     public Vector3d getEclipticCartesianCoordinates(Instant date, Vector3d out) {
-        Vector3d v = getEclipticSphericalCoordinates(date, out);
-        if (v == null)
+        if (!Constants.withinVSOPTime(date.toEpochMilli()))
             return null;
+        if (getCachedEclipticCartesianCoordinates(date, out))
+            return out;
+        AstroUtils.moonEclipticCoordinates(date, out);
+        out.z *= Constants.KM_TO_U;
         Coordinates.sphericalToCartesian(out, out);
         return out;
     }
 
     @Override
     public Vector3d getEquatorialCartesianCoordinates(Instant date, Vector3d out) {
-        Vector3d v = getEclipticSphericalCoordinates(date, out);
+        Vector3d v = getEclipticCartesianCoordinates(date, out);
         if (v == null)
             return null;
-        Coordinates.sphericalToCartesian(out, out);
         out.mul(Coordinates.eclToEq());
         return out;
     }
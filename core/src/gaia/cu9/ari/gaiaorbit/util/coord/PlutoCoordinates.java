@@ -6,11 +6,18 @@
 package gaia.cu9.ari.gaiaorbit.util.coord;
 
 import gaia.cu9.ari.gaiaorbit.util.Constants;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.IEphemerisSource;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 
 import java.time.Instant;
 
 public class PlutoCoordinates extends AbstractOrbitCoordinates {
+
+    public PlutoCoordinates() {
+        // Default length in days of the segments of the cached ephemeris
+        ephemerisWindow = 512;
+    }
+
     @Override
     public void doneLoading(Object... params) {
         super.doneLoading(params);
@@ -18,23 +25,36 @@ public class PlutoCoordinates extends AbstractOrbitCoordinates {
 
     @Override
     public Vector3d getEclipticSphericalCoordinates(Instant date, Vector3d out) {
+        if (getCachedEclipticCartesianCoordinates(date, out))
+            return cartesianToSpherical(out);
         AstroUtils.plutoEclipticCoordinates(date, out);
         // To internal units
         out.z *= Constants.KM_TO_U;
         return out;
     }
 
+    @Override
+    protected IEphemerisSource getEphemerisSource(boolean highAccuracy) {
+        return (double julianDate, Vector3d out) -> {
+            AstroUtils.plutoEclipticCoordinates(julianDate - AstroUtils.JD_J2000, out);
+            Coordinates.sphericalToCartesian(out, out);
+            return true;
+        };
+    }
+
     @Override
     public Vector3d getEclipticCartesianCoordinates(Instant date, Vector3d out) {
-        getEclipticSphericalCoordinates(date, out);
+        if (getCachedEclipticCartesianCoordinates(date, out))
+            return out;
+        AstroUtils.plutoEclipticCoordinates(date, out);
+        out.z *= Constants.KM_TO_U;
         Coordinates.sphericalToCartesian(out, out);
         return out;
     }
 
     @Override
     public Vector3d getEquatorialCartesianCoordinates(Instant date, Vector3d out) {
-        getEclipticSphericalCoordinates(date, out);
-        Coordinates.sphericalToCartesian(out, out);
+        getEclipticCartesianCoordinates(date, out);
         out.mul(Coordinates.eclToEq());
 
         return out;
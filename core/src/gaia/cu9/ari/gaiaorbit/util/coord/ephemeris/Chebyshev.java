@@ -0,0 +1,67 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.coord.ephemeris;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Chebyshev interpolation on [-1, 1]. A function sampled at the n Chebyshev
+ * nodes is fitted exactly by a polynomial of degree n - 1, which is very close
+ * to the best polynomial approximation of that degree.
+ *
+ * @author tsagrista
+ */
+public final class Chebyshev {
+
+    private Chebyshev() {
+    }
+
+    /**
+     * @param k The index of the node, in [0, n)
+     * @param n The number of nodes
+     * @return The k-th Chebyshev node, in (-1, 1)
+     */
+    public static double node(int k, int n) {
+        return Math.cos(Math.PI * (k + 0.5) / n);
+    }
+
+    /**
+     * Computes the coefficients of the polynomial which interpolates the given
+     * values at the Chebyshev nodes
+     *
+     * @param values The values at the nodes {@link #node(int, int)}
+     * @param off    The offset of the first value
+     * @param n      The number of nodes and coefficients
+     * @param coeffs The coefficients are put here, starting at 0
+     */
+    public static void fit(double[] values, int off, int n, double[] coeffs) {
+        for (int j = 0; j < n; j++) {
+            double s = 0;
+            for (int k = 0; k < n; k++)
+                s += values[off + k] * Math.cos(Math.PI * j * (k + 0.5) / n);
+            coeffs[j] = (j == 0 ? 1d : 2d) * s / n;
+        }
+    }
+
+    /**
+     * Evaluates a Chebyshev series with Clenshaw's recurrence
+     *
+     * @param buf The buffer with the coefficients as consecutive doubles
+     * @param off The offset of the first coefficient in the buffer, in bytes
+     * @param n   The number of coefficients
+     * @param x   The point, in [-1, 1]
+     * @return The value of the series at x
+     */
+    public static double evaluate(ByteBuffer buf, int off, int n, double x) {
+        double b1 = 0, b2 = 0, x2 = 2 * x;
+        for (int j = n - 1; j > 0; j--) {
+            double b0 = buf.getDouble(off + j * 8) + x2 * b1 - b2;
+            b2 = b1;
+            b1 = b0;
+        }
+        return buf.getDouble(off) + x * b1 - b2;
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.coord.ephemeris;
+
+import gaia.cu9.ari.gaiaorbit.util.Logger;
+import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Piecewise Chebyshev approximation of the position of a body. The time span
+ * of the ephemeris is split into segments of a fixed number of days, and every
+ * segment holds the Chebyshev coefficients of the three cartesian coordinates.
+ * Segments are fitted to the analytic theory the first time they are needed,
+ * or ahead of time in the background, and they are kept in a memory-mapped
+ * file so that they are reused by later runs.
+ * <p>
+ * File layout (big endian): a header of {@link #HEADER_SIZE} bytes with the
+ * magic number, the format version, the number of coefficients, the number of
+ * segments, the segment length in days and the Julian date of the start; then
+ * the segments, each a long flag (1 if the segment is fitted) followed by the
+ * coefficients of x, y and z.
+ *
+ * @author tsagrista
+ */
+public class Ephemeris {
+    private static final Log logger = Logger.getLogger(Ephemeris.class);
+
+    private static final long MAGIC = 0x4753455048454d31L;
+    // Bumped when a theory changes, so that old fits are discarded
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 64;
+    private static final long FITTED = 1L;
+
+    /** Segment states **/
+    private static final int EMPTY = 0, QUEUED = 1, PENDING = 2, READY = 3, FAILED = 4;
+
+    private final String name;
+    private final IEphemerisSource source;
+    private final Executor background;
+    private final int nCoeffs, nSegments, segmentSize;
+    private final double window, startJd;
+    private final ByteBuffer buf;
+    private final AtomicIntegerArray states;
+
+    /**
+     * Opens the ephemeris file, or creates it if it does not exist or its
+     * parameters don't match. If the file can't be mapped, the segments are
+     * kept in memory.
+     *
+     * @param name       The name of the ephemeris
+     * @param source     The analytic theory
+     * @param file       The file, or null to keep the segments in memory
+     * @param startJd    The Julian date of the start of the first segment
+     * @param window     The length of a segment in days
+     * @param nSegments  The number of segments
+     * @param nCoeffs    The number of Chebyshev coefficients per coordinate
+     * @param background The executor for the background fits
+     */
+    public Ephemeris(String name, IEphemerisSource source, File file, double startJd, double window, int nSegments, int nCoeffs, Executor background) {
+        this.name = name;
+        this.source = source;
+        this.background = background;
+        this.startJd = startJd;
+        this.window = window;
+        this.nSegments = nSegments;
+        this.nCoeffs = nCoeffs;
+        this.segmentSize = 8 + 3 * nCoeffs * 8;
+        this.states = new AtomicIntegerArray(nSegments);
+
+        ByteBuffer b = null;
+        if (file != null) {
+            try {
+                b = map(file);
+            } catch (IOException e) {
+                logger.error(e, "Ephemeris file can't be mapped, keeping " + name + " in memory: " + file.getAbsolutePath());
+            }
+        }
+        if (b == null) {
+            b = ByteBuffer.allocate(HEADER_SIZE + nSegments * segmentSize);
+            writeHeader(b);
+        }
+        this.buf = b;
+    }
+
+    private ByteBuffer map(File file) throws IOException {
+        long size = HEADER_SIZE + (long) nSegments * segmentSize;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            boolean reuse = raf.length() == size && raf.readLong() == MAGIC && raf.readInt() == VERSION && raf.readInt() == nCoeffs && raf.readInt() == nSegments && raf.readDouble() == window && raf.readDouble() == startJd;
+            if (!reuse) {
+                // Start over, the file is sparse where the segments are not fitted
+                raf.setLength(0);
+                raf.setLength(size);
+            }
+            MappedByteBuffer b = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+            if (reuse) {
+                int fitted = 0;
+                for (int i = 0; i < nSegments; i++) {
+                    if (b.getLong(offset(i)) == FITTED) {
+                        states.set(i, READY);
+                        fitted++;
+                    }
+                }
+                logger.info("Ephemeris " + name + ": " + fitted + " of " + nSegments + " segments fitted in " + file.getName());
+            } else {
+                writeHeader(b);
+            }
+            return b;
+        }
+    }
+
+    private void writeHeader(ByteBuffer b) {
+        b.putLong(0, MAGIC);
+        b.putInt(8, VERSION);
+        b.putInt(12, nCoeffs);
+        b.putInt(16, nSegments);
+        b.putDouble(20, window);
+        b.putDouble(28, startJd);
+    }
+
+    private int offset(int segment) {
+        return HEADER_SIZE + segment * segmentSize;
+    }
+
+    /**
+     * @return The name of the ephemeris
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Computes the position of the body at the given date from the Chebyshev
+     * segments. The segment is fitted in this thread if needed, and the
+     * neighbour segments are fitted in the background.
+     *
+     * @param julianDate The Julian date
+     * @param out        The ecliptic cartesian position in km is put here
+     * @return False if the date is out of the span of the ephemeris or the
+     * segment is not available, in which case the analytic theory must be used
+     */
+    public boolean position(double julianDate, Vector3d out) {
+        double s = (julianDate - startJd) / window;
+        if (!(s >= 0 && s < nSegments))
+            return false;
+        int i = (int) s;
+        if (states.get(i) != READY && !fit(i))
+            return false;
+        // Fit the neighbours before they are needed
+        prefetch(i + 1);
+        prefetch(i - 1);
+
+        double x = 2 * (s - i) - 1;
+        int off = offset(i) + 8;
+        out.set(Chebyshev.evaluate(buf, off, nCoeffs, x), Chebyshev.evaluate(buf, off + nCoeffs * 8, nCoeffs, x), Chebyshev.evaluate(buf, off + nCoeffs * 16, nCoeffs, x));
+        return true;
+    }
+
+    /**
+     * Fits the segments which cover the given dates in the background
+     *
+     * @param fromJd The first Julian date
+     * @param toJd   The last Julian date
+     */
+    public void precompute(double fromJd, double toJd) {
+        int from = (int) Math.max(0, Math.floor((fromJd - startJd) / window));
+        int to = (int) Math.min(nSegments - 1, Math.floor((toJd - startJd) / window));
+        for (int i = from; i <= to; i++)
+            prefetch(i);
+    }
+
+    private void prefetch(final int i) {
+        if (i >= 0 && i < nSegments && states.get(i) == EMPTY && states.compareAndSet(i, EMPTY, QUEUED)) {
+            try {
+                background.execute(() -> fit(i));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                states.compareAndSet(i, QUEUED, EMPTY);
+            }
+        }
+    }
+
+    /**
+     * Fits the segment to the analytic theory, unless another thread is
+     * fitting it already
+     *
+     * @return Whether the segment is ready
+     */
+    private boolean fit(int i) {
+        if (!states.compareAndSet(i, EMPTY, PENDING) && !states.compareAndSet(i, QUEUED, PENDING))
+            return states.get(i) == READY;
+        try {
+            double[] values = new double[3 * nCoeffs];
+            double[] coeffs = new double[nCoeffs];
+            Vector3d p = new Vector3d();
+            double jd0 = startJd + i * window;
+            for (int k = 0; k < nCoeffs; k++) {
+                double jd = jd0 + (Chebyshev.node(k, nCoeffs) + 1) * 0.5 * window;
+                if (!source.position(jd, p)) {
+                    states.set(i, FAILED);
+                    return false;
+                }
+                values[k] = p.x;
+                values[nCoeffs + k] = p.y;
+                values[2 * nCoeffs + k] = p.z;
+            }
+            int off = offset(i) + 8;
+            for (int c = 0; c < 3; c++) {
+                Chebyshev.fit(values, c * nCoeffs, nCoeffs, coeffs);
+                for (int j = 0; j < nCoeffs; j++)
+                    buf.putDouble(off + (c * nCoeffs + j) * 8, coeffs[j]);
+            }
+            // The flag goes last, so that a segment is never read half written
+            buf.putLong(offset(i), FITTED);
+            states.set(i, READY);
+            return true;
+        } catch (Exception e) {
+            logger.error(e, "Error fitting ephemeris " + name + ", segment " + i);
+            states.set(i, FAILED);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the fitted segments to the file
+     */
+    public void flush() {
+        if (buf instanceof MappedByteBuffer)
+            ((MappedByteBuffer) buf).force();
+    }
+}
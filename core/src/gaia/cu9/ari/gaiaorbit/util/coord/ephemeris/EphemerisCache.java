@@ -0,0 +1,108 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.coord.ephemeris;
+
+import gaia.cu9.ari.gaiaorbit.util.Logger;
+import gaia.cu9.ari.gaiaorbit.util.Logger.Log;
+import gaia.cu9.ari.gaiaorbit.util.coord.AstroUtils;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the Chebyshev ephemerides of the bodies whose positions come from
+ * analytic theories, see {@link Ephemeris}. The ephemerides span
+ * {@link #SPAN_YEARS} years around J2000 and are stored in a directory, one
+ * file per body and theory, so that they are reused across runs. Segments are
+ * fitted in a single background thread when they are about to be needed.
+ *
+ * @author tsagrista
+ */
+public class EphemerisCache {
+    private static final Log logger = Logger.getLogger(EphemerisCache.class);
+
+    /** Years covered by the ephemerides on each side of J2000 **/
+    public static final int SPAN_YEARS = 300;
+    /** Number of Chebyshev coefficients per coordinate and segment **/
+    public static final int N_COEFFS = 16;
+
+    public static EphemerisCache instance;
+
+    /**
+     * Initializes the cache
+     *
+     * @param dir The directory of the ephemeris files, or null to keep the
+     *            ephemerides in memory
+     */
+    public static void initialize(File dir) {
+        if (instance == null)
+            instance = new EphemerisCache(dir);
+    }
+
+    /**
+     * Writes the ephemerides to disk and stops the background thread
+     */
+    public static void dispose() {
+        if (instance != null) {
+            instance.background.shutdownNow();
+            instance.flush();
+            instance = null;
+        }
+    }
+
+    private final File dir;
+    private final Map<String, Ephemeris> ephemerides;
+    private final ExecutorService background;
+
+    private EphemerisCache(File dir) {
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            logger.error("Ephemeris cache directory can't be created, keeping ephemerides in memory: " + dir.getAbsolutePath());
+            dir = null;
+        }
+        this.dir = dir;
+        this.ephemerides = new HashMap<>();
+        final AtomicInteger sequence = new AtomicInteger(0);
+        this.background = Executors.newSingleThreadExecutor((Runnable r) -> {
+            Thread t = new Thread(r, "ephemeris-" + sequence.getAndIncrement());
+            t.setDaemon(true);
+            t.setPriority(Thread.MIN_PRIORITY);
+            return t;
+        });
+    }
+
+    /**
+     * Gets the ephemeris with the given name, creating it if needed
+     *
+     * @param name   The name of the ephemeris, which identifies the body and the
+     *               theory. It is also the name of the file.
+     * @param window The length of the segments in days
+     * @param source The analytic theory
+     * @return The ephemeris
+     */
+    public synchronized Ephemeris get(String name, double window, IEphemerisSource source) {
+        Ephemeris ephemeris = ephemerides.get(name);
+        if (ephemeris == null) {
+            double span = SPAN_YEARS * 365.25;
+            int nSegments = (int) Math.ceil(2 * span / window);
+            File file = dir != null ? new File(dir, name + ".eph") : null;
+            ephemeris = new Ephemeris(name, source, file, AstroUtils.JD_J2000 - span, window, nSegments, N_COEFFS, background);
+            ephemerides.put(name, ephemeris);
+        }
+        return ephemeris;
+    }
+
+    /**
+     * Writes the fitted segments of all the ephemerides to disk
+     */
+    public synchronized void flush() {
+        for (Ephemeris ephemeris : ephemerides.values())
+            ephemeris.flush();
+    }
+}
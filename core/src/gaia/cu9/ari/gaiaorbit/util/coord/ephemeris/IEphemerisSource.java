@@ -0,0 +1,27 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.coord.ephemeris;
+
+import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
+
+/**
+ * Analytic theory of the position of a body, which the {@link Ephemeris}
+ * approximates. Implementations are called from the background threads of
+ * the {@link EphemerisCache}, so they must be thread safe.
+ *
+ * @author tsagrista
+ */
+public interface IEphemerisSource {
+
+    /**
+     * Computes the position of the body at the given date
+     *
+     * @param julianDate The Julian date
+     * @param out        The ecliptic cartesian position in km is put here
+     * @return False if the theory is not valid at the date
+     */
+    boolean position(double julianDate, Vector3d out);
+}
@@ -5,56 +5,171 @@
 
 package gaia.cu9.ari.gaiaorbit.util.coord.vsop87;
 
+import gaia.cu9.ari.gaiaorbit.event.EventManager;
+import gaia.cu9.ari.gaiaorbit.event.Events;
+import gaia.cu9.ari.gaiaorbit.event.IObserver;
 import gaia.cu9.ari.gaiaorbit.util.Constants;
+import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
 import gaia.cu9.ari.gaiaorbit.util.Nature;
 import gaia.cu9.ari.gaiaorbit.util.coord.AbstractOrbitCoordinates;
 import gaia.cu9.ari.gaiaorbit.util.coord.AstroUtils;
 import gaia.cu9.ari.gaiaorbit.util.coord.Coordinates;
+import gaia.cu9.ari.gaiaorbit.util.coord.ephemeris.IEphemerisSource;
 import gaia.cu9.ari.gaiaorbit.util.math.Vector3d;
 
 import java.time.Instant;
 
-public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements iVSOP87 {
+/**
+ * Evaluates the VSOP87 series of a body from coefficient tables. There are six
+ * series (orders 0 to 5) for each of L, B and R. In low accuracy mode each
+ * series is truncated to the terms whose amplitude is at least the low
+ * accuracy amplitude of the series, in high accuracy mode all terms are used.
+ * The bodies of the scene graph follow the high accuracy positions setting.
+ */
+public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements iVSOP87, IObserver {
+    /** Number of series per coordinate **/
+    private static final int ORDERS = 6;
+
+    /** The series L0..L5, B0..B5 and R0..R5 **/
+    private final VSOP87Series[] series;
+    /** Number of terms of each series in low and high accuracy modes **/
+    private final int[] lowCount, highCount;
 
     protected boolean highAccuracy;
 
+    /**
+     * @param series               The series L0..L5, B0..B5 and R0..R5
+     * @param lowAccuracyAmplitude The minimum amplitude of the terms used in low accuracy mode, per series
+     * @param ephemerisWindow      The default length in days of the segments of the cached ephemeris
+     */
+    protected AbstractVSOP87(VSOP87Series[] series, double[] lowAccuracyAmplitude, double ephemerisWindow) {
+        if (series.length != ORDERS * 3 || lowAccuracyAmplitude.length != ORDERS * 3)
+            throw new IllegalArgumentException("VSOP87 needs " + (ORDERS * 3) + " series");
+        this.series = series;
+        this.lowCount = new int[series.length];
+        this.highCount = new int[series.length];
+        for (int i = 0; i < series.length; i++) {
+            lowCount[i] = series[i].count(lowAccuracyAmplitude[i]);
+            highCount[i] = series[i].size();
+        }
+        this.ephemerisWindow = ephemerisWindow;
+    }
+
     @Override
     public void doneLoading(Object... params) {
         super.doneLoading(params);
+        if (GlobalConf.data != null)
+            setHighAccuracy(GlobalConf.data.HIGH_ACCURACY_POSITIONS);
+        EventManager.instance.subscribe(this, Events.HIGH_ACCURACY_CMD);
+    }
+
+    @Override
+    public void notify(Events event, Object... data) {
+        switch (event) {
+        case HIGH_ACCURACY_CMD:
+            setHighAccuracy((Boolean) data[0]);
+            break;
+        default:
+            break;
+        }
     }
 
     @Override
     public Vector3d getEclipticSphericalCoordinates(Instant date, Vector3d out) {
         if (!Constants.withinVSOPTime(date.toEpochMilli()))
             return null;
+        if (getCachedEclipticCartesianCoordinates(date, out))
+            return cartesianToSpherical(out);
+        return getAnalyticEclipticSphericalCoordinates(date, out);
+    }
 
+    private Vector3d getAnalyticEclipticSphericalCoordinates(Instant date, Vector3d out) {
         double tau = AstroUtils.tau(AstroUtils.getJulianDateCache(date));
+        int[] count = highAccuracy ? highCount : lowCount;
 
-        double L = (L0(tau) + L1(tau) + L2(tau) + L3(tau) + L4(tau) + L5(tau));
-        double B = (B0(tau) + B1(tau) + B2(tau) + B3(tau) + B4(tau) + B5(tau));
-        double R = (R0(tau) + R1(tau) + R2(tau) + R3(tau) + R4(tau) + R5(tau));
+        double L = sum(0, tau, count);
+        double B = sum(ORDERS, tau, count);
+        double R = sum(ORDERS * 2, tau, count);
         R = R * Nature.AU_TO_KM;
 
         out.set(L, B, R * Constants.KM_TO_U);
         return out;
     }
 
+    /**
+     * Computes the heliocentric ecliptic spherical coordinates at many epochs
+     * at once, which is faster than computing them one by one.
+     *
+     * @param tau          The epochs in Julian millennia since J2000, see {@link AstroUtils#tau(double)}
+     * @param n            The number of epochs
+     * @param highAccuracy Whether to use all the terms or skip the small ones
+     * @param l            The longitudes in radians are set here
+     * @param b            The latitudes in radians are set here
+     * @param r            The distances in internal units are set here
+     */
+    public void getEclipticSphericalCoordinates(double[] tau, int n, boolean highAccuracy, double[] l, double[] b, double[] r) {
+        int[] count = highAccuracy ? highCount : lowCount;
+        double[] scratch = new double[n];
+        for (int j = 0; j < n; j++) {
+            l[j] = 0;
+            b[j] = 0;
+            r[j] = 0;
+        }
+        for (int k = 0; k < ORDERS; k++) {
+            series[k].add(tau, n, count[k], l, scratch);
+            series[ORDERS + k].add(tau, n, count[ORDERS + k], b, scratch);
+            series[ORDERS * 2 + k].add(tau, n, count[ORDERS * 2 + k], r, scratch);
+        }
+        double auToU = Nature.AU_TO_KM * Constants.KM_TO_U;
+        for (int j = 0; j < n; j++)
+            r[j] *= auToU;
+    }
+
+    /**
+     * Sums the series of a coordinate with Horner's scheme
+     */
+    private double sum(int first, double t, int[] count) {
+        double s = 0;
+        for (int k = ORDERS - 1; k >= 0; k--)
+            s = s * t + series[first + k].sum(t, count[first + k]);
+        return s;
+    }
+
+    private double value(int i, double t) {
+        return series[i].value(t, highAccuracy ? highCount[i] : lowCount[i]);
+    }
+
+    @Override
+    protected boolean isHighAccuracy() {
+        return highAccuracy;
+    }
+
+    @Override
+    protected IEphemerisSource getEphemerisSource(boolean highAccuracy) {
+        final int[] count = highAccuracy ? highCount : lowCount;
+        return (double julianDate, Vector3d out) -> {
+            double tau = AstroUtils.tau(julianDate);
+            Coordinates.sphericalToCartesian(sum(0, tau, count), sum(ORDERS, tau, count), sum(ORDERS * 2, tau, count) * Nature.AU_TO_KM, out);
+            return true;
+        };
+    }
+
     @Override
     public Vector3d getEclipticCartesianCoordinates(Instant date, Vector3d out) {
-        Vector3d v = getEclipticSphericalCoordinates(date, out);
-        if (v == null)
+        if (!Constants.withinVSOPTime(date.toEpochMilli()))
             return null;
+        if (getCachedEclipticCartesianCoordinates(date, out))
+            return out;
+        getAnalyticEclipticSphericalCoordinates(date, out);
         Coordinates.sphericalToCartesian(out, out);
         return out;
-
     }
 
     @Override
     public Vector3d getEquatorialCartesianCoordinates(Instant date, Vector3d out) {
-        Vector3d v = getEclipticSphericalCoordinates(date, out);
+        Vector3d v = getEclipticCartesianCoordinates(date, out);
         if (v == null)
             return null;
-        Coordinates.sphericalToCartesian(out, out);
         out.mul(Coordinates.eclToEq());
         return out;
     }
@@ -64,4 +179,94 @@ public abstract class AbstractVSOP87 extends AbstractOrbitCoordinates implements
         this.highAccuracy = highAccuracy;
     }
 
+    @Override
+    public double L0(double t) {
+        return value(0, t);
+    }
+
+    @Override
+    public double L1(double t) {
+        return value(1, t);
+    }
+
+    @Override
+    public double L2(double t) {
+        return value(2, t);
+    }
+
+    @Override
+    public double L3(double t) {
+        return value(3, t);
+    }
+
+    @Override
+    public double L4(double t) {
+        return value(4, t);
+    }
+
+    @Override
+    public double L5(double t) {
+        return value(5, t);
+    }
+
+    @Override
+    public double B0(double t) {
+        return value(ORDERS, t);
+    }
+
+    @Override
+    public double B1(double t) {
+        return value(ORDERS + 1, t);
+    }
+
+    @Override
+    public double B2(double t) {
+        return value(ORDERS + 2, t);
+    }
+
+    @Override
+    public double B3(double t) {
+        return value(ORDERS + 3, t);
+    }
+
+    @Override
+    public double B4(double t) {
+        return value(ORDERS + 4, t);
+    }
+
+    @Override
+    public double B5(double t) {
+        return value(ORDERS + 5, t);
+    }
+
+    @Override
+    public double R0(double t) {
+        return value(ORDERS * 2, t);
+    }
+
+    @Override
+    public double R1(double t) {
+        return value(ORDERS * 2 + 1, t);
+    }
+
+    @Override
+    public double R2(double t) {
+        return value(ORDERS * 2 + 2, t);
+    }
+
+    @Override
+    public double R3(double t) {
+        return value(ORDERS * 2 + 3, t);
+    }
+
+    @Override
+    public double R4(double t) {
+        return value(ORDERS * 2 + 4, t);
+    }
+
+    @Override
+    public double R5(double t) {
+        return value(ORDERS * 2 + 5, t);
+    }
+
 }
@@ -7,94 +7,15 @@ package gaia.cu9.ari.gaiaorbit.util.coord.vsop87;
 
 public class DummyVSOP87 extends AbstractVSOP87 {
 
-    @Override
-    public double L0(double t) {
-        return 0;
+    public DummyVSOP87() {
+        super(empty(), new double[18], 0);
     }
 
-    @Override
-    public double L1(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L2(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L3(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L4(double t) {
-        return 0;
-    }
-
-    @Override
-    public double L5(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B0(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B1(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B2(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B3(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B4(double t) {
-        return 0;
-    }
-
-    @Override
-    public double B5(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R0(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R1(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R2(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R3(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R4(double t) {
-        return 0;
-    }
-
-    @Override
-    public double R5(double t) {
-        return 0;
+    private static VSOP87Series[] empty() {
+        VSOP87Series[] series = new VSOP87Series[18];
+        for (int i = 0; i < series.length; i++)
+            series[i] = new VSOP87Series(i % 6, new double[0]);
+        return series;
     }
 
 }
@@ -35,4944 +35,4947 @@ public class JupiterVSOP87 extends AbstractVSOP87 {
      * 
      */
 
-    public double L0(double t) // 860 terms of order 0
+    /**
+     * Minimum amplitude of the terms evaluated in low accuracy mode, per series
+     */
+    private static final double[] LOW_ACCURACY_AMPLITUDE = {
+            0.00000261541, 0.00000021789, 0.00000006615, 0.00000001935, 0.00000000971, 0.00000000819,
+            0.00000115038, 0.00000012020, 0.00000003252, 0.00000001107, 0.00000000818, 0.00000000662,
+            0.00000542222, 0.00000121876, 0.00000027531, 0.00000002519, 0.00000001689, 0.00000001534
+    };
+
+    /**
+     * Default length in days of the segments of the cached ephemeris
+     */
+    private static final double EPHEMERIS_WINDOW = 128;
+
+    private static final VSOP87Series[] SERIES = {
+            new VSOP87Series(0, l0()),
+            new VSOP87Series(1, l1()),
+            new VSOP87Series(2, l2()),
+            new VSOP87Series(3, l3()),
+            new VSOP87Series(4, l4()),
+            new VSOP87Series(5, l5()),
+            new VSOP87Series(0, b0()),
+            new VSOP87Series(1, b1()),
+            new VSOP87Series(2, b2()),
+            new VSOP87Series(3, b3()),
+            new VSOP87Series(4, b4()),
+            new VSOP87Series(5, b5()),
+            new VSOP87Series(0, r0()),
+            new VSOP87Series(1, r1()),
+            new VSOP87Series(2, r2()),
+            new VSOP87Series(3, r3()),
+            new VSOP87Series(4, r4()),
+            new VSOP87Series(5, r5())
+    };
+
+    public JupiterVSOP87() {
+        super(SERIES, LOW_ACCURACY_AMPLITUDE, EPHEMERIS_WINDOW);
+    }
+
+    private static double[] l0() // 2031 terms of order 0
     {
-        double L0 = 0;
-        L0 += 0.59954691494;
-        L0 += 0.09695898719 * Math.cos(5.06191793158 + 529.6909650946 * t);
-        L0 += 0.00573610142 * Math.cos(1.44406205629 + 7.1135470008 * t);
-        L0 += 0.00306389205 * Math.cos(5.41734730184 + 1059.3819301892 * t);
-        L0 += 0.00097178296 * Math.cos(4.14264726552 + 632.7837393132 * t);
-        L0 += 0.00072903078 * Math.cos(3.64042916389 + 522.5774180938 * t);
-        L0 += 0.00064263975 * Math.cos(3.41145165351 + 103.0927742186 * t);
-        L0 += 0.00039806064 * Math.cos(2.29376740788 + 419.4846438752 * t);
-        L0 += 0.00038857767 * Math.cos(1.27231755835 + 316.3918696566 * t);
-        L0 += 0.00027964629 * Math.cos(1.78454591820 + 536.8045120954 * t);
-        L0 += 0.00013589730 * Math.cos(5.77481040790 + 1589.0728952838 * t);
-        L0 += 0.00008246349 * Math.cos(3.58227925840 + 206.1855484372 * t);
-        L0 += 0.00008768704 * Math.cos(3.63000308199 + 949.1756089698 * t);
-        L0 += 0.00007368042 * Math.cos(5.08101194270 + 735.8765135318 * t);
-        L0 += 0.00006263150 * Math.cos(0.02497628807 + 213.299095438 * t);
-        L0 += 0.00006114062 * Math.cos(4.51319998626 + 1162.4747044078 * t);
-        L0 += 0.00004905396 * Math.cos(1.32084470588 + 110.2063212194 * t);
-        L0 += 0.00005305285 * Math.cos(1.30671216791 + 14.2270940016 * t);
-        L0 += 0.00005305441 * Math.cos(4.18625634012 + 1052.2683831884 * t);
-        L0 += 0.00004647248 * Math.cos(4.69958103684 + 3.9321532631 * t);
-        L0 += 0.00003045023 * Math.cos(4.31676431084 + 426.598190876 * t);
-        L0 += 0.00002609999 * Math.cos(1.56667394063 + 846.0828347512 * t);
-        L0 += 0.00002028191 * Math.cos(1.06376530715 + 3.1813937377 * t);
-        L0 += 0.00001764763 * Math.cos(2.14148655117 + 1066.49547719 * t);
-        L0 += 0.00001722972 * Math.cos(3.88036268267 + 1265.5674786264 * t);
-        L0 += 0.00001920945 * Math.cos(0.97168196472 + 639.897286314 * t);
-        L0 += 0.00001633223 * Math.cos(3.58201833555 + 515.463871093 * t);
-        L0 += 0.00001431999 * Math.cos(4.29685556046 + 625.6701923124 * t);
-        L0 += 0.00000973272 * Math.cos(4.09764549134 + 95.9792272178 * t);
-        L0 += 0.00000884457 * Math.cos(2.43700227469 + 412.3710968744 * t);
-        L0 += 0.00000732853 * Math.cos(6.08535124451 + 838.9692877504 * t);
-        L0 += 0.00000731094 * Math.cos(3.80592308125 + 1581.959348283 * t);
-        L0 += 0.00000691971 * Math.cos(6.13365277914 + 2118.7638603784 * t);
-        L0 += 0.00000709166 * Math.cos(1.29274760330 + 742.9900605326 * t);
-        L0 += 0.00000614482 * Math.cos(4.10850580886 + 1478.8665740644 * t);
-        L0 += 0.00000495219 * Math.cos(3.75564106217 + 323.5054166574 * t);
-        L0 += 0.00000581903 * Math.cos(4.53969579398 + 309.2783226558 * t);
-        L0 += 0.00000375664 * Math.cos(4.70304250208 + 1368.660252845 * t);
-        L0 += 0.00000389876 * Math.cos(4.89706786539 + 1692.1656695024 * t);
-        L0 += 0.00000341016 * Math.cos(5.71452379310 + 533.6231183577 * t);
-        L0 += 0.00000330458 * Math.cos(4.74049819491 + 0.0481841098 * t);
-        L0 += 0.00000440853 * Math.cos(2.95818598959 + 454.9093665273 * t);
-        L0 += 0.00000417267 * Math.cos(1.03554397138 + 2.4476805548 * t);
-        L0 += 0.00000244174 * Math.cos(5.22024286247 + 728.762966531 * t);
-        L0 += 0.00000261541 * Math.cos(1.87652515753 + 0.9632078465 * t);
-        L0 += 0.00000256589 * Math.cos(3.72410394286 + 199.0720014364 * t);
-        if (highAccuracy) {
-            L0 += 0.00000261005 * Math.cos(0.82048379203 + 380.12776796 * t);
-            L0 += 0.00000220381 * Math.cos(1.65114584814 + 543.9180590962 * t);
-            L0 += 0.00000201991 * Math.cos(1.80692992449 + 1375.7737998458 * t);
-            L0 += 0.00000207336 * Math.cos(1.85463683689 + 525.7588118315 * t);
-            L0 += 0.00000197061 * Math.cos(5.29255821015 + 1155.361157407 * t);
-            L0 += 0.00000235139 * Math.cos(1.22694468346 + 909.8187330546 * t);
-            L0 += 0.00000174827 * Math.cos(5.90974976879 + 956.2891559706 * t);
-            L0 += 0.00000149385 * Math.cos(4.37744775359 + 1685.0521225016 * t);
-            L0 += 0.00000175197 * Math.cos(3.22647697998 + 1898.3512179396 * t);
-            L0 += 0.00000175172 * Math.cos(3.72977441220 + 942.062061969 * t);
-            L0 += 0.00000157917 * Math.cos(4.36478445901 + 1795.258443721 * t);
-            L0 += 0.00000137898 * Math.cos(1.31800455202 + 1169.5882514086 * t);
-            L0 += 0.00000117498 * Math.cos(2.50021486074 + 1596.1864422846 * t);
-            L0 += 0.00000150504 * Math.cos(3.90624455135 + 74.7815985673 * t);
-            L0 += 0.00000116786 * Math.cos(3.38920921060 + 0.5212648618 * t);
-            L0 += 0.00000105894 * Math.cos(4.55439354032 + 526.5095713569 * t);
-            L0 += 0.00000130540 * Math.cos(4.16876671917 + 1045.1548361876 * t);
-            L0 += 0.00000141388 * Math.cos(3.13579930728 + 491.5579294568 * t);
-            L0 += 0.00000099524 * Math.cos(1.42112622270 + 532.8723588323 * t);
-            L0 += 0.00000096143 * Math.cos(1.18143253105 + 117.3198682202 * t);
-            L0 += 0.00000091732 * Math.cos(0.85722451006 + 1272.6810256272 * t);
-            L0 += 0.00000087704 * Math.cos(1.21730504350 + 453.424893819 * t);
-            L0 += 0.00000068531 * Math.cos(2.35201905890 + 2.9207613068 * t);
-            L0 += 0.00000066111 * Math.cos(5.34380967040 + 1471.7530270636 * t);
-            L0 += 0.00000077401 * Math.cos(4.42676354183 + 39.3568759152 * t);
-            L0 += 0.00000072028 * Math.cos(4.23856425835 + 2111.6503133776 * t);
-            L0 += 0.00000063345 * Math.cos(4.97658360088 + 0.7507595254 * t);
-            L0 += 0.00000059423 * Math.cos(4.11122034593 + 2001.4439921582 * t);
-            L0 += 0.00000062471 * Math.cos(0.51213142347 + 220.4126424388 * t);
-            L0 += 0.00000066540 * Math.cos(2.98844410276 + 2214.7430875962 * t);
-            L0 += 0.00000060295 * Math.cos(4.12633619420 + 4.192785694 * t);
-            L0 += 0.00000056014 * Math.cos(1.15477785231 + 21.3406410024 * t);
-            L0 += 0.00000052954 * Math.cos(0.91283039851 + 10.2949407385 * t);
-            L0 += 0.00000070461 * Math.cos(5.14178006023 + 835.0371344873 * t);
-            L0 += 0.00000051903 * Math.cos(4.10065404719 + 1258.4539316256 * t);
-            L0 += 0.00000046583 * Math.cos(4.66599487054 + 5.6290742925 * t);
-            L0 += 0.00000058261 * Math.cos(5.86719898935 + 5753.3848848968 * t);
-            L0 += 0.00000040103 * Math.cos(4.68801114087 + 0.1600586944 * t);
-            L0 += 0.00000046785 * Math.cos(4.79414027278 + 305.3461693927 * t);
-            L0 += 0.00000039306 * Math.cos(4.25499338010 + 853.196381752 * t);
-            L0 += 0.00000046153 * Math.cos(5.10982849847 + 4.665866446 * t);
-            L0 += 0.00000054583 * Math.cos(1.57071663540 + 983.1158589136 * t);
-            L0 += 0.00000038921 * Math.cos(6.07598407822 + 518.6452648307 * t);
-            L0 += 0.00000038460 * Math.cos(2.43832240008 + 433.7117378768 * t);
-            L0 += 0.00000046910 * Math.cos(3.54638837922 + 5.4166259714 * t);
-            L0 += 0.00000041834 * Math.cos(4.67980756775 + 302.164775655 * t);
-            L0 += 0.00000035921 * Math.cos(2.45088327353 + 430.5303441391 * t);
-            L0 += 0.00000039307 * Math.cos(1.71678059616 + 11.0457002639 * t);
-            L0 += 0.00000037895 * Math.cos(0.21140086073 + 2648.454825473 * t);
-            L0 += 0.00000037566 * Math.cos(6.19479786035 + 831.8557407496 * t);
-            L0 += 0.00000035845 * Math.cos(4.61505536309 + 2008.557539159 * t);
-            L0 += 0.00000043402 * Math.cos(0.14992219581 + 528.2064923863 * t);
-            L0 += 0.00000031581 * Math.cos(5.14178165108 + 1788.1448967202 * t);
-            L0 += 0.00000029860 * Math.cos(5.34424466576 + 2221.856634597 * t);
-            L0 += 0.00000032959 * Math.cos(5.28952640380 + 88.865680217 * t);
-            L0 += 0.00000027686 * Math.cos(1.85227036207 + 0.2124483211 * t);
-            L0 += 0.00000025821 * Math.cos(3.85920335036 + 2317.8358618148 * t);
-            L0 += 0.00000024705 * Math.cos(2.63498818000 + 114.1384744825 * t);
-            L0 += 0.00000033844 * Math.cos(1.00563073311 + 9683.5945811164 * t);
-            L0 += 0.00000024248 * Math.cos(3.82564321484 + 1574.8458012822 * t);
-            L0 += 0.00000027111 * Math.cos(2.80845416546 + 18.1592472647 * t);
-            L0 += 0.00000026837 * Math.cos(1.77586073782 + 532.1386456494 * t);
-            L0 += 0.00000026212 * Math.cos(2.74456887801 + 2531.1349572528 * t);
-            L0 += 0.00000030765 * Math.cos(0.42330199069 + 1.4844727083 * t);
-            L0 += 0.00000030469 * Math.cos(3.66675723074 + 508.3503240922 * t);
-            L0 += 0.00000023191 * Math.cos(3.24511984498 + 984.6003316219 * t);
-            L0 += 0.00000019445 * Math.cos(0.52370214464 + 14.977853527 * t);
-            L0 += 0.00000019331 * Math.cos(4.85656303715 + 1361.5467058442 * t);
-            L0 += 0.00000022889 * Math.cos(3.85009333532 + 2428.0421830342 * t);
-            L0 += 0.00000021613 * Math.cos(6.01647014213 + 1063.3140834523 * t);
-            L0 += 0.00000020167 * Math.cos(5.59590496803 + 527.2432845398 * t);
-            L0 += 0.00000023732 * Math.cos(2.52764898478 + 494.2662424425 * t);
-            L0 += 0.00000020190 * Math.cos(1.01559114881 + 628.8515860501 * t);
-            L0 += 0.00000015994 * Math.cos(5.09003506053 + 529.7391492044 * t);
-            L0 += 0.00000016134 * Math.cos(5.27096450385 + 142.4496501338 * t);
-            L0 += 0.00000020697 * Math.cos(4.03443555572 + 355.7487455718 * t);
-            L0 += 0.00000021480 * Math.cos(1.28666873894 + 35.4247226521 * t);
-            L0 += 0.00000014981 * Math.cos(4.86119818170 + 2104.5367663768 * t);
-            L0 += 0.00000017242 * Math.cos(1.59187221366 + 1439.5096981492 * t);
-            L0 += 0.00000015994 * Math.cos(1.89222393849 + 529.6427809848 * t);
-            L0 += 0.00000017957 * Math.cos(4.30177741048 + 6.1503391543 * t);
-            L0 += 0.00000013287 * Math.cos(2.18960688770 + 1055.4497769261 * t);
-            L0 += 0.00000014809 * Math.cos(0.87727524457 + 99.1606209555 * t);
-            L0 += 0.00000014148 * Math.cos(2.71597731671 + 0.2606324309 * t);
-            L0 += 0.00000014202 * Math.cos(2.41335744746 + 530.6541729411 * t);
-            L0 += 0.00000015331 * Math.cos(6.07685758999 + 149.5631971346 * t);
-            L0 += 0.00000015832 * Math.cos(4.11682340572 + 636.7158925763 * t);
-            L0 += 0.00000016199 * Math.cos(2.77035135003 + 760.25553592 * t);
-            L0 += 0.00000012258 * Math.cos(2.61067822838 + 405.2575498736 * t);
-            L0 += 0.00000013665 * Math.cos(3.56042954023 + 217.2312487011 * t);
-            L0 += 0.00000015261 * Math.cos(2.81823022031 + 621.7380390493 * t);
-            L0 += 0.00000014680 * Math.cos(6.26419083616 + 569.0478410098 * t);
-            L0 += 0.00000012529 * Math.cos(1.39076773846 + 7.065362891 * t);
-            L0 += 0.00000011603 * Math.cos(4.60461324892 + 7.1617311106 * t);
-            L0 += 0.00000011676 * Math.cos(3.60450719576 + 2634.2277314714 * t);
-            L0 += 0.00000012182 * Math.cos(0.24373178668 + 1485.9801210652 * t);
-            L0 += 0.00000011352 * Math.cos(2.00814398370 + 1073.6090241908 * t);
-            L0 += 0.00000011241 * Math.cos(2.48010676188 + 423.4167971383 * t);
-            L0 += 0.00000010942 * Math.cos(5.03605236981 + 458.8415197904 * t);
-            L0 += 0.00000011121 * Math.cos(4.04930841517 + 519.3960243561 * t);
-            L0 += 0.00000012266 * Math.cos(4.30151937187 + 604.4725636619 * t);
-            L0 += 0.00000013150 * Math.cos(2.72184449861 + 1364.7280995819 * t);
-            L0 += 0.00000010604 * Math.cos(3.11518747071 + 1.2720243872 * t);
-            L0 += 0.00000009873 * Math.cos(1.70233190646 + 1699.2792165032 * t);
-            L0 += 0.00000010828 * Math.cos(5.08717082517 + 2324.9494088156 * t);
-            L0 += 0.00000010692 * Math.cos(2.51399278354 + 2847.5268269094 * t);
-            L0 += 0.00000012646 * Math.cos(4.75590815200 + 528.7277572481 * t);
-            L0 += 0.00000010084 * Math.cos(4.05599680401 + 38.1330356378 * t);
-            L0 += 0.00000011536 * Math.cos(2.35035142816 + 643.8294395771 * t);
-            L0 += 0.00000010218 * Math.cos(3.65818193440 + 107.0249274817 * t);
-            L0 += 0.00000010234 * Math.cos(3.63741793836 + 2744.4340526908 * t);
-            L0 += 0.00000010105 * Math.cos(1.31344662885 + 1905.4647649404 * t);
-            L0 += 0.00000009338 * Math.cos(5.92214604272 + 1148.2476104062 * t);
-            L0 += 0.00000008796 * Math.cos(2.77421597882 + 6.592282139 * t);
-            L0 += 0.00000008421 * Math.cos(4.52526352162 + 1677.9385755008 * t);
-            L0 += 0.00000010128 * Math.cos(2.09031029378 + 511.5317178299 * t);
-            L0 += 0.00000008280 * Math.cos(2.98793394775 + 540.7366653585 * t);
-            L0 += 0.00000009753 * Math.cos(1.22443091754 + 32.2433289144 * t);
-            L0 += 0.00000010629 * Math.cos(2.07778578633 + 92.0470739547 * t);
-            L0 += 0.00000007886 * Math.cos(0.99641706679 + 408.4389436113 * t);
-            L0 += 0.00000008813 * Math.cos(3.46912264870 + 1021.2488945514 * t);
-            L0 += 0.00000007941 * Math.cos(2.86765260965 + 2125.8774073792 * t);
-            L0 += 0.00000008575 * Math.cos(5.29585347114 + 415.5524906121 * t);
-            L0 += 0.00000007841 * Math.cos(6.08025868276 + 70.8494453042 * t);
-            L0 += 0.00000007706 * Math.cos(1.69807427167 + 8.0767548473 * t);
-            L0 += 0.00000007265 * Math.cos(4.65479123794 + 629.6023455755 * t);
-            L0 += 0.00000007163 * Math.cos(4.93237560809 + 1056.2005364515 * t);
-            L0 += 0.00000007248 * Math.cos(4.61590472787 + 2420.9286360334 * t);
-            L0 += 0.00000007712 * Math.cos(2.13818572880 + 33.9402499438 * t);
-            L0 += 0.00000006645 * Math.cos(0.45640663795 + 635.9651330509 * t);
-            L0 += 0.00000009377 * Math.cos(4.03158387581 + 2810.9214616052 * t);
-            L0 += 0.00000008221 * Math.cos(1.23649767817 + 1802.3719907218 * t);
-            L0 += 0.00000006340 * Math.cos(0.07280718454 + 202.2533951741 * t);
-            L0 += 0.00000006383 * Math.cos(3.54298789012 + 1891.2376709388 * t);
-            L0 += 0.00000007901 * Math.cos(2.32514375888 + 230.5645708254 * t);
-            L0 += 0.00000006214 * Math.cos(4.54560345236 + 2.7083129857 * t);
-            L0 += 0.00000007347 * Math.cos(1.24457591968 + 24.3790223882 * t);
-            L0 += 0.00000007472 * Math.cos(3.02787419533 + 330.6189636582 * t);
-            L0 += 0.00000006246 * Math.cos(1.77826735859 + 1062.5633239269 * t);
-            L0 += 0.00000005674 * Math.cos(5.14130380414 + 746.9222137957 * t);
-            L0 += 0.00000005855 * Math.cos(5.42127169330 + 28.3111756513 * t);
-            L0 += 0.00000005629 * Math.cos(3.24347319369 + 529.1697002328 * t);
-            L0 += 0.00000007653 * Math.cos(0.52812977555 + 672.1406152284 * t);
-            L0 += 0.00000005456 * Math.cos(3.34715399006 + 2950.619601128 * t);
-            L0 += 0.00000007127 * Math.cos(1.43485695449 + 6.2197751235 * t);
-            L0 += 0.00000005388 * Math.cos(4.90171438369 + 69.1525242748 * t);
-            L0 += 0.00000005608 * Math.cos(4.98112575538 + 2641.3412784722 * t);
-            L0 += 0.00000005843 * Math.cos(2.95362326688 + 490.3340891794 * t);
-            L0 += 0.00000004943 * Math.cos(5.37603229206 + 721.6494195302 * t);
-            L0 += 0.00000005120 * Math.cos(4.85758375369 + 31.019488637 * t);
-            L0 += 0.00000005163 * Math.cos(5.07430434384 + 67.6680515665 * t);
-            L0 += 0.00000004738 * Math.cos(6.10247687172 + 106.2741679563 * t);
-            L0 += 0.00000004879 * Math.cos(0.07093292758 + 78.7137518304 * t);
-            L0 += 0.00000004854 * Math.cos(5.63875710470 + 1.6969210294 * t);
-            L0 += 0.00000005629 * Math.cos(3.73870719507 + 530.2122299564 * t);
-            L0 += 0.00000004471 * Math.cos(4.49152590899 + 505.3119427064 * t);
-            L0 += 0.00000004313 * Math.cos(4.79367774897 + 535.107591066 * t);
-            L0 += 0.00000004280 * Math.cos(0.54783823710 + 1.4362885985 * t);
-            L0 += 0.00000004453 * Math.cos(0.50550043817 + 524.0618908021 * t);
-            L0 += 0.00000004936 * Math.cos(4.82992128024 + 422.6660376129 * t);
-            L0 += 0.00000004701 * Math.cos(3.41632316320 + 3060.8259223474 * t);
-            L0 += 0.00000004261 * Math.cos(2.67050830494 + 561.934294009 * t);
-            L0 += 0.00000004156 * Math.cos(4.00674305729 + 99.9113804809 * t);
-            L0 += 0.00000004561 * Math.cos(2.29662333497 + 3163.918696566 * t);
-            L0 += 0.00000004414 * Math.cos(5.67223937661 + 1464.6394800628 * t);
-            L0 += 0.00000005270 * Math.cos(3.89098773035 + 191.9584544356 * t);
-            L0 += 0.00000005344 * Math.cos(0.31505537960 + 1289.9465010146 * t);
-            L0 += 0.00000003856 * Math.cos(4.28927088609 + 1994.3304451574 * t);
-            L0 += 0.00000004227 * Math.cos(5.32680781419 + 2538.2485042536 * t);
-            L0 += 0.00000003968 * Math.cos(4.56799284427 + 1382.8873468466 * t);
-            L0 += 0.00000003874 * Math.cos(1.56573094048 + 647.0108333148 * t);
-            L0 += 0.00000004227 * Math.cos(5.51697565211 + 5223.6939198022 * t);
-            L0 += 0.00000004130 * Math.cos(2.81118299519 + 416.3032501375 * t);
-            L0 += 0.00000003662 * Math.cos(4.35201972236 + 2737.32050569 * t);
-            L0 += 0.00000003584 * Math.cos(5.48543989133 + 750.1036075334 * t);
-            L0 += 0.00000004329 * Math.cos(0.84948546685 + 531.1754378029 * t);
-            L0 += 0.00000004093 * Math.cos(0.19987691246 + 525.0250986486 * t);
-            L0 += 0.00000003400 * Math.cos(6.00302355875 + 1.2238402774 * t);
-            L0 += 0.00000003496 * Math.cos(0.31250621097 + 597.3590166611 * t);
-            L0 += 0.00000003957 * Math.cos(1.92811865595 + 1512.8068240082 * t);
-            L0 += 0.00000003299 * Math.cos(4.27641782638 + 526.7702037878 * t);
-            L0 += 0.00000003218 * Math.cos(2.90660065796 + 963.4027029714 * t);
-            L0 += 0.00000003150 * Math.cos(3.81062282472 + 280.9671470045 * t);
-            L0 += 0.00000004129 * Math.cos(4.74946631331 + 0.8937718773 * t);
-            L0 += 0.00000003840 * Math.cos(1.91064921809 + 378.6432952517 * t);
-            L0 += 0.00000003057 * Math.cos(1.65588839054 + 528.9402055692 * t);
-            L0 += 0.00000003011 * Math.cos(1.59274545702 + 224.3447957019 * t);
-            L0 += 0.00000003197 * Math.cos(5.86630896662 + 4.1446015842 * t);
-            L0 += 0.00000003628 * Math.cos(0.07910101827 + 558.0021407459 * t);
-            L0 += 0.00000002932 * Math.cos(0.41424504523 + 7.8643065262 * t);
-            L0 += 0.00000003316 * Math.cos(2.70210829186 + 532.6117264014 * t);
-            L0 += 0.00000002925 * Math.cos(4.47579366684 + 533.8837507886 * t);
-            L0 += 0.00000003688 * Math.cos(0.39899953746 + 685.4739373527 * t);
-            L0 += 0.00000003224 * Math.cos(2.45813595822 + 960.2213092337 * t);
-            L0 += 0.00000003059 * Math.cos(5.32615258179 + 530.44172462 * t);
-            L0 += 0.00000003383 * Math.cos(4.42166889790 + 312.4597163935 * t);
-            L0 += 0.00000003321 * Math.cos(2.71397444568 + 495.7507151508 * t);
-            L0 += 0.00000002698 * Math.cos(5.23121581439 + 739.8086667949 * t);
-            L0 += 0.00000003591 * Math.cos(2.30995707520 + 908.3342603463 * t);
-            L0 += 0.00000002619 * Math.cos(3.09144103989 + 3267.0114707846 * t);
-            L0 += 0.00000003567 * Math.cos(5.07207593227 + 73.297125859 * t);
-            L0 += 0.00000002797 * Math.cos(2.98948711408 + 483.2205421786 * t);
-            L0 += 0.00000003397 * Math.cos(3.29611266379 + 911.3032057629 * t);
-            L0 += 0.00000003352 * Math.cos(1.44371985824 + 593.426863398 * t);
-            L0 += 0.00000002563 * Math.cos(3.35095990562 + 2207.6295405954 * t);
-            L0 += 0.00000002553 * Math.cos(0.36858603419 + 1048.3362299253 * t);
-            L0 += 0.00000002621 * Math.cos(3.82783663712 + 520.129737539 * t);
-            L0 += 0.00000003356 * Math.cos(1.08298579333 + 46.470422916 * t);
-            L0 += 0.00000003397 * Math.cos(3.83080921477 + 210.1177017003 * t);
-            L0 += 0.00000003023 * Math.cos(5.52874613382 + 618.5566453116 * t);
-            L0 += 0.00000002498 * Math.cos(0.47888741754 + 945.2434557067 * t);
-            L0 += 0.00000002665 * Math.cos(0.49714213041 + 1057.8974574809 * t);
-            L0 += 0.00000002322 * Math.cos(5.87923753103 + 2751.5475996916 * t);
-            L0 += 0.00000002587 * Math.cos(0.03759881914 + 1.6445314027 * t);
-            L0 += 0.00000002901 * Math.cos(2.50012990691 + 525.4981794006 * t);
-            L0 += 0.00000003153 * Math.cos(2.30879679988 + 457.617679513 * t);
-            L0 += 0.00000002199 * Math.cos(3.94421228731 + 31.492569389 * t);
-            L0 += 0.00000002381 * Math.cos(6.19254995974 + 327.4375699205 * t);
-            L0 += 0.00000002458 * Math.cos(0.65614526486 + 9153.9036160218 * t);
-            L0 += 0.00000002111 * Math.cos(5.61905648764 + 16.4623262353 * t);
-            L0 += 0.00000002135 * Math.cos(3.75723920792 + 724.8308132679 * t);
-            L0 += 0.00000002406 * Math.cos(2.29315638318 + 195.1398481733 * t);
-            L0 += 0.00000002166 * Math.cos(5.43273753334 + 534.3568315406 * t);
-            L0 += 0.00000002073 * Math.cos(1.50113866877 + 551.031606097 * t);
-            L0 += 0.00000002678 * Math.cos(5.06400504512 + 456.3938392356 * t);
-            L0 += 0.00000002078 * Math.cos(5.28920605515 + 76.2660712756 * t);
-            L0 += 0.00000002260 * Math.cos(5.38117794868 + 1781.0313497194 * t);
-            L0 += 0.00000002356 * Math.cos(0.67397074780 + 227.5261894396 * t);
-            L0 += 0.00000002245 * Math.cos(3.18183437676 + 3377.217792004 * t);
-            L0 += 0.00000002184 * Math.cos(3.08383961547 + 524.2743391232 * t);
-            L0 += 0.00000002120 * Math.cos(2.70078368869 + 387.2413149608 * t);
-            L0 += 0.00000002116 * Math.cos(6.20284849642 + 209.3669421749 * t);
-            L0 += 0.00000002712 * Math.cos(3.18157742001 + 1474.6737883704 * t);
-            L0 += 0.00000002127 * Math.cos(1.24322560799 + 539.9859058331 * t);
-            L0 += 0.00000002034 * Math.cos(4.81691423751 + 2957.7331481288 * t);
-            L0 += 0.00000002424 * Math.cos(3.57564169482 + 953.1077622329 * t);
-            L0 += 0.00000001947 * Math.cos(1.94468082531 + 529.5309064002 * t);
-            L0 += 0.00000001896 * Math.cos(4.01429491115 + 2310.722314814 * t);
-            L0 += 0.00000001934 * Math.cos(4.10019561108 + 3053.7123753466 * t);
-            L0 += 0.00000002056 * Math.cos(6.27074172997 + 245.5424243524 * t);
-            L0 += 0.00000002108 * Math.cos(3.22886421713 + 252.6559713532 * t);
-            L0 += 0.00000002596 * Math.cos(2.77467288033 + 177.8743727859 * t);
-            L0 += 0.00000001919 * Math.cos(3.14810072956 + 381.6122406683 * t);
-            L0 += 0.00000002217 * Math.cos(1.92368906923 + 535.9107402181 * t);
-            L0 += 0.00000001947 * Math.cos(5.03751779986 + 529.851023789 * t);
-            L0 += 0.00000002025 * Math.cos(4.82814272957 + 17.2654753874 * t);
-            L0 += 0.00000001945 * Math.cos(2.10604975291 + 3480.3105662226 * t);
-            L0 += 0.00000001899 * Math.cos(0.05094358013 + 560.7104537316 * t);
-            L0 += 0.00000002204 * Math.cos(0.59883534036 + 3178.1457905676 * t);
-            L0 += 0.00000002271 * Math.cos(1.67327013848 + 731.9443602687 * t);
-            L0 += 0.00000001706 * Math.cos(5.40277333462 + 20.4468691251 * t);
-            L0 += 0.00000002292 * Math.cos(4.20486152808 + 1038.0412891868 * t);
-            L0 += 0.00000002218 * Math.cos(3.65953926062 + 282.4516197128 * t);
-            L0 += 0.00000002182 * Math.cos(4.87392902929 + 535.3200393871 * t);
-            L0 += 0.00000001745 * Math.cos(1.34021867874 + 25.1297819136 * t);
-            L0 += 0.00000001601 * Math.cos(3.92730015840 + 17.5261078183 * t);
-            L0 += 0.00000001832 * Math.cos(0.31684585935 + 124.433415221 * t);
-            L0 += 0.00000001651 * Math.cos(0.63598292839 + 17.4084877393 * t);
-            L0 += 0.00000002041 * Math.cos(0.15616571970 + 598.8434893694 * t);
-            L0 += 0.00000001494 * Math.cos(3.81397557923 + 319.5732633943 * t);
-            L0 += 0.00000001550 * Math.cos(5.25207305606 + 437.6438911399 * t);
-            L0 += 0.00000001852 * Math.cos(2.36130812462 + 37.8724032069 * t);
-            L0 += 0.00000001466 * Math.cos(1.72925259575 + 59.8037450403 * t);
-            L0 += 0.00000001443 * Math.cos(1.18211898345 + 440.8252848776 * t);
-            L0 += 0.00000001417 * Math.cos(5.82294202166 + 81.7521332162 * t);
-            L0 += 0.00000001404 * Math.cos(0.26052756597 + 50.4025761791 * t);
-            L0 += 0.00000001906 * Math.cos(4.06896916057 + 1819.6374661092 * t);
-            L0 += 0.00000001756 * Math.cos(2.32963193021 + 938.1299087059 * t);
-            L0 += 0.00000001487 * Math.cos(2.24866746540 + 10.0343083076 * t);
-            L0 += 0.00000001364 * Math.cos(3.56722222020 + 1514.2912967165 * t);
-            L0 += 0.00000001400 * Math.cos(4.84490735600 + 295.0512286542 * t);
-            L0 += 0.00000001344 * Math.cos(2.20177702106 + 529.9034134157 * t);
-            L0 += 0.00000001339 * Math.cos(1.16084562282 + 2435.155730035 * t);
-            L0 += 0.00000001767 * Math.cos(5.45221132569 + 2854.6403739102 * t);
-            L0 += 0.00000001678 * Math.cos(6.22853454017 + 833.552661779 * t);
-            L0 += 0.00000001471 * Math.cos(4.80574673735 + 696.5196376166 * t);
-            L0 += 0.00000001436 * Math.cos(1.45810543491 + 537.7677199419 * t);
-            L0 += 0.00000001657 * Math.cos(0.02916161564 + 138.5174968707 * t);
-            L0 += 0.00000001300 * Math.cos(3.14077552949 + 547.8502123593 * t);
-            L0 += 0.00000001343 * Math.cos(6.14827104783 + 988.532484885 * t);
-            L0 += 0.00000001244 * Math.cos(2.81685406295 + 3583.4033404412 * t);
-            L0 += 0.00000001344 * Math.cos(4.78042160411 + 529.4785167735 * t);
-            L0 += 0.00000001649 * Math.cos(2.12096966866 + 1061.829610744 * t);
-            L0 += 0.00000001343 * Math.cos(1.43417621076 + 1158.5425511447 * t);
-            L0 += 0.00000001476 * Math.cos(0.24757783675 + 1593.0050485469 * t);
-            L0 += 0.00000001413 * Math.cos(3.07444531604 + 6283.0758499914 * t);
-            L0 += 0.00000001245 * Math.cos(5.94918194719 + 1056.9342496344 * t);
-            L0 += 0.00000001389 * Math.cos(2.87752350116 + 1023.9572075371 * t);
-            L0 += 0.00000001263 * Math.cos(3.46181945031 + 40.8413486235 * t);
-            L0 += 0.00000001325 * Math.cos(4.15426187385 + 916.9322800554 * t);
-            L0 += 0.00000001193 * Math.cos(1.96467811927 + 1969.2006632438 * t);
-            L0 += 0.00000001166 * Math.cos(4.65530520965 + 944.9828232758 * t);
-            L0 += 0.00000001477 * Math.cos(5.26757779384 + 810.6581120991 * t);
-            L0 += 0.00000001137 * Math.cos(2.48561382158 + 2.0057375701 * t);
-            L0 += 0.00000001118 * Math.cos(3.80747957482 + 7.0016724162 * t);
-            L0 += 0.00000001138 * Math.cos(5.11611531676 + 885.4397106664 * t);
-            L0 += 0.00000001131 * Math.cos(1.54587053613 + 775.233389447 * t);
-            L0 += 0.00000001477 * Math.cos(4.69745636225 + 630.3360587584 * t);
-            L0 += 0.00000001252 * Math.cos(1.34285306257 + 739.0579072695 * t);
-            L0 += 0.00000001446 * Math.cos(5.54999644374 + 43.2890291783 * t);
-            L0 += 0.00000001273 * Math.cos(5.19038966009 + 2097.423219376 * t);
-            L0 += 0.00000001101 * Math.cos(4.56980597491 + 3274.1250177854 * t);
-            L0 += 0.00000001376 * Math.cos(3.61001303649 + 415.2918581812 * t);
-            L0 += 0.00000001437 * Math.cos(6.22449718728 + 155.7829722581 * t);
-            L0 += 0.00000001167 * Math.cos(4.09455518613 + 203.0041546995 * t);
-            L0 += 0.00000001237 * Math.cos(4.41132627005 + 292.0128472684 * t);
-            L0 += 0.00000001260 * Math.cos(3.05940711410 + 1894.4190646765 * t);
-            L0 += 0.00000001077 * Math.cos(2.57045229823 + 25.2727942655 * t);
-            L0 += 0.00000001230 * Math.cos(4.78806138085 + 1166.4068576709 * t);
-            L0 += 0.00000001020 * Math.cos(3.23608012616 + 2524.021410252 * t);
-            L0 += 0.00000001341 * Math.cos(0.49262294590 + 635.231419868 * t);
-            L0 += 0.00000001209 * Math.cos(3.36291805492 + 521.6142102473 * t);
-            L0 += 0.00000001030 * Math.cos(1.81822316076 + 465.9550667912 * t);
-            L0 += 0.00000001338 * Math.cos(1.26080837186 + 902.7051860538 * t);
-            L0 += 0.00000001037 * Math.cos(3.87887112181 + 3370.1042450032 * t);
-            L0 += 0.00000001224 * Math.cos(0.09270815220 + 824.7421937488 * t);
-            L0 += 0.00000000991 * Math.cos(4.16587901561 + 632.831923423 * t);
-            L0 += 0.00000001256 * Math.cos(3.04496727213 + 447.7958195265 * t);
-            L0 += 0.00000000976 * Math.cos(3.80163486221 + 2627.1141844706 * t);
-            L0 += 0.00000001049 * Math.cos(2.94996331904 + 3693.6096616606 * t);
-            L0 += 0.00000000984 * Math.cos(0.98260252064 + 632.7355552034 * t);
-            L0 += 0.00000001050 * Math.cos(2.20935815967 + 7.2254215854 * t);
-            L0 += 0.00000000992 * Math.cos(5.41914618009 + 1059.430114299 * t);
-            L0 += 0.00000000961 * Math.cos(0.87315283345 + 544.6688186216 * t);
-            L0 += 0.00000001044 * Math.cos(5.63190253364 + 732.6951197941 * t);
-            L0 += 0.00000001049 * Math.cos(5.81616384906 + 26.826702943 * t);
-            L0 += 0.00000001162 * Math.cos(0.01265418336 + 850.0149880143 * t);
-            L0 += 0.00000001110 * Math.cos(3.63236419104 + 306.830642101 * t);
-            L0 += 0.00000001077 * Math.cos(0.95773741232 + 608.404716925 * t);
-            L0 += 0.00000001285 * Math.cos(4.22955322265 + 1215.1649024473 * t);
-            L0 += 0.00000001060 * Math.cos(3.85856786258 + 631.8205314667 * t);
-            L0 += 0.00000001165 * Math.cos(3.50653563773 + 8.5980197091 * t);
-            L0 += 0.00000000932 * Math.cos(4.62514414355 + 1049.0869894507 * t);
-            L0 += 0.00000001243 * Math.cos(6.16316972773 + 462.0229135281 * t);
-            L0 += 0.00000001035 * Math.cos(1.30805281638 + 633.7469471597 * t);
-            L0 += 0.00000001238 * Math.cos(2.21195391602 + 25558.2121764796 * t);
-            L0 += 0.00000001240 * Math.cos(2.27960685992 + 6.9010986797 * t);
-            L0 += 0.00000236114 * Math.cos(5.75504515576 + 3333.498879699 * t);
-            L0 += 0.00000274035 * Math.cos(0.13372501211 + 3340.6797370026 * t);
-            L0 += 0.00000299396 * Math.cos(2.78323705697 + 6254.6266625236 * t);
-            L0 += 0.00000204161 * Math.cos(2.82133266185 + 1221.8485663214 * t);
-            L0 += 0.00000238857 * Math.cos(5.37155471672 + 4136.9104335162 * t);
-            L0 += 0.00000188639 * Math.cos(1.49103016486 + 9492.1463150048 * t);
-            L0 += 0.00000221225 * Math.cos(3.50466672203 + 382.8965322232 * t);
-            L0 += 0.00000179196 * Math.cos(1.00561112574 + 951.7184062506 * t);
-            L0 += 0.00000172110 * Math.cos(0.43943041719 + 5486.777843175 * t);
-            L0 += 0.00000193126 * Math.cos(3.35715137745 + 3.5904286518 * t);
-            L0 += 0.00000144305 * Math.cos(1.41874193418 + 135.0650800354 * t);
-            L0 += 0.00000160011 * Math.cos(3.94854735192 + 4562.4609930212 * t);
-            L0 += 0.00000174068 * Math.cos(2.41360332576 + 553.5694028424 * t);
-            L0 += 0.00000130993 * Math.cos(4.04491720264 + 12303.06777661 * t);
-            L0 += 0.00000138245 * Math.cos(4.30145176915 + 7.1135470008 * t);
-            L0 += 0.00000128062 * Math.cos(1.80665643332 + 5088.6288397668 * t);
-            L0 += 0.00000139897 * Math.cos(3.32592516164 + 2700.7151403858 * t);
-            L0 += 0.00000128102 * Math.cos(2.20806651008 + 1592.5960136328 * t);
-            L0 += 0.00000116945 * Math.cos(3.12805282207 + 7903.073419721 * t);
-            L0 += 0.00000110375 * Math.cos(1.05195079687 + 242.728603974 * t);
-            L0 += 0.00000113486 * Math.cos(3.70070798123 + 1589.0728952838 * t);
-            L0 += 0.00000100090 * Math.cos(3.24343740861 + 11773.3768115154 * t);
-            L0 += 0.00000095592 * Math.cos(0.53954181149 + 20043.6745601988 * t);
-            L0 += 0.00000098947 * Math.cos(4.84558294740 + 6681.2421070518 * t);
-            L0 += 0.00000104541 * Math.cos(0.78535382076 + 8827.3902698748 * t);
-            L0 += 0.00000084187 * Math.cos(3.98970720730 + 4399.994356889 * t);
-            L0 += 0.00000086931 * Math.cos(2.20186740523 + 11243.6858464208 * t);
-            L0 += 0.00000071437 * Math.cos(2.80307550016 + 3185.1920272656 * t);
-            L0 += 0.00000072091 * Math.cos(5.84672102525 + 5884.9268465832 * t);
-            L0 += 0.00000073476 * Math.cos(2.18428012567 + 8429.2412664666 * t);
-            L0 += 0.00000098946 * Math.cos(2.81481140371 + 6681.2075997474 * t);
-            L0 += 0.00000068414 * Math.cos(2.73834914412 + 2288.3440435114 * t);
-            L0 += 0.00000086751 * Math.cos(1.02092221563 + 7079.3738568078 * t);
-            L0 += 0.00000065320 * Math.cos(2.68118597578 + 28.4491874678 * t);
-            L0 += 0.00000083749 * Math.cos(3.20256130990 + 4690.4798363586 * t);
-            L0 += 0.00000075034 * Math.cos(0.76643418252 + 6467.9257579616 * t);
-            L0 += 0.00000068984 * Math.cos(3.76399731788 + 6041.3275670856 * t);
-            L0 += 0.00000066706 * Math.cos(0.73630620766 + 3723.508958923 * t);
-            L0 += 0.00000063314 * Math.cos(4.52771470470 + 426.598190876 * t);
-            L0 += 0.00000061683 * Math.cos(6.16831509419 + 2274.1169495098 * t);
-            L0 += 0.00000052256 * Math.cos(0.89941531307 + 9623.6882766912 * t);
-            L0 += 0.00000055488 * Math.cos(4.60625467020 + 4292.3308329504 * t);
-            L0 += 0.00000051332 * Math.cos(4.14823636534 + 3341.592747768 * t);
-            L0 += 0.00000056629 * Math.cos(5.06250410206 + 15.252471185 * t);
-            L0 += 0.00000063376 * Math.cos(0.91296240798 + 3553.9115221378 * t);
-            L0 += 0.00000045829 * Math.cos(0.78784235062 + 1990.745017041 * t);
-            L0 += 0.00000048542 * Math.cos(3.95670418719 + 4535.0594369244 * t);
-            L0 += 0.00000041223 * Math.cos(6.02019329922 + 3894.1818295422 * t);
-            L0 += 0.00000041939 * Math.cos(3.58326425115 + 8031.0922630584 * t);
-            L0 += 0.00000056396 * Math.cos(1.68727150304 + 6872.6731195112 * t);
-            L0 += 0.00000055909 * Math.cos(3.46260833495 + 263.0839233728 * t);
-            L0 += 0.00000051678 * Math.cos(2.81307492682 + 3339.6321056316 * t);
-            L0 += 0.00000040671 * Math.cos(3.13832621829 + 9595.2390892234 * t);
-            L0 += 0.00000038107 * Math.cos(0.73401946320 + 10025.3603984484 * t);
-            L0 += 0.00000039495 * Math.cos(5.63225392160 + 3097.88382272579 * t);
-            L0 += 0.00000044174 * Math.cos(3.19529736702 + 5628.9564702112 * t);
-            L0 += 0.00000036716 * Math.cos(2.63720775102 + 692.1576012268 * t);
-            L0 += 0.00000045905 * Math.cos(0.28718981497 + 5614.7293762096 * t);
-            L0 += 0.00000038352 * Math.cos(5.82880707426 + 3191.0492295652 * t);
-            L0 += 0.00000038206 * Math.cos(2.34835984063 + 162.4666361322 * t);
-            L0 += 0.00000032562 * Math.cos(0.48400659333 + 6681.2921637024 * t);
-            L0 += 0.00000037135 * Math.cos(0.68508150774 + 2818.035008606 * t);
-            L0 += 0.00000031168 * Math.cos(3.98160912982 + 20.3553193988 * t);
-            L0 += 0.00000032561 * Math.cos(0.89250316888 + 6681.1575430968 * t);
-            L0 += 0.00000037752 * Math.cos(4.15482955299 + 2803.8079146044 * t);
-            L0 += 0.00000033626 * Math.cos(6.11992401052 + 6489.776587288 * t);
-            L0 += 0.00000029007 * Math.cos(2.42707385674 + 3319.8370312074 * t);
-            L0 += 0.00000038790 * Math.cos(1.35198498795 + 10018.3141617504 * t);
-            L0 += 0.00000033148 * Math.cos(1.14023770004 + 5.5229243074 * t);
-            L0 += 0.00000027584 * Math.cos(1.59691203058 + 7210.9158184942 * t);
-            L0 += 0.00000028686 * Math.cos(5.72055456734 + 7477.522860216 * t);
-            L0 += 0.00000034031 * Math.cos(2.59544082509 + 11769.8536931664 * t);
-            L0 += 0.00000025380 * Math.cos(0.52093116112 + 10.6366653498 * t);
-            L0 += 0.00000026357 * Math.cos(1.34532646574 + 3496.032826134 * t);
-            L0 += 0.00000024554 * Math.cos(4.00323183088 + 11371.7046897582 * t);
-            L0 += 0.00000025637 * Math.cos(0.24963523420 + 522.5774180938 * t);
-            L0 += 0.00000027278 * Math.cos(4.55645328122 + 3361.3878221922 * t);
-            L0 += 0.00000023764 * Math.cos(1.84058377256 + 12832.7587417046 * t);
-            L0 += 0.00000022816 * Math.cos(3.52628212106 + 1648.4467571974 * t);
-            L0 += 0.00000022274 * Math.cos(0.72106133721 + 266.6070417218 * t);
-            L0 += 0.00000021202 * Math.cos(3.11824472284 + 2957.7158944766 * t);
-            L0 += 0.00000020158 * Math.cos(3.67131504946 + 1758.6530784168 * t);
-            L0 += 0.00000021530 * Math.cos(6.15388757177 + 3264.3463554242 * t);
-            L0 += 0.00000020093 * Math.cos(1.08247416065 + 7064.1213856228 * t);
-            L0 += 0.00000021343 * Math.cos(4.28218757863 + 4032.7700279266 * t);
-            L0 += 0.00000027540 * Math.cos(6.08389942337 + 6674.1113063988 * t);
-            L0 += 0.00000019849 * Math.cos(2.37668920745 + 10713.9948813262 * t);
-            L0 += 0.00000025512 * Math.cos(3.43242352804 + 3443.7052009184 * t);
-            L0 += 0.00000022542 * Math.cos(5.64861703438 + 2388.8940204492 * t);
-            L0 += 0.00000024378 * Math.cos(0.96994696413 + 632.7837393132 * t);
-            L0 += 0.00000023079 * Math.cos(4.74990214223 + 3347.7259737006 * t);
-            L0 += 0.00000017709 * Math.cos(3.69742343974 + 3344.2028553516 * t);
-            L0 += 0.00000022662 * Math.cos(3.95446324417 + 4989.0591838972 * t);
-            L0 += 0.00000022604 * Math.cos(5.24082917494 + 3205.5473466644 * t);
-            L0 += 0.00000016811 * Math.cos(5.48619684111 + 3.881335358 * t);
-            L0 += 0.00000018422 * Math.cos(4.22535881468 + 2787.0430238574 * t);
-            L0 += 0.00000022737 * Math.cos(4.98520896596 + 7632.9432596502 * t);
-            L0 += 0.00000016648 * Math.cos(2.52823633184 + 14584.2982731206 * t);
-            L0 += 0.00000020963 * Math.cos(4.27878216453 + 5099.2655051166 * t);
-            L0 += 0.00000016042 * Math.cos(1.76786752521 + 3475.6775067352 * t);
-            L0 += 0.00000015816 * Math.cos(3.13240869691 + 59.3738619136 * t);
-            L0 += 0.00000018113 * Math.cos(3.25756020453 + 3337.021998048 * t);
-            L0 += 0.00000019295 * Math.cos(3.23911854642 + 7.046236698 * t);
-            L0 += 0.00000016772 * Math.cos(4.39731507110 + 15643.6802033098 * t);
-            L0 += 0.00000017555 * Math.cos(4.09197396097 + 74.7815985673 * t);
-            L0 += 0.00000013704 * Math.cos(2.54117018160 + 4933.2084403326 * t);
-            L0 += 0.00000016011 * Math.cos(1.54669633224 + 14054.607308026 * t);
-            L0 += 0.00000013547 * Math.cos(4.04152185347 + 4929.6853219836 * t);
-            L0 += 0.00000014566 * Math.cos(3.45210993051 + 7373.3824546264 * t);
-            L0 += 0.00000013926 * Math.cos(5.40797129468 + 10973.55568635 * t);
-            L0 += 0.00000014246 * Math.cos(0.59808746067 + 23.8784377478 * t);
-            L0 += 0.00000014023 * Math.cos(1.44218648988 + 10404.7338123226 * t);
-            L0 += 0.00000016051 * Math.cos(3.79409950488 + 2118.7638603784 * t);
-            L0 += 0.00000013714 * Math.cos(3.59050634457 + 15113.9892382152 * t);
-            L0 += 0.00000018038 * Math.cos(4.25391532000 + 2487.4160449478 * t);
-            L0 += 0.00000015846 * Math.cos(0.56901288692 + 103.0927742186 * t);
-            L0 += 0.00000013403 * Math.cos(5.16920432994 + 10213.285546211 * t);
-            L0 += 0.00000016069 * Math.cos(2.36895958451 + 3265.8308281325 * t);
-            L0 += 0.00000012773 * Math.cos(0.10483085657 + 7234.794256242 * t);
-            L0 += 0.00000012199 * Math.cos(1.73079687044 + 36.0278666774 * t);
-            L0 += 0.00000012283 * Math.cos(5.19940030635 + 10021.8545337516 * t);
-            L0 += 0.00000011945 * Math.cos(5.47997890162 + 2921.1277828246 * t);
-            L0 += 0.00000011890 * Math.cos(4.76593905835 + 5828.0284716476 * t);
-            L0 += 0.00000012283 * Math.cos(3.16862882612 + 10021.8200264472 * t);
-            L0 += 0.00000013274 * Math.cos(6.17806905340 + 1744.4259844152 * t);
-            L0 += 0.00000011777 * Math.cos(5.72731550900 + 0.42007609361 * t);
-            L0 += 0.00000012340 * Math.cos(2.52146766331 + 2906.900688823 * t);
-            L0 += 0.00000014458 * Math.cos(4.38010658432 + 316.3918696566 * t);
-            L0 += 0.00000010639 * Math.cos(3.45016942919 + 639.897286314 * t);
-            L0 += 0.00000010925 * Math.cos(0.60397688999 + 5085.038411115 * t);
-            L0 += 0.00000010645 * Math.cos(5.47696728127 + 419.4846438752 * t);
-            L0 += 0.00000010797 * Math.cos(1.37191539718 + 10419.9862835076 * t);
-            L0 += 0.00000010565 * Math.cos(1.09061610786 + 12168.0026965746 * t);
-            L0 += 0.00000009578 * Math.cos(4.89489266197 + 3230.4061054804 * t);
-            L0 += 0.00000009808 * Math.cos(5.83632873998 + 14314.1681130498 * t);
-            L0 += 0.00000009720 * Math.cos(6.28282606427 + 9225.539273283 * t);
-            L0 += 0.00000009146 * Math.cos(1.10220667397 + 9808.5381846614 * t);
-            L0 += 0.00000012733 * Math.cos(1.79883375851 + 13745.3462390224 * t);
-            L0 += 0.00000009779 * Math.cos(3.60056884868 + 206.1855484372 * t);
-            L0 += 0.00000012156 * Math.cos(4.42295240981 + 14712.317116458 * t);
-            L0 += 0.00000008801 * Math.cos(3.97218590685 + 170.6728706192 * t);
-            L0 += 0.00000010685 * Math.cos(4.33894776374 + 7740.6067835888 * t);
-            L0 += 0.00000010041 * Math.cos(1.38294666830 + 3583.3410306738 * t);
-            L0 += 0.00000008499 * Math.cos(4.29275471153 + 0.4298831267 * t);
-            L0 += 0.00000009882 * Math.cos(2.69148019691 + 36.6053653042 * t);
-            L0 += 0.00000010585 * Math.cos(0.89641284928 + 23384.2869868986 * t);
-            L0 += 0.00000008478 * Math.cos(2.86886131803 + 9381.9399937854 * t);
-            L0 += 0.00000009560 * Math.cos(4.33382353581 + 131.5419616864 * t);
-            L0 += 0.00000008433 * Math.cos(3.15239733970 + 6525.8044539654 * t);
-            L0 += 0.00000007517 * Math.cos(1.24476310635 + 6894.5239488376 * t);
-            L0 += 0.00000006753 * Math.cos(1.58869332894 + 6836.6452528338 * t);
-            L0 += 0.00000006666 * Math.cos(4.38910103043 + 66.4874089144 * t);
-            L0 += 0.00000006697 * Math.cos(5.77315870484 + 5202.3582793352 * t);
-            L0 += 0.00000006188 * Math.cos(1.57847967850 + 3325.3599555148 * t);
-            L0 += 0.00000008392 * Math.cos(2.90734956761 + 43.718912305 * t);
-            L0 += 0.00000006427 * Math.cos(6.03333185624 + 574.3447983348 * t);
-            L0 += 0.00000006296 * Math.cos(0.06976040737 + 1964.838626854 * t);
-            L0 += 0.00000006144 * Math.cos(5.43713363624 + 1861.7458526354 * t);
-            L0 += 0.00000008180 * Math.cos(0.43967386003 + 2707.8286873866 * t);
-            L0 += 0.00000006532 * Math.cos(1.24907069366 + 12964.300703391 * t);
-            L0 += 0.00000007341 * Math.cos(4.95693808975 + 3767.2106175758 * t);
-            L0 += 0.00000006134 * Math.cos(3.16322441707 + 6680.2445323314 * t);
-            L0 += 0.00000005937 * Math.cos(4.22752447794 + 4459.3682188026 * t);
-            L0 += 0.00000005848 * Math.cos(4.30379700916 + 7875.6718636242 * t);
-            L0 += 0.00000005895 * Math.cos(0.77226207039 + 2699.7348193176 * t);
-            L0 += 0.00000005962 * Math.cos(3.01318151415 + 3369.0616141676 * t);
-            L0 += 0.00000006307 * Math.cos(1.77830983983 + 2178.137722292 * t);
-            L0 += 0.00000006103 * Math.cos(4.49866000852 + 6682.2051744678 * t);
-            L0 += 0.00000005770 * Math.cos(0.96127853878 + 13916.0191096416 * t);
-            L0 += 0.00000005725 * Math.cos(4.93042706875 + 2384.3232707292 * t);
-            L0 += 0.00000007576 * Math.cos(6.16308742022 + 6531.661656265 * t);
-            L0 += 0.00000007285 * Math.cos(0.52756973131 + 10575.4066829418 * t);
-            L0 += 0.00000005212 * Math.cos(3.48999909365 + 12935.8515159232 * t);
-            L0 += 0.00000005266 * Math.cos(4.51201042373 + 6144.4203413042 * t);
-            L0 += 0.00000006632 * Math.cos(3.48100908925 + 1118.7557921028 * t);
-            L0 += 0.00000005182 * Math.cos(3.25459432228 + 2391.43681773 * t);
-            L0 += 0.00000005214 * Math.cos(0.01023839897 + 533.2140834436 * t);
-            L0 += 0.00000005436 * Math.cos(6.18510045571 + 8425.6508378148 * t);
-            L0 += 0.00000005491 * Math.cos(3.42235890731 + 3134.4268782626 * t);
-            L0 += 0.00000005773 * Math.cos(3.55190490896 + 8969.568896911 * t);
-            L0 += 0.00000005093 * Math.cos(0.60873962999 + 8955.3418029094 * t);
-            L0 += 0.00000004798 * Math.cos(4.63144694279 + 4569.574540022 * t);
-            L0 += 0.00000005773 * Math.cos(5.92316959013 + 640.8776073822 * t);
-            L0 += 0.00000005661 * Math.cos(0.75892958537 + 3120.199784261 * t);
-            L0 += 0.00000004912 * Math.cos(1.70762118141 + 13358.9265884502 * t);
-            L0 += 0.00000005438 * Math.cos(4.29256867866 + 3503.079062832 * t);
-            L0 += 0.00000004631 * Math.cos(3.34058594066 + 3116.2676309979 * t);
-            L0 += 0.00000005823 * Math.cos(2.39009621568 + 3302.479391062 * t);
-            L0 += 0.00000005095 * Math.cos(1.12497131307 + 5331.3574437408 * t);
-            L0 += 0.00000004409 * Math.cos(1.38708732950 + 17256.6315363414 * t);
-            L0 += 0.00000004193 * Math.cos(0.19116539271 + 9830.3890139878 * t);
-            L0 += 0.00000004164 * Math.cos(0.43798301495 + 1066.49547719 * t);
-            L0 += 0.00000004220 * Math.cos(1.69427060019 + 13524.9163429314 * t);
-            L0 += 0.00000005192 * Math.cos(3.63500646439 + 536.8045120954 * t);
-            L0 += 0.00000005664 * Math.cos(0.50446281443 + 5305.4510535538 * t);
-            L0 += 0.00000005264 * Math.cos(5.40031180025 + 3355.8648978848 * t);
-            L0 += 0.00000005403 * Math.cos(5.96867227489 + 3074.005384978 * t);
-            L0 += 0.00000004046 * Math.cos(0.83826342101 + 10021.9045904022 * t);
-            L0 += 0.00000004153 * Math.cos(3.14497570817 + 8439.8779318164 * t);
-            L0 += 0.00000004820 * Math.cos(1.09025983917 + 13365.9728251482 * t);
-            L0 += 0.00000004906 * Math.cos(3.73078406569 + 1228.9621133222 * t);
-            L0 += 0.00000004576 * Math.cos(0.99344843456 + 6158.6474353058 * t);
-            L0 += 0.00000004211 * Math.cos(3.87091723842 + 3312.163239232 * t);
-            L0 += 0.00000004917 * Math.cos(6.25051681717 + 17654.7805397496 * t);
-            L0 += 0.00000003597 * Math.cos(6.07298181151 + 10818.1352869158 * t);
-            L0 += 0.00000003547 * Math.cos(1.87663674277 + 17395.2197347258 * t);
-            L0 += 0.00000003734 * Math.cos(1.37011069213 + 3973.396166013 * t);
-            L0 += 0.00000004422 * Math.cos(2.89974680697 + 6247.5131155228 * t);
-            L0 += 0.00000003975 * Math.cos(4.03441621102 + 1052.2683831884 * t);
-            L0 += 0.00000004466 * Math.cos(4.59188422424 + 5518.7501489918 * t);
-            L0 += 0.00000003445 * Math.cos(4.26610076208 + 3178.1457905676 * t);
-            L0 += 0.00000003607 * Math.cos(4.24527056399 + 8329.671610597 * t);
-            L0 += 0.00000003511 * Math.cos(1.95133364438 + 10177.2576795336 * t);
-            L0 += 0.00000003300 * Math.cos(0.68865737747 + 149.5631971346 * t);
-            L0 += 0.00000003235 * Math.cos(3.90171358031 + 27.4015560968 * t);
-            L0 += 0.00000003946 * Math.cos(5.81982010903 + 6261.7402095244 * t);
-            L0 += 0.00000003387 * Math.cos(0.14377701728 + 10014.7237330986 * t);
-            L0 += 0.00000003374 * Math.cos(0.74722238154 + 6048.4411140864 * t);
-            L0 += 0.00000003090 * Math.cos(3.98540766861 + 2648.454825473 * t);
-            L0 += 0.00000003821 * Math.cos(5.23987859516 + 5724.935697429 * t);
-            L0 += 0.00000003026 * Math.cos(0.34314724795 + 220.4126424388 * t);
-            L0 += 0.00000004052 * Math.cos(1.24671617482 + 10021.7699697966 * t);
-            L0 += 0.00000002937 * Math.cos(0.73100893561 + 2.751510611 * t);
-            L0 += 0.00000003084 * Math.cos(3.79925632319 + 169.580183133 * t);
-            L0 += 0.00000004040 * Math.cos(2.91258200196 + 22747.2907148744 * t);
-            L0 += 0.00000003246 * Math.cos(4.90760526525 + 6702.000248892 * t);
-            L0 += 0.00000003223 * Math.cos(0.92640008610 + 16865.5287696312 * t);
-            L0 += 0.00000002879 * Math.cos(1.47180601483 + 3346.1353510072 * t);
-            L0 += 0.00000003723 * Math.cos(0.49978317761 + 1.4844727083 * t);
-            L0 += 0.00000002798 * Math.cos(3.26910698548 + 9168.6408983474 * t);
-            L0 += 0.00000003347 * Math.cos(0.68791690253 + 3863.1898447936 * t);
-            L0 += 0.00000003440 * Math.cos(2.77706064625 + 6660.4494579072 * t);
-            L0 += 0.00000002798 * Math.cos(2.79673379094 + 16858.4825329332 * t);
-            L0 += 0.00000002753 * Math.cos(4.41190782119 + 3415.3940252671 * t);
-            L0 += 0.00000002703 * Math.cos(0.19222683184 + 3237.5196524812 * t);
-            L0 += 0.00000002719 * Math.cos(3.26628341377 + 3914.9572250346 * t);
-            L0 += 0.00000002941 * Math.cos(3.76169133143 + 6784.3176276182 * t);
-            L0 += 0.00000003078 * Math.cos(5.48104322207 + 3335.0895023924 * t);
-            L0 += 0.00000002701 * Math.cos(5.08537226206 + 6688.3384004004 * t);
-            L0 += 0.00000002606 * Math.cos(4.83032556909 + 4672.6673142406 * t);
-            L0 += 0.00000002883 * Math.cos(2.64068086362 + 3320.257107301 * t);
-            L0 += 0.00000003089 * Math.cos(4.39619824300 + 1332.0548875408 * t);
-            L0 += 0.00000003438 * Math.cos(1.93467064449 + 10551.528245194 * t);
-            L0 += 0.00000003433 * Math.cos(0.20933510815 + 6604.958782124 * t);
-            L0 += 0.00000002513 * Math.cos(2.88151502604 + 17924.9106998204 * t);
-            L0 += 0.00000002683 * Math.cos(3.68680362407 + 3603.6963500726 * t);
-            L0 += 0.00000002696 * Math.cos(2.66931776730 + 10184.3039162316 * t);
-            L0 += 0.00000002386 * Math.cos(1.05710815775 + 3607.2194684216 * t);
-            L0 += 0.00000002444 * Math.cos(3.46901444423 + 6298.3283211764 * t);
-            L0 += 0.00000002566 * Math.cos(5.55941956468 + 6546.1597733642 * t);
-            L0 += 0.00000002354 * Math.cos(0.85896789940 + 3351.2490920496 * t);
-            L0 += 0.00000002304 * Math.cos(6.07210985790 + 1214.7350193206 * t);
-            L0 += 0.00000002387 * Math.cos(4.30419979225 + 3360.96774609859 * t);
-            L0 += 0.00000003109 * Math.cos(2.18099805904 + 16173.3711684044 * t);
-            L0 += 0.00000002907 * Math.cos(3.43894993113 + 2693.601593385 * t);
-            L0 += 0.00000002550 * Math.cos(4.18354174372 + 3546.797975137 * t);
-            L0 += 0.00000002991 * Math.cos(2.37500894603 + 13517.8701062334 * t);
-            L0 += 0.00000002508 * Math.cos(5.99249607455 + 5729.506447149 * t);
-            L0 += 0.00000002202 * Math.cos(5.58486973955 + 664.75604513 * t);
-            L0 += 0.00000002467 * Math.cos(2.81052575497 + 15110.4661198662 * t);
-            L0 += 0.00000002154 * Math.cos(3.59696831702 + 6677.6344247478 * t);
-            L0 += 0.00000002166 * Math.cos(3.35965682842 + 589.0648270082 * t);
-            L0 += 0.00000002112 * Math.cos(4.57048853017 + 6127.6554505572 * t);
-            L0 += 0.00000002178 * Math.cos(3.21663279493 + 20199.094959633 * t);
-            L0 += 0.00000002260 * Math.cos(3.62776666288 + 7799.9806455024 * t);
-            L0 += 0.00000002703 * Math.cos(5.89441421026 + 6438.4962494256 * t);
-            L0 += 0.00000002201 * Math.cos(4.69972051344 + 17277.4069318338 * t);
-            L0 += 0.00000002131 * Math.cos(2.51801264340 + 1545.3539829788 * t);
-            L0 += 0.00000002093 * Math.cos(4.03688419630 + 6684.8152820514 * t);
-            L0 += 0.00000002249 * Math.cos(5.26171743929 + 5618.3198048614 * t);
-            L0 += 0.00000002117 * Math.cos(4.80404492675 + 3657.0042963564 * t);
-            L0 += 0.00000002265 * Math.cos(3.87401620754 + 110.2063212194 * t);
-            L0 += 0.00000002521 * Math.cos(4.21237950687 + 2494.5295919486 * t);
-            L0 += 0.00000002492 * Math.cos(6.10452779411 + 3329.97576135 * t);
-            L0 += 0.00000002154 * Math.cos(4.59093274516 + 5625.3660415594 * t);
-            L0 += 0.00000001929 * Math.cos(1.21920197307 + 21.8508293264 * t);
-            L0 += 0.00000002343 * Math.cos(0.90613584736 + 227.476132789 * t);
-            L0 += 0.00000001871 * Math.cos(2.03707390080 + 56.8983749356 * t);
-            L0 += 0.00000001894 * Math.cos(4.12432529517 + 3399.9862886134 * t);
-            L0 += 0.00000002271 * Math.cos(3.78951734652 + 7910.1869667218 * t);
-            L0 += 0.00000001876 * Math.cos(3.02034887080 + 4885.9664096786 * t);
-            L0 += 0.00000002145 * Math.cos(4.74972617629 + 18984.2926300096 * t);
-            L0 += 0.00000002035 * Math.cos(2.75110234296 + 128.0188433374 * t);
-            L0 += 0.00000001770 * Math.cos(2.73496011079 + 6606.4432548323 * t);
-            L0 += 0.00000001733 * Math.cos(1.70571779606 + 6.6836638741 * t);
-            L0 += 0.00000001743 * Math.cos(2.22986352012 + 17085.9586657222 * t);
-            L0 += 0.00000001723 * Math.cos(1.98207274526 + 735.8765135318 * t);
-            L0 += 0.00000001814 * Math.cos(0.92405242552 + 4555.3474460204 * t);
-            L0 += 0.00000001661 * Math.cos(3.07319305915 + 1692.1656695024 * t);
-            L0 += 0.00000002332 * Math.cos(5.05223613332 + 20618.0193585336 * t);
-            L0 += 0.00000001653 * Math.cos(3.86316179052 + 699.2711482276 * t);
-            L0 += 0.00000001890 * Math.cos(4.14080522607 + 5459.3762870782 * t);
-            L0 += 0.00000001680 * Math.cos(3.49750704538 + 3347.6586633978 * t);
-            L0 += 0.00000001909 * Math.cos(2.11478314309 + 6816.289933435 * t);
-            L0 += 0.00000001918 * Math.cos(3.31232891649 + 3333.5661900018 * t);
-            L0 += 0.00000001707 * Math.cos(4.88386665097 + 3407.0998356142 * t);
-            L0 += 0.00000001577 * Math.cos(3.51777131580 + 13362.432453147 * t);
-            L0 += 0.00000001827 * Math.cos(1.14937084769 + 2807.3983432562 * t);
-            L0 += 0.00000002094 * Math.cos(1.78938870686 + 20597.2439630412 * t);
-            L0 += 0.00000001577 * Math.cos(5.54854302324 + 13362.4669604514 * t);
-            L0 += 0.00000001677 * Math.cos(4.39073937265 + 8270.2977486834 * t);
-            L0 += 0.00000001561 * Math.cos(0.80246904730 + 3017.1070100424 * t);
-            L0 += 0.00000001552 * Math.cos(2.66876850182 + 3024.2205570432 * t);
-            L0 += 0.00000001708 * Math.cos(2.09721350898 + 2814.4445799542 * t);
-            L0 += 0.00000002109 * Math.cos(1.48733908496 + 2679.3794999188 * t);
-            L0 += 0.00000001547 * Math.cos(2.12956399169 + 661.232926781 * t);
-            L0 += 0.00000001764 * Math.cos(5.90517079295 + 3326.3853326982 * t);
-            L0 += 0.00000001503 * Math.cos(4.34389183170 + 13936.794505134 * t);
-            L0 += 0.00000001504 * Math.cos(0.83367652471 + 4775.7600884592 * t);
-            L0 += 0.00000001543 * Math.cos(5.82417982389 + 3344.4937620578 * t);
-            L0 += 0.00000001458 * Math.cos(1.42630589706 + 15508.6151232744 * t);
-            L0 += 0.00000001648 * Math.cos(2.88801518612 + 8273.8208670324 * t);
-            L0 += 0.00000001527 * Math.cos(1.10261249454 + 2675.8563815698 * t);
-            L0 += 0.00000001800 * Math.cos(5.17144672709 + 38.1330356378 * t);
-            L0 += 0.00000001439 * Math.cos(0.48751113425 + 76.2660712756 * t);
-            L0 += 0.00000001478 * Math.cos(4.63008666184 + 19800.9459562248 * t);
-            L0 += 0.00000001770 * Math.cos(2.18315009072 + 2301.58581590939 * t);
-            L0 += 0.00000001712 * Math.cos(2.60291779744 + 29.429508536 * t);
-            L0 += 0.00000001416 * Math.cos(2.46912016889 + 2597.6223661672 * t);
-            L0 += 0.00000001835 * Math.cos(3.93223068469 + 6843.6914895318 * t);
-            L0 += 0.00000001437 * Math.cos(3.48241890037 + 3281.2385647862 * t);
-            L0 += 0.00000001385 * Math.cos(4.18004525683 + 2284.7536148596 * t);
-            L0 += 0.00000001479 * Math.cos(3.88994194685 + 6034.2140200848 * t);
-            L0 += 0.00000001469 * Math.cos(2.91808856545 + 12722.5524204852 * t);
-            L0 += 0.00000001824 * Math.cos(3.94139541752 + 18454.601664915 * t);
-            L0 += 0.00000001368 * Math.cos(1.71899681607 + 13760.5987102074 * t);
-            L0 += 0.00000001406 * Math.cos(2.42916192473 + 853.196381752 * t);
-            L0 += 0.00000001361 * Math.cos(4.69126219798 + 11081.2192102886 * t);
-            L0 += 0.00000001375 * Math.cos(4.90787845983 + 3304.5845600224 * t);
-            L0 += 0.00000001544 * Math.cos(3.23251603238 + 156.4007205024 * t);
-            L0 += 0.00000001543 * Math.cos(1.13497136095 + 3336.7310913418 * t);
-            L0 += 0.00000001385 * Math.cos(2.90281983822 + 1581.959348283 * t);
-            L0 += 0.00000001311 * Math.cos(6.21748423079 + 2547.8375382324 * t);
-            L0 += 0.00000001377 * Math.cos(2.56537541792 + 568.8218740274 * t);
-            L0 += 0.00000001474 * Math.cos(4.65215247212 + 394.6258850592 * t);
-            L0 += 0.00000001619 * Math.cos(0.07481583409 + 1435.1476617594 * t);
-            L0 += 0.00000001369 * Math.cos(0.08979359617 + 7895.9598727202 * t);
-            L0 += 0.00000001272 * Math.cos(5.84659079053 + 21.335640467 * t);
-            L0 += 0.00000001331 * Math.cos(3.80007277718 + 13119.72110282519 * t);
-            L0 += 0.00000001202 * Math.cos(5.90681878458 + 187.9251477626 * t);
-            L0 += 0.00000001284 * Math.cos(5.30205682052 + 6571.0185321802 * t);
-            L0 += 0.00000001468 * Math.cos(5.91503888421 + 3339.1279539915 * t);
-            L0 += 0.00000001497 * Math.cos(2.57629850836 + 151.8972810852 * t);
-            L0 += 0.00000001270 * Math.cos(4.08996241400 + 4356.275444584 * t);
-            L0 += 0.00000001159 * Math.cos(0.00546309207 + 799.8211251654 * t);
-            L0 += 0.00000001154 * Math.cos(1.81024985603 + 158.9435177832 * t);
-            L0 += 0.00000001170 * Math.cos(4.15567553953 + 14.2270940016 * t);
-            L0 += 0.00000001349 * Math.cos(0.39391022745 + 2540.7913015344 * t);
-            L0 += 0.00000001403 * Math.cos(4.89956428847 + 4039.8835749274 * t);
-            L0 += 0.00000001188 * Math.cos(3.46422365287 + 1015.6630178842 * t);
-            L0 += 0.00000001136 * Math.cos(5.54132891775 + 13553.8979729108 * t);
-            L0 += 0.00000001282 * Math.cos(4.52288421340 + 3929.677253708 * t);
-            L0 += 0.00000001124 * Math.cos(1.40102701439 + 13149.1506113612 * t);
-            L0 += 0.00000001254 * Math.cos(3.84775964741 + 3980.5097130138 * t);
-            L0 += 0.00000001121 * Math.cos(5.04552583589 + 23141.5583829246 * t);
-            L0 += 0.00000001088 * Math.cos(0.89388884633 + 3340.19235060619 * t);
-            L0 += 0.00000001476 * Math.cos(4.20852908107 + 16460.33352952499 * t);
-            L0 += 0.00000001084 * Math.cos(5.70551481838 + 3760.097070575 * t);
-            L0 += 0.00000001197 * Math.cos(1.24543578245 + 26724.8994135984 * t);
-            L0 += 0.00000001253 * Math.cos(5.82286965998 + 3344.5445799629 * t);
-            L0 += 0.00000001078 * Math.cos(6.24742453183 + 17.812522118 * t);
-            L0 += 0.00000001462 * Math.cos(2.27467510211 + 369.6998159404 * t);
-            L0 += 0.00000001044 * Math.cos(4.34158344243 + 2277.7073781616 * t);
-            L0 += 0.00000001099 * Math.cos(4.08747611117 + 802.3639224462 * t);
-            L0 += 0.00000001122 * Math.cos(4.31726854418 + 107.6635239386 * t);
-            L0 += 0.00000001148 * Math.cos(0.42666214138 + 949.1756089698 * t);
-            L0 += 0.00000001183 * Math.cos(0.31560034120 + 1162.4747044078 * t);
-            L0 += 0.00000001130 * Math.cos(3.46061330657 + 5732.0492444298 * t);
-            L0 += 0.00000001059 * Math.cos(1.34075999078 + 2149.6885348242 * t);
-            L0 += 0.00000001126 * Math.cos(5.22902222299 + 194.9713844606 * t);
-            L0 += 0.00000000977 * Math.cos(3.44426658417 + 9779.1086761254 * t);
-            L0 += 0.00000001134 * Math.cos(0.13507173479 + 12566.1516999828 * t);
-            L0 += 0.00000001185 * Math.cos(3.65682936623 + 6456.8800576977 * t);
-            L0 += 0.00000000962 * Math.cos(4.85370284827 + 3510.1926098328 * t);
-            L0 += 0.00000001033 * Math.cos(2.47380728164 + 31.9723058168 * t);
-            L0 += 0.00000001172 * Math.cos(1.72927931309 + 6923.9534573736 * t);
-            L0 += 0.00000000986 * Math.cos(1.05152205629 + 16335.8378045366 * t);
-            L0 += 0.00000001292 * Math.cos(6.02388659607 + 3316.733988952 * t);
-            L0 += 0.00000000932 * Math.cos(1.56812178735 + 111.1866422876 * t);
-            L0 += 0.00000001130 * Math.cos(2.06879370733 + 3376.6402933772 * t);
-            L0 += 0.00000000924 * Math.cos(0.82106390115 + 3364.4908644476 * t);
-            L0 += 0.00000001005 * Math.cos(5.48594935121 + 11236.57229942 * t);
-            L0 += 0.00000000936 * Math.cos(1.58837554752 + 10235.1363755374 * t);
-            L0 += 0.00000001063 * Math.cos(1.93321644244 + 87.30820453981 * t);
-            L0 += 0.00000000945 * Math.cos(5.10393817688 + 8013.2797409404 * t);
-            L0 += 0.00000000957 * Math.cos(4.41421752360 + 433.7117378768 * t);
-            L0 += 0.00000000921 * Math.cos(1.71021166461 + 2067.9314010726 * t);
-            L0 += 0.00000000910 * Math.cos(1.91562889347 + 401.6721217572 * t);
-            L0 += 0.00000000931 * Math.cos(4.61327789373 + 5415.6573747732 * t);
-            L0 += 0.00000001033 * Math.cos(3.98512631089 + 10596.1820784342 * t);
-            L0 += 0.00000000908 * Math.cos(5.30549216988 + 7107.8230442756 * t);
-            L0 += 0.00000000945 * Math.cos(0.21610469082 + 9872.2740829648 * t);
-            L0 += 0.00000000991 * Math.cos(2.76931703924 + 5938.234792867 * t);
-            L0 += 0.00000000918 * Math.cos(4.37217510741 + 1854.6323056346 * t);
-            L0 += 0.00000000889 * Math.cos(1.81025662091 + 2409.249339848 * t);
-            L0 += 0.00000001058 * Math.cos(3.63303046818 + 7255.5696517344 * t);
-            L0 += 0.00000000860 * Math.cos(2.78826625605 + 5621.8601768626 * t);
-            L0 += 0.00000000860 * Math.cos(0.75749461239 + 5621.8256695582 * t);
-            L0 += 0.00000000850 * Math.cos(3.82228424021 + 272.6729573516 * t);
-            L0 += 0.00000000851 * Math.cos(0.25287875945 + 11766.2632645146 * t);
-            L0 += 0.00000000853 * Math.cos(1.84243320985 + 2142.6422981262 * t);
-            L0 += 0.00000001030 * Math.cos(0.42255009123 + 1596.1864422846 * t);
-            L0 += 0.00000000826 * Math.cos(1.26069501589 + 20206.141196331 * t);
-            L0 += 0.00000000835 * Math.cos(4.64394754967 + 127.9515330346 * t);
-            L0 += 0.00000001046 * Math.cos(3.50232998647 + 9866.4168806652 * t);
-            L0 += 0.00000000824 * Math.cos(2.42928138519 + 11.0457002639 * t);
-            L0 += 0.00000001090 * Math.cos(6.06536924506 + 3341.0325027934 * t);
-            L0 += 0.00000000808 * Math.cos(1.17345081945 + 6460.8122109608 * t);
-            L0 += 0.00000000821 * Math.cos(0.19617131185 + 22743.4093795164 * t);
-            L0 += 0.00000000804 * Math.cos(5.03144428114 + 2.5427972808 * t);
-            L0 += 0.00000001074 * Math.cos(2.80025232939 + 3077.528503327 * t);
-            L0 += 0.00000000794 * Math.cos(4.57067003887 + 5223.6939198022 * t);
-            L0 += 0.00000000822 * Math.cos(0.90150471199 + 8646.0634802536 * t);
-            L0 += 0.00000000884 * Math.cos(1.71007411939 + 3.9321532631 * t);
-            L0 += 0.00000000850 * Math.cos(1.24977903471 + 12295.9542296092 * t);
-            L0 += 0.00000000926 * Math.cos(3.02847055739 + 3377.217792004 * t);
-            L0 += 0.00000000779 * Math.cos(1.97930055918 + 5408.5438277724 * t);
-            L0 += 0.00000000960 * Math.cos(6.16414205869 + 8542.970706035 * t);
-            L0 += 0.00000000785 * Math.cos(4.63077378309 + 3341.0423098265 * t);
-            L0 += 0.00000000752 * Math.cos(3.51125131831 + 10020.8569590312 * t);
-            L0 += 0.00000000749 * Math.cos(2.50286751020 + 2295.4575905122 * t);
-            L0 += 0.00000000801 * Math.cos(4.54004277501 + 1039.0266107904 * t);
-            L0 += 0.00000000735 * Math.cos(3.91703254169 + 12310.1813236108 * t);
-            L0 += 0.00000000784 * Math.cos(3.24368310213 + 3384.3313390048 * t);
-            L0 += 0.00000000719 * Math.cos(3.35536995801 + 11780.4903585162 * t);
-            L0 += 0.00000000940 * Math.cos(3.58974561600 + 23539.7073863328 * t);
-            L0 += 0.00000000865 * Math.cos(1.12444569157 + 206.7007372966 * t);
-            L0 += 0.00000000731 * Math.cos(5.61232905415 + 16062.1845261168 * t);
-            L0 += 0.00000000823 * Math.cos(2.65316808033 + 3169.9395560806 * t);
-            L0 += 0.00000000903 * Math.cos(4.86743346013 + 931.3630868518 * t);
-            L0 += 0.00000000705 * Math.cos(1.46305394620 + 792.7748884674 * t);
-            L0 += 0.00000000754 * Math.cos(2.89691411536 + 3296.8935143948 * t);
-            L0 += 0.00000000736 * Math.cos(2.21038016464 + 146.8116865236 * t);
-            L0 += 0.00000000785 * Math.cos(2.32844966721 + 3340.1825435731 * t);
-            L0 += 0.00000000685 * Math.cos(2.34948834397 + 1.1806426521 * t);
-            L0 += 0.00000000677 * Math.cos(4.33803507050 + 3877.4169387952 * t);
-            L0 += 0.00000000729 * Math.cos(3.56726385957 + 485.9720527896 * t);
-            L0 += 0.00000000668 * Math.cos(5.16798891078 + 12721.572099417 * t);
-            L0 += 0.00000000713 * Math.cos(4.80558699772 + 4142.976349146 * t);
-            L0 += 0.00000000842 * Math.cos(1.59708732155 + 16304.9131300908 * t);
-            L0 += 0.00000000698 * Math.cos(1.91829605833 + 6665.9723822146 * t);
-            L0 += 0.00000000698 * Math.cos(4.64681188157 + 11216.284290324 * t);
-            L0 += 0.00000000684 * Math.cos(3.88514563357 + 846.0828347512 * t);
-            L0 += 0.00000000666 * Math.cos(2.23927960017 + 20735.83216142559 * t);
-            L0 += 0.00000000638 * Math.cos(2.05380863176 + 16699.53901514999 * t);
-            L0 += 0.00000000726 * Math.cos(5.04566216294 + 3329.5667264359 * t);
-            L0 += 0.00000000697 * Math.cos(0.30680314664 + 19676.4502312364 * t);
-            L0 += 0.00000000650 * Math.cos(3.23944472757 + 9588.1255422226 * t);
-            L0 += 0.00000000736 * Math.cos(2.24443728739 + 11250.7993934216 * t);
-            L0 += 0.00000000692 * Math.cos(1.76465916332 + 51.28033786241 * t);
-            L0 += 0.00000000645 * Math.cos(0.07661067442 + 52.2603149128 * t);
-            L0 += 0.00000000685 * Math.cos(2.72118140264 + 6643.0918177618 * t);
-            L0 += 0.00000000684 * Math.cos(1.26157751115 + 142.1786270362 * t);
-            L0 += 0.00000000635 * Math.cos(3.85231847116 + 6.0659156298 * t);
-            L0 += 0.00000000819 * Math.cos(6.04967230806 + 19402.7969528166 * t);
-            L0 += 0.00000000664 * Math.cos(3.60223930010 + 1903.4368125012 * t);
-            L0 += 0.00000000613 * Math.cos(4.96450118774 + 8859.3625756916 * t);
-            L0 += 0.00000000615 * Math.cos(5.74467417840 + 6696.4773245846 * t);
-            L0 += 0.00000000622 * Math.cos(1.64154132852 + 24150.080051345 * t);
-            L0 += 0.00000000659 * Math.cos(0.12506816965 + 8116.372515159 * t);
-            L0 += 0.00000000679 * Math.cos(1.94943016061 + 12995.2253778368 * t);
-            L0 += 0.00000000616 * Math.cos(4.94607504516 + 9485.032768004 * t);
-            L0 += 0.00000000793 * Math.cos(2.84922599989 + 29.4918183034 * t);
-            L0 += 0.00000000597 * Math.cos(5.72067567055 + 3113.1362939108 * t);
-            L0 += 0.00000000763 * Math.cos(0.42513533173 + 3873.8265101434 * t);
-            L0 += 0.00000000587 * Math.cos(1.31684217558 + 9499.2598620056 * t);
-            L0 += 0.00000000592 * Math.cos(4.34796024028 + 3826.5844794894 * t);
-            L0 += 0.00000000652 * Math.cos(5.53658742492 + 9065.5481241288 * t);
-            L0 += 0.00000000583 * Math.cos(0.59190068342 + 26084.0218062162 * t);
-            L0 += 0.00000000603 * Math.cos(0.77135566630 + 3342.0968994081 * t);
-            L0 += 0.00000000701 * Math.cos(3.35897774328 + 6709.6740408674 * t);
-            L0 += 0.00000000574 * Math.cos(1.08976979801 + 6357.7194367422 * t);
-            L0 += 0.00000000750 * Math.cos(4.84737198179 + 10022.8176011676 * t);
-            L0 += 0.00000000588 * Math.cos(5.65927128604 + 2171.0241752912 * t);
-            L0 += 0.00000000632 * Math.cos(3.84852695407 + 16276.463942623 * t);
-            L0 += 0.00000000632 * Math.cos(1.43230388645 + 16706.585251848 * t);
-            L0 += 0.00000000780 * Math.cos(1.15181502540 + 377.3736079158 * t);
-            L0 += 0.00000000554 * Math.cos(4.18192049239 + 382.879278571 * t);
-            L0 += 0.00000000568 * Math.cos(0.03816333919 + 6414.6178116778 * t);
-            L0 += 0.00000000569 * Math.cos(2.57704345512 + 35.5627344686 * t);
-            L0 += 0.00000000566 * Math.cos(0.62804830762 + 3189.5647568569 * t);
-            L0 += 0.00000000687 * Math.cos(5.61456944029 + 155.3530891314 * t);
-            L0 += 0.00000000563 * Math.cos(2.57358138188 + 19406.6782881746 * t);
-            L0 += 0.00000000693 * Math.cos(1.15645091892 + 966.9708774356 * t);
-            L0 += 0.00000000576 * Math.cos(1.60357663736 + 3192.5337022735 * t);
-            L0 += 0.00000000621 * Math.cos(2.23214771591 + 3274.1250177854 * t);
-            L0 += 0.00000000586 * Math.cos(6.17266280012 + 9602.3526362242 * t);
-            L0 += 0.00000000541 * Math.cos(0.53968808391 + 13171.0014406876 * t);
-            L0 += 0.00000000570 * Math.cos(3.11852290115 + 2221.856634597 * t);
-            L0 += 0.00000000542 * Math.cos(0.41889651002 + 1641.3332101966 * t);
-            L0 += 0.00000000532 * Math.cos(0.16606105669 + 5511.636601991 * t);
-            L0 += 0.00000000530 * Math.cos(3.78205188174 + 7270.2896804078 * t);
-            L0 += 0.00000000575 * Math.cos(5.48929613719 + 2075.0449480734 * t);
-            L0 += 0.00000000670 * Math.cos(3.67090656417 + 6475.0393049624 * t);
-            L0 += 0.00000000509 * Math.cos(4.21526585284 + 7380.4960016272 * t);
-            L0 += 0.00000000510 * Math.cos(1.59587338243 + 13362.3823964964 * t);
-            L0 += 0.00000000494 * Math.cos(2.13711598060 + 2604.735913168 * t);
-            L0 += 0.00000000534 * Math.cos(1.03109772656 + 1478.8665740644 * t);
-            L0 += 0.00000000506 * Math.cos(5.92145494356 + 685.044054226 * t);
-            L0 += 0.00000000469 * Math.cos(0.83917541691 + 3041.4860324306 * t);
-            L0 += 0.00000000468 * Math.cos(1.97135671591 + 2412.772458197 * t);
-            L0 += 0.00000000468 * Math.cos(4.57635781664 + 11670.2840372968 * t);
-            L0 += 0.00000000559 * Math.cos(1.47641018288 + 8671.9698704406 * t);
-            L0 += 0.00000000475 * Math.cos(2.07517976424 + 5835.1420186484 * t);
-            L0 += 0.00000000466 * Math.cos(2.92801596791 + 2277.2983432475 * t);
-            L0 += 0.00000000478 * Math.cos(6.13550464878 + 4825.544916394 * t);
-            L0 += 0.00000000502 * Math.cos(0.77928275348 + 4407.1079038898 * t);
-            L0 += 0.00000000462 * Math.cos(3.80503324215 + 11140.5930722022 * t);
-            L0 += 0.00000000499 * Math.cos(3.25557381873 + 1744.493294718 * t);
-            L0 += 0.00000000525 * Math.cos(0.74022979976 + 1265.5674786264 * t);
-            L0 += 0.00000000521 * Math.cos(6.27577138682 + 3981.490034082 * t);
-            L0 += 0.00000000482 * Math.cos(0.14820337530 + 14158.7477136156 * t);
-            L0 += 0.00000000460 * Math.cos(2.03348517376 + 25685.872802808 * t);
-            L0 += 0.00000000510 * Math.cos(4.27704405425 + 3472.1543883862 * t);
-            L0 += 0.00000000444 * Math.cos(1.95486223268 + 3226.2133197864 * t);
-            L0 += 0.00000000575 * Math.cos(0.59007504383 + 2766.267628365 * t);
-            L0 += 0.00000000437 * Math.cos(5.63861950911 + 8958.9322315612 * t);
-            L0 += 0.00000000492 * Math.cos(6.10071747922 + 2285.1626497737 * t);
-            L0 += 0.00000000572 * Math.cos(5.10308842466 + 8564.306346502 * t);
-            L0 += 0.00000000430 * Math.cos(4.12851356192 + 13.241772398 * t);
-            L0 += 0.00000000544 * Math.cos(4.78254843814 + 9380.9596727172 * t);
-            L0 += 0.00000000430 * Math.cos(3.83861916944 + 1765.7666254176 * t);
-            L0 += 0.00000000499 * Math.cos(4.26055736809 + 6652.7756659318 * t);
-            L0 += 0.00000000541 * Math.cos(0.84245625839 + 4981.9456368964 * t);
-            L0 += 0.00000000591 * Math.cos(2.01874828234 + 27490.6924780448 * t);
-            L0 += 0.00000000438 * Math.cos(1.36437546581 + 12509.2533250472 * t);
-            L0 += 0.00000000470 * Math.cos(4.70961176845 + 3723.4917052708 * t);
-            L0 += 0.00000000421 * Math.cos(1.76100140625 + 956.2891559706 * t);
-            L0 += 0.00000000413 * Math.cos(0.49206034039 + 13355.3361597984 * t);
-            L0 += 0.00000000412 * Math.cos(0.29353415123 + 2810.9387152574 * t);
-            L0 += 0.00000000412 * Math.cos(3.24865417750 + 18451.07854656599 * t);
-            L0 += 0.00000000412 * Math.cos(1.70721395764 + 7314.0085927128 * t);
-            L0 += 0.00000000412 * Math.cos(4.54594776716 + 2810.904207953 * t);
-            L0 += 0.00000000448 * Math.cos(3.04254429984 + 5636.070017212 * t);
-            L0 += 0.00000000510 * Math.cos(1.18739936388 + 13362.517017102 * t);
-            L0 += 0.00000000408 * Math.cos(1.32068176489 + 20809.4676246452 * t);
-            L0 += 0.00000000427 * Math.cos(1.16100742040 + 19004.6479494084 * t);
-            L0 += 0.00000000420 * Math.cos(3.49180180953 + 1655.5603041982 * t);
-            L0 += 0.00000000433 * Math.cos(0.55429134487 + 9945.5712088238 * t);
-            L0 += 0.00000000424 * Math.cos(4.60854671688 + 6518.7582172674 * t);
-            L0 += 0.00000000415 * Math.cos(5.67120343816 + 99.5696558696 * t);
-            L0 += 0.00000000476 * Math.cos(5.94537443289 + 48835.19385644859 * t);
-            L0 += 0.00000000405 * Math.cos(5.63206200287 + 3450.8187479192 * t);
-            L0 += 0.00000000495 * Math.cos(4.38317490235 + 2480.302497947 * t);
-            L0 += 0.00000000415 * Math.cos(3.61905205961 + 2089.782230399 * t);
-            L0 += 0.00000000395 * Math.cos(0.25208772249 + 1375.7737998458 * t);
-            L0 += 0.00000000421 * Math.cos(2.26337694295 + 13892.1406718938 * t);
-            L0 += 0.00000000391 * Math.cos(5.25566087245 + 10042.6126755918 * t);
-            L0 += 0.00000000504 * Math.cos(4.91016850189 + 8965.9784682592 * t);
-            L0 += 0.00000000417 * Math.cos(3.45088934666 + 279.7865043524 * t);
-            L0 += 0.00000000389 * Math.cos(0.98703891513 + 7203.8022714934 * t);
-            L0 += 0.00000000431 * Math.cos(2.11881719623 + 56.8032621698 * t);
-            L0 += 0.00000000497 * Math.cos(1.63121523594 + 22345.2603761082 * t);
-            L0 += 0.00000000377 * Math.cos(4.06263841184 + 10124.930054318 * t);
-            L0 += 0.00000000377 * Math.cos(3.16019395941 + 224.3447957019 * t);
-            L0 += 0.00000000378 * Math.cos(5.82532048605 + 6675.7019290922 * t);
-            L0 += 0.00000000377 * Math.cos(0.05833226835 + 905.4566966648 * t);
-            L0 += 0.00000000445 * Math.cos(0.33560120738 + 515.463871093 * t);
-            L0 += 0.00000000426 * Math.cos(2.66458973231 + 4076.4889402316 * t);
-            L0 += 0.00000000489 * Math.cos(0.75760372851 + 3561.0250691386 * t);
-            L0 += 0.00000000389 * Math.cos(0.50283826580 + 2825.1485556068 * t);
-            L0 += 0.00000000396 * Math.cos(5.14198726837 + 5195.2447323344 * t);
-            L0 += 0.00000000414 * Math.cos(3.12530321804 + 10001.061884607 * t);
-            L0 += 0.00000000502 * Math.cos(5.02356488339 + 73.297125859 * t);
-            L0 += 0.00000000432 * Math.cos(3.31538359140 + 5617.9107699473 * t);
-            L0 += 0.00000000359 * Math.cos(4.97622870666 + 5820.9149246468 * t);
-            L0 += 0.00000000359 * Math.cos(5.42072227300 + 6019.9919266186 * t);
-            L0 += 0.00000000449 * Math.cos(3.79544854612 + 4996.172730898 * t);
-            L0 += 0.00000000374 * Math.cos(2.85563965649 + 2111.6503133776 * t);
-            L0 += 0.00000000426 * Math.cos(0.24129917209 + 5625.7750764735 * t);
-            L0 += 0.00000000423 * Math.cos(3.60507971235 + 8226.5788363784 * t);
-            L0 += 0.00000000402 * Math.cos(4.51813719510 + 4392.8808098882 * t);
-            L0 += 0.00000000391 * Math.cos(4.26714089799 + 21795.21409161479 * t);
-            L0 += 0.00000000447 * Math.cos(4.25776540974 + 18052.9295431578 * t);
-            L0 += 0.00000000355 * Math.cos(4.17584780659 + 6740.5987153132 * t);
-            L0 += 0.00000000353 * Math.cos(1.81574804066 + 6686.747777707 * t);
-            L0 += 0.00000000462 * Math.cos(3.22304237134 + 2011.1003364398 * t);
-            L0 += 0.00000000341 * Math.cos(3.22071023668 + 4253.1826703654 * t);
-            L0 += 0.00000000475 * Math.cos(4.28822688035 + 367.2243289624 * t);
-            L0 += 0.00000000462 * Math.cos(2.91312544527 + 418.9243989006 * t);
-            L0 += 0.00000000416 * Math.cos(4.83203726375 + 8535.8571590342 * t);
-            L0 += 0.00000000431 * Math.cos(3.22440150226 + 21265.5231265202 * t);
-            L0 += 0.00000000333 * Math.cos(3.99300815003 + 1353.3905280078 * t);
-            L0 += 0.00000000340 * Math.cos(0.71636465254 + 15664.03552270859 * t);
-            L0 += 0.00000000416 * Math.cos(2.58443168474 + 5753.3848848968 * t);
-            L0 += 0.00000000356 * Math.cos(2.35639379021 + 4.57074972 * t);
-            L0 += 0.00000000330 * Math.cos(4.04831945983 + 3.1030422554 * t);
-            L0 += 0.00000000381 * Math.cos(4.06283076724 + 1062.9050485382 * t);
-            L0 += 0.00000000431 * Math.cos(5.42246026973 + 26482.1708096244 * t);
-            L0 += 0.00000000328 * Math.cos(4.06276954550 + 6944.3087767724 * t);
-            L0 += 0.00000000334 * Math.cos(5.10221163477 + 22324.9050567094 * t);
-            L0 += 0.00000000400 * Math.cos(2.28211698182 + 3209.0704650134 * t);
-            L0 += 0.00000000420 * Math.cos(2.44159662565 + 6155.057006654 * t);
-            L0 += 0.00000000375 * Math.cos(1.09229714548 + 4246.0691233646 * t);
-            L0 += 0.00000000449 * Math.cos(4.38183542571 + 5106.3790521174 * t);
-            L0 += 0.00000000330 * Math.cos(2.55172725319 + 19513.9835951042 * t);
-            L0 += 0.00000000319 * Math.cos(4.05704496382 + 5430.3946570988 * t);
-            L0 += 0.00000000310 * Math.cos(4.99907184482 + 5095.6750764648 * t);
-            L0 += 0.00000000344 * Math.cos(0.62691832180 + 9389.0535407862 * t);
-            L0 += 0.00000000319 * Math.cos(3.31673970253 + 596.178374009 * t);
-            L0 += 0.00000000305 * Math.cos(4.66942910910 + 6756.0064519669 * t);
-            L0 += 0.00000000409 * Math.cos(6.07568936266 + 50.8324593058 * t);
-            L0 += 0.00000000377 * Math.cos(5.42211267415 + 1190.9238918756 * t);
-            L0 += 0.00000000342 * Math.cos(2.67821304845 + 6148.010769956 * t);
-            L0 += 0.00000000298 * Math.cos(5.91093444215 + 9886.772200064 * t);
-            L0 += 0.00000000299 * Math.cos(5.44077050156 + 10028.9508271002 * t);
-            L0 += 0.00000000315 * Math.cos(1.03304445564 + 3490.1756238344 * t);
-            L0 += 0.00000000369 * Math.cos(3.93279262125 + 1879.5583747534 * t);
-            L0 += 0.00000000304 * Math.cos(4.56372485787 + 7483.5887758458 * t);
-            L0 += 0.00000000330 * Math.cos(3.29725079066 + 286.9623611206 * t);
-            L0 += 0.00000000290 * Math.cos(3.43850024020 + 6418.1409300268 * t);
-            L0 += 0.00000000289 * Math.cos(2.82766045300 + 3171.0322435668 * t);
-            L0 += 0.00000000317 * Math.cos(4.13345374602 + 1883.0814931024 * t);
-            L0 += 0.00000000294 * Math.cos(0.01906732590 + 202.2533951741 * t);
-            L0 += 0.00000000310 * Math.cos(4.37565854379 + 2796.6943676036 * t);
-            L0 += 0.00000000364 * Math.cos(0.54935210242 + 290.4854794696 * t);
-            L0 += 0.00000000291 * Math.cos(2.39413982848 + 29026.48522950779 * t);
-            L0 += 0.00000000286 * Math.cos(5.76562894312 + 5642.1982426092 * t);
-            L0 += 0.00000000392 * Math.cos(3.01171327788 + 10721.108428327 * t);
-            L0 += 0.00000000318 * Math.cos(4.93376925851 + 1197.9701285736 * t);
-            L0 += 0.00000000315 * Math.cos(2.84437840100 + 10610.9021071076 * t);
-            L0 += 0.00000000299 * Math.cos(1.18299169304 + 550.0462844934 * t);
-            L0 += 0.00000000336 * Math.cos(4.30769818760 + 5989.0672521728 * t);
-            L0 += 0.00000000315 * Math.cos(1.41407863340 + 6947.8318951214 * t);
-            L0 += 0.00000000294 * Math.cos(6.16453752963 + 8982.810669309 * t);
-            L0 += 0.00000000285 * Math.cos(2.82644088669 + 9654.612951137 * t);
-            L0 += 0.00000000281 * Math.cos(0.27739627997 + 8166.1573430938 * t);
-            L0 += 0.00000000279 * Math.cos(4.08648927643 + 5355.2358814886 * t);
-            L0 += 0.00000000330 * Math.cos(3.11968019451 + 41.5507909848 * t);
-            L0 += 0.00000000275 * Math.cos(5.89019272334 + 3337.8609160888 * t);
-            L0 += 0.00000000275 * Math.cos(4.00268079937 + 3620.3989310522 * t);
-            L0 += 0.00000000292 * Math.cos(3.06830662617 + 4.3620363898 * t);
-            L0 += 0.00000000317 * Math.cos(0.01919037405 + 2267.003402509 * t);
-            L0 += 0.00000000272 * Math.cos(1.70373580224 + 3742.284548457 * t);
-            L0 += 0.00000000294 * Math.cos(0.16019381973 + 6670.5881880498 * t);
-            L0 += 0.00000000264 * Math.cos(2.07967576148 + 3735.238311759 * t);
-            L0 += 0.00000000262 * Math.cos(4.49437120405 + 6887.4104018368 * t);
-            L0 += 0.00000000307 * Math.cos(3.03375977801 + 6660.8695340008 * t);
-            L0 += 0.00000000280 * Math.cos(0.47728086796 + 5401.4302807716 * t);
-            L0 += 0.00000000268 * Math.cos(0.46331887242 + 6578.132079181 * t);
-            L0 += 0.00000000312 * Math.cos(3.62016422039 + 255.970376372 * t);
-            L0 += 0.00000000278 * Math.cos(5.62032972822 + 3378.7454623376 * t);
-            L0 += 0.00000000268 * Math.cos(2.97528422526 + 21947.11137270 * t);
-            L0 += 0.00000000303 * Math.cos(2.71946492092 + 3313.210870603 * t);
-            L0 += 0.00000000263 * Math.cos(3.85883671333 + 28628.3362260996 * t);
-            L0 += 0.00000000257 * Math.cos(0.25607724431 + 19146.7592661418 * t);
-            L0 += 0.00000000282 * Math.cos(2.29169514758 + 2008.557539159 * t);
-            L0 += 0.00000000301 * Math.cos(0.83275594655 + 2806.9893083421 * t);
-            L0 += 0.00000000264 * Math.cos(3.78635346388 + 3936.7908007088 * t);
-            L0 += 0.00000000254 * Math.cos(1.28062508539 + 95.9792272178 * t);
-            L0 += 0.00000000250 * Math.cos(5.58493858560 + 412.3710968744 * t);
-            L0 += 0.00000000284 * Math.cos(4.71065509252 + 5621.9102335132 * t);
-            L0 += 0.00000000286 * Math.cos(5.11854366190 + 5621.7756129076 * t);
-            L0 += 0.00000000254 * Math.cos(5.77068701321 + 5813.291189322 * t);
-            L0 += 0.00000000311 * Math.cos(2.67573060947 + 912.5702436656 * t);
-            L0 += 0.00000000252 * Math.cos(4.19548440341 + 24.858758816 * t);
-            L0 += 0.00000000255 * Math.cos(1.80023727978 + 3193.8007401762 * t);
-            L0 += 0.00000000247 * Math.cos(2.94199704738 + 310.8407988684 * t);
-            L0 += 0.00000000261 * Math.cos(5.68285399692 + 3133.9116894032 * t);
-            L0 += 0.00000000255 * Math.cos(4.46589323429 + 5490.300961524 * t);
-            L0 += 0.00000000247 * Math.cos(2.28207487665 + 246.251722323 * t);
-            L0 += 0.00000000257 * Math.cos(5.64335704456 + 10706.8813343254 * t);
-            L0 += 0.00000000246 * Math.cos(0.26910281348 + 22.7684966094 * t);
-            L0 += 0.00000000241 * Math.cos(0.03931394254 + 9070.1188738488 * t);
-            L0 += 0.00000000283 * Math.cos(1.30585259585 + 4025.6564809258 * t);
-            L0 += 0.00000000272 * Math.cos(1.28327911416 + 1442.2612087602 * t);
-            L0 += 0.00000000294 * Math.cos(4.02082336381 + 2814.8536148683 * t);
-            L0 += 0.00000000249 * Math.cos(4.92144829429 + 31022.7531708562 * t);
-            L0 += 0.00000000237 * Math.cos(3.07683243726 + 9947.0556815321 * t);
-            L0 += 0.00000000236 * Math.cos(6.05766380360 + 948.1952879016 * t);
-            L0 += 0.00000000309 * Math.cos(3.45153658664 + 25287.7237993998 * t);
-            L0 += 0.00000000232 * Math.cos(4.99538565545 + 1505.28780909299 * t);
-            L0 += 0.00000000275 * Math.cos(1.20294105507 + 6691.8615187494 * t);
-            L0 += 0.00000000305 * Math.cos(2.73902403412 + 176.6937301338 * t);
-            L0 += 0.00000000231 * Math.cos(5.13610567818 + 6997.6167230562 * t);
-            L0 += 0.00000000237 * Math.cos(0.90339496046 + 8.093868069 * t);
-            L0 += 0.00000000229 * Math.cos(0.63250047970 + 23017.0626579362 * t);
-            L0 += 0.00000000249 * Math.cos(6.05357589804 + 2060.8178540718 * t);
-            L0 += 0.00000000270 * Math.cos(2.14769161882 + 2973.3880977374 * t);
-            L0 += 0.00000000241 * Math.cos(4.63019900075 + 1612.9513330316 * t);
-            L0 += 0.00000000227 * Math.cos(5.94537053649 + 2942.4806769438 * t);
-            L0 += 0.00000000269 * Math.cos(5.93687481153 + 4005.3684718298 * t);
-            L0 += 0.00000000227 * Math.cos(3.91459879933 + 2942.4461696394 * t);
-            L0 += 0.00000000238 * Math.cos(5.14570745178 + 721.1392312062 * t);
-            L0 += 0.00000000275 * Math.cos(1.06902528739 + 3343.3639373108 * t);
-            L0 += 0.00000000232 * Math.cos(3.52110290510 + 6674.1786167016 * t);
-            L0 += 0.00000000277 * Math.cos(0.19619249083 + 270.1974703736 * t);
-            L0 += 0.00000000274 * Math.cos(0.30235979008 + 5607.6158292088 * t);
-            L0 += 0.00000000233 * Math.cos(5.75237138576 + 604.8497407048 * t);
-            L0 += 0.00000000214 * Math.cos(3.38626276995 + 647.0108333148 * t);
-            L0 += 0.00000000282 * Math.cos(0.29694635625 + 12323.4230960088 * t);
-            L0 += 0.00000000282 * Math.cos(3.18114716742 + 6364.832983743 * t);
-            L0 += 0.00000000264 * Math.cos(4.64751563064 + 1346.3442913098 * t);
-            L0 += 0.00000000280 * Math.cos(4.64995184564 + 6701.5801727984 * t);
-            L0 += 0.00000000246 * Math.cos(3.03036675631 + 3304.0070613956 * t);
-            L0 += 0.00000000213 * Math.cos(4.80555095681 + 8830.9133882238 * t);
-            L0 += 0.00000000220 * Math.cos(1.54642908481 + 23546.7536230308 * t);
-            L0 += 0.00000000214 * Math.cos(1.35475764936 + 184.8499079702 * t);
-            L0 += 0.00000000228 * Math.cos(4.29420876593 + 2970.9126107594 * t);
-            L0 += 0.00000000229 * Math.cos(2.53361265404 + 3710.3122426402 * t);
-            L0 += 0.00000000273 * Math.cos(1.89943168433 + 270.1301600708 * t);
-            L0 += 0.00000000284 * Math.cos(3.28345980607 + 16063.164847185 * t);
-            L0 += 0.00000000211 * Math.cos(5.84341192825 + 1971.9521738548 * t);
-            L0 += 0.00000000214 * Math.cos(0.22905754741 + 5.1991911658 * t);
-            L0 += 0.00000000246 * Math.cos(4.55971876123 + 6040.3472460174 * t);
-            L0 += 0.00000000229 * Math.cos(1.24432891752 + 3568.0885594888 * t);
-            L0 += 0.00000000216 * Math.cos(3.20098680120 + 362.1211367308 * t);
-            L0 += 0.00000000201 * Math.cos(2.45025935972 + 20426.571092422 * t);
-            L0 += 0.00000000223 * Math.cos(2.07804482295 + 17101.2111369072 * t);
-            L0 += 0.00000000271 * Math.cos(3.49210901141 + 3436.5916539176 * t);
-            L0 += 0.00000000226 * Math.cos(0.42945734871 + 557.0925211914 * t);
-            L0 += 0.00000000264 * Math.cos(5.05794940070 + 2938.9403049426 * t);
-            L0 += 0.00000000207 * Math.cos(6.03491870748 + 22487.3716928416 * t);
-            L0 += 0.00000000197 * Math.cos(5.62923956977 + 5209.471826336 * t);
-            L0 += 0.00000000211 * Math.cos(2.26445749553 + 765.7930644464 * t);
-            L0 += 0.00000000202 * Math.cos(0.88670673933 + 767.8488193486 * t);
-            L0 += 0.00000000212 * Math.cos(1.85965510753 + 4782.87363546 * t);
-            L0 += 0.00000000194 * Math.cos(4.77420671032 + 6850.8050365326 * t);
-            L0 += 0.00000000192 * Math.cos(0.51565572072 + 323.5054166574 * t);
-            L0 += 0.00000000209 * Math.cos(4.79794980231 + 14047.4937610252 * t);
-            L0 += 0.00000000193 * Math.cos(2.56057288512 + 18606.4989460002 * t);
-            L0 += 0.00000000209 * Math.cos(1.46088434217 + 5.8572022996 * t);
-            L0 += 0.00000000214 * Math.cos(0.97578687412 + 17468.8551979454 * t);
-            L0 += 0.00000000196 * Math.cos(4.08789826861 + 3262.8618827159 * t);
-            L0 += 0.00000000198 * Math.cos(3.99111216230 + 10018.2468514476 * t);
-            L0 += 0.00000000235 * Math.cos(1.11133081576 + 625.6701923124 * t);
-            L0 += 0.00000000197 * Math.cos(0.48692287381 + 15106.8756912144 * t);
-            L0 += 0.00000000214 * Math.cos(5.33581901309 + 955.2415245996 * t);
-            L0 += 0.00000000199 * Math.cos(0.40088144456 + 7586.6815500644 * t);
-            L0 += 0.00000000251 * Math.cos(5.57906426342 + 138.5881983844 * t);
-            L0 += 0.00000000208 * Math.cos(4.11480858445 + 1755.062649765 * t);
-            L0 += 0.00000000210 * Math.cos(2.30499661227 + 53.3079462838 * t);
-            L0 += 0.00000000253 * Math.cos(1.27099771143 + 309.2783226558 * t);
-            L0 += 0.00000000242 * Math.cos(3.71426781511 + 3212.5935833624 * t);
-            L0 += 0.00000000178 * Math.cos(3.06961783443 + 1437.1756141986 * t);
-            L0 += 0.00000000203 * Math.cos(0.28410501881 + 582.9989113784 * t);
-            L0 += 0.00000000190 * Math.cos(0.10457198807 + 26087.9031415742 * t);
-            L0 += 0.00000000178 * Math.cos(0.53068485806 + 7366.2689076256 * t);
-            L0 += 0.00000000245 * Math.cos(4.20195166994 + 8436.2875031646 * t);
-            L0 += 0.00000000176 * Math.cos(3.66697456425 + 6688.2710900976 * t);
-            L0 += 0.00000000177 * Math.cos(4.48104044431 + 8799.988713778 * t);
-            L0 += 0.00000000181 * Math.cos(3.57461078885 + 15121.102785216 * t);
-            L0 += 0.00000000198 * Math.cos(3.55065962909 + 24606.13555322 * t);
-            L0 += 0.00000000187 * Math.cos(3.45440079747 + 1329.51209026 * t);
-            L0 += 0.00000000176 * Math.cos(5.81532365473 + 12406.1605508286 * t);
-            L0 += 0.00000000235 * Math.cos(1.28568802052 + 4427.3959129858 * t);
-            L0 += 0.00000000179 * Math.cos(1.55718466444 + 3362.4632560262 * t);
-            L0 += 0.00000000174 * Math.cos(1.61086801253 + 30065.5118402982 * t);
-            L0 += 0.00000000199 * Math.cos(0.07164714815 + 375.7657315702 * t);
-            L0 += 0.00000000174 * Math.cos(4.58412775793 + 3283.7140517642 * t);
-            L0 += 0.00000000171 * Math.cos(5.82189798695 + 23937.856389741 * t);
-            L0 += 0.00000000182 * Math.cos(2.57146189845 + 418.504322807 * t);
-            L0 += 0.00000000168 * Math.cos(5.13131619552 + 21393.5419698576 * t);
-            L0 += 0.00000000183 * Math.cos(4.93161962050 + 9468.267877257 * t);
-            L0 += 0.00000000167 * Math.cos(1.48091400654 + 2619.4731954936 * t);
-            L0 += 0.00000000169 * Math.cos(5.12437031125 + 3223.2925584796 * t);
-            L0 += 0.00000000188 * Math.cos(3.41823914376 + 5032.7780962022 * t);
-            L0 += 0.00000000181 * Math.cos(0.50010974122 + 2125.8774073792 * t);
-            L0 += 0.00000000164 * Math.cos(1.71077130702 + 15849.865751747 * t);
-            L0 += 0.00000000202 * Math.cos(6.21085922593 + 3909.4343007272 * t);
-            L0 += 0.00000000171 * Math.cos(5.86158194602 + 625.6251361972 * t);
-            L0 += 0.00000000165 * Math.cos(3.85569118220 + 13207.029307365 * t);
-            L0 += 0.00000000163 * Math.cos(2.04373367430 + 3347.2960905739 * t);
-            L0 += 0.00000000160 * Math.cos(2.83784244321 + 5888.4499649322 * t);
-            L0 += 0.00000000212 * Math.cos(2.32801112252 + 3232.9489027612 * t);
-            L0 += 0.00000000163 * Math.cos(4.23488695195 + 31968.9486527994 * t);
-            L0 += 0.00000000159 * Math.cos(1.48046671186 + 249.9044607422 * t);
-            L0 += 0.00000000160 * Math.cos(0.21960307161 + 12942.965062924 * t);
-            L0 += 0.00000000220 * Math.cos(3.90787704883 + 9638.9407478762 * t);
-            L0 += 0.00000000161 * Math.cos(2.94093367568 + 3370.0419352358 * t);
-            L0 += 0.00000000159 * Math.cos(5.59017475732 + 1442.2784624124 * t);
-            L0 += 0.00000000221 * Math.cos(3.82548751198 + 1954.7171503636 * t);
-            L0 += 0.00000000192 * Math.cos(4.62595272276 + 3336.6802734367 * t);
-            L0 += 0.00000000164 * Math.cos(1.59200641542 + 386.4196505722 * t);
-            L0 += 0.00000000169 * Math.cos(5.45784867095 + 259.5608050238 * t);
-            L0 += 0.00000000201 * Math.cos(0.95077053594 + 29424.634232916 * t);
-            L0 += 0.00000000174 * Math.cos(1.15216485688 + 6382.0984591304 * t);
-            L0 += 0.00000000163 * Math.cos(1.16606667991 + 4289.7880356696 * t);
-            L0 += 0.00000000187 * Math.cos(3.22135956460 + 2751.5475996916 * t);
-            L0 += 0.00000000162 * Math.cos(4.79372588575 + 24889.5747959916 * t);
-            L0 += 0.00000000192 * Math.cos(0.88040946364 + 5244.049239201 * t);
-            L0 += 0.00000000160 * Math.cos(2.85034784370 + 9374.8264467846 * t);
-            L0 += 0.00000000172 * Math.cos(2.38601254063 + 2281.2477501628 * t);
-            L0 += 0.00000000202 * Math.cos(4.12164786769 + 7321.1221397136 * t);
-            L0 += 0.00000000156 * Math.cos(4.55171204694 + 27682.1407441564 * t);
-            L0 += 0.00000000170 * Math.cos(4.62851491273 + 10824.2012025456 * t);
-            L0 += 0.00000000157 * Math.cos(0.91363725609 + 4503.0871311076 * t);
-            L0 += 0.00000000156 * Math.cos(5.58255618318 + 10448.4354709754 * t);
-            L0 += 0.00000000157 * Math.cos(0.92229160815 + 15636.566656309 * t);
-            L0 += 0.00000000171 * Math.cos(5.43820628341 + 11904.9187732018 * t);
-            L0 += 0.00000000180 * Math.cos(1.89091405241 + 13575.7488022372 * t);
-            L0 += 0.00000000198 * Math.cos(4.42539692212 + 10025.4277087512 * t);
-            L0 += 0.00000000158 * Math.cos(4.12087914642 + 11240.1627280718 * t);
-            L0 += 0.00000000211 * Math.cos(2.42218772392 + 8749.1562544722 * t);
-            L0 += 0.00000000183 * Math.cos(1.47934835951 + 6677.3435180416 * t);
-            L0 += 0.00000000197 * Math.cos(1.43469282909 + 14061.7208550268 * t);
-            L0 += 0.00000000170 * Math.cos(4.32424842659 + 742.9900605326 * t);
-            L0 += 0.00000000170 * Math.cos(2.92905324873 + 9093.9973115966 * t);
-            L0 += 0.00000000160 * Math.cos(2.79797608932 + 1461.0540519464 * t);
-            L0 += 0.00000000174 * Math.cos(5.37738922471 + 3318.7615973734 * t);
-            L0 += 0.00000000172 * Math.cos(0.35524089578 + 2281.2132428584 * t);
-            L0 += 0.00000000147 * Math.cos(2.76602235522 + 4193.8088084518 * t);
-            L0 += 0.00000000151 * Math.cos(4.23962231148 + 3368.0139827966 * t);
-            L0 += 0.00000000157 * Math.cos(1.01295201512 + 24336.0053931492 * t);
-            L0 += 0.00000000165 * Math.cos(0.58335652806 + 15906.7641266826 * t);
-            L0 += 0.00000000149 * Math.cos(5.69553079999 + 31570.7996493912 * t);
-            L0 += 0.00000000154 * Math.cos(5.28504381510 + 1481.4093713452 * t);
-            L0 += 0.00000000163 * Math.cos(1.81288628510 + 18849.2275499742 * t);
-            L0 += 0.00000000145 * Math.cos(3.57053080979 + 3497.0131472022 * t);
-            L0 += 0.00000000156 * Math.cos(3.56978076425 + 21791.69097326579 * t);
-            L0 += 0.00000000143 * Math.cos(0.56704903096 + 13212.8865096646 * t);
-            L0 += 0.00000000155 * Math.cos(0.08429188155 + 6657.3464156518 * t);
-            L0 += 0.00000000184 * Math.cos(2.54999403339 + 24076.4445881254 * t);
-            L0 += 0.00000000146 * Math.cos(1.16594990123 + 526.1678467456 * t);
-            L0 += 0.00000000144 * Math.cos(4.19229335185 + 2771.7905526724 * t);
-            L0 += 0.00000000169 * Math.cos(3.10771037057 + 239.205485625 * t);
-            L0 += 0.00000000144 * Math.cos(6.26688878164 + 6679.7403806913 * t);
-            L0 += 0.00000000174 * Math.cos(2.37509025280 + 3397.5108016354 * t);
-            L0 += 0.00000000163 * Math.cos(3.88047919138 + 16703.0448798468 * t);
-            L0 += 0.00000000161 * Math.cos(1.73958633312 + 2185.2512692928 * t);
-            L0 += 0.00000000164 * Math.cos(0.62146994730 + 1538.240435978 * t);
-            L0 += 0.00000000182 * Math.cos(6.16856014864 + 6685.1061887576 * t);
-            L0 += 0.00000000140 * Math.cos(4.08200595943 + 4186.695261451 * t);
-            L0 += 0.00000000192 * Math.cos(4.47709998867 + 57.8786960038 * t);
-            L0 += 0.00000000151 * Math.cos(3.06451266512 + 838.9692877504 * t);
-            L0 += 0.00000000139 * Math.cos(1.12767399649 + 6682.7093261079 * t);
-            L0 += 0.00000000187 * Math.cos(4.97174626997 + 6681.6547365263 * t);
-            L0 += 0.00000000150 * Math.cos(5.69209290362 + 9360.6043533184 * t);
-            L0 += 0.00000000160 * Math.cos(5.66336382679 + 10927.2939767642 * t);
-            L0 += 0.00000000137 * Math.cos(3.46860408347 + 5562.4690612968 * t);
-            L0 += 0.00000000192 * Math.cos(5.27908098216 + 34363.365597556 * t);
-            L0 += 0.00000000137 * Math.cos(5.87023088486 + 2945.9865416406 * t);
-            L0 += 0.00000000180 * Math.cos(1.07686767816 + 15806.146839442 * t);
-            L0 += 0.00000000135 * Math.cos(0.34109799474 + 7322.1024607818 * t);
-            L0 += 0.00000000169 * Math.cos(2.27408583150 + 379.3734138742 * t);
-            L0 += 0.00000000172 * Math.cos(3.83276777655 + 6621.850991486 * t);
-            L0 += 0.00000000134 * Math.cos(0.89486611090 + 13286.1836355236 * t);
-            L0 += 0.00000000168 * Math.cos(3.24434245132 + 11614.4332937322 * t);
-            L0 += 0.00000000135 * Math.cos(6.03727673544 + 1214.8023296234 * t);
-            L0 += 0.00000000150 * Math.cos(0.81912738038 + 3416.8784979754 * t);
-            L0 += 0.00000000136 * Math.cos(5.06627117467 + 14421.8316369884 * t);
-            L0 += 0.00000000138 * Math.cos(5.19336961955 + 13363.4300278674 * t);
-            L0 += 0.00000000163 * Math.cos(5.91124428824 + 16703.07938715119 * t);
-            L0 += 0.00000000181 * Math.cos(3.31978654659 + 139.6981395228 * t);
-            L0 += 0.00000000162 * Math.cos(4.05905033891 + 1795.258443721 * t);
-            L0 += 0.00000000132 * Math.cos(0.40901506100 + 1083.260367937 * t);
-            L0 += 0.00000000156 * Math.cos(0.12304144640 + 1107.1388056848 * t);
-            L0 += 0.00000000158 * Math.cos(6.25022915072 + 6666.997759398 * t);
-            L0 += 0.00000000131 * Math.cos(3.95250083817 + 3.4558080462 * t);
-            L0 += 0.00000000147 * Math.cos(4.94673462086 + 15010.8964639966 * t);
-            L0 += 0.00000000140 * Math.cos(6.13853404667 + 12729.665967486 * t);
-            L0 += 0.00000000131 * Math.cos(5.43398849473 + 25665.5174834092 * t);
-            L0 += 0.00000000135 * Math.cos(5.06017183369 + 11876.469585734 * t);
-            L0 += 0.00000000128 * Math.cos(2.86969332730 + 6549.6828917132 * t);
-            L0 += 0.00000000174 * Math.cos(5.18169887171 + 28230.18722269139 * t);
-            L0 += 0.00000000179 * Math.cos(3.25589354429 + 4922.5717749828 * t);
-            L0 += 0.00000000139 * Math.cos(5.33624615245 + 23958.6317852334 * t);
-            L0 += 0.00000000127 * Math.cos(5.78406495652 + 14577.1847261198 * t);
-            L0 += 0.00000000128 * Math.cos(1.27276688747 + 8584.6616659008 * t);
-            L0 += 0.00000000133 * Math.cos(0.39052474466 + 12410.7313005486 * t);
-            L0 += 0.00000000134 * Math.cos(1.09641189843 + 8962.438096258 * t);
-            L0 += 0.00000000125 * Math.cos(3.20445201519 + 29.8820436102 * t);
-            L0 += 0.00000000136 * Math.cos(3.62250122667 + 3511.285297319 * t);
-            L0 += 0.00000000162 * Math.cos(5.36465149996 + 2472.6787626222 * t);
-            L0 += 0.00000000150 * Math.cos(0.40179894287 + 1111.642245102 * t);
-            L0 += 0.00000000129 * Math.cos(1.94909076932 + 19645.5255567906 * t);
-            L0 += 0.00000000172 * Math.cos(5.21328160366 + 6747.712262314 * t);
-            L0 += 0.00000000126 * Math.cos(4.39378462616 + 21548.9623692918 * t);
-            L0 += 0.00000000146 * Math.cos(3.85987749053 + 13361.469385731 * t);
-            L0 += 0.00000000156 * Math.cos(5.24740844581 + 6645.1969867222 * t);
-            L0 += 0.00000000137 * Math.cos(4.94588047257 + 20995.3929664494 * t);
-            L0 += 0.00000000131 * Math.cos(1.72431469184 + 11925.2740926006 * t);
-            L0 += 0.00000000136 * Math.cos(2.04268940441 + 10654.6210194126 * t);
-            L0 += 0.00000000140 * Math.cos(1.54439148652 + 8219.4652893776 * t);
-            L0 += 0.00000000127 * Math.cos(6.16695075115 + 10016.314355792 * t);
-            L0 += 0.00000000155 * Math.cos(5.47145482987 + 2.9689454166 * t);
-            L0 += 0.00000000132 * Math.cos(6.25626202928 + 13227.3846267638 * t);
-            L0 += 0.00000000121 * Math.cos(3.74135485334 + 10294.510237451 * t);
-            L0 += 0.00000000134 * Math.cos(3.12718351732 + 8962.4726035624 * t);
-            L0 += 0.00000000122 * Math.cos(0.77282907794 + 4936.7988689844 * t);
-            L0 += 0.00000000125 * Math.cos(4.23213631052 + 15650.7937503106 * t);
-            L0 += 0.00000000157 * Math.cos(1.79175545524 + 16489.763038061 * t);
-            L0 += 0.00000000155 * Math.cos(4.15655698197 + 56.3831860762 * t);
-            L0 += 0.00000000134 * Math.cos(1.53268827347 + 708.98980227659 * t);
-            L0 += 0.00000000136 * Math.cos(4.01025697673 + 9797.4924843975 * t);
-            L0 += 0.00000000156 * Math.cos(4.61556268820 + 3354.8395207014 * t);
-            L0 += 0.00000000131 * Math.cos(4.47476808853 + 11776.8999298644 * t);
-            L0 += 0.00000000118 * Math.cos(1.17466010141 + 4606.1799053262 * t);
-            L0 += 0.00000000128 * Math.cos(0.12648796247 + 6681.6449294932 * t);
-            L0 += 0.00000000122 * Math.cos(0.13511377940 + 8322.5580635962 * t);
-            L0 += 0.00000000119 * Math.cos(1.29139116350 + 10544.4146981932 * t);
-            L0 += 0.00000000128 * Math.cos(4.44966050740 + 13465.5424810178 * t);
-            L0 += 0.00000000119 * Math.cos(4.01709629990 + 14481.205498902 * t);
-            L0 += 0.00000000147 * Math.cos(1.81590279650 + 685.1113645288 * t);
-            L0 += 0.00000000137 * Math.cos(4.78402836071 + 3613.2853840514 * t);
-            L0 += 0.00000000151 * Math.cos(1.48428558337 + 9698.331863442 * t);
-            L0 += 0.00000000136 * Math.cos(2.47757608387 + 10156.9023601348 * t);
-            L0 += 0.00000000123 * Math.cos(2.42353206298 + 6.1332259326 * t);
-            L0 += 0.00000000117 * Math.cos(5.40635440024 + 688.6344828778 * t);
-            L0 += 0.00000000153 * Math.cos(5.00372030984 + 14556.8967170238 * t);
-            L0 += 0.00000000133 * Math.cos(3.15773785434 + 1125.8693391036 * t);
-            L0 += 0.00000000153 * Math.cos(1.94292660454 + 6533.1461289733 * t);
-            L0 += 0.00000000124 * Math.cos(4.94608245253 + 12825.6451947038 * t);
-            L0 += 0.00000000117 * Math.cos(1.13528750738 + 4452.2546718018 * t);
-            L0 += 0.00000000115 * Math.cos(3.34121813462 + 10001.48196070061 * t);
-            L0 += 0.00000000115 * Math.cos(3.44586362144 + 7696.8878712838 * t);
-            L0 += 0.00000000117 * Math.cos(0.72489390402 + 27.4688663996 * t);
-            L0 += 0.00000000132 * Math.cos(2.41318250916 + 6717.252720077 * t);
-            L0 += 0.00000000118 * Math.cos(0.35995031424 + 27832.0382192832 * t);
-            L0 += 0.00000000157 * Math.cos(1.73929012934 + 11560.0777160774 * t);
-            L0 += 0.00000000148 * Math.cos(2.14023976341 + 15265.8865193004 * t);
-            L0 += 0.00000000113 * Math.cos(1.29183863745 + 26880.3198130326 * t);
-            L0 += 0.00000000151 * Math.cos(0.95890610457 + 6530.1771835567 * t);
-            L0 += 0.00000000153 * Math.cos(5.62679784282 + 9911.63095888 * t);
-            L0 += 0.00000000157 * Math.cos(0.09791378159 + 138.5174968707 * t);
-            L0 += 0.00000000119 * Math.cos(2.16883964744 + 7082.8969751568 * t);
-            L0 += 0.00000000113 * Math.cos(5.43102427558 + 422.027441156 * t);
-            L0 += 0.00000000130 * Math.cos(2.13493506322 + 117.812802892 * t);
-            L0 += 0.00000000140 * Math.cos(2.51194591630 + 28.9816299794 * t);
-            L0 += 0.00000000128 * Math.cos(1.23822751200 + 6680.804777306 * t);
-            L0 += 0.00000000111 * Math.cos(4.60294776614 + 25135.8265183146 * t);
-            L0 += 0.00000000118 * Math.cos(0.34226497704 + 4140.4335518652 * t);
-            L0 += 0.00000000112 * Math.cos(4.02233737541 + 6314.0005244372 * t);
-            L0 += 0.00000000134 * Math.cos(3.35926214730 + 11247.2089647698 * t);
-            L0 += 0.00000000120 * Math.cos(6.09430372868 + 4106.4054911462 * t);
-            L0 += 0.00000000117 * Math.cos(0.03006245187 + 7.6737919754 * t);
-            L0 += 0.00000000109 * Math.cos(3.62630036582 + 3344.11829139661 * t);
-            L0 += 0.00000000109 * Math.cos(1.94277745743 + 16702.9948231962 * t);
-            L0 += 0.00000000114 * Math.cos(4.87315937546 + 6151.5166346528 * t);
-            L0 += 0.00000000109 * Math.cos(5.65707270595 + 3344.152798701 * t);
-            L0 += 0.00000000108 * Math.cos(0.72637519191 + 10.569355047 * t);
-            L0 += 0.00000000128 * Math.cos(5.77326416186 + 13369.56325380 * t);
-            L0 += 0.00000000147 * Math.cos(4.73848506543 + 11610.9101753832 * t);
-            L0 += 0.00000000145 * Math.cos(4.95495312886 + 9859.3706439672 * t);
-            L0 += 0.00000000111 * Math.cos(3.28808788953 + 257.018007743 * t);
-            L0 += 0.00000000112 * Math.cos(4.79777726412 + 12140.6011404778 * t);
-            L0 += 0.00000000109 * Math.cos(3.73199687068 + 13635.1226641508 * t);
-            L0 += 0.00000000117 * Math.cos(1.20057736014 + 6705.1032911474 * t);
-            L0 += 0.00000000149 * Math.cos(4.91688353237 + 277.0349937414 * t);
-            L0 += 0.00000000108 * Math.cos(3.37299798972 + 6717.8302187038 * t);
-            L0 += 0.00000000106 * Math.cos(0.53379407701 + 5085.1057214178 * t);
-            L0 += 0.00000000125 * Math.cos(4.62770076269 + 9329.6796788726 * t);
-            L0 += 0.00000000107 * Math.cos(4.60288570375 + 1957.7250798532 * t);
-            L0 += 0.00000000113 * Math.cos(4.04786119569 + 6953.8978107512 * t);
-            L0 += 0.00000000106 * Math.cos(0.75378922686 + 149.8974751268 * t);
-            L0 += 0.00000000114 * Math.cos(0.62074562387 + 6151.5511419572 * t);
-            L0 += 0.00000000108 * Math.cos(5.22204692781 + 1556.5681469554 * t);
-            L0 += 0.00000000104 * Math.cos(1.02502614223 + 4878.8528626778 * t);
-            L0 += 0.00000000133 * Math.cos(1.15811543786 + 816.6533262152 * t);
-            L0 += 0.00000000134 * Math.cos(1.69834857217 + 183.869586902 * t);
-            L0 += 0.00000000104 * Math.cos(2.58832774275 + 14591.4118201214 * t);
-            L0 += 0.00000000107 * Math.cos(4.42117075795 + 7.130800653 * t);
-            L0 += 0.00000000126 * Math.cos(0.03750399181 + 16.83220104979 * t);
-            L0 += 0.00000000102 * Math.cos(1.20624870972 + 11986.6759069534 * t);
-            L0 += 0.00000000102 * Math.cos(2.97579561878 + 29822.7832363242 * t);
-            L0 += 0.00000000116 * Math.cos(4.73049067619 + 13366.040135451 * t);
-            L0 += 0.00000000130 * Math.cos(4.10484632841 + 35.6077905838 * t);
-            L0 += 0.00000000113 * Math.cos(3.69200525056 + 44.6538332402 * t);
-            L0 += 0.00000000111 * Math.cos(5.12900291511 + 146.7944328714 * t);
-            L0 += 0.00000000126 * Math.cos(1.82187459534 + 26887.3660497306 * t);
-            L0 += 0.00000000121 * Math.cos(6.08309355316 + 7100.7094972748 * t);
-            L0 += 0.00000000105 * Math.cos(6.16606590276 + 9175.7544453482 * t);
-            L0 += 0.00000000132 * Math.cos(2.97955203077 + 1250.8301963008 * t);
-            L0 += 0.00000000106 * Math.cos(5.08419485009 + 8742.0427074714 * t);
-            L0 += 0.00000000120 * Math.cos(0.59116561391 + 31172.650645983 * t);
-            L0 += 0.00000000112 * Math.cos(3.70888430091 + 10050.2864675672 * t);
-            L0 += 0.00000000100 * Math.cos(1.82077956276 + 12012.5822971404 * t);
-            L0 += 0.00000000107 * Math.cos(4.86100312387 + 7899.550301372 * t);
-            L0 += 0.00000000099 * Math.cos(0.72997085174 + 18977.1790830088 * t);
-            L0 += 0.00000000107 * Math.cos(5.25025570307 + 63.7358983034 * t);
-            L0 += 0.00000000099 * Math.cos(2.79139996703 + 17932.0242468212 * t);
-            L0 += 0.00000000097 * Math.cos(4.94370173613 + 28109.214616052 * t);
-            L0 += 0.00000000122 * Math.cos(4.18676567644 + 19617.07636932279 * t);
-            L0 += 0.00000000121 * Math.cos(3.14207351411 + 9278.8472195668 * t);
-            L0 += 0.00000000112 * Math.cos(1.43537110436 + 16232.745030318 * t);
-            L0 += 0.00000000096 * Math.cos(2.57929371627 + 12715.4388734844 * t);
-            L0 += 0.00000000096 * Math.cos(2.51396484677 + 3535.5838111604 * t);
-            L0 += 0.00000000112 * Math.cos(6.19137312195 + 6685.1570066627 * t);
-            L0 += 0.00000000109 * Math.cos(1.53428110338 + 16703.1294438018 * t);
-            L0 += 0.00000000096 * Math.cos(4.29245810274 + 7906.59653807 * t);
-            L0 += 0.00000000096 * Math.cos(3.08847844641 + 3468.6312700372 * t);
-            L0 += 0.00000000095 * Math.cos(6.09186084700 + 10037.0897512844 * t);
-            L0 += 0.00000000094 * Math.cos(1.79812841802 + 20047.1976785478 * t);
-            L0 += 0.00000000110 * Math.cos(4.24859410294 + 3337.0720546986 * t);
-            L0 += 0.00000000093 * Math.cos(2.17945548408 + 16066.0658614748 * t);
-            L0 += 0.00000000115 * Math.cos(5.44548079869 + 11353.8921676402 * t);
-            L0 += 0.00000000098 * Math.cos(1.89605054783 + 33406.124266998 * t);
-            L0 += 0.00000000101 * Math.cos(3.00793005829 + 3528.5375744624 * t);
-            L0 += 0.00000000096 * Math.cos(5.40659912420 + 5749.8617665478 * t);
-            L0 += 0.00000000113 * Math.cos(3.93443805059 + 7167.1969061892 * t);
-            L0 += 0.00000000092 * Math.cos(3.58985964414 + 6724.9437657046 * t);
-            L0 += 0.00000000119 * Math.cos(3.90561570260 + 11346.7786206394 * t);
-            L0 += 0.00000000097 * Math.cos(2.57280790230 + 1747.6073781529 * t);
-            L0 += 0.00000000118 * Math.cos(3.82111723459 + 9072.6616711296 * t);
-            L0 += 0.00000000096 * Math.cos(0.72646224606 + 3152.68727893721 * t);
-            L0 += 0.00000000092 * Math.cos(6.23928508055 + 24491.4257925834 * t);
-            L0 += 0.00000000099 * Math.cos(1.86991802881 + 72.0557333548 * t);
-            L0 += 0.00000000094 * Math.cos(1.51091806861 + 9801.4246376606 * t);
-            L0 += 0.00000000091 * Math.cos(4.94377681711 + 8756.269801473 * t);
-            L0 += 0.00000000095 * Math.cos(2.58771497236 + 11663.170490296 * t);
-            L0 += 0.00000000093 * Math.cos(0.66092443320 + 30.9919847486 * t);
-            L0 += 0.00000000088 * Math.cos(2.47386826588 + 17232.7530985936 * t);
-            L0 += 0.00000000100 * Math.cos(0.19616913512 + 11883.5831327348 * t);
-            L0 += 0.00000000094 * Math.cos(0.61277732908 + 73.6354632196 * t);
-            L0 += 0.00000000091 * Math.cos(6.04139177526 + 153.9252335244 * t);
-            L0 += 0.00000000095 * Math.cos(0.30865798871 + 29168.5965462412 * t);
-            L0 += 0.00000000110 * Math.cos(6.27936643935 + 3337.106562003 * t);
-            L0 += 0.00000000087 * Math.cos(2.09287965409 + 10264.5658840734 * t);
-            L0 += 0.00000000089 * Math.cos(3.27633365389 + 3002.3697277168 * t);
-            L0 += 0.00000000091 * Math.cos(1.89622049447 + 37895.4262903674 * t);
-            L0 += 0.00000000118 * Math.cos(3.88268323672 + 1236.075660323 * t);
-            L0 += 0.00000000094 * Math.cos(2.27819061990 + 4845.9002357928 * t);
-            L0 += 0.00000000085 * Math.cos(3.07438636612 + 9983.7042444616 * t);
-            L0 += 0.00000000086 * Math.cos(3.94463425808 + 16.764890747 * t);
-            L0 += 0.00000000099 * Math.cos(4.58890225582 + 3774.3241645766 * t);
-            L0 += 0.00000000086 * Math.cos(1.27758598252 + 34513.2630726828 * t);
-            L0 += 0.00000000118 * Math.cos(6.10625309129 + 454.9093665273 * t);
-            L0 += 0.00000000096 * Math.cos(6.08772700197 + 1755.4716846791 * t);
-            L0 += 0.00000000085 * Math.cos(4.73193631802 + 4576.6880870228 * t);
-            L0 += 0.00000000116 * Math.cos(0.88573303872 + 16511.6138673874 * t);
-            L0 += 0.00000000083 * Math.cos(3.13948373813 + 10191.4174632324 * t);
-            L0 += 0.00000000083 * Math.cos(0.36972674664 + 9755.2302383776 * t);
-            L0 += 0.00000000112 * Math.cos(2.26524635842 + 10006.5848089144 * t);
-            L0 += 0.00000000087 * Math.cos(4.25461508452 + 8.1681365824 * t);
-            L0 += 0.00000000087 * Math.cos(5.31716927554 + 1868.8593996362 * t);
-            L0 += 0.00000000115 * Math.cos(3.30507830050 + 14157.7000822446 * t);
-            L0 += 0.00000000087 * Math.cos(2.90507350729 + 36.995590611 * t);
-            L0 += 0.00000000083 * Math.cos(3.58400049244 + 12928.7379689224 * t);
-            L0 += 0.00000000086 * Math.cos(2.46839611271 + 113.7294395684 * t);
-            L0 += 0.00000000096 * Math.cos(2.99829695985 + 6510.5519827804 * t);
-            L0 += 0.00000000084 * Math.cos(1.34333260788 + 4133.3873151672 * t);
-            L0 += 0.00000000093 * Math.cos(2.41895388985 + 20040.15144184979 * t);
-            L0 += 0.00000000085 * Math.cos(5.92093268818 + 12299.544658261 * t);
-            L0 += 0.00000000082 * Math.cos(4.71321236549 + 7733.493236588 * t);
-            L0 += 0.00000000081 * Math.cos(5.26971110105 + 12199.9750023914 * t);
-            L0 += 0.00000000080 * Math.cos(4.34410099751 + 7218.029365495 * t);
-            L0 += 0.00000000095 * Math.cos(0.02613500045 + 2.9010142898 * t);
-            L0 += 0.00000000094 * Math.cos(6.22018441621 + 20043.69181385099 * t);
-            L0 += 0.00000000085 * Math.cos(4.66573809999 + 8638.9499332528 * t);
-            L0 += 0.00000000079 * Math.cos(2.89839604813 + 22854.596021804 * t);
-            L0 += 0.00000000104 * Math.cos(0.94882888784 + 2735.762685995 * t);
-            L0 += 0.00000000080 * Math.cos(1.68097745917 + 12839.8722887054 * t);
-            L0 += 0.00000000085 * Math.cos(1.95515305721 + 4686.95671800959 * t);
-            L0 += 0.00000000094 * Math.cos(0.58147434179 + 14128.2427712456 * t);
-            L0 += 0.00000000091 * Math.cos(1.16317999954 + 3495.9655158312 * t);
-            L0 += 0.00000000084 * Math.cos(4.04104644774 + 9815.6517316622 * t);
-            L0 += 0.00000000082 * Math.cos(1.83662951627 + 19190.4781784468 * t);
-            L0 += 0.00000000080 * Math.cos(4.04733274699 + 3188.7151456146 * t);
-            L0 += 0.00000000084 * Math.cos(2.71620952175 + 12089.768681172 * t);
-            L0 += 0.00000000080 * Math.cos(2.77363158210 + 9495.6694333538 * t);
-            L0 += 0.00000000078 * Math.cos(5.77285430206 + 10397.6030116696 * t);
-            L0 += 0.00000000084 * Math.cos(0.78188080031 + 7214.4389368432 * t);
-            L0 += 0.00000000094 * Math.cos(2.14762315943 + 13532.0298899322 * t);
-            L0 += 0.00000000101 * Math.cos(5.76349087526 + 1484.9324896942 * t);
-            L0 += 0.00000000082 * Math.cos(3.11421789241 + 8446.9914788172 * t);
-            L0 += 0.00000000096 * Math.cos(5.85152670536 + 3492.509707785 * t);
-            L0 += 0.00000000079 * Math.cos(4.69625309523 + 5298.337506553 * t);
-            L0 += 0.00000000097 * Math.cos(3.97960395898 + 18208.349942592 * t);
-            L0 += 0.00000000105 * Math.cos(1.74376904536 + 36.6485629295 * t);
-            L0 += 0.00000000094 * Math.cos(4.18941238607 + 20043.6573065466 * t);
-            L0 += 0.00000000075 * Math.cos(3.46629875063 + 13341.6743113068 * t);
-            L0 += 0.00000000092 * Math.cos(2.67278833288 + 6680.7949702729 * t);
-            L0 += 0.00000000075 * Math.cos(4.59723160021 + 9993.3880926316 * t);
-            L0 += 0.00000000087 * Math.cos(0.91979096638 + 8425.7181481176 * t);
-            L0 += 0.00000000074 * Math.cos(0.42228487063 + 48429.2821823244 * t);
-            L0 += 0.00000000074 * Math.cos(0.48470953224 + 11456.9849418588 * t);
-            L0 += 0.00000000077 * Math.cos(0.10707484151 + 1371.411763456 * t);
-            L0 += 0.00000000093 * Math.cos(1.38010528069 + 3145.6410422392 * t);
-            L0 += 0.00000000075 * Math.cos(5.28061257070 + 12306.590894959 * t);
-            L0 += 0.00000000079 * Math.cos(3.78666386040 + 7.5786792096 * t);
-            L0 += 0.00000000073 * Math.cos(4.42902162523 + 14.7372823256 * t);
-            L0 += 0.00000000084 * Math.cos(3.41538432898 + 6637.5059410946 * t);
-            L0 += 0.00000000093 * Math.cos(3.41302342683 + 1596.1191319818 * t);
-            L0 += 0.00000000071 * Math.cos(3.13537213242 + 9488.6231966558 * t);
-            L0 += 0.00000000079 * Math.cos(2.33442828498 + 12465.5344127422 * t);
-            L0 += 0.00000000078 * Math.cos(2.21525134547 + 2810.988771908 * t);
-            L0 += 0.00000000099 * Math.cos(0.48801369293 + 17499.3601403154 * t);
-            L0 += 0.00000000075 * Math.cos(4.10299895268 + 5525.8636959926 * t);
-            L0 += 0.00000000071 * Math.cos(4.04186021414 + 259.493494721 * t);
-            L0 += 0.00000000073 * Math.cos(2.20102876718 + 30774.5016425748 * t);
-            L0 += 0.00000000074 * Math.cos(4.93439968296 + 13517.8027959306 * t);
-            L0 += 0.00000000071 * Math.cos(5.32625652676 + 6670.1791531357 * t);
-            L0 += 0.00000000078 * Math.cos(2.17664185326 + 13421.8235687128 * t);
-            L0 += 0.00000000088 * Math.cos(5.38469204503 + 17762.4440636882 * t);
-            L0 += 0.00000000081 * Math.cos(2.48353174238 + 73.6009559152 * t);
-            L0 += 0.00000000092 * Math.cos(1.13088448190 + 7747.7203305896 * t);
-            L0 += 0.00000000070 * Math.cos(1.16361323015 + 5220.1708014532 * t);
-            L0 += 0.00000000084 * Math.cos(5.83220387910 + 22.3782713026 * t);
-            L0 += 0.00000000076 * Math.cos(5.21065604639 + 4271.9755135516 * t);
-            L0 += 0.00000000080 * Math.cos(4.01817623627 + 3311.18291816379 * t);
-            L0 += 0.00000000068 * Math.cos(2.45937697940 + 6279.5527316424 * t);
-            L0 += 0.00000000067 * Math.cos(4.31723563048 + 2281.2978068134 * t);
-            L0 += 0.00000000067 * Math.cos(4.88776321797 + 4379.6390374902 * t);
-            L0 += 0.00000000069 * Math.cos(3.57006764536 + 14955.045720432 * t);
-            L0 += 0.00000000078 * Math.cos(2.62374773232 + 2810.8541513024 * t);
-            L0 += 0.00000000067 * Math.cos(4.76301301456 + 6812.766815086 * t);
-            L0 += 0.00000000070 * Math.cos(5.60319851277 + 13383.2251022916 * t);
-            L0 += 0.00000000070 * Math.cos(3.05647570196 + 10081.211142013 * t);
-            L0 += 0.00000000081 * Math.cos(4.91537623765 + 3333.9287628257 * t);
-            L0 += 0.00000000082 * Math.cos(5.49204987110 + 5483.254724826 * t);
-            L0 += 0.00000000065 * Math.cos(3.50466797067 + 9161.5273513466 * t);
-            L0 += 0.00000000065 * Math.cos(2.79212460026 + 13497.5147868346 * t);
-            L0 += 0.00000000070 * Math.cos(0.93640431668 + 6106.8800550648 * t);
-            L0 += 0.00000000073 * Math.cos(2.57583496978 + 6614.7374444852 * t);
-            L0 += 0.00000000070 * Math.cos(0.84170070580 + 16695.94858649819 * t);
-            L0 += 0.00000000069 * Math.cos(1.10040627005 + 2544.3316735356 * t);
-            L0 += 0.00000000063 * Math.cos(6.05841309176 + 6453.7487206106 * t);
-            L0 += 0.00000000069 * Math.cos(2.67053540192 + 2641.3412784722 * t);
-            L0 += 0.00000000086 * Math.cos(1.73112264739 + 6286.5989683404 * t);
-            L0 += 0.00000000062 * Math.cos(5.49002783256 + 4957.0868780804 * t);
-            L0 += 0.00000000072 * Math.cos(3.38857910283 + 3184.2117061974 * t);
-            L0 += 0.00000000069 * Math.cos(5.35281990892 + 2544.2971662312 * t);
-            L0 += 0.00000000064 * Math.cos(4.79175268505 + 3181.6689089166 * t);
-            L0 += 0.00000000060 * Math.cos(6.18449904353 + 3361.9480671668 * t);
-            L0 += 0.00000000065 * Math.cos(1.48236627574 + 4819.4790007642 * t);
-            L0 += 0.00000000054 * Math.cos(3.66018290396 + 2917.5373541728 * t);
-            L0 += 0.00000000064 * Math.cos(4.72286914683 + 2281.1631862078 * t);
-            L0 += 0.00000000053 * Math.cos(4.65521663671 + 3448.2759506384 * t);
-            L0 += 0.00000000060 * Math.cos(0.77450276964 + 3319.2767862328 * t);
-            L0 += 0.00000000051 * Math.cos(1.45142985881 + 3547.3131639964 * t);
-            L0 += 0.00000000051 * Math.cos(4.81258158513 + 4403.517475238 * t);
-            L0 += 0.00000000050 * Math.cos(0.37366902835 + 3322.7999045818 * t);
-            L0 += 0.00000000050 * Math.cos(4.68787711774 + 3253.30422216 * t);
-            L0 += 0.00000000067 * Math.cos(4.63578431535 + 4694.0029547076 * t);
-            L0 += 0.00000000049 * Math.cos(3.17471347671 + 5452.2627400774 * t);
-            L0 += 0.00000000051 * Math.cos(2.54791773443 + 4001.8453534808 * t);
-            L0 += 0.00000000048 * Math.cos(2.81171553464 + 3372.5847325166 * t);
-            L0 += 0.00000000054 * Math.cos(4.45945188023 + 10284.9212034722 * t);
-            L0 += 0.00000000053 * Math.cos(3.85131213520 + 9758.7533567266 * t);
-            L0 += 0.00000000051 * Math.cos(1.11244863072 + 6901.6374958384 * t);
-            L0 += 0.00000000062 * Math.cos(1.42198009630 + 6830.7880505342 * t);
-            L0 += 0.00000000055 * Math.cos(5.61672988180 + 45494.58142974879 * t);
-            L0 += 0.00000000054 * Math.cos(0.61701959453 + 4716.3862265456 * t);
-            L0 += 0.00000000054 * Math.cos(4.28556326526 + 2910.4911174748 * t);
-            L0 += 0.00000000045 * Math.cos(3.14626081312 + 13951.5145338074 * t);
-            L0 += 0.00000000050 * Math.cos(4.16235480519 + 12979.553174576 * t);
-            L0 += 0.00000000046 * Math.cos(1.66182208107 + 7768.0083396856 * t);
-            L0 += 0.00000000045 * Math.cos(5.07701425888 + 14951.522602083 * t);
-            L0 += 0.00000000043 * Math.cos(4.31723459530 + 5881.4037282342 * t);
-            L0 += 0.00000000045 * Math.cos(2.39713581676 + 8852.2490286908 * t);
-            L0 += 0.00000000043 * Math.cos(2.10202660495 + 3337.1566186536 * t);
-            L0 += 0.00000000048 * Math.cos(0.19934255781 + 1905.4647649404 * t);
-            L0 += 0.00000000056 * Math.cos(5.25687695855 + 12808.8803039568 * t);
-            L0 += 0.00000000049 * Math.cos(2.06320966659 + 4296.9015826704 * t);
-            L0 += 0.00000000042 * Math.cos(6.07282126953 + 4295.8539512994 * t);
-            L0 += 0.00000000043 * Math.cos(1.74571613780 + 3130.8364496108 * t);
-            L0 += 0.00000000050 * Math.cos(2.27112469544 + 3427.9206312396 * t);
-            L0 += 0.00000000050 * Math.cos(0.30214747765 + 3358.4249488178 * t);
-            L0 += 0.00000000043 * Math.cos(5.05297177283 + 3229.4257844122 * t);
-            L0 += 0.00000000054 * Math.cos(6.11998016428 + 16894.5103996106 * t);
-            L0 += 0.00000000043 * Math.cos(1.90603004035 + 3451.7990689874 * t);
-            L0 += 0.00000000039 * Math.cos(0.50727886431 + 10011.2006147496 * t);
-            L0 += 0.00000000052 * Math.cos(3.17851184154 + 2324.9494088156 * t);
-            L0 += 0.00000000038 * Math.cos(4.88249540246 + 3499.555944483 * t);
-            L0 += 0.00000000039 * Math.cos(5.28113083211 + 3343.1552239806 * t);
-            L0 += 0.00000000039 * Math.cos(4.98185580267 + 3468.5639597344 * t);
-            L0 += 0.00000000047 * Math.cos(2.16244218985 + 10027.3602044068 * t);
-            L0 += 0.00000000037 * Math.cos(5.84953090935 + 6791.431174619 * t);
-            L0 += 0.00000000048 * Math.cos(5.03779546898 + 7064.1041319706 * t);
-            L0 += 0.00000000038 * Math.cos(0.58076516432 + 8966.3875031733 * t);
-            L0 += 0.00000000051 * Math.cos(3.36181117037 + 8976.6824439118 * t);
-            L0 += 0.00000000042 * Math.cos(4.13725767158 + 8336.7851575978 * t);
-            L0 += 0.00000000038 * Math.cos(5.75425648893 + 4531.5363185754 * t);
-            L0 += 0.00000000038 * Math.cos(3.55681323215 + 5351.7127631396 * t);
-            L0 += 0.00000000040 * Math.cos(2.79414141035 + 3067.9394693482 * t);
-            L0 += 0.00000000040 * Math.cos(4.99798468494 + 10042.1925994982 * t);
-            L0 += 0.00000000037 * Math.cos(1.82286411009 + 10017.9559447414 * t);
-            L0 += 0.00000000036 * Math.cos(6.02115369796 + 6474.524116103 * t);
-            L0 += 0.00000000044 * Math.cos(3.01299253859 + 7417.1013669314 * t);
-            L0 += 0.00000000045 * Math.cos(2.33470159894 + 3123.7902129128 * t);
-            L0 += 0.00000000039 * Math.cos(4.91767933978 + 8034.6153814074 * t);
-            L0 += 0.00000000941 * Math.cos(4.14573950731 + 945.9942152321 * t);
-            L0 += 0.00000000927 * Math.cos(6.10893117621 + 514.7131115676 * t);
-            L0 += 0.00000000914 * Math.cos(6.17641484462 + 952.3570027075 * t);
-            L0 += 0.00000000893 * Math.cos(4.27448748055 + 0.6331394464 * t);
-            L0 += 0.00000000903 * Math.cos(1.94322862741 + 3796.7024358792 * t);
-            L0 += 0.00000001162 * Math.cos(5.51229668479 + 2.9689454166 * t);
-            L0 += 0.00000001042 * Math.cos(1.65853884324 + 565.1156877467 * t);
-            L0 += 0.00000000901 * Math.cos(3.03566995700 + 460.5384408198 * t);
-            L0 += 0.00000000903 * Math.cos(2.24012900198 + 523.5406259403 * t);
-            L0 += 0.00000001063 * Math.cos(0.99370930422 + 320.3240229197 * t);
-            L0 += 0.00000000970 * Math.cos(4.56604202702 + 429.0458714308 * t);
-            L0 += 0.00000001070 * Math.cos(4.33159520959 + 610.6923387854 * t);
-            L0 += 0.00000000861 * Math.cos(2.82160166871 + 1060.3451380357 * t);
-            L0 += 0.00000000882 * Math.cos(4.80008598720 + 384.0599212231 * t);
-            L0 += 0.00000000959 * Math.cos(5.45446729951 + 451.9404211107 * t);
-            L0 += 0.00000001042 * Math.cos(5.79270367192 + 303.8616966844 * t);
-            L0 += 0.00000000854 * Math.cos(0.32316261535 + 1098.7388061044 * t);
-            L0 += 0.00000000784 * Math.cos(1.85121094914 + 313.2104759189 * t);
-            L0 += 0.00000000782 * Math.cos(3.03559242565 + 5.8415226136 * t);
-            L0 += 0.00000001051 * Math.cos(1.41051789534 + 72.0732855816 * t);
-            L0 += 0.00000000854 * Math.cos(1.22328398267 + 611.4430983108 * t);
-            L0 += 0.00000000899 * Math.cos(5.32174286122 + 3171.0322435668 * t);
-            L0 += 0.00000000991 * Math.cos(2.22133552179 + 1059.3337460794 * t);
-            L0 += 0.00000000719 * Math.cos(4.92550251320 + 421.93232443 * t);
-            L0 += 0.00000000954 * Math.cos(3.98272904231 + 836.5216071956 * t);
-            L0 += 0.00000000822 * Math.cos(4.49680557640 + 10213.285546211 * t);
-            L0 += 0.00000000715 * Math.cos(4.62515255534 + 385.5443939314 * t);
-            L0 += 0.00000000730 * Math.cos(1.87143496079 + 153.4953503977 * t);
-            L0 += 0.00000000708 * Math.cos(2.93048853593 + 417.0369633204 * t);
-            L0 += 0.00000000864 * Math.cos(3.03246422011 + 1041.2226829245 * t);
-            L0 += 0.00000000708 * Math.cos(6.01601101389 + 395.105621487 * t);
-            L0 += 0.00000000935 * Math.cos(6.01864688839 + 173.9422195228 * t);
-            L0 += 0.00000000695 * Math.cos(1.39408383356 + 432.0148168474 * t);
-            L0 += 0.00000000687 * Math.cos(3.06548397571 + 529.9515975255 * t);
-            L0 += 0.00000000679 * Math.cos(2.18654815982 + 2228.9701815978 * t);
-            L0 += 0.00000000802 * Math.cos(0.83949166659 + 1261.6353253633 * t);
-            L0 += 0.00000000677 * Math.cos(3.58329228033 + 244.318584075 * t);
-            L0 += 0.00000000850 * Math.cos(5.46114025921 + 41.0537969446 * t);
-            L0 += 0.00000000817 * Math.cos(4.65313917851 + 535.8413042489 * t);
-            L0 += 0.00000000652 * Math.cos(0.44220736244 + 1201.831580323 * t);
-            L0 += 0.00000000711 * Math.cos(0.96230448675 + 373.0142209592 * t);
-            L0 += 0.00000000665 * Math.cos(1.03244633471 + 623.2225117576 * t);
-            L0 += 0.00000000743 * Math.cos(2.79188326958 + 1173.5204046717 * t);
-            L0 += 0.00000000643 * Math.cos(5.05336021072 + 522.6256022036 * t);
-            L0 += 0.00000000639 * Math.cos(4.22718483639 + 25.8634950965 * t);
-            L0 += 0.00000000846 * Math.cos(3.26302783028 + 1151.4290041439 * t);
-            L0 += 0.00000000715 * Math.cos(5.07610655676 + 1058.4187223427 * t);
-            L0 += 0.00000000833 * Math.cos(1.49468358374 + 563.6312150384 * t);
-            L0 += 0.00000000760 * Math.cos(4.34851471971 + 100.6450936638 * t);
-            L0 += 0.00000000781 * Math.cos(3.58209400202 + 2281.2304965106 * t);
-            L0 += 0.00000000633 * Math.cos(6.23841236159 + 679.2541622292 * t);
-            L0 += 0.00000000879 * Math.cos(1.69353525086 + 1744.8558675419 * t);
-            L0 += 0.00000000633 * Math.cos(4.31803237654 + 3590.516887442 * t);
-            L0 += 0.00000000651 * Math.cos(2.45318135806 + 1585.1407420207 * t);
-            L0 += 0.00000000618 * Math.cos(2.68178794760 + 3899.7952100978 * t);
-            L0 += 0.00000000646 * Math.cos(2.88581188015 + 13.4933808187 * t);
-            L0 += 0.00000000731 * Math.cos(5.86652105139 + 501.3797894433 * t);
-            L0 += 0.00000000644 * Math.cos(4.64527687663 + 1134.1635287565 * t);
-            L0 += 0.00000000651 * Math.cos(0.83706409863 + 2015.6710861598 * t);
-            L0 += 0.00000000796 * Math.cos(5.36663489938 + 420.9691165835 * t);
-            L0 += 0.00000000641 * Math.cos(4.76533725270 + 567.8240007324 * t);
-            L0 += 0.00000000802 * Math.cos(5.79880803733 + 981.6313862053 * t);
-            L0 += 0.00000000764 * Math.cos(5.05232912435 + 827.9235874865 * t);
-            L0 += 0.00000000604 * Math.cos(5.11227651497 + 1159.2933106701 * t);
-            L0 += 0.00000000745 * Math.cos(1.80925868883 + 2332.0629558164 * t);
-            L0 += 0.00000000666 * Math.cos(2.06624389616 + 27.0873353739 * t);
-            L0 += 0.00000000559 * Math.cos(0.17540224930 + 63.7358983034 * t);
-            L0 += 0.00000000654 * Math.cos(4.94087804792 + 2413.8150890326 * t);
-            L0 += 0.00000000727 * Math.cos(1.05835550856 + 490.0734567485 * t);
-            L0 += 0.00000000732 * Math.cos(5.93179840659 + 42.5382696529 * t);
-            L0 += 0.00000000573 * Math.cos(3.61521168878 + 3686.4961146598 * t);
-            L0 += 0.00000000633 * Math.cos(4.21755652519 + 166.828672522 * t);
-            L0 += 0.00000000687 * Math.cos(3.91671464947 + 529.4303326637 * t);
-            L0 += 0.00000000570 * Math.cos(2.73603650313 + 4010.0015313172 * t);
-            L0 += 0.00000000600 * Math.cos(1.82660431776 + 522.529233984 * t);
-            L0 += 0.00000000551 * Math.cos(5.08473283991 + 1354.4331588434 * t);
-            L0 += 0.00000000519 * Math.cos(6.11952999304 + 366.7944458357 * t);
-            L0 += 0.00000000719 * Math.cos(0.85722557203 + 362.8622925726 * t);
-            L0 += 0.00000000518 * Math.cos(2.03954063338 + 418.5214360287 * t);
-            L0 += 0.00000000515 * Math.cos(3.51750445096 + 528.4189407074 * t);
-            L0 += 0.00000000515 * Math.cos(3.47893153369 + 103.1409583284 * t);
-            L0 += 0.00000000550 * Math.cos(5.77676837013 + 420.4478517217 * t);
-            L0 += 0.00000000550 * Math.cos(0.61414019478 + 104.0559820651 * t);
-            L0 += 0.00000000495 * Math.cos(2.41738200479 + 179.3588454942 * t);
-            L0 += 0.00000000513 * Math.cos(0.29786764002 + 103.0445901088 * t);
-            L0 += 0.00000000537 * Math.cos(5.47946247228 + 771.3012361839 * t);
-            L0 += 0.00000000508 * Math.cos(3.08930305232 + 1357.6145525811 * t);
-            L0 += 0.00000000495 * Math.cos(4.95361665264 + 536.8526962052 * t);
-            L0 += 0.00000000681 * Math.cos(4.56250434221 + 112.6540017742 * t);
-            L0 += 0.00000000484 * Math.cos(0.79038835602 + 28.4541880032 * t);
-            L0 += 0.00000000529 * Math.cos(5.46978500000 + 419.4364597654 * t);
-            L0 += 0.00000000596 * Math.cos(4.98134265245 + 1251.3403846248 * t);
-            L0 += 0.00000000482 * Math.cos(3.60230884794 + 2943.5060541272 * t);
-            L0 += 0.00000000492 * Math.cos(3.95966654574 + 1269.4996318895 * t);
-            L0 += 0.00000000630 * Math.cos(6.16456074704 + 105.5404547734 * t);
-            L0 += 0.00000000480 * Math.cos(0.86786400621 + 35.212274331 * t);
-            L0 += 0.00000000463 * Math.cos(3.15421544338 + 934.9485149682 * t);
-            L0 += 0.00000000586 * Math.cos(5.48425579444 + 56.6223513026 * t);
-            L0 += 0.00000000475 * Math.cos(2.28309287464 + 2042.4977891028 * t);
-            L0 += 0.00000000502 * Math.cos(1.43671788962 + 469.8872200543 * t);
-            L0 += 0.00000000565 * Math.cos(1.90952569252 + 107.2855599126 * t);
-            L0 += 0.00000000467 * Math.cos(2.35119921534 + 1603.2999892854 * t);
-            L0 += 0.00000000464 * Math.cos(3.82801546235 + 1550.939859646 * t);
-            L0 += 0.00000000605 * Math.cos(1.65413715574 + 761.7400086283 * t);
-            L0 += 0.00000000443 * Math.cos(5.46290368791 + 135.336103133 * t);
-            L0 += 0.00000000580 * Math.cos(2.06327501551 + 493.0424021651 * t);
-            L0 += 0.00000000540 * Math.cos(1.73777056143 + 536.7563279856 * t);
-            L0 += 0.00000000433 * Math.cos(0.27166977225 + 93.531546663 * t);
-            L0 += 0.00000000515 * Math.cos(3.46469417422 + 530.9629894818 * t);
-            L0 += 0.00000000441 * Math.cos(5.28940184186 + 497.4476361802 * t);
-            L0 += 0.00000000487 * Math.cos(5.78767525063 + 12036.4607348882 * t);
-            L0 += 0.00000000571 * Math.cos(3.71223026143 + 1279.794572628 * t);
-            L0 += 0.00000000419 * Math.cos(3.43816729207 + 1070.4276304531 * t);
-            L0 += 0.00000000452 * Math.cos(2.57855232310 + 1254.5217783625 * t);
-            L0 += 0.00000000426 * Math.cos(3.21103415941 + 2840.4132799086 * t);
-            L0 += 0.00000000414 * Math.cos(1.54298025443 + 115.6229471908 * t);
-            L0 += 0.00000000424 * Math.cos(0.12594305292 + 1268.7488723641 * t);
-            L0 += 0.00000000411 * Math.cos(3.12423996609 + 536.2832472336 * t);
-            L0 += 0.00000000452 * Math.cos(1.00220432453 + 113.3877149571 * t);
-            L0 += 0.00000000420 * Math.cos(0.81806831366 + 1165.6560981455 * t);
-            L0 += 0.00000000434 * Math.cos(0.36146452053 + 1304.9243545416 * t);
-            L0 += 0.00000000401 * Math.cos(5.70119897835 + 1127.0499817557 * t);
-            L0 += 0.00000000461 * Math.cos(3.26463688117 + 102.1295663721 * t);
-            L0 += 0.00000000533 * Math.cos(2.54951538277 + 141.2258098564 * t);
-            L0 += 0.00000000413 * Math.cos(4.38709867977 + 6151.533888305 * t);
-            L0 += 0.00000000425 * Math.cos(3.93823979711 + 561.1835344836 * t);
-            L0 += 0.00000000390 * Math.cos(2.68799663827 + 576.1613880106 * t);
-            L0 += 0.00000000473 * Math.cos(4.76746213122 + 277.0349937414 * t);
-            L0 += 0.00000000415 * Math.cos(1.68861617904 + 391.1734682239 * t);
-            L0 += 0.00000000392 * Math.cos(3.96583998204 + 3906.9087570986 * t);
-            L0 += 0.00000000385 * Math.cos(1.69122429631 + 4113.0943055358 * t);
-            L0 += 0.00000000451 * Math.cos(5.49097711996 + 602.9880909536 * t);
-            L0 += 0.00000000499 * Math.cos(3.80738289142 + 81.0013736908 * t);
-            L0 += 0.00000000454 * Math.cos(0.10975881410 + 600.5404103988 * t);
-            L0 += 0.00000000377 * Math.cos(6.25455256536 + 913.7508863177 * t);
-            L0 += 0.00000000453 * Math.cos(3.86104865566 + 758.7710632117 * t);
-            L0 += 0.00000000407 * Math.cos(5.13475793028 + 3487.4241132234 * t);
-            L0 += 0.00000000400 * Math.cos(4.44473187959 + 990.2294059144 * t);
-            L0 += 0.00000000435 * Math.cos(3.76103015832 + 523.0986829556 * t);
-            L0 += 0.00000000365 * Math.cos(5.16456643007 + 4694.0029547076 * t);
-            L0 += 0.00000000454 * Math.cos(1.63326913717 + 976.0023119128 * t);
-            L0 += 0.00000000406 * Math.cos(2.72098337513 + 1438.0252254409 * t);
-            L0 += 0.00000000349 * Math.cos(3.59598547445 + 1058.8606653274 * t);
-            L0 += 0.00000000354 * Math.cos(0.62083841520 + 498.6714764576 * t);
-            L0 += 0.00000000383 * Math.cos(5.09228018194 + 539.2521926502 * t);
-            L0 += 0.00000000430 * Math.cos(6.14341047130 + 3067.9394693482 * t);
-            L0 += 0.00000000391 * Math.cos(3.25185051260 + 2655.5683724738 * t);
-            L0 += 0.00000000459 * Math.cos(3.43896606345 + 121.2520214833 * t);
-            L0 += 0.00000000435 * Math.cos(3.59822556033 + 860.3099287528 * t);
-            L0 += 0.00000000424 * Math.cos(4.72908722432 + 1366.2125722902 * t);
-            L0 += 0.00000000327 * Math.cos(4.55290845875 + 1696.0978227655 * t);
-            L0 += 0.00000000324 * Math.cos(4.23685005208 + 642.3449668688 * t);
-            L0 += 0.00000000395 * Math.cos(3.26281926074 + 484.444382456 * t);
-            L0 += 0.00000000330 * Math.cos(6.05223507989 + 215.7467759928 * t);
-            L0 += 0.00000000417 * Math.cos(0.20262936620 + 842.9014410135 * t);
-            L0 += 0.00000000408 * Math.cos(0.45802341103 + 1578.0271950199 * t);
-            L0 += 0.00000000342 * Math.cos(6.15346179830 + 1371.8416465827 * t);
-            L0 += 0.00000000340 * Math.cos(2.77813018312 + 3.523118349 * t);
-            L0 += 0.00000000363 * Math.cos(4.68453721321 + 2730.2069586892 * t);
-            L0 += 0.00000000309 * Math.cos(1.97341771897 + 754.0357607965 * t);
-            L0 += 0.00000000324 * Math.cos(0.32544817254 + 586.3133163972 * t);
-            L0 += 0.00000000302 * Math.cos(2.08708848834 + 526.9826521089 * t);
-            L0 += 0.00000000352 * Math.cos(5.13897382364 + 523.4711899711 * t);
-            L0 += 0.00000000352 * Math.cos(5.75014912811 + 806.725958836 * t);
-            L0 += 0.00000000309 * Math.cos(2.49798852626 + 4326.3934009738 * t);
-            L0 += 0.00000000295 * Math.cos(2.35354744096 + 4216.1870797544 * t);
-            L0 += 0.00000000300 * Math.cos(1.17310114418 + 700.4517908797 * t);
-            L0 += 0.00000000335 * Math.cos(4.47490824488 + 1585.8915015461 * t);
-            L0 += 0.00000000300 * Math.cos(4.94243905681 + 1379.7059531089 * t);
-            L0 += 0.00000000324 * Math.cos(4.32475054774 + 299.1263942692 * t);
-            L0 += 0.00000000402 * Math.cos(2.04619630460 + 842.1506814881 * t);
-            L0 += 0.00000000312 * Math.cos(4.59043534747 + 188.9200730498 * t);
-            L0 += 0.00000000288 * Math.cos(2.25534557761 + 878.3261636656 * t);
-            L0 += 0.00000000395 * Math.cos(5.99139284997 + 3384.3313390048 * t);
-            L0 += 0.00000000380 * Math.cos(1.67961592499 + 36.6485629295 * t);
-            L0 += 0.00000000338 * Math.cos(1.32019124492 + 148.0787244263 * t);
-            L0 += 0.00000000391 * Math.cos(4.82188766380 + 1012.9115072732 * t);
-            L0 += 0.00000000332 * Math.cos(2.02575723995 + 1091.6252591036 * t);
-            L0 += 0.00000000282 * Math.cos(0.39153852422 + 207.6700211455 * t);
-            L0 += 0.00000000280 * Math.cos(3.80317669283 + 298.2326223919 * t);
-            L0 += 0.00000000386 * Math.cos(6.26771150540 + 1141.1340634054 * t);
-            L0 += 0.00000000293 * Math.cos(4.53809139767 + 1446.62324515 * t);
-            L0 += 0.00000000349 * Math.cos(4.09122089564 + 1059.903195051 * t);
-            L0 += 0.00000000301 * Math.cos(4.46304798246 + 1567.7322542814 * t);
-            L0 += 0.00000000318 * Math.cos(5.50558184307 + 5216.5803728014 * t);
-            L0 += 0.00000000327 * Math.cos(4.76582526444 + 134.5853436076 * t);
-            L0 += 0.00000000280 * Math.cos(2.16530669990 + 2964.8466951296 * t);
-            L0 += 0.00000000283 * Math.cos(3.90409016441 + 127.4717966068 * t);
-            L0 += 0.00000000275 * Math.cos(0.88658304766 + 1474.9344208013 * t);
-            L0 += 0.00000000322 * Math.cos(2.48245791694 + 1065.6017053127 * t);
-            L0 += 0.00000000360 * Math.cos(0.62008772137 + 1542.6024723678 * t);
-            L0 += 0.00000000286 * Math.cos(5.85849625329 + 172.2452984934 * t);
-            L0 += 0.00000000270 * Math.cos(4.08297977357 + 1578.7779545453 * t);
-            L0 += 0.00000000362 * Math.cos(1.06148806683 + 181.806526049 * t);
-            L0 += 0.00000000335 * Math.cos(4.50997684981 + 2349.3284312038 * t);
-            L0 += 0.00000000275 * Math.cos(3.38473535401 + 4002.8879843164 * t);
-            L0 += 0.00000000315 * Math.cos(3.68770155844 + 1440.9941708575 * t);
-            L0 += 0.00000000252 * Math.cos(2.40663004080 + 97.6761482472 * t);
-            L0 += 0.00000000279 * Math.cos(5.22410340680 + 4649.8988176312 * t);
-            L0 += 0.00000000290 * Math.cos(0.61661476278 + 9146.790069021 * t);
-            L0 += 0.00000000248 * Math.cos(4.45243005934 + 1688.9842757647 * t);
-            L0 += 0.00000000300 * Math.cos(3.07432010319 + 1902.2833712027 * t);
-            L0 += 0.00000000292 * Math.cos(2.70170039150 + 987.3086446076 * t);
-            L0 += 0.00000000258 * Math.cos(4.79343588315 + 1670.82502850 * t);
-            L0 += 0.00000000319 * Math.cos(1.34244131618 + 1288.4620283063 * t);
-            L0 += 0.00000000256 * Math.cos(3.45257813604 + 3259.8979237838 * t);
-            L0 += 0.00000000325 * Math.cos(5.57785413832 + 1670.0742689746 * t);
-            L0 += 0.00000000248 * Math.cos(4.23500945233 + 849.2642284889 * t);
-            L0 += 0.00000000278 * Math.cos(0.25405518415 + 874.3940104025 * t);
-            L0 += 0.00000000299 * Math.cos(4.67059404038 + 1329.3033769298 * t);
-            L0 += 0.00000000295 * Math.cos(5.86995680986 + 2804.2377977311 * t);
-            L0 += 0.00000000328 * Math.cos(6.06415193771 + 1821.1219388175 * t);
-            L0 += 0.00000000245 * Math.cos(4.68144067248 + 77204.32749453338 * t);
-            L0 += 0.00000000237 * Math.cos(4.97805954611 + 351.8165923087 * t);
-            L0 += 0.00000000302 * Math.cos(1.20236584617 + 232.0490435337 * t);
-            L0 += 0.00000000303 * Math.cos(5.53364383200 + 2274.5468326365 * t);
-            L0 += 0.00000000286 * Math.cos(2.41146391401 + 2545.3620512544 * t);
-            L0 += 0.00000000233 * Math.cos(1.50676309691 + 1688.2335162393 * t);
-            L0 += 0.00000000250 * Math.cos(2.31712160522 + 632.2624744514 * t);
-            L0 += 0.00000000238 * Math.cos(5.06850996242 + 3803.81598288 * t);
-            L0 += 0.00000000227 * Math.cos(6.27454357025 + 1586.625214729 * t);
-            L0 += 0.00000000226 * Math.cos(0.05894638117 + 1518.2234499796 * t);
-            L0 += 0.00000000259 * Math.cos(3.86479264667 + 782.3469364478 * t);
-            L0 += 0.00000000235 * Math.cos(0.16574304942 + 137.0330241624 * t);
-            L0 += 0.00000000225 * Math.cos(2.32024197535 + 2498.8916283384 * t);
-            L0 += 0.00000000224 * Math.cos(6.18923621853 + 546.1532913299 * t);
-            L0 += 0.00000000224 * Math.cos(3.37553489276 + 1077.5411774539 * t);
-            L0 += 0.00000000222 * Math.cos(1.23639175728 + 513.2286388593 * t);
-            L0 += 0.00000000246 * Math.cos(2.81685819136 + 633.305004175 * t);
-            L0 += 0.00000000286 * Math.cos(5.08443662064 + 774.0095491696 * t);
-            L0 += 0.00000000269 * Math.cos(4.93013868827 + 151.0476698429 * t);
-            L0 += 0.00000000276 * Math.cos(5.42875443749 + 986.0848043302 * t);
-            L0 += 0.00000000239 * Math.cos(0.71912390253 + 1276.6131788903 * t);
-            L0 += 0.00000000281 * Math.cos(0.54377467623 + 2122.6960136415 * t);
-            L0 += 0.00000000218 * Math.cos(2.90308501961 + 85.8272988312 * t);
-            L0 += 0.00000000221 * Math.cos(0.99955195094 + 1053.7528558967 * t);
-            L0 += 0.00000000283 * Math.cos(6.28058228271 + 71.8126531507 * t);
-            L0 += 0.00000000271 * Math.cos(6.01605176699 + 170.7608257851 * t);
-            L0 += 0.00000000215 * Math.cos(5.76717651257 + 208.633228992 * t);
-            L0 += 0.00000000228 * Math.cos(1.19429336725 + 1060.8664028975 * t);
-            L0 += 0.00000000264 * Math.cos(3.93467981347 + 1363.2436268736 * t);
-            L0 += 0.00000000228 * Math.cos(5.04184148954 + 1064.7985561606 * t);
-            L0 += 0.00000000295 * Math.cos(2.15253083015 + 6386.16862421 * t);
-            L0 += 0.00000000217 * Math.cos(3.24577492609 + 2424.1100297711 * t);
-            L0 += 0.00000000236 * Math.cos(4.50018016828 + 24498.8302462904 * t);
-            L0 += 0.00000000211 * Math.cos(4.25651045434 + 5069.3834615064 * t);
-            L0 += 0.00000000264 * Math.cos(5.81676359510 + 77.962992305 * t);
-            L0 += 0.00000000256 * Math.cos(5.65979495257 + 799.6124118352 * t);
-            L0 += 0.00000000210 * Math.cos(5.29881111973 + 1457.525933062 * t);
-            L0 += 0.00000000208 * Math.cos(5.72006005477 + 1064.0477966352 * t);
-            L0 += 0.00000000241 * Math.cos(6.25063055391 + 1621.3162241982 * t);
-            L0 += 0.00000000235 * Math.cos(2.20691049290 + 1570.9136480191 * t);
-            L0 += 0.00000000212 * Math.cos(2.88214546012 + 1674.0064222377 * t);
-            L0 += 0.00000000206 * Math.cos(1.59586698276 + 4429.4861751924 * t);
-            L0 += 0.00000000206 * Math.cos(3.37322544845 + 1053.9653042178 * t);
-            L0 += 0.00000000250 * Math.cos(4.49171024387 + 1482.7987273275 * t);
-            L0 += 0.00000000213 * Math.cos(0.30373351265 + 8624.2126509272 * t);
-            L0 += 0.00000000223 * Math.cos(4.88418874810 + 1035.002907801 * t);
-            L0 += 0.00000000212 * Math.cos(4.20492282875 + 1912.5783119412 * t);
-            L0 += 0.00000000271 * Math.cos(5.11992121116 + 1818.1529934009 * t);
-            L0 += 0.00000000210 * Math.cos(4.08825553401 + 203.7378678824 * t);
-            L0 += 0.00000000283 * Math.cos(1.89231830584 + 313.9441891018 * t);
-            L0 += 0.00000000258 * Math.cos(1.73501688448 + 1887.3055176757 * t);
-            L0 += 0.00000000248 * Math.cos(2.14407705659 + 1592.2542890215 * t);
-            L0 += 0.00000000210 * Math.cos(4.52024390322 + 1262.3860848887 * t);
-            L0 += 0.00000000252 * Math.cos(5.69246926803 + 104.5772469269 * t);
-            L0 += 0.00000000219 * Math.cos(2.91834170224 + 2114.8317071153 * t);
-            L0 += 0.00000000199 * Math.cos(3.93816217381 + 2043.9822618111 * t);
-            L0 += 0.00000000204 * Math.cos(4.76593693079 + 812.1425848074 * t);
-            L0 += 0.00000000207 * Math.cos(0.25148913797 + 533.8355666788 * t);
-            L0 += 0.00000000215 * Math.cos(2.01665842348 + 512.4254897072 * t);
-            L0 += 0.00000000204 * Math.cos(0.90117975859 + 1408.0171287602 * t);
-            L0 += 0.00000000225 * Math.cos(1.23997208583 + 3340.6124266998 * t);
-            L0 += 0.00000000211 * Math.cos(5.13548160002 + 1065.0110044817 * t);
-            L0 += 0.00000000258 * Math.cos(2.36055913266 + 2861.753920911 * t);
-            L0 += 0.00000000198 * Math.cos(4.32566984621 + 269.9214467406 * t);
-            L0 += 0.00000000202 * Math.cos(3.19887703276 + 1553.6481726317 * t);
-            L0 += 0.00000000194 * Math.cos(2.62013252080 + 683.1863154923 * t);
-            L0 += 0.00000000217 * Math.cos(5.40943412253 + 546.956440482 * t);
-            L0 += 0.00000000208 * Math.cos(0.06358383719 + 991.7138786227 * t);
-            L0 += 0.00000000267 * Math.cos(3.27705006018 + 5120.6011455836 * t);
-            L0 += 0.00000000191 * Math.cos(0.70424277574 + 4230.414173756 * t);
-            L0 += 0.00000000200 * Math.cos(2.35014426129 + 1591.5205758386 * t);
-            L0 += 0.00000000214 * Math.cos(6.15608452028 + 951.6232895246 * t);
-            L0 += 0.00000000194 * Math.cos(1.60798799495 + 102.5715093568 * t);
-            L0 += 0.00000000234 * Math.cos(4.93895884950 + 1443.4418514123 * t);
-            L0 += 0.00000000198 * Math.cos(0.93365862986 + 1909.3969182035 * t);
-            L0 += 0.00000000185 * Math.cos(4.03264704820 + 1049.8207026336 * t);
-            L0 += 0.00000000215 * Math.cos(0.97603524748 + 479.2883889155 * t);
-            L0 += 0.00000000245 * Math.cos(2.99717870481 + 1467.8208738005 * t);
-            L0 += 0.00000000257 * Math.cos(4.70227238723 + 9050.8108418032 * t);
-            L0 += 0.00000000183 * Math.cos(2.03870101784 + 635.70450062 * t);
-            L0 += 0.00000000228 * Math.cos(6.23410947014 + 64.9597385808 * t);
-            L0 += 0.00000000180 * Math.cos(4.21309134581 + 143.9341228421 * t);
-            L0 += 0.00000000180 * Math.cos(4.82872225059 + 1063.5747158832 * t);
-            L0 += 0.00000000180 * Math.cos(5.06126965624 + 52.6901980395 * t);
-            L0 += 0.00000000226 * Math.cos(0.55335289468 + 554.0699874828 * t);
-            L0 += 0.00000000209 * Math.cos(5.67975843693 + 48.7580447764 * t);
-            L0 += 0.00000000186 * Math.cos(3.66359750257 + 108.7218485111 * t);
-            L0 += 0.00000000190 * Math.cos(2.00836664877 + 1058.6311706638 * t);
-            L0 += 0.00000000180 * Math.cos(1.44709940248 + 970.5162499722 * t);
-            L0 += 0.00000000183 * Math.cos(3.17358464220 + 140.9651774255 * t);
-            L0 += 0.00000000175 * Math.cos(3.79284463842 + 4223.3006267552 * t);
-            L0 += 0.00000000220 * Math.cos(2.43555893039 + 419.532827985 * t);
-            L0 += 0.00000000172 * Math.cos(3.04802064781 + 54.3347294422 * t);
-            L0 += 0.00000000176 * Math.cos(3.77033437497 + 3473.1970192218 * t);
-            L0 += 0.00000000170 * Math.cos(4.66517108448 + 1372.5924061081 * t);
-            L0 += 0.00000000178 * Math.cos(3.08366669427 + 4319.279853973 * t);
-            L0 += 0.00000000198 * Math.cos(0.42731863655 + 857.1285350151 * t);
-            L0 += 0.00000000215 * Math.cos(0.68265759605 + 1054.7160637432 * t);
-            L0 += 0.00000000174 * Math.cos(0.85388069641 + 1587.5884225755 * t);
-            L0 += 0.00000000212 * Math.cos(5.41318500564 + 9580.5018068978 * t);
-            L0 += 0.00000000200 * Math.cos(1.60275119026 + 6681.2248533996 * t);
-            L0 += 0.00000000193 * Math.cos(2.13003457583 + 103.6140390804 * t);
-            L0 += 0.00000000180 * Math.cos(4.48952373198 + 1144.3154571431 * t);
-            L0 += 0.00000000165 * Math.cos(4.54343649149 + 1365.4788591073 * t);
-            L0 += 0.00000000211 * Math.cos(1.53402733679 + 1069.6768709277 * t);
-            L0 += 0.00000000223 * Math.cos(0.11650319998 + 67.8804998876 * t);
-            L0 += 0.00000000202 * Math.cos(0.35527329970 + 1090.4014188262 * t);
-            L0 += 0.00000000218 * Math.cos(3.57295707203 + 906.849787638 * t);
-            L0 += 0.00000000164 * Math.cos(1.06674687948 + 594.6507036754 * t);
-            L0 += 0.00000000175 * Math.cos(2.36532854682 + 977.4867846211 * t);
-            L0 += 0.00000000208 * Math.cos(0.69348288097 + 1128.534454464 * t);
-            L0 += 0.00000000171 * Math.cos(5.74458391820 + 1884.124123938 * t);
-            L0 += 0.00000000161 * Math.cos(0.85437052339 + 537.5552716208 * t);
-            L0 += 0.00000000207 * Math.cos(0.49276008455 + 71.6002048296 * t);
-            L0 += 0.00000000156 * Math.cos(5.14834108268 + 451.7279727896 * t);
-            L0 += 0.00000000159 * Math.cos(5.37530499642 + 20426.571092422 * t);
-            L0 += 0.00000000170 * Math.cos(1.78813796184 + 5230.807466803 * t);
-            L0 += 0.00000000218 * Math.cos(0.27875486270 + 175.1660598002 * t);
-            L0 += 0.00000000215 * Math.cos(1.88254208749 + 1140.38330388 * t);
-            L0 += 0.00000000209 * Math.cos(3.54917317190 + 3156.8051495652 * t);
-            L0 += 0.00000000171 * Math.cos(1.79628112458 + 1123.1178284926 * t);
-            L0 += 0.00000000188 * Math.cos(5.24747110812 + 25565.3257234804 * t);
-            L0 += 0.00000000214 * Math.cos(3.66925552525 + 84.9335269539 * t);
-            L0 += 0.00000000203 * Math.cos(2.83619345048 + 1489.9122743283 * t);
-            L0 += 0.00000000173 * Math.cos(4.34546063838 + 3046.5988283458 * t);
-            L0 += 0.00000000151 * Math.cos(1.16342049906 + 3914.0223040994 * t);
-            L0 += 0.00000000190 * Math.cos(5.67865609408 + 1060.1326897146 * t);
-            L0 += 0.00000000167 * Math.cos(0.53874364357 + 528.0464336919 * t);
-            L0 += 0.00000000203 * Math.cos(0.70565787834 + 498.1983957056 * t);
-            L0 += 0.00000000171 * Math.cos(4.21009295927 + 946.727928415 * t);
-            L0 += 0.00000000205 * Math.cos(3.05470007095 + 1062.302691496 * t);
-            L0 += 0.00000000203 * Math.cos(3.28866933881 + 1020.025054274 * t);
-            L0 += 0.00000000179 * Math.cos(2.14335011927 + 627.3671133418 * t);
-            L0 += 0.00000000183 * Math.cos(2.35011338194 + 25551.09862947879 * t);
-            L0 += 0.00000000162 * Math.cos(1.58054653744 + 628.5909536192 * t);
-            L0 += 0.00000000145 * Math.cos(1.33045199323 + 821.703812363 * t);
-            L0 += 0.00000000181 * Math.cos(2.85483720271 + 1055.1891444952 * t);
-            L0 += 0.00000000151 * Math.cos(3.43200492547 + 629.8629780064 * t);
-            L0 += 0.00000000178 * Math.cos(3.58994989047 + 2004.364753465 * t);
-            L0 += 0.00000000157 * Math.cos(3.15195765206 + 1025.4416802454 * t);
-            L0 += 0.00000000142 * Math.cos(4.79458547350 + 1799.1905969841 * t);
-            L0 += 0.00000000162 * Math.cos(4.86173373432 + 441.576044403 * t);
-            L0 += 0.00000000185 * Math.cos(3.21794429243 + 1595.2926704073 * t);
-            L0 += 0.00000000139 * Math.cos(0.89228489209 + 1432.3961511484 * t);
-            L0 += 0.00000000167 * Math.cos(2.85163037043 + 5746.271337896 * t);
-            L0 += 0.00000000167 * Math.cos(5.73970232471 + 5760.4984318976 * t);
-            L0 += 0.00000000180 * Math.cos(3.56547170390 + 3185.2593375684 * t);
-            L0 += 0.00000000151 * Math.cos(2.13306499259 + 1094.8066528413 * t);
-            L0 += 0.00000000181 * Math.cos(3.32294686175 + 229.0800981171 * t);
-            L0 += 0.00000000160 * Math.cos(1.05753894323 + 1087.6931058405 * t);
-            L0 += 0.00000000165 * Math.cos(3.51478084503 + 707.5653378805 * t);
-            L0 += 0.00000000134 * Math.cos(1.82354002117 + 5591.9608796002 * t);
-            L0 += 0.00000000153 * Math.cos(0.36221123982 + 835.7878940127 * t);
-            L0 += 0.00000000149 * Math.cos(5.48394113995 + 4333.5069479746 * t);
-            L0 += 0.00000000169 * Math.cos(5.98967815113 + 2210.8109343331 * t);
-            L0 += 0.00000000130 * Math.cos(4.05971369649 + 2005.3761454213 * t);
-            L0 += 0.00000000176 * Math.cos(4.67735877741 + 1966.2317178272 * t);
-            L0 += 0.00000000151 * Math.cos(4.89507270868 + 532.3992780803 * t);
-            L0 += 0.00000000132 * Math.cos(4.46820798180 + 1987.2168981566 * t);
-            L0 += 0.00000000152 * Math.cos(2.54945350135 + 1589.024711174 * t);
-            L0 += 0.00000000135 * Math.cos(2.67785802201 + 78263.70942472259 * t);
-            L0 += 0.00000000133 * Math.cos(2.22367803003 + 4642.7852706304 * t);
-            L0 += 0.00000000152 * Math.cos(5.74726585589 + 1589.1210793936 * t);
-            L0 += 0.00000000131 * Math.cos(5.44366528120 + 1588.1096874373 * t);
-            L0 += 0.00000000130 * Math.cos(5.08622554741 + 650.9429865779 * t);
-            L0 += 0.00000000127 * Math.cos(3.01271886345 + 1590.0361031303 * t);
-            L0 += 0.00000000165 * Math.cos(0.63157456503 + 2729.4561991638 * t);
-            L0 += 0.00000000160 * Math.cos(3.09136733422 + 1493.093668066 * t);
-            L0 += 0.00000000126 * Math.cos(4.02785244573 + 2012.4896924221 * t);
-            L0 += 0.00000000149 * Math.cos(4.88056376194 + 10206.1719992102 * t);
-            L0 += 0.00000000120 * Math.cos(3.66807990470 + 1268.0151591812 * t);
-            L0 += 0.00000000120 * Math.cos(1.28575150669 + 3597.6304344428 * t);
-            L0 += 0.00000000118 * Math.cos(5.98810576269 + 531.387886124 * t);
-            L0 += 0.00000000118 * Math.cos(1.62024281593 + 927.8349679674 * t);
-            L0 += 0.00000000160 * Math.cos(4.48451486494 + 2654.6746005965 * t);
-            L0 += 0.00000000128 * Math.cos(4.08631741503 + 638.4128136057 * t);
-            L0 += 0.00000000114 * Math.cos(6.19276216389 + 1834.6153196362 * t);
-            L0 += 0.00000000113 * Math.cos(0.28741277087 + 1208.9451273238 * t);
-            L0 += 0.00000000122 * Math.cos(1.34377557036 + 446.3113468182 * t);
-            L0 += 0.00000000113 * Math.cos(2.64305802892 + 3494.5376602242 * t);
-            L0 += 0.00000000120 * Math.cos(2.29717715125 + 1059.2218714948 * t);
-            L0 += 0.00000000111 * Math.cos(5.97803783981 + 550.1378342197 * t);
-            L0 += 0.00000000120 * Math.cos(5.96435211741 + 3281.2385647862 * t);
-            L0 += 0.00000000110 * Math.cos(1.45784255142 + 509.2440959695 * t);
-            L0 += 0.00000000123 * Math.cos(1.58528243666 + 1080.7225711916 * t);
-            L0 += 0.00000000108 * Math.cos(2.15949816307 + 4532.578949411 * t);
-            L0 += 0.00000000131 * Math.cos(2.49342323482 + 920.8644333185 * t);
-            L0 += 0.00000000107 * Math.cos(0.03308245525 + 521.8266585684 * t);
-            L0 += 0.00000000112 * Math.cos(2.26353490193 + 2534.3163509905 * t);
-            L0 += 0.00000000124 * Math.cos(5.97253582505 + 3700.7232086614 * t);
-            L0 += 0.00000000143 * Math.cos(0.97252781618 + 4443.713269194 * t);
-            L0 += 0.00000000104 * Math.cos(3.10363960804 + 8094.5216858326 * t);
-            L0 += 0.00000000119 * Math.cos(4.36305496553 + 1056.4611688824 * t);
-            L0 += 0.00000000104 * Math.cos(5.38869056901 + 767.3690829208 * t);
-            L0 += 0.00000000103 * Math.cos(4.75766349480 + 1226.2106027112 * t);
-            L0 += 0.00000000116 * Math.cos(0.51605524063 + 5621.8429232104 * t);
-            L0 += 0.00000000104 * Math.cos(6.08481630108 + 528.2546764961 * t);
-            L0 += 0.00000000119 * Math.cos(1.06475525020 + 527.9940440652 * t);
-            L0 += 0.00000000121 * Math.cos(5.66645074030 + 2200.5159935946 * t);
-            L0 += 0.00000000135 * Math.cos(3.04469989833 + 2199.7652340692 * t);
-            L0 += 0.00000000101 * Math.cos(3.61205787591 + 3789.5888888784 * t);
-            L0 += 0.00000000100 * Math.cos(4.82071617356 + 2100.6046131137 * t);
-            L0 += 0.00000000136 * Math.cos(2.25652419983 + 1291.4309737229 * t);
-            L0 += 0.00000000104 * Math.cos(0.89730746810 + 531.1272536931 * t);
-            L0 += 0.00000000108 * Math.cos(0.43456673876 + 288.0806940053 * t);
-            L0 += 0.00000000120 * Math.cos(5.39001412580 + 1059.5419888836 * t);
-            L0 += 0.00000000125 * Math.cos(0.62099682567 + 1997.5118388951 * t);
-            L0 += 0.00000000134 * Math.cos(5.25320383252 + 1895.9035373848 * t);
-            L0 += 0.00000000103 * Math.cos(3.61799646841 + 1792.0770499833 * t);
-            L0 += 0.00000000118 * Math.cos(1.00645954017 + 745.4377410874 * t);
-            L0 += 0.00000000111 * Math.cos(5.68172209277 + 4017.115078318 * t);
-            L0 += 0.00000000093 * Math.cos(1.71996718617 + 4164.311989613 * t);
-            L0 += 0.00000000091 * Math.cos(4.54586794299 + 5901.239202256 * t);
-            L0 += 0.00000000103 * Math.cos(1.44157781039 + 1731.5225454176 * t);
-            L0 += 0.00000000094 * Math.cos(2.94025887120 + 995.6460318858 * t);
-            L0 += 0.00000000101 * Math.cos(5.09893554431 + 530.5847369719 * t);
-            L0 += 0.00000000102 * Math.cos(0.27489333673 + 450.9772132642 * t);
-            L0 += 0.00000000121 * Math.cos(3.07830472533 + 580.0935412737 * t);
-            L0 += 0.00000000098 * Math.cos(0.35522834563 + 5371.5482371614 * t);
-            L0 += 0.00000000089 * Math.cos(2.36605964279 + 1176.7017984094 * t);
-            L0 += 0.00000000115 * Math.cos(3.54968128884 + 5488.8681053816 * t);
-            L0 += 0.00000000086 * Math.cos(2.70671848058 + 2424.8607892965 * t);
-            L0 += 0.00000000109 * Math.cos(0.93924032031 + 3707.8367556622 * t);
-            L0 += 0.00000000089 * Math.cos(2.47000942358 + 4312.1663069722 * t);
-            L0 += 0.00000000092 * Math.cos(0.49026147824 + 5392.8888781638 * t);
-            L0 += 0.00000000085 * Math.cos(0.57009625976 + 1628.429771199 * t);
-            L0 += 0.00000000084 * Math.cos(2.52951052433 + 4657.012364632 * t);
-            L0 += 0.00000000095 * Math.cos(0.49298916700 + 1230.1427559743 * t);
-            L0 += 0.00000000101 * Math.cos(1.88318822487 + 528.7971932173 * t);
-            L0 += 0.00000000083 * Math.cos(6.05838879510 + 2858.5725271733 * t);
-            L0 += 0.00000000083 * Math.cos(3.97031381838 + 247.2393453818 * t);
-            L0 += 0.00000000082 * Math.cos(4.61989860058 + 3252.784376783 * t);
-            L0 += 0.00000000081 * Math.cos(2.09438144860 + 2203.6973873323 * t);
-            L0 += 0.00000000081 * Math.cos(3.48070291292 + 1231.6272286826 * t);
-            L0 += 0.00000000108 * Math.cos(2.69586646495 + 10110.1927719924 * t);
-            L0 += 0.00000000083 * Math.cos(0.06930748257 + 530.914805372 * t);
-            L0 += 0.00000000080 * Math.cos(0.22833904656 + 2218.6752408593 * t);
-            L0 += 0.00000000083 * Math.cos(0.62963097943 + 528.4671248172 * t);
-            L0 += 0.00000000084 * Math.cos(3.31531263655 + 1895.1698242019 * t);
-            L0 += 0.00000000082 * Math.cos(4.56743340637 + 6231.8581659142 * t);
-            L0 += 0.00000000082 * Math.cos(3.36834041159 + 5172.476235725 * t);
-            L0 += 0.00000000097 * Math.cos(0.87887326085 + 9690.7081281172 * t);
-            L0 += 0.00000000097 * Math.cos(4.27398661375 + 9676.4810341156 * t);
-            L0 += 0.00000000083 * Math.cos(2.55427334700 + 1059.5943785103 * t);
-            L0 += 0.00000000099 * Math.cos(4.22263740110 + 8521.1198767086 * t);
-            L0 += 0.00000000078 * Math.cos(5.75868229769 + 5812.373522039 * t);
-            L0 += 0.00000000078 * Math.cos(4.55958930291 + 4752.9915918498 * t);
-            L0 += 0.00000000080 * Math.cos(1.07708178317 + 5378.6617841622 * t);
-            L0 += 0.00000000078 * Math.cos(0.76677000831 + 525.5463635104 * t);
-            L0 += 0.00000000081 * Math.cos(3.10720885599 + 2527.2028039897 * t);
-            L0 += 0.00000000081 * Math.cos(0.45113135705 + 2516.9078632512 * t);
-            L0 += 0.00000000098 * Math.cos(1.42656513937 + 757.2171545342 * t);
-            L0 += 0.00000000087 * Math.cos(4.62233814403 + 184.9879197867 * t);
-            L0 += 0.00000000103 * Math.cos(2.56729943579 + 1124.34166877 * t);
-            L0 += 0.00000000102 * Math.cos(1.33070990614 + 3782.4753418776 * t);
-            L0 += 0.00000000084 * Math.cos(5.05086451175 + 1160.027023853 * t);
-            L0 += 0.00000000079 * Math.cos(2.29616426691 + 2758.6611466924 * t);
-            L0 += 0.00000000080 * Math.cos(0.85136002390 + 1791.3262904579 * t);
-            L0 += 0.00000000075 * Math.cos(5.42366672204 + 2755.4797529547 * t);
-            L0 += 0.00000000085 * Math.cos(1.86831566677 + 25028.521211385 * t);
-            L0 += 0.00000000079 * Math.cos(4.70716888788 + 4120.2078525366 * t);
-            L0 += 0.00000000073 * Math.cos(4.69119414591 + 2115.5824666407 * t);
-            L0 += 0.00000000098 * Math.cos(3.93222636960 + 2124.9836355019 * t);
-            L0 += 0.00000000072 * Math.cos(3.82048491843 + 4539.6924964118 * t);
-            L0 += 0.00000000081 * Math.cos(5.76205552882 + 617.8058857862 * t);
-        }
-        return L0;
+        return new double[] {
+                0.59954691494, 0, 0,
+                0.09695898719, 5.06191793158, 529.6909650946,
+                0.00573610142, 1.44406205629, 7.1135470008,
+                0.00306389205, 5.41734730184, 1059.3819301892,
+                0.00097178296, 4.14264726552, 632.7837393132,
+                0.00072903078, 3.64042916389, 522.5774180938,
+                0.00064263975, 3.41145165351, 103.0927742186,
+                0.00039806064, 2.29376740788, 419.4846438752,
+                0.00038857767, 1.27231755835, 316.3918696566,
+                0.00027964629, 1.78454591820, 536.8045120954,
+                0.00013589730, 5.77481040790, 1589.0728952838,
+                0.00008768704, 3.63000308199, 949.1756089698,
+                0.00008246349, 3.58227925840, 206.1855484372,
+                0.00007368042, 5.08101194270, 735.8765135318,
+                0.00006263150, 0.02497628807, 213.299095438,
+                0.00006114062, 4.51319998626, 1162.4747044078,
+                0.00005305441, 4.18625634012, 1052.2683831884,
+                0.00005305285, 1.30671216791, 14.2270940016,
+                0.00004905396, 1.32084470588, 110.2063212194,
+                0.00004647248, 4.69958103684, 3.9321532631,
+                0.00003045023, 4.31676431084, 426.598190876,
+                0.00002609999, 1.56667394063, 846.0828347512,
+                0.00002028191, 1.06376530715, 3.1813937377,
+                0.00001920945, 0.97168196472, 639.897286314,
+                0.00001764763, 2.14148655117, 1066.49547719,
+                0.00001722972, 3.88036268267, 1265.5674786264,
+                0.00001633223, 3.58201833555, 515.463871093,
+                0.00001431999, 4.29685556046, 625.6701923124,
+                0.00000973272, 4.09764549134, 95.9792272178,
+                0.00000884457, 2.43700227469, 412.3710968744,
+                0.00000732853, 6.08535124451, 838.9692877504,
+                0.00000731094, 3.80592308125, 1581.959348283,
+                0.00000709166, 1.29274760330, 742.9900605326,
+                0.00000691971, 6.13365277914, 2118.7638603784,
+                0.00000614482, 4.10850580886, 1478.8665740644,
+                0.00000581903, 4.53969579398, 309.2783226558,
+                0.00000495219, 3.75564106217, 323.5054166574,
+                0.00000440853, 2.95818598959, 454.9093665273,
+                0.00000417267, 1.03554397138, 2.4476805548,
+                0.00000389876, 4.89706786539, 1692.1656695024,
+                0.00000375664, 4.70304250208, 1368.660252845,
+                0.00000341016, 5.71452379310, 533.6231183577,
+                0.00000330458, 4.74049819491, 0.0481841098,
+                0.00000299396, 2.78323705697, 6254.6266625236,
+                0.00000274035, 0.13372501211, 3340.6797370026,
+                0.00000261541, 1.87652515753, 0.9632078465,
+                0.00000261005, 0.82048379203, 380.12776796,
+                0.00000256589, 3.72410394286, 199.0720014364,
+                0.00000244174, 5.22024286247, 728.762966531,
+                0.00000238857, 5.37155471672, 4136.9104335162,
+                0.00000236114, 5.75504515576, 3333.498879699,
+                0.00000235139, 1.22694468346, 909.8187330546,
+                0.00000221225, 3.50466672203, 382.8965322232,
+                0.00000220381, 1.65114584814, 543.9180590962,
+                0.00000207336, 1.85463683689, 525.7588118315,
+                0.00000204161, 2.82133266185, 1221.8485663214,
+                0.00000201991, 1.80692992449, 1375.7737998458,
+                0.00000197061, 5.29255821015, 1155.361157407,
+                0.00000193126, 3.35715137745, 3.5904286518,
+                0.00000188639, 1.49103016486, 9492.1463150048,
+                0.00000179196, 1.00561112574, 951.7184062506,
+                0.00000175197, 3.22647697998, 1898.3512179396,
+                0.00000175172, 3.72977441220, 942.062061969,
+                0.00000174827, 5.90974976879, 956.2891559706,
+                0.00000174068, 2.41360332576, 553.5694028424,
+                0.00000172110, 0.43943041719, 5486.777843175,
+                0.00000160011, 3.94854735192, 4562.4609930212,
+                0.00000157917, 4.36478445901, 1795.258443721,
+                0.00000150504, 3.90624455135, 74.7815985673,
+                0.00000149385, 4.37744775359, 1685.0521225016,
+                0.00000144305, 1.41874193418, 135.0650800354,
+                0.00000141388, 3.13579930728, 491.5579294568,
+                0.00000139897, 3.32592516164, 2700.7151403858,
+                0.00000138245, 4.30145176915, 7.1135470008,
+                0.00000137898, 1.31800455202, 1169.5882514086,
+                0.00000130993, 4.04491720264, 12303.06777661,
+                0.00000130540, 4.16876671917, 1045.1548361876,
+                0.00000128102, 2.20806651008, 1592.5960136328,
+                0.00000128062, 1.80665643332, 5088.6288397668,
+                0.00000117498, 2.50021486074, 1596.1864422846,
+                0.00000116945, 3.12805282207, 7903.073419721,
+                0.00000116786, 3.38920921060, 0.5212648618,
+                0.00000113486, 3.70070798123, 1589.0728952838,
+                0.00000110375, 1.05195079687, 242.728603974,
+                0.00000105894, 4.55439354032, 526.5095713569,
+                0.00000104541, 0.78535382076, 8827.3902698748,
+                0.00000100090, 3.24343740861, 11773.3768115154,
+                0.00000099524, 1.42112622270, 532.8723588323,
+                0.00000098947, 4.84558294740, 6681.2421070518,
+                0.00000098946, 2.81481140371, 6681.2075997474,
+                0.00000096143, 1.18143253105, 117.3198682202,
+                0.00000095592, 0.53954181149, 20043.6745601988,
+                0.00000091732, 0.85722451006, 1272.6810256272,
+                0.00000087704, 1.21730504350, 453.424893819,
+                0.00000086931, 2.20186740523, 11243.6858464208,
+                0.00000086751, 1.02092221563, 7079.3738568078,
+                0.00000084187, 3.98970720730, 4399.994356889,
+                0.00000083749, 3.20256130990, 4690.4798363586,
+                0.00000077401, 4.42676354183, 39.3568759152,
+                0.00000075034, 0.76643418252, 6467.9257579616,
+                0.00000073476, 2.18428012567, 8429.2412664666,
+                0.00000072091, 5.84672102525, 5884.9268465832,
+                0.00000072028, 4.23856425835, 2111.6503133776,
+                0.00000071437, 2.80307550016, 3185.1920272656,
+                0.00000070461, 5.14178006023, 835.0371344873,
+                0.00000068984, 3.76399731788, 6041.3275670856,
+                0.00000068531, 2.35201905890, 2.9207613068,
+                0.00000068414, 2.73834914412, 2288.3440435114,
+                0.00000066706, 0.73630620766, 3723.508958923,
+                0.00000066540, 2.98844410276, 2214.7430875962,
+                0.00000066111, 5.34380967040, 1471.7530270636,
+                0.00000065320, 2.68118597578, 28.4491874678,
+                0.00000063376, 0.91296240798, 3553.9115221378,
+                0.00000063345, 4.97658360088, 0.7507595254,
+                0.00000063314, 4.52771470470, 426.598190876,
+                0.00000062471, 0.51213142347, 220.4126424388,
+                0.00000061683, 6.16831509419, 2274.1169495098,
+                0.00000060295, 4.12633619420, 4.192785694,
+                0.00000059423, 4.11122034593, 2001.4439921582,
+                0.00000058261, 5.86719898935, 5753.3848848968,
+                0.00000056629, 5.06250410206, 15.252471185,
+                0.00000056396, 1.68727150304, 6872.6731195112,
+                0.00000056014, 1.15477785231, 21.3406410024,
+                0.00000055909, 3.46260833495, 263.0839233728,
+                0.00000055488, 4.60625467020, 4292.3308329504,
+                0.00000054583, 1.57071663540, 983.1158589136,
+                0.00000052954, 0.91283039851, 10.2949407385,
+                0.00000052256, 0.89941531307, 9623.6882766912,
+                0.00000051903, 4.10065404719, 1258.4539316256,
+                0.00000051678, 2.81307492682, 3339.6321056316,
+                0.00000051332, 4.14823636534, 3341.592747768,
+                0.00000048542, 3.95670418719, 4535.0594369244,
+                0.00000046910, 3.54638837922, 5.4166259714,
+                0.00000046785, 4.79414027278, 305.3461693927,
+                0.00000046583, 4.66599487054, 5.6290742925,
+                0.00000046153, 5.10982849847, 4.665866446,
+                0.00000045905, 0.28718981497, 5614.7293762096,
+                0.00000045829, 0.78784235062, 1990.745017041,
+                0.00000044174, 3.19529736702, 5628.9564702112,
+                0.00000043402, 0.14992219581, 528.2064923863,
+                0.00000041939, 3.58326425115, 8031.0922630584,
+                0.00000041834, 4.67980756775, 302.164775655,
+                0.00000041223, 6.02019329922, 3894.1818295422,
+                0.00000040671, 3.13832621829, 9595.2390892234,
+                0.00000040103, 4.68801114087, 0.1600586944,
+                0.00000039495, 5.63225392160, 3097.88382272579,
+                0.00000039307, 1.71678059616, 11.0457002639,
+                0.00000039306, 4.25499338010, 853.196381752,
+                0.00000038921, 6.07598407822, 518.6452648307,
+                0.00000038790, 1.35198498795, 10018.3141617504,
+                0.00000038460, 2.43832240008, 433.7117378768,
+                0.00000038352, 5.82880707426, 3191.0492295652,
+                0.00000038206, 2.34835984063, 162.4666361322,
+                0.00000038107, 0.73401946320, 10025.3603984484,
+                0.00000037895, 0.21140086073, 2648.454825473,
+                0.00000037752, 4.15482955299, 2803.8079146044,
+                0.00000037566, 6.19479786035, 831.8557407496,
+                0.00000037135, 0.68508150774, 2818.035008606,
+                0.00000036716, 2.63720775102, 692.1576012268,
+                0.00000035921, 2.45088327353, 430.5303441391,
+                0.00000035845, 4.61505536309, 2008.557539159,
+                0.00000034031, 2.59544082509, 11769.8536931664,
+                0.00000033844, 1.00563073311, 9683.5945811164,
+                0.00000033626, 6.11992401052, 6489.776587288,
+                0.00000033148, 1.14023770004, 5.5229243074,
+                0.00000032959, 5.28952640380, 88.865680217,
+                0.00000032562, 0.48400659333, 6681.2921637024,
+                0.00000032561, 0.89250316888, 6681.1575430968,
+                0.00000031581, 5.14178165108, 1788.1448967202,
+                0.00000031168, 3.98160912982, 20.3553193988,
+                0.00000030765, 0.42330199069, 1.4844727083,
+                0.00000030469, 3.66675723074, 508.3503240922,
+                0.00000029860, 5.34424466576, 2221.856634597,
+                0.00000029007, 2.42707385674, 3319.8370312074,
+                0.00000028686, 5.72055456734, 7477.522860216,
+                0.00000027686, 1.85227036207, 0.2124483211,
+                0.00000027584, 1.59691203058, 7210.9158184942,
+                0.00000027540, 6.08389942337, 6674.1113063988,
+                0.00000027278, 4.55645328122, 3361.3878221922,
+                0.00000027111, 2.80845416546, 18.1592472647,
+                0.00000026837, 1.77586073782, 532.1386456494,
+                0.00000026357, 1.34532646574, 3496.032826134,
+                0.00000026212, 2.74456887801, 2531.1349572528,
+                0.00000025821, 3.85920335036, 2317.8358618148,
+                0.00000025637, 0.24963523420, 522.5774180938,
+                0.00000025512, 3.43242352804, 3443.7052009184,
+                0.00000025380, 0.52093116112, 10.6366653498,
+                0.00000024705, 2.63498818000, 114.1384744825,
+                0.00000024554, 4.00323183088, 11371.7046897582,
+                0.00000024378, 0.96994696413, 632.7837393132,
+                0.00000024248, 3.82564321484, 1574.8458012822,
+                0.00000023764, 1.84058377256, 12832.7587417046,
+                0.00000023732, 2.52764898478, 494.2662424425,
+                0.00000023191, 3.24511984498, 984.6003316219,
+                0.00000023079, 4.74990214223, 3347.7259737006,
+                0.00000022889, 3.85009333532, 2428.0421830342,
+                0.00000022816, 3.52628212106, 1648.4467571974,
+                0.00000022737, 4.98520896596, 7632.9432596502,
+                0.00000022662, 3.95446324417, 4989.0591838972,
+                0.00000022604, 5.24082917494, 3205.5473466644,
+                0.00000022542, 5.64861703438, 2388.8940204492,
+                0.00000022274, 0.72106133721, 266.6070417218,
+                0.00000021613, 6.01647014213, 1063.3140834523,
+                0.00000021530, 6.15388757177, 3264.3463554242,
+                0.00000021480, 1.28666873894, 35.4247226521,
+                0.00000021343, 4.28218757863, 4032.7700279266,
+                0.00000021202, 3.11824472284, 2957.7158944766,
+                0.00000020963, 4.27878216453, 5099.2655051166,
+                0.00000020697, 4.03443555572, 355.7487455718,
+                0.00000020190, 1.01559114881, 628.8515860501,
+                0.00000020167, 5.59590496803, 527.2432845398,
+                0.00000020158, 3.67131504946, 1758.6530784168,
+                0.00000020093, 1.08247416065, 7064.1213856228,
+                0.00000019849, 2.37668920745, 10713.9948813262,
+                0.00000019445, 0.52370214464, 14.977853527,
+                0.00000019331, 4.85656303715, 1361.5467058442,
+                0.00000019295, 3.23911854642, 7.046236698,
+                0.00000018422, 4.22535881468, 2787.0430238574,
+                0.00000018113, 3.25756020453, 3337.021998048,
+                0.00000018038, 4.25391532000, 2487.4160449478,
+                0.00000017957, 4.30177741048, 6.1503391543,
+                0.00000017709, 3.69742343974, 3344.2028553516,
+                0.00000017555, 4.09197396097, 74.7815985673,
+                0.00000017242, 1.59187221366, 1439.5096981492,
+                0.00000016811, 5.48619684111, 3.881335358,
+                0.00000016772, 4.39731507110, 15643.6802033098,
+                0.00000016648, 2.52823633184, 14584.2982731206,
+                0.00000016199, 2.77035135003, 760.25553592,
+                0.00000016134, 5.27096450385, 142.4496501338,
+                0.00000016069, 2.36895958451, 3265.8308281325,
+                0.00000016051, 3.79409950488, 2118.7638603784,
+                0.00000016042, 1.76786752521, 3475.6775067352,
+                0.00000016011, 1.54669633224, 14054.607308026,
+                0.00000015994, 5.09003506053, 529.7391492044,
+                0.00000015994, 1.89222393849, 529.6427809848,
+                0.00000015846, 0.56901288692, 103.0927742186,
+                0.00000015832, 4.11682340572, 636.7158925763,
+                0.00000015816, 3.13240869691, 59.3738619136,
+                0.00000015331, 6.07685758999, 149.5631971346,
+                0.00000015261, 2.81823022031, 621.7380390493,
+                0.00000014981, 4.86119818170, 2104.5367663768,
+                0.00000014809, 0.87727524457, 99.1606209555,
+                0.00000014680, 6.26419083616, 569.0478410098,
+                0.00000014566, 3.45210993051, 7373.3824546264,
+                0.00000014458, 4.38010658432, 316.3918696566,
+                0.00000014246, 0.59808746067, 23.8784377478,
+                0.00000014202, 2.41335744746, 530.6541729411,
+                0.00000014148, 2.71597731671, 0.2606324309,
+                0.00000014023, 1.44218648988, 10404.7338123226,
+                0.00000013926, 5.40797129468, 10973.55568635,
+                0.00000013714, 3.59050634457, 15113.9892382152,
+                0.00000013704, 2.54117018160, 4933.2084403326,
+                0.00000013665, 3.56042954023, 217.2312487011,
+                0.00000013547, 4.04152185347, 4929.6853219836,
+                0.00000013403, 5.16920432994, 10213.285546211,
+                0.00000013287, 2.18960688770, 1055.4497769261,
+                0.00000013274, 6.17806905340, 1744.4259844152,
+                0.00000013150, 2.72184449861, 1364.7280995819,
+                0.00000012773, 0.10483085657, 7234.794256242,
+                0.00000012733, 1.79883375851, 13745.3462390224,
+                0.00000012646, 4.75590815200, 528.7277572481,
+                0.00000012529, 1.39076773846, 7.065362891,
+                0.00000012340, 2.52146766331, 2906.900688823,
+                0.00000012283, 5.19940030635, 10021.8545337516,
+                0.00000012283, 3.16862882612, 10021.8200264472,
+                0.00000012266, 4.30151937187, 604.4725636619,
+                0.00000012258, 2.61067822838, 405.2575498736,
+                0.00000012199, 1.73079687044, 36.0278666774,
+                0.00000012182, 0.24373178668, 1485.9801210652,
+                0.00000012156, 4.42295240981, 14712.317116458,
+                0.00000011945, 5.47997890162, 2921.1277828246,
+                0.00000011890, 4.76593905835, 5828.0284716476,
+                0.00000011777, 5.72731550900, 0.42007609361,
+                0.00000011676, 3.60450719576, 2634.2277314714,
+                0.00000011603, 4.60461324892, 7.1617311106,
+                0.00000011536, 2.35035142816, 643.8294395771,
+                0.00000011352, 2.00814398370, 1073.6090241908,
+                0.00000011241, 2.48010676188, 423.4167971383,
+                0.00000011121, 4.04930841517, 519.3960243561,
+                0.00000010942, 5.03605236981, 458.8415197904,
+                0.00000010925, 0.60397688999, 5085.038411115,
+                0.00000010828, 5.08717082517, 2324.9494088156,
+                0.00000010797, 1.37191539718, 10419.9862835076,
+                0.00000010692, 2.51399278354, 2847.5268269094,
+                0.00000010685, 4.33894776374, 7740.6067835888,
+                0.00000010645, 5.47696728127, 419.4846438752,
+                0.00000010639, 3.45016942919, 639.897286314,
+                0.00000010629, 2.07778578633, 92.0470739547,
+                0.00000010604, 3.11518747071, 1.2720243872,
+                0.00000010585, 0.89641284928, 23384.2869868986,
+                0.00000010565, 1.09061610786, 12168.0026965746,
+                0.00000010234, 3.63741793836, 2744.4340526908,
+                0.00000010218, 3.65818193440, 107.0249274817,
+                0.00000010128, 2.09031029378, 511.5317178299,
+                0.00000010105, 1.31344662885, 1905.4647649404,
+                0.00000010084, 4.05599680401, 38.1330356378,
+                0.00000010041, 1.38294666830, 3583.3410306738,
+                0.00000009882, 2.69148019691, 36.6053653042,
+                0.00000009873, 1.70233190646, 1699.2792165032,
+                0.00000009808, 5.83632873998, 14314.1681130498,
+                0.00000009779, 3.60056884868, 206.1855484372,
+                0.00000009753, 1.22443091754, 32.2433289144,
+                0.00000009720, 6.28282606427, 9225.539273283,
+                0.00000009578, 4.89489266197, 3230.4061054804,
+                0.00000009560, 4.33382353581, 131.5419616864,
+                0.00000009377, 4.03158387581, 2810.9214616052,
+                0.00000009338, 5.92214604272, 1148.2476104062,
+                0.00000009146, 1.10220667397, 9808.5381846614,
+                0.00000008813, 3.46912264870, 1021.2488945514,
+                0.00000008801, 3.97218590685, 170.6728706192,
+                0.00000008796, 2.77421597882, 6.592282139,
+                0.00000008575, 5.29585347114, 415.5524906121,
+                0.00000008499, 4.29275471153, 0.4298831267,
+                0.00000008478, 2.86886131803, 9381.9399937854,
+                0.00000008433, 3.15239733970, 6525.8044539654,
+                0.00000008421, 4.52526352162, 1677.9385755008,
+                0.00000008392, 2.90734956761, 43.718912305,
+                0.00000008280, 2.98793394775, 540.7366653585,
+                0.00000008221, 1.23649767817, 1802.3719907218,
+                0.00000008180, 0.43967386003, 2707.8286873866,
+                0.00000007941, 2.86765260965, 2125.8774073792,
+                0.00000007901, 2.32514375888, 230.5645708254,
+                0.00000007886, 0.99641706679, 408.4389436113,
+                0.00000007841, 6.08025868276, 70.8494453042,
+                0.00000007712, 2.13818572880, 33.9402499438,
+                0.00000007706, 1.69807427167, 8.0767548473,
+                0.00000007653, 0.52812977555, 672.1406152284,
+                0.00000007576, 6.16308742022, 6531.661656265,
+                0.00000007517, 1.24476310635, 6894.5239488376,
+                0.00000007472, 3.02787419533, 330.6189636582,
+                0.00000007347, 1.24457591968, 24.3790223882,
+                0.00000007341, 4.95693808975, 3767.2106175758,
+                0.00000007285, 0.52756973131, 10575.4066829418,
+                0.00000007265, 4.65479123794, 629.6023455755,
+                0.00000007248, 4.61590472787, 2420.9286360334,
+                0.00000007163, 4.93237560809, 1056.2005364515,
+                0.00000007127, 1.43485695449, 6.2197751235,
+                0.00000006753, 1.58869332894, 6836.6452528338,
+                0.00000006697, 5.77315870484, 5202.3582793352,
+                0.00000006666, 4.38910103043, 66.4874089144,
+                0.00000006645, 0.45640663795, 635.9651330509,
+                0.00000006632, 3.48100908925, 1118.7557921028,
+                0.00000006532, 1.24907069366, 12964.300703391,
+                0.00000006427, 6.03333185624, 574.3447983348,
+                0.00000006383, 3.54298789012, 1891.2376709388,
+                0.00000006340, 0.07280718454, 202.2533951741,
+                0.00000006307, 1.77830983983, 2178.137722292,
+                0.00000006296, 0.06976040737, 1964.838626854,
+                0.00000006246, 1.77826735859, 1062.5633239269,
+                0.00000006214, 4.54560345236, 2.7083129857,
+                0.00000006188, 1.57847967850, 3325.3599555148,
+                0.00000006144, 5.43713363624, 1861.7458526354,
+                0.00000006134, 3.16322441707, 6680.2445323314,
+                0.00000006103, 4.49866000852, 6682.2051744678,
+                0.00000005962, 3.01318151415, 3369.0616141676,
+                0.00000005937, 4.22752447794, 4459.3682188026,
+                0.00000005895, 0.77226207039, 2699.7348193176,
+                0.00000005855, 5.42127169330, 28.3111756513,
+                0.00000005848, 4.30379700916, 7875.6718636242,
+                0.00000005843, 2.95362326688, 490.3340891794,
+                0.00000005823, 2.39009621568, 3302.479391062,
+                0.00000005773, 3.55190490896, 8969.568896911,
+                0.00000005773, 5.92316959013, 640.8776073822,
+                0.00000005770, 0.96127853878, 13916.0191096416,
+                0.00000005725, 4.93042706875, 2384.3232707292,
+                0.00000005674, 5.14130380414, 746.9222137957,
+                0.00000005664, 0.50446281443, 5305.4510535538,
+                0.00000005661, 0.75892958537, 3120.199784261,
+                0.00000005629, 3.24347319369, 529.1697002328,
+                0.00000005629, 3.73870719507, 530.2122299564,
+                0.00000005608, 4.98112575538, 2641.3412784722,
+                0.00000005491, 3.42235890731, 3134.4268782626,
+                0.00000005456, 3.34715399006, 2950.619601128,
+                0.00000005438, 4.29256867866, 3503.079062832,
+                0.00000005436, 6.18510045571, 8425.6508378148,
+                0.00000005403, 5.96867227489, 3074.005384978,
+                0.00000005388, 4.90171438369, 69.1525242748,
+                0.00000005344, 0.31505537960, 1289.9465010146,
+                0.00000005270, 3.89098773035, 191.9584544356,
+                0.00000005266, 4.51201042373, 6144.4203413042,
+                0.00000005264, 5.40031180025, 3355.8648978848,
+                0.00000005214, 0.01023839897, 533.2140834436,
+                0.00000005212, 3.48999909365, 12935.8515159232,
+                0.00000005192, 3.63500646439, 536.8045120954,
+                0.00000005182, 3.25459432228, 2391.43681773,
+                0.00000005163, 5.07430434384, 67.6680515665,
+                0.00000005120, 4.85758375369, 31.019488637,
+                0.00000005095, 1.12497131307, 5331.3574437408,
+                0.00000005093, 0.60873962999, 8955.3418029094,
+                0.00000004943, 5.37603229206, 721.6494195302,
+                0.00000004936, 4.82992128024, 422.6660376129,
+                0.00000004917, 6.25051681717, 17654.7805397496,
+                0.00000004912, 1.70762118141, 13358.9265884502,
+                0.00000004906, 3.73078406569, 1228.9621133222,
+                0.00000004879, 0.07093292758, 78.7137518304,
+                0.00000004854, 5.63875710470, 1.6969210294,
+                0.00000004820, 1.09025983917, 13365.9728251482,
+                0.00000004798, 4.63144694279, 4569.574540022,
+                0.00000004738, 6.10247687172, 106.2741679563,
+                0.00000004701, 3.41632316320, 3060.8259223474,
+                0.00000004631, 3.34058594066, 3116.2676309979,
+                0.00000004576, 0.99344843456, 6158.6474353058,
+                0.00000004561, 2.29662333497, 3163.918696566,
+                0.00000004471, 4.49152590899, 505.3119427064,
+                0.00000004466, 4.59188422424, 5518.7501489918,
+                0.00000004453, 0.50550043817, 524.0618908021,
+                0.00000004422, 2.89974680697, 6247.5131155228,
+                0.00000004414, 5.67223937661, 1464.6394800628,
+                0.00000004409, 1.38708732950, 17256.6315363414,
+                0.00000004329, 0.84948546685, 531.1754378029,
+                0.00000004313, 4.79367774897, 535.107591066,
+                0.00000004280, 0.54783823710, 1.4362885985,
+                0.00000004261, 2.67050830494, 561.934294009,
+                0.00000004227, 5.32680781419, 2538.2485042536,
+                0.00000004227, 5.51697565211, 5223.6939198022,
+                0.00000004220, 1.69427060019, 13524.9163429314,
+                0.00000004211, 3.87091723842, 3312.163239232,
+                0.00000004193, 0.19116539271, 9830.3890139878,
+                0.00000004164, 0.43798301495, 1066.49547719,
+                0.00000004156, 4.00674305729, 99.9113804809,
+                0.00000004153, 3.14497570817, 8439.8779318164,
+                0.00000004130, 2.81118299519, 416.3032501375,
+                0.00000004129, 4.74946631331, 0.8937718773,
+                0.00000004093, 0.19987691246, 525.0250986486,
+                0.00000004052, 1.24671617482, 10021.7699697966,
+                0.00000004046, 0.83826342101, 10021.9045904022,
+                0.00000004040, 2.91258200196, 22747.2907148744,
+                0.00000003975, 4.03441621102, 1052.2683831884,
+                0.00000003968, 4.56799284427, 1382.8873468466,
+                0.00000003957, 1.92811865595, 1512.8068240082,
+                0.00000003946, 5.81982010903, 6261.7402095244,
+                0.00000003874, 1.56573094048, 647.0108333148,
+                0.00000003856, 4.28927088609, 1994.3304451574,
+                0.00000003840, 1.91064921809, 378.6432952517,
+                0.00000003821, 5.23987859516, 5724.935697429,
+                0.00000003734, 1.37011069213, 3973.396166013,
+                0.00000003723, 0.49978317761, 1.4844727083,
+                0.00000003688, 0.39899953746, 685.4739373527,
+                0.00000003662, 4.35201972236, 2737.32050569,
+                0.00000003628, 0.07910101827, 558.0021407459,
+                0.00000003607, 4.24527056399, 8329.671610597,
+                0.00000003597, 6.07298181151, 10818.1352869158,
+                0.00000003591, 2.30995707520, 908.3342603463,
+                0.00000003584, 5.48543989133, 750.1036075334,
+                0.00000003567, 5.07207593227, 73.297125859,
+                0.00000003547, 1.87663674277, 17395.2197347258,
+                0.00000003511, 1.95133364438, 10177.2576795336,
+                0.00000003496, 0.31250621097, 597.3590166611,
+                0.00000003445, 4.26610076208, 3178.1457905676,
+                0.00000003440, 2.77706064625, 6660.4494579072,
+                0.00000003438, 1.93467064449, 10551.528245194,
+                0.00000003433, 0.20933510815, 6604.958782124,
+                0.00000003400, 6.00302355875, 1.2238402774,
+                0.00000003397, 3.29611266379, 911.3032057629,
+                0.00000003397, 3.83080921477, 210.1177017003,
+                0.00000003387, 0.14377701728, 10014.7237330986,
+                0.00000003383, 4.42166889790, 312.4597163935,
+                0.00000003374, 0.74722238154, 6048.4411140864,
+                0.00000003356, 1.08298579333, 46.470422916,
+                0.00000003352, 1.44371985824, 593.426863398,
+                0.00000003347, 0.68791690253, 3863.1898447936,
+                0.00000003321, 2.71397444568, 495.7507151508,
+                0.00000003316, 2.70210829186, 532.6117264014,
+                0.00000003300, 0.68865737747, 149.5631971346,
+                0.00000003299, 4.27641782638, 526.7702037878,
+                0.00000003246, 4.90760526525, 6702.000248892,
+                0.00000003235, 3.90171358031, 27.4015560968,
+                0.00000003224, 2.45813595822, 960.2213092337,
+                0.00000003223, 0.92640008610, 16865.5287696312,
+                0.00000003218, 2.90660065796, 963.4027029714,
+                0.00000003197, 5.86630896662, 4.1446015842,
+                0.00000003153, 2.30879679988, 457.617679513,
+                0.00000003150, 3.81062282472, 280.9671470045,
+                0.00000003109, 2.18099805904, 16173.3711684044,
+                0.00000003090, 3.98540766861, 2648.454825473,
+                0.00000003089, 4.39619824300, 1332.0548875408,
+                0.00000003084, 3.79925632319, 169.580183133,
+                0.00000003078, 5.48104322207, 3335.0895023924,
+                0.00000003059, 5.32615258179, 530.44172462,
+                0.00000003057, 1.65588839054, 528.9402055692,
+                0.00000003026, 0.34314724795, 220.4126424388,
+                0.00000003023, 5.52874613382, 618.5566453116,
+                0.00000003011, 1.59274545702, 224.3447957019,
+                0.00000002991, 2.37500894603, 13517.8701062334,
+                0.00000002941, 3.76169133143, 6784.3176276182,
+                0.00000002937, 0.73100893561, 2.751510611,
+                0.00000002932, 0.41424504523, 7.8643065262,
+                0.00000002925, 4.47579366684, 533.8837507886,
+                0.00000002907, 3.43894993113, 2693.601593385,
+                0.00000002901, 2.50012990691, 525.4981794006,
+                0.00000002883, 2.64068086362, 3320.257107301,
+                0.00000002879, 1.47180601483, 3346.1353510072,
+                0.00000002798, 3.26910698548, 9168.6408983474,
+                0.00000002798, 2.79673379094, 16858.4825329332,
+                0.00000002797, 2.98948711408, 483.2205421786,
+                0.00000002753, 4.41190782119, 3415.3940252671,
+                0.00000002719, 3.26628341377, 3914.9572250346,
+                0.00000002712, 3.18157742001, 1474.6737883704,
+                0.00000002703, 0.19222683184, 3237.5196524812,
+                0.00000002703, 5.89441421026, 6438.4962494256,
+                0.00000002701, 5.08537226206, 6688.3384004004,
+                0.00000002698, 5.23121581439, 739.8086667949,
+                0.00000002696, 2.66931776730, 10184.3039162316,
+                0.00000002683, 3.68680362407, 3603.6963500726,
+                0.00000002678, 5.06400504512, 456.3938392356,
+                0.00000002665, 0.49714213041, 1057.8974574809,
+                0.00000002621, 3.82783663712, 520.129737539,
+                0.00000002619, 3.09144103989, 3267.0114707846,
+                0.00000002606, 4.83032556909, 4672.6673142406,
+                0.00000002596, 2.77467288033, 177.8743727859,
+                0.00000002587, 0.03759881914, 1.6445314027,
+                0.00000002566, 5.55941956468, 6546.1597733642,
+                0.00000002563, 3.35095990562, 2207.6295405954,
+                0.00000002553, 0.36858603419, 1048.3362299253,
+                0.00000002550, 4.18354174372, 3546.797975137,
+                0.00000002521, 4.21237950687, 2494.5295919486,
+                0.00000002513, 2.88151502604, 17924.9106998204,
+                0.00000002508, 5.99249607455, 5729.506447149,
+                0.00000002498, 0.47888741754, 945.2434557067,
+                0.00000002492, 6.10452779411, 3329.97576135,
+                0.00000002467, 2.81052575497, 15110.4661198662,
+                0.00000002458, 0.65614526486, 9153.9036160218,
+                0.00000002444, 3.46901444423, 6298.3283211764,
+                0.00000002424, 3.57564169482, 953.1077622329,
+                0.00000002406, 2.29315638318, 195.1398481733,
+                0.00000002387, 4.30419979225, 3360.96774609859,
+                0.00000002386, 1.05710815775, 3607.2194684216,
+                0.00000002381, 6.19254995974, 327.4375699205,
+                0.00000002356, 0.67397074780, 227.5261894396,
+                0.00000002354, 0.85896789940, 3351.2490920496,
+                0.00000002343, 0.90613584736, 227.476132789,
+                0.00000002332, 5.05223613332, 20618.0193585336,
+                0.00000002322, 5.87923753103, 2751.5475996916,
+                0.00000002304, 6.07210985790, 1214.7350193206,
+                0.00000002292, 4.20486152808, 1038.0412891868,
+                0.00000002271, 1.67327013848, 731.9443602687,
+                0.00000002271, 3.78951734652, 7910.1869667218,
+                0.00000002265, 3.87401620754, 110.2063212194,
+                0.00000002260, 5.38117794868, 1781.0313497194,
+                0.00000002260, 3.62776666288, 7799.9806455024,
+                0.00000002249, 5.26171743929, 5618.3198048614,
+                0.00000002245, 3.18183437676, 3377.217792004,
+                0.00000002218, 3.65953926062, 282.4516197128,
+                0.00000002217, 1.92368906923, 535.9107402181,
+                0.00000002204, 0.59883534036, 3178.1457905676,
+                0.00000002202, 5.58486973955, 664.75604513,
+                0.00000002201, 4.69972051344, 17277.4069318338,
+                0.00000002199, 3.94421228731, 31.492569389,
+                0.00000002184, 3.08383961547, 524.2743391232,
+                0.00000002182, 4.87392902929, 535.3200393871,
+                0.00000002178, 3.21663279493, 20199.094959633,
+                0.00000002166, 5.43273753334, 534.3568315406,
+                0.00000002166, 3.35965682842, 589.0648270082,
+                0.00000002154, 3.59696831702, 6677.6344247478,
+                0.00000002154, 4.59093274516, 5625.3660415594,
+                0.00000002145, 4.74972617629, 18984.2926300096,
+                0.00000002135, 3.75723920792, 724.8308132679,
+                0.00000002131, 2.51801264340, 1545.3539829788,
+                0.00000002127, 1.24322560799, 539.9859058331,
+                0.00000002120, 2.70078368869, 387.2413149608,
+                0.00000002117, 4.80404492675, 3657.0042963564,
+                0.00000002116, 6.20284849642, 209.3669421749,
+                0.00000002112, 4.57048853017, 6127.6554505572,
+                0.00000002111, 5.61905648764, 16.4623262353,
+                0.00000002109, 1.48733908496, 2679.3794999188,
+                0.00000002108, 3.22886421713, 252.6559713532,
+                0.00000002094, 1.78938870686, 20597.2439630412,
+                0.00000002093, 4.03688419630, 6684.8152820514,
+                0.00000002078, 5.28920605515, 76.2660712756,
+                0.00000002073, 1.50113866877, 551.031606097,
+                0.00000002056, 6.27074172997, 245.5424243524,
+                0.00000002041, 0.15616571970, 598.8434893694,
+                0.00000002035, 2.75110234296, 128.0188433374,
+                0.00000002034, 4.81691423751, 2957.7331481288,
+                0.00000002025, 4.82814272957, 17.2654753874,
+                0.00000001947, 1.94468082531, 529.5309064002,
+                0.00000001947, 5.03751779986, 529.851023789,
+                0.00000001945, 2.10604975291, 3480.3105662226,
+                0.00000001934, 4.10019561108, 3053.7123753466,
+                0.00000001929, 1.21920197307, 21.8508293264,
+                0.00000001919, 3.14810072956, 381.6122406683,
+                0.00000001918, 3.31232891649, 3333.5661900018,
+                0.00000001909, 2.11478314309, 6816.289933435,
+                0.00000001906, 4.06896916057, 1819.6374661092,
+                0.00000001899, 0.05094358013, 560.7104537316,
+                0.00000001896, 4.01429491115, 2310.722314814,
+                0.00000001894, 4.12432529517, 3399.9862886134,
+                0.00000001890, 4.14080522607, 5459.3762870782,
+                0.00000001876, 3.02034887080, 4885.9664096786,
+                0.00000001871, 2.03707390080, 56.8983749356,
+                0.00000001852, 2.36130812462, 37.8724032069,
+                0.00000001835, 3.93223068469, 6843.6914895318,
+                0.00000001832, 0.31684585935, 124.433415221,
+                0.00000001827, 1.14937084769, 2807.3983432562,
+                0.00000001824, 3.94139541752, 18454.601664915,
+                0.00000001814, 0.92405242552, 4555.3474460204,
+                0.00000001800, 5.17144672709, 38.1330356378,
+                0.00000001770, 2.73496011079, 6606.4432548323,
+                0.00000001770, 2.18315009072, 2301.58581590939,
+                0.00000001767, 5.45221132569, 2854.6403739102,
+                0.00000001764, 5.90517079295, 3326.3853326982,
+                0.00000001756, 2.32963193021, 938.1299087059,
+                0.00000001745, 1.34021867874, 25.1297819136,
+                0.00000001743, 2.22986352012, 17085.9586657222,
+                0.00000001733, 1.70571779606, 6.6836638741,
+                0.00000001723, 1.98207274526, 735.8765135318,
+                0.00000001712, 2.60291779744, 29.429508536,
+                0.00000001708, 2.09721350898, 2814.4445799542,
+                0.00000001707, 4.88386665097, 3407.0998356142,
+                0.00000001706, 5.40277333462, 20.4468691251,
+                0.00000001680, 3.49750704538, 3347.6586633978,
+                0.00000001678, 6.22853454017, 833.552661779,
+                0.00000001677, 4.39073937265, 8270.2977486834,
+                0.00000001661, 3.07319305915, 1692.1656695024,
+                0.00000001657, 0.02916161564, 138.5174968707,
+                0.00000001653, 3.86316179052, 699.2711482276,
+                0.00000001651, 0.63598292839, 17.4084877393,
+                0.00000001649, 2.12096966866, 1061.829610744,
+                0.00000001648, 2.88801518612, 8273.8208670324,
+                0.00000001619, 0.07481583409, 1435.1476617594,
+                0.00000001601, 3.92730015840, 17.5261078183,
+                0.00000001577, 3.51777131580, 13362.432453147,
+                0.00000001577, 5.54854302324, 13362.4669604514,
+                0.00000001561, 0.80246904730, 3017.1070100424,
+                0.00000001552, 2.66876850182, 3024.2205570432,
+                0.00000001550, 5.25207305606, 437.6438911399,
+                0.00000001547, 2.12956399169, 661.232926781,
+                0.00000001544, 3.23251603238, 156.4007205024,
+                0.00000001543, 5.82417982389, 3344.4937620578,
+                0.00000001543, 1.13497136095, 3336.7310913418,
+                0.00000001527, 1.10261249454, 2675.8563815698,
+                0.00000001504, 0.83367652471, 4775.7600884592,
+                0.00000001503, 4.34389183170, 13936.794505134,
+                0.00000001497, 2.57629850836, 151.8972810852,
+                0.00000001494, 3.81397557923, 319.5732633943,
+                0.00000001487, 2.24866746540, 10.0343083076,
+                0.00000001479, 3.88994194685, 6034.2140200848,
+                0.00000001478, 4.63008666184, 19800.9459562248,
+                0.00000001477, 5.26757779384, 810.6581120991,
+                0.00000001477, 4.69745636225, 630.3360587584,
+                0.00000001476, 0.24757783675, 1593.0050485469,
+                0.00000001476, 4.20852908107, 16460.33352952499,
+                0.00000001474, 4.65215247212, 394.6258850592,
+                0.00000001471, 4.80574673735, 696.5196376166,
+                0.00000001469, 2.91808856545, 12722.5524204852,
+                0.00000001468, 5.91503888421, 3339.1279539915,
+                0.00000001466, 1.72925259575, 59.8037450403,
+                0.00000001462, 2.27467510211, 369.6998159404,
+                0.00000001458, 1.42630589706, 15508.6151232744,
+                0.00000001446, 5.54999644374, 43.2890291783,
+                0.00000001443, 1.18211898345, 440.8252848776,
+                0.00000001439, 0.48751113425, 76.2660712756,
+                0.00000001437, 6.22449718728, 155.7829722581,
+                0.00000001437, 3.48241890037, 3281.2385647862,
+                0.00000001436, 1.45810543491, 537.7677199419,
+                0.00000001417, 5.82294202166, 81.7521332162,
+                0.00000001416, 2.46912016889, 2597.6223661672,
+                0.00000001413, 3.07444531604, 6283.0758499914,
+                0.00000001406, 2.42916192473, 853.196381752,
+                0.00000001404, 0.26052756597, 50.4025761791,
+                0.00000001403, 4.89956428847, 4039.8835749274,
+                0.00000001400, 4.84490735600, 295.0512286542,
+                0.00000001389, 2.87752350116, 1023.9572075371,
+                0.00000001385, 4.18004525683, 2284.7536148596,
+                0.00000001385, 2.90281983822, 1581.959348283,
+                0.00000001377, 2.56537541792, 568.8218740274,
+                0.00000001376, 3.61001303649, 415.2918581812,
+                0.00000001375, 4.90787845983, 3304.5845600224,
+                0.00000001369, 0.08979359617, 7895.9598727202,
+                0.00000001368, 1.71899681607, 13760.5987102074,
+                0.00000001364, 3.56722222020, 1514.2912967165,
+                0.00000001361, 4.69126219798, 11081.2192102886,
+                0.00000001349, 0.39391022745, 2540.7913015344,
+                0.00000001344, 2.20177702106, 529.9034134157,
+                0.00000001344, 4.78042160411, 529.4785167735,
+                0.00000001343, 6.14827104783, 988.532484885,
+                0.00000001343, 1.43417621076, 1158.5425511447,
+                0.00000001341, 0.49262294590, 635.231419868,
+                0.00000001339, 1.16084562282, 2435.155730035,
+                0.00000001338, 1.26080837186, 902.7051860538,
+                0.00000001331, 3.80007277718, 13119.72110282519,
+                0.00000001325, 4.15426187385, 916.9322800554,
+                0.00000001311, 6.21748423079, 2547.8375382324,
+                0.00000001300, 3.14077552949, 547.8502123593,
+                0.00000001292, 6.02388659607, 3316.733988952,
+                0.00000001285, 4.22955322265, 1215.1649024473,
+                0.00000001284, 5.30205682052, 6571.0185321802,
+                0.00000001282, 4.52288421340, 3929.677253708,
+                0.00000001273, 5.19038966009, 2097.423219376,
+                0.00000001272, 5.84659079053, 21.335640467,
+                0.00000001270, 4.08996241400, 4356.275444584,
+                0.00000001263, 3.46181945031, 40.8413486235,
+                0.00000001260, 3.05940711410, 1894.4190646765,
+                0.00000001256, 3.04496727213, 447.7958195265,
+                0.00000001254, 3.84775964741, 3980.5097130138,
+                0.00000001253, 5.82286965998, 3344.5445799629,
+                0.00000001252, 1.34285306257, 739.0579072695,
+                0.00000001245, 5.94918194719, 1056.9342496344,
+                0.00000001244, 2.81685406295, 3583.4033404412,
+                0.00000001243, 6.16316972773, 462.0229135281,
+                0.00000001240, 2.27960685992, 6.9010986797,
+                0.00000001238, 2.21195391602, 25558.2121764796,
+                0.00000001237, 4.41132627005, 292.0128472684,
+                0.00000001230, 4.78806138085, 1166.4068576709,
+                0.00000001224, 0.09270815220, 824.7421937488,
+                0.00000001209, 3.36291805492, 521.6142102473,
+                0.00000001202, 5.90681878458, 187.9251477626,
+                0.00000001197, 1.24543578245, 26724.8994135984,
+                0.00000001193, 1.96467811927, 1969.2006632438,
+                0.00000001188, 3.46422365287, 1015.6630178842,
+                0.00000001185, 3.65682936623, 6456.8800576977,
+                0.00000001183, 0.31560034120, 1162.4747044078,
+                0.00000001172, 1.72927931309, 6923.9534573736,
+                0.00000001170, 4.15567553953, 14.2270940016,
+                0.00000001167, 4.09455518613, 203.0041546995,
+                0.00000001166, 4.65530520965, 944.9828232758,
+                0.00000001165, 3.50653563773, 8.5980197091,
+                0.00000001162, 0.01265418336, 850.0149880143,
+                0.00000001162, 5.51229668479, 2.9689454166,
+                0.00000001159, 0.00546309207, 799.8211251654,
+                0.00000001154, 1.81024985603, 158.9435177832,
+                0.00000001148, 0.42666214138, 949.1756089698,
+                0.00000001138, 5.11611531676, 885.4397106664,
+                0.00000001137, 2.48561382158, 2.0057375701,
+                0.00000001136, 5.54132891775, 13553.8979729108,
+                0.00000001134, 0.13507173479, 12566.1516999828,
+                0.00000001131, 1.54587053613, 775.233389447,
+                0.00000001130, 3.46061330657, 5732.0492444298,
+                0.00000001130, 2.06879370733, 3376.6402933772,
+                0.00000001126, 5.22902222299, 194.9713844606,
+                0.00000001124, 1.40102701439, 13149.1506113612,
+                0.00000001122, 4.31726854418, 107.6635239386,
+                0.00000001121, 5.04552583589, 23141.5583829246,
+                0.00000001118, 3.80747957482, 7.0016724162,
+                0.00000001110, 3.63236419104, 306.830642101,
+                0.00000001101, 4.56980597491, 3274.1250177854,
+                0.00000001099, 4.08747611117, 802.3639224462,
+                0.00000001090, 6.06536924506, 3341.0325027934,
+                0.00000001088, 0.89388884633, 3340.19235060619,
+                0.00000001084, 5.70551481838, 3760.097070575,
+                0.00000001078, 6.24742453183, 17.812522118,
+                0.00000001077, 2.57045229823, 25.2727942655,
+                0.00000001077, 0.95773741232, 608.404716925,
+                0.00000001074, 2.80025232939, 3077.528503327,
+                0.00000001070, 4.33159520959, 610.6923387854,
+                0.00000001063, 1.93321644244, 87.30820453981,
+                0.00000001063, 0.99370930422, 320.3240229197,
+                0.00000001060, 3.85856786258, 631.8205314667,
+                0.00000001059, 1.34075999078, 2149.6885348242,
+                0.00000001058, 3.63303046818, 7255.5696517344,
+                0.00000001051, 1.41051789534, 72.0732855816,
+                0.00000001050, 2.20935815967, 7.2254215854,
+                0.00000001049, 2.94996331904, 3693.6096616606,
+                0.00000001049, 5.81616384906, 26.826702943,
+                0.00000001046, 3.50232998647, 9866.4168806652,
+                0.00000001044, 5.63190253364, 732.6951197941,
+                0.00000001044, 4.34158344243, 2277.7073781616,
+                0.00000001042, 1.65853884324, 565.1156877467,
+                0.00000001042, 5.79270367192, 303.8616966844,
+                0.00000001037, 3.87887112181, 3370.1042450032,
+                0.00000001035, 1.30805281638, 633.7469471597,
+                0.00000001033, 2.47380728164, 31.9723058168,
+                0.00000001033, 3.98512631089, 10596.1820784342,
+                0.00000001030, 1.81822316076, 465.9550667912,
+                0.00000001030, 0.42255009123, 1596.1864422846,
+                0.00000001020, 3.23608012616, 2524.021410252,
+                0.00000001005, 5.48594935121, 11236.57229942,
+                0.00000000992, 5.41914618009, 1059.430114299,
+                0.00000000991, 4.16587901561, 632.831923423,
+                0.00000000991, 2.76931703924, 5938.234792867,
+                0.00000000991, 2.22133552179, 1059.3337460794,
+                0.00000000986, 1.05152205629, 16335.8378045366,
+                0.00000000984, 0.98260252064, 632.7355552034,
+                0.00000000977, 3.44426658417, 9779.1086761254,
+                0.00000000976, 3.80163486221, 2627.1141844706,
+                0.00000000970, 4.56604202702, 429.0458714308,
+                0.00000000962, 4.85370284827, 3510.1926098328,
+                0.00000000961, 0.87315283345, 544.6688186216,
+                0.00000000960, 6.16414205869, 8542.970706035,
+                0.00000000959, 5.45446729951, 451.9404211107,
+                0.00000000957, 4.41421752360, 433.7117378768,
+                0.00000000954, 3.98272904231, 836.5216071956,
+                0.00000000945, 5.10393817688, 8013.2797409404,
+                0.00000000945, 0.21610469082, 9872.2740829648,
+                0.00000000941, 4.14573950731, 945.9942152321,
+                0.00000000940, 3.58974561600, 23539.7073863328,
+                0.00000000936, 1.58837554752, 10235.1363755374,
+                0.00000000935, 6.01864688839, 173.9422195228,
+                0.00000000932, 4.62514414355, 1049.0869894507,
+                0.00000000932, 1.56812178735, 111.1866422876,
+                0.00000000931, 4.61327789373, 5415.6573747732,
+                0.00000000927, 6.10893117621, 514.7131115676,
+                0.00000000926, 3.02847055739, 3377.217792004,
+                0.00000000924, 0.82106390115, 3364.4908644476,
+                0.00000000921, 1.71021166461, 2067.9314010726,
+                0.00000000918, 4.37217510741, 1854.6323056346,
+                0.00000000914, 6.17641484462, 952.3570027075,
+                0.00000000910, 1.91562889347, 401.6721217572,
+                0.00000000908, 5.30549216988, 7107.8230442756,
+                0.00000000903, 4.86743346013, 931.3630868518,
+                0.00000000903, 1.94322862741, 3796.7024358792,
+                0.00000000903, 2.24012900198, 523.5406259403,
+                0.00000000901, 3.03566995700, 460.5384408198,
+                0.00000000899, 5.32174286122, 3171.0322435668,
+                0.00000000893, 4.27448748055, 0.6331394464,
+                0.00000000889, 1.81025662091, 2409.249339848,
+                0.00000000884, 1.71007411939, 3.9321532631,
+                0.00000000882, 4.80008598720, 384.0599212231,
+                0.00000000879, 1.69353525086, 1744.8558675419,
+                0.00000000865, 1.12444569157, 206.7007372966,
+                0.00000000864, 3.03246422011, 1041.2226829245,
+                0.00000000861, 2.82160166871, 1060.3451380357,
+                0.00000000860, 2.78826625605, 5621.8601768626,
+                0.00000000860, 0.75749461239, 5621.8256695582,
+                0.00000000854, 0.32316261535, 1098.7388061044,
+                0.00000000854, 1.22328398267, 611.4430983108,
+                0.00000000853, 1.84243320985, 2142.6422981262,
+                0.00000000851, 0.25287875945, 11766.2632645146,
+                0.00000000850, 3.82228424021, 272.6729573516,
+                0.00000000850, 1.24977903471, 12295.9542296092,
+                0.00000000850, 5.46114025921, 41.0537969446,
+                0.00000000846, 3.26302783028, 1151.4290041439,
+                0.00000000842, 1.59708732155, 16304.9131300908,
+                0.00000000835, 4.64394754967, 127.9515330346,
+                0.00000000833, 1.49468358374, 563.6312150384,
+                0.00000000826, 1.26069501589, 20206.141196331,
+                0.00000000824, 2.42928138519, 11.0457002639,
+                0.00000000823, 2.65316808033, 3169.9395560806,
+                0.00000000822, 0.90150471199, 8646.0634802536,
+                0.00000000822, 4.49680557640, 10213.285546211,
+                0.00000000821, 0.19617131185, 22743.4093795164,
+                0.00000000819, 6.04967230806, 19402.7969528166,
+                0.00000000817, 4.65313917851, 535.8413042489,
+                0.00000000808, 1.17345081945, 6460.8122109608,
+                0.00000000804, 5.03144428114, 2.5427972808,
+                0.00000000802, 0.83949166659, 1261.6353253633,
+                0.00000000802, 5.79880803733, 981.6313862053,
+                0.00000000801, 4.54004277501, 1039.0266107904,
+                0.00000000796, 5.36663489938, 420.9691165835,
+                0.00000000794, 4.57067003887, 5223.6939198022,
+                0.00000000793, 2.84922599989, 29.4918183034,
+                0.00000000785, 4.63077378309, 3341.0423098265,
+                0.00000000785, 2.32844966721, 3340.1825435731,
+                0.00000000784, 3.24368310213, 3384.3313390048,
+                0.00000000784, 1.85121094914, 313.2104759189,
+                0.00000000782, 3.03559242565, 5.8415226136,
+                0.00000000781, 3.58209400202, 2281.2304965106,
+                0.00000000780, 1.15181502540, 377.3736079158,
+                0.00000000779, 1.97930055918, 5408.5438277724,
+                0.00000000764, 5.05232912435, 827.9235874865,
+                0.00000000763, 0.42513533173, 3873.8265101434,
+                0.00000000760, 4.34851471971, 100.6450936638,
+                0.00000000754, 2.89691411536, 3296.8935143948,
+                0.00000000752, 3.51125131831, 10020.8569590312,
+                0.00000000750, 4.84737198179, 10022.8176011676,
+                0.00000000749, 2.50286751020, 2295.4575905122,
+                0.00000000745, 1.80925868883, 2332.0629558164,
+                0.00000000743, 2.79188326958, 1173.5204046717,
+                0.00000000736, 2.21038016464, 146.8116865236,
+                0.00000000736, 2.24443728739, 11250.7993934216,
+                0.00000000735, 3.91703254169, 12310.1813236108,
+                0.00000000732, 5.93179840659, 42.5382696529,
+                0.00000000731, 5.61232905415, 16062.1845261168,
+                0.00000000731, 5.86652105139, 501.3797894433,
+                0.00000000730, 1.87143496079, 153.4953503977,
+                0.00000000729, 3.56726385957, 485.9720527896,
+                0.00000000727, 1.05835550856, 490.0734567485,
+                0.00000000726, 5.04566216294, 3329.5667264359,
+                0.00000000719, 3.35536995801, 11780.4903585162,
+                0.00000000719, 4.92550251320, 421.93232443,
+                0.00000000719, 0.85722557203, 362.8622925726,
+                0.00000000715, 4.62515255534, 385.5443939314,
+                0.00000000715, 5.07610655676, 1058.4187223427,
+                0.00000000713, 4.80558699772, 4142.976349146,
+                0.00000000711, 0.96230448675, 373.0142209592,
+                0.00000000708, 2.93048853593, 417.0369633204,
+                0.00000000708, 6.01601101389, 395.105621487,
+                0.00000000705, 1.46305394620, 792.7748884674,
+                0.00000000701, 3.35897774328, 6709.6740408674,
+                0.00000000698, 1.91829605833, 6665.9723822146,
+                0.00000000698, 4.64681188157, 11216.284290324,
+                0.00000000697, 0.30680314664, 19676.4502312364,
+                0.00000000695, 1.39408383356, 432.0148168474,
+                0.00000000693, 1.15645091892, 966.9708774356,
+                0.00000000692, 1.76465916332, 51.28033786241,
+                0.00000000687, 5.61456944029, 155.3530891314,
+                0.00000000687, 3.06548397571, 529.9515975255,
+                0.00000000687, 3.91671464947, 529.4303326637,
+                0.00000000685, 2.34948834397, 1.1806426521,
+                0.00000000685, 2.72118140264, 6643.0918177618,
+                0.00000000684, 3.88514563357, 846.0828347512,
+                0.00000000684, 1.26157751115, 142.1786270362,
+                0.00000000681, 4.56250434221, 112.6540017742,
+                0.00000000679, 1.94943016061, 12995.2253778368,
+                0.00000000679, 2.18654815982, 2228.9701815978,
+                0.00000000677, 4.33803507050, 3877.4169387952,
+                0.00000000677, 3.58329228033, 244.318584075,
+                0.00000000670, 3.67090656417, 6475.0393049624,
+                0.00000000668, 5.16798891078, 12721.572099417,
+                0.00000000666, 2.23927960017, 20735.83216142559,
+                0.00000000666, 2.06624389616, 27.0873353739,
+                0.00000000665, 1.03244633471, 623.2225117576,
+                0.00000000664, 3.60223930010, 1903.4368125012,
+                0.00000000659, 0.12506816965, 8116.372515159,
+                0.00000000654, 4.94087804792, 2413.8150890326,
+                0.00000000652, 5.53658742492, 9065.5481241288,
+                0.00000000652, 0.44220736244, 1201.831580323,
+                0.00000000651, 2.45318135806, 1585.1407420207,
+                0.00000000651, 0.83706409863, 2015.6710861598,
+                0.00000000650, 3.23944472757, 9588.1255422226,
+                0.00000000646, 2.88581188015, 13.4933808187,
+                0.00000000645, 0.07661067442, 52.2603149128,
+                0.00000000644, 4.64527687663, 1134.1635287565,
+                0.00000000643, 5.05336021072, 522.6256022036,
+                0.00000000641, 4.76533725270, 567.8240007324,
+                0.00000000639, 4.22718483639, 25.8634950965,
+                0.00000000638, 2.05380863176, 16699.53901514999,
+                0.00000000635, 3.85231847116, 6.0659156298,
+                0.00000000633, 6.23841236159, 679.2541622292,
+                0.00000000633, 4.31803237654, 3590.516887442,
+                0.00000000633, 4.21755652519, 166.828672522,
+                0.00000000632, 3.84852695407, 16276.463942623,
+                0.00000000632, 1.43230388645, 16706.585251848,
+                0.00000000630, 6.16456074704, 105.5404547734,
+                0.00000000622, 1.64154132852, 24150.080051345,
+                0.00000000621, 2.23214771591, 3274.1250177854,
+                0.00000000618, 2.68178794760, 3899.7952100978,
+                0.00000000616, 4.94607504516, 9485.032768004,
+                0.00000000615, 5.74467417840, 6696.4773245846,
+                0.00000000613, 4.96450118774, 8859.3625756916,
+                0.00000000605, 1.65413715574, 761.7400086283,
+                0.00000000604, 5.11227651497, 1159.2933106701,
+                0.00000000603, 0.77135566630, 3342.0968994081,
+                0.00000000600, 1.82660431776, 522.529233984,
+                0.00000000597, 5.72067567055, 3113.1362939108,
+                0.00000000596, 4.98134265245, 1251.3403846248,
+                0.00000000592, 4.34796024028, 3826.5844794894,
+                0.00000000591, 2.01874828234, 27490.6924780448,
+                0.00000000588, 5.65927128604, 2171.0241752912,
+                0.00000000587, 1.31684217558, 9499.2598620056,
+                0.00000000586, 6.17266280012, 9602.3526362242,
+                0.00000000586, 5.48425579444, 56.6223513026,
+                0.00000000583, 0.59190068342, 26084.0218062162,
+                0.00000000580, 2.06327501551, 493.0424021651,
+                0.00000000576, 1.60357663736, 3192.5337022735,
+                0.00000000575, 5.48929613719, 2075.0449480734,
+                0.00000000575, 0.59007504383, 2766.267628365,
+                0.00000000574, 1.08976979801, 6357.7194367422,
+                0.00000000573, 3.61521168878, 3686.4961146598,
+                0.00000000572, 5.10308842466, 8564.306346502,
+                0.00000000571, 3.71223026143, 1279.794572628,
+                0.00000000570, 3.11852290115, 2221.856634597,
+                0.00000000570, 2.73603650313, 4010.0015313172,
+                0.00000000569, 2.57704345512, 35.5627344686,
+                0.00000000568, 0.03816333919, 6414.6178116778,
+                0.00000000566, 0.62804830762, 3189.5647568569,
+                0.00000000565, 1.90952569252, 107.2855599126,
+                0.00000000563, 2.57358138188, 19406.6782881746,
+                0.00000000559, 1.47641018288, 8671.9698704406,
+                0.00000000559, 0.17540224930, 63.7358983034,
+                0.00000000554, 4.18192049239, 382.879278571,
+                0.00000000551, 5.08473283991, 1354.4331588434,
+                0.00000000550, 5.77676837013, 420.4478517217,
+                0.00000000550, 0.61414019478, 104.0559820651,
+                0.00000000544, 4.78254843814, 9380.9596727172,
+                0.00000000542, 0.41889651002, 1641.3332101966,
+                0.00000000541, 0.53968808391, 13171.0014406876,
+                0.00000000541, 0.84245625839, 4981.9456368964,
+                0.00000000540, 1.73777056143, 536.7563279856,
+                0.00000000537, 5.47946247228, 771.3012361839,
+                0.00000000534, 1.03109772656, 1478.8665740644,
+                0.00000000533, 2.54951538277, 141.2258098564,
+                0.00000000532, 0.16606105669, 5511.636601991,
+                0.00000000530, 3.78205188174, 7270.2896804078,
+                0.00000000529, 5.46978500000, 419.4364597654,
+                0.00000000525, 0.74022979976, 1265.5674786264,
+                0.00000000521, 6.27577138682, 3981.490034082,
+                0.00000000519, 6.11952999304, 366.7944458357,
+                0.00000000518, 2.03954063338, 418.5214360287,
+                0.00000000515, 3.51750445096, 528.4189407074,
+                0.00000000515, 3.47893153369, 103.1409583284,
+                0.00000000515, 3.46469417422, 530.9629894818,
+                0.00000000513, 0.29786764002, 103.0445901088,
+                0.00000000510, 1.59587338243, 13362.3823964964,
+                0.00000000510, 4.27704405425, 3472.1543883862,
+                0.00000000510, 1.18739936388, 13362.517017102,
+                0.00000000509, 4.21526585284, 7380.4960016272,
+                0.00000000508, 3.08930305232, 1357.6145525811,
+                0.00000000506, 5.92145494356, 685.044054226,
+                0.00000000504, 4.91016850189, 8965.9784682592,
+                0.00000000502, 0.77928275348, 4407.1079038898,
+                0.00000000502, 5.02356488339, 73.297125859,
+                0.00000000502, 1.43671788962, 469.8872200543,
+                0.00000000499, 3.25557381873, 1744.493294718,
+                0.00000000499, 4.26055736809, 6652.7756659318,
+                0.00000000499, 3.80738289142, 81.0013736908,
+                0.00000000497, 1.63121523594, 22345.2603761082,
+                0.00000000495, 4.38317490235, 2480.302497947,
+                0.00000000495, 2.41738200479, 179.3588454942,
+                0.00000000495, 4.95361665264, 536.8526962052,
+                0.00000000494, 2.13711598060, 2604.735913168,
+                0.00000000492, 6.10071747922, 2285.1626497737,
+                0.00000000492, 3.95966654574, 1269.4996318895,
+                0.00000000489, 0.75760372851, 3561.0250691386,
+                0.00000000487, 5.78767525063, 12036.4607348882,
+                0.00000000484, 0.79038835602, 28.4541880032,
+                0.00000000482, 0.14820337530, 14158.7477136156,
+                0.00000000482, 3.60230884794, 2943.5060541272,
+                0.00000000480, 0.86786400621, 35.212274331,
+                0.00000000478, 6.13550464878, 4825.544916394,
+                0.00000000476, 5.94537443289, 48835.19385644859,
+                0.00000000475, 2.07517976424, 5835.1420186484,
+                0.00000000475, 4.28822688035, 367.2243289624,
+                0.00000000475, 2.28309287464, 2042.4977891028,
+                0.00000000473, 4.76746213122, 277.0349937414,
+                0.00000000470, 4.70961176845, 3723.4917052708,
+                0.00000000469, 0.83917541691, 3041.4860324306,
+                0.00000000468, 1.97135671591, 2412.772458197,
+                0.00000000468, 4.57635781664, 11670.2840372968,
+                0.00000000467, 2.35119921534, 1603.2999892854,
+                0.00000000466, 2.92801596791, 2277.2983432475,
+                0.00000000464, 3.82801546235, 1550.939859646,
+                0.00000000463, 3.15421544338, 934.9485149682,
+                0.00000000462, 3.80503324215, 11140.5930722022,
+                0.00000000462, 3.22304237134, 2011.1003364398,
+                0.00000000462, 2.91312544527, 418.9243989006,
+                0.00000000461, 3.26463688117, 102.1295663721,
+                0.00000000460, 2.03348517376, 25685.872802808,
+                0.00000000459, 3.43896606345, 121.2520214833,
+                0.00000000454, 0.10975881410, 600.5404103988,
+                0.00000000454, 1.63326913717, 976.0023119128,
+                0.00000000453, 3.86104865566, 758.7710632117,
+                0.00000000452, 2.57855232310, 1254.5217783625,
+                0.00000000452, 1.00220432453, 113.3877149571,
+                0.00000000451, 5.49097711996, 602.9880909536,
+                0.00000000449, 3.79544854612, 4996.172730898,
+                0.00000000449, 4.38183542571, 5106.3790521174,
+                0.00000000448, 3.04254429984, 5636.070017212,
+                0.00000000447, 4.25776540974, 18052.9295431578,
+                0.00000000445, 0.33560120738, 515.463871093,
+                0.00000000444, 1.95486223268, 3226.2133197864,
+                0.00000000443, 5.46290368791, 135.336103133,
+                0.00000000441, 5.28940184186, 497.4476361802,
+                0.00000000438, 1.36437546581, 12509.2533250472,
+                0.00000000437, 5.63861950911, 8958.9322315612,
+                0.00000000435, 3.76103015832, 523.0986829556,
+                0.00000000435, 3.59822556033, 860.3099287528,
+                0.00000000434, 0.36146452053, 1304.9243545416,
+                0.00000000433, 0.55429134487, 9945.5712088238,
+                0.00000000433, 0.27166977225, 93.531546663,
+                0.00000000432, 3.31538359140, 5617.9107699473,
+                0.00000000431, 2.11881719623, 56.8032621698,
+                0.00000000431, 3.22440150226, 21265.5231265202,
+                0.00000000431, 5.42246026973, 26482.1708096244,
+                0.00000000430, 4.12851356192, 13.241772398,
+                0.00000000430, 3.83861916944, 1765.7666254176,
+                0.00000000430, 6.14341047130, 3067.9394693482,
+                0.00000000427, 1.16100742040, 19004.6479494084,
+                0.00000000426, 2.66458973231, 4076.4889402316,
+                0.00000000426, 0.24129917209, 5625.7750764735,
+                0.00000000426, 3.21103415941, 2840.4132799086,
+                0.00000000425, 3.93823979711, 561.1835344836,
+                0.00000000424, 4.60854671688, 6518.7582172674,
+                0.00000000424, 0.12594305292, 1268.7488723641,
+                0.00000000424, 4.72908722432, 1366.2125722902,
+                0.00000000423, 3.60507971235, 8226.5788363784,
+                0.00000000421, 1.76100140625, 956.2891559706,
+                0.00000000421, 2.26337694295, 13892.1406718938,
+                0.00000000420, 3.49180180953, 1655.5603041982,
+                0.00000000420, 2.44159662565, 6155.057006654,
+                0.00000000420, 0.81806831366, 1165.6560981455,
+                0.00000000419, 3.43816729207, 1070.4276304531,
+                0.00000000417, 3.45088934666, 279.7865043524,
+                0.00000000417, 0.20262936620, 842.9014410135,
+                0.00000000416, 4.83203726375, 8535.8571590342,
+                0.00000000416, 2.58443168474, 5753.3848848968,
+                0.00000000415, 5.67120343816, 99.5696558696,
+                0.00000000415, 3.61905205961, 2089.782230399,
+                0.00000000415, 1.68861617904, 391.1734682239,
+                0.00000000414, 3.12530321804, 10001.061884607,
+                0.00000000414, 1.54298025443, 115.6229471908,
+                0.00000000413, 0.49206034039, 13355.3361597984,
+                0.00000000413, 4.38709867977, 6151.533888305,
+                0.00000000412, 0.29353415123, 2810.9387152574,
+                0.00000000412, 3.24865417750, 18451.07854656599,
+                0.00000000412, 1.70721395764, 7314.0085927128,
+                0.00000000412, 4.54594776716, 2810.904207953,
+                0.00000000411, 3.12423996609, 536.2832472336,
+                0.00000000409, 6.07568936266, 50.8324593058,
+                0.00000000408, 1.32068176489, 20809.4676246452,
+                0.00000000408, 0.45802341103, 1578.0271950199,
+                0.00000000407, 5.13475793028, 3487.4241132234,
+                0.00000000406, 2.72098337513, 1438.0252254409,
+                0.00000000405, 5.63206200287, 3450.8187479192,
+                0.00000000402, 4.51813719510, 4392.8808098882,
+                0.00000000402, 2.04619630460, 842.1506814881,
+                0.00000000401, 5.70119897835, 1127.0499817557,
+                0.00000000400, 2.28211698182, 3209.0704650134,
+                0.00000000400, 4.44473187959, 990.2294059144,
+                0.00000000396, 5.14198726837, 5195.2447323344,
+                0.00000000395, 0.25208772249, 1375.7737998458,
+                0.00000000395, 3.26281926074, 484.444382456,
+                0.00000000395, 5.99139284997, 3384.3313390048,
+                0.00000000392, 3.01171327788, 10721.108428327,
+                0.00000000392, 3.96583998204, 3906.9087570986,
+                0.00000000391, 5.25566087245, 10042.6126755918,
+                0.00000000391, 4.26714089799, 21795.21409161479,
+                0.00000000391, 3.25185051260, 2655.5683724738,
+                0.00000000391, 4.82188766380, 1012.9115072732,
+                0.00000000390, 2.68799663827, 576.1613880106,
+                0.00000000389, 0.98703891513, 7203.8022714934,
+                0.00000000389, 0.50283826580, 2825.1485556068,
+                0.00000000386, 6.26771150540, 1141.1340634054,
+                0.00000000385, 1.69122429631, 4113.0943055358,
+                0.00000000383, 5.09228018194, 539.2521926502,
+                0.00000000381, 4.06283076724, 1062.9050485382,
+                0.00000000380, 1.67961592499, 36.6485629295,
+                0.00000000378, 5.82532048605, 6675.7019290922,
+                0.00000000377, 4.06263841184, 10124.930054318,
+                0.00000000377, 3.16019395941, 224.3447957019,
+                0.00000000377, 0.05833226835, 905.4566966648,
+                0.00000000377, 5.42211267415, 1190.9238918756,
+                0.00000000377, 6.25455256536, 913.7508863177,
+                0.00000000375, 1.09229714548, 4246.0691233646,
+                0.00000000374, 2.85563965649, 2111.6503133776,
+                0.00000000369, 3.93279262125, 1879.5583747534,
+                0.00000000365, 5.16456643007, 4694.0029547076,
+                0.00000000364, 0.54935210242, 290.4854794696,
+                0.00000000363, 4.68453721321, 2730.2069586892,
+                0.00000000362, 1.06148806683, 181.806526049,
+                0.00000000360, 0.62008772137, 1542.6024723678,
+                0.00000000359, 4.97622870666, 5820.9149246468,
+                0.00000000359, 5.42072227300, 6019.9919266186,
+                0.00000000356, 2.35639379021, 4.57074972,
+                0.00000000355, 4.17584780659, 6740.5987153132,
+                0.00000000354, 0.62083841520, 498.6714764576,
+                0.00000000353, 1.81574804066, 6686.747777707,
+                0.00000000352, 5.13897382364, 523.4711899711,
+                0.00000000352, 5.75014912811, 806.725958836,
+                0.00000000349, 3.59598547445, 1058.8606653274,
+                0.00000000349, 4.09122089564, 1059.903195051,
+                0.00000000344, 0.62691832180, 9389.0535407862,
+                0.00000000342, 2.67821304845, 6148.010769956,
+                0.00000000342, 6.15346179830, 1371.8416465827,
+                0.00000000341, 3.22071023668, 4253.1826703654,
+                0.00000000340, 0.71636465254, 15664.03552270859,
+                0.00000000340, 2.77813018312, 3.523118349,
+                0.00000000338, 1.32019124492, 148.0787244263,
+                0.00000000336, 4.30769818760, 5989.0672521728,
+                0.00000000335, 4.47490824488, 1585.8915015461,
+                0.00000000335, 4.50997684981, 2349.3284312038,
+                0.00000000334, 5.10221163477, 22324.9050567094,
+                0.00000000333, 3.99300815003, 1353.3905280078,
+                0.00000000332, 2.02575723995, 1091.6252591036,
+                0.00000000330, 4.04831945983, 3.1030422554,
+                0.00000000330, 2.55172725319, 19513.9835951042,
+                0.00000000330, 3.29725079066, 286.9623611206,
+                0.00000000330, 3.11968019451, 41.5507909848,
+                0.00000000330, 6.05223507989, 215.7467759928,
+                0.00000000328, 4.06276954550, 6944.3087767724,
+                0.00000000328, 6.06415193771, 1821.1219388175,
+                0.00000000327, 4.55290845875, 1696.0978227655,
+                0.00000000327, 4.76582526444, 134.5853436076,
+                0.00000000325, 5.57785413832, 1670.0742689746,
+                0.00000000324, 4.23685005208, 642.3449668688,
+                0.00000000324, 0.32544817254, 586.3133163972,
+                0.00000000324, 4.32475054774, 299.1263942692,
+                0.00000000322, 2.48245791694, 1065.6017053127,
+                0.00000000319, 4.05704496382, 5430.3946570988,
+                0.00000000319, 3.31673970253, 596.178374009,
+                0.00000000319, 1.34244131618, 1288.4620283063,
+                0.00000000318, 4.93376925851, 1197.9701285736,
+                0.00000000318, 5.50558184307, 5216.5803728014,
+                0.00000000317, 4.13345374602, 1883.0814931024,
+                0.00000000317, 0.01919037405, 2267.003402509,
+                0.00000000315, 1.03304445564, 3490.1756238344,
+                0.00000000315, 2.84437840100, 10610.9021071076,
+                0.00000000315, 1.41407863340, 6947.8318951214,
+                0.00000000315, 3.68770155844, 1440.9941708575,
+                0.00000000312, 3.62016422039, 255.970376372,
+                0.00000000312, 4.59043534747, 188.9200730498,
+                0.00000000311, 2.67573060947, 912.5702436656,
+                0.00000000310, 4.99907184482, 5095.6750764648,
+                0.00000000310, 4.37565854379, 2796.6943676036,
+                0.00000000309, 3.45153658664, 25287.7237993998,
+                0.00000000309, 1.97341771897, 754.0357607965,
+                0.00000000309, 2.49798852626, 4326.3934009738,
+                0.00000000307, 3.03375977801, 6660.8695340008,
+                0.00000000305, 4.66942910910, 6756.0064519669,
+                0.00000000305, 2.73902403412, 176.6937301338,
+                0.00000000304, 4.56372485787, 7483.5887758458,
+                0.00000000303, 2.71946492092, 3313.210870603,
+                0.00000000303, 5.53364383200, 2274.5468326365,
+                0.00000000302, 2.08708848834, 526.9826521089,
+                0.00000000302, 1.20236584617, 232.0490435337,
+                0.00000000301, 0.83275594655, 2806.9893083421,
+                0.00000000301, 4.46304798246, 1567.7322542814,
+                0.00000000300, 1.17310114418, 700.4517908797,
+                0.00000000300, 4.94243905681, 1379.7059531089,
+                0.00000000300, 3.07432010319, 1902.2833712027,
+                0.00000000299, 5.44077050156, 10028.9508271002,
+                0.00000000299, 1.18299169304, 550.0462844934,
+                0.00000000299, 4.67059404038, 1329.3033769298,
+                0.00000000298, 5.91093444215, 9886.772200064,
+                0.00000000295, 2.35354744096, 4216.1870797544,
+                0.00000000295, 5.86995680986, 2804.2377977311,
+                0.00000000295, 2.15253083015, 6386.16862421,
+                0.00000000294, 0.01906732590, 202.2533951741,
+                0.00000000294, 6.16453752963, 8982.810669309,
+                0.00000000294, 0.16019381973, 6670.5881880498,
+                0.00000000294, 4.02082336381, 2814.8536148683,
+                0.00000000293, 4.53809139767, 1446.62324515,
+                0.00000000292, 3.06830662617, 4.3620363898,
+                0.00000000292, 2.70170039150, 987.3086446076,
+                0.00000000291, 2.39413982848, 29026.48522950779,
+                0.00000000290, 3.43850024020, 6418.1409300268,
+                0.00000000290, 0.61661476278, 9146.790069021,
+                0.00000000289, 2.82766045300, 3171.0322435668,
+                0.00000000288, 2.25534557761, 878.3261636656,
+                0.00000000286, 5.76562894312, 5642.1982426092,
+                0.00000000286, 5.11854366190, 5621.7756129076,
+                0.00000000286, 5.85849625329, 172.2452984934,
+                0.00000000286, 2.41146391401, 2545.3620512544,
+                0.00000000286, 5.08443662064, 774.0095491696,
+                0.00000000285, 2.82644088669, 9654.612951137,
+                0.00000000284, 4.71065509252, 5621.9102335132,
+                0.00000000284, 3.28345980607, 16063.164847185,
+                0.00000000283, 1.30585259585, 4025.6564809258,
+                0.00000000283, 3.90409016441, 127.4717966068,
+                0.00000000283, 6.28058228271, 71.8126531507,
+                0.00000000283, 1.89231830584, 313.9441891018,
+                0.00000000282, 2.29169514758, 2008.557539159,
+                0.00000000282, 0.29694635625, 12323.4230960088,
+                0.00000000282, 3.18114716742, 6364.832983743,
+                0.00000000282, 0.39153852422, 207.6700211455,
+                0.00000000281, 0.27739627997, 8166.1573430938,
+                0.00000000281, 0.54377467623, 2122.6960136415,
+                0.00000000280, 0.47728086796, 5401.4302807716,
+                0.00000000280, 4.64995184564, 6701.5801727984,
+                0.00000000280, 3.80317669283, 298.2326223919,
+                0.00000000280, 2.16530669990, 2964.8466951296,
+                0.00000000279, 4.08648927643, 5355.2358814886,
+                0.00000000279, 5.22410340680, 4649.8988176312,
+                0.00000000278, 5.62032972822, 3378.7454623376,
+                0.00000000278, 0.25405518415, 874.3940104025,
+                0.00000000277, 0.19619249083, 270.1974703736,
+                0.00000000276, 5.42875443749, 986.0848043302,
+                0.00000000275, 5.89019272334, 3337.8609160888,
+                0.00000000275, 4.00268079937, 3620.3989310522,
+                0.00000000275, 1.20294105507, 6691.8615187494,
+                0.00000000275, 1.06902528739, 3343.3639373108,
+                0.00000000275, 0.88658304766, 1474.9344208013,
+                0.00000000275, 3.38473535401, 4002.8879843164,
+                0.00000000274, 0.30235979008, 5607.6158292088,
+                0.00000000273, 1.89943168433, 270.1301600708,
+                0.00000000272, 1.70373580224, 3742.284548457,
+                0.00000000272, 1.28327911416, 1442.2612087602,
+                0.00000000271, 3.49210901141, 3436.5916539176,
+                0.00000000271, 6.01605176699, 170.7608257851,
+                0.00000000271, 5.11992121116, 1818.1529934009,
+                0.00000000270, 2.14769161882, 2973.3880977374,
+                0.00000000270, 4.08297977357, 1578.7779545453,
+                0.00000000269, 5.93687481153, 4005.3684718298,
+                0.00000000269, 4.93013868827, 151.0476698429,
+                0.00000000268, 0.46331887242, 6578.132079181,
+                0.00000000268, 2.97528422526, 21947.11137270,
+                0.00000000267, 3.27705006018, 5120.6011455836,
+                0.00000000264, 2.07967576148, 3735.238311759,
+                0.00000000264, 3.78635346388, 3936.7908007088,
+                0.00000000264, 4.64751563064, 1346.3442913098,
+                0.00000000264, 5.05794940070, 2938.9403049426,
+                0.00000000264, 3.93467981347, 1363.2436268736,
+                0.00000000264, 5.81676359510, 77.962992305,
+                0.00000000263, 3.85883671333, 28628.3362260996,
+                0.00000000262, 4.49437120405, 6887.4104018368,
+                0.00000000261, 5.68285399692, 3133.9116894032,
+                0.00000000259, 3.86479264667, 782.3469364478,
+                0.00000000258, 4.79343588315, 1670.82502850,
+                0.00000000258, 1.73501688448, 1887.3055176757,
+                0.00000000258, 2.36055913266, 2861.753920911,
+                0.00000000257, 0.25607724431, 19146.7592661418,
+                0.00000000257, 5.64335704456, 10706.8813343254,
+                0.00000000257, 4.70227238723, 9050.8108418032,
+                0.00000000256, 3.45257813604, 3259.8979237838,
+                0.00000000256, 5.65979495257, 799.6124118352,
+                0.00000000255, 1.80023727978, 3193.8007401762,
+                0.00000000255, 4.46589323429, 5490.300961524,
+                0.00000000254, 1.28062508539, 95.9792272178,
+                0.00000000254, 5.77068701321, 5813.291189322,
+                0.00000000253, 1.27099771143, 309.2783226558,
+                0.00000000252, 4.19548440341, 24.858758816,
+                0.00000000252, 2.40663004080, 97.6761482472,
+                0.00000000252, 5.69246926803, 104.5772469269,
+                0.00000000251, 5.57906426342, 138.5881983844,
+                0.00000000250, 5.58493858560, 412.3710968744,
+                0.00000000250, 2.31712160522, 632.2624744514,
+                0.00000000250, 4.49171024387, 1482.7987273275,
+                0.00000000249, 4.92144829429, 31022.7531708562,
+                0.00000000249, 6.05357589804, 2060.8178540718,
+                0.00000000248, 4.45243005934, 1688.9842757647,
+                0.00000000248, 4.23500945233, 849.2642284889,
+                0.00000000248, 2.14407705659, 1592.2542890215,
+                0.00000000247, 2.94199704738, 310.8407988684,
+                0.00000000247, 2.28207487665, 246.251722323,
+                0.00000000246, 0.26910281348, 22.7684966094,
+                0.00000000246, 3.03036675631, 3304.0070613956,
+                0.00000000246, 4.55971876123, 6040.3472460174,
+                0.00000000246, 2.81685819136, 633.305004175,
+                0.00000000245, 4.20195166994, 8436.2875031646,
+                0.00000000245, 4.68144067248, 77204.32749453338,
+                0.00000000245, 2.99717870481, 1467.8208738005,
+                0.00000000242, 3.71426781511, 3212.5935833624,
+                0.00000000241, 0.03931394254, 9070.1188738488,
+                0.00000000241, 4.63019900075, 1612.9513330316,
+                0.00000000241, 6.25063055391, 1621.3162241982,
+                0.00000000239, 0.71912390253, 1276.6131788903,
+                0.00000000238, 5.14570745178, 721.1392312062,
+                0.00000000238, 5.06850996242, 3803.81598288,
+                0.00000000237, 3.07683243726, 9947.0556815321,
+                0.00000000237, 0.90339496046, 8.093868069,
+                0.00000000237, 4.97805954611, 351.8165923087,
+                0.00000000236, 6.05766380360, 948.1952879016,
+                0.00000000236, 4.50018016828, 24498.8302462904,
+                0.00000000235, 1.11133081576, 625.6701923124,
+                0.00000000235, 1.28568802052, 4427.3959129858,
+                0.00000000235, 0.16574304942, 137.0330241624,
+                0.00000000235, 2.20691049290, 1570.9136480191,
+                0.00000000234, 4.93895884950, 1443.4418514123,
+                0.00000000233, 5.75237138576, 604.8497407048,
+                0.00000000233, 1.50676309691, 1688.2335162393,
+                0.00000000232, 4.99538565545, 1505.28780909299,
+                0.00000000232, 3.52110290510, 6674.1786167016,
+                0.00000000231, 5.13610567818, 6997.6167230562,
+                0.00000000229, 0.63250047970, 23017.0626579362,
+                0.00000000229, 2.53361265404, 3710.3122426402,
+                0.00000000229, 1.24432891752, 3568.0885594888,
+                0.00000000228, 4.29420876593, 2970.9126107594,
+                0.00000000228, 1.19429336725, 1060.8664028975,
+                0.00000000228, 5.04184148954, 1064.7985561606,
+                0.00000000228, 6.23410947014, 64.9597385808,
+                0.00000000227, 5.94537053649, 2942.4806769438,
+                0.00000000227, 3.91459879933, 2942.4461696394,
+                0.00000000227, 6.27454357025, 1586.625214729,
+                0.00000000226, 0.42945734871, 557.0925211914,
+                0.00000000226, 0.05894638117, 1518.2234499796,
+                0.00000000226, 0.55335289468, 554.0699874828,
+                0.00000000225, 2.32024197535, 2498.8916283384,
+                0.00000000225, 1.23997208583, 3340.6124266998,
+                0.00000000224, 6.18923621853, 546.1532913299,
+                0.00000000224, 3.37553489276, 1077.5411774539,
+                0.00000000223, 2.07804482295, 17101.2111369072,
+                0.00000000223, 4.88418874810, 1035.002907801,
+                0.00000000223, 0.11650319998, 67.8804998876,
+                0.00000000222, 1.23639175728, 513.2286388593,
+                0.00000000221, 3.82548751198, 1954.7171503636,
+                0.00000000221, 0.99955195094, 1053.7528558967,
+                0.00000000220, 1.54642908481, 23546.7536230308,
+                0.00000000220, 3.90787704883, 9638.9407478762,
+                0.00000000220, 2.43555893039, 419.532827985,
+                0.00000000219, 2.91834170224, 2114.8317071153,
+                0.00000000218, 2.90308501961, 85.8272988312,
+                0.00000000218, 3.57295707203, 906.849787638,
+                0.00000000218, 0.27875486270, 175.1660598002,
+                0.00000000217, 3.24577492609, 2424.1100297711,
+                0.00000000217, 5.40943412253, 546.956440482,
+                0.00000000216, 3.20098680120, 362.1211367308,
+                0.00000000215, 5.76717651257, 208.633228992,
+                0.00000000215, 2.01665842348, 512.4254897072,
+                0.00000000215, 0.97603524748, 479.2883889155,
+                0.00000000215, 0.68265759605, 1054.7160637432,
+                0.00000000215, 1.88254208749, 1140.38330388,
+                0.00000000214, 3.38626276995, 647.0108333148,
+                0.00000000214, 1.35475764936, 184.8499079702,
+                0.00000000214, 0.22905754741, 5.1991911658,
+                0.00000000214, 0.97578687412, 17468.8551979454,
+                0.00000000214, 5.33581901309, 955.2415245996,
+                0.00000000214, 6.15608452028, 951.6232895246,
+                0.00000000214, 3.66925552525, 84.9335269539,
+                0.00000000213, 4.80555095681, 8830.9133882238,
+                0.00000000213, 0.30373351265, 8624.2126509272,
+                0.00000000212, 1.85965510753, 4782.87363546,
+                0.00000000212, 2.32801112252, 3232.9489027612,
+                0.00000000212, 2.88214546012, 1674.0064222377,
+                0.00000000212, 4.20492282875, 1912.5783119412,
+                0.00000000212, 5.41318500564, 9580.5018068978,
+                0.00000000211, 5.84341192825, 1971.9521738548,
+                0.00000000211, 2.26445749553, 765.7930644464,
+                0.00000000211, 2.42218772392, 8749.1562544722,
+                0.00000000211, 4.25651045434, 5069.3834615064,
+                0.00000000211, 5.13548160002, 1065.0110044817,
+                0.00000000211, 1.53402733679, 1069.6768709277,
+                0.00000000210, 2.30499661227, 53.3079462838,
+                0.00000000210, 5.29881111973, 1457.525933062,
+                0.00000000210, 4.08825553401, 203.7378678824,
+                0.00000000210, 4.52024390322, 1262.3860848887,
+                0.00000000209, 4.79794980231, 14047.4937610252,
+                0.00000000209, 1.46088434217, 5.8572022996,
+                0.00000000209, 5.67975843693, 48.7580447764,
+                0.00000000209, 3.54917317190, 3156.8051495652,
+                0.00000000208, 4.11480858445, 1755.062649765,
+                0.00000000208, 5.72006005477, 1064.0477966352,
+                0.00000000208, 0.06358383719, 991.7138786227,
+                0.00000000208, 0.69348288097, 1128.534454464,
+                0.00000000207, 6.03491870748, 22487.3716928416,
+                0.00000000207, 0.25148913797, 533.8355666788,
+                0.00000000207, 0.49276008455, 71.6002048296,
+                0.00000000206, 1.59586698276, 4429.4861751924,
+                0.00000000206, 3.37322544845, 1053.9653042178,
+                0.00000000205, 3.05470007095, 1062.302691496,
+                0.00000000204, 4.76593693079, 812.1425848074,
+                0.00000000204, 0.90117975859, 1408.0171287602,
+                0.00000000203, 0.28410501881, 582.9989113784,
+                0.00000000203, 2.83619345048, 1489.9122743283,
+                0.00000000203, 0.70565787834, 498.1983957056,
+                0.00000000203, 3.28866933881, 1020.025054274,
+                0.00000000202, 0.88670673933, 767.8488193486,
+                0.00000000202, 6.21085922593, 3909.4343007272,
+                0.00000000202, 4.12164786769, 7321.1221397136,
+                0.00000000202, 3.19887703276, 1553.6481726317,
+                0.00000000202, 0.35527329970, 1090.4014188262,
+                0.00000000201, 2.45025935972, 20426.571092422,
+                0.00000000201, 0.95077053594, 29424.634232916,
+                0.00000000200, 2.35014426129, 1591.5205758386,
+                0.00000000200, 1.60275119026, 6681.2248533996,
+                0.00000000199, 0.40088144456, 7586.6815500644,
+                0.00000000199, 0.07164714815, 375.7657315702,
+                0.00000000199, 3.93816217381, 2043.9822618111,
+                0.00000000198, 3.99111216230, 10018.2468514476,
+                0.00000000198, 3.55065962909, 24606.13555322,
+                0.00000000198, 4.42539692212, 10025.4277087512,
+                0.00000000198, 4.32566984621, 269.9214467406,
+                0.00000000198, 0.93365862986, 1909.3969182035,
+                0.00000000198, 0.42731863655, 857.1285350151,
+                0.00000000197, 5.62923956977, 5209.471826336,
+                0.00000000197, 0.48692287381, 15106.8756912144,
+                0.00000000197, 1.43469282909, 14061.7208550268,
+                0.00000000196, 4.08789826861, 3262.8618827159,
+                0.00000000194, 4.77420671032, 6850.8050365326,
+                0.00000000194, 2.62013252080, 683.1863154923,
+                0.00000000194, 1.60798799495, 102.5715093568,
+                0.00000000193, 2.56057288512, 18606.4989460002,
+                0.00000000193, 2.13003457583, 103.6140390804,
+                0.00000000192, 0.51565572072, 323.5054166574,
+                0.00000000192, 4.62595272276, 3336.6802734367,
+                0.00000000192, 0.88040946364, 5244.049239201,
+                0.00000000192, 4.47709998867, 57.8786960038,
+                0.00000000192, 5.27908098216, 34363.365597556,
+                0.00000000191, 0.70424277574, 4230.414173756,
+                0.00000000190, 0.10457198807, 26087.9031415742,
+                0.00000000190, 2.00836664877, 1058.6311706638,
+                0.00000000190, 5.67865609408, 1060.1326897146,
+                0.00000000188, 3.41823914376, 5032.7780962022,
+                0.00000000188, 5.24747110812, 25565.3257234804,
+                0.00000000187, 3.45440079747, 1329.51209026,
+                0.00000000187, 3.22135956460, 2751.5475996916,
+                0.00000000187, 4.97174626997, 6681.6547365263,
+                0.00000000186, 3.66359750257, 108.7218485111,
+                0.00000000185, 4.03264704820, 1049.8207026336,
+                0.00000000185, 3.21794429243, 1595.2926704073,
+                0.00000000184, 2.54999403339, 24076.4445881254,
+                0.00000000183, 4.93161962050, 9468.267877257,
+                0.00000000183, 1.47934835951, 6677.3435180416,
+                0.00000000183, 2.03870101784, 635.70450062,
+                0.00000000183, 3.17358464220, 140.9651774255,
+                0.00000000183, 2.35011338194, 25551.09862947879,
+                0.00000000182, 2.57146189845, 418.504322807,
+                0.00000000182, 6.16856014864, 6685.1061887576,
+                0.00000000181, 3.57461078885, 15121.102785216,
+                0.00000000181, 0.50010974122, 2125.8774073792,
+                0.00000000181, 3.31978654659, 139.6981395228,
+                0.00000000181, 2.85483720271, 1055.1891444952,
+                0.00000000181, 3.32294686175, 229.0800981171,
+                0.00000000180, 1.89091405241, 13575.7488022372,
+                0.00000000180, 1.07686767816, 15806.146839442,
+                0.00000000180, 4.21309134581, 143.9341228421,
+                0.00000000180, 4.82872225059, 1063.5747158832,
+                0.00000000180, 5.06126965624, 52.6901980395,
+                0.00000000180, 1.44709940248, 970.5162499722,
+                0.00000000180, 4.48952373198, 1144.3154571431,
+                0.00000000180, 3.56547170390, 3185.2593375684,
+                0.00000000179, 1.55718466444, 3362.4632560262,
+                0.00000000179, 3.25589354429, 4922.5717749828,
+                0.00000000179, 2.14335011927, 627.3671133418,
+                0.00000000178, 3.06961783443, 1437.1756141986,
+                0.00000000178, 0.53068485806, 7366.2689076256,
+                0.00000000178, 3.08366669427, 4319.279853973,
+                0.00000000178, 3.58994989047, 2004.364753465,
+                0.00000000177, 4.48104044431, 8799.988713778,
+                0.00000000176, 3.66697456425, 6688.2710900976,
+                0.00000000176, 5.81532365473, 12406.1605508286,
+                0.00000000176, 3.77033437497, 3473.1970192218,
+                0.00000000176, 4.67735877741, 1966.2317178272,
+                0.00000000175, 3.79284463842, 4223.3006267552,
+                0.00000000175, 2.36532854682, 977.4867846211,
+                0.00000000174, 1.61086801253, 30065.5118402982,
+                0.00000000174, 4.58412775793, 3283.7140517642,
+                0.00000000174, 1.15216485688, 6382.0984591304,
+                0.00000000174, 5.37738922471, 3318.7615973734,
+                0.00000000174, 2.37509025280, 3397.5108016354,
+                0.00000000174, 5.18169887171, 28230.18722269139,
+                0.00000000174, 0.85388069641, 1587.5884225755,
+                0.00000000173, 4.34546063838, 3046.5988283458,
+                0.00000000172, 2.38601254063, 2281.2477501628,
+                0.00000000172, 0.35524089578, 2281.2132428584,
+                0.00000000172, 3.83276777655, 6621.850991486,
+                0.00000000172, 5.21328160366, 6747.712262314,
+                0.00000000172, 3.04802064781, 54.3347294422,
+                0.00000000171, 5.82189798695, 23937.856389741,
+                0.00000000171, 5.86158194602, 625.6251361972,
+                0.00000000171, 5.43820628341, 11904.9187732018,
+                0.00000000171, 5.74458391820, 1884.124123938,
+                0.00000000171, 1.79628112458, 1123.1178284926,
+                0.00000000171, 4.21009295927, 946.727928415,
+                0.00000000170, 4.62851491273, 10824.2012025456,
+                0.00000000170, 4.32424842659, 742.9900605326,
+                0.00000000170, 2.92905324873, 9093.9973115966,
+                0.00000000170, 4.66517108448, 1372.5924061081,
+                0.00000000170, 1.78813796184, 5230.807466803,
+                0.00000000169, 5.12437031125, 3223.2925584796,
+                0.00000000169, 5.45784867095, 259.5608050238,
+                0.00000000169, 3.10771037057, 239.205485625,
+                0.00000000169, 2.27408583150, 379.3734138742,
+                0.00000000169, 5.98967815113, 2210.8109343331,
+                0.00000000168, 5.13131619552, 21393.5419698576,
+                0.00000000168, 3.24434245132, 11614.4332937322,
+                0.00000000167, 1.48091400654, 2619.4731954936,
+                0.00000000167, 0.53874364357, 528.0464336919,
+                0.00000000167, 2.85163037043, 5746.271337896,
+                0.00000000167, 5.73970232471, 5760.4984318976,
+                0.00000000165, 3.85569118220, 13207.029307365,
+                0.00000000165, 0.58335652806, 15906.7641266826,
+                0.00000000165, 4.54343649149, 1365.4788591073,
+                0.00000000165, 3.51478084503, 707.5653378805,
+                0.00000000165, 0.63157456503, 2729.4561991638,
+                0.00000000164, 1.71077130702, 15849.865751747,
+                0.00000000164, 1.59200641542, 386.4196505722,
+                0.00000000164, 0.62146994730, 1538.240435978,
+                0.00000000164, 1.06674687948, 594.6507036754,
+                0.00000000163, 2.04373367430, 3347.2960905739,
+                0.00000000163, 4.23488695195, 31968.9486527994,
+                0.00000000163, 1.16606667991, 4289.7880356696,
+                0.00000000163, 1.81288628510, 18849.2275499742,
+                0.00000000163, 3.88047919138, 16703.0448798468,
+                0.00000000163, 5.91124428824, 16703.07938715119,
+                0.00000000162, 4.79372588575, 24889.5747959916,
+                0.00000000162, 4.05905033891, 1795.258443721,
+                0.00000000162, 5.36465149996, 2472.6787626222,
+                0.00000000162, 1.58054653744, 628.5909536192,
+                0.00000000162, 4.86173373432, 441.576044403,
+                0.00000000161, 2.94093367568, 3370.0419352358,
+                0.00000000161, 1.73958633312, 2185.2512692928,
+                0.00000000161, 0.85437052339, 537.5552716208,
+                0.00000000160, 2.83784244321, 5888.4499649322,
+                0.00000000160, 0.21960307161, 12942.965062924,
+                0.00000000160, 2.85034784370, 9374.8264467846,
+                0.00000000160, 2.79797608932, 1461.0540519464,
+                0.00000000160, 5.66336382679, 10927.2939767642,
+                0.00000000160, 1.05753894323, 1087.6931058405,
+                0.00000000160, 3.09136733422, 1493.093668066,
+                0.00000000160, 4.48451486494, 2654.6746005965,
+                0.00000000159, 1.48046671186, 249.9044607422,
+                0.00000000159, 5.59017475732, 1442.2784624124,
+                0.00000000159, 5.37530499642, 20426.571092422,
+                0.00000000158, 4.12087914642, 11240.1627280718,
+                0.00000000158, 6.25022915072, 6666.997759398,
+                0.00000000157, 0.91363725609, 4503.0871311076,
+                0.00000000157, 0.92229160815, 15636.566656309,
+                0.00000000157, 1.01295201512, 24336.0053931492,
+                0.00000000157, 1.79175545524, 16489.763038061,
+                0.00000000157, 1.73929012934, 11560.0777160774,
+                0.00000000157, 0.09791378159, 138.5174968707,
+                0.00000000157, 3.15195765206, 1025.4416802454,
+                0.00000000156, 4.55171204694, 27682.1407441564,
+                0.00000000156, 5.58255618318, 10448.4354709754,
+                0.00000000156, 3.56978076425, 21791.69097326579,
+                0.00000000156, 0.12304144640, 1107.1388056848,
+                0.00000000156, 5.24740844581, 6645.1969867222,
+                0.00000000156, 4.61556268820, 3354.8395207014,
+                0.00000000156, 5.14834108268, 451.7279727896,
+                0.00000000155, 0.08429188155, 6657.3464156518,
+                0.00000000155, 5.47145482987, 2.9689454166,
+                0.00000000155, 4.15655698197, 56.3831860762,
+                0.00000000154, 5.28504381510, 1481.4093713452,
+                0.00000000153, 5.00372030984, 14556.8967170238,
+                0.00000000153, 1.94292660454, 6533.1461289733,
+                0.00000000153, 5.62679784282, 9911.63095888,
+                0.00000000153, 0.36221123982, 835.7878940127,
+                0.00000000152, 2.54945350135, 1589.024711174,
+                0.00000000152, 5.74726585589, 1589.1210793936,
+                0.00000000151, 4.23962231148, 3368.0139827966,
+                0.00000000151, 3.06451266512, 838.9692877504,
+                0.00000000151, 1.48428558337, 9698.331863442,
+                0.00000000151, 0.95890610457, 6530.1771835567,
+                0.00000000151, 1.16342049906, 3914.0223040994,
+                0.00000000151, 3.43200492547, 629.8629780064,
+                0.00000000151, 2.13306499259, 1094.8066528413,
+                0.00000000151, 4.89507270868, 532.3992780803,
+                0.00000000150, 5.69209290362, 9360.6043533184,
+                0.00000000150, 0.81912738038, 3416.8784979754,
+                0.00000000150, 0.40179894287, 1111.642245102,
+                0.00000000149, 5.69553079999, 31570.7996493912,
+                0.00000000149, 4.91688353237, 277.0349937414,
+                0.00000000149, 5.48394113995, 4333.5069479746,
+                0.00000000149, 4.88056376194, 10206.1719992102,
+                0.00000000148, 2.14023976341, 15265.8865193004,
+                0.00000000147, 2.76602235522, 4193.8088084518,
+                0.00000000147, 4.94673462086, 15010.8964639966,
+                0.00000000147, 1.81590279650, 685.1113645288,
+                0.00000000147, 4.73848506543, 11610.9101753832,
+                0.00000000146, 1.16594990123, 526.1678467456,
+                0.00000000146, 3.85987749053, 13361.469385731,
+                0.00000000145, 3.57053080979, 3497.0131472022,
+                0.00000000145, 4.95495312886, 9859.3706439672,
+                0.00000000145, 1.33045199323, 821.703812363,
+                0.00000000144, 4.19229335185, 2771.7905526724,
+                0.00000000144, 6.26688878164, 6679.7403806913,
+                0.00000000143, 0.56704903096, 13212.8865096646,
+                0.00000000143, 0.97252781618, 4443.713269194,
+                0.00000000142, 4.79458547350, 1799.1905969841,
+                0.00000000140, 4.08200595943, 4186.695261451,
+                0.00000000140, 6.13853404667, 12729.665967486,
+                0.00000000140, 1.54439148652, 8219.4652893776,
+                0.00000000140, 2.51194591630, 28.9816299794,
+                0.00000000139, 1.12767399649, 6682.7093261079,
+                0.00000000139, 5.33624615245, 23958.6317852334,
+                0.00000000139, 0.89228489209, 1432.3961511484,
+                0.00000000138, 5.19336961955, 13363.4300278674,
+                0.00000000137, 3.46860408347, 5562.4690612968,
+                0.00000000137, 5.87023088486, 2945.9865416406,
+                0.00000000137, 4.94588047257, 20995.3929664494,
+                0.00000000137, 4.78402836071, 3613.2853840514,
+                0.00000000136, 5.06627117467, 14421.8316369884,
+                0.00000000136, 3.62250122667, 3511.285297319,
+                0.00000000136, 2.04268940441, 10654.6210194126,
+                0.00000000136, 4.01025697673, 9797.4924843975,
+                0.00000000136, 2.47757608387, 10156.9023601348,
+                0.00000000136, 2.25652419983, 1291.4309737229,
+                0.00000000135, 0.34109799474, 7322.1024607818,
+                0.00000000135, 6.03727673544, 1214.8023296234,
+                0.00000000135, 5.06017183369, 11876.469585734,
+                0.00000000135, 2.67785802201, 78263.70942472259,
+                0.00000000135, 3.04469989833, 2199.7652340692,
+                0.00000000134, 0.89486611090, 13286.1836355236,
+                0.00000000134, 1.09641189843, 8962.438096258,
+                0.00000000134, 3.12718351732, 8962.4726035624,
+                0.00000000134, 1.53268827347, 708.98980227659,
+                0.00000000134, 3.35926214730, 11247.2089647698,
+                0.00000000134, 1.69834857217, 183.869586902,
+                0.00000000134, 1.82354002117, 5591.9608796002,
+                0.00000000134, 5.25320383252, 1895.9035373848,
+                0.00000000133, 0.39052474466, 12410.7313005486,
+                0.00000000133, 3.15773785434, 1125.8693391036,
+                0.00000000133, 1.15811543786, 816.6533262152,
+                0.00000000133, 2.22367803003, 4642.7852706304,
+                0.00000000132, 0.40901506100, 1083.260367937,
+                0.00000000132, 6.25626202928, 13227.3846267638,
+                0.00000000132, 2.41318250916, 6717.252720077,
+                0.00000000132, 2.97955203077, 1250.8301963008,
+                0.00000000132, 4.46820798180, 1987.2168981566,
+                0.00000000131, 3.95250083817, 3.4558080462,
+                0.00000000131, 5.43398849473, 25665.5174834092,
+                0.00000000131, 1.72431469184, 11925.2740926006,
+                0.00000000131, 4.47476808853, 11776.8999298644,
+                0.00000000131, 5.44366528120, 1588.1096874373,
+                0.00000000131, 2.49342323482, 920.8644333185,
+                0.00000000130, 2.13493506322, 117.812802892,
+                0.00000000130, 4.10484632841, 35.6077905838,
+                0.00000000130, 4.05971369649, 2005.3761454213,
+                0.00000000130, 5.08622554741, 650.9429865779,
+                0.00000000129, 1.94909076932, 19645.5255567906,
+                0.00000000128, 2.86969332730, 6549.6828917132,
+                0.00000000128, 1.27276688747, 8584.6616659008,
+                0.00000000128, 0.12648796247, 6681.6449294932,
+                0.00000000128, 4.44966050740, 13465.5424810178,
+                0.00000000128, 1.23822751200, 6680.804777306,
+                0.00000000128, 5.77326416186, 13369.56325380,
+                0.00000000128, 4.08631741503, 638.4128136057,
+                0.00000000127, 5.78406495652, 14577.1847261198,
+                0.00000000127, 6.16695075115, 10016.314355792,
+                0.00000000127, 3.01271886345, 1590.0361031303,
+                0.00000000126, 4.39378462616, 21548.9623692918,
+                0.00000000126, 0.03750399181, 16.83220104979,
+                0.00000000126, 1.82187459534, 26887.3660497306,
+                0.00000000126, 4.02785244573, 2012.4896924221,
+                0.00000000125, 3.20445201519, 29.8820436102,
+                0.00000000125, 4.23213631052, 15650.7937503106,
+                0.00000000125, 4.62770076269, 9329.6796788726,
+                0.00000000125, 0.62099682567, 1997.5118388951,
+                0.00000000124, 4.94608245253, 12825.6451947038,
+                0.00000000124, 5.97253582505, 3700.7232086614,
+                0.00000000123, 2.42353206298, 6.1332259326,
+                0.00000000123, 1.58528243666, 1080.7225711916,
+                0.00000000122, 0.77282907794, 4936.7988689844,
+                0.00000000122, 0.13511377940, 8322.5580635962,
+                0.00000000122, 4.18676567644, 19617.07636932279,
+                0.00000000122, 1.34377557036, 446.3113468182,
+                0.00000000121, 3.74135485334, 10294.510237451,
+                0.00000000121, 6.08309355316, 7100.7094972748,
+                0.00000000121, 3.14207351411, 9278.8472195668,
+                0.00000000121, 5.66645074030, 2200.5159935946,
+                0.00000000121, 3.07830472533, 580.0935412737,
+                0.00000000120, 6.09430372868, 4106.4054911462,
+                0.00000000120, 0.59116561391, 31172.650645983,
+                0.00000000120, 3.66807990470, 1268.0151591812,
+                0.00000000120, 1.28575150669, 3597.6304344428,
+                0.00000000120, 2.29717715125, 1059.2218714948,
+                0.00000000120, 5.96435211741, 3281.2385647862,
+                0.00000000120, 5.39001412580, 1059.5419888836,
+                0.00000000119, 1.29139116350, 10544.4146981932,
+                0.00000000119, 4.01709629990, 14481.205498902,
+                0.00000000119, 2.16883964744, 7082.8969751568,
+                0.00000000119, 3.90561570260, 11346.7786206394,
+                0.00000000119, 4.36305496553, 1056.4611688824,
+                0.00000000119, 1.06475525020, 527.9940440652,
+                0.00000000118, 1.17466010141, 4606.1799053262,
+                0.00000000118, 0.35995031424, 27832.0382192832,
+                0.00000000118, 0.34226497704, 4140.4335518652,
+                0.00000000118, 3.82111723459, 9072.6616711296,
+                0.00000000118, 3.88268323672, 1236.075660323,
+                0.00000000118, 6.10625309129, 454.9093665273,
+                0.00000000118, 5.98810576269, 531.387886124,
+                0.00000000118, 1.62024281593, 927.8349679674,
+                0.00000000118, 1.00645954017, 745.4377410874,
+                0.00000000117, 5.40635440024, 688.6344828778,
+                0.00000000117, 1.13528750738, 4452.2546718018,
+                0.00000000117, 0.72489390402, 27.4688663996,
+                0.00000000117, 0.03006245187, 7.6737919754,
+                0.00000000117, 1.20057736014, 6705.1032911474,
+                0.00000000116, 4.73049067619, 13366.040135451,
+                0.00000000116, 0.88573303872, 16511.6138673874,
+                0.00000000116, 0.51605524063, 5621.8429232104,
+                0.00000000115, 3.34121813462, 10001.48196070061,
+                0.00000000115, 3.44586362144, 7696.8878712838,
+                0.00000000115, 5.44548079869, 11353.8921676402,
+                0.00000000115, 3.30507830050, 14157.7000822446,
+                0.00000000115, 3.54968128884, 5488.8681053816,
+                0.00000000114, 4.87315937546, 6151.5166346528,
+                0.00000000114, 0.62074562387, 6151.5511419572,
+                0.00000000114, 6.19276216389, 1834.6153196362,
+                0.00000000113, 1.29183863745, 26880.3198130326,
+                0.00000000113, 5.43102427558, 422.027441156,
+                0.00000000113, 4.04786119569, 6953.8978107512,
+                0.00000000113, 3.69200525056, 44.6538332402,
+                0.00000000113, 3.93443805059, 7167.1969061892,
+                0.00000000113, 0.28741277087, 1208.9451273238,
+                0.00000000113, 2.64305802892, 3494.5376602242,
+                0.00000000112, 4.02233737541, 6314.0005244372,
+                0.00000000112, 4.79777726412, 12140.6011404778,
+                0.00000000112, 3.70888430091, 10050.2864675672,
+                0.00000000112, 1.43537110436, 16232.745030318,
+                0.00000000112, 6.19137312195, 6685.1570066627,
+                0.00000000112, 2.26524635842, 10006.5848089144,
+                0.00000000112, 2.26353490193, 2534.3163509905,
+                0.00000000111, 4.60294776614, 25135.8265183146,
+                0.00000000111, 3.28808788953, 257.018007743,
+                0.00000000111, 5.12900291511, 146.7944328714,
+                0.00000000111, 5.97803783981, 550.1378342197,
+                0.00000000111, 5.68172209277, 4017.115078318,
+                0.00000000110, 4.24859410294, 3337.0720546986,
+                0.00000000110, 6.27936643935, 3337.106562003,
+                0.00000000110, 1.45784255142, 509.2440959695,
+                0.00000000109, 3.62630036582, 3344.11829139661,
+                0.00000000109, 1.94277745743, 16702.9948231962,
+                0.00000000109, 5.65707270595, 3344.152798701,
+                0.00000000109, 3.73199687068, 13635.1226641508,
+                0.00000000109, 1.53428110338, 16703.1294438018,
+                0.00000000109, 0.93924032031, 3707.8367556622,
+                0.00000000108, 0.72637519191, 10.569355047,
+                0.00000000108, 3.37299798972, 6717.8302187038,
+                0.00000000108, 5.22204692781, 1556.5681469554,
+                0.00000000108, 2.15949816307, 4532.578949411,
+                0.00000000108, 0.43456673876, 288.0806940053,
+                0.00000000108, 2.69586646495, 10110.1927719924,
+                0.00000000107, 4.60288570375, 1957.7250798532,
+                0.00000000107, 4.42117075795, 7.130800653,
+                0.00000000107, 4.86100312387, 7899.550301372,
+                0.00000000107, 5.25025570307, 63.7358983034,
+                0.00000000107, 0.03308245525, 521.8266585684,
+                0.00000000106, 0.53379407701, 5085.1057214178,
+                0.00000000106, 0.75378922686, 149.8974751268,
+                0.00000000106, 5.08419485009, 8742.0427074714,
+                0.00000000105, 6.16606590276, 9175.7544453482,
+                0.00000000105, 1.74376904536, 36.6485629295,
+                0.00000000104, 1.02502614223, 4878.8528626778,
+                0.00000000104, 2.58832774275, 14591.4118201214,
+                0.00000000104, 0.94882888784, 2735.762685995,
+                0.00000000104, 3.10363960804, 8094.5216858326,
+                0.00000000104, 5.38869056901, 767.3690829208,
+                0.00000000104, 6.08481630108, 528.2546764961,
+                0.00000000104, 0.89730746810, 531.1272536931,
+                0.00000000103, 4.75766349480, 1226.2106027112,
+                0.00000000103, 3.61799646841, 1792.0770499833,
+                0.00000000103, 1.44157781039, 1731.5225454176,
+                0.00000000103, 2.56729943579, 1124.34166877,
+                0.00000000102, 1.20624870972, 11986.6759069534,
+                0.00000000102, 2.97579561878, 29822.7832363242,
+                0.00000000102, 0.27489333673, 450.9772132642,
+                0.00000000102, 1.33070990614, 3782.4753418776,
+                0.00000000101, 3.00793005829, 3528.5375744624,
+                0.00000000101, 5.76349087526, 1484.9324896942,
+                0.00000000101, 3.61205787591, 3789.5888888784,
+                0.00000000101, 5.09893554431, 530.5847369719,
+                0.00000000101, 1.88318822487, 528.7971932173,
+                0.00000000100, 1.82077956276, 12012.5822971404,
+                0.00000000100, 0.19616913512, 11883.5831327348,
+                0.00000000100, 4.82071617356, 2100.6046131137,
+                0.00000000099, 0.72997085174, 18977.1790830088,
+                0.00000000099, 2.79139996703, 17932.0242468212,
+                0.00000000099, 1.86991802881, 72.0557333548,
+                0.00000000099, 4.58890225582, 3774.3241645766,
+                0.00000000099, 0.48801369293, 17499.3601403154,
+                0.00000000099, 4.22263740110, 8521.1198767086,
+                0.00000000098, 1.89605054783, 33406.124266998,
+                0.00000000098, 0.35522834563, 5371.5482371614,
+                0.00000000098, 1.42656513937, 757.2171545342,
+                0.00000000098, 3.93222636960, 2124.9836355019,
+                0.00000000097, 4.94370173613, 28109.214616052,
+                0.00000000097, 2.57280790230, 1747.6073781529,
+                0.00000000097, 3.97960395898, 18208.349942592,
+                0.00000000097, 0.87887326085, 9690.7081281172,
+                0.00000000097, 4.27398661375, 9676.4810341156,
+                0.00000000096, 2.57929371627, 12715.4388734844,
+                0.00000000096, 2.51396484677, 3535.5838111604,
+                0.00000000096, 4.29245810274, 7906.59653807,
+                0.00000000096, 3.08847844641, 3468.6312700372,
+                0.00000000096, 5.40659912420, 5749.8617665478,
+                0.00000000096, 0.72646224606, 3152.68727893721,
+                0.00000000096, 6.08772700197, 1755.4716846791,
+                0.00000000096, 2.99829695985, 6510.5519827804,
+                0.00000000096, 5.85152670536, 3492.509707785,
+                0.00000000095, 6.09186084700, 10037.0897512844,
+                0.00000000095, 2.58771497236, 11663.170490296,
+                0.00000000095, 0.30865798871, 29168.5965462412,
+                0.00000000095, 0.02613500045, 2.9010142898,
+                0.00000000095, 0.49298916700, 1230.1427559743,
+                0.00000000094, 1.79812841802, 20047.1976785478,
+                0.00000000094, 1.51091806861, 9801.4246376606,
+                0.00000000094, 0.61277732908, 73.6354632196,
+                0.00000000094, 2.27819061990, 4845.9002357928,
+                0.00000000094, 6.22018441621, 20043.69181385099,
+                0.00000000094, 0.58147434179, 14128.2427712456,
+                0.00000000094, 2.14762315943, 13532.0298899322,
+                0.00000000094, 4.18941238607, 20043.6573065466,
+                0.00000000094, 2.94025887120, 995.6460318858,
+                0.00000000093, 2.17945548408, 16066.0658614748,
+                0.00000000093, 0.66092443320, 30.9919847486,
+                0.00000000093, 2.41895388985, 20040.15144184979,
+                0.00000000093, 1.38010528069, 3145.6410422392,
+                0.00000000093, 3.41302342683, 1596.1191319818,
+                0.00000000093, 1.71996718617, 4164.311989613,
+                0.00000000092, 3.58985964414, 6724.9437657046,
+                0.00000000092, 6.23928508055, 24491.4257925834,
+                0.00000000092, 2.67278833288, 6680.7949702729,
+                0.00000000092, 1.13088448190, 7747.7203305896,
+                0.00000000092, 0.49026147824, 5392.8888781638,
+                0.00000000091, 4.94377681711, 8756.269801473,
+                0.00000000091, 6.04139177526, 153.9252335244,
+                0.00000000091, 1.89622049447, 37895.4262903674,
+                0.00000000091, 1.16317999954, 3495.9655158312,
+                0.00000000091, 4.54586794299, 5901.239202256,
+                0.00000000089, 3.27633365389, 3002.3697277168,
+                0.00000000089, 2.36605964279, 1176.7017984094,
+                0.00000000089, 2.47000942358, 4312.1663069722,
+                0.00000000088, 2.47386826588, 17232.7530985936,
+                0.00000000088, 5.38469204503, 17762.4440636882,
+                0.00000000087, 2.09287965409, 10264.5658840734,
+                0.00000000087, 4.25461508452, 8.1681365824,
+                0.00000000087, 5.31716927554, 1868.8593996362,
+                0.00000000087, 2.90507350729, 36.995590611,
+                0.00000000087, 0.91979096638, 8425.7181481176,
+                0.00000000087, 4.62233814403, 184.9879197867,
+                0.00000000086, 3.94463425808, 16.764890747,
+                0.00000000086, 1.27758598252, 34513.2630726828,
+                0.00000000086, 2.46839611271, 113.7294395684,
+                0.00000000086, 1.73112264739, 6286.5989683404,
+                0.00000000086, 2.70671848058, 2424.8607892965,
+                0.00000000085, 3.07438636612, 9983.7042444616,
+                0.00000000085, 4.73193631802, 4576.6880870228,
+                0.00000000085, 5.92093268818, 12299.544658261,
+                0.00000000085, 4.66573809999, 8638.9499332528,
+                0.00000000085, 1.95515305721, 4686.95671800959,
+                0.00000000085, 0.57009625976, 1628.429771199,
+                0.00000000085, 1.86831566677, 25028.521211385,
+                0.00000000084, 1.34333260788, 4133.3873151672,
+                0.00000000084, 4.04104644774, 9815.6517316622,
+                0.00000000084, 2.71620952175, 12089.768681172,
+                0.00000000084, 0.78188080031, 7214.4389368432,
+                0.00000000084, 3.41538432898, 6637.5059410946,
+                0.00000000084, 5.83220387910, 22.3782713026,
+                0.00000000084, 2.52951052433, 4657.012364632,
+                0.00000000084, 3.31531263655, 1895.1698242019,
+                0.00000000084, 5.05086451175, 1160.027023853,
+                0.00000000083, 3.13948373813, 10191.4174632324,
+                0.00000000083, 0.36972674664, 9755.2302383776,
+                0.00000000083, 3.58400049244, 12928.7379689224,
+                0.00000000083, 6.05838879510, 2858.5725271733,
+                0.00000000083, 3.97031381838, 247.2393453818,
+                0.00000000083, 0.06930748257, 530.914805372,
+                0.00000000083, 0.62963097943, 528.4671248172,
+                0.00000000083, 2.55427334700, 1059.5943785103,
+                0.00000000082, 4.71321236549, 7733.493236588,
+                0.00000000082, 1.83662951627, 19190.4781784468,
+                0.00000000082, 3.11421789241, 8446.9914788172,
+                0.00000000082, 5.49204987110, 5483.254724826,
+                0.00000000082, 4.61989860058, 3252.784376783,
+                0.00000000082, 4.56743340637, 6231.8581659142,
+                0.00000000082, 3.36834041159, 5172.476235725,
+                0.00000000081, 5.26971110105, 12199.9750023914,
+                0.00000000081, 2.48353174238, 73.6009559152,
+                0.00000000081, 4.91537623765, 3333.9287628257,
+                0.00000000081, 2.09438144860, 2203.6973873323,
+                0.00000000081, 3.48070291292, 1231.6272286826,
+                0.00000000081, 3.10720885599, 2527.2028039897,
+                0.00000000081, 0.45113135705, 2516.9078632512,
+                0.00000000081, 5.76205552882, 617.8058857862,
+                0.00000000080, 4.34410099751, 7218.029365495,
+                0.00000000080, 1.68097745917, 12839.8722887054,
+                0.00000000080, 4.04733274699, 3188.7151456146,
+                0.00000000080, 2.77363158210, 9495.6694333538,
+                0.00000000080, 4.01817623627, 3311.18291816379,
+                0.00000000080, 0.22833904656, 2218.6752408593,
+                0.00000000080, 1.07708178317, 5378.6617841622,
+                0.00000000080, 0.85136002390, 1791.3262904579,
+                0.00000000079, 2.89839604813, 22854.596021804,
+                0.00000000079, 4.69625309523, 5298.337506553,
+                0.00000000079, 3.78666386040, 7.5786792096,
+                0.00000000079, 2.33442828498, 12465.5344127422,
+                0.00000000079, 2.29616426691, 2758.6611466924,
+                0.00000000079, 4.70716888788, 4120.2078525366,
+                0.00000000078, 5.77285430206, 10397.6030116696,
+                0.00000000078, 2.21525134547, 2810.988771908,
+                0.00000000078, 2.17664185326, 13421.8235687128,
+                0.00000000078, 2.62374773232, 2810.8541513024,
+                0.00000000078, 5.75868229769, 5812.373522039,
+                0.00000000078, 4.55958930291, 4752.9915918498,
+                0.00000000078, 0.76677000831, 525.5463635104,
+                0.00000000077, 0.10707484151, 1371.411763456,
+                0.00000000076, 5.21065604639, 4271.9755135516,
+                0.00000000075, 3.46629875063, 13341.6743113068,
+                0.00000000075, 4.59723160021, 9993.3880926316,
+                0.00000000075, 5.28061257070, 12306.590894959,
+                0.00000000075, 4.10299895268, 5525.8636959926,
+                0.00000000075, 5.42366672204, 2755.4797529547,
+                0.00000000074, 0.42228487063, 48429.2821823244,
+                0.00000000074, 0.48470953224, 11456.9849418588,
+                0.00000000074, 4.93439968296, 13517.8027959306,
+                0.00000000073, 4.42902162523, 14.7372823256,
+                0.00000000073, 2.20102876718, 30774.5016425748,
+                0.00000000073, 2.57583496978, 6614.7374444852,
+                0.00000000073, 4.69119414591, 2115.5824666407,
+                0.00000000072, 3.38857910283, 3184.2117061974,
+                0.00000000072, 3.82048491843, 4539.6924964118,
+                0.00000000071, 3.13537213242, 9488.6231966558,
+                0.00000000071, 4.04186021414, 259.493494721,
+                0.00000000071, 5.32625652676, 6670.1791531357,
+                0.00000000070, 1.16361323015, 5220.1708014532,
+                0.00000000070, 5.60319851277, 13383.2251022916,
+                0.00000000070, 3.05647570196, 10081.211142013,
+                0.00000000070, 0.93640431668, 6106.8800550648,
+                0.00000000070, 0.84170070580, 16695.94858649819,
+                0.00000000069, 3.57006764536, 14955.045720432,
+                0.00000000069, 1.10040627005, 2544.3316735356,
+                0.00000000069, 2.67053540192, 2641.3412784722,
+                0.00000000069, 5.35281990892, 2544.2971662312,
+                0.00000000068, 2.45937697940, 6279.5527316424,
+                0.00000000067, 4.31723563048, 2281.2978068134,
+                0.00000000067, 4.88776321797, 4379.6390374902,
+                0.00000000067, 4.76301301456, 6812.766815086,
+                0.00000000067, 4.63578431535, 4694.0029547076,
+                0.00000000065, 3.50466797067, 9161.5273513466,
+                0.00000000065, 2.79212460026, 13497.5147868346,
+                0.00000000065, 1.48236627574, 4819.4790007642,
+                0.00000000064, 4.79175268505, 3181.6689089166,
+                0.00000000064, 4.72286914683, 2281.1631862078,
+                0.00000000063, 6.05841309176, 6453.7487206106,
+                0.00000000062, 5.49002783256, 4957.0868780804,
+                0.00000000062, 1.42198009630, 6830.7880505342,
+                0.00000000060, 6.18449904353, 3361.9480671668,
+                0.00000000060, 0.77450276964, 3319.2767862328,
+                0.00000000056, 5.25687695855, 12808.8803039568,
+                0.00000000055, 5.61672988180, 45494.58142974879,
+                0.00000000054, 3.66018290396, 2917.5373541728,
+                0.00000000054, 4.45945188023, 10284.9212034722,
+                0.00000000054, 0.61701959453, 4716.3862265456,
+                0.00000000054, 4.28556326526, 2910.4911174748,
+                0.00000000054, 6.11998016428, 16894.5103996106,
+                0.00000000053, 4.65521663671, 3448.2759506384,
+                0.00000000053, 3.85131213520, 9758.7533567266,
+                0.00000000052, 3.17851184154, 2324.9494088156,
+                0.00000000051, 1.45142985881, 3547.3131639964,
+                0.00000000051, 4.81258158513, 4403.517475238,
+                0.00000000051, 2.54791773443, 4001.8453534808,
+                0.00000000051, 1.11244863072, 6901.6374958384,
+                0.00000000051, 3.36181117037, 8976.6824439118,
+                0.00000000050, 0.37366902835, 3322.7999045818,
+                0.00000000050, 4.68787711774, 3253.30422216,
+                0.00000000050, 4.16235480519, 12979.553174576,
+                0.00000000050, 2.27112469544, 3427.9206312396,
+                0.00000000050, 0.30214747765, 3358.4249488178,
+                0.00000000049, 3.17471347671, 5452.2627400774,
+                0.00000000049, 2.06320966659, 4296.9015826704,
+                0.00000000048, 2.81171553464, 3372.5847325166,
+                0.00000000048, 0.19934255781, 1905.4647649404,
+                0.00000000048, 5.03779546898, 7064.1041319706,
+                0.00000000047, 2.16244218985, 10027.3602044068,
+                0.00000000046, 1.66182208107, 7768.0083396856,
+                0.00000000045, 3.14626081312, 13951.5145338074,
+                0.00000000045, 5.07701425888, 14951.522602083,
+                0.00000000045, 2.39713581676, 8852.2490286908,
+                0.00000000045, 2.33470159894, 3123.7902129128,
+                0.00000000044, 3.01299253859, 7417.1013669314,
+                0.00000000043, 4.31723459530, 5881.4037282342,
+                0.00000000043, 2.10202660495, 3337.1566186536,
+                0.00000000043, 1.74571613780, 3130.8364496108,
+                0.00000000043, 5.05297177283, 3229.4257844122,
+                0.00000000043, 1.90603004035, 3451.7990689874,
+                0.00000000042, 6.07282126953, 4295.8539512994,
+                0.00000000042, 4.13725767158, 8336.7851575978,
+                0.00000000040, 2.79414141035, 3067.9394693482,
+                0.00000000040, 4.99798468494, 10042.1925994982,
+                0.00000000039, 0.50727886431, 10011.2006147496,
+                0.00000000039, 5.28113083211, 3343.1552239806,
+                0.00000000039, 4.98185580267, 3468.5639597344,
+                0.00000000039, 4.91767933978, 8034.6153814074,
+                0.00000000038, 4.88249540246, 3499.555944483,
+                0.00000000038, 0.58076516432, 8966.3875031733,
+                0.00000000038, 5.75425648893, 4531.5363185754,
+                0.00000000038, 3.55681323215, 5351.7127631396,
+                0.00000000037, 5.84953090935, 6791.431174619,
+                0.00000000037, 1.82286411009, 10017.9559447414,
+                0.00000000036, 6.02115369796, 6474.524116103
+        };
     }
 
-    public double L1(double t) // 426 terms of order 1
+    private static double[] l1() // 426 terms of order 1
     {
-        double L1 = 0;
-        L1 += 529.69096508814;
-        L1 += 0.00489503243 * Math.cos(4.22082939470 + 529.6909650946 * t);
-        L1 += 0.00228917222 * Math.cos(6.02646855621 + 7.1135470008 * t);
-        L1 += 0.00030099479 * Math.cos(4.54540782858 + 1059.3819301892 * t);
-        L1 += 0.00020720920 * Math.cos(5.45943156902 + 522.5774180938 * t);
-        L1 += 0.00012103653 * Math.cos(0.16994816098 + 536.8045120954 * t);
-        L1 += 0.00006067987 * Math.cos(4.42422292017 + 103.0927742186 * t);
-        L1 += 0.00005433968 * Math.cos(3.98480737746 + 419.4846438752 * t);
-        L1 += 0.00004237744 * Math.cos(5.89008707199 + 14.2270940016 * t);
-        L1 += 0.00002211974 * Math.cos(5.26766687382 + 206.1855484372 * t);
-        L1 += 0.00001983502 * Math.cos(4.88600705699 + 1589.0728952838 * t);
-        L1 += 0.00001295769 * Math.cos(5.55132752171 + 3.1813937377 * t);
-        L1 += 0.00001163416 * Math.cos(0.51450634873 + 3.9321532631 * t);
-        L1 += 0.00001007167 * Math.cos(0.46474690033 + 735.8765135318 * t);
-        L1 += 0.00001174094 * Math.cos(5.84238857133 + 1052.2683831884 * t);
-        L1 += 0.00000847762 * Math.cos(5.75765726863 + 110.2063212194 * t);
-        L1 += 0.00000827250 * Math.cos(4.80311857692 + 213.299095438 * t);
-        L1 += 0.00000829822 * Math.cos(0.59345481695 + 1066.49547719 * t);
-        L1 += 0.00001003864 * Math.cos(3.14841622246 + 426.598190876 * t);
-        L1 += 0.00001098730 * Math.cos(5.30705242117 + 515.463871093 * t);
-        L1 += 0.00000724923 * Math.cos(5.51690038433 + 639.897286314 * t);
-        L1 += 0.00000567826 * Math.cos(5.98865760444 + 625.6701923124 * t);
-        L1 += 0.00000474197 * Math.cos(4.13243716360 + 412.3710968744 * t);
-        L1 += 0.00000412936 * Math.cos(5.73653788228 + 95.9792272178 * t);
-        L1 += 0.00000336820 * Math.cos(3.72892266066 + 1162.4747044078 * t);
-        L1 += 0.00000345412 * Math.cos(4.24128387922 + 632.7837393132 * t);
-        L1 += 0.00000234071 * Math.cos(6.24295755869 + 309.2783226558 * t);
-        L1 += 0.00000194827 * Math.cos(2.21824346028 + 323.5054166574 * t);
-        L1 += 0.00000234805 * Math.cos(4.03315571261 + 949.1756089698 * t);
-        L1 += 0.00000183904 * Math.cos(6.27973919510 + 543.9180590962 * t);
-        L1 += 0.00000198512 * Math.cos(1.50446971008 + 838.9692877504 * t);
-        L1 += 0.00000186807 * Math.cos(6.07956275814 + 742.9900605326 * t);
-        L1 += 0.00000171405 * Math.cos(5.41658811525 + 199.0720014364 * t);
-        L1 += 0.00000130777 * Math.cos(0.62641588161 + 728.762966531 * t);
-        L1 += 0.00000134095 * Math.cos(5.23702273624 + 2118.7638603784 * t);
-        L1 += 0.00000115444 * Math.cos(0.67783747230 + 846.0828347512 * t);
-        L1 += 0.00000106501 * Math.cos(4.47671724240 + 956.2891559706 * t);
-        L1 += 0.00000066832 * Math.cos(5.73362353275 + 21.3406410024 * t);
-        L1 += 0.00000069619 * Math.cos(5.97256378090 + 532.8723588323 * t);
-        L1 += 0.00000059950 * Math.cos(1.00657473790 + 1596.1864422846 * t);
-        L1 += 0.00000063366 * Math.cos(6.05635396519 + 1581.959348283 * t);
-        L1 += 0.00000079718 * Math.cos(5.82156733700 + 1045.1548361876 * t);
-        L1 += 0.00000065635 * Math.cos(0.12938321631 + 526.5095713569 * t);
-        L1 += 0.00000058519 * Math.cos(0.58687309667 + 1155.361157407 * t);
-        L1 += 0.00000056610 * Math.cos(1.41183572003 + 533.6231183577 * t);
-        L1 += 0.00000071631 * Math.cos(5.34149334443 + 942.062061969 * t);
-        L1 += 0.00000057343 * Math.cos(5.96870336620 + 1169.5882514086 * t);
-        L1 += 0.00000055048 * Math.cos(5.42871116938 + 10.2949407385 * t);
-        L1 += 0.00000052026 * Math.cos(0.22999191591 + 1368.660252845 * t);
-        L1 += 0.00000052295 * Math.cos(5.72636754267 + 117.3198682202 * t);
-        L1 += 0.00000050427 * Math.cos(6.08258832558 + 525.7588118315 * t);
-        L1 += 0.00000047278 * Math.cos(3.60428393787 + 1478.8665740644 * t);
-        L1 += 0.00000042199 * Math.cos(4.13113112919 + 1692.1656695024 * t);
-        L1 += 0.00000046566 * Math.cos(0.51168261375 + 1265.5674786264 * t);
-        L1 += 0.00000032801 * Math.cos(5.03520269183 + 220.4126424388 * t);
-        L1 += 0.00000033556 * Math.cos(0.09960615979 + 302.164775655 * t);
-        L1 += 0.00000029379 * Math.cos(3.35927110207 + 4.665866446 * t);
-        L1 += 0.00000029311 * Math.cos(0.75894050642 + 88.865680217 * t);
-        L1 += 0.00000032449 * Math.cos(5.37487176787 + 508.3503240922 * t);
-        L1 += 0.00000029741 * Math.cos(5.42345191096 + 1272.6810256272 * t);
-        L1 += 0.00000021789 * Math.cos(6.14949766217 + 1685.0521225016 * t);
-        L1 += 0.00000025194 * Math.cos(1.60716361937 + 831.8557407496 * t);
-        if (highAccuracy) {
-            L1 += 0.00000021133 * Math.cos(5.86310776376 + 1258.4539316256 * t);
-            L1 += 0.00000019668 * Math.cos(2.18904500387 + 316.3918696566 * t);
-            L1 += 0.00000017878 * Math.cos(0.82813691085 + 433.7117378768 * t);
-            L1 += 0.00000017409 * Math.cos(2.75647882058 + 853.196381752 * t);
-            L1 += 0.00000017703 * Math.cos(5.95527033658 + 5.4166259714 * t);
-            L1 += 0.00000018586 * Math.cos(0.51459954175 + 1375.7737998458 * t);
-            L1 += 0.00000017469 * Math.cos(0.70855164060 + 1471.7530270636 * t);
-            L1 += 0.00000014369 * Math.cos(0.91459684737 + 18.1592472647 * t);
-            L1 += 0.00000014107 * Math.cos(0.63031131929 + 2.9207613068 * t);
-            L1 += 0.00000011728 * Math.cos(1.76421689491 + 380.12776796 * t);
-            L1 += 0.00000011042 * Math.cos(5.56386292919 + 1574.8458012822 * t);
-            L1 += 0.00000011422 * Math.cos(4.30273286555 + 405.2575498736 * t);
-            L1 += 0.00000010407 * Math.cos(0.30595619562 + 1361.5467058442 * t);
-            L1 += 0.00000009894 * Math.cos(0.38972478935 + 1073.6090241908 * t);
-            L1 += 0.00000009808 * Math.cos(5.90342059427 + 519.3960243561 * t);
-            L1 += 0.00000009287 * Math.cos(3.23717178839 + 1795.258443721 * t);
-            L1 += 0.00000009079 * Math.cos(5.59391515894 + 2648.454825473 * t);
-            L1 += 0.00000008830 * Math.cos(0.53669085248 + 1788.1448967202 * t);
-            L1 += 0.00000008238 * Math.cos(5.88621877345 + 2001.4439921582 * t);
-            L1 += 0.00000008058 * Math.cos(5.07394631539 + 1485.9801210652 * t);
-            L1 += 0.00000006690 * Math.cos(2.41093500491 + 4.192785694 * t);
-            L1 += 0.00000005917 * Math.cos(4.17942020818 + 2008.557539159 * t);
-            L1 += 0.00000007256 * Math.cos(6.19390446816 + 11.0457002639 * t);
-            L1 += 0.00000006272 * Math.cos(1.36131578474 + 1148.2476104062 * t);
-            L1 += 0.00000005142 * Math.cos(5.23124680535 + 628.8515860501 * t);
-            L1 += 0.00000005141 * Math.cos(2.92956226336 + 518.6452648307 * t);
-            L1 += 0.00000004764 * Math.cos(0.16833299921 + 629.6023455755 * t);
-            L1 += 0.00000004603 * Math.cos(0.78535347104 + 721.6494195302 * t);
-            L1 += 0.00000004573 * Math.cos(6.24771751154 + 1677.9385755008 * t);
-            L1 += 0.00000004536 * Math.cos(4.95109388690 + 635.9651330509 * t);
-            L1 += 0.00000004434 * Math.cos(1.45220762308 + 2125.8774073792 * t);
-            L1 += 0.00000004518 * Math.cos(2.06522259381 + 453.424893819 * t);
-            L1 += 0.00000004428 * Math.cos(0.15677546362 + 1699.2792165032 * t);
-            L1 += 0.00000005594 * Math.cos(5.57471241370 + 191.9584544356 * t);
-            L1 += 0.00000005405 * Math.cos(1.46221153779 + 330.6189636582 * t);
-            L1 += 0.00000005776 * Math.cos(4.37575545399 + 2221.856634597 * t);
-            L1 += 0.00000004265 * Math.cos(0.24198200812 + 2104.5367663768 * t);
-            L1 += 0.00000004100 * Math.cos(6.19338226411 + 636.7158925763 * t);
-            L1 += 0.00000004432 * Math.cos(4.35787390405 + 423.4167971383 * t);
-            L1 += 0.00000004102 * Math.cos(0.49195461480 + 1056.2005364515 * t);
-            L1 += 0.00000004527 * Math.cos(0.09244775677 + 1062.5633239269 * t);
-            L1 += 0.00000004397 * Math.cos(4.14273244974 + 511.5317178299 * t);
-            L1 += 0.00000003567 * Math.cos(5.66550104255 + 2317.8358618148 * t);
-            L1 += 0.00000003585 * Math.cos(0.28040162482 + 1055.4497769261 * t);
-            L1 += 0.00000004009 * Math.cos(2.54842404074 + 74.7815985673 * t);
-            L1 += 0.00000003686 * Math.cos(2.93367849990 + 32.2433289144 * t);
-            L1 += 0.00000002969 * Math.cos(5.50022776972 + 107.0249274817 * t);
-            L1 += 0.00000002856 * Math.cos(5.73809418496 + 99.9113804809 * t);
-            L1 += 0.00000002718 * Math.cos(1.25246874516 + 540.7366653585 * t);
-            L1 += 0.00000002808 * Math.cos(3.30714906571 + 0.7507595254 * t);
-            L1 += 0.00000002669 * Math.cos(1.63398531390 + 1063.3140834523 * t);
-            L1 += 0.00000002667 * Math.cos(4.28683044077 + 106.2741679563 * t);
-            L1 += 0.00000002705 * Math.cos(3.03568370231 + 422.6660376129 * t);
-            L1 += 0.00000003271 * Math.cos(5.89438924876 + 1802.3719907218 * t);
-            L1 += 0.00000002654 * Math.cos(0.35475530647 + 1898.3512179396 * t);
-            L1 += 0.00000002574 * Math.cos(3.59809745049 + 750.1036075334 * t);
-            L1 += 0.00000002486 * Math.cos(5.28928577587 + 1891.2376709388 * t);
-            L1 += 0.00000003221 * Math.cos(4.58424996327 + 416.3032501375 * t);
-            L1 += 0.00000002936 * Math.cos(1.09054035208 + 1464.6394800628 * t);
-            L1 += 0.00000002398 * Math.cos(6.02106328658 + 551.031606097 * t);
-            L1 += 0.00000002214 * Math.cos(5.24451644028 + 621.7380390493 * t);
-            L1 += 0.00000002193 * Math.cos(0.00364881833 + 2420.9286360334 * t);
-            L1 += 0.00000002320 * Math.cos(5.82908812407 + 305.3461693927 * t);
-            L1 += 0.00000002088 * Math.cos(5.99245749935 + 1994.3304451574 * t);
-            L1 += 0.00000002042 * Math.cos(0.75011275470 + 142.4496501338 * t);
-            L1 += 0.00000002021 * Math.cos(4.17581114855 + 569.0478410098 * t);
-            L1 += 0.00000002110 * Math.cos(6.25440423633 + 647.0108333148 * t);
-            L1 += 0.00000002110 * Math.cos(5.18650189729 + 227.5261894396 * t);
-            L1 += 0.00000002279 * Math.cos(5.79998105466 + 539.9859058331 * t);
-            L1 += 0.00000002004 * Math.cos(4.20934218728 + 2324.9494088156 * t);
-            L1 += 0.00000001977 * Math.cos(3.99196981525 + 24.3790223882 * t);
-            L1 += 0.00000001953 * Math.cos(1.35695450633 + 963.4027029714 * t);
-            L1 += 0.00000001896 * Math.cos(2.78687918909 + 2428.0421830342 * t);
-            L1 += 0.00000001970 * Math.cos(5.88674791355 + 217.2312487011 * t);
-            L1 += 0.00000001931 * Math.cos(3.03273886284 + 1382.8873468466 * t);
-            L1 += 0.00000002034 * Math.cos(3.08513086760 + 408.4389436113 * t);
-            L1 += 0.00000001833 * Math.cos(5.61442879983 + 430.5303441391 * t);
-            L1 += 0.00000001838 * Math.cos(1.25469566267 + 81.7521332162 * t);
-            L1 += 0.00000001820 * Math.cos(5.97506520830 + 114.1384744825 * t);
-            L1 += 0.00000002043 * Math.cos(4.34071262566 + 70.8494453042 * t);
-            L1 += 0.00000001957 * Math.cos(4.03064578017 + 92.0470739547 * t);
-            L1 += 0.00000001768 * Math.cos(0.33096757704 + 35.4247226521 * t);
-            L1 += 0.00000002328 * Math.cos(5.86166964748 + 1038.0412891868 * t);
-            L1 += 0.00000001831 * Math.cos(4.81134529978 + 124.433415221 * t);
-            L1 += 0.00000002268 * Math.cos(1.02652901220 + 618.5566453116 * t);
-            L1 += 0.00000001919 * Math.cos(5.01339713289 + 99.1606209555 * t);
-            L1 += 0.00000001923 * Math.cos(0.28688541174 + 31.019488637 * t);
-            L1 += 0.00000002359 * Math.cos(4.65803416282 + 1905.4647649404 * t);
-            L1 += 0.00000001879 * Math.cos(5.69252482087 + 210.1177017003 * t);
-            L1 += 0.00000001678 * Math.cos(0.25561675979 + 295.0512286542 * t);
-            L1 += 0.00000001656 * Math.cos(5.46017983557 + 2634.2277314714 * t);
-            L1 += 0.00000001675 * Math.cos(6.15616456038 + 643.8294395771 * t);
-            L1 += 0.00000001953 * Math.cos(5.09846435548 + 17.4084877393 * t);
-            L1 += 0.00000001539 * Math.cos(2.75248075364 + 415.5524906121 * t);
-            L1 += 0.00000001482 * Math.cos(3.76735041917 + 534.3568315406 * t);
-            L1 += 0.00000001446 * Math.cos(3.15802770791 + 25.1297819136 * t);
-            L1 += 0.00000001421 * Math.cos(0.61909506285 + 458.8415197904 * t);
-            L1 += 0.00000001666 * Math.cos(0.26032169128 + 835.0371344873 * t);
-            L1 += 0.00000001472 * Math.cos(0.83054329617 + 28.3111756513 * t);
-            L1 += 0.00000001654 * Math.cos(0.88874938135 + 1781.0313497194 * t);
-            L1 += 0.00000001302 * Math.cos(5.75537548503 + 440.8252848776 * t);
-            L1 += 0.00000001349 * Math.cos(2.49744006758 + 984.6003316219 * t);
-            L1 += 0.00000001355 * Math.cos(5.10790739045 + 149.5631971346 * t);
-            L1 += 0.00000001188 * Math.cos(2.24279457878 + 31.492569389 * t);
-            L1 += 0.00000001231 * Math.cos(0.77900547379 + 739.8086667949 * t);
-            L1 += 0.00000001161 * Math.cos(3.10767970553 + 2111.6503133776 * t);
-            L1 += 0.00000001178 * Math.cos(4.30970344337 + 561.934294009 * t);
-            L1 += 0.00000001233 * Math.cos(6.22576640438 + 2214.7430875962 * t);
-            L1 += 0.00000001095 * Math.cos(6.03022173687 + 2737.32050569 * t);
-            L1 += 0.00000001324 * Math.cos(4.22919631556 + 2538.2485042536 * t);
-            L1 += 0.00000001346 * Math.cos(3.20576632074 + 525.0250986486 * t);
-            L1 += 0.00000001057 * Math.cos(5.76574985561 + 2310.722314814 * t);
-            L1 += 0.00000001158 * Math.cos(0.46300827788 + 67.6680515665 * t);
-            L1 += 0.00000001027 * Math.cos(0.20709586018 + 7.8643065262 * t);
-            L1 += 0.00000001143 * Math.cos(5.56632279390 + 46.470422916 * t);
-            L1 += 0.00000001012 * Math.cos(0.54307369204 + 532.1386456494 * t);
-            L1 += 0.00000000979 * Math.cos(5.14088953450 + 2207.6295405954 * t);
-            L1 += 0.00000000993 * Math.cos(2.03698162387 + 319.5732633943 * t);
-            L1 += 0.00000001035 * Math.cos(2.90325691870 + 611.4430983108 * t);
-            L1 += 0.00000001021 * Math.cos(4.75668560880 + 527.2432845398 * t);
-            L1 += 0.00000001310 * Math.cos(1.78907016216 + 824.7421937488 * t);
-            L1 += 0.00000000895 * Math.cos(2.54589419261 + 2744.4340526908 * t);
-            L1 += 0.00000000890 * Math.cos(5.41093971819 + 28.4541880032 * t);
-            L1 += 0.00000000985 * Math.cos(0.88687783832 + 5760.4984318976 * t);
-            L1 += 0.00000000983 * Math.cos(1.42102189882 + 5746.271337896 * t);
-            L1 += 0.00000000893 * Math.cos(5.87175153771 + 203.0041546995 * t);
-            L1 += 0.00000000922 * Math.cos(4.17425091286 + 2641.3412784722 * t);
-            L1 += 0.00000000876 * Math.cos(0.75315488921 + 1439.5096981492 * t);
-            L1 += 0.00000000945 * Math.cos(2.31584676883 + 9690.7081281172 * t);
-            L1 += 0.00000000941 * Math.cos(2.84331047707 + 9676.4810341156 * t);
-            L1 += 0.00000000867 * Math.cos(0.81016495601 + 524.2743391232 * t);
-            L1 += 0.00000000828 * Math.cos(2.35268476661 + 312.4597163935 * t);
-            L1 += 0.00000000912 * Math.cos(2.80494184378 + 6.2197751235 * t);
-            L1 += 0.00000000808 * Math.cos(1.05165559697 + 529.6427809848 * t);
-            L1 += 0.00000000779 * Math.cos(4.79938843208 + 945.2434557067 * t);
-            L1 += 0.00000000878 * Math.cos(5.76532521399 + 1.6445314027 * t);
-            L1 += 0.00000000954 * Math.cos(4.30880174100 + 209.3669421749 * t);
-            L1 += 0.00000000772 * Math.cos(5.25564170894 + 2950.619601128 * t);
-            L1 += 0.00000000745 * Math.cos(0.03807300102 + 535.107591066 * t);
-            L1 += 0.00000000744 * Math.cos(0.58381523987 + 25.2727942655 * t);
-            L1 += 0.00000000735 * Math.cos(0.19889697619 + 1049.0869894507 * t);
-            L1 += 0.00000000747 * Math.cos(2.71776604422 + 38.1330356378 * t);
-            L1 += 0.00000000728 * Math.cos(5.97254317194 + 945.9942152321 * t);
-            L1 += 0.00000000769 * Math.cos(4.51524159414 + 952.3570027075 * t);
-            L1 += 0.00000000711 * Math.cos(0.38043574201 + 69.1525242748 * t);
-            L1 += 0.00000000761 * Math.cos(3.07043913906 + 39.3568759152 * t);
-            L1 += 0.00000000802 * Math.cos(1.14189803237 + 532.6117264014 * t);
-            L1 += 0.00000000704 * Math.cos(1.25543872788 + 547.8502123593 * t);
-            L1 += 0.00000000800 * Math.cos(3.20276130202 + 604.4725636619 * t);
-            L1 += 0.00000000821 * Math.cos(1.05238771575 + 909.8187330546 * t);
-            L1 += 0.00000000725 * Math.cos(5.68293554150 + 953.1077622329 * t);
-            L1 += 0.00000000682 * Math.cos(1.20168457647 + 387.2413149608 * t);
-            L1 += 0.00000000640 * Math.cos(3.91564016975 + 528.7277572481 * t);
-            L1 += 0.00000000663 * Math.cos(0.81538903178 + 2228.9701815978 * t);
-            L1 += 0.00000000808 * Math.cos(4.24946672460 + 529.7391492044 * t);
-            L1 += 0.00000000768 * Math.cos(0.58100515131 + 2097.423219376 * t);
-            L1 += 0.00000000693 * Math.cos(2.51156186683 + 916.9322800554 * t);
-            L1 += 0.00000000784 * Math.cos(4.23618116997 + 195.1398481733 * t);
-            L1 += 0.00000000763 * Math.cos(1.12270397266 + 732.6951197941 * t);
-            L1 += 0.00000000617 * Math.cos(5.80980286923 + 739.0579072695 * t);
-            L1 += 0.00000000734 * Math.cos(4.24709115085 + 760.25553592 * t);
-            L1 += 0.00000000592 * Math.cos(3.26062064584 + 202.2533951741 * t);
-            L1 += 0.00000000552 * Math.cos(5.83536244089 + 526.7702037878 * t);
-            L1 += 0.00000000714 * Math.cos(4.90042609368 + 2751.5475996916 * t);
-            L1 += 0.00000000640 * Math.cos(1.38548213559 + 530.6541729411 * t);
-            L1 += 0.00000000620 * Math.cos(3.01948741376 + 902.7051860538 * t);
-            L1 += 0.00000000722 * Math.cos(5.18172356552 + 1.4844727083 * t);
-            L1 += 0.00000000530 * Math.cos(5.96271879869 + 2015.6710861598 * t);
-            L1 += 0.00000000541 * Math.cos(3.78415919087 + 2957.7331481288 * t);
-            L1 += 0.00000000530 * Math.cos(6.10433734445 + 2531.1349572528 * t);
-            L1 += 0.00000000569 * Math.cos(4.12853081905 + 2854.6403739102 * t);
-            L1 += 0.00000000498 * Math.cos(4.62946077069 + 934.9485149682 * t);
-            L1 += 0.00000000523 * Math.cos(3.63882931609 + 437.6438911399 * t);
-            L1 += 0.00000000527 * Math.cos(5.80963579852 + 3053.7123753466 * t);
-            L1 += 0.00000000489 * Math.cos(5.93594675987 + 3178.1457905676 * t);
-            L1 += 0.00000000488 * Math.cos(4.99103190309 + 483.2205421786 * t);
-            L1 += 0.00000000487 * Math.cos(5.55239102762 + 2627.1141844706 * t);
-            L1 += 0.00000000478 * Math.cos(0.83306238983 + 1603.2999892854 * t);
-            L1 += 0.00000000487 * Math.cos(5.86510858429 + 724.8308132679 * t);
-            L1 += 0.00000000453 * Math.cos(0.61324874134 + 1159.2933106701 * t);
-            L1 += 0.00000000451 * Math.cos(2.28214016934 + 3060.8259223474 * t);
-            L1 += 0.00000000515 * Math.cos(4.78127185341 + 447.7958195265 * t);
-            L1 += 0.00000000537 * Math.cos(0.63663065397 + 1354.4331588434 * t);
-            L1 += 0.00000000461 * Math.cos(2.67886294351 + 1021.2488945514 * t);
-            L1 += 0.00000000450 * Math.cos(1.91049628603 + 597.3590166611 * t);
-            L1 += 0.00000000488 * Math.cos(5.56151436365 + 2435.155730035 * t);
-            L1 += 0.00000000432 * Math.cos(3.64946046991 + 313.2104759189 * t);
-            L1 += 0.00000000435 * Math.cos(3.02448452708 + 533.8837507886 * t);
-            L1 += 0.00000000426 * Math.cos(5.07997231709 + 2524.021410252 * t);
-            L1 += 0.00000000491 * Math.cos(3.59200148259 + 230.5645708254 * t);
-            L1 += 0.00000000503 * Math.cos(1.57595009240 + 454.9093665273 * t);
-            L1 += 0.00000000526 * Math.cos(2.02899667490 + 1279.794572628 * t);
-            L1 += 0.00000000388 * Math.cos(5.58072092256 + 731.9443602687 * t);
-            L1 += 0.00000000449 * Math.cos(1.11025492739 + 56.6223513026 * t);
-            L1 += 0.00000000460 * Math.cos(4.42534443381 + 462.0229135281 * t);
-            L1 += 0.00000000495 * Math.cos(0.36191781331 + 1251.3403846248 * t);
-            L1 += 0.00000000398 * Math.cos(5.20119376110 + 3267.0114707846 * t);
-            L1 += 0.00000000416 * Math.cos(1.70821947228 + 245.5424243524 * t);
-            L1 += 0.00000000355 * Math.cos(1.65214516751 + 78.7137518304 * t);
-            L1 += 0.00000000366 * Math.cos(5.75203350764 + 2847.5268269094 * t);
-            L1 += 0.00000000403 * Math.cos(1.72240208145 + 1141.1340634054 * t);
-            L1 += 0.00000000334 * Math.cos(6.01033746350 + 960.2213092337 * t);
-            L1 += 0.00000000331 * Math.cos(1.74101810453 + 490.3340891794 * t);
-            L1 += 0.00000000314 * Math.cos(5.73955945935 + 1158.5425511447 * t);
-            L1 += 0.00000000389 * Math.cos(0.31258924956 + 2413.8150890326 * t);
-            L1 += 0.00000000328 * Math.cos(3.50753080884 + 3274.1250177854 * t);
-            L1 += 0.00000000349 * Math.cos(0.38232238589 + 2332.0629558164 * t);
-            L1 += 0.00000000300 * Math.cos(4.75999716377 + 938.1299087059 * t);
-            L1 += 0.00000000325 * Math.cos(0.54991590409 + 43.2890291783 * t);
-            L1 += 0.00000000288 * Math.cos(4.90497702380 + 1357.6145525811 * t);
-            L1 += 0.00000000304 * Math.cos(6.12658548685 + 1262.3860848887 * t);
-            L1 += 0.00000000285 * Math.cos(2.89817774175 + 530.2122299564 * t);
-            L1 += 0.00000000285 * Math.cos(4.56582790812 + 1268.7488723641 * t);
-            L1 += 0.00000000310 * Math.cos(4.69121773135 + 76.2660712756 * t);
-            L1 += 0.00000000278 * Math.cos(5.49867187248 + 280.9671470045 * t);
-            L1 += 0.00000000279 * Math.cos(4.66775152978 + 1261.6353253633 * t);
-            L1 += 0.00000000357 * Math.cos(5.45944338384 + 113.3877149571 * t);
-            L1 += 0.00000000300 * Math.cos(4.11291800981 + 1048.3362299253 * t);
-            L1 += 0.00000000283 * Math.cos(1.09440291187 + 1512.8068240082 * t);
-            L1 += 0.00000000326 * Math.cos(0.60265644873 + 827.9235874865 * t);
-            L1 += 0.00000000280 * Math.cos(2.64073976181 + 373.0142209592 * t);
-            L1 += 0.00000000267 * Math.cos(1.94524254858 + 3377.217792004 * t);
-            L1 += 0.00000000283 * Math.cos(5.36501811239 + 1165.6560981455 * t);
-            L1 += 0.00000000281 * Math.cos(5.54752717581 + 3370.1042450032 * t);
-            L1 += 0.00000000269 * Math.cos(3.92616563946 + 42.5382696529 * t);
-            L1 += 0.00000000270 * Math.cos(4.93414229832 + 1041.2226829245 * t);
-            L1 += 0.00000000274 * Math.cos(1.86909714777 + 2655.5683724738 * t);
-            L1 += 0.00000000259 * Math.cos(2.56026215512 + 9146.790069021 * t);
-            L1 += 0.00000000258 * Math.cos(5.96872448521 + 1269.4996318895 * t);
-            L1 += 0.00000000254 * Math.cos(1.35449984820 + 1061.829610744 * t);
-            L1 += 0.00000000282 * Math.cos(3.01539201149 + 320.3240229197 * t);
-            L1 += 0.00000000272 * Math.cos(4.18505693688 + 8624.2126509272 * t);
-            L1 += 0.00000000245 * Math.cos(1.24462798353 + 252.6559713532 * t);
-            L1 += 0.00000000260 * Math.cos(4.32490177755 + 4017.115078318 * t);
-            L1 += 0.00000000247 * Math.cos(3.83116540525 + 327.4375699205 * t);
-            L1 += 0.00000000264 * Math.cos(1.13298595860 + 1969.2006632438 * t);
-            L1 += 0.00000000291 * Math.cos(2.99706400538 + 4694.0029547076 * t);
-            L1 += 0.00000000223 * Math.cos(5.86659978015 + 3914.0223040994 * t);
-            L1 += 0.00000000241 * Math.cos(3.94118046972 + 3171.0322435668 * t);
-            L1 += 0.00000000228 * Math.cos(5.97829032334 + 224.3447957019 * t);
-            L1 += 0.00000000223 * Math.cos(6.19814052214 + 3281.2385647862 * t);
-            L1 += 0.00000000246 * Math.cos(2.91332083588 + 1514.2912967165 * t);
-            L1 += 0.00000000230 * Math.cos(2.20701513150 + 850.0149880143 * t);
-            L1 += 0.00000000270 * Math.cos(0.58233992630 + 1592.2542890215 * t);
-            L1 += 0.00000000236 * Math.cos(4.85450939183 + 3583.4033404412 * t);
-            L1 += 0.00000000237 * Math.cos(2.74342922621 + 1912.5783119412 * t);
-            L1 += 0.00000000276 * Math.cos(6.04560989855 + 1069.6768709277 * t);
-            L1 += 0.00000000254 * Math.cos(1.83831918853 + 1593.0050485469 * t);
-            L1 += 0.00000000214 * Math.cos(3.63754231115 + 3803.81598288 * t);
-            L1 += 0.00000000210 * Math.cos(3.08485590783 + 3590.516887442 * t);
-            L1 += 0.00000000260 * Math.cos(5.06089460492 + 1059.430114299 * t);
-            L1 += 0.00000000227 * Math.cos(0.23394232373 + 1670.82502850 * t);
-            L1 += 0.00000000246 * Math.cos(5.53873348349 + 2840.4132799086 * t);
-            L1 += 0.00000000206 * Math.cos(4.55330855600 + 554.0699874828 * t);
-            L1 += 0.00000000202 * Math.cos(1.32439444045 + 4326.3934009738 * t);
-            L1 += 0.00000000227 * Math.cos(0.78540105705 + 59.8037450403 * t);
-            L1 += 0.00000000258 * Math.cos(1.30854335630 + 1493.093668066 * t);
-            L1 += 0.00000000199 * Math.cos(0.45118573624 + 529.5309064002 * t);
-            L1 += 0.00000000203 * Math.cos(4.16872110150 + 4333.5069479746 * t);
-            L1 += 0.00000000207 * Math.cos(0.07882551152 + 5223.6939198022 * t);
-            L1 += 0.00000000203 * Math.cos(2.87164861799 + 505.3119427064 * t);
-            L1 += 0.00000000197 * Math.cos(4.05755296915 + 1064.0477966352 * t);
-            L1 += 0.00000000196 * Math.cos(5.99844851675 + 3597.6304344428 * t);
-            L1 += 0.00000000199 * Math.cos(3.30501818656 + 4120.2078525366 * t);
-            L1 += 0.00000000194 * Math.cos(5.95526916809 + 84.9335269539 * t);
-            L1 += 0.00000000195 * Math.cos(4.77984803416 + 1098.7388061044 * t);
-            L1 += 0.00000000245 * Math.cos(0.01831767727 + 1567.7322542814 * t);
-            L1 += 0.00000000204 * Math.cos(3.81252652390 + 530.44172462 * t);
-            L1 += 0.00000000210 * Math.cos(1.56035035567 + 512.2824773553 * t);
-            L1 += 0.00000000198 * Math.cos(3.54440293022 + 529.851023789 * t);
-            L1 += 0.00000000266 * Math.cos(1.58071929624 + 983.1158589136 * t);
-            L1 += 0.00000000198 * Math.cos(0.30047978925 + 1166.4068576709 * t);
-            L1 += 0.00000000188 * Math.cos(0.90738705875 + 135.336103133 * t);
-            L1 += 0.00000000256 * Math.cos(1.87162378257 + 1289.9465010146 * t);
-            L1 += 0.00000000190 * Math.cos(1.05137411074 + 1884.124123938 * t);
-            L1 += 0.00000000178 * Math.cos(1.01108545550 + 10206.1719992102 * t);
-            L1 += 0.00000000189 * Math.cos(0.35186987278 + 1372.5924061081 * t);
-            L1 += 0.00000000218 * Math.cos(5.40858666125 + 679.2541622292 * t);
-            L1 += 0.00000000172 * Math.cos(4.35360474429 + 1578.0271950199 * t);
-            L1 += 0.00000000172 * Math.cos(0.28434115891 + 494.2662424425 * t);
-            L1 += 0.00000000206 * Math.cos(0.01485146863 + 2730.2069586892 * t);
-            L1 += 0.00000000176 * Math.cos(5.20619161648 + 3686.4961146598 * t);
-            L1 += 0.00000000173 * Math.cos(1.83493659695 + 746.9222137957 * t);
-            L1 += 0.00000000177 * Math.cos(0.49024580662 + 1585.8915015461 * t);
-            L1 += 0.00000000206 * Math.cos(5.22730929781 + 3995.7744373156 * t);
-            L1 += 0.00000000190 * Math.cos(4.99077882242 + 3067.9394693482 * t);
-            L1 += 0.00000000169 * Math.cos(2.57956666704 + 9161.0171630226 * t);
-            L1 += 0.00000000168 * Math.cos(6.15800395467 + 970.5162499722 * t);
-            L1 += 0.00000000165 * Math.cos(1.51795928301 + 4010.0015313172 * t);
-            L1 += 0.00000000189 * Math.cos(0.74735111652 + 2545.3620512544 * t);
-            L1 += 0.00000000173 * Math.cos(3.38232793511 + 885.4397106664 * t);
-            L1 += 0.00000000166 * Math.cos(1.54981367866 + 1070.4276304531 * t);
-            L1 += 0.00000000163 * Math.cos(2.27700702598 + 1060.3451380357 * t);
-            L1 += 0.00000000157 * Math.cos(1.23713010823 + 5216.5803728014 * t);
-            L1 += 0.00000000178 * Math.cos(5.39417024046 + 3163.918696566 * t);
-            L1 += 0.00000000158 * Math.cos(3.90063523153 + 3487.4241132234 * t);
-            L1 += 0.00000000169 * Math.cos(5.91153502769 + 1578.7779545453 * t);
-            L1 += 0.00000000178 * Math.cos(5.51894552093 + 2943.5060541272 * t);
-            L1 += 0.00000000154 * Math.cos(4.52070366231 + 1058.4187223427 * t);
-            L1 += 0.00000000163 * Math.cos(0.80456433006 + 1585.1407420207 * t);
-            L1 += 0.00000000151 * Math.cos(4.87442909516 + 81.8951455681 * t);
-            L1 += 0.00000000180 * Math.cos(1.88055488803 + 685.4739373527 * t);
-            L1 += 0.00000000154 * Math.cos(3.65536637158 + 77734.01845962799 * t);
-            L1 += 0.00000000163 * Math.cos(5.06311074065 + 498.6714764576 * t);
-            L1 += 0.00000000162 * Math.cos(0.84216605238 + 2200.5159935946 * t);
-            L1 += 0.00000000189 * Math.cos(0.56636371283 + 842.1506814881 * t);
-            L1 += 0.00000000151 * Math.cos(4.66530832982 + 977.4867846211 * t);
-            L1 += 0.00000000187 * Math.cos(3.11784576157 + 630.3360587584 * t);
-            L1 += 0.00000000144 * Math.cos(0.70005415255 + 92.7978334801 * t);
-            L1 += 0.00000000138 * Math.cos(2.92367081829 + 927.8349679674 * t);
-            L1 += 0.00000000164 * Math.cos(3.73913227289 + 1134.1635287565 * t);
-            L1 += 0.00000000182 * Math.cos(5.86715864086 + 5753.3848848968 * t);
-            L1 += 0.00000000144 * Math.cos(4.89589455408 + 991.7138786227 * t);
-            L1 += 0.00000000137 * Math.cos(2.07768743239 + 842.9014410135 * t);
-            L1 += 0.00000000151 * Math.cos(2.10726170967 + 860.3099287528 * t);
-            L1 += 0.00000000140 * Math.cos(0.77231183403 + 9683.5945811164 * t);
-            L1 += 0.00000000131 * Math.cos(2.96777933087 + 497.4476361802 * t);
-            L1 += 0.00000000119 * Math.cos(1.26007410940 + 2005.3761454213 * t);
-            L1 += 0.00000000120 * Math.cos(6.13286906499 + 1987.2168981566 * t);
-            L1 += 0.00000000143 * Math.cos(2.40231943231 + 529.1697002328 * t);
-            L1 += 0.00000000113 * Math.cos(4.73094855840 + 4863.1979130692 * t);
-            L1 += 0.00000000122 * Math.cos(4.54364035076 + 1371.8416465827 * t);
-            L1 += 0.00000000135 * Math.cos(3.56089271537 + 1054.7160637432 * t);
-            L1 += 0.00000000115 * Math.cos(1.55810156690 + 9153.9036160218 * t);
-            L1 += 0.00000000150 * Math.cos(4.28443290371 + 429.0458714308 * t);
-            L1 += 0.00000000132 * Math.cos(5.07409771627 + 1056.9342496344 * t);
-            L1 += 0.00000000112 * Math.cos(4.59192248879 + 3700.7232086614 * t);
-            L1 += 0.00000000103 * Math.cos(2.60811213731 + 1894.4190646765 * t);
-            L1 += 0.00000000105 * Math.cos(5.94340093827 + 1057.8974574809 * t);
-            L1 += 0.00000000101 * Math.cos(1.58846813422 + 3693.6096616606 * t);
-            L1 += 0.00000000118 * Math.cos(4.88733637311 + 600.5404103988 * t);
-            L1 += 0.00000000098 * Math.cos(1.38793271630 + 1059.3337460794 * t);
-            L1 += 0.00000000100 * Math.cos(5.74975444020 + 501.2367770914 * t);
-            L1 += 0.00000000101 * Math.cos(0.02209271767 + 2964.8466951296 * t);
-            L1 += 0.00000000095 * Math.cos(0.49108484683 + 560.7104537316 * t);
-            L1 += 0.00000000094 * Math.cos(5.18380306247 + 4546.8060434126 * t);
-            L1 += 0.00000000104 * Math.cos(3.47229999154 + 4223.3006267552 * t);
-            L1 += 0.00000000099 * Math.cos(5.46359299375 + 3156.8051495652 * t);
-            L1 += 0.00000000099 * Math.cos(5.95584423449 + 547.0994528339 * t);
-            L1 += 0.00000000091 * Math.cos(1.87848199981 + 528.9402055692 * t);
-            L1 += 0.00000000108 * Math.cos(5.98018728055 + 1364.7280995819 * t);
-            L1 += 0.00000000116 * Math.cos(3.44357640421 + 1432.3961511484 * t);
-            L1 += 0.00000000088 * Math.cos(4.22154936325 + 4649.8988176312 * t);
-            L1 += 0.00000000109 * Math.cos(3.83768244476 + 525.4981794006 * t);
-            L1 += 0.00000000087 * Math.cos(0.58669584397 + 1173.5204046717 * t);
-            L1 += 0.00000000091 * Math.cos(5.33968822169 + 216.4804891757 * t);
-            L1 += 0.00000000102 * Math.cos(1.41480903153 + 3075.053016349 * t);
-            L1 += 0.00000000102 * Math.cos(1.74475388738 + 2758.6611466924 * t);
-            L1 += 0.00000000089 * Math.cos(5.89316363283 + 757.2171545342 * t);
-            L1 += 0.00000000086 * Math.cos(6.04340651740 + 6275.9623029906 * t);
-            L1 += 0.00000000101 * Math.cos(4.70225529886 + 3473.1970192218 * t);
-            L1 += 0.00000000079 * Math.cos(5.72096488951 + 5385.775331163 * t);
-            L1 += 0.00000000078 * Math.cos(1.11944499728 + 429.7795846137 * t);
-            L1 += 0.00000000078 * Math.cos(5.12580794008 + 1475.6851803267 * t);
-            L1 += 0.00000000078 * Math.cos(3.87444671518 + 2321.7680150779 * t);
-            L1 += 0.00000000086 * Math.cos(2.89392726975 + 10213.285546211 * t);
-            L1 += 0.00000000077 * Math.cos(1.40171543677 + 5179.5897827258 * t);
-            L1 += 0.00000000076 * Math.cos(0.09895432561 + 3707.8367556622 * t);
-            L1 += 0.00000000073 * Math.cos(5.65154413109 + 1151.4290041439 * t);
-            L1 += 0.00000000084 * Math.cos(5.15227885953 + 1091.6252591036 * t);
-            L1 += 0.00000000079 * Math.cos(4.81154341200 + 3384.3313390048 * t);
-            L1 += 0.00000000080 * Math.cos(0.05190580386 + 1080.7225711916 * t);
-            L1 += 0.00000000080 * Math.cos(5.35119272632 + 2.4476805548 * t);
-            L1 += 0.00000000085 * Math.cos(5.88100684593 + 234.6397364404 * t);
-        }
-        return L1 * t;
+        return new double[] {
+                529.69096508814, 0, 0,
+                0.00489503243, 4.22082939470, 529.6909650946,
+                0.00228917222, 6.02646855621, 7.1135470008,
+                0.00030099479, 4.54540782858, 1059.3819301892,
+                0.00020720920, 5.45943156902, 522.5774180938,
+                0.00012103653, 0.16994816098, 536.8045120954,
+                0.00006067987, 4.42422292017, 103.0927742186,
+                0.00005433968, 3.98480737746, 419.4846438752,
+                0.00004237744, 5.89008707199, 14.2270940016,
+                0.00002211974, 5.26766687382, 206.1855484372,
+                0.00001983502, 4.88600705699, 1589.0728952838,
+                0.00001295769, 5.55132752171, 3.1813937377,
+                0.00001174094, 5.84238857133, 1052.2683831884,
+                0.00001163416, 0.51450634873, 3.9321532631,
+                0.00001098730, 5.30705242117, 515.463871093,
+                0.00001007167, 0.46474690033, 735.8765135318,
+                0.00001003864, 3.14841622246, 426.598190876,
+                0.00000847762, 5.75765726863, 110.2063212194,
+                0.00000829822, 0.59345481695, 1066.49547719,
+                0.00000827250, 4.80311857692, 213.299095438,
+                0.00000724923, 5.51690038433, 639.897286314,
+                0.00000567826, 5.98865760444, 625.6701923124,
+                0.00000474197, 4.13243716360, 412.3710968744,
+                0.00000412936, 5.73653788228, 95.9792272178,
+                0.00000345412, 4.24128387922, 632.7837393132,
+                0.00000336820, 3.72892266066, 1162.4747044078,
+                0.00000234805, 4.03315571261, 949.1756089698,
+                0.00000234071, 6.24295755869, 309.2783226558,
+                0.00000198512, 1.50446971008, 838.9692877504,
+                0.00000194827, 2.21824346028, 323.5054166574,
+                0.00000186807, 6.07956275814, 742.9900605326,
+                0.00000183904, 6.27973919510, 543.9180590962,
+                0.00000171405, 5.41658811525, 199.0720014364,
+                0.00000134095, 5.23702273624, 2118.7638603784,
+                0.00000130777, 0.62641588161, 728.762966531,
+                0.00000115444, 0.67783747230, 846.0828347512,
+                0.00000106501, 4.47671724240, 956.2891559706,
+                0.00000079718, 5.82156733700, 1045.1548361876,
+                0.00000071631, 5.34149334443, 942.062061969,
+                0.00000069619, 5.97256378090, 532.8723588323,
+                0.00000066832, 5.73362353275, 21.3406410024,
+                0.00000065635, 0.12938321631, 526.5095713569,
+                0.00000063366, 6.05635396519, 1581.959348283,
+                0.00000059950, 1.00657473790, 1596.1864422846,
+                0.00000058519, 0.58687309667, 1155.361157407,
+                0.00000057343, 5.96870336620, 1169.5882514086,
+                0.00000056610, 1.41183572003, 533.6231183577,
+                0.00000055048, 5.42871116938, 10.2949407385,
+                0.00000052295, 5.72636754267, 117.3198682202,
+                0.00000052026, 0.22999191591, 1368.660252845,
+                0.00000050427, 6.08258832558, 525.7588118315,
+                0.00000047278, 3.60428393787, 1478.8665740644,
+                0.00000046566, 0.51168261375, 1265.5674786264,
+                0.00000042199, 4.13113112919, 1692.1656695024,
+                0.00000033556, 0.09960615979, 302.164775655,
+                0.00000032801, 5.03520269183, 220.4126424388,
+                0.00000032449, 5.37487176787, 508.3503240922,
+                0.00000029741, 5.42345191096, 1272.6810256272,
+                0.00000029379, 3.35927110207, 4.665866446,
+                0.00000029311, 0.75894050642, 88.865680217,
+                0.00000025194, 1.60716361937, 831.8557407496,
+                0.00000021789, 6.14949766217, 1685.0521225016,
+                0.00000021133, 5.86310776376, 1258.4539316256,
+                0.00000019668, 2.18904500387, 316.3918696566,
+                0.00000018586, 0.51459954175, 1375.7737998458,
+                0.00000017878, 0.82813691085, 433.7117378768,
+                0.00000017703, 5.95527033658, 5.4166259714,
+                0.00000017469, 0.70855164060, 1471.7530270636,
+                0.00000017409, 2.75647882058, 853.196381752,
+                0.00000014369, 0.91459684737, 18.1592472647,
+                0.00000014107, 0.63031131929, 2.9207613068,
+                0.00000011728, 1.76421689491, 380.12776796,
+                0.00000011422, 4.30273286555, 405.2575498736,
+                0.00000011042, 5.56386292919, 1574.8458012822,
+                0.00000010407, 0.30595619562, 1361.5467058442,
+                0.00000009894, 0.38972478935, 1073.6090241908,
+                0.00000009808, 5.90342059427, 519.3960243561,
+                0.00000009287, 3.23717178839, 1795.258443721,
+                0.00000009079, 5.59391515894, 2648.454825473,
+                0.00000008830, 0.53669085248, 1788.1448967202,
+                0.00000008238, 5.88621877345, 2001.4439921582,
+                0.00000008058, 5.07394631539, 1485.9801210652,
+                0.00000007256, 6.19390446816, 11.0457002639,
+                0.00000006690, 2.41093500491, 4.192785694,
+                0.00000006272, 1.36131578474, 1148.2476104062,
+                0.00000005917, 4.17942020818, 2008.557539159,
+                0.00000005776, 4.37575545399, 2221.856634597,
+                0.00000005594, 5.57471241370, 191.9584544356,
+                0.00000005405, 1.46221153779, 330.6189636582,
+                0.00000005142, 5.23124680535, 628.8515860501,
+                0.00000005141, 2.92956226336, 518.6452648307,
+                0.00000004764, 0.16833299921, 629.6023455755,
+                0.00000004603, 0.78535347104, 721.6494195302,
+                0.00000004573, 6.24771751154, 1677.9385755008,
+                0.00000004536, 4.95109388690, 635.9651330509,
+                0.00000004527, 0.09244775677, 1062.5633239269,
+                0.00000004518, 2.06522259381, 453.424893819,
+                0.00000004434, 1.45220762308, 2125.8774073792,
+                0.00000004432, 4.35787390405, 423.4167971383,
+                0.00000004428, 0.15677546362, 1699.2792165032,
+                0.00000004397, 4.14273244974, 511.5317178299,
+                0.00000004265, 0.24198200812, 2104.5367663768,
+                0.00000004102, 0.49195461480, 1056.2005364515,
+                0.00000004100, 6.19338226411, 636.7158925763,
+                0.00000004009, 2.54842404074, 74.7815985673,
+                0.00000003686, 2.93367849990, 32.2433289144,
+                0.00000003585, 0.28040162482, 1055.4497769261,
+                0.00000003567, 5.66550104255, 2317.8358618148,
+                0.00000003271, 5.89438924876, 1802.3719907218,
+                0.00000003221, 4.58424996327, 416.3032501375,
+                0.00000002969, 5.50022776972, 107.0249274817,
+                0.00000002936, 1.09054035208, 1464.6394800628,
+                0.00000002856, 5.73809418496, 99.9113804809,
+                0.00000002808, 3.30714906571, 0.7507595254,
+                0.00000002718, 1.25246874516, 540.7366653585,
+                0.00000002705, 3.03568370231, 422.6660376129,
+                0.00000002669, 1.63398531390, 1063.3140834523,
+                0.00000002667, 4.28683044077, 106.2741679563,
+                0.00000002654, 0.35475530647, 1898.3512179396,
+                0.00000002574, 3.59809745049, 750.1036075334,
+                0.00000002486, 5.28928577587, 1891.2376709388,
+                0.00000002398, 6.02106328658, 551.031606097,
+                0.00000002359, 4.65803416282, 1905.4647649404,
+                0.00000002328, 5.86166964748, 1038.0412891868,
+                0.00000002320, 5.82908812407, 305.3461693927,
+                0.00000002279, 5.79998105466, 539.9859058331,
+                0.00000002268, 1.02652901220, 618.5566453116,
+                0.00000002214, 5.24451644028, 621.7380390493,
+                0.00000002193, 0.00364881833, 2420.9286360334,
+                0.00000002110, 6.25440423633, 647.0108333148,
+                0.00000002110, 5.18650189729, 227.5261894396,
+                0.00000002088, 5.99245749935, 1994.3304451574,
+                0.00000002043, 4.34071262566, 70.8494453042,
+                0.00000002042, 0.75011275470, 142.4496501338,
+                0.00000002034, 3.08513086760, 408.4389436113,
+                0.00000002021, 4.17581114855, 569.0478410098,
+                0.00000002004, 4.20934218728, 2324.9494088156,
+                0.00000001977, 3.99196981525, 24.3790223882,
+                0.00000001970, 5.88674791355, 217.2312487011,
+                0.00000001957, 4.03064578017, 92.0470739547,
+                0.00000001953, 1.35695450633, 963.4027029714,
+                0.00000001953, 5.09846435548, 17.4084877393,
+                0.00000001931, 3.03273886284, 1382.8873468466,
+                0.00000001923, 0.28688541174, 31.019488637,
+                0.00000001919, 5.01339713289, 99.1606209555,
+                0.00000001896, 2.78687918909, 2428.0421830342,
+                0.00000001879, 5.69252482087, 210.1177017003,
+                0.00000001838, 1.25469566267, 81.7521332162,
+                0.00000001833, 5.61442879983, 430.5303441391,
+                0.00000001831, 4.81134529978, 124.433415221,
+                0.00000001820, 5.97506520830, 114.1384744825,
+                0.00000001768, 0.33096757704, 35.4247226521,
+                0.00000001678, 0.25561675979, 295.0512286542,
+                0.00000001675, 6.15616456038, 643.8294395771,
+                0.00000001666, 0.26032169128, 835.0371344873,
+                0.00000001656, 5.46017983557, 2634.2277314714,
+                0.00000001654, 0.88874938135, 1781.0313497194,
+                0.00000001539, 2.75248075364, 415.5524906121,
+                0.00000001482, 3.76735041917, 534.3568315406,
+                0.00000001472, 0.83054329617, 28.3111756513,
+                0.00000001446, 3.15802770791, 25.1297819136,
+                0.00000001421, 0.61909506285, 458.8415197904,
+                0.00000001355, 5.10790739045, 149.5631971346,
+                0.00000001349, 2.49744006758, 984.6003316219,
+                0.00000001346, 3.20576632074, 525.0250986486,
+                0.00000001324, 4.22919631556, 2538.2485042536,
+                0.00000001310, 1.78907016216, 824.7421937488,
+                0.00000001302, 5.75537548503, 440.8252848776,
+                0.00000001233, 6.22576640438, 2214.7430875962,
+                0.00000001231, 0.77900547379, 739.8086667949,
+                0.00000001188, 2.24279457878, 31.492569389,
+                0.00000001178, 4.30970344337, 561.934294009,
+                0.00000001161, 3.10767970553, 2111.6503133776,
+                0.00000001158, 0.46300827788, 67.6680515665,
+                0.00000001143, 5.56632279390, 46.470422916,
+                0.00000001095, 6.03022173687, 2737.32050569,
+                0.00000001057, 5.76574985561, 2310.722314814,
+                0.00000001035, 2.90325691870, 611.4430983108,
+                0.00000001027, 0.20709586018, 7.8643065262,
+                0.00000001021, 4.75668560880, 527.2432845398,
+                0.00000001012, 0.54307369204, 532.1386456494,
+                0.00000000993, 2.03698162387, 319.5732633943,
+                0.00000000985, 0.88687783832, 5760.4984318976,
+                0.00000000983, 1.42102189882, 5746.271337896,
+                0.00000000979, 5.14088953450, 2207.6295405954,
+                0.00000000954, 4.30880174100, 209.3669421749,
+                0.00000000945, 2.31584676883, 9690.7081281172,
+                0.00000000941, 2.84331047707, 9676.4810341156,
+                0.00000000922, 4.17425091286, 2641.3412784722,
+                0.00000000912, 2.80494184378, 6.2197751235,
+                0.00000000895, 2.54589419261, 2744.4340526908,
+                0.00000000893, 5.87175153771, 203.0041546995,
+                0.00000000890, 5.41093971819, 28.4541880032,
+                0.00000000878, 5.76532521399, 1.6445314027,
+                0.00000000876, 0.75315488921, 1439.5096981492,
+                0.00000000867, 0.81016495601, 524.2743391232,
+                0.00000000828, 2.35268476661, 312.4597163935,
+                0.00000000821, 1.05238771575, 909.8187330546,
+                0.00000000808, 1.05165559697, 529.6427809848,
+                0.00000000808, 4.24946672460, 529.7391492044,
+                0.00000000802, 1.14189803237, 532.6117264014,
+                0.00000000800, 3.20276130202, 604.4725636619,
+                0.00000000784, 4.23618116997, 195.1398481733,
+                0.00000000779, 4.79938843208, 945.2434557067,
+                0.00000000772, 5.25564170894, 2950.619601128,
+                0.00000000769, 4.51524159414, 952.3570027075,
+                0.00000000768, 0.58100515131, 2097.423219376,
+                0.00000000763, 1.12270397266, 732.6951197941,
+                0.00000000761, 3.07043913906, 39.3568759152,
+                0.00000000747, 2.71776604422, 38.1330356378,
+                0.00000000745, 0.03807300102, 535.107591066,
+                0.00000000744, 0.58381523987, 25.2727942655,
+                0.00000000735, 0.19889697619, 1049.0869894507,
+                0.00000000734, 4.24709115085, 760.25553592,
+                0.00000000728, 5.97254317194, 945.9942152321,
+                0.00000000725, 5.68293554150, 953.1077622329,
+                0.00000000722, 5.18172356552, 1.4844727083,
+                0.00000000714, 4.90042609368, 2751.5475996916,
+                0.00000000711, 0.38043574201, 69.1525242748,
+                0.00000000704, 1.25543872788, 547.8502123593,
+                0.00000000693, 2.51156186683, 916.9322800554,
+                0.00000000682, 1.20168457647, 387.2413149608,
+                0.00000000663, 0.81538903178, 2228.9701815978,
+                0.00000000640, 3.91564016975, 528.7277572481,
+                0.00000000640, 1.38548213559, 530.6541729411,
+                0.00000000620, 3.01948741376, 902.7051860538,
+                0.00000000617, 5.80980286923, 739.0579072695,
+                0.00000000592, 3.26062064584, 202.2533951741,
+                0.00000000569, 4.12853081905, 2854.6403739102,
+                0.00000000552, 5.83536244089, 526.7702037878,
+                0.00000000541, 3.78415919087, 2957.7331481288,
+                0.00000000537, 0.63663065397, 1354.4331588434,
+                0.00000000530, 5.96271879869, 2015.6710861598,
+                0.00000000530, 6.10433734445, 2531.1349572528,
+                0.00000000527, 5.80963579852, 3053.7123753466,
+                0.00000000526, 2.02899667490, 1279.794572628,
+                0.00000000523, 3.63882931609, 437.6438911399,
+                0.00000000515, 4.78127185341, 447.7958195265,
+                0.00000000503, 1.57595009240, 454.9093665273,
+                0.00000000498, 4.62946077069, 934.9485149682,
+                0.00000000495, 0.36191781331, 1251.3403846248,
+                0.00000000491, 3.59200148259, 230.5645708254,
+                0.00000000489, 5.93594675987, 3178.1457905676,
+                0.00000000488, 4.99103190309, 483.2205421786,
+                0.00000000488, 5.56151436365, 2435.155730035,
+                0.00000000487, 5.55239102762, 2627.1141844706,
+                0.00000000487, 5.86510858429, 724.8308132679,
+                0.00000000478, 0.83306238983, 1603.2999892854,
+                0.00000000461, 2.67886294351, 1021.2488945514,
+                0.00000000460, 4.42534443381, 462.0229135281,
+                0.00000000453, 0.61324874134, 1159.2933106701,
+                0.00000000451, 2.28214016934, 3060.8259223474,
+                0.00000000450, 1.91049628603, 597.3590166611,
+                0.00000000449, 1.11025492739, 56.6223513026,
+                0.00000000435, 3.02448452708, 533.8837507886,
+                0.00000000432, 3.64946046991, 313.2104759189,
+                0.00000000426, 5.07997231709, 2524.021410252,
+                0.00000000416, 1.70821947228, 245.5424243524,
+                0.00000000403, 1.72240208145, 1141.1340634054,
+                0.00000000398, 5.20119376110, 3267.0114707846,
+                0.00000000389, 0.31258924956, 2413.8150890326,
+                0.00000000388, 5.58072092256, 731.9443602687,
+                0.00000000366, 5.75203350764, 2847.5268269094,
+                0.00000000357, 5.45944338384, 113.3877149571,
+                0.00000000355, 1.65214516751, 78.7137518304,
+                0.00000000349, 0.38232238589, 2332.0629558164,
+                0.00000000334, 6.01033746350, 960.2213092337,
+                0.00000000331, 1.74101810453, 490.3340891794,
+                0.00000000328, 3.50753080884, 3274.1250177854,
+                0.00000000326, 0.60265644873, 827.9235874865,
+                0.00000000325, 0.54991590409, 43.2890291783,
+                0.00000000314, 5.73955945935, 1158.5425511447,
+                0.00000000310, 4.69121773135, 76.2660712756,
+                0.00000000304, 6.12658548685, 1262.3860848887,
+                0.00000000300, 4.75999716377, 938.1299087059,
+                0.00000000300, 4.11291800981, 1048.3362299253,
+                0.00000000291, 2.99706400538, 4694.0029547076,
+                0.00000000288, 4.90497702380, 1357.6145525811,
+                0.00000000285, 2.89817774175, 530.2122299564,
+                0.00000000285, 4.56582790812, 1268.7488723641,
+                0.00000000283, 1.09440291187, 1512.8068240082,
+                0.00000000283, 5.36501811239, 1165.6560981455,
+                0.00000000282, 3.01539201149, 320.3240229197,
+                0.00000000281, 5.54752717581, 3370.1042450032,
+                0.00000000280, 2.64073976181, 373.0142209592,
+                0.00000000279, 4.66775152978, 1261.6353253633,
+                0.00000000278, 5.49867187248, 280.9671470045,
+                0.00000000276, 6.04560989855, 1069.6768709277,
+                0.00000000274, 1.86909714777, 2655.5683724738,
+                0.00000000272, 4.18505693688, 8624.2126509272,
+                0.00000000270, 4.93414229832, 1041.2226829245,
+                0.00000000270, 0.58233992630, 1592.2542890215,
+                0.00000000269, 3.92616563946, 42.5382696529,
+                0.00000000267, 1.94524254858, 3377.217792004,
+                0.00000000266, 1.58071929624, 983.1158589136,
+                0.00000000264, 1.13298595860, 1969.2006632438,
+                0.00000000260, 4.32490177755, 4017.115078318,
+                0.00000000260, 5.06089460492, 1059.430114299,
+                0.00000000259, 2.56026215512, 9146.790069021,
+                0.00000000258, 5.96872448521, 1269.4996318895,
+                0.00000000258, 1.30854335630, 1493.093668066,
+                0.00000000256, 1.87162378257, 1289.9465010146,
+                0.00000000254, 1.35449984820, 1061.829610744,
+                0.00000000254, 1.83831918853, 1593.0050485469,
+                0.00000000247, 3.83116540525, 327.4375699205,
+                0.00000000246, 2.91332083588, 1514.2912967165,
+                0.00000000246, 5.53873348349, 2840.4132799086,
+                0.00000000245, 1.24462798353, 252.6559713532,
+                0.00000000245, 0.01831767727, 1567.7322542814,
+                0.00000000241, 3.94118046972, 3171.0322435668,
+                0.00000000237, 2.74342922621, 1912.5783119412,
+                0.00000000236, 4.85450939183, 3583.4033404412,
+                0.00000000230, 2.20701513150, 850.0149880143,
+                0.00000000228, 5.97829032334, 224.3447957019,
+                0.00000000227, 0.23394232373, 1670.82502850,
+                0.00000000227, 0.78540105705, 59.8037450403,
+                0.00000000223, 5.86659978015, 3914.0223040994,
+                0.00000000223, 6.19814052214, 3281.2385647862,
+                0.00000000218, 5.40858666125, 679.2541622292,
+                0.00000000214, 3.63754231115, 3803.81598288,
+                0.00000000210, 3.08485590783, 3590.516887442,
+                0.00000000210, 1.56035035567, 512.2824773553,
+                0.00000000207, 0.07882551152, 5223.6939198022,
+                0.00000000206, 4.55330855600, 554.0699874828,
+                0.00000000206, 0.01485146863, 2730.2069586892,
+                0.00000000206, 5.22730929781, 3995.7744373156,
+                0.00000000204, 3.81252652390, 530.44172462,
+                0.00000000203, 4.16872110150, 4333.5069479746,
+                0.00000000203, 2.87164861799, 505.3119427064,
+                0.00000000202, 1.32439444045, 4326.3934009738,
+                0.00000000199, 0.45118573624, 529.5309064002,
+                0.00000000199, 3.30501818656, 4120.2078525366,
+                0.00000000198, 3.54440293022, 529.851023789,
+                0.00000000198, 0.30047978925, 1166.4068576709,
+                0.00000000197, 4.05755296915, 1064.0477966352,
+                0.00000000196, 5.99844851675, 3597.6304344428,
+                0.00000000195, 4.77984803416, 1098.7388061044,
+                0.00000000194, 5.95526916809, 84.9335269539,
+                0.00000000190, 1.05137411074, 1884.124123938,
+                0.00000000190, 4.99077882242, 3067.9394693482,
+                0.00000000189, 0.35186987278, 1372.5924061081,
+                0.00000000189, 0.74735111652, 2545.3620512544,
+                0.00000000189, 0.56636371283, 842.1506814881,
+                0.00000000188, 0.90738705875, 135.336103133,
+                0.00000000187, 3.11784576157, 630.3360587584,
+                0.00000000182, 5.86715864086, 5753.3848848968,
+                0.00000000180, 1.88055488803, 685.4739373527,
+                0.00000000178, 1.01108545550, 10206.1719992102,
+                0.00000000178, 5.39417024046, 3163.918696566,
+                0.00000000178, 5.51894552093, 2943.5060541272,
+                0.00000000177, 0.49024580662, 1585.8915015461,
+                0.00000000176, 5.20619161648, 3686.4961146598,
+                0.00000000173, 1.83493659695, 746.9222137957,
+                0.00000000173, 3.38232793511, 885.4397106664,
+                0.00000000172, 4.35360474429, 1578.0271950199,
+                0.00000000172, 0.28434115891, 494.2662424425,
+                0.00000000169, 2.57956666704, 9161.0171630226,
+                0.00000000169, 5.91153502769, 1578.7779545453,
+                0.00000000168, 6.15800395467, 970.5162499722,
+                0.00000000166, 1.54981367866, 1070.4276304531,
+                0.00000000165, 1.51795928301, 4010.0015313172,
+                0.00000000164, 3.73913227289, 1134.1635287565,
+                0.00000000163, 2.27700702598, 1060.3451380357,
+                0.00000000163, 0.80456433006, 1585.1407420207,
+                0.00000000163, 5.06311074065, 498.6714764576,
+                0.00000000162, 0.84216605238, 2200.5159935946,
+                0.00000000158, 3.90063523153, 3487.4241132234,
+                0.00000000157, 1.23713010823, 5216.5803728014,
+                0.00000000154, 4.52070366231, 1058.4187223427,
+                0.00000000154, 3.65536637158, 77734.01845962799,
+                0.00000000151, 4.87442909516, 81.8951455681,
+                0.00000000151, 4.66530832982, 977.4867846211,
+                0.00000000151, 2.10726170967, 860.3099287528,
+                0.00000000150, 4.28443290371, 429.0458714308,
+                0.00000000144, 0.70005415255, 92.7978334801,
+                0.00000000144, 4.89589455408, 991.7138786227,
+                0.00000000143, 2.40231943231, 529.1697002328,
+                0.00000000140, 0.77231183403, 9683.5945811164,
+                0.00000000138, 2.92367081829, 927.8349679674,
+                0.00000000137, 2.07768743239, 842.9014410135,
+                0.00000000135, 3.56089271537, 1054.7160637432,
+                0.00000000132, 5.07409771627, 1056.9342496344,
+                0.00000000131, 2.96777933087, 497.4476361802,
+                0.00000000122, 4.54364035076, 1371.8416465827,
+                0.00000000120, 6.13286906499, 1987.2168981566,
+                0.00000000119, 1.26007410940, 2005.3761454213,
+                0.00000000118, 4.88733637311, 600.5404103988,
+                0.00000000116, 3.44357640421, 1432.3961511484,
+                0.00000000115, 1.55810156690, 9153.9036160218,
+                0.00000000113, 4.73094855840, 4863.1979130692,
+                0.00000000112, 4.59192248879, 3700.7232086614,
+                0.00000000109, 3.83768244476, 525.4981794006,
+                0.00000000108, 5.98018728055, 1364.7280995819,
+                0.00000000105, 5.94340093827, 1057.8974574809,
+                0.00000000104, 3.47229999154, 4223.3006267552,
+                0.00000000103, 2.60811213731, 1894.4190646765,
+                0.00000000102, 1.41480903153, 3075.053016349,
+                0.00000000102, 1.74475388738, 2758.6611466924,
+                0.00000000101, 1.58846813422, 3693.6096616606,
+                0.00000000101, 0.02209271767, 2964.8466951296,
+                0.00000000101, 4.70225529886, 3473.1970192218,
+                0.00000000100, 5.74975444020, 501.2367770914,
+                0.00000000099, 5.46359299375, 3156.8051495652,
+                0.00000000099, 5.95584423449, 547.0994528339,
+                0.00000000098, 1.38793271630, 1059.3337460794,
+                0.00000000095, 0.49108484683, 560.7104537316,
+                0.00000000094, 5.18380306247, 4546.8060434126,
+                0.00000000091, 1.87848199981, 528.9402055692,
+                0.00000000091, 5.33968822169, 216.4804891757,
+                0.00000000089, 5.89316363283, 757.2171545342,
+                0.00000000088, 4.22154936325, 4649.8988176312,
+                0.00000000087, 0.58669584397, 1173.5204046717,
+                0.00000000086, 6.04340651740, 6275.9623029906,
+                0.00000000086, 2.89392726975, 10213.285546211,
+                0.00000000085, 5.88100684593, 234.6397364404,
+                0.00000000084, 5.15227885953, 1091.6252591036,
+                0.00000000080, 0.05190580386, 1080.7225711916,
+                0.00000000080, 5.35119272632, 2.4476805548,
+                0.00000000079, 5.72096488951, 5385.775331163,
+                0.00000000079, 4.81154341200, 3384.3313390048,
+                0.00000000078, 1.11944499728, 429.7795846137,
+                0.00000000078, 5.12580794008, 1475.6851803267,
+                0.00000000078, 3.87444671518, 2321.7680150779,
+                0.00000000077, 1.40171543677, 5179.5897827258,
+                0.00000000076, 0.09895432561, 3707.8367556622,
+                0.00000000073, 5.65154413109, 1151.4290041439
+        };
     }
 
-    public double L2(double t) // 225 terms of order 2
+    private static double[] l2() // 225 terms of order 2
     {
-        double L2 = 0;
-        L2 += 0.00047233601 * Math.cos(4.32148536482 + 7.1135470008 * t);
-        L2 += 0.00030649436 * Math.cos(2.92977788700 + 529.6909650946 * t);
-        L2 -= 0.00014837605;
-        L2 += 0.00003189359 * Math.cos(1.05515491122 + 522.5774180938 * t);
-        L2 += 0.00002728901 * Math.cos(4.84555421873 + 536.8045120954 * t);
-        L2 += 0.00002547440 * Math.cos(3.42720888976 + 1059.3819301892 * t);
-        L2 += 0.00001721046 * Math.cos(4.18734600902 + 14.2270940016 * t);
-        L2 += 0.00000383277 * Math.cos(5.76794364868 + 419.4846438752 * t);
-        L2 += 0.00000367514 * Math.cos(6.05520169517 + 103.0927742186 * t);
-        L2 += 0.00000377503 * Math.cos(0.76050839060 + 515.463871093 * t);
-        L2 += 0.00000337386 * Math.cos(3.78644856157 + 3.1813937377 * t);
-        L2 += 0.00000308194 * Math.cos(0.69368283790 + 206.1855484372 * t);
-        L2 += 0.00000214121 * Math.cos(3.82958181430 + 1589.0728952838 * t);
-        L2 += 0.00000203945 * Math.cos(5.34259263233 + 1066.49547719 * t);
-        L2 += 0.00000197456 * Math.cos(2.48351071790 + 3.9321532631 * t);
-        L2 += 0.00000146156 * Math.cos(3.81335105293 + 639.897286314 * t);
-        L2 += 0.00000156209 * Math.cos(1.36162315686 + 1052.2683831884 * t);
-        L2 += 0.00000129577 * Math.cos(5.83745710707 + 412.3710968744 * t);
-        L2 += 0.00000141825 * Math.cos(1.63491733107 + 426.598190876 * t);
-        L2 += 0.00000117324 * Math.cos(1.41441723025 + 625.6701923124 * t);
-        L2 += 0.00000096673 * Math.cos(4.03472268105 + 110.2063212194 * t);
-        L2 += 0.00000090824 * Math.cos(1.10616181082 + 95.9792272178 * t);
-        L2 += 0.00000078757 * Math.cos(4.63773672633 + 543.9180590962 * t);
-        L2 += 0.00000072393 * Math.cos(2.21660922294 + 735.8765135318 * t);
-        L2 += 0.00000087320 * Math.cos(2.52152838765 + 632.7837393132 * t);
-        L2 += 0.00000056885 * Math.cos(3.12193937495 + 213.299095438 * t);
-        L2 += 0.00000048615 * Math.cos(1.67250930065 + 309.2783226558 * t);
-        L2 += 0.00000058472 * Math.cos(0.83261136328 + 199.0720014364 * t);
-        L2 += 0.00000040161 * Math.cos(4.02477739294 + 21.3406410024 * t);
-        L2 += 0.00000039773 * Math.cos(0.62346681537 + 323.5054166574 * t);
-        L2 += 0.00000035738 * Math.cos(2.32587552001 + 728.762966531 * t);
-        L2 += 0.00000025610 * Math.cos(2.52090555309 + 1162.4747044078 * t);
-        L2 += 0.00000029257 * Math.cos(3.60827234952 + 10.2949407385 * t);
-        L2 += 0.00000023621 * Math.cos(3.00418693282 + 956.2891559706 * t);
-        L2 += 0.00000027790 * Math.cos(3.24029772587 + 838.9692877504 * t);
-        L2 += 0.00000025988 * Math.cos(4.50541789846 + 742.9900605326 * t);
-        L2 += 0.00000025259 * Math.cos(1.21368179972 + 1045.1548361876 * t);
-        L2 += 0.00000019456 * Math.cos(4.29184444888 + 532.8723588323 * t);
-        L2 += 0.00000016160 * Math.cos(5.81618778562 + 1596.1864422846 * t);
-        L2 += 0.00000017655 * Math.cos(0.80915458780 + 508.3503240922 * t);
-        L2 += 0.00000017714 * Math.cos(4.21087482222 + 2118.7638603784 * t);
-        L2 += 0.00000016950 * Math.cos(1.83162996779 + 526.5095713569 * t);
-        L2 += 0.00000014656 * Math.cos(3.99869563261 + 117.3198682202 * t);
-        L2 += 0.00000013717 * Math.cos(1.80293013315 + 302.164775655 * t);
-        L2 += 0.00000013232 * Math.cos(2.51839383442 + 88.865680217 * t);
-        L2 += 0.00000012771 * Math.cos(4.36965277120 + 1169.5882514086 * t);
-        L2 += 0.00000015311 * Math.cos(0.68283508612 + 942.062061969 * t);
-        L2 += 0.00000010924 * Math.cos(4.44465911708 + 525.7588118315 * t);
-        L2 += 0.00000013902 * Math.cos(5.95861098210 + 316.3918696566 * t);
-        L2 += 0.00000009462 * Math.cos(2.17903550202 + 1155.361157407 * t);
-        L2 += 0.00000008792 * Math.cos(3.29010679292 + 220.4126424388 * t);
-        L2 += 0.00000007851 * Math.cos(5.76115179798 + 846.0828347512 * t);
-        L2 += 0.00000007640 * Math.cos(2.72045021550 + 533.6231183577 * t);
-        L2 += 0.00000009055 * Math.cos(1.63552089571 + 1581.959348283 * t);
-        L2 += 0.00000008687 * Math.cos(3.31770180816 + 831.8557407496 * t);
-        L2 += 0.00000006355 * Math.cos(0.49733352086 + 949.1756089698 * t);
-        if (highAccuracy) {
-            L2 += 0.00000006615 * Math.cos(2.18391508427 + 1265.5674786264 * t);
-            L2 += 0.00000005380 * Math.cos(6.00496610446 + 405.2575498736 * t);
-            L2 += 0.00000004562 * Math.cos(1.38462817429 + 1258.4539316256 * t);
-            L2 += 0.00000004367 * Math.cos(5.07489817646 + 1073.6090241908 * t);
-            L2 += 0.00000004280 * Math.cos(3.04118697325 + 1692.1656695024 * t);
-            L2 += 0.00000004371 * Math.cos(5.47491964600 + 433.7117378768 * t);
-            L2 += 0.00000004201 * Math.cos(5.28578420235 + 18.1592472647 * t);
-            L2 += 0.00000003950 * Math.cos(1.25151054185 + 853.196381752 * t);
-            L2 += 0.00000005302 * Math.cos(3.65714557917 + 1272.6810256272 * t);
-            L2 += 0.00000004368 * Math.cos(2.27494144993 + 1368.660252845 * t);
-            L2 += 0.00000003462 * Math.cos(1.50340907962 + 519.3960243561 * t);
-            L2 += 0.00000002757 * Math.cos(2.16577371531 + 1478.8665740644 * t);
-            L2 += 0.00000002704 * Math.cos(1.04777971186 + 1574.8458012822 * t);
-            L2 += 0.00000002891 * Math.cos(2.04866759038 + 1361.5467058442 * t);
-            L2 += 0.00000003075 * Math.cos(0.99105386830 + 191.9584544356 * t);
-            L2 += 0.00000002437 * Math.cos(2.36815291342 + 1471.7530270636 * t);
-            L2 += 0.00000002201 * Math.cos(2.47797001828 + 721.6494195302 * t);
-            L2 += 0.00000002093 * Math.cos(3.72335003599 + 1485.9801210652 * t);
-            L2 += 0.00000002273 * Math.cos(3.03212449012 + 1148.2476104062 * t);
-            L2 += 0.00000001947 * Math.cos(1.88764180020 + 1685.0521225016 * t);
-            L2 += 0.00000002057 * Math.cos(6.18001258073 + 330.6189636582 * t);
-            L2 += 0.00000001451 * Math.cos(4.72055072637 + 32.2433289144 * t);
-            L2 += 0.00000001449 * Math.cos(3.18799149050 + 635.9651330509 * t);
-            L2 += 0.00000001377 * Math.cos(5.12507193192 + 1375.7737998458 * t);
-            L2 += 0.00000001421 * Math.cos(1.99249188460 + 629.6023455755 * t);
-            L2 += 0.00000001401 * Math.cos(4.26834108454 + 551.031606097 * t);
-            L2 += 0.00000001265 * Math.cos(0.00691519565 + 2125.8774073792 * t);
-            L2 += 0.00000001272 * Math.cos(2.25106018556 + 1788.1448967202 * t);
-            L2 += 0.00000001238 * Math.cos(1.75660677516 + 1677.9385755008 * t);
-            L2 += 0.00000001206 * Math.cos(2.18559244687 + 1795.258443721 * t);
-            L2 += 0.00000001493 * Math.cos(4.02813570061 + 539.9859058331 * t);
-            L2 += 0.00000001314 * Math.cos(4.76481710487 + 1062.5633239269 * t);
-            L2 += 0.00000001110 * Math.cos(2.97713206981 + 81.7521332162 * t);
-            L2 += 0.00000001027 * Math.cos(1.99159218429 + 295.0512286542 * t);
-            L2 += 0.00000001368 * Math.cos(4.63088532557 + 2648.454825473 * t);
-            L2 += 0.00000001025 * Math.cos(3.75336759986 + 28.4541880032 * t);
-            L2 += 0.00000000978 * Math.cos(3.01394148632 + 124.433415221 * t);
-            L2 += 0.00000001227 * Math.cos(1.22879053363 + 1038.0412891868 * t);
-            L2 += 0.00000000965 * Math.cos(1.17674106025 + 99.9113804809 * t);
-            L2 += 0.00000001015 * Math.cos(1.85922216390 + 750.1036075334 * t);
-            L2 += 0.00000000924 * Math.cos(3.53294521831 + 227.5261894396 * t);
-            L2 += 0.00000000988 * Math.cos(5.05622576252 + 1699.2792165032 * t);
-            L2 += 0.00000001059 * Math.cos(0.13477400877 + 416.3032501375 * t);
-            L2 += 0.00000000819 * Math.cos(2.01948161630 + 1056.2005364515 * t);
-            L2 += 0.00000000888 * Math.cos(1.75920995401 + 1898.3512179396 * t);
-            L2 += 0.00000001013 * Math.cos(2.80784883642 + 1464.6394800628 * t);
-            L2 += 0.00000000791 * Math.cos(4.92419444433 + 1055.4497769261 * t);
-            L2 += 0.00000000774 * Math.cos(1.91132974373 + 2111.6503133776 * t);
-            L2 += 0.00000000729 * Math.cos(3.29016656970 + 628.8515860501 * t);
-            L2 += 0.00000000743 * Math.cos(2.65216075794 + 106.2741679563 * t);
-            L2 += 0.00000000719 * Math.cos(2.95858266157 + 2008.557539159 * t);
-            L2 += 0.00000000693 * Math.cos(0.10835603179 + 963.4027029714 * t);
-            L2 += 0.00000000828 * Math.cos(2.72900314719 + 618.5566453116 * t);
-            L2 += 0.00000000777 * Math.cos(1.63387777696 + 2001.4439921582 * t);
-            L2 += 0.00000000651 * Math.cos(1.19267978130 + 422.6660376129 * t);
-            L2 += 0.00000000681 * Math.cos(5.47481858348 + 5760.4984318976 * t);
-            L2 += 0.00000000681 * Math.cos(3.11621018972 + 5746.271337896 * t);
-            L2 += 0.00000000644 * Math.cos(4.68534695662 + 611.4430983108 * t);
-            L2 += 0.00000000665 * Math.cos(1.86713865983 + 2104.5367663768 * t);
-            L2 += 0.00000000629 * Math.cos(3.05748834184 + 380.12776796 * t);
-            L2 += 0.00000000637 * Math.cos(1.85731506560 + 636.7158925763 * t);
-            L2 += 0.00000000715 * Math.cos(3.04974505007 + 2221.856634597 * t);
-            L2 += 0.00000000635 * Math.cos(4.53916560604 + 9676.4810341156 * t);
-            L2 += 0.00000000635 * Math.cos(0.61458920732 + 9690.7081281172 * t);
-            L2 += 0.00000000821 * Math.cos(6.24663887828 + 423.4167971383 * t);
-            L2 += 0.00000000764 * Math.cos(4.32616763486 + 1802.3719907218 * t);
-            L2 += 0.00000000581 * Math.cos(0.83633087877 + 1891.2376709388 * t);
-            L2 += 0.00000000638 * Math.cos(2.83653046158 + 1905.4647649404 * t);
-            L2 += 0.00000000558 * Math.cos(3.96114629751 + 440.8252848776 * t);
-            L2 += 0.00000000623 * Math.cos(1.22711488010 + 1382.8873468466 * t);
-            L2 += 0.00000000711 * Math.cos(3.43507379865 + 824.7421937488 * t);
-            L2 += 0.00000000516 * Math.cos(1.10671630111 + 107.0249274817 * t);
-            L2 += 0.00000000535 * Math.cos(1.55914282530 + 1994.3304451574 * t);
-            L2 += 0.00000000548 * Math.cos(4.39997113815 + 647.0108333148 * t);
-            L2 += 0.00000000412 * Math.cos(1.25354625957 + 203.0041546995 * t);
-            L2 += 0.00000000414 * Math.cos(2.66777275564 + 2324.9494088156 * t);
-            L2 += 0.00000000533 * Math.cos(2.55533346856 + 1781.0313497194 * t);
-            L2 += 0.00000000393 * Math.cos(1.26401319046 + 210.1177017003 * t);
-            L2 += 0.00000000428 * Math.cos(1.47563898333 + 2214.7430875962 * t);
-            L2 += 0.00000000417 * Math.cos(2.88282194210 + 1063.3140834523 * t);
-            L2 += 0.00000000431 * Math.cos(5.00337132770 + 3178.1457905676 * t);
-            L2 += 0.00000000404 * Math.cos(3.51234818882 + 2751.5475996916 * t);
-            L2 += 0.00000000433 * Math.cos(4.29604508638 + 5753.3848848968 * t);
-            L2 += 0.00000000311 * Math.cos(0.32531359824 + 2655.5683724738 * t);
-            L2 += 0.00000000315 * Math.cos(0.16909542121 + 1279.794572628 * t);
-            L2 += 0.00000000327 * Math.cos(3.36314839669 + 1141.1340634054 * t);
-            L2 += 0.00000000340 * Math.cos(1.47994765617 + 2317.8358618148 * t);
-            L2 += 0.00000000280 * Math.cos(5.45018668393 + 2228.9701815978 * t);
-            L2 += 0.00000000286 * Math.cos(1.69087245649 + 2420.9286360334 * t);
-            L2 += 0.00000000272 * Math.cos(0.27466300281 + 319.5732633943 * t);
-            L2 += 0.00000000285 * Math.cos(2.92648819935 + 2957.7331481288 * t);
-            L2 += 0.00000000242 * Math.cos(6.23321763999 + 934.9485149682 * t);
-            L2 += 0.00000000265 * Math.cos(0.35799742793 + 2840.4132799086 * t);
-            L2 += 0.00000000247 * Math.cos(2.41874119352 + 1251.3403846248 * t);
-            L2 += 0.00000000303 * Math.cos(2.43034117616 + 70.8494453042 * t);
-            L2 += 0.00000000251 * Math.cos(0.43544711316 + 3259.8979237838 * t);
-            L2 += 0.00000000226 * Math.cos(4.49396746521 + 5223.6939198022 * t);
-            L2 += 0.00000000233 * Math.cos(5.48382095726 + 1603.2999892854 * t);
-            L2 += 0.00000000272 * Math.cos(2.98590404673 + 1457.525933062 * t);
-            L2 += 0.00000000285 * Math.cos(2.60754102796 + 2538.2485042536 * t);
-            L2 += 0.00000000207 * Math.cos(5.94297320087 + 9153.9036160218 * t);
-            L2 += 0.00000000283 * Math.cos(2.02857986620 + 3171.0322435668 * t);
-            L2 += 0.00000000291 * Math.cos(5.14022289511 + 1592.2542890215 * t);
-            L2 += 0.00000000233 * Math.cos(2.70967928648 + 1354.4331588434 * t);
-            L2 += 0.00000000268 * Math.cos(5.02822905034 + 2015.6710861598 * t);
-            L2 += 0.00000000239 * Math.cos(1.57690386034 + 2744.4340526908 * t);
-            L2 += 0.00000000284 * Math.cos(2.27103340038 + 2854.6403739102 * t);
-            L2 += 0.00000000254 * Math.cos(1.36546010277 + 3370.1042450032 * t);
-            L2 += 0.00000000221 * Math.cos(1.17223735868 + 3053.7123753466 * t);
-            L2 += 0.00000000224 * Math.cos(1.28623905132 + 3060.8259223474 * t);
-            L2 += 0.00000000205 * Math.cos(3.30510713580 + 3384.3313390048 * t);
-            L2 += 0.00000000222 * Math.cos(0.63302066932 + 3163.918696566 * t);
-            L2 += 0.00000000188 * Math.cos(6.00513627145 + 92.0470739547 * t);
-            L2 += 0.00000000193 * Math.cos(1.57356589213 + 2428.0421830342 * t);
-            L2 += 0.00000000247 * Math.cos(2.25464204265 + 2097.423219376 * t);
-            L2 += 0.00000000198 * Math.cos(2.56172919362 + 2641.3412784722 * t);
-            L2 += 0.00000000203 * Math.cos(3.40598495601 + 99.1606209555 * t);
-            L2 += 0.00000000179 * Math.cos(0.54218881357 + 2207.6295405954 * t);
-            L2 += 0.00000000178 * Math.cos(5.56443381281 + 2332.0629558164 * t);
-            L2 += 0.00000000176 * Math.cos(1.43070640110 + 945.9942152321 * t);
-            L2 += 0.00000000222 * Math.cos(3.66783138440 + 113.3877149571 * t);
-            L2 += 0.00000000178 * Math.cos(0.64947535071 + 1176.7017984094 * t);
-            L2 += 0.00000000199 * Math.cos(1.14834144531 + 2531.1349572528 * t);
-            L2 += 0.00000000166 * Math.cos(4.09266431951 + 6283.0758499914 * t);
-            L2 += 0.00000000183 * Math.cos(1.27422647789 + 2310.722314814 * t);
-            L2 += 0.00000000227 * Math.cos(1.68715930646 + 1567.7322542814 * t);
-            L2 += 0.00000000188 * Math.cos(4.32227206118 + 1069.6768709277 * t);
-            L2 += 0.00000000225 * Math.cos(3.69300117786 + 2435.155730035 * t);
-            L2 += 0.00000000162 * Math.cos(3.60183151152 + 3067.9394693482 * t);
-            L2 += 0.00000000203 * Math.cos(2.24205059922 + 67.6680515665 * t);
-            L2 += 0.00000000152 * Math.cos(5.48122906518 + 10213.285546211 * t);
-            L2 += 0.00000000191 * Math.cos(2.68685722531 + 1773.9178027186 * t);
-            L2 += 0.00000000189 * Math.cos(2.95184731936 + 732.6951197941 * t);
-            L2 += 0.00000000178 * Math.cos(2.63197229299 + 3274.1250177854 * t);
-            L2 += 0.00000000168 * Math.cos(5.38131391591 + 1585.1407420207 * t);
-            L2 += 0.00000000152 * Math.cos(1.52826598178 + 2950.619601128 * t);
-            L2 += 0.00000000172 * Math.cos(1.85377970325 + 2413.8150890326 * t);
-            L2 += 0.00000000165 * Math.cos(2.69610230323 + 952.3570027075 * t);
-            L2 += 0.00000000161 * Math.cos(4.77428302161 + 1262.3860848887 * t);
-            L2 += 0.00000000143 * Math.cos(6.22998196624 + 860.3099287528 * t);
-            L2 += 0.00000000187 * Math.cos(1.19805936589 + 3362.9906980024 * t);
-            L2 += 0.00000000134 * Math.cos(2.74105572000 + 1670.82502850 * t);
-            L2 += 0.00000000122 * Math.cos(5.52449599842 + 337.732510659 * t);
-            L2 += 0.00000000143 * Math.cos(1.20984019641 + 2634.2277314714 * t);
-            L2 += 0.00000000114 * Math.cos(2.52833228247 + 1585.8915015461 * t);
-            L2 += 0.00000000136 * Math.cos(2.69423835500 + 739.8086667949 * t);
-            L2 += 0.00000000112 * Math.cos(5.77394476974 + 547.8502123593 * t);
-            L2 += 0.00000000150 * Math.cos(4.91666030632 + 3494.5376602242 * t);
-            L2 += 0.00000000119 * Math.cos(5.50342415511 + 4113.0943055358 * t);
-            L2 += 0.00000000149 * Math.cos(0.81247034524 + 3267.0114707846 * t);
-            L2 += 0.00000000103 * Math.cos(0.80198707373 + 2737.32050569 * t);
-            L2 += 0.00000000120 * Math.cos(2.81532905166 + 3803.81598288 * t);
-            L2 += 0.00000000111 * Math.cos(2.44973721150 + 3590.516887442 * t);
-            L2 += 0.00000000108 * Math.cos(1.33301085820 + 1049.0869894507 * t);
-            L2 += 0.00000000133 * Math.cos(0.33542188145 + 3156.8051495652 * t);
-            L2 += 0.00000000108 * Math.cos(2.55716124258 + 4010.0015313172 * t);
-            L2 += 0.00000000119 * Math.cos(1.02217622746 + 2524.021410252 * t);
-            L2 += 0.00000000105 * Math.cos(5.89338290292 + 3789.5888888784 * t);
-            L2 += 0.00000000094 * Math.cos(0.88652607343 + 3377.217792004 * t);
-            L2 += 0.00000000086 * Math.cos(1.26934319585 + 511.5317178299 * t);
-            L2 += 0.00000000082 * Math.cos(4.65514231193 + 3281.2385647862 * t);
-            L2 += 0.00000000081 * Math.cos(4.55655881694 + 4319.279853973 * t);
-            L2 += 0.00000000084 * Math.cos(5.52322777064 + 4120.2078525366 * t);
-            L2 += 0.00000000075 * Math.cos(0.40562636382 + 2627.1141844706 * t);
-            L2 += 0.00000000099 * Math.cos(3.94867595848 + 4017.115078318 * t);
-            L2 += 0.00000000080 * Math.cos(0.28157522970 + 2847.5268269094 * t);
-            L2 += 0.00000000073 * Math.cos(3.52191166845 + 2964.8466951296 * t);
-            L2 += 0.00000000092 * Math.cos(0.43014320279 + 3914.0223040994 * t);
-            L2 += 0.00000000083 * Math.cos(0.25202430423 + 2644.5226722099 * t);
-        }
-        return L2 * t * t;
+        return new double[] {
+                0.00047233601, 4.32148536482, 7.1135470008,
+                0.00030649436, 2.92977788700, 529.6909650946,
+                -0.00014837605, 0, 0,
+                0.00003189359, 1.05515491122, 522.5774180938,
+                0.00002728901, 4.84555421873, 536.8045120954,
+                0.00002547440, 3.42720888976, 1059.3819301892,
+                0.00001721046, 4.18734600902, 14.2270940016,
+                0.00000383277, 5.76794364868, 419.4846438752,
+                0.00000377503, 0.76050839060, 515.463871093,
+                0.00000367514, 6.05520169517, 103.0927742186,
+                0.00000337386, 3.78644856157, 3.1813937377,
+                0.00000308194, 0.69368283790, 206.1855484372,
+                0.00000214121, 3.82958181430, 1589.0728952838,
+                0.00000203945, 5.34259263233, 1066.49547719,
+                0.00000197456, 2.48351071790, 3.9321532631,
+                0.00000156209, 1.36162315686, 1052.2683831884,
+                0.00000146156, 3.81335105293, 639.897286314,
+                0.00000141825, 1.63491733107, 426.598190876,
+                0.00000129577, 5.83745710707, 412.3710968744,
+                0.00000117324, 1.41441723025, 625.6701923124,
+                0.00000096673, 4.03472268105, 110.2063212194,
+                0.00000090824, 1.10616181082, 95.9792272178,
+                0.00000087320, 2.52152838765, 632.7837393132,
+                0.00000078757, 4.63773672633, 543.9180590962,
+                0.00000072393, 2.21660922294, 735.8765135318,
+                0.00000058472, 0.83261136328, 199.0720014364,
+                0.00000056885, 3.12193937495, 213.299095438,
+                0.00000048615, 1.67250930065, 309.2783226558,
+                0.00000040161, 4.02477739294, 21.3406410024,
+                0.00000039773, 0.62346681537, 323.5054166574,
+                0.00000035738, 2.32587552001, 728.762966531,
+                0.00000029257, 3.60827234952, 10.2949407385,
+                0.00000027790, 3.24029772587, 838.9692877504,
+                0.00000025988, 4.50541789846, 742.9900605326,
+                0.00000025610, 2.52090555309, 1162.4747044078,
+                0.00000025259, 1.21368179972, 1045.1548361876,
+                0.00000023621, 3.00418693282, 956.2891559706,
+                0.00000019456, 4.29184444888, 532.8723588323,
+                0.00000017714, 4.21087482222, 2118.7638603784,
+                0.00000017655, 0.80915458780, 508.3503240922,
+                0.00000016950, 1.83162996779, 526.5095713569,
+                0.00000016160, 5.81618778562, 1596.1864422846,
+                0.00000015311, 0.68283508612, 942.062061969,
+                0.00000014656, 3.99869563261, 117.3198682202,
+                0.00000013902, 5.95861098210, 316.3918696566,
+                0.00000013717, 1.80293013315, 302.164775655,
+                0.00000013232, 2.51839383442, 88.865680217,
+                0.00000012771, 4.36965277120, 1169.5882514086,
+                0.00000010924, 4.44465911708, 525.7588118315,
+                0.00000009462, 2.17903550202, 1155.361157407,
+                0.00000009055, 1.63552089571, 1581.959348283,
+                0.00000008792, 3.29010679292, 220.4126424388,
+                0.00000008687, 3.31770180816, 831.8557407496,
+                0.00000007851, 5.76115179798, 846.0828347512,
+                0.00000007640, 2.72045021550, 533.6231183577,
+                0.00000006615, 2.18391508427, 1265.5674786264,
+                0.00000006355, 0.49733352086, 949.1756089698,
+                0.00000005380, 6.00496610446, 405.2575498736,
+                0.00000005302, 3.65714557917, 1272.6810256272,
+                0.00000004562, 1.38462817429, 1258.4539316256,
+                0.00000004371, 5.47491964600, 433.7117378768,
+                0.00000004368, 2.27494144993, 1368.660252845,
+                0.00000004367, 5.07489817646, 1073.6090241908,
+                0.00000004280, 3.04118697325, 1692.1656695024,
+                0.00000004201, 5.28578420235, 18.1592472647,
+                0.00000003950, 1.25151054185, 853.196381752,
+                0.00000003462, 1.50340907962, 519.3960243561,
+                0.00000003075, 0.99105386830, 191.9584544356,
+                0.00000002891, 2.04866759038, 1361.5467058442,
+                0.00000002757, 2.16577371531, 1478.8665740644,
+                0.00000002704, 1.04777971186, 1574.8458012822,
+                0.00000002437, 2.36815291342, 1471.7530270636,
+                0.00000002273, 3.03212449012, 1148.2476104062,
+                0.00000002201, 2.47797001828, 721.6494195302,
+                0.00000002093, 3.72335003599, 1485.9801210652,
+                0.00000002057, 6.18001258073, 330.6189636582,
+                0.00000001947, 1.88764180020, 1685.0521225016,
+                0.00000001493, 4.02813570061, 539.9859058331,
+                0.00000001451, 4.72055072637, 32.2433289144,
+                0.00000001449, 3.18799149050, 635.9651330509,
+                0.00000001421, 1.99249188460, 629.6023455755,
+                0.00000001401, 4.26834108454, 551.031606097,
+                0.00000001377, 5.12507193192, 1375.7737998458,
+                0.00000001368, 4.63088532557, 2648.454825473,
+                0.00000001314, 4.76481710487, 1062.5633239269,
+                0.00000001272, 2.25106018556, 1788.1448967202,
+                0.00000001265, 0.00691519565, 2125.8774073792,
+                0.00000001238, 1.75660677516, 1677.9385755008,
+                0.00000001227, 1.22879053363, 1038.0412891868,
+                0.00000001206, 2.18559244687, 1795.258443721,
+                0.00000001110, 2.97713206981, 81.7521332162,
+                0.00000001059, 0.13477400877, 416.3032501375,
+                0.00000001027, 1.99159218429, 295.0512286542,
+                0.00000001025, 3.75336759986, 28.4541880032,
+                0.00000001015, 1.85922216390, 750.1036075334,
+                0.00000001013, 2.80784883642, 1464.6394800628,
+                0.00000000988, 5.05622576252, 1699.2792165032,
+                0.00000000978, 3.01394148632, 124.433415221,
+                0.00000000965, 1.17674106025, 99.9113804809,
+                0.00000000924, 3.53294521831, 227.5261894396,
+                0.00000000888, 1.75920995401, 1898.3512179396,
+                0.00000000828, 2.72900314719, 618.5566453116,
+                0.00000000821, 6.24663887828, 423.4167971383,
+                0.00000000819, 2.01948161630, 1056.2005364515,
+                0.00000000791, 4.92419444433, 1055.4497769261,
+                0.00000000777, 1.63387777696, 2001.4439921582,
+                0.00000000774, 1.91132974373, 2111.6503133776,
+                0.00000000764, 4.32616763486, 1802.3719907218,
+                0.00000000743, 2.65216075794, 106.2741679563,
+                0.00000000729, 3.29016656970, 628.8515860501,
+                0.00000000719, 2.95858266157, 2008.557539159,
+                0.00000000715, 3.04974505007, 2221.856634597,
+                0.00000000711, 3.43507379865, 824.7421937488,
+                0.00000000693, 0.10835603179, 963.4027029714,
+                0.00000000681, 5.47481858348, 5760.4984318976,
+                0.00000000681, 3.11621018972, 5746.271337896,
+                0.00000000665, 1.86713865983, 2104.5367663768,
+                0.00000000651, 1.19267978130, 422.6660376129,
+                0.00000000644, 4.68534695662, 611.4430983108,
+                0.00000000638, 2.83653046158, 1905.4647649404,
+                0.00000000637, 1.85731506560, 636.7158925763,
+                0.00000000635, 4.53916560604, 9676.4810341156,
+                0.00000000635, 0.61458920732, 9690.7081281172,
+                0.00000000629, 3.05748834184, 380.12776796,
+                0.00000000623, 1.22711488010, 1382.8873468466,
+                0.00000000581, 0.83633087877, 1891.2376709388,
+                0.00000000558, 3.96114629751, 440.8252848776,
+                0.00000000548, 4.39997113815, 647.0108333148,
+                0.00000000535, 1.55914282530, 1994.3304451574,
+                0.00000000533, 2.55533346856, 1781.0313497194,
+                0.00000000516, 1.10671630111, 107.0249274817,
+                0.00000000433, 4.29604508638, 5753.3848848968,
+                0.00000000431, 5.00337132770, 3178.1457905676,
+                0.00000000428, 1.47563898333, 2214.7430875962,
+                0.00000000417, 2.88282194210, 1063.3140834523,
+                0.00000000414, 2.66777275564, 2324.9494088156,
+                0.00000000412, 1.25354625957, 203.0041546995,
+                0.00000000404, 3.51234818882, 2751.5475996916,
+                0.00000000393, 1.26401319046, 210.1177017003,
+                0.00000000340, 1.47994765617, 2317.8358618148,
+                0.00000000327, 3.36314839669, 1141.1340634054,
+                0.00000000315, 0.16909542121, 1279.794572628,
+                0.00000000311, 0.32531359824, 2655.5683724738,
+                0.00000000303, 2.43034117616, 70.8494453042,
+                0.00000000291, 5.14022289511, 1592.2542890215,
+                0.00000000286, 1.69087245649, 2420.9286360334,
+                0.00000000285, 2.92648819935, 2957.7331481288,
+                0.00000000285, 2.60754102796, 2538.2485042536,
+                0.00000000284, 2.27103340038, 2854.6403739102,
+                0.00000000283, 2.02857986620, 3171.0322435668,
+                0.00000000280, 5.45018668393, 2228.9701815978,
+                0.00000000272, 0.27466300281, 319.5732633943,
+                0.00000000272, 2.98590404673, 1457.525933062,
+                0.00000000268, 5.02822905034, 2015.6710861598,
+                0.00000000265, 0.35799742793, 2840.4132799086,
+                0.00000000254, 1.36546010277, 3370.1042450032,
+                0.00000000251, 0.43544711316, 3259.8979237838,
+                0.00000000247, 2.41874119352, 1251.3403846248,
+                0.00000000247, 2.25464204265, 2097.423219376,
+                0.00000000242, 6.23321763999, 934.9485149682,
+                0.00000000239, 1.57690386034, 2744.4340526908,
+                0.00000000233, 5.48382095726, 1603.2999892854,
+                0.00000000233, 2.70967928648, 1354.4331588434,
+                0.00000000227, 1.68715930646, 1567.7322542814,
+                0.00000000226, 4.49396746521, 5223.6939198022,
+                0.00000000225, 3.69300117786, 2435.155730035,
+                0.00000000224, 1.28623905132, 3060.8259223474,
+                0.00000000222, 0.63302066932, 3163.918696566,
+                0.00000000222, 3.66783138440, 113.3877149571,
+                0.00000000221, 1.17223735868, 3053.7123753466,
+                0.00000000207, 5.94297320087, 9153.9036160218,
+                0.00000000205, 3.30510713580, 3384.3313390048,
+                0.00000000203, 3.40598495601, 99.1606209555,
+                0.00000000203, 2.24205059922, 67.6680515665,
+                0.00000000199, 1.14834144531, 2531.1349572528,
+                0.00000000198, 2.56172919362, 2641.3412784722,
+                0.00000000193, 1.57356589213, 2428.0421830342,
+                0.00000000191, 2.68685722531, 1773.9178027186,
+                0.00000000189, 2.95184731936, 732.6951197941,
+                0.00000000188, 6.00513627145, 92.0470739547,
+                0.00000000188, 4.32227206118, 1069.6768709277,
+                0.00000000187, 1.19805936589, 3362.9906980024,
+                0.00000000183, 1.27422647789, 2310.722314814,
+                0.00000000179, 0.54218881357, 2207.6295405954,
+                0.00000000178, 5.56443381281, 2332.0629558164,
+                0.00000000178, 0.64947535071, 1176.7017984094,
+                0.00000000178, 2.63197229299, 3274.1250177854,
+                0.00000000176, 1.43070640110, 945.9942152321,
+                0.00000000172, 1.85377970325, 2413.8150890326,
+                0.00000000168, 5.38131391591, 1585.1407420207,
+                0.00000000166, 4.09266431951, 6283.0758499914,
+                0.00000000165, 2.69610230323, 952.3570027075,
+                0.00000000162, 3.60183151152, 3067.9394693482,
+                0.00000000161, 4.77428302161, 1262.3860848887,
+                0.00000000152, 5.48122906518, 10213.285546211,
+                0.00000000152, 1.52826598178, 2950.619601128,
+                0.00000000150, 4.91666030632, 3494.5376602242,
+                0.00000000149, 0.81247034524, 3267.0114707846,
+                0.00000000143, 6.22998196624, 860.3099287528,
+                0.00000000143, 1.20984019641, 2634.2277314714,
+                0.00000000136, 2.69423835500, 739.8086667949,
+                0.00000000134, 2.74105572000, 1670.82502850,
+                0.00000000133, 0.33542188145, 3156.8051495652,
+                0.00000000122, 5.52449599842, 337.732510659,
+                0.00000000120, 2.81532905166, 3803.81598288,
+                0.00000000119, 5.50342415511, 4113.0943055358,
+                0.00000000119, 1.02217622746, 2524.021410252,
+                0.00000000114, 2.52833228247, 1585.8915015461,
+                0.00000000112, 5.77394476974, 547.8502123593,
+                0.00000000111, 2.44973721150, 3590.516887442,
+                0.00000000108, 1.33301085820, 1049.0869894507,
+                0.00000000108, 2.55716124258, 4010.0015313172,
+                0.00000000105, 5.89338290292, 3789.5888888784,
+                0.00000000103, 0.80198707373, 2737.32050569,
+                0.00000000099, 3.94867595848, 4017.115078318,
+                0.00000000094, 0.88652607343, 3377.217792004,
+                0.00000000092, 0.43014320279, 3914.0223040994,
+                0.00000000086, 1.26934319585, 511.5317178299,
+                0.00000000084, 5.52322777064, 4120.2078525366,
+                0.00000000083, 0.25202430423, 2644.5226722099,
+                0.00000000082, 4.65514231193, 3281.2385647862,
+                0.00000000081, 4.55655881694, 4319.279853973,
+                0.00000000080, 0.28157522970, 2847.5268269094,
+                0.00000000075, 0.40562636382, 2627.1141844706,
+                0.00000000073, 3.52191166845, 2964.8466951296
+        };
     }
 
-    public double L3(double t) // 120 terms of order 3
+    private static double[] l3() // 120 terms of order 3
     {
-        double L3 = 0;
-        L3 += 0.00006501673 * Math.cos(2.59862923650 + 7.1135470008 * t);
-        L3 += 0.00001355012 * Math.cos(1.34692775915 + 529.6909650946 * t);
-        L3 += 0.00000470691 * Math.cos(2.47502798748 + 14.2270940016 * t);
-        L3 += 0.00000416933 * Math.cos(3.24456258569 + 536.8045120954 * t);
-        L3 += 0.00000352870 * Math.cos(2.97380410245 + 522.5774180938 * t);
-        L3 += 0.00000165699 * Math.cos(2.09182221854 + 1059.3819301892 * t);
-        L3 += 0.00000086769 * Math.cos(2.51454300081 + 515.463871093 * t);
-        L3 += 0.00000034458 * Math.cos(3.82181443085 + 1066.49547719 * t);
-        L3 += 0.00000022671 * Math.cos(2.98178645046 + 543.9180590962 * t);
-        L3 += 0.00000023760 * Math.cos(1.27416115958 + 412.3710968744 * t);
-        L3 += 0.00000028501 * Math.cos(2.44538595164 + 206.1855484372 * t);
-        L3 += 0.00000019722 * Math.cos(2.10936654685 + 639.897286314 * t);
-        L3 += 0.00000017778 * Math.cos(2.59019838502 + 1589.0728952838 * t);
-        L3 += 0.00000019709 * Math.cos(1.40149363982 + 419.4846438752 * t);
-        L3 += 0.00000018767 * Math.cos(1.58683219668 + 103.0927742186 * t);
-        L3 += 0.00000017015 * Math.cos(2.29975384867 + 21.3406410024 * t);
-        L3 += 0.00000016179 * Math.cos(3.15438287420 + 625.6701923124 * t);
-        L3 += 0.00000015902 * Math.cos(3.25713655347 + 1052.2683831884 * t);
-        L3 += 0.00000013421 * Math.cos(2.76078519881 + 95.9792272178 * t);
-        L3 += 0.00000013233 * Math.cos(2.53761666317 + 199.0720014364 * t);
-        L3 += 0.00000012676 * Math.cos(6.26512955217 + 426.598190876 * t);
-        L3 += 0.00000008633 * Math.cos(2.26532712763 + 110.2063212194 * t);
-        L3 += 0.00000006718 * Math.cos(3.42006598208 + 309.2783226558 * t);
-        L3 += 0.00000008703 * Math.cos(1.76298942412 + 10.2949407385 * t);
-        L3 += 0.00000006529 * Math.cos(4.03744539112 + 728.762966531 * t);
-        L3 += 0.00000005397 * Math.cos(5.26432570770 + 323.5054166574 * t);
-        L3 += 0.00000005685 * Math.cos(2.51772778746 + 508.3503240922 * t);
-        L3 += 0.00000007504;
-        L3 += 0.00000005431 * Math.cos(2.90223114269 + 1045.1548361876 * t);
-        L3 += 0.00000003997 * Math.cos(4.30231913648 + 88.865680217 * t);
-        L3 += 0.00000003855 * Math.cos(3.52241347275 + 302.164775655 * t);
-        L3 += 0.00000003811 * Math.cos(4.08897954122 + 735.8765135318 * t);
-        L3 += 0.00000003232 * Math.cos(1.47972151050 + 956.2891559706 * t);
-        L3 += 0.00000002931 * Math.cos(4.35694383564 + 1596.1864422846 * t);
-        L3 += 0.00000002657 * Math.cos(1.27257961451 + 213.299095438 * t);
-        L3 += 0.00000002556 * Math.cos(2.23303484585 + 117.3198682202 * t);
-        L3 += 0.00000002414 * Math.cos(2.91828676420 + 742.9900605326 * t);
-        L3 += 0.00000002657 * Math.cos(5.01551013390 + 838.9692877504 * t);
-        L3 += 0.00000001935 * Math.cos(2.79590256973 + 1169.5882514086 * t);
-        L3 += 0.00000002222 * Math.cos(2.39310688825 + 942.062061969 * t);
-        if (highAccuracy) {
-            L3 += 0.00000001605 * Math.cos(3.09964511466 + 2118.7638603784 * t);
-            L3 += 0.00000001491 * Math.cos(1.55001725357 + 220.4126424388 * t);
-            L3 += 0.00000001934 * Math.cos(5.00823602310 + 831.8557407496 * t);
-            L3 += 0.00000001584 * Math.cos(1.40103448632 + 405.2575498736 * t);
-            L3 += 0.00000001286 * Math.cos(3.46966168288 + 1073.6090241908 * t);
-            L3 += 0.00000001210 * Math.cos(4.05719633951 + 1155.361157407 * t);
-            L3 += 0.00000000995 * Math.cos(3.40755481322 + 532.8723588323 * t);
-            L3 += 0.00000000895 * Math.cos(1.64086921760 + 632.7837393132 * t);
-            L3 += 0.00000000942 * Math.cos(2.70150730852 + 191.9584544356 * t);
-            L3 += 0.00000000817 * Math.cos(3.29435640763 + 1258.4539316256 * t);
-            L3 += 0.00000000721 * Math.cos(1.62926029676 + 949.1756089698 * t);
-            L3 += 0.00000000745 * Math.cos(1.14787945018 + 1162.4747044078 * t);
-            L3 += 0.00000000719 * Math.cos(3.73992764870 + 433.7117378768 * t);
-            L3 += 0.00000000658 * Math.cos(2.90980216736 + 1574.8458012822 * t);
-            L3 += 0.00000000611 * Math.cos(5.95148659718 + 853.196381752 * t);
-            L3 += 0.00000000665 * Math.cos(3.54820168197 + 525.7588118315 * t);
-            L3 += 0.00000000609 * Math.cos(4.14925115671 + 721.6494195302 * t);
-            L3 += 0.00000000598 * Math.cos(4.69470159905 + 81.7521332162 * t);
-            L3 += 0.00000000669 * Math.cos(1.94668551888 + 1272.6810256272 * t);
-            L3 += 0.00000000643 * Math.cos(2.02118053595 + 526.5095713569 * t);
-            L3 += 0.00000000508 * Math.cos(4.35239131420 + 1368.660252845 * t);
-            L3 += 0.00000000509 * Math.cos(4.95261621008 + 1148.2476104062 * t);
-            L3 += 0.00000000564 * Math.cos(3.41879628800 + 1581.959348283 * t);
-            L3 += 0.00000000512 * Math.cos(4.39016117028 + 330.6189636582 * t);
-            L3 += 0.00000000548 * Math.cos(2.25796919785 + 551.031606097 * t);
-            L3 += 0.00000000478 * Math.cos(3.86015693760 + 1361.5467058442 * t);
-            L3 += 0.00000000383 * Math.cos(0.24286568335 + 611.4430983108 * t);
-            L3 += 0.00000000434 * Math.cos(2.94972316227 + 1038.0412891868 * t);
-            L3 += 0.00000000376 * Math.cos(1.42987791517 + 124.433415221 * t);
-            L3 += 0.00000000390 * Math.cos(4.06059870551 + 1471.7530270636 * t);
-            L3 += 0.00000000385 * Math.cos(4.70313900114 + 519.3960243561 * t);
-            L3 += 0.00000000428 * Math.cos(2.22447290956 + 539.9859058331 * t);
-            L3 += 0.00000000394 * Math.cos(4.52891996323 + 1464.6394800628 * t);
-            L3 += 0.00000000306 * Math.cos(2.02015964470 + 1485.9801210652 * t);
-            L3 += 0.00000000283 * Math.cos(0.96808839854 + 1905.4647649404 * t);
-            L3 += 0.00000000278 * Math.cos(4.35223393872 + 963.4027029714 * t);
-            L3 += 0.00000000309 * Math.cos(3.65940227544 + 846.0828347512 * t);
-            L3 += 0.00000000342 * Math.cos(4.17369218547 + 1788.1448967202 * t);
-            L3 += 0.00000000259 * Math.cos(4.00812218110 + 1265.5674786264 * t);
-            L3 += 0.00000000293 * Math.cos(3.91258428829 + 1685.0521225016 * t);
-            L3 += 0.00000000259 * Math.cos(1.01628149559 + 1478.8665740644 * t);
-            L3 += 0.00000000253 * Math.cos(3.12703531515 + 1994.3304451574 * t);
-            L3 += 0.00000000238 * Math.cos(6.13097565419 + 1382.8873468466 * t);
-            L3 += 0.00000000220 * Math.cos(4.81059910221 + 2125.8774073792 * t);
-            L3 += 0.00000000225 * Math.cos(2.51478069462 + 1891.2376709388 * t);
-            L3 += 0.00000000278 * Math.cos(3.63969386282 + 1677.9385755008 * t);
-            L3 += 0.00000000242 * Math.cos(2.90163762388 + 2310.722314814 * t);
-            L3 += 0.00000000242 * Math.cos(3.56541237319 + 1699.2792165032 * t);
-            L3 += 0.00000000248 * Math.cos(6.02173100984 + 750.1036075334 * t);
-            L3 += 0.00000000197 * Math.cos(5.17715231546 + 618.5566453116 * t);
-            L3 += 0.00000000256 * Math.cos(4.19052619061 + 1781.0313497194 * t);
-            L3 += 0.00000000196 * Math.cos(0.77278217513 + 2221.856634597 * t);
-            L3 += 0.00000000185 * Math.cos(3.87563539893 + 295.0512286542 * t);
-            L3 += 0.00000000234 * Math.cos(2.54350140197 + 1375.7737998458 * t);
-            L3 += 0.00000000184 * Math.cos(3.72826587808 + 2538.2485042536 * t);
-            L3 += 0.00000000189 * Math.cos(5.74277274755 + 2627.1141844706 * t);
-            L3 += 0.00000000163 * Math.cos(1.29242716775 + 1692.1656695024 * t);
-            L3 += 0.00000000218 * Math.cos(3.86704847246 + 2104.5367663768 * t);
-            L3 += 0.00000000171 * Math.cos(5.25744961028 + 824.7421937488 * t);
-            L3 += 0.00000000171 * Math.cos(4.17086334577 + 2097.423219376 * t);
-            L3 += 0.00000000149 * Math.cos(4.30563038349 + 2001.4439921582 * t);
-            L3 += 0.00000000148 * Math.cos(1.85615806078 + 1056.2005364515 * t);
-            L3 += 0.00000000155 * Math.cos(4.31124093129 + 2317.8358618148 * t);
-            L3 += 0.00000000152 * Math.cos(3.97372662088 + 1055.4497769261 * t);
-            L3 += 0.00000000147 * Math.cos(1.55828353595 + 227.5261894396 * t);
-            L3 += 0.00000000196 * Math.cos(2.21259819908 + 934.9485149682 * t);
-            L3 += 0.00000000160 * Math.cos(1.77096189842 + 1141.1340634054 * t);
-            L3 += 0.00000000132 * Math.cos(3.78618524413 + 1062.5633239269 * t);
-            L3 += 0.00000000179 * Math.cos(5.57450109164 + 1354.4331588434 * t);
-            L3 += 0.00000000121 * Math.cos(3.84004974551 + 2634.2277314714 * t);
-            L3 += 0.00000000118 * Math.cos(1.43347687364 + 1279.794572628 * t);
-            L3 += 0.00000000124 * Math.cos(3.41965347556 + 2648.454825473 * t);
-            L3 += 0.00000000162 * Math.cos(2.01594918927 + 533.6231183577 * t);
-            L3 += 0.00000000106 * Math.cos(3.26215180863 + 2207.6295405954 * t);
-            L3 += 0.00000000107 * Math.cos(0.88798638307 + 1670.82502850 * t);
-            L3 += 0.00000000107 * Math.cos(0.60623932999 + 2413.8150890326 * t);
-            L3 += 0.00000000082 * Math.cos(0.40279200309 + 2950.619601128 * t);
-            L3 += 0.00000000080 * Math.cos(2.06822079440 + 3060.8259223474 * t);
-            L3 += 0.00000000083 * Math.cos(2.43109843716 + 2428.0421830342 * t);
-            L3 += 0.00000000079 * Math.cos(3.80336766578 + 1603.2999892854 * t);
-        }
-        return L3 * t * t * t;
+        return new double[] {
+                0.00006501673, 2.59862923650, 7.1135470008,
+                0.00001355012, 1.34692775915, 529.6909650946,
+                0.00000470691, 2.47502798748, 14.2270940016,
+                0.00000416933, 3.24456258569, 536.8045120954,
+                0.00000352870, 2.97380410245, 522.5774180938,
+                0.00000165699, 2.09182221854, 1059.3819301892,
+                0.00000086769, 2.51454300081, 515.463871093,
+                0.00000034458, 3.82181443085, 1066.49547719,
+                0.00000028501, 2.44538595164, 206.1855484372,
+                0.00000023760, 1.27416115958, 412.3710968744,
+                0.00000022671, 2.98178645046, 543.9180590962,
+                0.00000019722, 2.10936654685, 639.897286314,
+                0.00000019709, 1.40149363982, 419.4846438752,
+                0.00000018767, 1.58683219668, 103.0927742186,
+                0.00000017778, 2.59019838502, 1589.0728952838,
+                0.00000017015, 2.29975384867, 21.3406410024,
+                0.00000016179, 3.15438287420, 625.6701923124,
+                0.00000015902, 3.25713655347, 1052.2683831884,
+                0.00000013421, 2.76078519881, 95.9792272178,
+                0.00000013233, 2.53761666317, 199.0720014364,
+                0.00000012676, 6.26512955217, 426.598190876,
+                0.00000008703, 1.76298942412, 10.2949407385,
+                0.00000008633, 2.26532712763, 110.2063212194,
+                0.00000007504, 0, 0,
+                0.00000006718, 3.42006598208, 309.2783226558,
+                0.00000006529, 4.03744539112, 728.762966531,
+                0.00000005685, 2.51772778746, 508.3503240922,
+                0.00000005431, 2.90223114269, 1045.1548361876,
+                0.00000005397, 5.26432570770, 323.5054166574,
+                0.00000003997, 4.30231913648, 88.865680217,
+                0.00000003855, 3.52241347275, 302.164775655,
+                0.00000003811, 4.08897954122, 735.8765135318,
+                0.00000003232, 1.47972151050, 956.2891559706,
+                0.00000002931, 4.35694383564, 1596.1864422846,
+                0.00000002657, 1.27257961451, 213.299095438,
+                0.00000002657, 5.01551013390, 838.9692877504,
+                0.00000002556, 2.23303484585, 117.3198682202,
+                0.00000002414, 2.91828676420, 742.9900605326,
+                0.00000002222, 2.39310688825, 942.062061969,
+                0.00000001935, 2.79590256973, 1169.5882514086,
+                0.00000001934, 5.00823602310, 831.8557407496,
+                0.00000001605, 3.09964511466, 2118.7638603784,
+                0.00000001584, 1.40103448632, 405.2575498736,
+                0.00000001491, 1.55001725357, 220.4126424388,
+                0.00000001286, 3.46966168288, 1073.6090241908,
+                0.00000001210, 4.05719633951, 1155.361157407,
+                0.00000000995, 3.40755481322, 532.8723588323,
+                0.00000000942, 2.70150730852, 191.9584544356,
+                0.00000000895, 1.64086921760, 632.7837393132,
+                0.00000000817, 3.29435640763, 1258.4539316256,
+                0.00000000745, 1.14787945018, 1162.4747044078,
+                0.00000000721, 1.62926029676, 949.1756089698,
+                0.00000000719, 3.73992764870, 433.7117378768,
+                0.00000000669, 1.94668551888, 1272.6810256272,
+                0.00000000665, 3.54820168197, 525.7588118315,
+                0.00000000658, 2.90980216736, 1574.8458012822,
+                0.00000000643, 2.02118053595, 526.5095713569,
+                0.00000000611, 5.95148659718, 853.196381752,
+                0.00000000609, 4.14925115671, 721.6494195302,
+                0.00000000598, 4.69470159905, 81.7521332162,
+                0.00000000564, 3.41879628800, 1581.959348283,
+                0.00000000548, 2.25796919785, 551.031606097,
+                0.00000000512, 4.39016117028, 330.6189636582,
+                0.00000000509, 4.95261621008, 1148.2476104062,
+                0.00000000508, 4.35239131420, 1368.660252845,
+                0.00000000478, 3.86015693760, 1361.5467058442,
+                0.00000000434, 2.94972316227, 1038.0412891868,
+                0.00000000428, 2.22447290956, 539.9859058331,
+                0.00000000394, 4.52891996323, 1464.6394800628,
+                0.00000000390, 4.06059870551, 1471.7530270636,
+                0.00000000385, 4.70313900114, 519.3960243561,
+                0.00000000383, 0.24286568335, 611.4430983108,
+                0.00000000376, 1.42987791517, 124.433415221,
+                0.00000000342, 4.17369218547, 1788.1448967202,
+                0.00000000309, 3.65940227544, 846.0828347512,
+                0.00000000306, 2.02015964470, 1485.9801210652,
+                0.00000000293, 3.91258428829, 1685.0521225016,
+                0.00000000283, 0.96808839854, 1905.4647649404,
+                0.00000000278, 4.35223393872, 963.4027029714,
+                0.00000000278, 3.63969386282, 1677.9385755008,
+                0.00000000259, 4.00812218110, 1265.5674786264,
+                0.00000000259, 1.01628149559, 1478.8665740644,
+                0.00000000256, 4.19052619061, 1781.0313497194,
+                0.00000000253, 3.12703531515, 1994.3304451574,
+                0.00000000248, 6.02173100984, 750.1036075334,
+                0.00000000242, 2.90163762388, 2310.722314814,
+                0.00000000242, 3.56541237319, 1699.2792165032,
+                0.00000000238, 6.13097565419, 1382.8873468466,
+                0.00000000234, 2.54350140197, 1375.7737998458,
+                0.00000000225, 2.51478069462, 1891.2376709388,
+                0.00000000220, 4.81059910221, 2125.8774073792,
+                0.00000000218, 3.86704847246, 2104.5367663768,
+                0.00000000197, 5.17715231546, 618.5566453116,
+                0.00000000196, 0.77278217513, 2221.856634597,
+                0.00000000196, 2.21259819908, 934.9485149682,
+                0.00000000189, 5.74277274755, 2627.1141844706,
+                0.00000000185, 3.87563539893, 295.0512286542,
+                0.00000000184, 3.72826587808, 2538.2485042536,
+                0.00000000179, 5.57450109164, 1354.4331588434,
+                0.00000000171, 5.25744961028, 824.7421937488,
+                0.00000000171, 4.17086334577, 2097.423219376,
+                0.00000000163, 1.29242716775, 1692.1656695024,
+                0.00000000162, 2.01594918927, 533.6231183577,
+                0.00000000160, 1.77096189842, 1141.1340634054,
+                0.00000000155, 4.31124093129, 2317.8358618148,
+                0.00000000152, 3.97372662088, 1055.4497769261,
+                0.00000000149, 4.30563038349, 2001.4439921582,
+                0.00000000148, 1.85615806078, 1056.2005364515,
+                0.00000000147, 1.55828353595, 227.5261894396,
+                0.00000000132, 3.78618524413, 1062.5633239269,
+                0.00000000124, 3.41965347556, 2648.454825473,
+                0.00000000121, 3.84004974551, 2634.2277314714,
+                0.00000000118, 1.43347687364, 1279.794572628,
+                0.00000000107, 0.88798638307, 1670.82502850,
+                0.00000000107, 0.60623932999, 2413.8150890326,
+                0.00000000106, 3.26215180863, 2207.6295405954,
+                0.00000000083, 2.43109843716, 2428.0421830342,
+                0.00000000082, 0.40279200309, 2950.619601128,
+                0.00000000080, 2.06822079440, 3060.8259223474,
+                0.00000000079, 3.80336766578, 1603.2999892854
+        };
     }
 
-    public double L4(double t) // 48 terms of order 4
+    private static double[] l4() // 48 terms of order 4
     {
-        double L4 = 0;
-        L4 += 0.00000669505 * Math.cos(0.85280378158 + 7.1135470008 * t);
-        L4 += 0.00000099965 * Math.cos(0.74243651986 + 14.2270940016 * t);
-        L4 += 0.00000050030 * Math.cos(1.65383477095 + 536.8045120954 * t);
-        L4 += 0.00000043690 * Math.cos(5.81923759985 + 529.6909650946 * t);
-        L4 += 0.00000031794 * Math.cos(4.85865051639 + 522.5774180938 * t);
-        L4 += 0.00000014735 * Math.cos(4.29065528652 + 515.463871093 * t);
-        L4 += 0.00000008408 * Math.cos(0.68386181768 + 1059.3819301892 * t);
-        L4 += 0.00000004926 * Math.cos(1.29899425511 + 543.9180590962 * t);
-        L4 += 0.00000004563 * Math.cos(2.31453670801 + 1066.49547719 * t);
-        L4 += 0.00000004254 * Math.cos(0.48193363691 + 21.3406410024 * t);
-        L4 += 0.00000003100 * Math.cos(3.00251285081 + 412.3710968744 * t);
-        L4 += 0.00000002053 * Math.cos(0.39854167561 + 639.897286314 * t);
-        L4 += 0.00000001764 * Math.cos(4.90551864257 + 625.6701923124 * t);
-        L4 += 0.00000001901 * Math.cos(4.25660977930 + 199.0720014364 * t);
-        L4 += 0.00000001690 * Math.cos(4.25228443627 + 206.1855484372 * t);
-        L4 += 0.00000001345 * Math.cos(5.06309624095 + 1052.2683831884 * t);
-        L4 += 0.00000001211 * Math.cos(4.71432598740 + 95.9792272178 * t);
-        L4 += 0.00000001091 * Math.cos(1.32037613765 + 1589.0728952838 * t);
-        L4 += 0.00000000971 * Math.cos(5.67505418481 + 728.762966531 * t);
-        if (highAccuracy) {
-            L4 += 0.00000000935 * Math.cos(6.05626917469 + 88.865680217 * t);
-            L4 += 0.00000000941 * Math.cos(4.66216576341 + 1045.1548361876 * t);
-            L4 += 0.00000000907 * Math.cos(4.56755235537 + 426.598190876 * t);
-            L4 += 0.00000000783 * Math.cos(3.39826306476 + 419.4846438752 * t);
-            L4 += 0.00000000763 * Math.cos(3.50908239900 + 103.0927742186 * t);
-            L4 += 0.00000000737 * Math.cos(0.53486231851 + 110.2063212194 * t);
-            L4 += 0.00000000413 * Math.cos(5.21759457392 + 302.164775655 * t);
-            L4 += 0.00000000397 * Math.cos(6.22333486636 + 956.2891559706 * t);
-            L4 += 0.00000000375 * Math.cos(5.22028842158 + 309.2783226558 * t);
-            L4 += 0.00000000357 * Math.cos(4.77132381360 + 508.3503240922 * t);
-            L4 += 0.00000000422 * Math.cos(0.58114211624 + 117.3198682202 * t);
-            L4 += 0.00000000318 * Math.cos(3.51963719294 + 323.5054166574 * t);
-            L4 += 0.00000000353 * Math.cos(4.07385033829 + 942.062061969 * t);
-            L4 += 0.00000000318 * Math.cos(0.47985672138 + 831.8557407496 * t);
-            L4 += 0.00000000251 * Math.cos(1.79670889239 + 1073.6090241908 * t);
-            L4 += 0.00000000255 * Math.cos(2.93957928902 + 1596.1864422846 * t);
-            L4 += 0.00000000210 * Math.cos(0.42245785278 + 220.4126424388 * t);
-            L4 += 0.00000000188 * Math.cos(1.11282762167 + 1169.5882514086 * t);
-            L4 += 0.00000000187 * Math.cos(2.15988498485 + 1361.5467058442 * t);
-            L4 += 0.00000000180 * Math.cos(3.44457638757 + 1148.2476104062 * t);
-            L4 += 0.00000000157 * Math.cos(3.04524492827 + 1272.6810256272 * t);
-            L4 += 0.00000000173 * Math.cos(5.21493846901 + 1581.959348283 * t);
-            L4 += 0.00000000160 * Math.cos(1.91340275752 + 2118.7638603784 * t);
-            L4 += 0.00000000194 * Math.cos(4.74134167991 + 1155.361157407 * t);
-            L4 += 0.00000000119 * Math.cos(2.25819104081 + 330.6189636582 * t);
-            L4 += 0.00000000127 * Math.cos(1.67407621995 + 1891.2376709388 * t);
-            L4 += 0.00000000131 * Math.cos(0.52395207361 + 551.031606097 * t);
-            L4 += 0.00000000099 * Math.cos(3.45749497992 + 647.0108333148 * t);
-            L4 += 0.00000000077 * Math.cos(3.29690316802 + 1368.660252845 * t);
-        }
-        return L4 * t * t * t * t;
+        return new double[] {
+                0.00000669505, 0.85280378158, 7.1135470008,
+                0.00000099965, 0.74243651986, 14.2270940016,
+                0.00000050030, 1.65383477095, 536.8045120954,
+                0.00000043690, 5.81923759985, 529.6909650946,
+                0.00000031794, 4.85865051639, 522.5774180938,
+                0.00000014735, 4.29065528652, 515.463871093,
+                0.00000008408, 0.68386181768, 1059.3819301892,
+                0.00000004926, 1.29899425511, 543.9180590962,
+                0.00000004563, 2.31453670801, 1066.49547719,
+                0.00000004254, 0.48193363691, 21.3406410024,
+                0.00000003100, 3.00251285081, 412.3710968744,
+                0.00000002053, 0.39854167561, 639.897286314,
+                0.00000001901, 4.25660977930, 199.0720014364,
+                0.00000001764, 4.90551864257, 625.6701923124,
+                0.00000001690, 4.25228443627, 206.1855484372,
+                0.00000001345, 5.06309624095, 1052.2683831884,
+                0.00000001211, 4.71432598740, 95.9792272178,
+                0.00000001091, 1.32037613765, 1589.0728952838,
+                0.00000000971, 5.67505418481, 728.762966531,
+                0.00000000941, 4.66216576341, 1045.1548361876,
+                0.00000000935, 6.05626917469, 88.865680217,
+                0.00000000907, 4.56755235537, 426.598190876,
+                0.00000000783, 3.39826306476, 419.4846438752,
+                0.00000000763, 3.50908239900, 103.0927742186,
+                0.00000000737, 0.53486231851, 110.2063212194,
+                0.00000000422, 0.58114211624, 117.3198682202,
+                0.00000000413, 5.21759457392, 302.164775655,
+                0.00000000397, 6.22333486636, 956.2891559706,
+                0.00000000375, 5.22028842158, 309.2783226558,
+                0.00000000357, 4.77132381360, 508.3503240922,
+                0.00000000353, 4.07385033829, 942.062061969,
+                0.00000000318, 3.51963719294, 323.5054166574,
+                0.00000000318, 0.47985672138, 831.8557407496,
+                0.00000000255, 2.93957928902, 1596.1864422846,
+                0.00000000251, 1.79670889239, 1073.6090241908,
+                0.00000000210, 0.42245785278, 220.4126424388,
+                0.00000000194, 4.74134167991, 1155.361157407,
+                0.00000000188, 1.11282762167, 1169.5882514086,
+                0.00000000187, 2.15988498485, 1361.5467058442,
+                0.00000000180, 3.44457638757, 1148.2476104062,
+                0.00000000173, 5.21493846901, 1581.959348283,
+                0.00000000160, 1.91340275752, 2118.7638603784,
+                0.00000000157, 3.04524492827, 1272.6810256272,
+                0.00000000131, 0.52395207361, 551.031606097,
+                0.00000000127, 1.67407621995, 1891.2376709388,
+                0.00000000119, 2.25819104081, 330.6189636582,
+                0.00000000099, 3.45749497992, 647.0108333148,
+                0.00000000077, 3.29690316802, 1368.660252845
+        };
     }
 
-    public double L5(double t) // 11 terms of order 5
+    private static double[] l5() // 11 terms of order 5
     {
-        double L5 = 0;
-        L5 += 0.00000049639 * Math.cos(5.25769924770 + 7.1135470008 * t);
-        L5 += 0.00000015775 * Math.cos(5.24859620238 + 14.2270940016 * t);
-        L5 += 0.00000004326 * Math.cos(0.02660738929 + 536.8045120954 * t);
-        L5 += 0.00000001573 * Math.cos(1.18411087933 + 522.5774180938 * t);
-        L5 += 0.00000000819 * Math.cos(5.86582284529 + 543.9180590962 * t);
-        if (highAccuracy) {
-            L5 += 0.00000000724 * Math.cos(0.88277941285 + 515.463871093 * t);
-            L5 += 0.00000000360 * Math.cos(0.78335749573 + 1066.49547719 * t);
-            L5 += 0.00000000319 * Math.cos(5.73095137303 + 1059.3819301892 * t);
-            L5 += 0.00000000198 * Math.cos(0.04372566049 + 1589.0728952838 * t);
-            L5 += 0.00000000107 * Math.cos(0.09298499958 + 1073.6090241908 * t);
-            L5 += 0.00000000079 * Math.cos(6.16619004945 + 529.6909650946 * t);
-        }
-        return L5 * t * t * t * t * t;
+        return new double[] {
+                0.00000049639, 5.25769924770, 7.1135470008,
+                0.00000015775, 5.24859620238, 14.2270940016,
+                0.00000004326, 0.02660738929, 536.8045120954,
+                0.00000001573, 1.18411087933, 522.5774180938,
+                0.00000000819, 5.86582284529, 543.9180590962,
+                0.00000000724, 0.88277941285, 515.463871093,
+                0.00000000360, 0.78335749573, 1066.49547719,
+                0.00000000319, 5.73095137303, 1059.3819301892,
+                0.00000000198, 0.04372566049, 1589.0728952838,
+                0.00000000107, 0.09298499958, 1073.6090241908,
+                0.00000000079, 6.16619004945, 529.6909650946
+        };
     }
 
-    public double B0(double t) // 249 terms of order 0
+    private static double[] b0() // 249 terms of order 0
     {
-        double B0 = 0;
-        B0 += 0.02268615702 * Math.cos(3.55852606721 + 529.6909650946 * t);
-        B0 += 0.00109971634 * Math.cos(3.90809347197 + 1059.3819301892 * t);
-        B0 += 0.00110090358;
-        B0 += 0.00008101428 * Math.cos(3.60509572885 + 522.5774180938 * t);
-        B0 += 0.00006043996 * Math.cos(4.25883108339 + 1589.0728952838 * t);
-        B0 += 0.00006437782 * Math.cos(0.30627119215 + 536.8045120954 * t);
-        B0 += 0.00001106880 * Math.cos(2.98534409520 + 1162.4747044078 * t);
-        B0 += 0.00000941651 * Math.cos(2.93619073963 + 1052.2683831884 * t);
-        B0 += 0.00000894088 * Math.cos(1.75447402715 + 7.1135470008 * t);
-        B0 += 0.00000767280 * Math.cos(2.15473604461 + 632.7837393132 * t);
-        B0 += 0.00000944328 * Math.cos(1.67522315024 + 426.598190876 * t);
-        B0 += 0.00000684219 * Math.cos(3.67808774854 + 213.299095438 * t);
-        B0 += 0.00000629223 * Math.cos(0.64343290020 + 1066.49547719 * t);
-        B0 += 0.00000835861 * Math.cos(5.17881977810 + 103.0927742186 * t);
-        B0 += 0.00000531671 * Math.cos(2.70305944444 + 110.2063212194 * t);
-        B0 += 0.00000558524 * Math.cos(0.01354838161 + 846.0828347512 * t);
-        B0 += 0.00000464449 * Math.cos(1.17337267936 + 949.1756089698 * t);
-        B0 += 0.00000431072 * Math.cos(2.60825022780 + 419.4846438752 * t);
-        B0 += 0.00000351433 * Math.cos(4.61062966359 + 2118.7638603784 * t);
-        B0 += 0.00000123148 * Math.cos(3.34968047337 + 1692.1656695024 * t);
-        B0 += 0.00000115038 * Math.cos(5.04892367391 + 316.3918696566 * t);
-        B0 += 0.00000132159 * Math.cos(4.77816940380 + 742.9900605326 * t);
-        B0 += 0.00000103402 * Math.cos(2.31878940535 + 1478.8665740644 * t);
-        if (highAccuracy) {
-            B0 += 0.00000116379 * Math.cos(1.38688268881 + 323.5054166574 * t);
-            B0 += 0.00000102420 * Math.cos(3.15294025567 + 1581.959348283 * t);
-            B0 += 0.00000103762 * Math.cos(3.70104530617 + 515.463871093 * t);
-            B0 += 0.00000078650 * Math.cos(3.98318863271 + 1265.5674786264 * t);
-            B0 += 0.00000069935 * Math.cos(2.56006243114 + 956.2891559706 * t);
-            B0 += 0.00000055597 * Math.cos(0.37501076637 + 1375.7737998458 * t);
-            B0 += 0.00000051986 * Math.cos(0.99006936413 + 1596.1864422846 * t);
-            B0 += 0.00000055194 * Math.cos(0.40176641060 + 525.7588118315 * t);
-            B0 += 0.00000063456 * Math.cos(4.50073545366 + 735.8765135318 * t);
-            B0 += 0.00000049691 * Math.cos(0.18650769854 + 543.9180590962 * t);
-            B0 += 0.00000048831 * Math.cos(3.57260516733 + 533.6231183577 * t);
-            B0 += 0.00000028353 * Math.cos(1.53532751494 + 625.6701923124 * t);
-            B0 += 0.00000029209 * Math.cos(5.43144706118 + 206.1855484372 * t);
-            B0 += 0.00000023255 * Math.cos(5.95197656622 + 838.9692877504 * t);
-            B0 += 0.00000022841 * Math.cos(6.19262795963 + 532.8723588323 * t);
-            B0 += 0.00000023202 * Math.cos(4.06473393382 + 526.5095713569 * t);
-            B0 += 0.00000024435 * Math.cos(6.10948089320 + 1169.5882514086 * t);
-            B0 += 0.00000021116 * Math.cos(4.96322450112 + 2648.454825473 * t);
-            B0 += 0.00000017878 * Math.cos(3.08705078418 + 1795.258443721 * t);
-            B0 += 0.00000016234 * Math.cos(4.83514182468 + 1368.660252845 * t);
-            B0 += 0.00000021314 * Math.cos(2.69476772406 + 1045.1548361876 * t);
-            B0 += 0.00000015740 * Math.cos(1.15129718235 + 942.062061969 * t);
-            B0 += 0.00000017325 * Math.cos(1.61549112201 + 14.2270940016 * t);
-            B0 += 0.00000013396 * Math.cos(2.30541502374 + 853.196381752 * t);
-            B0 += 0.00000011904 * Math.cos(3.09812644271 + 2111.6503133776 * t);
-            B0 += 0.00000011734 * Math.cos(2.83005459062 + 2008.557539159 * t);
-            B0 += 0.00000011291 * Math.cos(0.98958488237 + 433.7117378768 * t);
-            B0 += 0.00000011830 * Math.cos(4.76527289406 + 309.2783226558 * t);
-            B0 += 0.00000010702 * Math.cos(3.70182977140 + 2221.856634597 * t);
-            B0 += 0.00000010815 * Math.cos(5.81960671820 + 1272.6810256272 * t);
-            B0 += 0.00000013505 * Math.cos(3.28127499147 + 1155.361157407 * t);
-            B0 += 0.00000010179 * Math.cos(2.58690544075 + 117.3198682202 * t);
-            B0 += 0.00000010632 * Math.cos(5.23488821353 + 95.9792272178 * t);
-            B0 += 0.00000008770 * Math.cos(0.40456977116 + 220.4126424388 * t);
-            B0 += 0.00000007439 * Math.cos(2.94640424217 + 412.3710968744 * t);
-            B0 += 0.00000006151 * Math.cos(2.69098997815 + 380.12776796 * t);
-            B0 += 0.00000005028 * Math.cos(0.72749683440 + 1055.4497769261 * t);
-            B0 += 0.00000004939 * Math.cos(0.73757027802 + 1905.4647649404 * t);
-            B0 += 0.00000005421 * Math.cos(4.08611312731 + 1685.0521225016 * t);
-            B0 += 0.00000005936 * Math.cos(4.32059794159 + 1063.3140834523 * t);
-            B0 += 0.00000004737 * Math.cos(4.09302873263 + 527.2432845398 * t);
-            B0 += 0.00000004010 * Math.cos(0.51536205068 + 1073.6090241908 * t);
-            B0 += 0.00000004709 * Math.cos(1.84069593466 + 984.6003316219 * t);
-            B0 += 0.00000003974 * Math.cos(1.33608144666 + 2125.8774073792 * t);
-            B0 += 0.00000003762 * Math.cos(3.58647029066 + 529.7391492044 * t);
-            B0 += 0.00000004731 * Math.cos(6.16377395837 + 532.1386456494 * t);
-            B0 += 0.00000004666 * Math.cos(5.88761580267 + 639.897286314 * t);
-            B0 += 0.00000003763 * Math.cos(0.38865915086 + 529.6427809848 * t);
-            B0 += 0.00000003409 * Math.cos(4.05403520743 + 1898.3512179396 * t);
-            B0 += 0.00000003458 * Math.cos(3.43863446426 + 1485.9801210652 * t);
-            B0 += 0.00000004230 * Math.cos(2.23769605857 + 74.7815985673 * t);
-            B0 += 0.00000003091 * Math.cos(0.16468497073 + 1699.2792165032 * t);
-            B0 += 0.00000002976 * Math.cos(0.72268932553 + 530.6541729411 * t);
-            B0 += 0.00000003162 * Math.cos(1.25051775753 + 330.6189636582 * t);
-            B0 += 0.00000002727 * Math.cos(4.37684648696 + 149.5631971346 * t);
-            B0 += 0.00000002837 * Math.cos(0.05988888469 + 1439.5096981492 * t);
-            B0 += 0.00000002983 * Math.cos(3.25251234697 + 528.7277572481 * t);
-            B0 += 0.00000002232 * Math.cos(0.26152702827 + 1062.5633239269 * t);
-            B0 += 0.00000002464 * Math.cos(1.16914990320 + 453.424893819 * t);
-            B0 += 0.00000002596 * Math.cos(3.30503237792 + 2324.9494088156 * t);
-            B0 += 0.00000001988 * Math.cos(2.85269753342 + 1574.8458012822 * t);
-            B0 += 0.00000002527 * Math.cos(5.94464299442 + 909.8187330546 * t);
-            B0 += 0.00000002269 * Math.cos(1.30385144361 + 3.9321532631 * t);
-            B0 += 0.00000001742 * Math.cos(4.49934387430 + 1258.4539316256 * t);
-            B0 += 0.00000001714 * Math.cos(4.12970162252 + 2001.4439921582 * t);
-            B0 += 0.00000002028 * Math.cos(3.97933364572 + 1056.2005364515 * t);
-            B0 += 0.00000001667 * Math.cos(0.36035632569 + 10213.285546211 * t);
-            B0 += 0.00000001579 * Math.cos(6.11636481584 + 1802.3719907218 * t);
-            B0 += 0.00000001393 * Math.cos(3.69324297104 + 2214.7430875962 * t);
-            B0 += 0.00000001604 * Math.cos(1.98841976369 + 38.1330356378 * t);
-            B0 += 0.00000001325 * Math.cos(1.74025919863 + 529.1697002328 * t);
-            B0 += 0.00000001451 * Math.cos(2.39820472604 + 2428.0421830342 * t);
-            B0 += 0.00000001594 * Math.cos(2.07557781162 + 1021.2488945514 * t);
-            B0 += 0.00000001319 * Math.cos(1.33764254668 + 618.5566453116 * t);
-            B0 += 0.00000001346 * Math.cos(3.27611250994 + 2641.3412784722 * t);
-            B0 += 0.00000001230 * Math.cos(0.19547016795 + 305.3461693927 * t);
-            B0 += 0.00000001223 * Math.cos(2.86673324041 + 1382.8873468466 * t);
-            B0 += 0.00000001324 * Math.cos(2.23549334986 + 530.2122299564 * t);
-            B0 += 0.00000001056 * Math.cos(3.80584206280 + 76.2660712756 * t);
-            B0 += 0.00000001050 * Math.cos(4.68049393704 + 1788.1448967202 * t);
-            B0 += 0.00000001226 * Math.cos(5.34004079561 + 3178.1457905676 * t);
-            B0 += 0.00000001009 * Math.cos(3.19598679941 + 2538.2485042536 * t);
-            B0 += 0.00000001266 * Math.cos(3.04716587183 + 604.4725636619 * t);
-            B0 += 0.00000000954 * Math.cos(3.86982853835 + 728.762966531 * t);
-            B0 += 0.00000001124 * Math.cos(1.59536330231 + 3.1813937377 * t);
-            B0 += 0.00000000978 * Math.cos(0.25225276132 + 983.1158589136 * t);
-            B0 += 0.00000000948 * Math.cos(0.21562638606 + 750.1036075334 * t);
-            B0 += 0.00000000946 * Math.cos(3.93927018641 + 508.3503240922 * t);
-            B0 += 0.00000000920 * Math.cos(1.14676177277 + 963.4027029714 * t);
-            B0 += 0.00000000817 * Math.cos(5.93843083013 + 831.8557407496 * t);
-            B0 += 0.00000000770 * Math.cos(2.96062737592 + 526.7702037878 * t);
-            B0 += 0.00000001018 * Math.cos(5.55723104876 + 199.0720014364 * t);
-            B0 += 0.00000000761 * Math.cos(1.38163787157 + 532.6117264014 * t);
-            B0 += 0.00000000726 * Math.cos(3.98350624153 + 2317.8358618148 * t);
-            B0 += 0.00000000863 * Math.cos(0.87983185587 + 490.3340891794 * t);
-            B0 += 0.00000000868 * Math.cos(3.44355447829 + 569.0478410098 * t);
-            B0 += 0.00000000711 * Math.cos(4.11083927584 + 2751.5475996916 * t);
-            B0 += 0.00000000708 * Math.cos(0.33555577415 + 528.9402055692 * t);
-            B0 += 0.00000000708 * Math.cos(4.00539820601 + 530.44172462 * t);
-            B0 += 0.00000000656 * Math.cos(4.39587636715 + 519.3960243561 * t);
-            B0 += 0.00000000801 * Math.cos(4.03968735657 + 1364.7280995819 * t);
-            B0 += 0.00000000679 * Math.cos(1.18645749024 + 525.4981794006 * t);
-            B0 += 0.00000000645 * Math.cos(5.10528821006 + 1361.5467058442 * t);
-            B0 += 0.00000000668 * Math.cos(3.15607509055 + 533.8837507886 * t);
-            B0 += 0.00000000663 * Math.cos(0.73722024842 + 5223.6939198022 * t);
-            B0 += 0.00000000663 * Math.cos(1.57092786810 + 6283.0758499914 * t);
-            B0 += 0.00000000543 * Math.cos(0.26361339096 + 227.5261894396 * t);
-            B0 += 0.00000000525 * Math.cos(6.22337510612 + 539.9859058331 * t);
-            B0 += 0.00000000513 * Math.cos(4.98311290285 + 302.164775655 * t);
-            B0 += 0.00000000544 * Math.cos(2.22253022770 + 2744.4340526908 * t);
-            B0 += 0.00000000531 * Math.cos(2.62394469648 + 99.1606209555 * t);
-            B0 += 0.00000000602 * Math.cos(1.56087341101 + 454.9093665273 * t);
-            B0 += 0.00000000518 * Math.cos(0.26343809435 + 551.031606097 * t);
-            B0 += 0.00000000516 * Math.cos(1.09334875112 + 934.9485149682 * t);
-            B0 += 0.00000000659 * Math.cos(0.62609803674 + 1512.8068240082 * t);
-            B0 += 0.00000000524 * Math.cos(0.64710955846 + 524.0618908021 * t);
-            B0 += 0.00000000516 * Math.cos(3.69478866795 + 535.3200393871 * t);
-            B0 += 0.00000000491 * Math.cos(3.63015352701 + 2531.1349572528 * t);
-            B0 += 0.00000000570 * Math.cos(0.61976758778 + 540.7366653585 * t);
-            B0 += 0.00000000496 * Math.cos(2.19397054688 + 1514.2912967165 * t);
-            B0 += 0.00000000532 * Math.cos(0.20040217534 + 525.0250986486 * t);
-            B0 += 0.00000000449 * Math.cos(0.62392433691 + 529.5309064002 * t);
-            B0 += 0.00000000449 * Math.cos(3.71676131146 + 529.851023789 * t);
-            B0 += 0.00000000493 * Math.cos(0.39157407639 + 224.3447957019 * t);
-            B0 += 0.00000000450 * Math.cos(5.02496027796 + 1048.3362299253 * t);
-            B0 += 0.00000000428 * Math.cos(5.44829085911 + 11.0457002639 * t);
-            B0 += 0.00000000499 * Math.cos(4.13924061941 + 534.3568315406 * t);
-            B0 += 0.00000000528 * Math.cos(1.76471074936 + 524.2743391232 * t);
-            B0 += 0.00000000454 * Math.cos(4.53329910309 + 1056.9342496344 * t);
-            B0 += 0.00000000520 * Math.cos(2.57406093768 + 535.107591066 * t);
-            B0 += 0.00000000398 * Math.cos(1.40335768867 + 960.2213092337 * t);
-            B0 += 0.00000000457 * Math.cos(4.17698500570 + 2104.5367663768 * t);
-            B0 += 0.00000000505 * Math.cos(5.36536006721 + 1057.8974574809 * t);
-            B0 += 0.00000000536 * Math.cos(4.80412344518 + 1593.0050485469 * t);
-            B0 += 0.00000000415 * Math.cos(0.96574631343 + 2435.155730035 * t);
-            B0 += 0.00000000518 * Math.cos(0.54534019245 + 1061.829610744 * t);
-            B0 += 0.00000000359 * Math.cos(4.02703442030 + 1059.430114299 * t);
-            B0 += 0.00000000357 * Math.cos(2.66856274985 + 835.0371344873 * t);
-            B0 += 0.00000000443 * Math.cos(5.27506751917 + 1.4844727083 * t);
-            B0 += 0.00000000358 * Math.cos(5.94447745169 + 440.8252848776 * t);
-            B0 += 0.00000000471 * Math.cos(6.05795526096 + 1471.7530270636 * t);
-            B0 += 0.00000000386 * Math.cos(2.15957649340 + 9153.9036160218 * t);
-            B0 += 0.00000000424 * Math.cos(2.70933415956 + 1038.0412891868 * t);
-            B0 += 0.00000000359 * Math.cos(0.82921825054 + 1059.3337460794 * t);
-            B0 += 0.00000000310 * Math.cos(0.88102053266 + 529.9034134157 * t);
-            B0 += 0.00000000310 * Math.cos(3.45966511571 + 529.4785167735 * t);
-            B0 += 0.00000000300 * Math.cos(3.70314980875 + 2634.2277314714 * t);
-            B0 += 0.00000000292 * Math.cos(2.63690294080 + 415.5524906121 * t);
-            B0 += 0.00000000279 * Math.cos(1.60721363324 + 643.8294395771 * t);
-            B0 += 0.00000000291 * Math.cos(5.83172186169 + 1148.2476104062 * t);
-            B0 += 0.00000000370 * Math.cos(5.71572992264 + 531.1754378029 * t);
-            B0 += 0.00000000267 * Math.cos(5.39229778002 + 1891.2376709388 * t);
-            B0 += 0.00000000275 * Math.cos(3.34111459961 + 518.6452648307 * t);
-            B0 += 0.00000000269 * Math.cos(1.06062338999 + 1585.1407420207 * t);
-            B0 += 0.00000000305 * Math.cos(2.50290530704 + 511.5317178299 * t);
-            B0 += 0.00000000295 * Math.cos(1.84394223501 + 547.8502123593 * t);
-            B0 += 0.00000000254 * Math.cos(2.98339664362 + 1134.1635287565 * t);
-            B0 += 0.00000000289 * Math.cos(1.86077249808 + 21.3406410024 * t);
-            B0 += 0.00000000265 * Math.cos(4.93074056536 + 679.2541622292 * t);
-            B0 += 0.00000000250 * Math.cos(0.42864032040 + 1969.2006632438 * t);
-            B0 += 0.00000000308 * Math.cos(2.67241191564 + 2957.7331481288 * t);
-            B0 += 0.00000000222 * Math.cos(4.78828764413 + 514.7131115676 * t);
-            B0 += 0.00000000313 * Math.cos(4.88100504465 + 528.2064923863 * t);
-            B0 += 0.00000000221 * Math.cos(4.32945667530 + 1677.9385755008 * t);
-            B0 += 0.00000000217 * Math.cos(3.46325099644 + 2950.619601128 * t);
-            B0 += 0.00000000216 * Math.cos(0.52215246917 + 2228.9701815978 * t);
-            B0 += 0.00000000214 * Math.cos(5.83569926578 + 544.6688186216 * t);
-            B0 += 0.00000000283 * Math.cos(2.88733008413 + 35.4247226521 * t);
-            B0 += 0.00000000272 * Math.cos(1.65636249662 + 3060.8259223474 * t);
-            B0 += 0.00000000234 * Math.cos(1.68821601235 + 2655.5683724738 * t);
-            B0 += 0.00000000205 * Math.cos(3.36180409781 + 2847.5268269094 * t);
-            B0 += 0.00000000264 * Math.cos(3.62728688214 + 2420.9286360334 * t);
-            B0 += 0.00000000191 * Math.cos(4.26801797983 + 430.5303441391 * t);
-            B0 += 0.00000000179 * Math.cos(3.91470663032 + 3340.6124266998 * t);
-            B0 += 0.00000000180 * Math.cos(0.04748930181 + 387.2413149608 * t);
-            B0 += 0.00000000241 * Math.cos(4.03850570457 + 494.2662424425 * t);
-            B0 += 0.00000000177 * Math.cos(4.26408822698 + 672.1406152284 * t);
-            B0 += 0.00000000187 * Math.cos(2.72585227782 + 299.1263942692 * t);
-            B0 += 0.00000000234 * Math.cos(1.34461198439 + 173.9422195228 * t);
-            B0 += 0.00000000171 * Math.cos(0.85583570724 + 1603.2999892854 * t);
-            B0 += 0.00000000224 * Math.cos(0.33038256827 + 565.1156877467 * t);
-            B0 += 0.00000000200 * Math.cos(1.27568775106 + 39.3568759152 * t);
-            B0 += 0.00000000170 * Math.cos(4.96553772568 + 1464.6394800628 * t);
-            B0 += 0.00000000211 * Math.cos(1.00937080256 + 523.5406259403 * t);
-            B0 += 0.00000000210 * Math.cos(3.75802767164 + 2854.6403739102 * t);
-            B0 += 0.00000000162 * Math.cos(5.87799218214 + 3480.3105662226 * t);
-            B0 += 0.00000000163 * Math.cos(4.62924224205 + 2015.6710861598 * t);
-            B0 += 0.00000000191 * Math.cos(3.33159283750 + 535.8413042489 * t);
-            B0 += 0.00000000151 * Math.cos(1.17104489977 + 1060.3451380357 * t);
-            B0 += 0.00000000160 * Math.cos(1.81868596669 + 312.4597163935 * t);
-            B0 += 0.00000000158 * Math.cos(2.59595816107 + 529.4303326637 * t);
-            B0 += 0.00000000158 * Math.cos(1.74472748730 + 529.9515975255 * t);
-            B0 += 0.00000000173 * Math.cos(3.62448533343 + 230.5645708254 * t);
-            B0 += 0.00000000142 * Math.cos(0.70435921398 + 522.529233984 * t);
-            B0 += 0.00000000144 * Math.cos(5.35713735269 + 107.0249274817 * t);
-            B0 += 0.00000000144 * Math.cos(6.14090754307 + 1158.5425511447 * t);
-            B0 += 0.00000000178 * Math.cos(0.27468100074 + 3906.9087570986 * t);
-            B0 += 0.00000000126 * Math.cos(5.15022690251 + 2207.6295405954 * t);
-            B0 += 0.00000000126 * Math.cos(3.42007113405 + 2.4476805548 * t);
-            B0 += 0.00000000127 * Math.cos(0.39943436855 + 70.8494453042 * t);
-            B0 += 0.00000000123 * Math.cos(4.77863018783 + 2524.021410252 * t);
-            B0 += 0.00000000123 * Math.cos(0.46252835423 + 647.0108333148 * t);
-            B0 += 0.00000000144 * Math.cos(3.60266428249 + 1058.4187223427 * t);
-            B0 += 0.00000000158 * Math.cos(3.76145245959 + 92.0470739547 * t);
-            B0 += 0.00000000119 * Math.cos(4.08254103435 + 1585.8915015461 * t);
-            B0 += 0.00000000125 * Math.cos(2.35595591495 + 3163.918696566 * t);
-            B0 += 0.00000000122 * Math.cos(3.21032018083 + 3377.217792004 * t);
-            B0 += 0.00000000121 * Math.cos(3.39767154960 + 18.1592472647 * t);
-            B0 += 0.00000000131 * Math.cos(1.67909216935 + 1289.9465010146 * t);
-            B0 += 0.00000000115 * Math.cos(2.35736056408 + 1550.939859646 * t);
-            B0 += 0.00000000126 * Math.cos(2.40837527327 + 106.2741679563 * t);
-            B0 += 0.00000000131 * Math.cos(1.37643228010 + 1023.9572075371 * t);
-            B0 += 0.00000000121 * Math.cos(1.60251352962 + 10.2949407385 * t);
-            B0 += 0.00000000121 * Math.cos(0.61425825680 + 1592.2542890215 * t);
-            B0 += 0.00000000135 * Math.cos(3.60014547346 + 124.433415221 * t);
-            B0 += 0.00000000137 * Math.cos(2.41776488975 + 3274.1250177854 * t);
-            B0 += 0.00000000129 * Math.cos(0.09688303813 + 2332.0629558164 * t);
-            B0 += 0.00000000092 * Math.cos(4.89058170259 + 1098.7388061044 * t);
-            B0 += 0.00000000106 * Math.cos(5.18592950792 + 2281.2304965106 * t);
-            B0 += 0.00000000114 * Math.cos(2.96580552116 + 1166.4068576709 * t);
-            B0 += 0.00000000092 * Math.cos(1.65027422750 + 860.3099287528 * t);
-            B0 += 0.00000000102 * Math.cos(3.64265158080 + 3171.0322435668 * t);
-            B0 += 0.00000000103 * Math.cos(1.63123525514 + 1894.4190646765 * t);
-            B0 += 0.00000000080 * Math.cos(0.38766601962 + 4694.0029547076 * t);
-            B0 += 0.00000000074 * Math.cos(3.86945907800 + 3067.9394693482 * t);
-            B0 += 0.00000000095 * Math.cos(1.66457947000 + 1151.4290041439 * t);
-        }
-        return B0;
+        return new double[] {
+                0.02268615702, 3.55852606721, 529.6909650946,
+                0.00110090358, 0, 0,
+                0.00109971634, 3.90809347197, 1059.3819301892,
+                0.00008101428, 3.60509572885, 522.5774180938,
+                0.00006437782, 0.30627119215, 536.8045120954,
+                0.00006043996, 4.25883108339, 1589.0728952838,
+                0.00001106880, 2.98534409520, 1162.4747044078,
+                0.00000944328, 1.67522315024, 426.598190876,
+                0.00000941651, 2.93619073963, 1052.2683831884,
+                0.00000894088, 1.75447402715, 7.1135470008,
+                0.00000835861, 5.17881977810, 103.0927742186,
+                0.00000767280, 2.15473604461, 632.7837393132,
+                0.00000684219, 3.67808774854, 213.299095438,
+                0.00000629223, 0.64343290020, 1066.49547719,
+                0.00000558524, 0.01354838161, 846.0828347512,
+                0.00000531671, 2.70305944444, 110.2063212194,
+                0.00000464449, 1.17337267936, 949.1756089698,
+                0.00000431072, 2.60825022780, 419.4846438752,
+                0.00000351433, 4.61062966359, 2118.7638603784,
+                0.00000132159, 4.77816940380, 742.9900605326,
+                0.00000123148, 3.34968047337, 1692.1656695024,
+                0.00000116379, 1.38688268881, 323.5054166574,
+                0.00000115038, 5.04892367391, 316.3918696566,
+                0.00000103762, 3.70104530617, 515.463871093,
+                0.00000103402, 2.31878940535, 1478.8665740644,
+                0.00000102420, 3.15294025567, 1581.959348283,
+                0.00000078650, 3.98318863271, 1265.5674786264,
+                0.00000069935, 2.56006243114, 956.2891559706,
+                0.00000063456, 4.50073545366, 735.8765135318,
+                0.00000055597, 0.37501076637, 1375.7737998458,
+                0.00000055194, 0.40176641060, 525.7588118315,
+                0.00000051986, 0.99006936413, 1596.1864422846,
+                0.00000049691, 0.18650769854, 543.9180590962,
+                0.00000048831, 3.57260516733, 533.6231183577,
+                0.00000029209, 5.43144706118, 206.1855484372,
+                0.00000028353, 1.53532751494, 625.6701923124,
+                0.00000024435, 6.10948089320, 1169.5882514086,
+                0.00000023255, 5.95197656622, 838.9692877504,
+                0.00000023202, 4.06473393382, 526.5095713569,
+                0.00000022841, 6.19262795963, 532.8723588323,
+                0.00000021314, 2.69476772406, 1045.1548361876,
+                0.00000021116, 4.96322450112, 2648.454825473,
+                0.00000017878, 3.08705078418, 1795.258443721,
+                0.00000017325, 1.61549112201, 14.2270940016,
+                0.00000016234, 4.83514182468, 1368.660252845,
+                0.00000015740, 1.15129718235, 942.062061969,
+                0.00000013505, 3.28127499147, 1155.361157407,
+                0.00000013396, 2.30541502374, 853.196381752,
+                0.00000011904, 3.09812644271, 2111.6503133776,
+                0.00000011830, 4.76527289406, 309.2783226558,
+                0.00000011734, 2.83005459062, 2008.557539159,
+                0.00000011291, 0.98958488237, 433.7117378768,
+                0.00000010815, 5.81960671820, 1272.6810256272,
+                0.00000010702, 3.70182977140, 2221.856634597,
+                0.00000010632, 5.23488821353, 95.9792272178,
+                0.00000010179, 2.58690544075, 117.3198682202,
+                0.00000008770, 0.40456977116, 220.4126424388,
+                0.00000007439, 2.94640424217, 412.3710968744,
+                0.00000006151, 2.69098997815, 380.12776796,
+                0.00000005936, 4.32059794159, 1063.3140834523,
+                0.00000005421, 4.08611312731, 1685.0521225016,
+                0.00000005028, 0.72749683440, 1055.4497769261,
+                0.00000004939, 0.73757027802, 1905.4647649404,
+                0.00000004737, 4.09302873263, 527.2432845398,
+                0.00000004731, 6.16377395837, 532.1386456494,
+                0.00000004709, 1.84069593466, 984.6003316219,
+                0.00000004666, 5.88761580267, 639.897286314,
+                0.00000004230, 2.23769605857, 74.7815985673,
+                0.00000004010, 0.51536205068, 1073.6090241908,
+                0.00000003974, 1.33608144666, 2125.8774073792,
+                0.00000003763, 0.38865915086, 529.6427809848,
+                0.00000003762, 3.58647029066, 529.7391492044,
+                0.00000003458, 3.43863446426, 1485.9801210652,
+                0.00000003409, 4.05403520743, 1898.3512179396,
+                0.00000003162, 1.25051775753, 330.6189636582,
+                0.00000003091, 0.16468497073, 1699.2792165032,
+                0.00000002983, 3.25251234697, 528.7277572481,
+                0.00000002976, 0.72268932553, 530.6541729411,
+                0.00000002837, 0.05988888469, 1439.5096981492,
+                0.00000002727, 4.37684648696, 149.5631971346,
+                0.00000002596, 3.30503237792, 2324.9494088156,
+                0.00000002527, 5.94464299442, 909.8187330546,
+                0.00000002464, 1.16914990320, 453.424893819,
+                0.00000002269, 1.30385144361, 3.9321532631,
+                0.00000002232, 0.26152702827, 1062.5633239269,
+                0.00000002028, 3.97933364572, 1056.2005364515,
+                0.00000001988, 2.85269753342, 1574.8458012822,
+                0.00000001742, 4.49934387430, 1258.4539316256,
+                0.00000001714, 4.12970162252, 2001.4439921582,
+                0.00000001667, 0.36035632569, 10213.285546211,
+                0.00000001604, 1.98841976369, 38.1330356378,
+                0.00000001594, 2.07557781162, 1021.2488945514,
+                0.00000001579, 6.11636481584, 1802.3719907218,
+                0.00000001451, 2.39820472604, 2428.0421830342,
+                0.00000001393, 3.69324297104, 2214.7430875962,
+                0.00000001346, 3.27611250994, 2641.3412784722,
+                0.00000001325, 1.74025919863, 529.1697002328,
+                0.00000001324, 2.23549334986, 530.2122299564,
+                0.00000001319, 1.33764254668, 618.5566453116,
+                0.00000001266, 3.04716587183, 604.4725636619,
+                0.00000001230, 0.19547016795, 305.3461693927,
+                0.00000001226, 5.34004079561, 3178.1457905676,
+                0.00000001223, 2.86673324041, 1382.8873468466,
+                0.00000001124, 1.59536330231, 3.1813937377,
+                0.00000001056, 3.80584206280, 76.2660712756,
+                0.00000001050, 4.68049393704, 1788.1448967202,
+                0.00000001018, 5.55723104876, 199.0720014364,
+                0.00000001009, 3.19598679941, 2538.2485042536,
+                0.00000000978, 0.25225276132, 983.1158589136,
+                0.00000000954, 3.86982853835, 728.762966531,
+                0.00000000948, 0.21562638606, 750.1036075334,
+                0.00000000946, 3.93927018641, 508.3503240922,
+                0.00000000920, 1.14676177277, 963.4027029714,
+                0.00000000868, 3.44355447829, 569.0478410098,
+                0.00000000863, 0.87983185587, 490.3340891794,
+                0.00000000817, 5.93843083013, 831.8557407496,
+                0.00000000801, 4.03968735657, 1364.7280995819,
+                0.00000000770, 2.96062737592, 526.7702037878,
+                0.00000000761, 1.38163787157, 532.6117264014,
+                0.00000000726, 3.98350624153, 2317.8358618148,
+                0.00000000711, 4.11083927584, 2751.5475996916,
+                0.00000000708, 0.33555577415, 528.9402055692,
+                0.00000000708, 4.00539820601, 530.44172462,
+                0.00000000679, 1.18645749024, 525.4981794006,
+                0.00000000668, 3.15607509055, 533.8837507886,
+                0.00000000663, 0.73722024842, 5223.6939198022,
+                0.00000000663, 1.57092786810, 6283.0758499914,
+                0.00000000659, 0.62609803674, 1512.8068240082,
+                0.00000000656, 4.39587636715, 519.3960243561,
+                0.00000000645, 5.10528821006, 1361.5467058442,
+                0.00000000602, 1.56087341101, 454.9093665273,
+                0.00000000570, 0.61976758778, 540.7366653585,
+                0.00000000544, 2.22253022770, 2744.4340526908,
+                0.00000000543, 0.26361339096, 227.5261894396,
+                0.00000000536, 4.80412344518, 1593.0050485469,
+                0.00000000532, 0.20040217534, 525.0250986486,
+                0.00000000531, 2.62394469648, 99.1606209555,
+                0.00000000528, 1.76471074936, 524.2743391232,
+                0.00000000525, 6.22337510612, 539.9859058331,
+                0.00000000524, 0.64710955846, 524.0618908021,
+                0.00000000520, 2.57406093768, 535.107591066,
+                0.00000000518, 0.26343809435, 551.031606097,
+                0.00000000518, 0.54534019245, 1061.829610744,
+                0.00000000516, 1.09334875112, 934.9485149682,
+                0.00000000516, 3.69478866795, 535.3200393871,
+                0.00000000513, 4.98311290285, 302.164775655,
+                0.00000000505, 5.36536006721, 1057.8974574809,
+                0.00000000499, 4.13924061941, 534.3568315406,
+                0.00000000496, 2.19397054688, 1514.2912967165,
+                0.00000000493, 0.39157407639, 224.3447957019,
+                0.00000000491, 3.63015352701, 2531.1349572528,
+                0.00000000471, 6.05795526096, 1471.7530270636,
+                0.00000000457, 4.17698500570, 2104.5367663768,
+                0.00000000454, 4.53329910309, 1056.9342496344,
+                0.00000000450, 5.02496027796, 1048.3362299253,
+                0.00000000449, 0.62392433691, 529.5309064002,
+                0.00000000449, 3.71676131146, 529.851023789,
+                0.00000000443, 5.27506751917, 1.4844727083,
+                0.00000000428, 5.44829085911, 11.0457002639,
+                0.00000000424, 2.70933415956, 1038.0412891868,
+                0.00000000415, 0.96574631343, 2435.155730035,
+                0.00000000398, 1.40335768867, 960.2213092337,
+                0.00000000386, 2.15957649340, 9153.9036160218,
+                0.00000000370, 5.71572992264, 531.1754378029,
+                0.00000000359, 4.02703442030, 1059.430114299,
+                0.00000000359, 0.82921825054, 1059.3337460794,
+                0.00000000358, 5.94447745169, 440.8252848776,
+                0.00000000357, 2.66856274985, 835.0371344873,
+                0.00000000313, 4.88100504465, 528.2064923863,
+                0.00000000310, 0.88102053266, 529.9034134157,
+                0.00000000310, 3.45966511571, 529.4785167735,
+                0.00000000308, 2.67241191564, 2957.7331481288,
+                0.00000000305, 2.50290530704, 511.5317178299,
+                0.00000000300, 3.70314980875, 2634.2277314714,
+                0.00000000295, 1.84394223501, 547.8502123593,
+                0.00000000292, 2.63690294080, 415.5524906121,
+                0.00000000291, 5.83172186169, 1148.2476104062,
+                0.00000000289, 1.86077249808, 21.3406410024,
+                0.00000000283, 2.88733008413, 35.4247226521,
+                0.00000000279, 1.60721363324, 643.8294395771,
+                0.00000000275, 3.34111459961, 518.6452648307,
+                0.00000000272, 1.65636249662, 3060.8259223474,
+                0.00000000269, 1.06062338999, 1585.1407420207,
+                0.00000000267, 5.39229778002, 1891.2376709388,
+                0.00000000265, 4.93074056536, 679.2541622292,
+                0.00000000264, 3.62728688214, 2420.9286360334,
+                0.00000000254, 2.98339664362, 1134.1635287565,
+                0.00000000250, 0.42864032040, 1969.2006632438,
+                0.00000000241, 4.03850570457, 494.2662424425,
+                0.00000000234, 1.68821601235, 2655.5683724738,
+                0.00000000234, 1.34461198439, 173.9422195228,
+                0.00000000224, 0.33038256827, 565.1156877467,
+                0.00000000222, 4.78828764413, 514.7131115676,
+                0.00000000221, 4.32945667530, 1677.9385755008,
+                0.00000000217, 3.46325099644, 2950.619601128,
+                0.00000000216, 0.52215246917, 2228.9701815978,
+                0.00000000214, 5.83569926578, 544.6688186216,
+                0.00000000211, 1.00937080256, 523.5406259403,
+                0.00000000210, 3.75802767164, 2854.6403739102,
+                0.00000000205, 3.36180409781, 2847.5268269094,
+                0.00000000200, 1.27568775106, 39.3568759152,
+                0.00000000191, 4.26801797983, 430.5303441391,
+                0.00000000191, 3.33159283750, 535.8413042489,
+                0.00000000187, 2.72585227782, 299.1263942692,
+                0.00000000180, 0.04748930181, 387.2413149608,
+                0.00000000179, 3.91470663032, 3340.6124266998,
+                0.00000000178, 0.27468100074, 3906.9087570986,
+                0.00000000177, 4.26408822698, 672.1406152284,
+                0.00000000173, 3.62448533343, 230.5645708254,
+                0.00000000171, 0.85583570724, 1603.2999892854,
+                0.00000000170, 4.96553772568, 1464.6394800628,
+                0.00000000163, 4.62924224205, 2015.6710861598,
+                0.00000000162, 5.87799218214, 3480.3105662226,
+                0.00000000160, 1.81868596669, 312.4597163935,
+                0.00000000158, 2.59595816107, 529.4303326637,
+                0.00000000158, 1.74472748730, 529.9515975255,
+                0.00000000158, 3.76145245959, 92.0470739547,
+                0.00000000151, 1.17104489977, 1060.3451380357,
+                0.00000000144, 5.35713735269, 107.0249274817,
+                0.00000000144, 6.14090754307, 1158.5425511447,
+                0.00000000144, 3.60266428249, 1058.4187223427,
+                0.00000000142, 0.70435921398, 522.529233984,
+                0.00000000137, 2.41776488975, 3274.1250177854,
+                0.00000000135, 3.60014547346, 124.433415221,
+                0.00000000131, 1.67909216935, 1289.9465010146,
+                0.00000000131, 1.37643228010, 1023.9572075371,
+                0.00000000129, 0.09688303813, 2332.0629558164,
+                0.00000000127, 0.39943436855, 70.8494453042,
+                0.00000000126, 5.15022690251, 2207.6295405954,
+                0.00000000126, 3.42007113405, 2.4476805548,
+                0.00000000126, 2.40837527327, 106.2741679563,
+                0.00000000125, 2.35595591495, 3163.918696566,
+                0.00000000123, 4.77863018783, 2524.021410252,
+                0.00000000123, 0.46252835423, 647.0108333148,
+                0.00000000122, 3.21032018083, 3377.217792004,
+                0.00000000121, 3.39767154960, 18.1592472647,
+                0.00000000121, 1.60251352962, 10.2949407385,
+                0.00000000121, 0.61425825680, 1592.2542890215,
+                0.00000000119, 4.08254103435, 1585.8915015461,
+                0.00000000115, 2.35736056408, 1550.939859646,
+                0.00000000114, 2.96580552116, 1166.4068576709,
+                0.00000000106, 5.18592950792, 2281.2304965106,
+                0.00000000103, 1.63123525514, 1894.4190646765,
+                0.00000000102, 3.64265158080, 3171.0322435668,
+                0.00000000095, 1.66457947000, 1151.4290041439,
+                0.00000000092, 4.89058170259, 1098.7388061044,
+                0.00000000092, 1.65027422750, 860.3099287528,
+                0.00000000080, 0.38766601962, 4694.0029547076,
+                0.00000000074, 3.86945907800, 3067.9394693482
+        };
     }
 
-    public double B1(double t) // 120 terms of order 1
+    private static double[] b1() // 120 terms of order 1
     {
-        double B1 = 0;
-        B1 += 0.00078203446 * Math.cos(1.52377859742 + 529.6909650946 * t);
-        B1 += 0.00007789905 * Math.cos(2.59734071843 + 1059.3819301892 * t);
-        B1 += 0.00002788602 * Math.cos(4.85622679819 + 536.8045120954 * t);
-        B1 += 0.00002429728 * Math.cos(5.45947255041 + 522.5774180938 * t);
-        B1 += 0.00001985777;
-        B1 += 0.00000711633 * Math.cos(3.13688338277 + 1589.0728952838 * t);
-        B1 += 0.00000292916 * Math.cos(5.27960297214 + 1066.49547719 * t);
-        B1 += 0.00000257804 * Math.cos(4.76667796123 + 1052.2683831884 * t);
-        B1 += 0.00000271233 * Math.cos(0.10154920958 + 7.1135470008 * t);
-        B1 += 0.00000086261 * Math.cos(1.08347893125 + 103.0927742186 * t);
-        B1 += 0.00000079683 * Math.cos(1.04738628033 + 110.2063212194 * t);
-        B1 += 0.00000081369 * Math.cos(0.63901209639 + 419.4846438752 * t);
-        B1 += 0.00000081666 * Math.cos(0.49217368092 + 426.598190876 * t);
-        B1 += 0.00000070613 * Math.cos(2.82219329635 + 632.7837393132 * t);
-        B1 += 0.00000066992 * Math.cos(5.48215719084 + 515.463871093 * t);
-        B1 += 0.00000058497 * Math.cos(3.56648086507 + 2118.7638603784 * t);
-        B1 += 0.00000051976 * Math.cos(2.85910965609 + 949.1756089698 * t);
-        B1 += 0.00000041188 * Math.cos(4.75217333048 + 543.9180590962 * t);
-        B1 += 0.00000039924 * Math.cos(3.92433787110 + 735.8765135318 * t);
-        B1 += 0.00000040237 * Math.cos(1.13564290140 + 1162.4747044078 * t);
-        B1 += 0.00000026065 * Math.cos(5.69856804584 + 1596.1864422846 * t);
-        B1 += 0.00000031305 * Math.cos(6.03167547323 + 323.5054166574 * t);
-        B1 += 0.00000030485 * Math.cos(5.98342688371 + 316.3918696566 * t);
-        B1 += 0.00000021243 * Math.cos(4.88358142951 + 213.299095438 * t);
-        B1 += 0.00000017336 * Math.cos(1.63355193402 + 956.2891559706 * t);
-        B1 += 0.00000016318 * Math.cos(1.68217979523 + 206.1855484372 * t);
-        B1 += 0.00000021612 * Math.cos(4.90561988011 + 1581.959348283 * t);
-        B1 += 0.00000015050 * Math.cos(4.62184858700 + 525.7588118315 * t);
-        B1 += 0.00000015354 * Math.cos(4.38535188227 + 532.8723588323 * t);
-        B1 += 0.00000014194 * Math.cos(5.89751177643 + 526.5095713569 * t);
-        B1 += 0.00000012259 * Math.cos(5.76584367807 + 533.6231183577 * t);
-        B1 += 0.00000013752 * Math.cos(4.43118193299 + 1045.1548361876 * t);
-        B1 += 0.00000010998 * Math.cos(3.66464772481 + 742.9900605326 * t);
-        if (highAccuracy) {
-            B1 += 0.00000010324 * Math.cos(4.35223675725 + 1169.5882514086 * t);
-            B1 += 0.00000012020 * Math.cos(6.22841485051 + 14.2270940016 * t);
-            B1 += 0.00000008201 * Math.cos(5.61044388483 + 1265.5674786264 * t);
-            B1 += 0.00000009125 * Math.cos(2.07963809004 + 1692.1656695024 * t);
-            B1 += 0.00000006995 * Math.cos(3.68757029433 + 625.6701923124 * t);
-            B1 += 0.00000006623 * Math.cos(2.95794554141 + 942.062061969 * t);
-            B1 += 0.00000006854 * Math.cos(4.86899700840 + 1155.361157407 * t);
-            B1 += 0.00000005392 * Math.cos(0.92120894811 + 117.3198682202 * t);
-            B1 += 0.00000004948 * Math.cos(5.58428784853 + 433.7117378768 * t);
-            B1 += 0.00000005907 * Math.cos(4.00891325053 + 639.897286314 * t);
-            B1 += 0.00000004904 * Math.cos(0.79623393478 + 95.9792272178 * t);
-            B1 += 0.00000004849 * Math.cos(0.77150458453 + 853.196381752 * t);
-            B1 += 0.00000004554 * Math.cos(3.96028178465 + 2648.454825473 * t);
-            B1 += 0.00000003572 * Math.cos(5.03591772370 + 220.4126424388 * t);
-            B1 += 0.00000003471 * Math.cos(5.13166913050 + 1073.6090241908 * t);
-            B1 += 0.00000003611 * Math.cos(1.57140411443 + 1478.8665740644 * t);
-            B1 += 0.00000002856 * Math.cos(4.67088931160 + 1272.6810256272 * t);
-            B1 += 0.00000003393 * Math.cos(5.57286071973 + 1375.7737998458 * t);
-            B1 += 0.00000002753 * Math.cos(0.68101124197 + 846.0828347512 * t);
-            B1 += 0.00000002097 * Math.cos(6.16024347671 + 2125.8774073792 * t);
-            B1 += 0.00000002114 * Math.cos(5.87434713206 + 330.6189636582 * t);
-            B1 += 0.00000001945 * Math.cos(0.99530094399 + 309.2783226558 * t);
-            B1 += 0.00000001637 * Math.cos(0.11662674189 + 1795.258443721 * t);
-            B1 += 0.00000001899 * Math.cos(5.04072957525 + 412.3710968744 * t);
-            B1 += 0.00000001791 * Math.cos(2.71494717262 + 1485.9801210652 * t);
-            B1 += 0.00000001543 * Math.cos(4.89349278048 + 1062.5633239269 * t);
-            B1 += 0.00000001379 * Math.cos(4.78442752303 + 1699.2792165032 * t);
-            B1 += 0.00000001614 * Math.cos(5.31695012950 + 2111.6503133776 * t);
-            B1 += 0.00000001356 * Math.cos(5.09369131122 + 1055.4497769261 * t);
-            B1 += 0.00000001472 * Math.cos(4.55646132730 + 1574.8458012822 * t);
-            B1 += 0.00000001216 * Math.cos(5.83778167217 + 1258.4539316256 * t);
-            B1 += 0.00000001061 * Math.cos(0.21929903524 + 1063.3140834523 * t);
-            B1 += 0.00000001281 * Math.cos(2.63291136301 + 2221.856634597 * t);
-            B1 += 0.00000001282 * Math.cos(4.40670408797 + 728.762966531 * t);
-            B1 += 0.00000001081 * Math.cos(5.65958153020 + 508.3503240922 * t);
-            B1 += 0.00000001236 * Math.cos(5.79698189268 + 1056.2005364515 * t);
-            B1 += 0.00000000834 * Math.cos(5.66034576977 + 838.9692877504 * t);
-            B1 += 0.00000000843 * Math.cos(1.39726903288 + 199.0720014364 * t);
-            B1 += 0.00000001114 * Math.cos(0.93457172591 + 1368.660252845 * t);
-            B1 += 0.00000001004 * Math.cos(1.88230290234 + 2008.557539159 * t);
-            B1 += 0.00000000784 * Math.cos(3.98772675676 + 1471.7530270636 * t);
-            B1 += 0.00000000682 * Math.cos(6.16172441549 + 519.3960243561 * t);
-            B1 += 0.00000000649 * Math.cos(3.11256832821 + 618.5566453116 * t);
-            B1 += 0.00000000597 * Math.cos(4.81489778721 + 551.031606097 * t);
-            B1 += 0.00000000546 * Math.cos(4.76855837933 + 1685.0521225016 * t);
-            B1 += 0.00000000546 * Math.cos(4.45547174659 + 539.9859058331 * t);
-            B1 += 0.00000000628 * Math.cos(0.06358024238 + 3.1813937377 * t);
-            B1 += 0.00000000514 * Math.cos(1.39819252269 + 1382.8873468466 * t);
-            B1 += 0.00000000546 * Math.cos(5.95490984957 + 1905.4647649404 * t);
-            B1 += 0.00000000432 * Math.cos(4.90782507942 + 227.5261894396 * t);
-            B1 += 0.00000000375 * Math.cos(6.13692411934 + 2428.0421830342 * t);
-            B1 += 0.00000000441 * Math.cos(4.43503611535 + 1038.0412891868 * t);
-            B1 += 0.00000000336 * Math.cos(4.15259691191 + 440.8252848776 * t);
-            B1 += 0.00000000392 * Math.cos(4.41318281175 + 1802.3719907218 * t);
-            B1 += 0.00000000336 * Math.cos(1.95113506965 + 525.0250986486 * t);
-            B1 += 0.00000000322 * Math.cos(2.38708525663 + 534.3568315406 * t);
-            B1 += 0.00000000411 * Math.cos(4.66598314047 + 750.1036075334 * t);
-            B1 += 0.00000000270 * Math.cos(4.34851907328 + 3178.1457905676 * t);
-            B1 += 0.00000000344 * Math.cos(2.88739614093 + 3.9321532631 * t);
-            B1 += 0.00000000306 * Math.cos(0.14928179595 + 21.3406410024 * t);
-            B1 += 0.00000000229 * Math.cos(4.71494574126 + 1788.1448967202 * t);
-            B1 += 0.00000000253 * Math.cos(5.97477420709 + 1898.3512179396 * t);
-            B1 += 0.00000000220 * Math.cos(1.65244409667 + 302.164775655 * t);
-            B1 += 0.00000000200 * Math.cos(5.63991949724 + 524.2743391232 * t);
-            B1 += 0.00000000197 * Math.cos(4.98395147244 + 535.107591066 * t);
-            B1 += 0.00000000189 * Math.cos(1.27085486089 + 831.8557407496 * t);
-            B1 += 0.00000000217 * Math.cos(5.72813758318 + 963.4027029714 * t);
-            B1 += 0.00000000163 * Math.cos(4.41162044978 + 511.5317178299 * t);
-            B1 += 0.00000000157 * Math.cos(6.22659623699 + 547.8502123593 * t);
-            B1 += 0.00000000156 * Math.cos(4.47889955750 + 2104.5367663768 * t);
-            B1 += 0.00000000158 * Math.cos(4.68155089578 + 526.7702037878 * t);
-            B1 += 0.00000000157 * Math.cos(5.94254789616 + 532.6117264014 * t);
-            B1 += 0.00000000177 * Math.cos(1.54590155579 + 2324.9494088156 * t);
-            B1 += 0.00000000159 * Math.cos(0.57726792367 + 1361.5467058442 * t);
-            B1 += 0.00000000143 * Math.cos(5.47600559579 + 1603.2999892854 * t);
-            B1 += 0.00000000144 * Math.cos(1.09752516756 + 74.7815985673 * t);
-            B1 += 0.00000000125 * Math.cos(4.04792462029 + 2001.4439921582 * t);
-            B1 += 0.00000000116 * Math.cos(0.20661426580 + 2655.5683724738 * t);
-            B1 += 0.00000000100 * Math.cos(5.29546864010 + 1891.2376709388 * t);
-            B1 += 0.00000000104 * Math.cos(6.06015582682 + 10.2949407385 * t);
-            B1 += 0.00000000122 * Math.cos(3.06889841223 + 2317.8358618148 * t);
-            B1 += 0.00000000106 * Math.cos(3.07515212924 + 2751.5475996916 * t);
-            B1 += 0.00000000123 * Math.cos(3.57772593687 + 2015.6710861598 * t);
-            B1 += 0.00000000080 * Math.cos(5.22386963290 + 2228.9701815978 * t);
-            B1 += 0.00000000103 * Math.cos(2.60543230206 + 2538.2485042536 * t);
-            B1 += 0.00000000076 * Math.cos(6.05570454898 + 984.6003316219 * t);
-            B1 += 0.00000000087 * Math.cos(4.53831014475 + 1148.2476104062 * t);
-        }
-        return B1 * t;
+        return new double[] {
+                0.00078203446, 1.52377859742, 529.6909650946,
+                0.00007789905, 2.59734071843, 1059.3819301892,
+                0.00002788602, 4.85622679819, 536.8045120954,
+                0.00002429728, 5.45947255041, 522.5774180938,
+                0.00001985777, 0, 0,
+                0.00000711633, 3.13688338277, 1589.0728952838,
+                0.00000292916, 5.27960297214, 1066.49547719,
+                0.00000271233, 0.10154920958, 7.1135470008,
+                0.00000257804, 4.76667796123, 1052.2683831884,
+                0.00000086261, 1.08347893125, 103.0927742186,
+                0.00000081666, 0.49217368092, 426.598190876,
+                0.00000081369, 0.63901209639, 419.4846438752,
+                0.00000079683, 1.04738628033, 110.2063212194,
+                0.00000070613, 2.82219329635, 632.7837393132,
+                0.00000066992, 5.48215719084, 515.463871093,
+                0.00000058497, 3.56648086507, 2118.7638603784,
+                0.00000051976, 2.85910965609, 949.1756089698,
+                0.00000041188, 4.75217333048, 543.9180590962,
+                0.00000040237, 1.13564290140, 1162.4747044078,
+                0.00000039924, 3.92433787110, 735.8765135318,
+                0.00000031305, 6.03167547323, 323.5054166574,
+                0.00000030485, 5.98342688371, 316.3918696566,
+                0.00000026065, 5.69856804584, 1596.1864422846,
+                0.00000021612, 4.90561988011, 1581.959348283,
+                0.00000021243, 4.88358142951, 213.299095438,
+                0.00000017336, 1.63355193402, 956.2891559706,
+                0.00000016318, 1.68217979523, 206.1855484372,
+                0.00000015354, 4.38535188227, 532.8723588323,
+                0.00000015050, 4.62184858700, 525.7588118315,
+                0.00000014194, 5.89751177643, 526.5095713569,
+                0.00000013752, 4.43118193299, 1045.1548361876,
+                0.00000012259, 5.76584367807, 533.6231183577,
+                0.00000012020, 6.22841485051, 14.2270940016,
+                0.00000010998, 3.66464772481, 742.9900605326,
+                0.00000010324, 4.35223675725, 1169.5882514086,
+                0.00000009125, 2.07963809004, 1692.1656695024,
+                0.00000008201, 5.61044388483, 1265.5674786264,
+                0.00000006995, 3.68757029433, 625.6701923124,
+                0.00000006854, 4.86899700840, 1155.361157407,
+                0.00000006623, 2.95794554141, 942.062061969,
+                0.00000005907, 4.00891325053, 639.897286314,
+                0.00000005392, 0.92120894811, 117.3198682202,
+                0.00000004948, 5.58428784853, 433.7117378768,
+                0.00000004904, 0.79623393478, 95.9792272178,
+                0.00000004849, 0.77150458453, 853.196381752,
+                0.00000004554, 3.96028178465, 2648.454825473,
+                0.00000003611, 1.57140411443, 1478.8665740644,
+                0.00000003572, 5.03591772370, 220.4126424388,
+                0.00000003471, 5.13166913050, 1073.6090241908,
+                0.00000003393, 5.57286071973, 1375.7737998458,
+                0.00000002856, 4.67088931160, 1272.6810256272,
+                0.00000002753, 0.68101124197, 846.0828347512,
+                0.00000002114, 5.87434713206, 330.6189636582,
+                0.00000002097, 6.16024347671, 2125.8774073792,
+                0.00000001945, 0.99530094399, 309.2783226558,
+                0.00000001899, 5.04072957525, 412.3710968744,
+                0.00000001791, 2.71494717262, 1485.9801210652,
+                0.00000001637, 0.11662674189, 1795.258443721,
+                0.00000001614, 5.31695012950, 2111.6503133776,
+                0.00000001543, 4.89349278048, 1062.5633239269,
+                0.00000001472, 4.55646132730, 1574.8458012822,
+                0.00000001379, 4.78442752303, 1699.2792165032,
+                0.00000001356, 5.09369131122, 1055.4497769261,
+                0.00000001282, 4.40670408797, 728.762966531,
+                0.00000001281, 2.63291136301, 2221.856634597,
+                0.00000001236, 5.79698189268, 1056.2005364515,
+                0.00000001216, 5.83778167217, 1258.4539316256,
+                0.00000001114, 0.93457172591, 1368.660252845,
+                0.00000001081, 5.65958153020, 508.3503240922,
+                0.00000001061, 0.21929903524, 1063.3140834523,
+                0.00000001004, 1.88230290234, 2008.557539159,
+                0.00000000843, 1.39726903288, 199.0720014364,
+                0.00000000834, 5.66034576977, 838.9692877504,
+                0.00000000784, 3.98772675676, 1471.7530270636,
+                0.00000000682, 6.16172441549, 519.3960243561,
+                0.00000000649, 3.11256832821, 618.5566453116,
+                0.00000000628, 0.06358024238, 3.1813937377,
+                0.00000000597, 4.81489778721, 551.031606097,
+                0.00000000546, 4.76855837933, 1685.0521225016,
+                0.00000000546, 4.45547174659, 539.9859058331,
+                0.00000000546, 5.95490984957, 1905.4647649404,
+                0.00000000514, 1.39819252269, 1382.8873468466,
+                0.00000000441, 4.43503611535, 1038.0412891868,
+                0.00000000432, 4.90782507942, 227.5261894396,
+                0.00000000411, 4.66598314047, 750.1036075334,
+                0.00000000392, 4.41318281175, 1802.3719907218,
+                0.00000000375, 6.13692411934, 2428.0421830342,
+                0.00000000344, 2.88739614093, 3.9321532631,
+                0.00000000336, 4.15259691191, 440.8252848776,
+                0.00000000336, 1.95113506965, 525.0250986486,
+                0.00000000322, 2.38708525663, 534.3568315406,
+                0.00000000306, 0.14928179595, 21.3406410024,
+                0.00000000270, 4.34851907328, 3178.1457905676,
+                0.00000000253, 5.97477420709, 1898.3512179396,
+                0.00000000229, 4.71494574126, 1788.1448967202,
+                0.00000000220, 1.65244409667, 302.164775655,
+                0.00000000217, 5.72813758318, 963.4027029714,
+                0.00000000200, 5.63991949724, 524.2743391232,
+                0.00000000197, 4.98395147244, 535.107591066,
+                0.00000000189, 1.27085486089, 831.8557407496,
+                0.00000000177, 1.54590155579, 2324.9494088156,
+                0.00000000163, 4.41162044978, 511.5317178299,
+                0.00000000159, 0.57726792367, 1361.5467058442,
+                0.00000000158, 4.68155089578, 526.7702037878,
+                0.00000000157, 6.22659623699, 547.8502123593,
+                0.00000000157, 5.94254789616, 532.6117264014,
+                0.00000000156, 4.47889955750, 2104.5367663768,
+                0.00000000144, 1.09752516756, 74.7815985673,
+                0.00000000143, 5.47600559579, 1603.2999892854,
+                0.00000000125, 4.04792462029, 2001.4439921582,
+                0.00000000123, 3.57772593687, 2015.6710861598,
+                0.00000000122, 3.06889841223, 2317.8358618148,
+                0.00000000116, 0.20661426580, 2655.5683724738,
+                0.00000000106, 3.07515212924, 2751.5475996916,
+                0.00000000104, 6.06015582682, 10.2949407385,
+                0.00000000103, 2.60543230206, 2538.2485042536,
+                0.00000000100, 5.29546864010, 1891.2376709388,
+                0.00000000087, 4.53831014475, 1148.2476104062,
+                0.00000000080, 5.22386963290, 2228.9701815978,
+                0.00000000076, 6.05570454898, 984.6003316219
+        };
     }
 
-    public double B2(double t) // 82 terms of order 2
+    private static double[] b2() // 82 terms of order 2
     {
-        double B2 = 0;
-        B2 += 0.00005498320 * Math.cos(3.01596270062 + 529.6909650946 * t);
-        B2 += 0.00000602076 * Math.cos(3.13358939436 + 536.8045120954 * t);
-        B2 += 0.00000502174 * Math.cos(2.05202111599 + 1059.3819301892 * t);
-        B2 += 0.00000453862 * Math.cos(0.95912416388 + 522.5774180938 * t);
-        B2 += 0.00000115043;
-        B2 += 0.00000068911 * Math.cos(3.65515676096 + 1066.49547719 * t);
-        B2 += 0.00000067052 * Math.cos(2.23363751256 + 1589.0728952838 * t);
-        B2 += 0.00000042555 * Math.cos(0.52143365809 + 1052.2683831884 * t);
-        B2 += 0.00000039396 * Math.cos(4.65314230657 + 7.1135470008 * t);
-        B2 += 0.00000023438 * Math.cos(0.96725852073 + 515.463871093 * t);
-        B2 += 0.00000017383 * Math.cos(3.03116251890 + 543.9180590962 * t);
-        B2 += 0.00000006651 * Math.cos(4.14899100562 + 1596.1864422846 * t);
-        B2 += 0.00000007013 * Math.cos(2.58268666095 + 2118.7638603784 * t);
-        B2 += 0.00000005389 * Math.cos(5.43989474079 + 110.2063212194 * t);
-        B2 += 0.00000004578 * Math.cos(6.21390672967 + 1045.1548361876 * t);
-        B2 += 0.00000004226 * Math.cos(2.60174767485 + 532.8723588323 * t);
-        B2 += 0.00000003653 * Math.cos(5.49147329377 + 426.598190876 * t);
-        B2 += 0.00000004208 * Math.cos(4.53565061928 + 14.2270940016 * t);
-        B2 += 0.00000003620 * Math.cos(2.16725398015 + 1162.4747044078 * t);
-        B2 += 0.00000004347 * Math.cos(4.34610976020 + 323.5054166574 * t);
-        B2 += 0.00000003449 * Math.cos(1.44287034922 + 526.5095713569 * t);
-        B2 += 0.00000003250 * Math.cos(4.99793920041 + 632.7837393132 * t);
-        B2 += 0.00000003549 * Math.cos(5.47945408971 + 103.0927742186 * t);
-        if (highAccuracy) {
-            B2 += 0.00000003031 * Math.cos(0.65632340107 + 1581.959348283 * t);
-            B2 += 0.00000003252 * Math.cos(5.38360789595 + 949.1756089698 * t);
-            B2 += 0.00000002464 * Math.cos(0.29383438152 + 956.2891559706 * t);
-            B2 += 0.00000002590 * Math.cos(2.61624183669 + 525.7588118315 * t);
-            B2 += 0.00000002414 * Math.cos(6.08828067002 + 419.4846438752 * t);
-            B2 += 0.00000002206 * Math.cos(2.62381175358 + 1169.5882514086 * t);
-            B2 += 0.00000001991 * Math.cos(1.56606451610 + 533.6231183577 * t);
-            B2 += 0.00000001868 * Math.cos(2.03564229490 + 316.3918696566 * t);
-            B2 += 0.00000002225 * Math.cos(6.11348450922 + 735.8765135318 * t);
-            B2 += 0.00000001512 * Math.cos(4.74989508185 + 942.062061969 * t);
-            B2 += 0.00000001458 * Math.cos(3.53705002363 + 1073.6090241908 * t);
-            B2 += 0.00000001473 * Math.cos(3.61629070367 + 206.1855484372 * t);
-            B2 += 0.00000001467 * Math.cos(5.52885404945 + 117.3198682202 * t);
-            B2 += 0.00000001373 * Math.cos(0.36875884830 + 1155.361157407 * t);
-            B2 += 0.00000001237 * Math.cos(2.65571662403 + 95.9792272178 * t);
-            B2 += 0.00000001124 * Math.cos(3.90568585311 + 433.7117378768 * t);
-            B2 += 0.00000001348 * Math.cos(5.54306182308 + 625.6701923124 * t);
-            B2 += 0.00000000964 * Math.cos(5.49710119494 + 853.196381752 * t);
-            B2 += 0.00000000947 * Math.cos(2.34829918409 + 639.897286314 * t);
-            B2 += 0.00000000798 * Math.cos(3.37909370240 + 220.4126424388 * t);
-            B2 += 0.00000000707 * Math.cos(1.57787722219 + 1692.1656695024 * t);
-            B2 += 0.00000000591 * Math.cos(0.29761569203 + 213.299095438 * t);
-            B2 += 0.00000000572 * Math.cos(1.28691054813 + 508.3503240922 * t);
-            B2 += 0.00000000512 * Math.cos(2.56537612741 + 1265.5674786264 * t);
-            B2 += 0.00000000665 * Math.cos(6.11880936688 + 728.762966531 * t);
-            B2 += 0.00000000447 * Math.cos(4.60869261113 + 2125.8774073792 * t);
-            B2 += 0.00000000586 * Math.cos(4.43282799664 + 330.6189636582 * t);
-            B2 += 0.00000000414 * Math.cos(1.25349133607 + 1258.4539316256 * t);
-            B2 += 0.00000000524 * Math.cos(2.96141918447 + 2648.454825473 * t);
-            B2 += 0.00000000444 * Math.cos(3.19923402818 + 1062.5633239269 * t);
-            B2 += 0.00000000404 * Math.cos(1.79288519616 + 1485.9801210652 * t);
-            B2 += 0.00000000375 * Math.cos(0.79587902858 + 838.9692877504 * t);
-            B2 += 0.00000000353 * Math.cos(3.34547139217 + 199.0720014364 * t);
-            B2 += 0.00000000452 * Math.cos(5.08983741758 + 846.0828347512 * t);
-            B2 += 0.00000000334 * Math.cos(3.04324482994 + 551.031606097 * t);
-            B2 += 0.00000000366 * Math.cos(1.68895713870 + 519.3960243561 * t);
-            B2 += 0.00000000394 * Math.cos(1.57570736696 + 412.3710968744 * t);
-            B2 += 0.00000000301 * Math.cos(3.37032774636 + 309.2783226558 * t);
-            B2 += 0.00000000291 * Math.cos(2.62531230776 + 539.9859058331 * t);
-            B2 += 0.00000000325 * Math.cos(0.15647873172 + 1574.8458012822 * t);
-            B2 += 0.00000000245 * Math.cos(3.25292367144 + 1272.6810256272 * t);
-            B2 += 0.00000000217 * Math.cos(3.11492452322 + 1699.2792165032 * t);
-            B2 += 0.00000000184 * Math.cos(1.08716393617 + 1478.8665740644 * t);
-            B2 += 0.00000000148 * Math.cos(2.68589605205 + 440.8252848776 * t);
-            B2 += 0.00000000151 * Math.cos(3.55666552483 + 227.5261894396 * t);
-            B2 += 0.00000000159 * Math.cos(4.59287441360 + 3.1813937377 * t);
-            B2 += 0.00000000136 * Math.cos(4.84859091336 + 1375.7737998458 * t);
-            B2 += 0.00000000163 * Math.cos(2.32840480908 + 1368.660252845 * t);
-            B2 += 0.00000000143 * Math.cos(3.22177095400 + 1055.4497769261 * t);
-            B2 += 0.00000000142 * Math.cos(5.72788361902 + 1471.7530270636 * t);
-            B2 += 0.00000000158 * Math.cos(4.73812763868 + 21.3406410024 * t);
-            B2 += 0.00000000128 * Math.cos(2.70021949677 + 742.9900605326 * t);
-            B2 += 0.00000000139 * Math.cos(1.17163391807 + 1056.2005364515 * t);
-            B2 += 0.00000000145 * Math.cos(0.86475461158 + 2111.6503133776 * t);
-            B2 += 0.00000000113 * Math.cos(0.93475856540 + 1685.0521225016 * t);
-            B2 += 0.00000000092 * Math.cos(6.08486890659 + 1038.0412891868 * t);
-            B2 += 0.00000000077 * Math.cos(1.76503406298 + 1795.258443721 * t);
-            B2 += 0.00000000076 * Math.cos(1.81177242528 + 2221.856634597 * t);
-            B2 += 0.00000000077 * Math.cos(3.87925580596 + 1603.2999892854 * t);
-        }
-        return B2 * t * t;
+        return new double[] {
+                0.00005498320, 3.01596270062, 529.6909650946,
+                0.00000602076, 3.13358939436, 536.8045120954,
+                0.00000502174, 2.05202111599, 1059.3819301892,
+                0.00000453862, 0.95912416388, 522.5774180938,
+                0.00000115043, 0, 0,
+                0.00000068911, 3.65515676096, 1066.49547719,
+                0.00000067052, 2.23363751256, 1589.0728952838,
+                0.00000042555, 0.52143365809, 1052.2683831884,
+                0.00000039396, 4.65314230657, 7.1135470008,
+                0.00000023438, 0.96725852073, 515.463871093,
+                0.00000017383, 3.03116251890, 543.9180590962,
+                0.00000007013, 2.58268666095, 2118.7638603784,
+                0.00000006651, 4.14899100562, 1596.1864422846,
+                0.00000005389, 5.43989474079, 110.2063212194,
+                0.00000004578, 6.21390672967, 1045.1548361876,
+                0.00000004347, 4.34610976020, 323.5054166574,
+                0.00000004226, 2.60174767485, 532.8723588323,
+                0.00000004208, 4.53565061928, 14.2270940016,
+                0.00000003653, 5.49147329377, 426.598190876,
+                0.00000003620, 2.16725398015, 1162.4747044078,
+                0.00000003549, 5.47945408971, 103.0927742186,
+                0.00000003449, 1.44287034922, 526.5095713569,
+                0.00000003252, 5.38360789595, 949.1756089698,
+                0.00000003250, 4.99793920041, 632.7837393132,
+                0.00000003031, 0.65632340107, 1581.959348283,
+                0.00000002590, 2.61624183669, 525.7588118315,
+                0.00000002464, 0.29383438152, 956.2891559706,
+                0.00000002414, 6.08828067002, 419.4846438752,
+                0.00000002225, 6.11348450922, 735.8765135318,
+                0.00000002206, 2.62381175358, 1169.5882514086,
+                0.00000001991, 1.56606451610, 533.6231183577,
+                0.00000001868, 2.03564229490, 316.3918696566,
+                0.00000001512, 4.74989508185, 942.062061969,
+                0.00000001473, 3.61629070367, 206.1855484372,
+                0.00000001467, 5.52885404945, 117.3198682202,
+                0.00000001458, 3.53705002363, 1073.6090241908,
+                0.00000001373, 0.36875884830, 1155.361157407,
+                0.00000001348, 5.54306182308, 625.6701923124,
+                0.00000001237, 2.65571662403, 95.9792272178,
+                0.00000001124, 3.90568585311, 433.7117378768,
+                0.00000000964, 5.49710119494, 853.196381752,
+                0.00000000947, 2.34829918409, 639.897286314,
+                0.00000000798, 3.37909370240, 220.4126424388,
+                0.00000000707, 1.57787722219, 1692.1656695024,
+                0.00000000665, 6.11880936688, 728.762966531,
+                0.00000000591, 0.29761569203, 213.299095438,
+                0.00000000586, 4.43282799664, 330.6189636582,
+                0.00000000572, 1.28691054813, 508.3503240922,
+                0.00000000524, 2.96141918447, 2648.454825473,
+                0.00000000512, 2.56537612741, 1265.5674786264,
+                0.00000000452, 5.08983741758, 846.0828347512,
+                0.00000000447, 4.60869261113, 2125.8774073792,
+                0.00000000444, 3.19923402818, 1062.5633239269,
+                0.00000000414, 1.25349133607, 1258.4539316256,
+                0.00000000404, 1.79288519616, 1485.9801210652,
+                0.00000000394, 1.57570736696, 412.3710968744,
+                0.00000000375, 0.79587902858, 838.9692877504,
+                0.00000000366, 1.68895713870, 519.3960243561,
+                0.00000000353, 3.34547139217, 199.0720014364,
+                0.00000000334, 3.04324482994, 551.031606097,
+                0.00000000325, 0.15647873172, 1574.8458012822,
+                0.00000000301, 3.37032774636, 309.2783226558,
+                0.00000000291, 2.62531230776, 539.9859058331,
+                0.00000000245, 3.25292367144, 1272.6810256272,
+                0.00000000217, 3.11492452322, 1699.2792165032,
+                0.00000000184, 1.08716393617, 1478.8665740644,
+                0.00000000163, 2.32840480908, 1368.660252845,
+                0.00000000159, 4.59287441360, 3.1813937377,
+                0.00000000158, 4.73812763868, 21.3406410024,
+                0.00000000151, 3.55666552483, 227.5261894396,
+                0.00000000148, 2.68589605205, 440.8252848776,
+                0.00000000145, 0.86475461158, 2111.6503133776,
+                0.00000000143, 3.22177095400, 1055.4497769261,
+                0.00000000142, 5.72788361902, 1471.7530270636,
+                0.00000000139, 1.17163391807, 1056.2005364515,
+                0.00000000136, 4.84859091336, 1375.7737998458,
+                0.00000000128, 2.70021949677, 742.9900605326,
+                0.00000000113, 0.93475856540, 1685.0521225016,
+                0.00000000092, 6.08486890659, 1038.0412891868,
+                0.00000000077, 1.76503406298, 1795.258443721,
+                0.00000000077, 3.87925580596, 1603.2999892854,
+                0.00000000076, 1.81177242528, 2221.856634597
+        };
     }
 
-    public double B3(double t) // 33 terms of order 3
+    private static double[] b3() // 33 terms of order 3
     {
-        double B3 = 0;
-        B3 += 0.00000185332 * Math.cos(4.79276761490 + 529.6909650946 * t);
-        B3 += 0.00000085668 * Math.cos(1.40023038638 + 536.8045120954 * t);
-        B3 += 0.00000056359 * Math.cos(2.81574766965 + 522.5774180938 * t);
-        B3 += 0.00000019435 * Math.cos(6.25741008684 + 1059.3819301892 * t);
-        B3 += 0.00000010858 * Math.cos(2.04333735353 + 1066.49547719 * t);
-        B3 += 0.00000014477;
-        B3 += 0.00000005535 * Math.cos(2.75732372347 + 515.463871093 * t);
-        B3 += 0.00000004939 * Math.cos(1.29727834284 + 543.9180590962 * t);
-        B3 += 0.00000004970 * Math.cos(2.56009290021 + 1052.2683831884 * t);
-        B3 += 0.00000004112 * Math.cos(0.86840480428 + 1589.0728952838 * t);
-        B3 += 0.00000003798 * Math.cos(2.86619114773 + 7.1135470008 * t);
-        B3 += 0.00000001107 * Math.cos(2.66033381472 + 1596.1864422846 * t);
-        if (highAccuracy) {
-            B3 += 0.00000001093 * Math.cos(1.82485496219 + 1045.1548361876 * t);
-            B3 += 0.00000001031 * Math.cos(2.82866669066 + 14.2270940016 * t);
-            B3 += 0.00000000433 * Math.cos(4.07064796547 + 419.4846438752 * t);
-            B3 += 0.00000000441 * Math.cos(1.38849268510 + 2118.7638603784 * t);
-            B3 += 0.00000000427 * Math.cos(1.88306006605 + 1073.6090241908 * t);
-            B3 += 0.00000000385 * Math.cos(3.43063155260 + 110.2063212194 * t);
-            B3 += 0.00000000270 * Math.cos(0.28254340737 + 942.062061969 * t);
-            B3 += 0.00000000282 * Math.cos(2.56588914137 + 323.5054166574 * t);
-            B3 += 0.00000000281 * Math.cos(1.78450485408 + 735.8765135318 * t);
-            B3 += 0.00000000250 * Math.cos(3.01246535740 + 508.3503240922 * t);
-            B3 += 0.00000000218 * Math.cos(2.72492160401 + 1581.959348283 * t);
-            B3 += 0.00000000210 * Math.cos(0.07248270409 + 632.7837393132 * t);
-            B3 += 0.00000000225 * Math.cos(3.97044557000 + 117.3198682202 * t);
-            B3 += 0.00000000203 * Math.cos(0.07858321388 + 639.897286314 * t);
-            B3 += 0.00000000170 * Math.cos(0.89620998933 + 1169.5882514086 * t);
-            B3 += 0.00000000165 * Math.cos(1.56025270981 + 625.6701923124 * t);
-            B3 += 0.00000000156 * Math.cos(5.58460103668 + 103.0927742186 * t);
-            B3 += 0.00000000137 * Math.cos(4.26368918979 + 95.9792272178 * t);
-            B3 += 0.00000000100 * Math.cos(1.72309553591 + 949.1756089698 * t);
-            B3 += 0.00000000094 * Math.cos(2.26854098455 + 1155.361157407 * t);
-            B3 += 0.00000000082 * Math.cos(5.02874146441 + 956.2891559706 * t);
-        }
-        return B3 * t * t * t;
+        return new double[] {
+                0.00000185332, 4.79276761490, 529.6909650946,
+                0.00000085668, 1.40023038638, 536.8045120954,
+                0.00000056359, 2.81574766965, 522.5774180938,
+                0.00000019435, 6.25741008684, 1059.3819301892,
+                0.00000014477, 0, 0,
+                0.00000010858, 2.04333735353, 1066.49547719,
+                0.00000005535, 2.75732372347, 515.463871093,
+                0.00000004970, 2.56009290021, 1052.2683831884,
+                0.00000004939, 1.29727834284, 543.9180590962,
+                0.00000004112, 0.86840480428, 1589.0728952838,
+                0.00000003798, 2.86619114773, 7.1135470008,
+                0.00000001107, 2.66033381472, 1596.1864422846,
+                0.00000001093, 1.82485496219, 1045.1548361876,
+                0.00000001031, 2.82866669066, 14.2270940016,
+                0.00000000441, 1.38849268510, 2118.7638603784,
+                0.00000000433, 4.07064796547, 419.4846438752,
+                0.00000000427, 1.88306006605, 1073.6090241908,
+                0.00000000385, 3.43063155260, 110.2063212194,
+                0.00000000282, 2.56588914137, 323.5054166574,
+                0.00000000281, 1.78450485408, 735.8765135318,
+                0.00000000270, 0.28254340737, 942.062061969,
+                0.00000000250, 3.01246535740, 508.3503240922,
+                0.00000000225, 3.97044557000, 117.3198682202,
+                0.00000000218, 2.72492160401, 1581.959348283,
+                0.00000000210, 0.07248270409, 632.7837393132,
+                0.00000000203, 0.07858321388, 639.897286314,
+                0.00000000170, 0.89620998933, 1169.5882514086,
+                0.00000000165, 1.56025270981, 625.6701923124,
+                0.00000000156, 5.58460103668, 103.0927742186,
+                0.00000000137, 4.26368918979, 95.9792272178,
+                0.00000000100, 1.72309553591, 949.1756089698,
+                0.00000000094, 2.26854098455, 1155.361157407,
+                0.00000000082, 5.02874146441, 956.2891559706
+        };
     }
 
-    public double B4(double t) // 13 terms of order 4
+    private static double[] b4() // 13 terms of order 4
     {
-        double B4 = 0;
-        B4 += 0.00000008963 * Math.cos(5.93887232380 + 536.8045120954 * t);
-        B4 += 0.00000005280 * Math.cos(4.80778878768 + 522.5774180938 * t);
-        B4 += 0.00000001161 * Math.cos(0.46295890438 + 1066.49547719 * t);
-        B4 += 0.00000001104 * Math.cos(4.53240452495 + 515.463871093 * t);
-        B4 += 0.00000001087 * Math.cos(5.81789252627 + 543.9180590962 * t);
-        B4 += 0.00000000818 * Math.cos(1.49293156118 + 529.6909650946 * t);
-        if (highAccuracy) {
-            B4 += 0.00000000595 * Math.cos(4.58881648484 + 1059.3819301892 * t);
-            B4 += 0.00000000513 * Math.cos(4.57214361679 + 1052.2683831884 * t);
-            B4 += 0.00000000179 * Math.cos(0.75821264280 + 7.1135470008 * t);
-            B4 += 0.00000000143 * Math.cos(5.78292264064 + 1589.0728952838 * t);
-            B4 += 0.00000000135 * Math.cos(1.57382028639 + 14.2270940016 * t);
-            B4 += 0.00000000096 * Math.cos(1.04662476547 + 1596.1864422846 * t);
-            B4 += 0.00000000077 * Math.cos(3.58780641570 + 1045.1548361876 * t);
-        }
-        return B4 * t * t * t * t;
+        return new double[] {
+                0.00000008963, 5.93887232380, 536.8045120954,
+                0.00000005280, 4.80778878768, 522.5774180938,
+                0.00000001161, 0.46295890438, 1066.49547719,
+                0.00000001104, 4.53240452495, 515.463871093,
+                0.00000001087, 5.81789252627, 543.9180590962,
+                0.00000000818, 1.49293156118, 529.6909650946,
+                0.00000000595, 4.58881648484, 1059.3819301892,
+                0.00000000513, 4.57214361679, 1052.2683831884,
+                0.00000000179, 0.75821264280, 7.1135470008,
+                0.00000000143, 5.78292264064, 1589.0728952838,
+                0.00000000135, 1.57382028639, 14.2270940016,
+                0.00000000096, 1.04662476547, 1596.1864422846,
+                0.00000000077, 3.58780641570, 1045.1548361876
+        };
     }
 
-    public double B5(double t) // 3 terms of order 5
+    private static double[] b5() // 3 terms of order 5
     {
-        double B5 = 0;
-        B5 += 0.00000000662 * Math.cos(4.10413626462 + 536.8045120954 * t);
-        if (highAccuracy) {
-            B5 += 0.00000000431 * Math.cos(0.82614663721 + 522.5774180938 * t);
-            B5 += 0.00000000208 * Math.cos(0.05498457769 + 515.463871093 * t);
-        }
-        return B5 * t * t * t * t * t;
+        return new double[] {
+                0.00000000662, 4.10413626462, 536.8045120954,
+                0.00000000431, 0.82614663721, 522.5774180938,
+                0.00000000208, 0.05498457769, 515.463871093
+        };
     }
 
-    public double R0(double t) // 727 terms of order 0
+    private static double[] r0() // 727 terms of order 0
     {
-        double R0 = 0;
-        R0 += 5.20887429326;
-        R0 += 0.25209327119 * Math.cos(3.49108639871 + 529.6909650946 * t);
-        R0 += 0.00610599976 * Math.cos(3.84115365948 + 1059.3819301892 * t);
-        R0 += 0.00282029458 * Math.cos(2.57419881293 + 632.7837393132 * t);
-        R0 += 0.00187647346 * Math.cos(2.07590383214 + 522.5774180938 * t);
-        R0 += 0.00086792905 * Math.cos(0.71001145545 + 419.4846438752 * t);
-        R0 += 0.00072062974 * Math.cos(0.21465724607 + 536.8045120954 * t);
-        R0 += 0.00065517248 * Math.cos(5.97995884790 + 316.3918696566 * t);
-        R0 += 0.00029134542 * Math.cos(1.67759379655 + 103.0927742186 * t);
-        R0 += 0.00030135335 * Math.cos(2.16132003734 + 949.1756089698 * t);
-        R0 += 0.00023453271 * Math.cos(3.54023522184 + 735.8765135318 * t);
-        R0 += 0.00022283743 * Math.cos(4.19362594399 + 1589.0728952838 * t);
-        R0 += 0.00023947298 * Math.cos(0.27458037480 + 7.1135470008 * t);
-        R0 += 0.00013032614 * Math.cos(2.96042965363 + 1162.4747044078 * t);
-        R0 += 0.00009703360 * Math.cos(1.90669633585 + 206.1855484372 * t);
-        R0 += 0.00012749023 * Math.cos(2.71550286592 + 1052.2683831884 * t);
-        R0 += 0.00009161393 * Math.cos(4.41352953117 + 213.299095438 * t);
-        R0 += 0.00007894511 * Math.cos(2.47907592482 + 426.598190876 * t);
-        R0 += 0.00007057931 * Math.cos(2.18184839926 + 1265.5674786264 * t);
-        R0 += 0.00006137703 * Math.cos(6.26418240033 + 846.0828347512 * t);
-        R0 += 0.00005477001 * Math.cos(5.65729989857 + 639.897286314 * t);
-        R0 += 0.00003502493 * Math.cos(0.56532365822 + 1066.49547719 * t);
-        R0 += 0.00004136822 * Math.cos(2.72220872400 + 625.6701923124 * t);
-        R0 += 0.00004169954 * Math.cos(2.01603822251 + 515.463871093 * t);
-        R0 += 0.00002499967 * Math.cos(4.55181655381 + 838.9692877504 * t);
-        R0 += 0.00002616976 * Math.cos(2.00994012876 + 1581.959348283 * t);
-        R0 += 0.00001912009 * Math.cos(0.85621128851 + 412.3710968744 * t);
-        R0 += 0.00002127681 * Math.cos(6.12755221002 + 742.9900605326 * t);
-        R0 += 0.00001610567 * Math.cos(3.08871452594 + 1368.660252845 * t);
-        R0 += 0.00001479513 * Math.cos(2.68021307468 + 1478.8665740644 * t);
-        R0 += 0.00001230630 * Math.cos(1.89052048109 + 323.5054166574 * t);
-        R0 += 0.00001216895 * Math.cos(1.80176263029 + 110.2063212194 * t);
-        R0 += 0.00000961113 * Math.cos(4.54876995367 + 2118.7638603784 * t);
-        R0 += 0.00000885764 * Math.cos(4.14783869943 + 533.6231183577 * t);
-        R0 += 0.00000776583 * Math.cos(3.67710828843 + 728.762966531 * t);
-        R0 += 0.00000998591 * Math.cos(2.87205397992 + 309.2783226558 * t);
-        R0 += 0.00001014733 * Math.cos(1.38675822271 + 454.9093665273 * t);
-        R0 += 0.00000727156 * Math.cos(3.98827252563 + 1155.361157407 * t);
-        R0 += 0.00000655334 * Math.cos(2.79072596910 + 1685.0521225016 * t);
-        R0 += 0.00000821383 * Math.cos(1.59351544602 + 1898.3512179396 * t);
-        R0 += 0.00000620818 * Math.cos(4.82275194351 + 956.2891559706 * t);
-        R0 += 0.00000654071 * Math.cos(3.38140746852 + 1692.1656695024 * t);
-        R0 += 0.00000811993 * Math.cos(5.94093410097 + 909.8187330546 * t);
-        R0 += 0.00000562092 * Math.cos(0.08114877791 + 543.9180590962 * t);
-        R0 += 0.00000542222 * Math.cos(0.28357235311 + 525.7588118315 * t);
-        R0 += 0.00000457841 * Math.cos(0.12720499202 + 1375.7737998458 * t);
-        if (highAccuracy) {
-            R0 += 0.00000614740 * Math.cos(2.27633681284 + 942.062061969 * t);
-            R0 += 0.00000435816 * Math.cos(2.60279250213 + 95.9792272178 * t);
-            R0 += 0.00000496009 * Math.cos(5.53020241869 + 380.12776796 * t);
-            R0 += 0.00000469974 * Math.cos(2.81883756859 + 1795.258443721 * t);
-            R0 += 0.00000445057 * Math.cos(0.14648640292 + 14.2270940016 * t);
-            R0 += 0.00000290917 * Math.cos(3.89373030829 + 1471.7530270636 * t);
-            R0 += 0.00000276581 * Math.cos(2.52188912681 + 2001.4439921582 * t);
-            R0 += 0.00000275010 * Math.cos(2.98827073289 + 526.5095713569 * t);
-            R0 += 0.00000293746 * Math.cos(2.04945754349 + 199.0720014364 * t);
-            R0 += 0.00000291010 * Math.cos(6.03128127682 + 1169.5882514086 * t);
-            R0 += 0.00000338146 * Math.cos(2.79887096517 + 1045.1548361876 * t);
-            R0 += 0.00000257472 * Math.cos(6.13406653083 + 532.8723588323 * t);
-            R0 += 0.00000319036 * Math.cos(1.34818583641 + 2214.7430875962 * t);
-            R0 += 0.00000309305 * Math.cos(5.36839401116 + 1272.6810256272 * t);
-            R0 += 0.00000345803 * Math.cos(1.56404960644 + 491.5579294568 * t);
-            R0 += 0.00000303364 * Math.cos(1.15407454389 + 5753.3848848968 * t);
-            R0 += 0.00000192308 * Math.cos(0.91996013364 + 1596.1864422846 * t);
-            R0 += 0.00000215435 * Math.cos(2.63589770012 + 2111.6503133776 * t);
-            R0 += 0.00000200591 * Math.cos(2.37332227687 + 1258.4539316256 * t);
-            R0 += 0.00000239039 * Math.cos(3.57396895042 + 835.0371344873 * t);
-            R0 += 0.00000197072 * Math.cos(5.92862098187 + 453.424893819 * t);
-            R0 += 0.00000139406 * Math.cos(3.63978241621 + 1788.1448967202 * t);
-            R0 += 0.00000191351 * Math.cos(0.00008947898 + 983.1158589136 * t);
-            R0 += 0.00000176442 * Math.cos(2.57642803889 + 9683.5945811164 * t);
-            R0 += 0.00000123523 * Math.cos(2.26101680855 + 2317.8358618148 * t);
-            R0 += 0.00000128191 * Math.cos(4.66615733627 + 831.8557407496 * t);
-            R0 += 0.00000112538 * Math.cos(0.85603677104 + 433.7117378768 * t);
-            R0 += 0.00000128822 * Math.cos(1.10499202918 + 2531.1349572528 * t);
-            R0 += 0.00000099327 * Math.cos(4.50365769161 + 518.6452648307 * t);
-            R0 += 0.00000093945 * Math.cos(2.72470156299 + 853.196381752 * t);
-            R0 += 0.00000106425 * Math.cos(5.81491645745 + 220.4126424388 * t);
-            R0 += 0.00000120294 * Math.cos(2.95204440510 + 3.9321532631 * t);
-            R0 += 0.00000081685 * Math.cos(3.23399956574 + 1361.5467058442 * t);
-            R0 += 0.00000103994 * Math.cos(2.22277966661 + 74.7815985673 * t);
-            R0 += 0.00000112513 * Math.cos(4.86217051434 + 528.2064923863 * t);
-            R0 += 0.00000079631 * Math.cos(0.88529543139 + 430.5303441391 * t);
-            R0 += 0.00000085789 * Math.cos(2.11469709334 + 1574.8458012822 * t);
-            R0 += 0.00000085635 * Math.cos(2.33825806277 + 2428.0421830342 * t);
-            R0 += 0.00000068348 * Math.cos(3.35769613854 + 2104.5367663768 * t);
-            R0 += 0.00000069535 * Math.cos(3.04092499583 + 302.164775655 * t);
-            R0 += 0.00000069854 * Math.cos(3.22383407236 + 305.3461693927 * t);
-            R0 += 0.00000069498 * Math.cos(0.20470467419 + 532.1386456494 * t);
-            R0 += 0.00000057002 * Math.cos(2.00278403070 + 2634.2277314714 * t);
-            R0 += 0.00000077019 * Math.cos(2.09814823113 + 508.3503240922 * t);
-            R0 += 0.00000056672 * Math.cos(3.91635330750 + 2221.856634597 * t);
-            R0 += 0.00000058366 * Math.cos(5.72512642459 + 628.8515860501 * t);
-            R0 += 0.00000052433 * Math.cos(4.02508574580 + 527.2432845398 * t);
-            R0 += 0.00000063628 * Math.cos(1.10008717069 + 1364.7280995819 * t);
-            R0 += 0.00000053607 * Math.cos(0.87404483378 + 2847.5268269094 * t);
-            R0 += 0.00000059639 * Math.cos(0.95858565273 + 494.2662424425 * t);
-            R0 += 0.00000058002 * Math.cos(3.45633892143 + 2008.557539159 * t);
-            R0 += 0.00000041530 * Math.cos(3.51955496522 + 529.7391492044 * t);
-            R0 += 0.00000044717 * Math.cos(1.62318067555 + 984.6003316219 * t);
-            R0 += 0.00000044943 * Math.cos(4.90105773635 + 2648.454825473 * t);
-            R0 += 0.00000053154 * Math.cos(1.19752849531 + 760.25553592 * t);
-            R0 += 0.00000044532 * Math.cos(4.42376920441 + 1063.3140834523 * t);
-            R0 += 0.00000037511 * Math.cos(2.93024338067 + 1677.9385755008 * t);
-            R0 += 0.00000041535 * Math.cos(0.32174379070 + 529.6427809848 * t);
-            R0 += 0.00000042886 * Math.cos(0.03097825861 + 1439.5096981492 * t);
-            R0 += 0.00000046010 * Math.cos(2.54409504187 + 636.7158925763 * t);
-            R0 += 0.00000040307 * Math.cos(4.39482471634 + 1148.2476104062 * t);
-            R0 += 0.00000038818 * Math.cos(4.31684853535 + 149.5631971346 * t);
-            R0 += 0.00000040357 * Math.cos(2.10207822074 + 2744.4340526908 * t);
-            R0 += 0.00000048851 * Math.cos(5.60297823445 + 2810.9214616052 * t);
-            R0 += 0.00000037030 * Math.cos(5.07904223157 + 1905.4647649404 * t);
-            R0 += 0.00000043876 * Math.cos(1.24634677337 + 621.7380390493 * t);
-            R0 += 0.00000034015 * Math.cos(3.09481058565 + 2420.9286360334 * t);
-            R0 += 0.00000036829 * Math.cos(0.84237174099 + 530.6541729411 * t);
-            R0 += 0.00000031256 * Math.cos(5.35795807657 + 1485.9801210652 * t);
-            R0 += 0.00000039276 * Math.cos(4.70909591065 + 569.0478410098 * t);
-            R0 += 0.00000039790 * Math.cos(2.46062195592 + 355.7487455718 * t);
-            R0 += 0.00000031530 * Math.cos(6.19283211825 + 3.1813937377 * t);
-            R0 += 0.00000028366 * Math.cos(2.48520234303 + 519.3960243561 * t);
-            R0 += 0.00000032409 * Math.cos(2.73383239343 + 604.4725636619 * t);
-            R0 += 0.00000027094 * Math.cos(3.92463420595 + 2324.9494088156 * t);
-            R0 += 0.00000029014 * Math.cos(1.83523374921 + 1891.2376709388 * t);
-            R0 += 0.00000026731 * Math.cos(1.74874273361 + 2950.619601128 * t);
-            R0 += 0.00000026453 * Math.cos(0.60429095482 + 1055.4497769261 * t);
-            R0 += 0.00000033475 * Math.cos(0.76463170350 + 643.8294395771 * t);
-            R0 += 0.00000026499 * Math.cos(1.03248824966 + 405.2575498736 * t);
-            R0 += 0.00000025634 * Math.cos(3.46480952342 + 458.8415197904 * t);
-            R0 += 0.00000024450 * Math.cos(0.88074669554 + 423.4167971383 * t);
-            R0 += 0.00000032957 * Math.cos(3.18606309728 + 528.7277572481 * t);
-            R0 += 0.00000022463 * Math.cos(0.43478364259 + 1073.6090241908 * t);
-            R0 += 0.00000021623 * Math.cos(1.42192729492 + 540.7366653585 * t);
-            R0 += 0.00000025640 * Math.cos(0.52452881258 + 511.5317178299 * t);
-            R0 += 0.00000021016 * Math.cos(3.08217890882 + 629.6023455755 * t);
-            R0 += 0.00000022666 * Math.cos(0.65441785872 + 3163.918696566 * t);
-            R0 += 0.00000019316 * Math.cos(5.17023800333 + 635.9651330509 * t);
-            R0 += 0.00000026139 * Math.cos(1.33354028131 + 330.6189636582 * t);
-            R0 += 0.00000018303 * Math.cos(3.59973766130 + 746.9222137957 * t);
-            R0 += 0.00000018225 * Math.cos(2.66424699243 + 1994.3304451574 * t);
-            R0 += 0.00000019775 * Math.cos(4.13615184912 + 1464.6394800628 * t);
-            R0 += 0.00000019466 * Math.cos(1.85632162779 + 3060.8259223474 * t);
-            R0 += 0.00000023930 * Math.cos(4.99825426891 + 1289.9465010146 * t);
-            R0 += 0.00000021865 * Math.cos(5.91688197848 + 1802.3719907218 * t);
-            R0 += 0.00000017423 * Math.cos(2.81999126875 + 2737.32050569 * t);
-            R0 += 0.00000016669 * Math.cos(5.67299018075 + 408.4389436113 * t);
-            R0 += 0.00000022940 * Math.cos(5.26760480260 + 672.1406152284 * t);
-            R0 += 0.00000018349 * Math.cos(1.89870628722 + 1021.2488945514 * t);
-            R0 += 0.00000019065 * Math.cos(3.66520144826 + 415.5524906121 * t);
-            R0 += 0.00000015733 * Math.cos(3.34757176872 + 1056.2005364515 * t);
-            R0 += 0.00000016361 * Math.cos(0.18155522601 + 1699.2792165032 * t);
-            R0 += 0.00000018718 * Math.cos(1.97821694809 + 38.1330356378 * t);
-            R0 += 0.00000018769 * Math.cos(3.69167351769 + 88.865680217 * t);
-            R0 += 0.00000015530 * Math.cos(3.82369172511 + 721.6494195302 * t);
-            R0 += 0.00000015401 * Math.cos(1.06319902793 + 114.1384744825 * t);
-            R0 += 0.00000016809 * Math.cos(1.91000618622 + 217.2312487011 * t);
-            R0 += 0.00000015253 * Math.cos(1.31927244263 + 117.3198682202 * t);
-            R0 += 0.00000015115 * Math.cos(3.74899964992 + 2641.3412784722 * t);
-            R0 += 0.00000019654 * Math.cos(2.73391065610 + 39.3568759152 * t);
-            R0 += 0.00000014669 * Math.cos(1.67269531093 + 529.1697002328 * t);
-            R0 += 0.00000014116 * Math.cos(3.55112673348 + 142.4496501338 * t);
-            R0 += 0.00000013001 * Math.cos(1.48488755301 + 3267.0114707846 * t);
-            R0 += 0.00000014924 * Math.cos(1.32583007552 + 490.3340891794 * t);
-            R0 += 0.00000014753 * Math.cos(4.64530618099 + 6283.0758499914 * t);
-            R0 += 0.00000014666 * Math.cos(0.80451966905 + 5223.6939198022 * t);
-            R0 += 0.00000012149 * Math.cos(3.66755220800 + 750.1036075334 * t);
-            R0 += 0.00000011954 * Math.cos(2.97127390765 + 505.3119427064 * t);
-            R0 += 0.00000014697 * Math.cos(2.16792533244 + 530.2122299564 * t);
-            R0 += 0.00000012272 * Math.cos(0.20695687447 + 1062.5633239269 * t);
-            R0 += 0.00000011491 * Math.cos(1.11749661877 + 561.934294009 * t);
-            R0 += 0.00000011727 * Math.cos(1.65922790150 + 2207.6295405954 * t);
-            R0 += 0.00000011081 * Math.cos(3.22060243425 + 535.107591066 * t);
-            R0 += 0.00000011566 * Math.cos(5.23036903534 + 524.0618908021 * t);
-            R0 += 0.00000011187 * Math.cos(3.83842425050 + 76.2660712756 * t);
-            R0 += 0.00000012702 * Math.cos(3.96823187752 + 2538.2485042536 * t);
-            R0 += 0.00000010918 * Math.cos(1.27796360308 + 2125.8774073792 * t);
-            R0 += 0.00000011242 * Math.cos(3.23197763125 + 422.6660376129 * t);
-            R0 += 0.00000012640 * Math.cos(0.73683423677 + 908.3342603463 * t);
-            R0 += 0.00000011310 * Math.cos(5.55879589444 + 531.1754378029 * t);
-            R0 += 0.00000009584 * Math.cos(5.01019903321 + 597.3590166611 * t);
-            R0 += 0.00000010310 * Math.cos(3.83872758066 + 1781.0313497194 * t);
-            R0 += 0.00000010762 * Math.cos(4.91380719453 + 525.0250986486 * t);
-            R0 += 0.00000011756 * Math.cos(5.11238523418 + 685.4739373527 * t);
-            R0 += 0.00000011958 * Math.cos(1.72875918561 + 911.3032057629 * t);
-            R0 += 0.00000009511 * Math.cos(2.95053004168 + 1382.8873468466 * t);
-            R0 += 0.00000008902 * Math.cos(2.40357723787 + 2310.722314814 * t);
-            R0 += 0.00000009215 * Math.cos(2.57853098079 + 3053.7123753466 * t);
-            R0 += 0.00000009920 * Math.cos(0.43817210648 + 3480.3105662226 * t);
-            R0 += 0.00000008714 * Math.cos(3.67018202505 + 739.8086667949 * t);
-            R0 += 0.00000008664 * Math.cos(2.70398612383 + 526.7702037878 * t);
-            R0 += 0.00000009435 * Math.cos(1.61939988249 + 3377.217792004 * t);
-            R0 += 0.00000011544 * Math.cos(1.59031375667 + 1474.6737883704 * t);
-            R0 += 0.00000009532 * Math.cos(0.35524234217 + 1512.8068240082 * t);
-            R0 += 0.00000009993 * Math.cos(4.80140922781 + 558.0021407459 * t);
-            R0 += 0.00000007969 * Math.cos(0.08480602718 + 528.9402055692 * t);
-            R0 += 0.00000007929 * Math.cos(1.46877435816 + 963.4027029714 * t);
-            R0 += 0.00000008877 * Math.cos(1.21758319481 + 416.3032501375 * t);
-            R0 += 0.00000008738 * Math.cos(5.29236760592 + 945.2434557067 * t);
-            R0 += 0.00000008611 * Math.cos(1.13232641062 + 532.6117264014 * t);
-            R0 += 0.00000007852 * Math.cos(6.26908468547 + 647.0108333148 * t);
-            R0 += 0.00000007581 * Math.cos(2.90608705953 + 533.8837507886 * t);
-            R0 += 0.00000008585 * Math.cos(6.06648047796 + 10213.285546211 * t);
-            R0 += 0.00000010150 * Math.cos(2.49061363606 + 1819.6374661092 * t);
-            R0 += 0.00000008534 * Math.cos(2.22687140541 + 9153.9036160218 * t);
-            R0 += 0.00000007968 * Math.cos(3.75535355212 + 530.44172462 * t);
-            R0 += 0.00000009742 * Math.cos(6.15792553288 + 593.426863398 * t);
-            R0 += 0.00000007137 * Math.cos(3.59005542659 + 2957.7331481288 * t);
-            R0 += 0.00000007176 * Math.cos(0.12508174554 + 224.3447957019 * t);
-            R0 += 0.00000008727 * Math.cos(0.75644622066 + 960.2213092337 * t);
-            R0 += 0.00000007073 * Math.cos(2.17418036839 + 724.8308132679 * t);
-            R0 += 0.00000007193 * Math.cos(2.30068915654 + 520.129737539 * t);
-            R0 += 0.00000006555 * Math.cos(4.75218205387 + 202.2533951741 * t);
-            R0 += 0.00000006417 * Math.cos(1.25043809621 + 3583.4033404412 * t);
-            R0 += 0.00000008270 * Math.cos(1.24822326308 + 495.7507151508 * t);
-            R0 += 0.00000007123 * Math.cos(3.84780072799 + 618.5566453116 * t);
-            R0 += 0.00000008145 * Math.cos(0.73137862078 + 230.5645708254 * t);
-            R0 += 0.00000006151 * Math.cos(5.50130756047 + 11.0457002639 * t);
-            R0 += 0.00000007972 * Math.cos(2.08176164007 + 953.1077622329 * t);
-            R0 += 0.00000007652 * Math.cos(0.92748230521 + 525.4981794006 * t);
-            R0 += 0.00000007432 * Math.cos(0.31435666835 + 378.6432952517 * t);
-            R0 += 0.00000006222 * Math.cos(1.46220596893 + 483.2205421786 * t);
-            R0 += 0.00000007153 * Math.cos(0.18772230606 + 731.9443602687 * t);
-            R0 += 0.00000006706 * Math.cos(2.92078077444 + 1038.0412891868 * t);
-            R0 += 0.00000007309 * Math.cos(6.27084750121 + 21.3406410024 * t);
-            R0 += 0.00000006129 * Math.cos(2.68322633435 + 312.4597163935 * t);
-            R0 += 0.00000007541 * Math.cos(0.73440261131 + 457.617679513 * t);
-            R0 += 0.00000005558 * Math.cos(3.83419160288 + 534.3568315406 * t);
-            R0 += 0.00000005343 * Math.cos(5.25360544458 + 1048.3362299253 * t);
-            R0 += 0.00000005341 * Math.cos(6.22288713664 + 551.031606097 * t);
-            R0 += 0.00000005613 * Math.cos(1.51210605952 + 524.2743391232 * t);
-            R0 += 0.00000005478 * Math.cos(5.95887338334 + 539.9859058331 * t);
-            R0 += 0.00000005216 * Math.cos(2.20381924871 + 280.9671470045 * t);
-            R0 += 0.00000005056 * Math.cos(0.37387972537 + 529.5309064002 * t);
-            R0 += 0.00000006202 * Math.cos(5.53800819472 + 2.4476805548 * t);
-            R0 += 0.00000006261 * Math.cos(0.75330485783 + 938.1299087059 * t);
-            R0 += 0.00000005419 * Math.cos(5.96993331731 + 227.5261894396 * t);
-            R0 += 0.00000005710 * Math.cos(2.12868548085 + 191.9584544356 * t);
-            R0 += 0.00000005218 * Math.cos(4.69335266854 + 560.7104537316 * t);
-            R0 += 0.00000004840 * Math.cos(1.51601288645 + 2524.021410252 * t);
-            R0 += 0.00000005738 * Math.cos(0.34249718209 + 535.9107402181 * t);
-            R0 += 0.00000005056 * Math.cos(3.46671669992 + 529.851023789 * t);
-            R0 += 0.00000005409 * Math.cos(5.21471277042 + 1057.8974574809 * t);
-            R0 += 0.00000004734 * Math.cos(2.27733077170 + 3370.1042450032 * t);
-            R0 += 0.00000005220 * Math.cos(3.61280797725 + 2097.423219376 * t);
-            R0 += 0.00000004861 * Math.cos(1.38856203056 + 3693.6096616606 * t);
-            R0 += 0.00000005738 * Math.cos(4.79777823324 + 598.8434893694 * t);
-            R0 += 0.00000005690 * Math.cos(3.93800591227 + 2854.6403739102 * t);
-            R0 += 0.00000004988 * Math.cos(4.87228166876 + 1.4844727083 * t);
-            R0 += 0.00000005424 * Math.cos(3.53268613904 + 456.3938392356 * t);
-            R0 += 0.00000004289 * Math.cos(4.84380640711 + 70.8494453042 * t);
-            R0 += 0.00000005944 * Math.cos(3.79180483544 + 25558.2121764796 * t);
-            R0 += 0.00000004189 * Math.cos(2.08145249041 + 2627.1141844706 * t);
-            R0 += 0.00000004549 * Math.cos(5.64074512699 + 2435.155730035 * t);
-            R0 += 0.00000004268 * Math.cos(6.20250525407 + 775.233389447 * t);
-            R0 += 0.00000005405 * Math.cos(4.66492781581 + 833.552661779 * t);
-            R0 += 0.00000005607 * Math.cos(3.30270139804 + 535.3200393871 * t);
-            R0 += 0.00000004171 * Math.cos(3.14858229862 + 944.9828232758 * t);
-            R0 += 0.00000004128 * Math.cos(5.84804741359 + 440.8252848776 * t);
-            R0 += 0.00000004387 * Math.cos(4.69677892021 + 327.4375699205 * t);
-            R0 += 0.00000004468 * Math.cos(0.21348044420 + 92.0470739547 * t);
-            R0 += 0.00000004052 * Math.cos(3.31367006050 + 3274.1250177854 * t);
-            R0 += 0.00000004375 * Math.cos(0.20464725158 + 3796.7024358792 * t);
-            R0 += 0.00000004301 * Math.cos(0.99845168304 + 387.2413149608 * t);
-            R0 += 0.00000004703 * Math.cos(1.96435195092 + 107.0249274817 * t);
-            R0 += 0.00000004213 * Math.cos(3.21377867882 + 696.5196376166 * t);
-            R0 += 0.00000004014 * Math.cos(4.62540459805 + 2751.5475996916 * t);
-            R0 += 0.00000003824 * Math.cos(3.60290168808 + 437.6438911399 * t);
-            R0 += 0.00000004183 * Math.cos(4.74495457566 + 988.532484885 * t);
-            R0 += 0.00000003687 * Math.cos(1.57511269436 + 381.6122406683 * t);
-            R0 += 0.00000003808 * Math.cos(3.97513732318 + 732.6951197941 * t);
-            R0 += 0.00000004134 * Math.cos(2.59512563472 + 916.9322800554 * t);
-            R0 += 0.00000004905 * Math.cos(2.67946228179 + 1215.1649024473 * t);
-            R0 += 0.00000004340 * Math.cos(1.51432586300 + 1894.4190646765 * t);
-            R0 += 0.00000003490 * Math.cos(0.63097592112 + 529.9034134157 * t);
-            R0 += 0.00000004179 * Math.cos(4.79066440364 + 824.7421937488 * t);
-            R0 += 0.00000004126 * Math.cos(3.63856052239 + 810.6581120991 * t);
-            R0 += 0.00000003701 * Math.cos(6.17676412880 + 537.7677199419 * t);
-            R0 += 0.00000004355 * Math.cos(3.13180489048 + 630.3360587584 * t);
-            R0 += 0.00000003315 * Math.cos(1.52493374102 + 547.8502123593 * t);
-            R0 += 0.00000003490 * Math.cos(3.20962050417 + 529.4785167735 * t);
-            R0 += 0.00000003555 * Math.cos(6.03691345521 + 739.0579072695 * t);
-            R0 += 0.00000004099 * Math.cos(6.00401453177 + 902.7051860538 * t);
-            R0 += 0.00000004004 * Math.cos(2.13540836634 + 210.1177017003 * t);
-            R0 += 0.00000003295 * Math.cos(2.58083202302 + 945.9942152321 * t);
-            R0 += 0.00000003270 * Math.cos(3.49304887352 + 1166.4068576709 * t);
-            R0 += 0.00000003994 * Math.cos(4.78250942681 + 850.0149880143 * t);
-            R0 += 0.00000004240 * Math.cos(0.11161358607 + 1744.8558675419 * t);
-            R0 += 0.00000004002 * Math.cos(5.20683965697 + 635.231419868 * t);
-            R0 += 0.00000003115 * Math.cos(4.61995541904 + 952.3570027075 * t);
-            R0 += 0.00000003003 * Math.cos(0.92689294845 + 3899.7952100978 * t);
-            R0 += 0.00000003241 * Math.cos(6.13636496944 + 10.2949407385 * t);
-            R0 += 0.00000003219 * Math.cos(1.83595567094 + 18.1592472647 * t);
-            R0 += 0.00000002983 * Math.cos(2.60087913786 + 632.831923423 * t);
-            R0 += 0.00000002967 * Math.cos(5.69894599757 + 632.7355552034 * t);
-            R0 += 0.00000003168 * Math.cos(6.13783090971 + 1158.5425511447 * t);
-            R0 += 0.00000003226 * Math.cos(5.59957707360 + 608.404716925 * t);
-            R0 += 0.00000003122 * Math.cos(5.65071502170 + 99.1606209555 * t);
-            R0 += 0.00000003761 * Math.cos(2.09239982789 + 282.4516197128 * t);
-            R0 += 0.00000003356 * Math.cos(1.79147113193 + 521.6142102473 * t);
-            R0 += 0.00000002838 * Math.cos(4.60179563689 + 245.5424243524 * t);
-            R0 += 0.00000002715 * Math.cos(2.03270124891 + 1514.2912967165 * t);
-            R0 += 0.00000002643 * Math.cos(3.69017270026 + 885.4397106664 * t);
-            R0 += 0.00000003057 * Math.cos(6.02461785861 + 633.7469471597 * t);
-            R0 += 0.00000003048 * Math.cos(2.29027670842 + 631.8205314667 * t);
-            R0 += 0.00000002782 * Math.cos(3.18187038682 + 295.0512286542 * t);
-            R0 += 0.00000003015 * Math.cos(1.28347490089 + 1023.9572075371 * t);
-            R0 += 0.00000002632 * Math.cos(0.54069640678 + 195.1398481733 * t);
-            R0 += 0.00000002559 * Math.cos(0.17635133075 + 35.4247226521 * t);
-            R0 += 0.00000002714 * Math.cos(3.28872509961 + 2413.8150890326 * t);
-            R0 += 0.00000003249 * Math.cos(2.40881833627 + 836.5216071956 * t);
-            R0 += 0.00000002451 * Math.cos(5.58559481110 + 544.6688186216 * t);
-            R0 += 0.00000002535 * Math.cos(1.44414086617 + 460.5384408198 * t);
-            R0 += 0.00000002441 * Math.cos(0.23204756934 + 465.9550667912 * t);
-            R0 += 0.00000002410 * Math.cos(4.36768640011 + 1056.9342496344 * t);
-            R0 += 0.00000002452 * Math.cos(4.53818807914 + 514.7131115676 * t);
-            R0 += 0.00000003237 * Math.cos(1.17006919872 + 177.8743727859 * t);
-            R0 += 0.00000002333 * Math.cos(2.13962165652 + 319.5732633943 * t);
-            R0 += 0.00000003217 * Math.cos(0.60541914081 + 1061.829610744 * t);
-            R0 += 0.00000002398 * Math.cos(0.64110233160 + 523.5406259403 * t);
-            R0 += 0.00000002638 * Math.cos(3.81178618526 + 3171.0322435668 * t);
-            R0 += 0.00000002791 * Math.cos(2.71505085086 + 610.6923387854 * t);
-            R0 += 0.00000002729 * Math.cos(1.77752023407 + 252.6559713532 * t);
-            R0 += 0.00000002681 * Math.cos(0.09370791758 + 565.1156877467 * t);
-            R0 += 0.00000002209 * Math.cos(0.54839208938 + 2228.9701815978 * t);
-            R0 += 0.00000002312 * Math.cos(2.07210502831 + 3686.4961146598 * t);
-            R0 += 0.00000002683 * Math.cos(4.94305916877 + 1593.0050485469 * t);
-            R0 += 0.00000002526 * Math.cos(1.07528597373 + 12036.4607348882 * t);
-            R0 += 0.00000002268 * Math.cos(0.36783878457 + 1969.2006632438 * t);
-            R0 += 0.00000002688 * Math.cos(1.51547910962 + 447.7958195265 * t);
-            R0 += 0.00000002235 * Math.cos(5.95475282699 + 6151.533888305 * t);
-            R0 += 0.00000002710 * Math.cos(4.64908513849 + 462.0229135281 * t);
-            R0 += 0.00000002334 * Math.cos(4.47618012518 + 209.3669421749 * t);
-            R0 += 0.00000002175 * Math.cos(4.53588570240 + 501.3797894433 * t);
-            R0 += 0.00000002335 * Math.cos(5.92743690508 + 611.4430983108 * t);
-            R0 += 0.00000002384 * Math.cos(2.81746623044 + 3340.6124266998 * t);
-            R0 += 0.00000002075 * Math.cos(3.13164231864 + 1049.0869894507 * t);
-            R0 += 0.00000002789 * Math.cos(1.27687797437 + 1041.2226829245 * t);
-            R0 += 0.00000002024 * Math.cos(1.80008813939 + 2943.5060541272 * t);
-            R0 += 0.00000002039 * Math.cos(4.67544543631 + 679.2541622292 * t);
-            R0 += 0.00000002748 * Math.cos(1.97292590154 + 415.2918581812 * t);
-            R0 += 0.00000001993 * Math.cos(2.02503599030 + 1058.8606653274 * t);
-            R0 += 0.00000002293 * Math.cos(2.99171378261 + 69.1525242748 * t);
-            R0 += 0.00000002083 * Math.cos(1.11198641001 + 4010.0015313172 * t);
-            R0 += 0.00000002018 * Math.cos(0.04630518303 + 4113.0943055358 * t);
-            R0 += 0.00000001930 * Math.cos(3.34507193410 + 421.93232443 * t);
-            R0 += 0.00000002153 * Math.cos(2.17059512290 + 1269.4996318895 * t);
-            R0 += 0.00000001928 * Math.cos(1.15367163096 + 1060.3451380357 * t);
-            R0 += 0.00000002336 * Math.cos(1.96332360970 + 1279.794572628 * t);
-            R0 += 0.00000002201 * Math.cos(2.94451315794 + 429.0458714308 * t);
-            R0 += 0.00000001939 * Math.cos(3.22015613937 + 3590.516887442 * t);
-            R0 += 0.00000001843 * Math.cos(5.23293157757 + 14.977853527 * t);
-            R0 += 0.00000001930 * Math.cos(5.46749050005 + 2281.2304965106 * t);
-            R0 += 0.00000002171 * Math.cos(2.83736293048 + 292.0128472684 * t);
-            R0 += 0.00000002125 * Math.cos(0.06224847813 + 24.3790223882 * t);
-            R0 += 0.00000001938 * Math.cos(3.79909584528 + 1059.430114299 * t);
-            R0 += 0.00000002157 * Math.cos(3.89303145878 + 451.9404211107 * t);
-            R0 += 0.00000002029 * Math.cos(3.95461045826 + 771.3012361839 * t);
-            R0 += 0.00000001784 * Math.cos(1.49468287576 + 529.9515975255 * t);
-            R0 += 0.00000001815 * Math.cos(4.78077969800 + 78.7137518304 * t);
-            R0 += 0.00000001748 * Math.cos(3.48730020953 + 522.6256022036 * t);
-            R0 += 0.00000001759 * Math.cos(0.41344084540 + 754.0357607965 * t);
-            R0 += 0.00000001816 * Math.cos(1.24334711210 + 417.0369633204 * t);
-            R0 += 0.00000001942 * Math.cos(1.95782403724 + 934.9485149682 * t);
-            R0 += 0.00000001809 * Math.cos(3.51500010497 + 1354.4331588434 * t);
-            R0 += 0.00000001766 * Math.cos(5.76140570543 + 623.2225117576 * t);
-            R0 += 0.00000002346 * Math.cos(5.38154028450 + 1261.6353253633 * t);
-            R0 += 0.00000002158 * Math.cos(3.45672748590 + 827.9235874865 * t);
-            R0 += 0.00000001690 * Math.cos(2.68085848682 + 642.3449668688 * t);
-            R0 += 0.00000001973 * Math.cos(1.04545877724 + 33.9402499438 * t);
-            R0 += 0.00000001751 * Math.cos(3.13572498964 + 384.0599212231 * t);
-            R0 += 0.00000001800 * Math.cos(5.45980392229 + 1201.831580323 * t);
-            R0 += 0.00000001682 * Math.cos(6.10616525578 + 432.0148168474 * t);
-            R0 += 0.00000001936 * Math.cos(3.00893936737 + 567.8240007324 * t);
-            R0 += 0.00000002058 * Math.cos(3.08341203251 + 535.8413042489 * t);
-            R0 += 0.00000001782 * Math.cos(5.03100165106 + 1098.7388061044 * t);
-            R0 += 0.00000001826 * Math.cos(2.13081844602 + 99.9113804809 * t);
-            R0 += 0.00000002075 * Math.cos(3.18662095186 + 1366.2125722902 * t);
-            R0 += 0.00000002274 * Math.cos(5.17947578060 + 3178.1457905676 * t);
-            R0 += 0.00000001706 * Math.cos(3.09150223641 + 1251.3403846248 * t);
-            R0 += 0.00000002242 * Math.cos(1.74102512909 + 1151.4290041439 * t);
-            R0 += 0.00000001613 * Math.cos(3.16800255751 + 67.6680515665 * t);
-            R0 += 0.00000001715 * Math.cos(5.04087524117 + 586.3133163972 * t);
-            R0 += 0.00000001609 * Math.cos(5.65561775211 + 1165.6560981455 * t);
-            R0 += 0.00000001680 * Math.cos(3.07291090659 + 1134.1635287565 * t);
-            R0 += 0.00000001994 * Math.cos(2.52023134686 + 1059.903195051 * t);
-            R0 += 0.00000002154 * Math.cos(6.16996906006 + 563.6312150384 * t);
-            R0 += 0.00000001703 * Math.cos(0.99422663808 + 1254.5217783625 * t);
-            R0 += 0.00000001748 * Math.cos(3.47238840628 + 1058.4187223427 * t);
-            R0 += 0.00000001865 * Math.cos(1.62280773417 + 5.4166259714 * t);
-            R0 += 0.00000001886 * Math.cos(5.58469840330 + 32.2433289144 * t);
-            R0 += 0.00000001559 * Math.cos(0.38338275068 + 313.2104759189 * t);
-            R0 += 0.00000001673 * Math.cos(4.16553276624 + 106.2741679563 * t);
-            R0 += 0.00000001624 * Math.cos(3.47283697724 + 1159.2933106701 * t);
-            R0 += 0.00000001552 * Math.cos(3.04262360186 + 385.5443939314 * t);
-            R0 += 0.00000001728 * Math.cos(2.12791034661 + 306.830642101 * t);
-            R0 += 0.00000001495 * Math.cos(1.43630114874 + 2840.4132799086 * t);
-            R0 += 0.00000001511 * Math.cos(4.44377608685 + 395.105621487 * t);
-            R0 += 0.00000001958 * Math.cos(0.05215107058 + 761.7400086283 * t);
-            R0 += 0.00000001755 * Math.cos(1.27198192898 + 1173.5204046717 * t);
-            R0 += 0.00000001548 * Math.cos(0.44749208924 + 4216.1870797544 * t);
-            R0 += 0.00000001493 * Math.cos(2.79720044893 + 277.0349937414 * t);
-            R0 += 0.00000001636 * Math.cos(0.26199351490 + 522.529233984 * t);
-            R0 += 0.00000001569 * Math.cos(2.55719070621 + 4.192785694 * t);
-            R0 += 0.00000001466 * Math.cos(2.24427810064 + 1550.939859646 * t);
-            R0 += 0.00000001858 * Math.cos(3.79797229590 + 420.9691165835 * t);
-            R0 += 0.00000001915 * Math.cos(4.75826139824 + 3067.9394693482 * t);
-            R0 += 0.00000001684 * Math.cos(2.42057577614 + 203.0041546995 * t);
-            R0 += 0.00000001784 * Math.cos(2.34591354953 + 529.4303326637 * t);
-            R0 += 0.00000001938 * Math.cos(0.60127744372 + 1059.3337460794 * t);
-            R0 += 0.00000001804 * Math.cos(5.16348161105 + 1578.0271950199 * t);
-            R0 += 0.00000001371 * Math.cos(3.54043412257 + 5.6290742925 * t);
-            R0 += 0.00000001362 * Math.cos(6.04117291776 + 0.9632078465 * t);
-            R0 += 0.00000001361 * Math.cos(0.45533257707 + 418.5214360287 * t);
-            R0 += 0.00000001494 * Math.cos(5.65499635123 + 373.0142209592 * t);
-            R0 += 0.00000001840 * Math.cos(4.24679354047 + 981.6313862053 * t);
-            R0 += 0.00000001567 * Math.cos(3.32429870195 + 532.3992780803 * t);
-            R0 += 0.00000001405 * Math.cos(1.78978994642 + 4002.8879843164 * t);
-            R0 += 0.00000001340 * Math.cos(1.94668282270 + 528.4189407074 * t);
-            R0 += 0.00000001745 * Math.cos(5.76913240451 + 490.0734567485 * t);
-            R0 += 0.00000001472 * Math.cos(2.98912826857 + 2730.2069586892 * t);
-            R0 += 0.00000001437 * Math.cos(4.19470227783 + 420.4478517217 * t);
-            R0 += 0.00000001303 * Math.cos(0.66473988441 + 173.9422195228 * t);
-            R0 += 0.00000001578 * Math.cos(3.90273683089 + 602.9880909536 * t);
-            R0 += 0.00000001335 * Math.cos(5.58590962636 + 1276.6131788903 * t);
-            R0 += 0.00000001385 * Math.cos(3.88479835656 + 419.4364597654 * t);
-            R0 += 0.00000001663 * Math.cos(3.94564005698 + 2274.5468326365 * t);
-            R0 += 0.00000001351 * Math.cos(0.81710478493 + 1585.1407420207 * t);
-            R0 += 0.00000001491 * Math.cos(1.66541765776 + 2655.5683724738 * t);
-            R0 += 0.00000001353 * Math.cos(0.74889817664 + 632.2624744514 * t);
-            R0 += 0.00000001331 * Math.cos(2.44677888034 + 561.1835344836 * t);
-            R0 += 0.00000001291 * Math.cos(0.78974363945 + 1603.2999892854 * t);
-            R0 += 0.00000001659 * Math.cos(5.59776019266 + 362.8622925726 * t);
-            R0 += 0.00000001513 * Math.cos(4.29754579983 + 303.8616966844 * t);
-            R0 += 0.00000001227 * Math.cos(4.41715278426 + 531.387886124 * t);
-            R0 += 0.00000001213 * Math.cos(4.55260634893 + 366.7944458357 * t);
-            R0 += 0.00000001521 * Math.cos(0.55776043586 + 1592.2542890215 * t);
-            R0 += 0.00000001220 * Math.cos(3.63029788040 + 497.4476361802 * t);
-            R0 += 0.00000001333 * Math.cos(1.24847548771 + 633.305004175 * t);
-            R0 += 0.00000001540 * Math.cos(5.74134360983 + 320.3240229197 * t);
-            R0 += 0.00000001212 * Math.cos(3.38335836048 + 536.8526962052 * t);
-            R0 += 0.00000001245 * Math.cos(4.21639502753 + 4.665866446 * t);
-            R0 += 0.00000001358 * Math.cos(3.42385026423 + 539.2521926502 * t);
-            R0 += 0.00000001482 * Math.cos(3.06076740133 + 1585.8915015461 * t);
-            R0 += 0.00000001552 * Math.cos(0.48480014971 + 493.0424021651 * t);
-            R0 += 0.00000001462 * Math.cos(2.30628702663 + 1363.2436268736 * t);
-            R0 += 0.00000001180 * Math.cos(3.52707625131 + 1064.7985561606 * t);
-            R0 += 0.00000001406 * Math.cos(1.53810768058 + 1020.025054274 * t);
-            R0 += 0.00000001415 * Math.cos(2.27798301933 + 758.7710632117 * t);
-            R0 += 0.00000001336 * Math.cos(1.89387272380 + 530.9629894818 * t);
-            R0 += 0.00000001485 * Math.cos(3.55629043627 + 774.0095491696 * t);
-            R0 += 0.00000001247 * Math.cos(5.64344659992 + 479.2883889155 * t);
-            R0 += 0.00000001106 * Math.cos(0.89453807282 + 2.9207613068 * t);
-            R0 += 0.00000001227 * Math.cos(2.76228281324 + 299.1263942692 * t);
-            R0 += 0.00000001086 * Math.cos(5.66285953861 + 1053.7528558967 * t);
-            R0 += 0.00000001091 * Math.cos(2.82244505598 + 1262.3860848887 * t);
-            R0 += 0.00000001168 * Math.cos(3.65910636679 + 3487.4241132234 * t);
-            R0 += 0.00000001329 * Math.cos(0.16664094530 + 536.7563279856 * t);
-            R0 += 0.00000001124 * Math.cos(5.88442602775 + 1060.8664028975 * t);
-            R0 += 0.00000001082 * Math.cos(4.51407359350 + 528.2546764961 * t);
-            R0 += 0.00000001105 * Math.cos(1.93890691771 + 244.318584075 * t);
-            R0 += 0.00000001059 * Math.cos(1.55367109732 + 536.2832472336 * t);
-            R0 += 0.00000001317 * Math.cos(4.06940092395 + 799.6124118352 * t);
-            R0 += 0.00000001260 * Math.cos(5.75630215326 + 527.9940440652 * t);
-            R0 += 0.00000001447 * Math.cos(0.65113178433 + 1091.6252591036 * t);
-            R0 += 0.00000001413 * Math.cos(4.71923061422 + 1141.1340634054 * t);
-            R0 += 0.00000001082 * Math.cos(5.60975006771 + 531.1272536931 * t);
-            R0 += 0.00000001148 * Math.cos(3.27410230494 + 1035.002907801 * t);
-            R0 += 0.00000001048 * Math.cos(4.64334530342 + 124.433415221 * t);
-            R0 += 0.00000001072 * Math.cos(0.48068438534 + 1058.6311706638 * t);
-            R0 += 0.00000001045 * Math.cos(4.66144812532 + 521.8266585684 * t);
-            R0 += 0.00000001036 * Math.cos(1.68979485122 + 1070.4276304531 * t);
-            R0 += 0.00000001052 * Math.cos(4.72763208314 + 913.7508863177 * t);
-            R0 += 0.00000001166 * Math.cos(4.97934379883 + 450.9772132642 * t);
-            R0 += 0.00000001099 * Math.cos(3.13173940863 + 1482.7987273275 * t);
-            R0 += 0.00000001372 * Math.cos(4.87583487947 + 842.9014410135 * t);
-            R0 += 0.00000001037 * Math.cos(2.95852835709 + 3906.9087570986 * t);
-            R0 += 0.00000001154 * Math.cos(3.71720602716 + 81.7521332162 * t);
-            R0 += 0.00000001013 * Math.cos(0.92736137443 + 429.7795846137 * t);
-            R0 += 0.00000001085 * Math.cos(3.19275725911 + 151.0476698429 * t);
-            R0 += 0.00000001030 * Math.cos(0.01725208757 + 391.1734682239 * t);
-            R0 += 0.00000001282 * Math.cos(4.75859233981 + 600.5404103988 * t);
-            R0 += 0.00000000972 * Math.cos(0.96985712709 + 2332.0629558164 * t);
-            R0 += 0.00000001047 * Math.cos(0.99077301795 + 337.732510659 * t);
-            R0 += 0.00000000980 * Math.cos(3.28594540964 + 1379.7059531089 * t);
-            R0 += 0.00000000966 * Math.cos(1.62396322160 + 3259.8979237838 * t);
-            R0 += 0.00000001125 * Math.cos(2.23732263924 + 523.0986829556 * t);
-            R0 += 0.00000000937 * Math.cos(0.90005698525 + 576.1613880106 * t);
-            R0 += 0.00000001044 * Math.cos(3.52819283674 + 530.5847369719 * t);
-            R0 += 0.00000001129 * Math.cos(4.87187369639 + 874.3940104025 * t);
-            R0 += 0.00000001244 * Math.cos(0.80634178279 + 419.532827985 * t);
-            R0 += 0.00000000924 * Math.cos(2.35629391980 + 1912.5783119412 * t);
-            R0 += 0.00000001087 * Math.cos(3.21065829760 + 6681.2248533996 * t);
-            R0 += 0.00000000920 * Math.cos(3.01896006307 + 1372.5924061081 * t);
-            R0 += 0.00000000914 * Math.cos(4.34560268499 + 1127.0499817557 * t);
-            R0 += 0.00000000931 * Math.cos(5.56146061492 + 537.5552716208 * t);
-            R0 += 0.00000000912 * Math.cos(2.25878214021 + 1467.8208738005 * t);
-            R0 += 0.00000001202 * Math.cos(1.77363593153 + 5120.6011455836 * t);
-            R0 += 0.00000001025 * Math.cos(6.08315999637 + 469.8872200543 * t);
-            R0 += 0.00000000887 * Math.cos(5.53922649066 + 498.6714764576 * t);
-            R0 += 0.00000000888 * Math.cos(3.38270405256 + 812.1425848074 * t);
-            R0 += 0.00000001027 * Math.cos(1.64373259126 + 1493.093668066 * t);
-            R0 += 0.00000001153 * Math.cos(5.20213407672 + 554.0699874828 * t);
-            R0 += 0.00000001044 * Math.cos(0.31244551729 + 528.7971932173 * t);
-            R0 += 0.00000001197 * Math.cos(3.12884590029 + 1966.2317178272 * t);
-            R0 += 0.00000000970 * Math.cos(2.29596237496 + 100.6450936638 * t);
-            R0 += 0.00000000930 * Math.cos(2.88178471502 + 1056.4611688824 * t);
-            R0 += 0.00000001052 * Math.cos(1.69484089706 + 484.444382456 * t);
-            R0 += 0.00000000847 * Math.cos(3.25831322794 + 1063.5747158832 * t);
-            R0 += 0.00000001137 * Math.cos(4.02029739425 + 1670.0742689746 * t);
-            R0 += 0.00000000864 * Math.cos(2.69234571372 + 31.019488637 * t);
-            R0 += 0.00000000906 * Math.cos(6.05494155026 + 446.3113468182 * t);
-            R0 += 0.00000000860 * Math.cos(4.78175008217 + 530.914805372 * t);
-            R0 += 0.00000000939 * Math.cos(3.51238251326 + 523.4711899711 * t);
-            R0 += 0.00000000860 * Math.cos(5.34207357904 + 528.4671248172 * t);
-            R0 += 0.00000000876 * Math.cos(0.87683423308 + 4326.3934009738 * t);
-            R0 += 0.00000000819 * Math.cos(3.57201959303 + 451.7279727896 * t);
-            R0 += 0.00000000824 * Math.cos(0.66291575747 + 20426.571092422 * t);
-            R0 += 0.00000000849 * Math.cos(3.23256854293 + 1670.82502850 * t);
-            R0 += 0.00000000820 * Math.cos(5.73661004927 + 594.6507036754 * t);
-            R0 += 0.00000001116 * Math.cos(1.22881167024 + 1489.9122743283 * t);
-            R0 += 0.00000000868 * Math.cos(0.80016386644 + 2042.4977891028 * t);
-            R0 += 0.00000000880 * Math.cos(4.22241993782 + 1884.124123938 * t);
-            R0 += 0.00000000835 * Math.cos(5.37311812708 + 5621.8429232104 * t);
-            R0 += 0.00000000974 * Math.cos(3.67667471757 + 25565.3257234804 * t);
-            R0 += 0.00000000788 * Math.cos(0.51622458293 + 526.9826521089 * t);
-            R0 += 0.00000000895 * Math.cos(2.77465005384 + 3046.5988283458 * t);
-            R0 += 0.00000000849 * Math.cos(4.31414424046 + 806.725958836 * t);
-            R0 += 0.00000000925 * Math.cos(0.55478184950 + 627.3671133418 * t);
-            R0 += 0.00000000920 * Math.cos(6.26573335293 + 700.4517908797 * t);
-            R0 += 0.00000000892 * Math.cos(2.67011158629 + 946.727928415 * t);
-            R0 += 0.00000000846 * Math.cos(5.90640854756 + 1087.6931058405 * t);
-            R0 += 0.00000000948 * Math.cos(0.77931728039 + 25551.09862947879 * t);
-            R0 += 0.00000000844 * Math.cos(0.00976249584 + 628.5909536192 * t);
-            R0 += 0.00000000760 * Math.cos(1.12121829396 + 683.1863154923 * t);
-            R0 += 0.00000000820 * Math.cos(1.58880252302 + 1025.4416802454 * t);
-            R0 += 0.00000000781 * Math.cos(1.86416466337 + 629.8629780064 * t);
-            R0 += 0.00000000967 * Math.cos(3.20618313117 + 9050.8108418032 * t);
-            R0 += 0.00000000805 * Math.cos(0.08389717815 + 4532.578949411 * t);
-            R0 += 0.00000000919 * Math.cos(5.60009343497 + 498.1983957056 * t);
-            R0 += 0.00000000738 * Math.cos(2.64976372130 + 1012.9115072732 * t);
-            R0 += 0.00000000738 * Math.cos(5.90389531154 + 701.936263588 * t);
-            R0 += 0.00000000741 * Math.cos(3.06795481071 + 5481.7545583808 * t);
-            R0 += 0.00000000725 * Math.cos(2.81220410314 + 3597.6304344428 * t);
-            R0 += 0.00000000878 * Math.cos(1.02427130092 + 5760.4984318976 * t);
-            R0 += 0.00000000721 * Math.cos(5.29574036514 + 1304.9243545416 * t);
-            R0 += 0.00000000994 * Math.cos(5.16391370100 + 10316.3783204296 * t);
-            R0 += 0.00000000890 * Math.cos(4.10819809661 + 1060.1326897146 * t);
-            R0 += 0.00000000830 * Math.cos(0.30961042231 + 1123.1178284926 * t);
-            R0 += 0.00000000962 * Math.cos(1.48376004518 + 1062.302691496 * t);
-            R0 += 0.00000000823 * Math.cos(3.22228477513 + 121.2520214833 * t);
-            R0 += 0.00000000916 * Math.cos(6.02908368648 + 7.8643065262 * t);
-            R0 += 0.00000000725 * Math.cos(2.18809065860 + 1176.7017984094 * t);
-            R0 += 0.00000000861 * Math.cos(4.41932623043 + 5746.271337896 * t);
-            R0 += 0.00000000854 * Math.cos(5.47701506544 + 2818.035008606 * t);
-            R0 += 0.00000000709 * Math.cos(1.09852456494 + 248.7238180901 * t);
-            R0 += 0.00000000856 * Math.cos(2.58042139486 + 2803.8079146044 * t);
-            R0 += 0.00000000734 * Math.cos(0.11633686168 + 635.70450062 * t);
-            R0 += 0.00000000727 * Math.cos(1.56150632966 + 4319.279853973 * t);
-            R0 += 0.00000000687 * Math.cos(2.65370734689 + 1567.7322542814 * t);
-            R0 += 0.00000000938 * Math.cos(0.34938672944 + 1140.38330388 * t);
-            R0 += 0.00000000832 * Math.cos(5.14362006475 + 1054.7160637432 * t);
-            R0 += 0.00000000665 * Math.cos(1.87621123047 + 103.1409583284 * t);
-            R0 += 0.00000000805 * Math.cos(2.65683001547 + 63.7358983034 * t);
-            R0 += 0.00000000846 * Math.cos(1.47557828604 + 898.7730327907 * t);
-            R0 += 0.00000000863 * Math.cos(3.98700238575 + 686.958410061 * t);
-            R0 += 0.00000000806 * Math.cos(4.64475158248 + 533.8355666788 * t);
-            R0 += 0.00000000860 * Math.cos(1.45053114983 + 2199.7652340692 * t);
-            R0 += 0.00000000688 * Math.cos(5.69334026950 + 525.5463635104 * t);
-            R0 += 0.00000000859 * Math.cos(5.32386044216 + 1542.6024723678 * t);
-            R0 += 0.00000000668 * Math.cos(4.93815253692 + 5172.476235725 * t);
-            R0 += 0.00000000818 * Math.cos(1.41973280302 + 580.0935412737 * t);
-            R0 += 0.00000000690 * Math.cos(0.80287056032 + 977.4867846211 * t);
-            R0 += 0.00000000638 * Math.cos(4.21760246790 + 1064.0477966352 * t);
-            R0 += 0.00000000878 * Math.cos(2.58779583091 + 782.3469364478 * t);
-            R0 += 0.00000000811 * Math.cos(1.30406622470 + 1055.1891444952 * t);
-            R0 += 0.00000000637 * Math.cos(6.13121700151 + 4752.9915918498 * t);
-            R0 += 0.00000000821 * Math.cos(3.89981918280 + 986.0848043302 * t);
-            R0 += 0.00000000642 * Math.cos(1.86734510583 + 1053.9653042178 * t);
-            R0 += 0.00000000781 * Math.cos(1.18377747884 + 987.3086446076 * t);
-            R0 += 0.00000000804 * Math.cos(1.90939160700 + 707.5653378805 * t);
-            R0 += 0.00000000686 * Math.cos(0.27079898498 + 11.7794134468 * t);
-            R0 += 0.00000000634 * Math.cos(3.43769853475 + 650.9429865779 * t);
-            R0 += 0.00000000639 * Math.cos(1.86699974431 + 6172.869528772 * t);
-            R0 += 0.00000000620 * Math.cos(2.55561598450 + 1049.8207026336 * t);
-            R0 += 0.00000000697 * Math.cos(4.18082589322 + 1.6969210294 * t);
-            R0 += 0.00000000686 * Math.cos(2.51807576494 + 638.4128136057 * t);
-            R0 += 0.00000000849 * Math.cos(5.56317630404 + 4429.4861751924 * t);
-            R0 += 0.00000000614 * Math.cos(6.19071579609 + 738.3241940866 * t);
-            R0 += 0.00000000642 * Math.cos(1.70942182986 + 5230.807466803 * t);
-            R0 += 0.00000000748 * Math.cos(3.63387486593 + 73.297125859 * t);
-            R0 += 0.00000000615 * Math.cos(5.38518078437 + 835.7878940127 * t);
-            R0 += 0.00000000601 * Math.cos(0.90129977643 + 711.4974911436 * t);
-            R0 += 0.00000000604 * Math.cos(5.44066125511 + 632.0329797878 * t);
-            R0 += 0.00000000597 * Math.cos(3.03921014345 + 6.9534883064 * t);
-            R0 += 0.00000000767 * Math.cos(4.49491439876 + 1457.525933062 * t);
-            R0 += 0.00000000778 * Math.cos(3.08728745329 + 441.576044403 * t);
-            R0 += 0.00000000594 * Math.cos(2.87175682597 + 633.5344988386 * t);
-            R0 += 0.00000000588 * Math.cos(0.08236113246 + 4164.311989613 * t);
-            R0 += 0.00000000599 * Math.cos(4.13850666612 + 733.428832977 * t);
-            R0 += 0.00000000692 * Math.cos(6.10931942233 + 12.7426212933 * t);
-            R0 += 0.00000000597 * Math.cos(6.13204711801 + 7.2736056952 * t);
-            R0 += 0.00000000787 * Math.cos(1.98195319336 + 860.3099287528 * t);
-            R0 += 0.00000000774 * Math.cos(4.82089328660 + 951.6232895246 * t);
-            R0 += 0.00000000589 * Math.cos(0.30558911648 + 153.4953503977 * t);
-            R0 += 0.00000000577 * Math.cos(3.84676656235 + 767.3690829208 * t);
-            R0 += 0.00000000575 * Math.cos(4.50676079721 + 1230.1427559743 * t);
-            R0 += 0.00000000725 * Math.cos(2.73069387932 + 6.1503391543 * t);
-            R0 += 0.00000000561 * Math.cos(3.87565914360 + 135.336103133 * t);
-            R0 += 0.00000000558 * Math.cos(3.36094471852 + 24498.8302462904 * t);
-            R0 += 0.00000000641 * Math.cos(4.90173124861 + 991.7138786227 * t);
-            R0 += 0.00000000557 * Math.cos(3.45629457197 + 19896.8801273274 * t);
-            R0 += 0.00000000558 * Math.cos(1.17103892689 + 3576.2897934404 * t);
-            R0 += 0.00000000637 * Math.cos(6.08896653583 + 46.470422916 * t);
-            R0 += 0.00000000631 * Math.cos(5.65855415701 + 661.0949149645 * t);
-            R0 += 0.00000000628 * Math.cos(2.32902331778 + 501.2367770914 * t);
-            R0 += 0.00000000560 * Math.cos(3.57141429379 + 5333.9002410216 * t);
-            R0 += 0.00000000548 * Math.cos(3.03388113862 + 7.1617311106 * t);
-            R0 += 0.00000000698 * Math.cos(2.05421230760 + 3156.8051495652 * t);
-            R0 += 0.00000000748 * Math.cos(0.29223355288 + 313.9441891018 * t);
-            R0 += 0.00000000744 * Math.cos(2.33083237537 + 620.253566341 * t);
-            R0 += 0.00000000586 * Math.cos(5.68889329019 + 1587.5884225755 * t);
-            R0 += 0.00000000584 * Math.cos(6.10336975118 + 7.065362891 * t);
-            R0 += 0.00000000615 * Math.cos(4.72920786161 + 3384.3313390048 * t);
-            R0 += 0.00000000537 * Math.cos(1.52803865425 + 8094.5216858326 * t);
-            R0 += 0.00000000595 * Math.cos(1.89655724176 + 113.3877149571 * t);
-            R0 += 0.00000000542 * Math.cos(3.28894870834 + 10103.0792249916 * t);
-            R0 += 0.00000000544 * Math.cos(0.69476773349 + 4642.7852706304 * t);
-            R0 += 0.00000000564 * Math.cos(0.72677136462 + 1059.2218714948 * t);
-            R0 += 0.00000000546 * Math.cos(0.45425690852 + 4694.0029547076 * t);
-            R0 += 0.00000000585 * Math.cos(2.82650088707 + 344.7030453079 * t);
-            R0 += 0.00000000528 * Math.cos(2.32101188937 + 949.2237930796 * t);
-            R0 += 0.00000000530 * Math.cos(4.99510636441 + 9264.1099372412 * t);
-            R0 += 0.00000000567 * Math.cos(5.13926871155 + 288.0806940053 * t);
-            R0 += 0.00000000527 * Math.cos(5.40641191628 + 949.12742486 * t);
-            R0 += 0.00000000531 * Math.cos(0.16792029802 + 1080.7225711916 * t);
-            R0 += 0.00000000535 * Math.cos(1.42855602314 + 9.5612275556 * t);
-            R0 += 0.00000000688 * Math.cos(0.46353180630 + 842.1506814881 * t);
-            R0 += 0.00000000697 * Math.cos(4.99042365686 + 12.5301729722 * t);
-            R0 += 0.00000000553 * Math.cos(5.23792586314 + 528.0464336919 * t);
-            R0 += 0.00000000504 * Math.cos(2.58550284000 + 5378.6617841622 * t);
-            R0 += 0.00000000519 * Math.cos(3.10157097770 + 9161.0171630226 * t);
-            R0 += 0.00000000619 * Math.cos(3.71554817226 + 2090.3096723752 * t);
-            R0 += 0.00000000621 * Math.cos(3.98893673383 + 409.9234163196 * t);
-            R0 += 0.00000000544 * Math.cos(1.05857942311 + 1438.0252254409 * t);
-            R0 += 0.00000000541 * Math.cos(3.07978704943 + 1446.62324515 * t);
-            R0 += 0.00000000488 * Math.cos(5.26894402637 + 1751.539531416 * t);
-            R0 += 0.00000000639 * Math.cos(2.98874052475 + 2349.3284312038 * t);
-            R0 += 0.00000000684 * Math.cos(2.97458993261 + 298.2326223919 * t);
-            R0 += 0.00000000555 * Math.cos(3.57205235856 + 1144.3154571431 * t);
-            R0 += 0.00000000482 * Math.cos(1.84410406707 + 1077.5411774539 * t);
-            R0 += 0.00000000493 * Math.cos(2.66756696257 + 849.2642284889 * t);
-            R0 += 0.00000000553 * Math.cos(5.31312350142 + 531.3354964973 * t);
-            R0 += 0.00000000612 * Math.cos(1.26746376254 + 878.3261636656 * t);
-            R0 += 0.00000000581 * Math.cos(5.77185453327 + 745.4377410874 * t);
-            R0 += 0.00000000537 * Math.cos(3.67807254097 + 605.9570363702 * t);
-            R0 += 0.00000000476 * Math.cos(3.28733354824 + 734.9133056853 * t);
-            R0 += 0.00000000493 * Math.cos(3.73487080434 + 131.4039498699 * t);
-            R0 += 0.00000000493 * Math.cos(1.24342391046 + 11506.7697697936 * t);
-            R0 += 0.00000000613 * Math.cos(3.84144928692 + 1065.0110044817 * t);
-            R0 += 0.00000000579 * Math.cos(0.02333971761 + 1069.6768709277 * t);
-            R0 += 0.00000000653 * Math.cos(2.40326963363 + 657.1627617014 * t);
-            R0 += 0.00000000509 * Math.cos(0.70662672351 + 1570.9136480191 * t);
-            R0 += 0.00000000564 * Math.cos(3.81960833918 + 1059.5419888836 * t);
-            R0 += 0.00000000468 * Math.cos(3.50348554992 + 4841.8572720668 * t);
-            R0 += 0.00000000621 * Math.cos(4.58816416137 + 105.5404547734 * t);
-            R0 += 0.00000000592 * Math.cos(0.99424149467 + 920.8644333185 * t);
-            R0 += 0.00000000457 * Math.cos(2.38193571955 + 990.2294059144 * t);
-            R0 += 0.00000000458 * Math.cos(5.94092303682 + 513.2286388593 * t);
-            R0 += 0.00000000462 * Math.cos(1.09795189347 + 100.1720129118 * t);
-            R0 += 0.00000000491 * Math.cos(1.28733237388 + 247.2393453818 * t);
-            R0 += 0.00000000473 * Math.cos(5.02679239007 + 103.0445901088 * t);
-            R0 += 0.00000000540 * Math.cos(0.54791737146 + 51646.11531805379 * t);
-            R0 += 0.00000000531 * Math.cos(0.30026207053 + 912.7876784712 * t);
-            R0 += 0.00000000488 * Math.cos(5.32348416682 + 1432.3961511484 * t);
-            R0 += 0.00000000449 * Math.cos(3.02583472996 + 5901.239202256 * t);
-            R0 += 0.00000000543 * Math.cos(2.98751942458 + 4223.3006267552 * t);
-            R0 += 0.00000000629 * Math.cos(2.75622390887 + 334.5511169213 * t);
-            R0 += 0.00000000481 * Math.cos(3.63292807076 + 5584.8473325994 * t);
-            R0 += 0.00000000444 * Math.cos(4.61008831817 + 546.1532913299 * t);
-            R0 += 0.00000000622 * Math.cos(2.29597570837 + 9999.986450773 * t);
-            R0 += 0.00000000588 * Math.cos(5.46780291871 + 668.2084619653 * t);
-            R0 += 0.00000000485 * Math.cos(0.74674429026 + 736.8397213783 * t);
-            R0 += 0.00000000595 * Math.cos(3.78181802412 + 6386.16862421 * t);
-            R0 += 0.00000000567 * Math.cos(0.38348819779 + 737.3609862401 * t);
-            R0 += 0.00000000474 * Math.cos(3.37296965859 + 3803.81598288 * t);
-            R0 += 0.00000000434 * Math.cos(2.64411689486 + 748.406686504 * t);
-            R0 += 0.00000000604 * Math.cos(0.87482329646 + 6069.7767545534 * t);
-            R0 += 0.00000000520 * Math.cos(2.12596982279 + 906.849787638 * t);
-            R0 += 0.00000000513 * Math.cos(5.10763567804 + 1090.4014188262 * t);
-            R0 += 0.00000000459 * Math.cos(4.06923787133 + 5216.5803728014 * t);
-            R0 += 0.00000000466 * Math.cos(2.29198238542 + 2225.7887878601 * t);
-            R0 += 0.00000000589 * Math.cos(0.74050145875 + 1291.4309737229 * t);
-            R0 += 0.00000000466 * Math.cos(2.43707405011 + 3362.9906980024 * t);
-            R0 += 0.00000000566 * Math.cos(0.59740900184 + 350.3321196004 * t);
-            R0 += 0.00000000429 * Math.cos(2.46364296538 + 3914.0223040994 * t);
-            R0 += 0.00000000474 * Math.cos(5.19232279677 + 857.1285350151 * t);
-            R0 += 0.00000000429 * Math.cos(0.59245436963 + 1065.6017053127 * t);
-            R0 += 0.00000000511 * Math.cos(2.44662587368 + 9690.7081281172 * t);
-            R0 += 0.00000000424 * Math.cos(1.67088834417 + 148.0787244263 * t);
-            R0 += 0.00000000412 * Math.cos(3.29630633921 + 7.3259953219 * t);
-            R0 += 0.00000000436 * Math.cos(1.40801830895 + 995.6460318858 * t);
-            R0 += 0.00000000429 * Math.cos(2.13901349243 + 3473.1970192218 * t);
-            R0 += 0.00000000510 * Math.cos(4.29090556636 + 2545.3620512544 * t);
-            R0 += 0.00000000501 * Math.cos(5.84167833830 + 9676.4810341156 * t);
-            R0 += 0.00000000548 * Math.cos(6.03429743373 + 9367.2027114598 * t);
-            R0 += 0.00000000433 * Math.cos(0.43309624811 + 735.828329422 * t);
-            R0 += 0.00000000433 * Math.cos(5.93397926660 + 1688.2335162393 * t);
-            R0 += 0.00000000429 * Math.cos(2.18700390627 + 1357.6145525811 * t);
-            R0 += 0.00000000439 * Math.cos(0.44871247921 + 512.4254897072 * t);
-            R0 += 0.00000000555 * Math.cos(1.00328633116 + 141.2258098564 * t);
-            R0 += 0.00000000441 * Math.cos(3.06678924251 + 1475.6851803267 * t);
-            R0 += 0.00000000544 * Math.cos(2.22925308079 + 1440.9941708575 * t);
-            R0 += 0.00000000404 * Math.cos(3.51410520211 + 1329.3033769298 * t);
-            R0 += 0.00000000412 * Math.cos(5.87495245826 + 6.9010986797 * t);
-            R0 += 0.00000000442 * Math.cos(5.37772982571 + 104.0559820651 * t);
-            R0 += 0.00000000465 * Math.cos(1.93436756934 + 6275.9623029906 * t);
-            R0 += 0.00000000401 * Math.cos(2.90426785776 + 1987.2168981566 * t);
-            R0 += 0.00000000481 * Math.cos(6.21043578332 + 683.9894646444 * t);
-            R0 += 0.00000000385 * Math.cos(0.13151986614 + 970.5162499722 * t);
-            R0 += 0.00000000383 * Math.cos(6.02073818555 + 1268.7488723641 * t);
-            R0 += 0.00000000391 * Math.cos(2.81753436573 + 5798.1464280374 * t);
-            R0 += 0.00000000395 * Math.cos(0.22367886581 + 51116.4243529592 * t);
-            R0 += 0.00000000480 * Math.cos(3.89516556182 + 967.3348562345 * t);
-            R0 += 0.00000000426 * Math.cos(3.81910977181 + 546.956440482 * t);
-            R0 += 0.00000000471 * Math.cos(6.24506463249 + 946.4672959841 * t);
-            R0 += 0.00000000379 * Math.cos(1.14527123185 + 1059.5943785103 * t);
-            R0 += 0.00000000371 * Math.cos(6.15750793727 + 509.2440959695 * t);
-            R0 += 0.00000000476 * Math.cos(4.40755251309 + 2200.5159935946 * t);
-            R0 += 0.00000000511 * Math.cos(5.53118344106 + 1128.534454464 * t);
-        }
-        return R0;
+        return new double[] {
+                5.20887429326, 0, 0,
+                0.25209327119, 3.49108639871, 529.6909650946,
+                0.00610599976, 3.84115365948, 1059.3819301892,
+                0.00282029458, 2.57419881293, 632.7837393132,
+                0.00187647346, 2.07590383214, 522.5774180938,
+                0.00086792905, 0.71001145545, 419.4846438752,
+                0.00072062974, 0.21465724607, 536.8045120954,
+                0.00065517248, 5.97995884790, 316.3918696566,
+                0.00030135335, 2.16132003734, 949.1756089698,
+                0.00029134542, 1.67759379655, 103.0927742186,
+                0.00023947298, 0.27458037480, 7.1135470008,
+                0.00023453271, 3.54023522184, 735.8765135318,
+                0.00022283743, 4.19362594399, 1589.0728952838,
+                0.00013032614, 2.96042965363, 1162.4747044078,
+                0.00012749023, 2.71550286592, 1052.2683831884,
+                0.00009703360, 1.90669633585, 206.1855484372,
+                0.00009161393, 4.41352953117, 213.299095438,
+                0.00007894511, 2.47907592482, 426.598190876,
+                0.00007057931, 2.18184839926, 1265.5674786264,
+                0.00006137703, 6.26418240033, 846.0828347512,
+                0.00005477001, 5.65729989857, 639.897286314,
+                0.00004169954, 2.01603822251, 515.463871093,
+                0.00004136822, 2.72220872400, 625.6701923124,
+                0.00003502493, 0.56532365822, 1066.49547719,
+                0.00002616976, 2.00994012876, 1581.959348283,
+                0.00002499967, 4.55181655381, 838.9692877504,
+                0.00002127681, 6.12755221002, 742.9900605326,
+                0.00001912009, 0.85621128851, 412.3710968744,
+                0.00001610567, 3.08871452594, 1368.660252845,
+                0.00001479513, 2.68021307468, 1478.8665740644,
+                0.00001230630, 1.89052048109, 323.5054166574,
+                0.00001216895, 1.80176263029, 110.2063212194,
+                0.00001014733, 1.38675822271, 454.9093665273,
+                0.00000998591, 2.87205397992, 309.2783226558,
+                0.00000961113, 4.54876995367, 2118.7638603784,
+                0.00000885764, 4.14783869943, 533.6231183577,
+                0.00000821383, 1.59351544602, 1898.3512179396,
+                0.00000811993, 5.94093410097, 909.8187330546,
+                0.00000776583, 3.67710828843, 728.762966531,
+                0.00000727156, 3.98827252563, 1155.361157407,
+                0.00000655334, 2.79072596910, 1685.0521225016,
+                0.00000654071, 3.38140746852, 1692.1656695024,
+                0.00000620818, 4.82275194351, 956.2891559706,
+                0.00000614740, 2.27633681284, 942.062061969,
+                0.00000562092, 0.08114877791, 543.9180590962,
+                0.00000542222, 0.28357235311, 525.7588118315,
+                0.00000496009, 5.53020241869, 380.12776796,
+                0.00000469974, 2.81883756859, 1795.258443721,
+                0.00000457841, 0.12720499202, 1375.7737998458,
+                0.00000445057, 0.14648640292, 14.2270940016,
+                0.00000435816, 2.60279250213, 95.9792272178,
+                0.00000345803, 1.56404960644, 491.5579294568,
+                0.00000338146, 2.79887096517, 1045.1548361876,
+                0.00000319036, 1.34818583641, 2214.7430875962,
+                0.00000309305, 5.36839401116, 1272.6810256272,
+                0.00000303364, 1.15407454389, 5753.3848848968,
+                0.00000293746, 2.04945754349, 199.0720014364,
+                0.00000291010, 6.03128127682, 1169.5882514086,
+                0.00000290917, 3.89373030829, 1471.7530270636,
+                0.00000276581, 2.52188912681, 2001.4439921582,
+                0.00000275010, 2.98827073289, 526.5095713569,
+                0.00000257472, 6.13406653083, 532.8723588323,
+                0.00000239039, 3.57396895042, 835.0371344873,
+                0.00000215435, 2.63589770012, 2111.6503133776,
+                0.00000200591, 2.37332227687, 1258.4539316256,
+                0.00000197072, 5.92862098187, 453.424893819,
+                0.00000192308, 0.91996013364, 1596.1864422846,
+                0.00000191351, 0.00008947898, 983.1158589136,
+                0.00000176442, 2.57642803889, 9683.5945811164,
+                0.00000139406, 3.63978241621, 1788.1448967202,
+                0.00000128822, 1.10499202918, 2531.1349572528,
+                0.00000128191, 4.66615733627, 831.8557407496,
+                0.00000123523, 2.26101680855, 2317.8358618148,
+                0.00000120294, 2.95204440510, 3.9321532631,
+                0.00000112538, 0.85603677104, 433.7117378768,
+                0.00000112513, 4.86217051434, 528.2064923863,
+                0.00000106425, 5.81491645745, 220.4126424388,
+                0.00000103994, 2.22277966661, 74.7815985673,
+                0.00000099327, 4.50365769161, 518.6452648307,
+                0.00000093945, 2.72470156299, 853.196381752,
+                0.00000085789, 2.11469709334, 1574.8458012822,
+                0.00000085635, 2.33825806277, 2428.0421830342,
+                0.00000081685, 3.23399956574, 1361.5467058442,
+                0.00000079631, 0.88529543139, 430.5303441391,
+                0.00000077019, 2.09814823113, 508.3503240922,
+                0.00000069854, 3.22383407236, 305.3461693927,
+                0.00000069535, 3.04092499583, 302.164775655,
+                0.00000069498, 0.20470467419, 532.1386456494,
+                0.00000068348, 3.35769613854, 2104.5367663768,
+                0.00000063628, 1.10008717069, 1364.7280995819,
+                0.00000059639, 0.95858565273, 494.2662424425,
+                0.00000058366, 5.72512642459, 628.8515860501,
+                0.00000058002, 3.45633892143, 2008.557539159,
+                0.00000057002, 2.00278403070, 2634.2277314714,
+                0.00000056672, 3.91635330750, 2221.856634597,
+                0.00000053607, 0.87404483378, 2847.5268269094,
+                0.00000053154, 1.19752849531, 760.25553592,
+                0.00000052433, 4.02508574580, 527.2432845398,
+                0.00000048851, 5.60297823445, 2810.9214616052,
+                0.00000046010, 2.54409504187, 636.7158925763,
+                0.00000044943, 4.90105773635, 2648.454825473,
+                0.00000044717, 1.62318067555, 984.6003316219,
+                0.00000044532, 4.42376920441, 1063.3140834523,
+                0.00000043876, 1.24634677337, 621.7380390493,
+                0.00000042886, 0.03097825861, 1439.5096981492,
+                0.00000041535, 0.32174379070, 529.6427809848,
+                0.00000041530, 3.51955496522, 529.7391492044,
+                0.00000040357, 2.10207822074, 2744.4340526908,
+                0.00000040307, 4.39482471634, 1148.2476104062,
+                0.00000039790, 2.46062195592, 355.7487455718,
+                0.00000039276, 4.70909591065, 569.0478410098,
+                0.00000038818, 4.31684853535, 149.5631971346,
+                0.00000037511, 2.93024338067, 1677.9385755008,
+                0.00000037030, 5.07904223157, 1905.4647649404,
+                0.00000036829, 0.84237174099, 530.6541729411,
+                0.00000034015, 3.09481058565, 2420.9286360334,
+                0.00000033475, 0.76463170350, 643.8294395771,
+                0.00000032957, 3.18606309728, 528.7277572481,
+                0.00000032409, 2.73383239343, 604.4725636619,
+                0.00000031530, 6.19283211825, 3.1813937377,
+                0.00000031256, 5.35795807657, 1485.9801210652,
+                0.00000029014, 1.83523374921, 1891.2376709388,
+                0.00000028366, 2.48520234303, 519.3960243561,
+                0.00000027094, 3.92463420595, 2324.9494088156,
+                0.00000026731, 1.74874273361, 2950.619601128,
+                0.00000026499, 1.03248824966, 405.2575498736,
+                0.00000026453, 0.60429095482, 1055.4497769261,
+                0.00000026139, 1.33354028131, 330.6189636582,
+                0.00000025640, 0.52452881258, 511.5317178299,
+                0.00000025634, 3.46480952342, 458.8415197904,
+                0.00000024450, 0.88074669554, 423.4167971383,
+                0.00000023930, 4.99825426891, 1289.9465010146,
+                0.00000022940, 5.26760480260, 672.1406152284,
+                0.00000022666, 0.65441785872, 3163.918696566,
+                0.00000022463, 0.43478364259, 1073.6090241908,
+                0.00000021865, 5.91688197848, 1802.3719907218,
+                0.00000021623, 1.42192729492, 540.7366653585,
+                0.00000021016, 3.08217890882, 629.6023455755,
+                0.00000019775, 4.13615184912, 1464.6394800628,
+                0.00000019654, 2.73391065610, 39.3568759152,
+                0.00000019466, 1.85632162779, 3060.8259223474,
+                0.00000019316, 5.17023800333, 635.9651330509,
+                0.00000019065, 3.66520144826, 415.5524906121,
+                0.00000018769, 3.69167351769, 88.865680217,
+                0.00000018718, 1.97821694809, 38.1330356378,
+                0.00000018349, 1.89870628722, 1021.2488945514,
+                0.00000018303, 3.59973766130, 746.9222137957,
+                0.00000018225, 2.66424699243, 1994.3304451574,
+                0.00000017423, 2.81999126875, 2737.32050569,
+                0.00000016809, 1.91000618622, 217.2312487011,
+                0.00000016669, 5.67299018075, 408.4389436113,
+                0.00000016361, 0.18155522601, 1699.2792165032,
+                0.00000015733, 3.34757176872, 1056.2005364515,
+                0.00000015530, 3.82369172511, 721.6494195302,
+                0.00000015401, 1.06319902793, 114.1384744825,
+                0.00000015253, 1.31927244263, 117.3198682202,
+                0.00000015115, 3.74899964992, 2641.3412784722,
+                0.00000014924, 1.32583007552, 490.3340891794,
+                0.00000014753, 4.64530618099, 6283.0758499914,
+                0.00000014697, 2.16792533244, 530.2122299564,
+                0.00000014669, 1.67269531093, 529.1697002328,
+                0.00000014666, 0.80451966905, 5223.6939198022,
+                0.00000014116, 3.55112673348, 142.4496501338,
+                0.00000013001, 1.48488755301, 3267.0114707846,
+                0.00000012702, 3.96823187752, 2538.2485042536,
+                0.00000012640, 0.73683423677, 908.3342603463,
+                0.00000012272, 0.20695687447, 1062.5633239269,
+                0.00000012149, 3.66755220800, 750.1036075334,
+                0.00000011958, 1.72875918561, 911.3032057629,
+                0.00000011954, 2.97127390765, 505.3119427064,
+                0.00000011756, 5.11238523418, 685.4739373527,
+                0.00000011727, 1.65922790150, 2207.6295405954,
+                0.00000011566, 5.23036903534, 524.0618908021,
+                0.00000011544, 1.59031375667, 1474.6737883704,
+                0.00000011491, 1.11749661877, 561.934294009,
+                0.00000011310, 5.55879589444, 531.1754378029,
+                0.00000011242, 3.23197763125, 422.6660376129,
+                0.00000011187, 3.83842425050, 76.2660712756,
+                0.00000011081, 3.22060243425, 535.107591066,
+                0.00000010918, 1.27796360308, 2125.8774073792,
+                0.00000010762, 4.91380719453, 525.0250986486,
+                0.00000010310, 3.83872758066, 1781.0313497194,
+                0.00000010150, 2.49061363606, 1819.6374661092,
+                0.00000009993, 4.80140922781, 558.0021407459,
+                0.00000009920, 0.43817210648, 3480.3105662226,
+                0.00000009742, 6.15792553288, 593.426863398,
+                0.00000009584, 5.01019903321, 597.3590166611,
+                0.00000009532, 0.35524234217, 1512.8068240082,
+                0.00000009511, 2.95053004168, 1382.8873468466,
+                0.00000009435, 1.61939988249, 3377.217792004,
+                0.00000009215, 2.57853098079, 3053.7123753466,
+                0.00000008902, 2.40357723787, 2310.722314814,
+                0.00000008877, 1.21758319481, 416.3032501375,
+                0.00000008738, 5.29236760592, 945.2434557067,
+                0.00000008727, 0.75644622066, 960.2213092337,
+                0.00000008714, 3.67018202505, 739.8086667949,
+                0.00000008664, 2.70398612383, 526.7702037878,
+                0.00000008611, 1.13232641062, 532.6117264014,
+                0.00000008585, 6.06648047796, 10213.285546211,
+                0.00000008534, 2.22687140541, 9153.9036160218,
+                0.00000008270, 1.24822326308, 495.7507151508,
+                0.00000008145, 0.73137862078, 230.5645708254,
+                0.00000007972, 2.08176164007, 953.1077622329,
+                0.00000007969, 0.08480602718, 528.9402055692,
+                0.00000007968, 3.75535355212, 530.44172462,
+                0.00000007929, 1.46877435816, 963.4027029714,
+                0.00000007852, 6.26908468547, 647.0108333148,
+                0.00000007652, 0.92748230521, 525.4981794006,
+                0.00000007581, 2.90608705953, 533.8837507886,
+                0.00000007541, 0.73440261131, 457.617679513,
+                0.00000007432, 0.31435666835, 378.6432952517,
+                0.00000007309, 6.27084750121, 21.3406410024,
+                0.00000007193, 2.30068915654, 520.129737539,
+                0.00000007176, 0.12508174554, 224.3447957019,
+                0.00000007153, 0.18772230606, 731.9443602687,
+                0.00000007137, 3.59005542659, 2957.7331481288,
+                0.00000007123, 3.84780072799, 618.5566453116,
+                0.00000007073, 2.17418036839, 724.8308132679,
+                0.00000006706, 2.92078077444, 1038.0412891868,
+                0.00000006555, 4.75218205387, 202.2533951741,
+                0.00000006417, 1.25043809621, 3583.4033404412,
+                0.00000006261, 0.75330485783, 938.1299087059,
+                0.00000006222, 1.46220596893, 483.2205421786,
+                0.00000006202, 5.53800819472, 2.4476805548,
+                0.00000006151, 5.50130756047, 11.0457002639,
+                0.00000006129, 2.68322633435, 312.4597163935,
+                0.00000005944, 3.79180483544, 25558.2121764796,
+                0.00000005738, 0.34249718209, 535.9107402181,
+                0.00000005738, 4.79777823324, 598.8434893694,
+                0.00000005710, 2.12868548085, 191.9584544356,
+                0.00000005690, 3.93800591227, 2854.6403739102,
+                0.00000005613, 1.51210605952, 524.2743391232,
+                0.00000005607, 3.30270139804, 535.3200393871,
+                0.00000005558, 3.83419160288, 534.3568315406,
+                0.00000005478, 5.95887338334, 539.9859058331,
+                0.00000005424, 3.53268613904, 456.3938392356,
+                0.00000005419, 5.96993331731, 227.5261894396,
+                0.00000005409, 5.21471277042, 1057.8974574809,
+                0.00000005405, 4.66492781581, 833.552661779,
+                0.00000005343, 5.25360544458, 1048.3362299253,
+                0.00000005341, 6.22288713664, 551.031606097,
+                0.00000005220, 3.61280797725, 2097.423219376,
+                0.00000005218, 4.69335266854, 560.7104537316,
+                0.00000005216, 2.20381924871, 280.9671470045,
+                0.00000005056, 0.37387972537, 529.5309064002,
+                0.00000005056, 3.46671669992, 529.851023789,
+                0.00000004988, 4.87228166876, 1.4844727083,
+                0.00000004905, 2.67946228179, 1215.1649024473,
+                0.00000004861, 1.38856203056, 3693.6096616606,
+                0.00000004840, 1.51601288645, 2524.021410252,
+                0.00000004734, 2.27733077170, 3370.1042450032,
+                0.00000004703, 1.96435195092, 107.0249274817,
+                0.00000004549, 5.64074512699, 2435.155730035,
+                0.00000004468, 0.21348044420, 92.0470739547,
+                0.00000004387, 4.69677892021, 327.4375699205,
+                0.00000004375, 0.20464725158, 3796.7024358792,
+                0.00000004355, 3.13180489048, 630.3360587584,
+                0.00000004340, 1.51432586300, 1894.4190646765,
+                0.00000004301, 0.99845168304, 387.2413149608,
+                0.00000004289, 4.84380640711, 70.8494453042,
+                0.00000004268, 6.20250525407, 775.233389447,
+                0.00000004240, 0.11161358607, 1744.8558675419,
+                0.00000004213, 3.21377867882, 696.5196376166,
+                0.00000004189, 2.08145249041, 2627.1141844706,
+                0.00000004183, 4.74495457566, 988.532484885,
+                0.00000004179, 4.79066440364, 824.7421937488,
+                0.00000004171, 3.14858229862, 944.9828232758,
+                0.00000004134, 2.59512563472, 916.9322800554,
+                0.00000004128, 5.84804741359, 440.8252848776,
+                0.00000004126, 3.63856052239, 810.6581120991,
+                0.00000004099, 6.00401453177, 902.7051860538,
+                0.00000004052, 3.31367006050, 3274.1250177854,
+                0.00000004014, 4.62540459805, 2751.5475996916,
+                0.00000004004, 2.13540836634, 210.1177017003,
+                0.00000004002, 5.20683965697, 635.231419868,
+                0.00000003994, 4.78250942681, 850.0149880143,
+                0.00000003824, 3.60290168808, 437.6438911399,
+                0.00000003808, 3.97513732318, 732.6951197941,
+                0.00000003761, 2.09239982789, 282.4516197128,
+                0.00000003701, 6.17676412880, 537.7677199419,
+                0.00000003687, 1.57511269436, 381.6122406683,
+                0.00000003555, 6.03691345521, 739.0579072695,
+                0.00000003490, 0.63097592112, 529.9034134157,
+                0.00000003490, 3.20962050417, 529.4785167735,
+                0.00000003356, 1.79147113193, 521.6142102473,
+                0.00000003315, 1.52493374102, 547.8502123593,
+                0.00000003295, 2.58083202302, 945.9942152321,
+                0.00000003270, 3.49304887352, 1166.4068576709,
+                0.00000003249, 2.40881833627, 836.5216071956,
+                0.00000003241, 6.13636496944, 10.2949407385,
+                0.00000003237, 1.17006919872, 177.8743727859,
+                0.00000003226, 5.59957707360, 608.404716925,
+                0.00000003219, 1.83595567094, 18.1592472647,
+                0.00000003217, 0.60541914081, 1061.829610744,
+                0.00000003168, 6.13783090971, 1158.5425511447,
+                0.00000003122, 5.65071502170, 99.1606209555,
+                0.00000003115, 4.61995541904, 952.3570027075,
+                0.00000003057, 6.02461785861, 633.7469471597,
+                0.00000003048, 2.29027670842, 631.8205314667,
+                0.00000003015, 1.28347490089, 1023.9572075371,
+                0.00000003003, 0.92689294845, 3899.7952100978,
+                0.00000002983, 2.60087913786, 632.831923423,
+                0.00000002967, 5.69894599757, 632.7355552034,
+                0.00000002838, 4.60179563689, 245.5424243524,
+                0.00000002791, 2.71505085086, 610.6923387854,
+                0.00000002789, 1.27687797437, 1041.2226829245,
+                0.00000002782, 3.18187038682, 295.0512286542,
+                0.00000002748, 1.97292590154, 415.2918581812,
+                0.00000002729, 1.77752023407, 252.6559713532,
+                0.00000002715, 2.03270124891, 1514.2912967165,
+                0.00000002714, 3.28872509961, 2413.8150890326,
+                0.00000002710, 4.64908513849, 462.0229135281,
+                0.00000002688, 1.51547910962, 447.7958195265,
+                0.00000002683, 4.94305916877, 1593.0050485469,
+                0.00000002681, 0.09370791758, 565.1156877467,
+                0.00000002643, 3.69017270026, 885.4397106664,
+                0.00000002638, 3.81178618526, 3171.0322435668,
+                0.00000002632, 0.54069640678, 195.1398481733,
+                0.00000002559, 0.17635133075, 35.4247226521,
+                0.00000002535, 1.44414086617, 460.5384408198,
+                0.00000002526, 1.07528597373, 12036.4607348882,
+                0.00000002452, 4.53818807914, 514.7131115676,
+                0.00000002451, 5.58559481110, 544.6688186216,
+                0.00000002441, 0.23204756934, 465.9550667912,
+                0.00000002410, 4.36768640011, 1056.9342496344,
+                0.00000002398, 0.64110233160, 523.5406259403,
+                0.00000002384, 2.81746623044, 3340.6124266998,
+                0.00000002346, 5.38154028450, 1261.6353253633,
+                0.00000002336, 1.96332360970, 1279.794572628,
+                0.00000002335, 5.92743690508, 611.4430983108,
+                0.00000002334, 4.47618012518, 209.3669421749,
+                0.00000002333, 2.13962165652, 319.5732633943,
+                0.00000002312, 2.07210502831, 3686.4961146598,
+                0.00000002293, 2.99171378261, 69.1525242748,
+                0.00000002274, 5.17947578060, 3178.1457905676,
+                0.00000002268, 0.36783878457, 1969.2006632438,
+                0.00000002242, 1.74102512909, 1151.4290041439,
+                0.00000002235, 5.95475282699, 6151.533888305,
+                0.00000002209, 0.54839208938, 2228.9701815978,
+                0.00000002201, 2.94451315794, 429.0458714308,
+                0.00000002175, 4.53588570240, 501.3797894433,
+                0.00000002171, 2.83736293048, 292.0128472684,
+                0.00000002158, 3.45672748590, 827.9235874865,
+                0.00000002157, 3.89303145878, 451.9404211107,
+                0.00000002154, 6.16996906006, 563.6312150384,
+                0.00000002153, 2.17059512290, 1269.4996318895,
+                0.00000002125, 0.06224847813, 24.3790223882,
+                0.00000002083, 1.11198641001, 4010.0015313172,
+                0.00000002075, 3.13164231864, 1049.0869894507,
+                0.00000002075, 3.18662095186, 1366.2125722902,
+                0.00000002058, 3.08341203251, 535.8413042489,
+                0.00000002039, 4.67544543631, 679.2541622292,
+                0.00000002029, 3.95461045826, 771.3012361839,
+                0.00000002024, 1.80008813939, 2943.5060541272,
+                0.00000002018, 0.04630518303, 4113.0943055358,
+                0.00000001994, 2.52023134686, 1059.903195051,
+                0.00000001993, 2.02503599030, 1058.8606653274,
+                0.00000001973, 1.04545877724, 33.9402499438,
+                0.00000001958, 0.05215107058, 761.7400086283,
+                0.00000001942, 1.95782403724, 934.9485149682,
+                0.00000001939, 3.22015613937, 3590.516887442,
+                0.00000001938, 3.79909584528, 1059.430114299,
+                0.00000001938, 0.60127744372, 1059.3337460794,
+                0.00000001936, 3.00893936737, 567.8240007324,
+                0.00000001930, 3.34507193410, 421.93232443,
+                0.00000001930, 5.46749050005, 2281.2304965106,
+                0.00000001928, 1.15367163096, 1060.3451380357,
+                0.00000001915, 4.75826139824, 3067.9394693482,
+                0.00000001886, 5.58469840330, 32.2433289144,
+                0.00000001865, 1.62280773417, 5.4166259714,
+                0.00000001858, 3.79797229590, 420.9691165835,
+                0.00000001843, 5.23293157757, 14.977853527,
+                0.00000001840, 4.24679354047, 981.6313862053,
+                0.00000001826, 2.13081844602, 99.9113804809,
+                0.00000001816, 1.24334711210, 417.0369633204,
+                0.00000001815, 4.78077969800, 78.7137518304,
+                0.00000001809, 3.51500010497, 1354.4331588434,
+                0.00000001804, 5.16348161105, 1578.0271950199,
+                0.00000001800, 5.45980392229, 1201.831580323,
+                0.00000001784, 1.49468287576, 529.9515975255,
+                0.00000001784, 2.34591354953, 529.4303326637,
+                0.00000001782, 5.03100165106, 1098.7388061044,
+                0.00000001766, 5.76140570543, 623.2225117576,
+                0.00000001759, 0.41344084540, 754.0357607965,
+                0.00000001755, 1.27198192898, 1173.5204046717,
+                0.00000001751, 3.13572498964, 384.0599212231,
+                0.00000001748, 3.48730020953, 522.6256022036,
+                0.00000001748, 3.47238840628, 1058.4187223427,
+                0.00000001745, 5.76913240451, 490.0734567485,
+                0.00000001728, 2.12791034661, 306.830642101,
+                0.00000001715, 5.04087524117, 586.3133163972,
+                0.00000001706, 3.09150223641, 1251.3403846248,
+                0.00000001703, 0.99422663808, 1254.5217783625,
+                0.00000001690, 2.68085848682, 642.3449668688,
+                0.00000001684, 2.42057577614, 203.0041546995,
+                0.00000001682, 6.10616525578, 432.0148168474,
+                0.00000001680, 3.07291090659, 1134.1635287565,
+                0.00000001673, 4.16553276624, 106.2741679563,
+                0.00000001663, 3.94564005698, 2274.5468326365,
+                0.00000001659, 5.59776019266, 362.8622925726,
+                0.00000001636, 0.26199351490, 522.529233984,
+                0.00000001624, 3.47283697724, 1159.2933106701,
+                0.00000001613, 3.16800255751, 67.6680515665,
+                0.00000001609, 5.65561775211, 1165.6560981455,
+                0.00000001578, 3.90273683089, 602.9880909536,
+                0.00000001569, 2.55719070621, 4.192785694,
+                0.00000001567, 3.32429870195, 532.3992780803,
+                0.00000001559, 0.38338275068, 313.2104759189,
+                0.00000001552, 3.04262360186, 385.5443939314,
+                0.00000001552, 0.48480014971, 493.0424021651,
+                0.00000001548, 0.44749208924, 4216.1870797544,
+                0.00000001540, 5.74134360983, 320.3240229197,
+                0.00000001521, 0.55776043586, 1592.2542890215,
+                0.00000001513, 4.29754579983, 303.8616966844,
+                0.00000001511, 4.44377608685, 395.105621487,
+                0.00000001495, 1.43630114874, 2840.4132799086,
+                0.00000001494, 5.65499635123, 373.0142209592,
+                0.00000001493, 2.79720044893, 277.0349937414,
+                0.00000001491, 1.66541765776, 2655.5683724738,
+                0.00000001485, 3.55629043627, 774.0095491696,
+                0.00000001482, 3.06076740133, 1585.8915015461,
+                0.00000001472, 2.98912826857, 2730.2069586892,
+                0.00000001466, 2.24427810064, 1550.939859646,
+                0.00000001462, 2.30628702663, 1363.2436268736,
+                0.00000001447, 0.65113178433, 1091.6252591036,
+                0.00000001437, 4.19470227783, 420.4478517217,
+                0.00000001415, 2.27798301933, 758.7710632117,
+                0.00000001413, 4.71923061422, 1141.1340634054,
+                0.00000001406, 1.53810768058, 1020.025054274,
+                0.00000001405, 1.78978994642, 4002.8879843164,
+                0.00000001385, 3.88479835656, 419.4364597654,
+                0.00000001372, 4.87583487947, 842.9014410135,
+                0.00000001371, 3.54043412257, 5.6290742925,
+                0.00000001362, 6.04117291776, 0.9632078465,
+                0.00000001361, 0.45533257707, 418.5214360287,
+                0.00000001358, 3.42385026423, 539.2521926502,
+                0.00000001353, 0.74889817664, 632.2624744514,
+                0.00000001351, 0.81710478493, 1585.1407420207,
+                0.00000001340, 1.94668282270, 528.4189407074,
+                0.00000001336, 1.89387272380, 530.9629894818,
+                0.00000001335, 5.58590962636, 1276.6131788903,
+                0.00000001333, 1.24847548771, 633.305004175,
+                0.00000001331, 2.44677888034, 561.1835344836,
+                0.00000001329, 0.16664094530, 536.7563279856,
+                0.00000001317, 4.06940092395, 799.6124118352,
+                0.00000001303, 0.66473988441, 173.9422195228,
+                0.00000001291, 0.78974363945, 1603.2999892854,
+                0.00000001282, 4.75859233981, 600.5404103988,
+                0.00000001260, 5.75630215326, 527.9940440652,
+                0.00000001247, 5.64344659992, 479.2883889155,
+                0.00000001245, 4.21639502753, 4.665866446,
+                0.00000001244, 0.80634178279, 419.532827985,
+                0.00000001227, 4.41715278426, 531.387886124,
+                0.00000001227, 2.76228281324, 299.1263942692,
+                0.00000001220, 3.63029788040, 497.4476361802,
+                0.00000001213, 4.55260634893, 366.7944458357,
+                0.00000001212, 3.38335836048, 536.8526962052,
+                0.00000001202, 1.77363593153, 5120.6011455836,
+                0.00000001197, 3.12884590029, 1966.2317178272,
+                0.00000001180, 3.52707625131, 1064.7985561606,
+                0.00000001168, 3.65910636679, 3487.4241132234,
+                0.00000001166, 4.97934379883, 450.9772132642,
+                0.00000001154, 3.71720602716, 81.7521332162,
+                0.00000001153, 5.20213407672, 554.0699874828,
+                0.00000001148, 3.27410230494, 1035.002907801,
+                0.00000001137, 4.02029739425, 1670.0742689746,
+                0.00000001129, 4.87187369639, 874.3940104025,
+                0.00000001125, 2.23732263924, 523.0986829556,
+                0.00000001124, 5.88442602775, 1060.8664028975,
+                0.00000001116, 1.22881167024, 1489.9122743283,
+                0.00000001106, 0.89453807282, 2.9207613068,
+                0.00000001105, 1.93890691771, 244.318584075,
+                0.00000001099, 3.13173940863, 1482.7987273275,
+                0.00000001091, 2.82244505598, 1262.3860848887,
+                0.00000001087, 3.21065829760, 6681.2248533996,
+                0.00000001086, 5.66285953861, 1053.7528558967,
+                0.00000001085, 3.19275725911, 151.0476698429,
+                0.00000001082, 4.51407359350, 528.2546764961,
+                0.00000001082, 5.60975006771, 531.1272536931,
+                0.00000001072, 0.48068438534, 1058.6311706638,
+                0.00000001059, 1.55367109732, 536.2832472336,
+                0.00000001052, 4.72763208314, 913.7508863177,
+                0.00000001052, 1.69484089706, 484.444382456,
+                0.00000001048, 4.64334530342, 124.433415221,
+                0.00000001047, 0.99077301795, 337.732510659,
+                0.00000001045, 4.66144812532, 521.8266585684,
+                0.00000001044, 3.52819283674, 530.5847369719,
+                0.00000001044, 0.31244551729, 528.7971932173,
+                0.00000001037, 2.95852835709, 3906.9087570986,
+                0.00000001036, 1.68979485122, 1070.4276304531,
+                0.00000001030, 0.01725208757, 391.1734682239,
+                0.00000001027, 1.64373259126, 1493.093668066,
+                0.00000001025, 6.08315999637, 469.8872200543,
+                0.00000001013, 0.92736137443, 429.7795846137,
+                0.00000000994, 5.16391370100, 10316.3783204296,
+                0.00000000980, 3.28594540964, 1379.7059531089,
+                0.00000000974, 3.67667471757, 25565.3257234804,
+                0.00000000972, 0.96985712709, 2332.0629558164,
+                0.00000000970, 2.29596237496, 100.6450936638,
+                0.00000000967, 3.20618313117, 9050.8108418032,
+                0.00000000966, 1.62396322160, 3259.8979237838,
+                0.00000000962, 1.48376004518, 1062.302691496,
+                0.00000000948, 0.77931728039, 25551.09862947879,
+                0.00000000939, 3.51238251326, 523.4711899711,
+                0.00000000938, 0.34938672944, 1140.38330388,
+                0.00000000937, 0.90005698525, 576.1613880106,
+                0.00000000931, 5.56146061492, 537.5552716208,
+                0.00000000930, 2.88178471502, 1056.4611688824,
+                0.00000000925, 0.55478184950, 627.3671133418,
+                0.00000000924, 2.35629391980, 1912.5783119412,
+                0.00000000920, 3.01896006307, 1372.5924061081,
+                0.00000000920, 6.26573335293, 700.4517908797,
+                0.00000000919, 5.60009343497, 498.1983957056,
+                0.00000000916, 6.02908368648, 7.8643065262,
+                0.00000000914, 4.34560268499, 1127.0499817557,
+                0.00000000912, 2.25878214021, 1467.8208738005,
+                0.00000000906, 6.05494155026, 446.3113468182,
+                0.00000000895, 2.77465005384, 3046.5988283458,
+                0.00000000892, 2.67011158629, 946.727928415,
+                0.00000000890, 4.10819809661, 1060.1326897146,
+                0.00000000888, 3.38270405256, 812.1425848074,
+                0.00000000887, 5.53922649066, 498.6714764576,
+                0.00000000880, 4.22241993782, 1884.124123938,
+                0.00000000878, 1.02427130092, 5760.4984318976,
+                0.00000000878, 2.58779583091, 782.3469364478,
+                0.00000000876, 0.87683423308, 4326.3934009738,
+                0.00000000868, 0.80016386644, 2042.4977891028,
+                0.00000000864, 2.69234571372, 31.019488637,
+                0.00000000863, 3.98700238575, 686.958410061,
+                0.00000000861, 4.41932623043, 5746.271337896,
+                0.00000000860, 4.78175008217, 530.914805372,
+                0.00000000860, 5.34207357904, 528.4671248172,
+                0.00000000860, 1.45053114983, 2199.7652340692,
+                0.00000000859, 5.32386044216, 1542.6024723678,
+                0.00000000856, 2.58042139486, 2803.8079146044,
+                0.00000000854, 5.47701506544, 2818.035008606,
+                0.00000000849, 3.23256854293, 1670.82502850,
+                0.00000000849, 4.31414424046, 806.725958836,
+                0.00000000849, 5.56317630404, 4429.4861751924,
+                0.00000000847, 3.25831322794, 1063.5747158832,
+                0.00000000846, 5.90640854756, 1087.6931058405,
+                0.00000000846, 1.47557828604, 898.7730327907,
+                0.00000000844, 0.00976249584, 628.5909536192,
+                0.00000000835, 5.37311812708, 5621.8429232104,
+                0.00000000832, 5.14362006475, 1054.7160637432,
+                0.00000000830, 0.30961042231, 1123.1178284926,
+                0.00000000824, 0.66291575747, 20426.571092422,
+                0.00000000823, 3.22228477513, 121.2520214833,
+                0.00000000821, 3.89981918280, 986.0848043302,
+                0.00000000820, 5.73661004927, 594.6507036754,
+                0.00000000820, 1.58880252302, 1025.4416802454,
+                0.00000000819, 3.57201959303, 451.7279727896,
+                0.00000000818, 1.41973280302, 580.0935412737,
+                0.00000000811, 1.30406622470, 1055.1891444952,
+                0.00000000806, 4.64475158248, 533.8355666788,
+                0.00000000805, 0.08389717815, 4532.578949411,
+                0.00000000805, 2.65683001547, 63.7358983034,
+                0.00000000804, 1.90939160700, 707.5653378805,
+                0.00000000788, 0.51622458293, 526.9826521089,
+                0.00000000787, 1.98195319336, 860.3099287528,
+                0.00000000781, 1.86416466337, 629.8629780064,
+                0.00000000781, 1.18377747884, 987.3086446076,
+                0.00000000778, 3.08728745329, 441.576044403,
+                0.00000000774, 4.82089328660, 951.6232895246,
+                0.00000000767, 4.49491439876, 1457.525933062,
+                0.00000000760, 1.12121829396, 683.1863154923,
+                0.00000000748, 3.63387486593, 73.297125859,
+                0.00000000748, 0.29223355288, 313.9441891018,
+                0.00000000744, 2.33083237537, 620.253566341,
+                0.00000000741, 3.06795481071, 5481.7545583808,
+                0.00000000738, 2.64976372130, 1012.9115072732,
+                0.00000000738, 5.90389531154, 701.936263588,
+                0.00000000734, 0.11633686168, 635.70450062,
+                0.00000000727, 1.56150632966, 4319.279853973,
+                0.00000000725, 2.81220410314, 3597.6304344428,
+                0.00000000725, 2.18809065860, 1176.7017984094,
+                0.00000000725, 2.73069387932, 6.1503391543,
+                0.00000000721, 5.29574036514, 1304.9243545416,
+                0.00000000709, 1.09852456494, 248.7238180901,
+                0.00000000698, 2.05421230760, 3156.8051495652,
+                0.00000000697, 4.18082589322, 1.6969210294,
+                0.00000000697, 4.99042365686, 12.5301729722,
+                0.00000000692, 6.10931942233, 12.7426212933,
+                0.00000000690, 0.80287056032, 977.4867846211,
+                0.00000000688, 5.69334026950, 525.5463635104,
+                0.00000000688, 0.46353180630, 842.1506814881,
+                0.00000000687, 2.65370734689, 1567.7322542814,
+                0.00000000686, 0.27079898498, 11.7794134468,
+                0.00000000686, 2.51807576494, 638.4128136057,
+                0.00000000684, 2.97458993261, 298.2326223919,
+                0.00000000668, 4.93815253692, 5172.476235725,
+                0.00000000665, 1.87621123047, 103.1409583284,
+                0.00000000653, 2.40326963363, 657.1627617014,
+                0.00000000642, 1.86734510583, 1053.9653042178,
+                0.00000000642, 1.70942182986, 5230.807466803,
+                0.00000000641, 4.90173124861, 991.7138786227,
+                0.00000000639, 1.86699974431, 6172.869528772,
+                0.00000000639, 2.98874052475, 2349.3284312038,
+                0.00000000638, 4.21760246790, 1064.0477966352,
+                0.00000000637, 6.13121700151, 4752.9915918498,
+                0.00000000637, 6.08896653583, 46.470422916,
+                0.00000000634, 3.43769853475, 650.9429865779,
+                0.00000000631, 5.65855415701, 661.0949149645,
+                0.00000000629, 2.75622390887, 334.5511169213,
+                0.00000000628, 2.32902331778, 501.2367770914,
+                0.00000000622, 2.29597570837, 9999.986450773,
+                0.00000000621, 3.98893673383, 409.9234163196,
+                0.00000000621, 4.58816416137, 105.5404547734,
+                0.00000000620, 2.55561598450, 1049.8207026336,
+                0.00000000619, 3.71554817226, 2090.3096723752,
+                0.00000000615, 5.38518078437, 835.7878940127,
+                0.00000000615, 4.72920786161, 3384.3313390048,
+                0.00000000614, 6.19071579609, 738.3241940866,
+                0.00000000613, 3.84144928692, 1065.0110044817,
+                0.00000000612, 1.26746376254, 878.3261636656,
+                0.00000000604, 5.44066125511, 632.0329797878,
+                0.00000000604, 0.87482329646, 6069.7767545534,
+                0.00000000601, 0.90129977643, 711.4974911436,
+                0.00000000599, 4.13850666612, 733.428832977,
+                0.00000000597, 3.03921014345, 6.9534883064,
+                0.00000000597, 6.13204711801, 7.2736056952,
+                0.00000000595, 1.89655724176, 113.3877149571,
+                0.00000000595, 3.78181802412, 6386.16862421,
+                0.00000000594, 2.87175682597, 633.5344988386,
+                0.00000000592, 0.99424149467, 920.8644333185,
+                0.00000000589, 0.30558911648, 153.4953503977,
+                0.00000000589, 0.74050145875, 1291.4309737229,
+                0.00000000588, 0.08236113246, 4164.311989613,
+                0.00000000588, 5.46780291871, 668.2084619653,
+                0.00000000586, 5.68889329019, 1587.5884225755,
+                0.00000000585, 2.82650088707, 344.7030453079,
+                0.00000000584, 6.10336975118, 7.065362891,
+                0.00000000581, 5.77185453327, 745.4377410874,
+                0.00000000579, 0.02333971761, 1069.6768709277,
+                0.00000000577, 3.84676656235, 767.3690829208,
+                0.00000000575, 4.50676079721, 1230.1427559743,
+                0.00000000567, 5.13926871155, 288.0806940053,
+                0.00000000567, 0.38348819779, 737.3609862401,
+                0.00000000566, 0.59740900184, 350.3321196004,
+                0.00000000564, 0.72677136462, 1059.2218714948,
+                0.00000000564, 3.81960833918, 1059.5419888836,
+                0.00000000561, 3.87565914360, 135.336103133,
+                0.00000000560, 3.57141429379, 5333.9002410216,
+                0.00000000558, 3.36094471852, 24498.8302462904,
+                0.00000000558, 1.17103892689, 3576.2897934404,
+                0.00000000557, 3.45629457197, 19896.8801273274,
+                0.00000000555, 3.57205235856, 1144.3154571431,
+                0.00000000555, 1.00328633116, 141.2258098564,
+                0.00000000553, 5.23792586314, 528.0464336919,
+                0.00000000553, 5.31312350142, 531.3354964973,
+                0.00000000548, 3.03388113862, 7.1617311106,
+                0.00000000548, 6.03429743373, 9367.2027114598,
+                0.00000000546, 0.45425690852, 4694.0029547076,
+                0.00000000544, 0.69476773349, 4642.7852706304,
+                0.00000000544, 1.05857942311, 1438.0252254409,
+                0.00000000544, 2.22925308079, 1440.9941708575,
+                0.00000000543, 2.98751942458, 4223.3006267552,
+                0.00000000542, 3.28894870834, 10103.0792249916,
+                0.00000000541, 3.07978704943, 1446.62324515,
+                0.00000000540, 0.54791737146, 51646.11531805379,
+                0.00000000537, 1.52803865425, 8094.5216858326,
+                0.00000000537, 3.67807254097, 605.9570363702,
+                0.00000000535, 1.42855602314, 9.5612275556,
+                0.00000000531, 0.16792029802, 1080.7225711916,
+                0.00000000531, 0.30026207053, 912.7876784712,
+                0.00000000530, 4.99510636441, 9264.1099372412,
+                0.00000000528, 2.32101188937, 949.2237930796,
+                0.00000000527, 5.40641191628, 949.12742486,
+                0.00000000520, 2.12596982279, 906.849787638,
+                0.00000000519, 3.10157097770, 9161.0171630226,
+                0.00000000513, 5.10763567804, 1090.4014188262,
+                0.00000000511, 2.44662587368, 9690.7081281172,
+                0.00000000511, 5.53118344106, 1128.534454464,
+                0.00000000510, 4.29090556636, 2545.3620512544,
+                0.00000000509, 0.70662672351, 1570.9136480191,
+                0.00000000504, 2.58550284000, 5378.6617841622,
+                0.00000000501, 5.84167833830, 9676.4810341156,
+                0.00000000493, 2.66756696257, 849.2642284889,
+                0.00000000493, 3.73487080434, 131.4039498699,
+                0.00000000493, 1.24342391046, 11506.7697697936,
+                0.00000000491, 1.28733237388, 247.2393453818,
+                0.00000000488, 5.26894402637, 1751.539531416,
+                0.00000000488, 5.32348416682, 1432.3961511484,
+                0.00000000485, 0.74674429026, 736.8397213783,
+                0.00000000482, 1.84410406707, 1077.5411774539,
+                0.00000000481, 3.63292807076, 5584.8473325994,
+                0.00000000481, 6.21043578332, 683.9894646444,
+                0.00000000480, 3.89516556182, 967.3348562345,
+                0.00000000476, 3.28733354824, 734.9133056853,
+                0.00000000476, 4.40755251309, 2200.5159935946,
+                0.00000000474, 3.37296965859, 3803.81598288,
+                0.00000000474, 5.19232279677, 857.1285350151,
+                0.00000000473, 5.02679239007, 103.0445901088,
+                0.00000000471, 6.24506463249, 946.4672959841,
+                0.00000000468, 3.50348554992, 4841.8572720668,
+                0.00000000466, 2.29198238542, 2225.7887878601,
+                0.00000000466, 2.43707405011, 3362.9906980024,
+                0.00000000465, 1.93436756934, 6275.9623029906,
+                0.00000000462, 1.09795189347, 100.1720129118,
+                0.00000000459, 4.06923787133, 5216.5803728014,
+                0.00000000458, 5.94092303682, 513.2286388593,
+                0.00000000457, 2.38193571955, 990.2294059144,
+                0.00000000449, 3.02583472996, 5901.239202256,
+                0.00000000444, 4.61008831817, 546.1532913299,
+                0.00000000442, 5.37772982571, 104.0559820651,
+                0.00000000441, 3.06678924251, 1475.6851803267,
+                0.00000000439, 0.44871247921, 512.4254897072,
+                0.00000000436, 1.40801830895, 995.6460318858,
+                0.00000000434, 2.64411689486, 748.406686504,
+                0.00000000433, 0.43309624811, 735.828329422,
+                0.00000000433, 5.93397926660, 1688.2335162393,
+                0.00000000429, 2.46364296538, 3914.0223040994,
+                0.00000000429, 0.59245436963, 1065.6017053127,
+                0.00000000429, 2.13901349243, 3473.1970192218,
+                0.00000000429, 2.18700390627, 1357.6145525811,
+                0.00000000426, 3.81910977181, 546.956440482,
+                0.00000000424, 1.67088834417, 148.0787244263,
+                0.00000000412, 3.29630633921, 7.3259953219,
+                0.00000000412, 5.87495245826, 6.9010986797,
+                0.00000000404, 3.51410520211, 1329.3033769298,
+                0.00000000401, 2.90426785776, 1987.2168981566,
+                0.00000000395, 0.22367886581, 51116.4243529592,
+                0.00000000391, 2.81753436573, 5798.1464280374,
+                0.00000000385, 0.13151986614, 970.5162499722,
+                0.00000000383, 6.02073818555, 1268.7488723641,
+                0.00000000379, 1.14527123185, 1059.5943785103,
+                0.00000000371, 6.15750793727, 509.2440959695
+        };
     }
 
-    public double R1(double t) // 371 terms of order 1
+    private static double[] r1() // 371 terms of order 1
     {
-        double R1 = 0;
-        R1 += 0.01271801520 * Math.cos(2.64937512894 + 529.6909650946 * t);
-        R1 += 0.00061661816 * Math.cos(3.00076460387 + 1059.3819301892 * t);
-        R1 += 0.00053443713 * Math.cos(3.89717383175 + 522.5774180938 * t);
-        R1 += 0.00031185171 * Math.cos(4.88276958012 + 536.8045120954 * t);
-        R1 += 0.00041390269;
-        R1 += 0.00011847263 * Math.cos(2.41328764459 + 419.4846438752 * t);
-        R1 += 0.00009166454 * Math.cos(4.75978553741 + 7.1135470008 * t);
-        R1 += 0.00003175595 * Math.cos(2.79298354393 + 103.0927742186 * t);
-        R1 += 0.00003203481 * Math.cos(5.21084121495 + 735.8765135318 * t);
-        R1 += 0.00003403577 * Math.cos(3.34689633223 + 1589.0728952838 * t);
-        R1 += 0.00002599925 * Math.cos(3.63439058628 + 206.1855484372 * t);
-        R1 += 0.00002412127 * Math.cos(1.46948314626 + 426.598190876 * t);
-        R1 += 0.00002806070 * Math.cos(3.74227009702 + 515.463871093 * t);
-        R1 += 0.00002676611 * Math.cos(4.33051702874 + 1052.2683831884 * t);
-        R1 += 0.00002100392 * Math.cos(3.92772817188 + 639.897286314 * t);
-        R1 += 0.00001646160 * Math.cos(5.30947626153 + 1066.49547719 * t);
-        R1 += 0.00001641093 * Math.cos(4.41628521235 + 625.6701923124 * t);
-        R1 += 0.00001049766 * Math.cos(3.16115576687 + 213.299095438 * t);
-        R1 += 0.00001024703 * Math.cos(2.55437897122 + 412.3710968744 * t);
-        R1 += 0.00000740834 * Math.cos(2.17089042827 + 1162.4747044078 * t);
-        R1 += 0.00000806430 * Math.cos(2.67747285932 + 632.7837393132 * t);
-        R1 += 0.00000676729 * Math.cos(6.24979690660 + 838.9692877504 * t);
-        R1 += 0.00000468918 * Math.cos(4.70985711091 + 543.9180590962 * t);
-        R1 += 0.00000444628 * Math.cos(0.40306241278 + 323.5054166574 * t);
-        R1 += 0.00000567074 * Math.cos(4.57671527249 + 742.9900605326 * t);
-        R1 += 0.00000415840 * Math.cos(5.36847472493 + 728.762966531 * t);
-        R1 += 0.00000484810 * Math.cos(2.46907968946 + 949.1756089698 * t);
-        R1 += 0.00000337576 * Math.cos(3.16751996354 + 956.2891559706 * t);
-        R1 += 0.00000401711 * Math.cos(4.60509281258 + 309.2783226558 * t);
-        R1 += 0.00000347330 * Math.cos(4.68154619204 + 14.2270940016 * t);
-        R1 += 0.00000260727 * Math.cos(5.34286862943 + 846.0828347512 * t);
-        R1 += 0.00000220020 * Math.cos(4.84195212656 + 1368.660252845 * t);
-        R1 += 0.00000203233 * Math.cos(5.60019394971 + 1155.361157407 * t);
-        R1 += 0.00000246438 * Math.cos(3.92373109496 + 942.062061969 * t);
-        R1 += 0.00000183575 * Math.cos(4.26454732757 + 95.9792272178 * t);
-        R1 += 0.00000197119 * Math.cos(3.70582665656 + 2118.7638603784 * t);
-        R1 += 0.00000179982 * Math.cos(4.40213614840 + 532.8723588323 * t);
-        R1 += 0.00000195844 * Math.cos(3.75886519686 + 199.0720014364 * t);
-        R1 += 0.00000200140 * Math.cos(4.43930806722 + 1045.1548361876 * t);
-        R1 += 0.00000170248 * Math.cos(4.84663902529 + 526.5095713569 * t);
-        R1 += 0.00000146328 * Math.cos(6.12953407685 + 533.6231183577 * t);
-        R1 += 0.00000133441 * Math.cos(1.32112984738 + 110.2063212194 * t);
-        R1 += 0.00000132030 * Math.cos(4.51111768540 + 525.7588118315 * t);
-        R1 += 0.00000123776 * Math.cos(2.04233591660 + 1478.8665740644 * t);
-        R1 += 0.00000121876 * Math.cos(4.40555373903 + 1169.5882514086 * t);
-        if (highAccuracy) {
-            R1 += 0.00000115354 * Math.cos(4.46752336410 + 1581.959348283 * t);
-            R1 += 0.00000098559 * Math.cos(5.72824115387 + 1596.1864422846 * t);
-            R1 += 0.00000091744 * Math.cos(4.53147949989 + 1685.0521225016 * t);
-            R1 += 0.00000110685 * Math.cos(3.62539004538 + 1272.6810256272 * t);
-            R1 += 0.00000080515 * Math.cos(4.11374100758 + 1258.4539316256 * t);
-            R1 += 0.00000079518 * Math.cos(2.71923662078 + 1692.1656695024 * t);
-            R1 += 0.00000100157 * Math.cos(5.24639992412 + 1265.5674786264 * t);
-            R1 += 0.00000077866 * Math.cos(5.56575552496 + 1471.7530270636 * t);
-            R1 += 0.00000085840 * Math.cos(0.07984103333 + 831.8557407496 * t);
-            R1 += 0.00000082132 * Math.cos(3.80763065130 + 508.3503240922 * t);
-            R1 += 0.00000055296 * Math.cos(0.35136399335 + 316.3918696566 * t);
-            R1 += 0.00000052289 * Math.cos(5.53069765044 + 433.7117378768 * t);
-            R1 += 0.00000055809 * Math.cos(4.75224156118 + 302.164775655 * t);
-            R1 += 0.00000050625 * Math.cos(4.85603624371 + 1375.7737998458 * t);
-            R1 += 0.00000043539 * Math.cos(4.94471526157 + 1361.5467058442 * t);
-            R1 += 0.00000042146 * Math.cos(1.22819828957 + 853.196381752 * t);
-            R1 += 0.00000037653 * Math.cos(4.26849585975 + 2001.4439921582 * t);
-            R1 += 0.00000049301 * Math.cos(4.01704532497 + 220.4126424388 * t);
-            R1 += 0.00000038248 * Math.cos(5.33256180883 + 1788.1448967202 * t);
-            R1 += 0.00000035653 * Math.cos(1.76300235040 + 1795.258443721 * t);
-            R1 += 0.00000036185 * Math.cos(3.85316960087 + 1574.8458012822 * t);
-            R1 += 0.00000029178 * Math.cos(5.16817654180 + 3.9321532631 * t);
-            R1 += 0.00000025113 * Math.cos(4.33889766890 + 519.3960243561 * t);
-            R1 += 0.00000024766 * Math.cos(2.72782261862 + 405.2575498736 * t);
-            R1 += 0.00000027102 * Math.cos(6.09843304423 + 1148.2476104062 * t);
-            R1 += 0.00000022665 * Math.cos(0.19350039559 + 380.12776796 * t);
-            R1 += 0.00000020538 * Math.cos(4.32862762591 + 3.1813937377 * t);
-            R1 += 0.00000019941 * Math.cos(4.63435849910 + 1677.9385755008 * t);
-            R1 += 0.00000019522 * Math.cos(5.10728297130 + 1073.6090241908 * t);
-            R1 += 0.00000018500 * Math.cos(3.76514376541 + 1485.9801210652 * t);
-            R1 += 0.00000018845 * Math.cos(5.05703372830 + 2104.5367663768 * t);
-            R1 += 0.00000016987 * Math.cos(4.02069213446 + 2317.8358618148 * t);
-            R1 += 0.00000016680 * Math.cos(5.43302879610 + 88.865680217 * t);
-            R1 += 0.00000015372 * Math.cos(2.91841323048 + 2008.557539159 * t);
-            R1 += 0.00000014419 * Math.cos(3.63960739927 + 628.8515860501 * t);
-            R1 += 0.00000014630 * Math.cos(5.51305730294 + 721.6494195302 * t);
-            R1 += 0.00000018540 * Math.cos(6.02594081104 + 330.6189636582 * t);
-            R1 += 0.00000013638 * Math.cos(4.88575627207 + 629.6023455755 * t);
-            R1 += 0.00000013472 * Math.cos(1.38742780013 + 518.6452648307 * t);
-            R1 += 0.00000015538 * Math.cos(2.93208280366 + 1905.4647649404 * t);
-            R1 += 0.00000012405 * Math.cos(1.58727793866 + 2111.6503133776 * t);
-            R1 += 0.00000012168 * Math.cos(3.37798229468 + 635.9651330509 * t);
-            R1 += 0.00000011835 * Math.cos(4.08484570984 + 2648.454825473 * t);
-            R1 += 0.00000011259 * Math.cos(4.62303293007 + 636.7158925763 * t);
-            R1 += 0.00000014286 * Math.cos(2.74041502983 + 2221.856634597 * t);
-            R1 += 0.00000011157 * Math.cos(3.54867395941 + 1891.2376709388 * t);
-            R1 += 0.00000013131 * Math.cos(5.83476507713 + 1464.6394800628 * t);
-            R1 += 0.00000011346 * Math.cos(2.57830184286 + 511.5317178299 * t);
-            R1 += 0.00000010484 * Math.cos(0.49631744855 + 453.424893819 * t);
-            R1 += 0.00000009712 * Math.cos(4.39039807014 + 1994.3304451574 * t);
-            R1 += 0.00000010072 * Math.cos(2.75854126409 + 423.4167971383 * t);
-            R1 += 0.00000008973 * Math.cos(4.79620568259 + 2420.9286360334 * t);
-            R1 += 0.00000008487 * Math.cos(5.15862241737 + 1056.2005364515 * t);
-            R1 += 0.00000008037 * Math.cos(3.72684449392 + 2634.2277314714 * t);
-            R1 += 0.00000008036 * Math.cos(1.28481352995 + 2428.0421830342 * t);
-            R1 += 0.00000008823 * Math.cos(1.84296748834 + 750.1036075334 * t);
-            R1 += 0.00000008976 * Math.cos(4.81284969227 + 1062.5633239269 * t);
-            R1 += 0.00000008608 * Math.cos(4.53451403086 + 21.3406410024 * t);
-            R1 += 0.00000009412 * Math.cos(4.34166457358 + 1802.3719907218 * t);
-            R1 += 0.00000006904 * Math.cos(5.96626034536 + 540.7366653585 * t);
-            R1 += 0.00000007268 * Math.cos(4.98087083693 + 1699.2792165032 * t);
-            R1 += 0.00000007068 * Math.cos(4.99227057771 + 1055.4497769261 * t);
-            R1 += 0.00000007244 * Math.cos(4.97266787687 + 1898.3512179396 * t);
-            R1 += 0.00000006479 * Math.cos(1.40223433818 + 422.6660376129 * t);
-            R1 += 0.00000006280 * Math.cos(3.64802738608 + 621.7380390493 * t);
-            R1 += 0.00000006231 * Math.cos(4.45749513375 + 551.031606097 * t);
-            R1 += 0.00000006271 * Math.cos(6.13813110445 + 2125.8774073792 * t);
-            R1 += 0.00000006801 * Math.cos(2.92013819097 + 2324.9494088156 * t);
-            R1 += 0.00000005898 * Math.cos(2.58873003212 + 569.0478410098 * t);
-            R1 += 0.00000006481 * Math.cos(4.58107849781 + 1038.0412891868 * t);
-            R1 += 0.00000006653 * Math.cos(5.54500062883 + 1781.0313497194 * t);
-            R1 += 0.00000007187 * Math.cos(3.02482572051 + 416.3032501375 * t);
-            R1 += 0.00000005141 * Math.cos(6.21519498122 + 963.4027029714 * t);
-            R1 += 0.00000005878 * Math.cos(4.23185657623 + 539.9859058331 * t);
-            R1 += 0.00000005119 * Math.cos(0.06958852255 + 1063.3140834523 * t);
-            R1 += 0.00000005247 * Math.cos(0.16792912472 + 117.3198682202 * t);
-            R1 += 0.00000005423 * Math.cos(4.93524030417 + 835.0371344873 * t);
-            R1 += 0.00000006217 * Math.cos(3.87980766892 + 191.9584544356 * t);
-            R1 += 0.00000004967 * Math.cos(1.34452103048 + 1382.8873468466 * t);
-            R1 += 0.00000004635 * Math.cos(4.63642027299 + 643.8294395771 * t);
-            R1 += 0.00000004561 * Math.cos(3.37093181163 + 2207.6295405954 * t);
-            R1 += 0.00000004474 * Math.cos(4.07436890901 + 2310.722314814 * t);
-            R1 += 0.00000004703 * Math.cos(4.55179426438 + 2737.32050569 * t);
-            R1 += 0.00000004487 * Math.cos(1.48312334127 + 408.4389436113 * t);
-            R1 += 0.00000004087 * Math.cos(1.12906821675 + 415.5524906121 * t);
-            R1 += 0.00000005489 * Math.cos(5.62261637529 + 618.5566453116 * t);
-            R1 += 0.00000004323 * Math.cos(4.60454457547 + 647.0108333148 * t);
-            R1 += 0.00000003882 * Math.cos(4.09352825462 + 430.5303441391 * t);
-            R1 += 0.00000003747 * Math.cos(3.41170997719 + 2950.619601128 * t);
-            R1 += 0.00000003803 * Math.cos(2.19632996017 + 534.3568315406 * t);
-            R1 += 0.00000003634 * Math.cos(1.03495466077 + 2744.4340526908 * t);
-            R1 += 0.00000004549 * Math.cos(4.21325324482 + 227.5261894396 * t);
-            R1 += 0.00000003565 * Math.cos(4.11240029730 + 440.8252848776 * t);
-            R1 += 0.00000003852 * Math.cos(1.14937815780 + 74.7815985673 * t);
-            R1 += 0.00000003525 * Math.cos(4.27662025409 + 10.2949407385 * t);
-            R1 += 0.00000003488 * Math.cos(5.33792561596 + 458.8415197904 * t);
-            R1 += 0.00000004208 * Math.cos(2.38049728614 + 2538.2485042536 * t);
-            R1 += 0.00000004465 * Math.cos(0.18617267547 + 824.7421937488 * t);
-            R1 += 0.00000003327 * Math.cos(5.51323389248 + 739.8086667949 * t);
-            R1 += 0.00000003252 * Math.cos(2.68329422796 + 561.934294009 * t);
-            R1 += 0.00000003247 * Math.cos(4.88392621669 + 295.0512286542 * t);
-            R1 += 0.00000003571 * Math.cos(4.64017933384 + 2214.7430875962 * t);
-            R1 += 0.00000003469 * Math.cos(4.34266924360 + 305.3461693927 * t);
-            R1 += 0.00000003430 * Math.cos(3.34792668508 + 149.5631971346 * t);
-            R1 += 0.00000003474 * Math.cos(2.75054677372 + 2641.3412784722 * t);
-            R1 += 0.00000003618 * Math.cos(5.30205670433 + 2097.423219376 * t);
-            R1 += 0.00000002963 * Math.cos(1.32779700914 + 611.4430983108 * t);
-            R1 += 0.00000002826 * Math.cos(0.91971516521 + 984.6003316219 * t);
-            R1 += 0.00000003445 * Math.cos(1.63289286159 + 525.0250986486 * t);
-            R1 += 0.00000002635 * Math.cos(5.25522783247 + 532.1386456494 * t);
-            R1 += 0.00000002682 * Math.cos(4.24680441193 + 3053.7123753466 * t);
-            R1 += 0.00000002655 * Math.cos(3.18365951037 + 527.2432845398 * t);
-            R1 += 0.00000002418 * Math.cos(4.23791881124 + 217.2312487011 * t);
-            R1 += 0.00000002231 * Math.cos(4.23923472684 + 739.0579072695 * t);
-            R1 += 0.00000002268 * Math.cos(5.52248110560 + 524.2743391232 * t);
-            R1 += 0.00000002095 * Math.cos(4.85943251945 + 1049.0869894507 * t);
-            R1 += 0.00000002054 * Math.cos(5.38759557118 + 142.4496501338 * t);
-            R1 += 0.00000002058 * Math.cos(3.79500539044 + 2627.1141844706 * t);
-            R1 += 0.00000002536 * Math.cos(3.95352520357 + 210.1177017003 * t);
-            R1 += 0.00000002095 * Math.cos(5.76269812349 + 529.6427809848 * t);
-            R1 += 0.00000002533 * Math.cos(5.82849252925 + 732.6951197941 * t);
-            R1 += 0.00000002025 * Math.cos(4.20638434497 + 945.9942152321 * t);
-            R1 += 0.00000002248 * Math.cos(1.61218306133 + 604.4725636619 * t);
-            R1 += 0.00000001923 * Math.cos(4.75088270631 + 535.107591066 * t);
-            R1 += 0.00000001969 * Math.cos(5.49257949498 + 1439.5096981492 * t);
-            R1 += 0.00000001876 * Math.cos(3.26958300763 + 3267.0114707846 * t);
-            R1 += 0.00000002286 * Math.cos(2.93860898500 + 76.2660712756 * t);
-            R1 += 0.00000002298 * Math.cos(2.67602302579 + 760.25553592 * t);
-            R1 += 0.00000002074 * Math.cos(5.85386852879 + 532.6117264014 * t);
-            R1 += 0.00000002160 * Math.cos(3.89934769002 + 2435.155730035 * t);
-            R1 += 0.00000001763 * Math.cos(3.18823524810 + 2524.021410252 * t);
-            R1 += 0.00000001681 * Math.cos(0.78838681637 + 3060.8259223474 * t);
-            R1 += 0.00000002121 * Math.cos(0.41035912497 + 1279.794572628 * t);
-            R1 += 0.00000001660 * Math.cos(2.34370903423 + 528.7277572481 * t);
-            R1 += 0.00000001642 * Math.cos(4.07579944140 + 731.9443602687 * t);
-            R1 += 0.00000002095 * Math.cos(2.67732367556 + 529.7391492044 * t);
-            R1 += 0.00000001712 * Math.cos(4.29334392085 + 724.8308132679 * t);
-            R1 += 0.00000001856 * Math.cos(2.76989081814 + 952.3570027075 * t);
-            R1 += 0.00000001904 * Math.cos(2.48369702447 + 2957.7331481288 * t);
-            R1 += 0.00000002003 * Math.cos(5.04729621715 + 2413.8150890326 * t);
-            R1 += 0.00000001672 * Math.cos(0.28599461931 + 454.9093665273 * t);
-            R1 += 0.00000001582 * Math.cos(5.84371262844 + 547.8502123593 * t);
-            R1 += 0.00000001595 * Math.cos(1.18530166527 + 38.1330356378 * t);
-            R1 += 0.00000001563 * Math.cos(3.02970693113 + 945.2434557067 * t);
-            R1 += 0.00000001542 * Math.cos(1.12520322838 + 1021.2488945514 * t);
-            R1 += 0.00000001546 * Math.cos(0.38348247678 + 319.5732633943 * t);
-            R1 += 0.00000001463 * Math.cos(0.61055082613 + 312.4597163935 * t);
-            R1 += 0.00000001604 * Math.cos(3.50041190037 + 934.9485149682 * t);
-            R1 += 0.00000001439 * Math.cos(4.26513521887 + 526.7702037878 * t);
-            R1 += 0.00000001611 * Math.cos(5.24344469844 + 1354.4331588434 * t);
-            R1 += 0.00000001511 * Math.cos(5.49591876170 + 81.7521332162 * t);
-            R1 += 0.00000001906 * Math.cos(3.78137493812 + 953.1077622329 * t);
-            R1 += 0.00000001656 * Math.cos(6.09667089740 + 530.6541729411 * t);
-            R1 += 0.00000001799 * Math.cos(5.83566265631 + 909.8187330546 * t);
-            R1 += 0.00000001405 * Math.cos(4.32629307157 + 3178.1457905676 * t);
-            R1 += 0.00000001406 * Math.cos(4.05527527402 + 1158.5425511447 * t);
-            R1 += 0.00000001493 * Math.cos(3.29690433844 + 1041.2226829245 * t);
-            R1 += 0.00000001558 * Math.cos(1.51646768353 + 902.7051860538 * t);
-            R1 += 0.00000001387 * Math.cos(2.52840497309 + 530.44172462 * t);
-            R1 += 0.00000001410 * Math.cos(0.07169032313 + 490.3340891794 * t);
-            R1 += 0.00000001562 * Math.cos(1.86268966974 + 437.6438911399 * t);
-            R1 += 0.00000001606 * Math.cos(4.27835003095 + 2531.1349572528 * t);
-            R1 += 0.00000001794 * Math.cos(6.21722587878 + 18.1592472647 * t);
-            R1 += 0.00000001422 * Math.cos(3.98206620893 + 3370.1042450032 * t);
-            R1 += 0.00000001515 * Math.cos(0.17967750365 + 1141.1340634054 * t);
-            R1 += 0.00000001329 * Math.cos(5.84479773498 + 387.2413149608 * t);
-            R1 += 0.00000001300 * Math.cos(0.29821177492 + 597.3590166611 * t);
-            R1 += 0.00000001710 * Math.cos(2.23503932366 + 2854.6403739102 * t);
-            R1 += 0.00000001558 * Math.cos(6.17783174275 + 983.1158589136 * t);
-            R1 += 0.00000001311 * Math.cos(3.75085875476 + 1165.6560981455 * t);
-            R1 += 0.00000001482 * Math.cos(0.83066678204 + 529.1697002328 * t);
-            R1 += 0.00000001435 * Math.cos(0.23355762296 + 860.3099287528 * t);
-            R1 += 0.00000001141 * Math.cos(3.46612877999 + 483.2205421786 * t);
-            R1 += 0.00000001133 * Math.cos(2.81368303631 + 124.433415221 * t);
-            R1 += 0.00000001319 * Math.cos(4.88148483038 + 1251.3403846248 * t);
-            R1 += 0.00000001508 * Math.cos(3.48139955389 + 2751.5475996916 * t);
-            R1 += 0.00000001237 * Math.cos(0.90332265294 + 916.9322800554 * t);
-            R1 += 0.00000001142 * Math.cos(5.61457234897 + 337.732510659 * t);
-            R1 += 0.00000001076 * Math.cos(5.49947769870 + 1585.8915015461 * t);
-            R1 += 0.00000001123 * Math.cos(1.45270581179 + 533.8837507886 * t);
-            R1 += 0.00000001067 * Math.cos(5.29710936450 + 1159.2933106701 * t);
-            R1 += 0.00000001063 * Math.cos(3.52724300315 + 2943.5060541272 * t);
-            R1 += 0.00000001416 * Math.cos(5.18377634152 + 1592.2542890215 * t);
-            R1 += 0.00000001054 * Math.cos(1.67751055664 + 497.4476361802 * t);
-            R1 += 0.00000001338 * Math.cos(3.48243389264 + 107.0249274817 * t);
-            R1 += 0.00000001037 * Math.cos(3.12801094422 + 70.8494453042 * t);
-            R1 += 0.00000001102 * Math.cos(4.18000348718 + 203.0041546995 * t);
-            R1 += 0.00000001021 * Math.cos(5.62851625196 + 1603.2999892854 * t);
-            R1 += 0.00000000967 * Math.cos(2.80222742968 + 3583.4033404412 * t);
-            R1 += 0.00000001106 * Math.cos(4.86492659899 + 1166.4068576709 * t);
-            R1 += 0.00000001093 * Math.cos(3.23230823003 + 447.7958195265 * t);
-            R1 += 0.00000001073 * Math.cos(0.35668643110 + 1593.0050485469 * t);
-            R1 += 0.00000001108 * Math.cos(2.42061915107 + 106.2741679563 * t);
-            R1 += 0.00000001003 * Math.cos(3.80070721725 + 99.9113804809 * t);
-            R1 += 0.00000000987 * Math.cos(2.44184933100 + 1048.3362299253 * t);
-            R1 += 0.00000000921 * Math.cos(0.12955317257 + 1070.4276304531 * t);
-            R1 += 0.00000001136 * Math.cos(2.26568590950 + 525.4981794006 * t);
-            R1 += 0.00000000885 * Math.cos(4.25304247204 + 114.1384744825 * t);
-            R1 += 0.00000001168 * Math.cos(2.68377982079 + 209.3669421749 * t);
-            R1 += 0.00000000967 * Math.cos(4.47667348232 + 9676.4810341156 * t);
-            R1 += 0.00000000875 * Math.cos(0.22303452734 + 460.5384408198 * t);
-            R1 += 0.00000001067 * Math.cos(4.72721946609 + 2730.2069586892 * t);
-            R1 += 0.00000001165 * Math.cos(1.56030440737 + 630.3360587584 * t);
-            R1 += 0.00000000951 * Math.cos(0.49347419163 + 842.9014410135 * t);
-            R1 += 0.00000000884 * Math.cos(4.75139536245 + 960.2213092337 * t);
-            R1 += 0.00000001158 * Math.cos(5.50047449313 + 224.3447957019 * t);
-            R1 += 0.00000000892 * Math.cos(2.26616982044 + 327.4375699205 * t);
-            R1 += 0.00000000940 * Math.cos(0.06481852204 + 746.9222137957 * t);
-            R1 += 0.00000000899 * Math.cos(1.78944295718 + 4.665866446 * t);
-            R1 += 0.00000000894 * Math.cos(3.06608347131 + 5746.271337896 * t);
-            R1 += 0.00000000936 * Math.cos(5.35932787694 + 1585.1407420207 * t);
-            R1 += 0.00000000866 * Math.cos(1.40863222239 + 202.2533951741 * t);
-            R1 += 0.00000000865 * Math.cos(2.85348523795 + 938.1299087059 * t);
-            R1 += 0.00000000782 * Math.cos(0.49776082272 + 3377.217792004 * t);
-            R1 += 0.00000000822 * Math.cos(4.08331963114 + 501.2367770914 * t);
-            R1 += 0.00000000933 * Math.cos(0.30976125598 + 685.4739373527 * t);
-            R1 += 0.00000001033 * Math.cos(2.47031686819 + 3274.1250177854 * t);
-            R1 += 0.00000000799 * Math.cos(2.08457026425 + 77734.01845962799 * t);
-            R1 += 0.00000001017 * Math.cos(5.24406833089 + 842.1506814881 * t);
-            R1 += 0.00000000741 * Math.cos(1.32379374647 + 530.2122299564 * t);
-            R1 += 0.00000000842 * Math.cos(3.39449778904 + 484.444382456 * t);
-            R1 += 0.00000000821 * Math.cos(0.48415264993 + 850.0149880143 * t);
-            R1 += 0.00000000825 * Math.cos(3.48499388498 + 498.6714764576 * t);
-            R1 += 0.00000000781 * Math.cos(1.03963400654 + 373.0142209592 * t);
-            R1 += 0.00000000759 * Math.cos(3.82014111206 + 6283.0758499914 * t);
-            R1 += 0.00000000915 * Math.cos(2.89101498678 + 462.0229135281 * t);
-            R1 += 0.00000000770 * Math.cos(0.27005681805 + 2655.5683724738 * t);
-            R1 += 0.00000000707 * Math.cos(5.77702928333 + 429.7795846137 * t);
-            R1 += 0.00000000862 * Math.cos(5.01184578153 + 1567.7322542814 * t);
-            R1 += 0.00000000711 * Math.cos(4.82250918143 + 11.7794134468 * t);
-            R1 += 0.00000000692 * Math.cos(2.63705354662 + 6.592282139 * t);
-            R1 += 0.00000000771 * Math.cos(3.87410612014 + 9690.7081281172 * t);
-            R1 += 0.00000000668 * Math.cos(1.79396450309 + 775.233389447 * t);
-            R1 += 0.00000000740 * Math.cos(3.39423131656 + 99.1606209555 * t);
-            R1 += 0.00000000663 * Math.cos(5.27704405712 + 4532.578949411 * t);
-            R1 += 0.00000000759 * Math.cos(5.45358686570 + 9683.5945811164 * t);
-            R1 += 0.00000000709 * Math.cos(3.71117647887 + 3686.4961146598 * t);
-            R1 += 0.00000000677 * Math.cos(4.27891183416 + 25028.521211385 * t);
-            R1 += 0.00000000784 * Math.cos(5.33244311918 + 827.9235874865 * t);
-            R1 += 0.00000000664 * Math.cos(6.08614002142 + 2281.2304965106 * t);
-            R1 += 0.00000000643 * Math.cos(1.40239510103 + 9161.0171630226 * t);
-            R1 += 0.00000000656 * Math.cos(0.60909845504 + 835.7878940127 * t);
-            R1 += 0.00000000702 * Math.cos(6.10412979847 + 4635.6717236296 * t);
-            R1 += 0.00000000809 * Math.cos(4.19626489638 + 5753.3848848968 * t);
-            R1 += 0.00000000700 * Math.cos(4.95131303046 + 1670.82502850 * t);
-            R1 += 0.00000000838 * Math.cos(4.51443146541 + 1069.6768709277 * t);
-            R1 += 0.00000000626 * Math.cos(4.38443691624 + 5.4166259714 * t);
-            R1 += 0.00000000700 * Math.cos(3.78143557545 + 2818.035008606 * t);
-            R1 += 0.00000000701 * Math.cos(4.28283847329 + 2803.8079146044 * t);
-            R1 += 0.00000000729 * Math.cos(4.62695452187 + 2228.9701815978 * t);
-            R1 += 0.00000000604 * Math.cos(3.05855704532 + 2840.4132799086 * t);
-            R1 += 0.00000000678 * Math.cos(2.45013730979 + 5760.4984318976 * t);
-            R1 += 0.00000000624 * Math.cos(0.61517599566 + 1176.7017984094 * t);
-            R1 += 0.00000000717 * Math.cos(1.82600293291 + 3171.0322435668 * t);
-            R1 += 0.00000000617 * Math.cos(5.74358811142 + 1061.829610744 * t);
-            R1 += 0.00000000667 * Math.cos(4.22974611158 + 4539.6924964118 * t);
-            R1 += 0.00000000793 * Math.cos(5.96535561367 + 1457.525933062 * t);
-            R1 += 0.00000000565 * Math.cos(0.99421817994 + 1894.4190646765 * t);
-            R1 += 0.00000000578 * Math.cos(2.13199559472 + 313.2104759189 * t);
-            R1 += 0.00000000752 * Math.cos(0.46063700150 + 635.231419868 * t);
-            R1 += 0.00000000614 * Math.cos(0.15814341318 + 1493.093668066 * t);
-            R1 += 0.00000000622 * Math.cos(1.98136818407 + 25565.3257234804 * t);
-            R1 += 0.00000000614 * Math.cos(2.48275371627 + 25551.09862947879 * t);
-            R1 += 0.00000000586 * Math.cos(4.17489084697 + 2847.5268269094 * t);
-            R1 += 0.00000000598 * Math.cos(5.29419256363 + 565.1156877467 * t);
-            R1 += 0.00000000616 * Math.cos(2.08837621877 + 10.0343083076 * t);
-            R1 += 0.00000000658 * Math.cos(2.41428707991 + 195.1398481733 * t);
-            R1 += 0.00000000692 * Math.cos(3.13229025530 + 7.6348118626 * t);
-            R1 += 0.00000000569 * Math.cos(3.52605667631 + 3067.9394693482 * t);
-            R1 += 0.00000000525 * Math.cos(3.21922961346 + 1098.7388061044 * t);
-            R1 += 0.00000000685 * Math.cos(4.18539472904 + 46.470422916 * t);
-            R1 += 0.00000000624 * Math.cos(2.07173693354 + 121.2520214833 * t);
-            R1 += 0.00000000525 * Math.cos(1.47517891985 + 446.3113468182 * t);
-            R1 += 0.00000000508 * Math.cos(2.13584300710 + 1.6969210294 * t);
-            R1 += 0.00000000504 * Math.cos(5.65511769313 + 2332.0629558164 * t);
-            R1 += 0.00000000674 * Math.cos(1.47570122611 + 4694.0029547076 * t);
-            R1 += 0.00000000547 * Math.cos(0.28995741521 + 113.3877149571 * t);
-            R1 += 0.00000000689 * Math.cos(2.98160755722 + 11.0457002639 * t);
-            R1 += 0.00000000546 * Math.cos(4.51208004692 + 6275.9623029906 * t);
-            R1 += 0.00000000561 * Math.cos(1.84479899238 + 92.0470739547 * t);
-            R1 += 0.00000000492 * Math.cos(4.83275232000 + 9492.1463150048 * t);
-            R1 += 0.00000000549 * Math.cos(4.34579166146 + 3046.5988283458 * t);
-            R1 += 0.00000000479 * Math.cos(1.70769710474 + 3281.2385647862 * t);
-            R1 += 0.00000000593 * Math.cos(5.86079640612 + 524.0618908021 * t);
-            R1 += 0.00000000510 * Math.cos(2.62557031270 + 529.851023789 * t);
-            R1 += 0.00000000480 * Math.cos(0.30754294369 + 528.9402055692 * t);
-            R1 += 0.00000000475 * Math.cos(4.16520247375 + 1151.4290041439 * t);
-            R1 += 0.00000000520 * Math.cos(4.53246652413 + 531.1754378029 * t);
-            R1 += 0.00000000575 * Math.cos(3.53909947579 + 1056.9342496344 * t);
-            R1 += 0.00000000476 * Math.cos(5.35229226962 + 560.7104537316 * t);
-            R1 += 0.00000000470 * Math.cos(4.95335116275 + 7.8643065262 * t);
-            R1 += 0.00000000470 * Math.cos(6.26977555004 + 3693.6096616606 * t);
-            R1 += 0.00000000610 * Math.cos(6.20128372098 + 1884.124123938 * t);
-            R1 += 0.00000000513 * Math.cos(4.19850316370 + 1057.8974574809 * t);
-            R1 += 0.00000000545 * Math.cos(1.19385752069 + 1514.2912967165 * t);
-            R1 += 0.00000000461 * Math.cos(0.16951411708 + 26087.9031415742 * t);
-            R1 += 0.00000000614 * Math.cos(5.42289673768 + 2090.3096723752 * t);
-            R1 += 0.00000000487 * Math.cos(3.71760211139 + 447.9388318784 * t);
-            R1 += 0.00000000592 * Math.cos(2.91424148255 + 8624.2126509272 * t);
-            R1 += 0.00000000449 * Math.cos(5.24967420622 + 10213.285546211 * t);
-            R1 += 0.00000000425 * Math.cos(2.71416734228 + 1064.0477966352 * t);
-            R1 += 0.00000000510 * Math.cos(5.81591864532 + 529.5309064002 * t);
-            R1 += 0.00000000520 * Math.cos(3.25538472195 + 600.5404103988 * t);
-            R1 += 0.00000000461 * Math.cos(3.87803707104 + 2015.6710861598 * t);
-            R1 += 0.00000000430 * Math.cos(1.28652623263 + 505.3119427064 * t);
-            R1 += 0.00000000433 * Math.cos(3.43823137684 + 1152.1797636693 * t);
-            R1 += 0.00000000422 * Math.cos(5.12631540623 + 944.9828232758 * t);
-            R1 += 0.00000000410 * Math.cos(1.24248975309 + 5069.3834615064 * t);
-            R1 += 0.00000000411 * Math.cos(2.95117124177 + 4326.3934009738 * t);
-            R1 += 0.00000000419 * Math.cos(5.16120679625 + 1173.5204046717 * t);
-            R1 += 0.00000000412 * Math.cos(2.98125446330 + 554.0699874828 * t);
-            R1 += 0.00000000472 * Math.cos(0.12243647414 + 245.5424243524 * t);
-            R1 += 0.00000000402 * Math.cos(5.88796637322 + 1570.9136480191 * t);
-            R1 += 0.00000000505 * Math.cos(1.49028912471 + 3782.4753418776 * t);
-            R1 += 0.00000000439 * Math.cos(3.06170334768 + 1475.6851803267 * t);
-            R1 += 0.00000000426 * Math.cos(3.12237794195 + 12566.1516999828 * t);
-            R1 += 0.00000000501 * Math.cos(0.09797922397 + 1912.5783119412 * t);
-            R1 += 0.00000000434 * Math.cos(3.59362426939 + 3259.8979237838 * t);
-            R1 += 0.00000000398 * Math.cos(4.91510709622 + 4120.2078525366 * t);
-            R1 += 0.00000000425 * Math.cos(4.74522508051 + 1080.7225711916 * t);
-            R1 += 0.00000000412 * Math.cos(6.26668629942 + 512.2824773553 * t);
-            R1 += 0.00000000377 * Math.cos(5.63771534471 + 988.532484885 * t);
-            R1 += 0.00000000376 * Math.cos(1.04960792457 + 6.3627874754 * t);
-            R1 += 0.00000000387 * Math.cos(0.82173742289 + 2758.6611466924 * t);
-            R1 += 0.00000000398 * Math.cos(3.16033099794 + 1.4844727083 * t);
-            R1 += 0.00000000392 * Math.cos(1.86519119748 + 885.4397106664 * t);
-        }
-        return R1 * t;
+        return new double[] {
+                0.01271801520, 2.64937512894, 529.6909650946,
+                0.00061661816, 3.00076460387, 1059.3819301892,
+                0.00053443713, 3.89717383175, 522.5774180938,
+                0.00041390269, 0, 0,
+                0.00031185171, 4.88276958012, 536.8045120954,
+                0.00011847263, 2.41328764459, 419.4846438752,
+                0.00009166454, 4.75978553741, 7.1135470008,
+                0.00003403577, 3.34689633223, 1589.0728952838,
+                0.00003203481, 5.21084121495, 735.8765135318,
+                0.00003175595, 2.79298354393, 103.0927742186,
+                0.00002806070, 3.74227009702, 515.463871093,
+                0.00002676611, 4.33051702874, 1052.2683831884,
+                0.00002599925, 3.63439058628, 206.1855484372,
+                0.00002412127, 1.46948314626, 426.598190876,
+                0.00002100392, 3.92772817188, 639.897286314,
+                0.00001646160, 5.30947626153, 1066.49547719,
+                0.00001641093, 4.41628521235, 625.6701923124,
+                0.00001049766, 3.16115576687, 213.299095438,
+                0.00001024703, 2.55437897122, 412.3710968744,
+                0.00000806430, 2.67747285932, 632.7837393132,
+                0.00000740834, 2.17089042827, 1162.4747044078,
+                0.00000676729, 6.24979690660, 838.9692877504,
+                0.00000567074, 4.57671527249, 742.9900605326,
+                0.00000484810, 2.46907968946, 949.1756089698,
+                0.00000468918, 4.70985711091, 543.9180590962,
+                0.00000444628, 0.40306241278, 323.5054166574,
+                0.00000415840, 5.36847472493, 728.762966531,
+                0.00000401711, 4.60509281258, 309.2783226558,
+                0.00000347330, 4.68154619204, 14.2270940016,
+                0.00000337576, 3.16751996354, 956.2891559706,
+                0.00000260727, 5.34286862943, 846.0828347512,
+                0.00000246438, 3.92373109496, 942.062061969,
+                0.00000220020, 4.84195212656, 1368.660252845,
+                0.00000203233, 5.60019394971, 1155.361157407,
+                0.00000200140, 4.43930806722, 1045.1548361876,
+                0.00000197119, 3.70582665656, 2118.7638603784,
+                0.00000195844, 3.75886519686, 199.0720014364,
+                0.00000183575, 4.26454732757, 95.9792272178,
+                0.00000179982, 4.40213614840, 532.8723588323,
+                0.00000170248, 4.84663902529, 526.5095713569,
+                0.00000146328, 6.12953407685, 533.6231183577,
+                0.00000133441, 1.32112984738, 110.2063212194,
+                0.00000132030, 4.51111768540, 525.7588118315,
+                0.00000123776, 2.04233591660, 1478.8665740644,
+                0.00000121876, 4.40555373903, 1169.5882514086,
+                0.00000115354, 4.46752336410, 1581.959348283,
+                0.00000110685, 3.62539004538, 1272.6810256272,
+                0.00000100157, 5.24639992412, 1265.5674786264,
+                0.00000098559, 5.72824115387, 1596.1864422846,
+                0.00000091744, 4.53147949989, 1685.0521225016,
+                0.00000085840, 0.07984103333, 831.8557407496,
+                0.00000082132, 3.80763065130, 508.3503240922,
+                0.00000080515, 4.11374100758, 1258.4539316256,
+                0.00000079518, 2.71923662078, 1692.1656695024,
+                0.00000077866, 5.56575552496, 1471.7530270636,
+                0.00000055809, 4.75224156118, 302.164775655,
+                0.00000055296, 0.35136399335, 316.3918696566,
+                0.00000052289, 5.53069765044, 433.7117378768,
+                0.00000050625, 4.85603624371, 1375.7737998458,
+                0.00000049301, 4.01704532497, 220.4126424388,
+                0.00000043539, 4.94471526157, 1361.5467058442,
+                0.00000042146, 1.22819828957, 853.196381752,
+                0.00000038248, 5.33256180883, 1788.1448967202,
+                0.00000037653, 4.26849585975, 2001.4439921582,
+                0.00000036185, 3.85316960087, 1574.8458012822,
+                0.00000035653, 1.76300235040, 1795.258443721,
+                0.00000029178, 5.16817654180, 3.9321532631,
+                0.00000027102, 6.09843304423, 1148.2476104062,
+                0.00000025113, 4.33889766890, 519.3960243561,
+                0.00000024766, 2.72782261862, 405.2575498736,
+                0.00000022665, 0.19350039559, 380.12776796,
+                0.00000020538, 4.32862762591, 3.1813937377,
+                0.00000019941, 4.63435849910, 1677.9385755008,
+                0.00000019522, 5.10728297130, 1073.6090241908,
+                0.00000018845, 5.05703372830, 2104.5367663768,
+                0.00000018540, 6.02594081104, 330.6189636582,
+                0.00000018500, 3.76514376541, 1485.9801210652,
+                0.00000016987, 4.02069213446, 2317.8358618148,
+                0.00000016680, 5.43302879610, 88.865680217,
+                0.00000015538, 2.93208280366, 1905.4647649404,
+                0.00000015372, 2.91841323048, 2008.557539159,
+                0.00000014630, 5.51305730294, 721.6494195302,
+                0.00000014419, 3.63960739927, 628.8515860501,
+                0.00000014286, 2.74041502983, 2221.856634597,
+                0.00000013638, 4.88575627207, 629.6023455755,
+                0.00000013472, 1.38742780013, 518.6452648307,
+                0.00000013131, 5.83476507713, 1464.6394800628,
+                0.00000012405, 1.58727793866, 2111.6503133776,
+                0.00000012168, 3.37798229468, 635.9651330509,
+                0.00000011835, 4.08484570984, 2648.454825473,
+                0.00000011346, 2.57830184286, 511.5317178299,
+                0.00000011259, 4.62303293007, 636.7158925763,
+                0.00000011157, 3.54867395941, 1891.2376709388,
+                0.00000010484, 0.49631744855, 453.424893819,
+                0.00000010072, 2.75854126409, 423.4167971383,
+                0.00000009712, 4.39039807014, 1994.3304451574,
+                0.00000009412, 4.34166457358, 1802.3719907218,
+                0.00000008976, 4.81284969227, 1062.5633239269,
+                0.00000008973, 4.79620568259, 2420.9286360334,
+                0.00000008823, 1.84296748834, 750.1036075334,
+                0.00000008608, 4.53451403086, 21.3406410024,
+                0.00000008487, 5.15862241737, 1056.2005364515,
+                0.00000008037, 3.72684449392, 2634.2277314714,
+                0.00000008036, 1.28481352995, 2428.0421830342,
+                0.00000007268, 4.98087083693, 1699.2792165032,
+                0.00000007244, 4.97266787687, 1898.3512179396,
+                0.00000007187, 3.02482572051, 416.3032501375,
+                0.00000007068, 4.99227057771, 1055.4497769261,
+                0.00000006904, 5.96626034536, 540.7366653585,
+                0.00000006801, 2.92013819097, 2324.9494088156,
+                0.00000006653, 5.54500062883, 1781.0313497194,
+                0.00000006481, 4.58107849781, 1038.0412891868,
+                0.00000006479, 1.40223433818, 422.6660376129,
+                0.00000006280, 3.64802738608, 621.7380390493,
+                0.00000006271, 6.13813110445, 2125.8774073792,
+                0.00000006231, 4.45749513375, 551.031606097,
+                0.00000006217, 3.87980766892, 191.9584544356,
+                0.00000005898, 2.58873003212, 569.0478410098,
+                0.00000005878, 4.23185657623, 539.9859058331,
+                0.00000005489, 5.62261637529, 618.5566453116,
+                0.00000005423, 4.93524030417, 835.0371344873,
+                0.00000005247, 0.16792912472, 117.3198682202,
+                0.00000005141, 6.21519498122, 963.4027029714,
+                0.00000005119, 0.06958852255, 1063.3140834523,
+                0.00000004967, 1.34452103048, 1382.8873468466,
+                0.00000004703, 4.55179426438, 2737.32050569,
+                0.00000004635, 4.63642027299, 643.8294395771,
+                0.00000004561, 3.37093181163, 2207.6295405954,
+                0.00000004549, 4.21325324482, 227.5261894396,
+                0.00000004487, 1.48312334127, 408.4389436113,
+                0.00000004474, 4.07436890901, 2310.722314814,
+                0.00000004465, 0.18617267547, 824.7421937488,
+                0.00000004323, 4.60454457547, 647.0108333148,
+                0.00000004208, 2.38049728614, 2538.2485042536,
+                0.00000004087, 1.12906821675, 415.5524906121,
+                0.00000003882, 4.09352825462, 430.5303441391,
+                0.00000003852, 1.14937815780, 74.7815985673,
+                0.00000003803, 2.19632996017, 534.3568315406,
+                0.00000003747, 3.41170997719, 2950.619601128,
+                0.00000003634, 1.03495466077, 2744.4340526908,
+                0.00000003618, 5.30205670433, 2097.423219376,
+                0.00000003571, 4.64017933384, 2214.7430875962,
+                0.00000003565, 4.11240029730, 440.8252848776,
+                0.00000003525, 4.27662025409, 10.2949407385,
+                0.00000003488, 5.33792561596, 458.8415197904,
+                0.00000003474, 2.75054677372, 2641.3412784722,
+                0.00000003469, 4.34266924360, 305.3461693927,
+                0.00000003445, 1.63289286159, 525.0250986486,
+                0.00000003430, 3.34792668508, 149.5631971346,
+                0.00000003327, 5.51323389248, 739.8086667949,
+                0.00000003252, 2.68329422796, 561.934294009,
+                0.00000003247, 4.88392621669, 295.0512286542,
+                0.00000002963, 1.32779700914, 611.4430983108,
+                0.00000002826, 0.91971516521, 984.6003316219,
+                0.00000002682, 4.24680441193, 3053.7123753466,
+                0.00000002655, 3.18365951037, 527.2432845398,
+                0.00000002635, 5.25522783247, 532.1386456494,
+                0.00000002536, 3.95352520357, 210.1177017003,
+                0.00000002533, 5.82849252925, 732.6951197941,
+                0.00000002418, 4.23791881124, 217.2312487011,
+                0.00000002298, 2.67602302579, 760.25553592,
+                0.00000002286, 2.93860898500, 76.2660712756,
+                0.00000002268, 5.52248110560, 524.2743391232,
+                0.00000002248, 1.61218306133, 604.4725636619,
+                0.00000002231, 4.23923472684, 739.0579072695,
+                0.00000002160, 3.89934769002, 2435.155730035,
+                0.00000002121, 0.41035912497, 1279.794572628,
+                0.00000002095, 4.85943251945, 1049.0869894507,
+                0.00000002095, 5.76269812349, 529.6427809848,
+                0.00000002095, 2.67732367556, 529.7391492044,
+                0.00000002074, 5.85386852879, 532.6117264014,
+                0.00000002058, 3.79500539044, 2627.1141844706,
+                0.00000002054, 5.38759557118, 142.4496501338,
+                0.00000002025, 4.20638434497, 945.9942152321,
+                0.00000002003, 5.04729621715, 2413.8150890326,
+                0.00000001969, 5.49257949498, 1439.5096981492,
+                0.00000001923, 4.75088270631, 535.107591066,
+                0.00000001906, 3.78137493812, 953.1077622329,
+                0.00000001904, 2.48369702447, 2957.7331481288,
+                0.00000001876, 3.26958300763, 3267.0114707846,
+                0.00000001856, 2.76989081814, 952.3570027075,
+                0.00000001799, 5.83566265631, 909.8187330546,
+                0.00000001794, 6.21722587878, 18.1592472647,
+                0.00000001763, 3.18823524810, 2524.021410252,
+                0.00000001712, 4.29334392085, 724.8308132679,
+                0.00000001710, 2.23503932366, 2854.6403739102,
+                0.00000001681, 0.78838681637, 3060.8259223474,
+                0.00000001672, 0.28599461931, 454.9093665273,
+                0.00000001660, 2.34370903423, 528.7277572481,
+                0.00000001656, 6.09667089740, 530.6541729411,
+                0.00000001642, 4.07579944140, 731.9443602687,
+                0.00000001611, 5.24344469844, 1354.4331588434,
+                0.00000001606, 4.27835003095, 2531.1349572528,
+                0.00000001604, 3.50041190037, 934.9485149682,
+                0.00000001595, 1.18530166527, 38.1330356378,
+                0.00000001582, 5.84371262844, 547.8502123593,
+                0.00000001563, 3.02970693113, 945.2434557067,
+                0.00000001562, 1.86268966974, 437.6438911399,
+                0.00000001558, 1.51646768353, 902.7051860538,
+                0.00000001558, 6.17783174275, 983.1158589136,
+                0.00000001546, 0.38348247678, 319.5732633943,
+                0.00000001542, 1.12520322838, 1021.2488945514,
+                0.00000001515, 0.17967750365, 1141.1340634054,
+                0.00000001511, 5.49591876170, 81.7521332162,
+                0.00000001508, 3.48139955389, 2751.5475996916,
+                0.00000001493, 3.29690433844, 1041.2226829245,
+                0.00000001482, 0.83066678204, 529.1697002328,
+                0.00000001463, 0.61055082613, 312.4597163935,
+                0.00000001439, 4.26513521887, 526.7702037878,
+                0.00000001435, 0.23355762296, 860.3099287528,
+                0.00000001422, 3.98206620893, 3370.1042450032,
+                0.00000001416, 5.18377634152, 1592.2542890215,
+                0.00000001410, 0.07169032313, 490.3340891794,
+                0.00000001406, 4.05527527402, 1158.5425511447,
+                0.00000001405, 4.32629307157, 3178.1457905676,
+                0.00000001387, 2.52840497309, 530.44172462,
+                0.00000001338, 3.48243389264, 107.0249274817,
+                0.00000001329, 5.84479773498, 387.2413149608,
+                0.00000001319, 4.88148483038, 1251.3403846248,
+                0.00000001311, 3.75085875476, 1165.6560981455,
+                0.00000001300, 0.29821177492, 597.3590166611,
+                0.00000001237, 0.90332265294, 916.9322800554,
+                0.00000001168, 2.68377982079, 209.3669421749,
+                0.00000001165, 1.56030440737, 630.3360587584,
+                0.00000001158, 5.50047449313, 224.3447957019,
+                0.00000001142, 5.61457234897, 337.732510659,
+                0.00000001141, 3.46612877999, 483.2205421786,
+                0.00000001136, 2.26568590950, 525.4981794006,
+                0.00000001133, 2.81368303631, 124.433415221,
+                0.00000001123, 1.45270581179, 533.8837507886,
+                0.00000001108, 2.42061915107, 106.2741679563,
+                0.00000001106, 4.86492659899, 1166.4068576709,
+                0.00000001102, 4.18000348718, 203.0041546995,
+                0.00000001093, 3.23230823003, 447.7958195265,
+                0.00000001076, 5.49947769870, 1585.8915015461,
+                0.00000001073, 0.35668643110, 1593.0050485469,
+                0.00000001067, 5.29710936450, 1159.2933106701,
+                0.00000001067, 4.72721946609, 2730.2069586892,
+                0.00000001063, 3.52724300315, 2943.5060541272,
+                0.00000001054, 1.67751055664, 497.4476361802,
+                0.00000001037, 3.12801094422, 70.8494453042,
+                0.00000001033, 2.47031686819, 3274.1250177854,
+                0.00000001021, 5.62851625196, 1603.2999892854,
+                0.00000001017, 5.24406833089, 842.1506814881,
+                0.00000001003, 3.80070721725, 99.9113804809,
+                0.00000000987, 2.44184933100, 1048.3362299253,
+                0.00000000967, 2.80222742968, 3583.4033404412,
+                0.00000000967, 4.47667348232, 9676.4810341156,
+                0.00000000951, 0.49347419163, 842.9014410135,
+                0.00000000940, 0.06481852204, 746.9222137957,
+                0.00000000936, 5.35932787694, 1585.1407420207,
+                0.00000000933, 0.30976125598, 685.4739373527,
+                0.00000000921, 0.12955317257, 1070.4276304531,
+                0.00000000915, 2.89101498678, 462.0229135281,
+                0.00000000899, 1.78944295718, 4.665866446,
+                0.00000000894, 3.06608347131, 5746.271337896,
+                0.00000000892, 2.26616982044, 327.4375699205,
+                0.00000000885, 4.25304247204, 114.1384744825,
+                0.00000000884, 4.75139536245, 960.2213092337,
+                0.00000000875, 0.22303452734, 460.5384408198,
+                0.00000000866, 1.40863222239, 202.2533951741,
+                0.00000000865, 2.85348523795, 938.1299087059,
+                0.00000000862, 5.01184578153, 1567.7322542814,
+                0.00000000842, 3.39449778904, 484.444382456,
+                0.00000000838, 4.51443146541, 1069.6768709277,
+                0.00000000825, 3.48499388498, 498.6714764576,
+                0.00000000822, 4.08331963114, 501.2367770914,
+                0.00000000821, 0.48415264993, 850.0149880143,
+                0.00000000809, 4.19626489638, 5753.3848848968,
+                0.00000000799, 2.08457026425, 77734.01845962799,
+                0.00000000793, 5.96535561367, 1457.525933062,
+                0.00000000784, 5.33244311918, 827.9235874865,
+                0.00000000782, 0.49776082272, 3377.217792004,
+                0.00000000781, 1.03963400654, 373.0142209592,
+                0.00000000771, 3.87410612014, 9690.7081281172,
+                0.00000000770, 0.27005681805, 2655.5683724738,
+                0.00000000759, 3.82014111206, 6283.0758499914,
+                0.00000000759, 5.45358686570, 9683.5945811164,
+                0.00000000752, 0.46063700150, 635.231419868,
+                0.00000000741, 1.32379374647, 530.2122299564,
+                0.00000000740, 3.39423131656, 99.1606209555,
+                0.00000000729, 4.62695452187, 2228.9701815978,
+                0.00000000717, 1.82600293291, 3171.0322435668,
+                0.00000000711, 4.82250918143, 11.7794134468,
+                0.00000000709, 3.71117647887, 3686.4961146598,
+                0.00000000707, 5.77702928333, 429.7795846137,
+                0.00000000702, 6.10412979847, 4635.6717236296,
+                0.00000000701, 4.28283847329, 2803.8079146044,
+                0.00000000700, 4.95131303046, 1670.82502850,
+                0.00000000700, 3.78143557545, 2818.035008606,
+                0.00000000692, 2.63705354662, 6.592282139,
+                0.00000000692, 3.13229025530, 7.6348118626,
+                0.00000000689, 2.98160755722, 11.0457002639,
+                0.00000000685, 4.18539472904, 46.470422916,
+                0.00000000678, 2.45013730979, 5760.4984318976,
+                0.00000000677, 4.27891183416, 25028.521211385,
+                0.00000000674, 1.47570122611, 4694.0029547076,
+                0.00000000668, 1.79396450309, 775.233389447,
+                0.00000000667, 4.22974611158, 4539.6924964118,
+                0.00000000664, 6.08614002142, 2281.2304965106,
+                0.00000000663, 5.27704405712, 4532.578949411,
+                0.00000000658, 2.41428707991, 195.1398481733,
+                0.00000000656, 0.60909845504, 835.7878940127,
+                0.00000000643, 1.40239510103, 9161.0171630226,
+                0.00000000626, 4.38443691624, 5.4166259714,
+                0.00000000624, 0.61517599566, 1176.7017984094,
+                0.00000000624, 2.07173693354, 121.2520214833,
+                0.00000000622, 1.98136818407, 25565.3257234804,
+                0.00000000617, 5.74358811142, 1061.829610744,
+                0.00000000616, 2.08837621877, 10.0343083076,
+                0.00000000614, 0.15814341318, 1493.093668066,
+                0.00000000614, 2.48275371627, 25551.09862947879,
+                0.00000000614, 5.42289673768, 2090.3096723752,
+                0.00000000610, 6.20128372098, 1884.124123938,
+                0.00000000604, 3.05855704532, 2840.4132799086,
+                0.00000000598, 5.29419256363, 565.1156877467,
+                0.00000000593, 5.86079640612, 524.0618908021,
+                0.00000000592, 2.91424148255, 8624.2126509272,
+                0.00000000586, 4.17489084697, 2847.5268269094,
+                0.00000000578, 2.13199559472, 313.2104759189,
+                0.00000000575, 3.53909947579, 1056.9342496344,
+                0.00000000569, 3.52605667631, 3067.9394693482,
+                0.00000000565, 0.99421817994, 1894.4190646765,
+                0.00000000561, 1.84479899238, 92.0470739547,
+                0.00000000549, 4.34579166146, 3046.5988283458,
+                0.00000000547, 0.28995741521, 113.3877149571,
+                0.00000000546, 4.51208004692, 6275.9623029906,
+                0.00000000545, 1.19385752069, 1514.2912967165,
+                0.00000000525, 3.21922961346, 1098.7388061044,
+                0.00000000525, 1.47517891985, 446.3113468182,
+                0.00000000520, 4.53246652413, 531.1754378029,
+                0.00000000520, 3.25538472195, 600.5404103988,
+                0.00000000513, 4.19850316370, 1057.8974574809,
+                0.00000000510, 2.62557031270, 529.851023789,
+                0.00000000510, 5.81591864532, 529.5309064002,
+                0.00000000508, 2.13584300710, 1.6969210294,
+                0.00000000505, 1.49028912471, 3782.4753418776,
+                0.00000000504, 5.65511769313, 2332.0629558164,
+                0.00000000501, 0.09797922397, 1912.5783119412,
+                0.00000000492, 4.83275232000, 9492.1463150048,
+                0.00000000487, 3.71760211139, 447.9388318784,
+                0.00000000480, 0.30754294369, 528.9402055692,
+                0.00000000479, 1.70769710474, 3281.2385647862,
+                0.00000000476, 5.35229226962, 560.7104537316,
+                0.00000000475, 4.16520247375, 1151.4290041439,
+                0.00000000472, 0.12243647414, 245.5424243524,
+                0.00000000470, 4.95335116275, 7.8643065262,
+                0.00000000470, 6.26977555004, 3693.6096616606,
+                0.00000000461, 0.16951411708, 26087.9031415742,
+                0.00000000461, 3.87803707104, 2015.6710861598,
+                0.00000000449, 5.24967420622, 10213.285546211,
+                0.00000000439, 3.06170334768, 1475.6851803267,
+                0.00000000434, 3.59362426939, 3259.8979237838,
+                0.00000000433, 3.43823137684, 1152.1797636693,
+                0.00000000430, 1.28652623263, 505.3119427064,
+                0.00000000426, 3.12237794195, 12566.1516999828,
+                0.00000000425, 2.71416734228, 1064.0477966352,
+                0.00000000425, 4.74522508051, 1080.7225711916,
+                0.00000000422, 5.12631540623, 944.9828232758,
+                0.00000000419, 5.16120679625, 1173.5204046717,
+                0.00000000412, 2.98125446330, 554.0699874828,
+                0.00000000412, 6.26668629942, 512.2824773553,
+                0.00000000411, 2.95117124177, 4326.3934009738,
+                0.00000000410, 1.24248975309, 5069.3834615064,
+                0.00000000402, 5.88796637322, 1570.9136480191,
+                0.00000000398, 4.91510709622, 4120.2078525366,
+                0.00000000398, 3.16033099794, 1.4844727083,
+                0.00000000392, 1.86519119748, 885.4397106664,
+                0.00000000387, 0.82173742289, 2758.6611466924,
+                0.00000000377, 5.63771534471, 988.532484885,
+                0.00000000376, 1.04960792457, 6.3627874754
+        };
     }
 
-    public double R2(double t) // 186 terms of order 2
+    private static double[] r2() // 186 terms of order 2
     {
-        double R2 = 0;
-        R2 += 0.00079644957 * Math.cos(1.35865949884 + 529.6909650946 * t);
-        R2 += 0.00008251645 * Math.cos(5.77774460400 + 522.5774180938 * t);
-        R2 += 0.00007029940 * Math.cos(3.27477392111 + 536.8045120954 * t);
-        R2 += 0.00005314031 * Math.cos(1.83835031247 + 1059.3819301892 * t);
-        R2 += 0.00001861184 * Math.cos(2.97686957956 + 7.1135470008 * t);
-        R2 += 0.00000836256 * Math.cos(4.19892740368 + 419.4846438752 * t);
-        R2 += 0.00000964420 * Math.cos(5.48029587251 + 515.463871093 * t);
-        R2 += 0.00000406408 * Math.cos(3.78248932836 + 1066.49547719 * t);
-        R2 += 0.00000426544 * Math.cos(2.22743958182 + 639.897286314 * t);
-        R2 += 0.00000377334 * Math.cos(2.24232535935 + 1589.0728952838 * t);
-        R2 -= 0.00000497914;
-        R2 += 0.00000339124 * Math.cos(6.12690872435 + 625.6701923124 * t);
-        R2 += 0.00000362961 * Math.cos(5.36776401268 + 206.1855484372 * t);
-        R2 += 0.00000342139 * Math.cos(6.09909325177 + 1052.2683831884 * t);
-        R2 += 0.00000279940 * Math.cos(4.26158071104 + 412.3710968744 * t);
-        R2 += 0.00000332558 * Math.cos(0.00332561805 + 426.598190876 * t);
-        R2 += 0.00000229775 * Math.cos(0.70510840437 + 735.8765135318 * t);
-        R2 += 0.00000200884 * Math.cos(3.06805028347 + 543.9180590962 * t);
-        R2 += 0.00000199660 * Math.cos(4.42869041267 + 103.0927742186 * t);
-        R2 += 0.00000257306 * Math.cos(0.96267482500 + 632.7837393132 * t);
-        R2 += 0.00000138577 * Math.cos(2.93153004432 + 14.2270940016 * t);
-        R2 += 0.00000113380 * Math.cos(0.78831018317 + 728.762966531 * t);
-        R2 += 0.00000085848 * Math.cos(5.14257631438 + 323.5054166574 * t);
-        R2 += 0.00000094695 * Math.cos(1.70378030966 + 838.9692877504 * t);
-        R2 += 0.00000083674 * Math.cos(0.05892269245 + 309.2783226558 * t);
-        R2 += 0.00000075194 * Math.cos(1.60633621497 + 956.2891559706 * t);
-        R2 += 0.00000070197 * Math.cos(1.50916343132 + 213.299095438 * t);
-        R2 += 0.00000080209 * Math.cos(2.98293613006 + 742.9900605326 * t);
-        R2 += 0.00000056365 * Math.cos(0.95014515126 + 1162.4747044078 * t);
-        R2 += 0.00000061758 * Math.cos(6.10246926546 + 1045.1548361876 * t);
-        R2 += 0.00000066425 * Math.cos(5.47411271821 + 199.0720014364 * t);
-        R2 += 0.00000050128 * Math.cos(2.72034786035 + 532.8723588323 * t);
-        R2 += 0.00000051793 * Math.cos(5.58477632168 + 942.062061969 * t);
-        R2 += 0.00000039925 * Math.cos(5.94843040319 + 95.9792272178 * t);
-        R2 += 0.00000044584 * Math.cos(5.52437023269 + 508.3503240922 * t);
-        R2 += 0.00000044215 * Math.cos(0.26965913924 + 526.5095713569 * t);
-        R2 += 0.00000030130 * Math.cos(0.93896301926 + 1155.361157407 * t);
-        R2 += 0.00000028433 * Math.cos(2.87743261296 + 525.7588118315 * t);
-        R2 += 0.00000026377 * Math.cos(4.26907277677 + 1596.1864422846 * t);
-        R2 += 0.00000027064 * Math.cos(2.80927398799 + 1169.5882514086 * t);
-        if (highAccuracy) {
-            R2 += 0.00000027531 * Math.cos(2.64852579481 + 2118.7638603784 * t);
-            R2 += 0.00000022695 * Math.cos(0.18097965354 + 302.164775655 * t);
-            R2 += 0.00000029439 * Math.cos(1.78672212056 + 831.8557407496 * t);
-            R2 += 0.00000020007 * Math.cos(0.03856532918 + 949.1756089698 * t);
-            R2 += 0.00000019915 * Math.cos(1.15792331540 + 533.6231183577 * t);
-            R2 += 0.00000021698 * Math.cos(1.88986950330 + 1272.6810256272 * t);
-            R2 += 0.00000017678 * Math.cos(4.14815218724 + 846.0828347512 * t);
-            R2 += 0.00000017064 * Math.cos(5.88794387217 + 1258.4539316256 * t);
-            R2 += 0.00000021474 * Math.cos(4.34579246643 + 316.3918696566 * t);
-            R2 += 0.00000021174 * Math.cos(0.54776446005 + 1265.5674786264 * t);
-            R2 += 0.00000019878 * Math.cos(0.06616288602 + 1581.959348283 * t);
-            R2 += 0.00000017028 * Math.cos(0.53404092917 + 1368.660252845 * t);
-            R2 += 0.00000012874 * Math.cos(3.89924775426 + 433.7117378768 * t);
-            R2 += 0.00000012887 * Math.cos(0.81112211137 + 110.2063212194 * t);
-            R2 += 0.00000011716 * Math.cos(0.40420153376 + 1361.5467058442 * t);
-            R2 += 0.00000011655 * Math.cos(4.43864372476 + 405.2575498736 * t);
-            R2 += 0.00000012042 * Math.cos(2.22601252935 + 220.4126424388 * t);
-            R2 += 0.00000009620 * Math.cos(6.01003863537 + 853.196381752 * t);
-            R2 += 0.00000010252 * Math.cos(0.99356542172 + 1471.7530270636 * t);
-            R2 += 0.00000009102 * Math.cos(1.61635845262 + 1692.1656695024 * t);
-            R2 += 0.00000008722 * Math.cos(3.51382233353 + 1073.6090241908 * t);
-            R2 += 0.00000008283 * Math.cos(5.61696036887 + 1574.8458012822 * t);
-            R2 += 0.00000008917 * Math.cos(6.26263765188 + 519.3960243561 * t);
-            R2 += 0.00000007962 * Math.cos(0.64245582750 + 1478.8665740644 * t);
-            R2 += 0.00000007722 * Math.cos(0.17138136003 + 1685.0521225016 * t);
-            R2 += 0.00000007445 * Math.cos(0.90537428710 + 88.865680217 * t);
-            R2 += 0.00000007337 * Math.cos(0.88996282570 + 721.6494195302 * t);
-            R2 += 0.00000009118 * Math.cos(1.51639567636 + 1148.2476104062 * t);
-            R2 += 0.00000006139 * Math.cos(2.49651421842 + 3.1813937377 * t);
-            R2 += 0.00000007001 * Math.cos(4.44209624915 + 330.6189636582 * t);
-            R2 += 0.00000005235 * Math.cos(2.79243270986 + 21.3406410024 * t);
-            R2 += 0.00000005041 * Math.cos(2.97840393432 + 1375.7737998458 * t);
-            R2 += 0.00000004937 * Math.cos(0.04442899397 + 1677.9385755008 * t);
-            R2 += 0.00000004633 * Math.cos(2.26661974645 + 1485.9801210652 * t);
-            R2 += 0.00000004667 * Math.cos(0.84935842035 + 3.9321532631 * t);
-            R2 += 0.00000005341 * Math.cos(0.86294969395 + 1788.1448967202 * t);
-            R2 += 0.00000004248 * Math.cos(0.41663016954 + 629.6023455755 * t);
-            R2 += 0.00000004187 * Math.cos(1.62198715560 + 635.9651330509 * t);
-            R2 += 0.00000003629 * Math.cos(2.71174024514 + 551.031606097 * t);
-            R2 += 0.00000004453 * Math.cos(1.27731121245 + 1464.6394800628 * t);
-            R2 += 0.00000003266 * Math.cos(0.54602174256 + 1795.258443721 * t);
-            R2 += 0.00000003409 * Math.cos(1.20638860556 + 1905.4647649404 * t);
-            R2 += 0.00000003164 * Math.cos(6.20189662302 + 1038.0412891868 * t);
-            R2 += 0.00000003096 * Math.cos(6.21099164255 + 2001.4439921582 * t);
-            R2 += 0.00000003404 * Math.cos(2.44670518809 + 539.9859058331 * t);
-            R2 += 0.00000003168 * Math.cos(5.58075929197 + 191.9584544356 * t);
-            R2 += 0.00000002201 * Math.cos(5.33344494715 + 1891.2376709388 * t);
-            R2 += 0.00000002553 * Math.cos(3.20949626593 + 1062.5633239269 * t);
-            R2 += 0.00000002386 * Math.cos(4.29199230828 + 963.4027029714 * t);
-            R2 += 0.00000002597 * Math.cos(0.57986674442 + 2104.5367663768 * t);
-            R2 += 0.00000002547 * Math.cos(0.14627545776 + 750.1036075334 * t);
-            R2 += 0.00000002609 * Math.cos(4.82665360488 + 416.3032501375 * t);
-            R2 += 0.00000002187 * Math.cos(1.71707514653 + 628.8515860501 * t);
-            R2 += 0.00000002258 * Math.cos(6.17429279705 + 1994.3304451574 * t);
-            R2 += 0.00000002624 * Math.cos(2.36922205485 + 227.5261894396 * t);
-            R2 += 0.00000002097 * Math.cos(3.31460321409 + 1699.2792165032 * t);
-            R2 += 0.00000002027 * Math.cos(3.15533834136 + 611.4430983108 * t);
-            R2 += 0.00000002081 * Math.cos(0.31057710726 + 2111.6503133776 * t);
-            R2 += 0.00000002484 * Math.cos(0.04731413707 + 1898.3512179396 * t);
-            R2 += 0.00000001963 * Math.cos(0.29583638556 + 636.7158925763 * t);
-            R2 += 0.00000002279 * Math.cos(1.96058124545 + 824.7421937488 * t);
-            R2 += 0.00000001829 * Math.cos(4.69907372627 + 2125.8774073792 * t);
-            R2 += 0.00000001829 * Math.cos(0.33004933298 + 295.0512286542 * t);
-            R2 += 0.00000002553 * Math.cos(1.24739305569 + 2221.856634597 * t);
-            R2 += 0.00000001785 * Math.cos(3.51009274020 + 647.0108333148 * t);
-            R2 += 0.00000001786 * Math.cos(3.46994340828 + 1055.4497769261 * t);
-            R2 += 0.00000001742 * Math.cos(2.43853510157 + 10.2949407385 * t);
-            R2 += 0.00000001850 * Math.cos(1.60578508516 + 2008.557539159 * t);
-            R2 += 0.00000001971 * Math.cos(1.15435477931 + 618.5566453116 * t);
-            R2 += 0.00000001611 * Math.cos(5.83466560322 + 422.6660376129 * t);
-            R2 += 0.00000001639 * Math.cos(0.45469643466 + 1056.2005364515 * t);
-            R2 += 0.00000001628 * Math.cos(5.86754764931 + 2317.8358618148 * t);
-            R2 += 0.00000002099 * Math.cos(1.05944599014 + 1781.0313497194 * t);
-            R2 += 0.00000001570 * Math.cos(2.39516560987 + 440.8252848776 * t);
-            R2 += 0.00000001999 * Math.cos(4.62828691526 + 423.4167971383 * t);
-            R2 += 0.00000001480 * Math.cos(0.02394813605 + 1382.8873468466 * t);
-            R2 += 0.00000001502 * Math.cos(5.74598263477 + 117.3198682202 * t);
-            R2 += 0.00000001881 * Math.cos(2.76425929784 + 1802.3719907218 * t);
-            R2 += 0.00000001983 * Math.cos(2.99080832362 + 2648.454825473 * t);
-            R2 += 0.00000001402 * Math.cos(0.15904673895 + 2420.9286360334 * t);
-            R2 += 0.00000001174 * Math.cos(1.55354182426 + 380.12776796 * t);
-            R2 += 0.00000001321 * Math.cos(1.26221998203 + 1063.3140834523 * t);
-            R2 += 0.00000001150 * Math.cos(4.12219328847 + 547.8502123593 * t);
-            R2 += 0.00000001080 * Math.cos(4.41192013439 + 934.9485149682 * t);
-            R2 += 0.00000001138 * Math.cos(5.93242605811 + 2310.722314814 * t);
-            R2 += 0.00000001033 * Math.cos(5.63854408052 + 99.9113804809 * t);
-            R2 += 0.00000000949 * Math.cos(6.07298626146 + 511.5317178299 * t);
-            R2 += 0.00000001012 * Math.cos(3.80744305824 + 1603.2999892854 * t);
-            R2 += 0.00000000922 * Math.cos(6.16494528393 + 945.9942152321 * t);
-            R2 += 0.00000000915 * Math.cos(5.22425774632 + 2207.6295405954 * t);
-            R2 += 0.00000000860 * Math.cos(2.48740591818 + 6283.0758499914 * t);
-            R2 += 0.00000000836 * Math.cos(1.08651799806 + 81.7521332162 * t);
-            R2 += 0.00000001165 * Math.cos(0.72510519647 + 2097.423219376 * t);
-            R2 += 0.00000000851 * Math.cos(4.69371733745 + 5746.271337896 * t);
-            R2 += 0.00000000789 * Math.cos(3.91035208173 + 10213.285546211 * t);
-            R2 += 0.00000000846 * Math.cos(0.77030801324 + 5760.4984318976 * t);
-            R2 += 0.00000000924 * Math.cos(1.43423249860 + 732.6951197941 * t);
-            R2 += 0.00000000805 * Math.cos(6.11630827296 + 9676.4810341156 * t);
-            R2 += 0.00000000800 * Math.cos(2.19289534160 + 9690.7081281172 * t);
-            R2 += 0.00000000812 * Math.cos(5.00490295474 + 319.5732633943 * t);
-            R2 += 0.00000000841 * Math.cos(1.22483116811 + 952.3570027075 * t);
-            R2 += 0.00000000720 * Math.cos(3.95975713584 + 337.732510659 * t);
-            R2 += 0.00000000711 * Math.cos(1.23970970528 + 106.2741679563 * t);
-            R2 += 0.00000000889 * Math.cos(0.10251260092 + 2737.32050569 * t);
-            R2 += 0.00000000858 * Math.cos(1.51763095265 + 2324.9494088156 * t);
-            R2 += 0.00000000868 * Math.cos(2.67598866406 + 3370.1042450032 * t);
-            R2 += 0.00000000710 * Math.cos(0.65180853077 + 2538.2485042536 * t);
-            R2 += 0.00000000743 * Math.cos(0.60536479474 + 1354.4331588434 * t);
-            R2 += 0.00000000633 * Math.cos(1.37719198152 + 124.433415221 * t);
-            R2 += 0.00000000866 * Math.cos(3.02831268213 + 3046.5988283458 * t);
-            R2 += 0.00000000733 * Math.cos(5.84583969196 + 2634.2277314714 * t);
-            R2 += 0.00000000691 * Math.cos(1.14062641255 + 2641.3412784722 * t);
-            R2 += 0.00000000593 * Math.cos(1.80277592426 + 453.424893819 * t);
-            R2 += 0.00000000660 * Math.cos(6.01207640959 + 1049.0869894507 * t);
-            R2 += 0.00000000771 * Math.cos(6.01059588645 + 2214.7430875962 * t);
-            R2 += 0.00000000586 * Math.cos(5.68149019460 + 107.0249274817 * t);
-            R2 += 0.00000000639 * Math.cos(4.77149952374 + 860.3099287528 * t);
-            R2 += 0.00000000782 * Math.cos(2.52401202862 + 3679.382567659 * t);
-            R2 += 0.00000000631 * Math.cos(2.27765412816 + 2015.6710861598 * t);
-            R2 += 0.00000000779 * Math.cos(2.38608991574 + 3267.0114707846 * t);
-            R2 += 0.00000000584 * Math.cos(3.00542907219 + 1262.3860848887 * t);
-            R2 += 0.00000000543 * Math.cos(3.09924086245 + 3281.2385647862 * t);
-            R2 += 0.00000000535 * Math.cos(2.42171003067 + 739.0579072695 * t);
-            R2 += 0.00000000681 * Math.cos(1.18831331541 + 739.8086667949 * t);
-            R2 += 0.00000000621 * Math.cos(1.24462887440 + 3803.81598288 * t);
-            R2 += 0.00000000717 * Math.cos(4.14222389339 + 9683.5945811164 * t);
-            R2 += 0.00000000546 * Math.cos(3.43095520503 + 18.1592472647 * t);
-            R2 += 0.00000000545 * Math.cos(5.65426574985 + 2627.1141844706 * t);
-            R2 += 0.00000000538 * Math.cos(4.92334194042 + 447.7958195265 * t);
-            R2 += 0.00000000534 * Math.cos(0.99911551571 + 462.0229135281 * t);
-            R2 += 0.00000000541 * Math.cos(6.19275150397 + 1987.2168981566 * t);
-            R2 += 0.00000000511 * Math.cos(3.28553278370 + 4.665866446 * t);
-            R2 += 0.00000000537 * Math.cos(5.33205206604 + 2751.5475996916 * t);
-            R2 += 0.00000000651 * Math.cos(5.12199308959 + 3156.8051495652 * t);
-            R2 += 0.00000000510 * Math.cos(5.35664230912 + 9.5612275556 * t);
-            R2 += 0.00000000544 * Math.cos(1.81488805078 + 1251.3403846248 * t);
-            R2 += 0.00000000426 * Math.cos(2.10841334313 + 149.5631971346 * t);
-            R2 += 0.00000000516 * Math.cos(3.89424540015 + 2516.9078632512 * t);
-            R2 += 0.00000000543 * Math.cos(5.56620814561 + 2524.021410252 * t);
-            R2 += 0.00000000519 * Math.cos(2.43126348834 + 3686.4961146598 * t);
-            R2 += 0.00000000404 * Math.cos(2.77840802846 + 7.1617311106 * t);
-            R2 += 0.00000000533 * Math.cos(4.77083438961 + 3473.1970192218 * t);
-            R2 += 0.00000000386 * Math.cos(6.06244501785 + 203.0041546995 * t);
-            R2 += 0.00000000482 * Math.cos(0.38718011166 + 2428.0421830342 * t);
-            R2 += 0.00000000434 * Math.cos(5.36713537673 + 2531.1349572528 * t);
-            R2 += 0.00000000370 * Math.cos(6.04174787347 + 1670.82502850 * t);
-        }
-        return R2 * t * t;
+        return new double[] {
+                0.00079644957, 1.35865949884, 529.6909650946,
+                0.00008251645, 5.77774460400, 522.5774180938,
+                0.00007029940, 3.27477392111, 536.8045120954,
+                0.00005314031, 1.83835031247, 1059.3819301892,
+                0.00001861184, 2.97686957956, 7.1135470008,
+                0.00000964420, 5.48029587251, 515.463871093,
+                0.00000836256, 4.19892740368, 419.4846438752,
+                -0.00000497914, 0, 0,
+                0.00000426544, 2.22743958182, 639.897286314,
+                0.00000406408, 3.78248932836, 1066.49547719,
+                0.00000377334, 2.24232535935, 1589.0728952838,
+                0.00000362961, 5.36776401268, 206.1855484372,
+                0.00000342139, 6.09909325177, 1052.2683831884,
+                0.00000339124, 6.12690872435, 625.6701923124,
+                0.00000332558, 0.00332561805, 426.598190876,
+                0.00000279940, 4.26158071104, 412.3710968744,
+                0.00000257306, 0.96267482500, 632.7837393132,
+                0.00000229775, 0.70510840437, 735.8765135318,
+                0.00000200884, 3.06805028347, 543.9180590962,
+                0.00000199660, 4.42869041267, 103.0927742186,
+                0.00000138577, 2.93153004432, 14.2270940016,
+                0.00000113380, 0.78831018317, 728.762966531,
+                0.00000094695, 1.70378030966, 838.9692877504,
+                0.00000085848, 5.14257631438, 323.5054166574,
+                0.00000083674, 0.05892269245, 309.2783226558,
+                0.00000080209, 2.98293613006, 742.9900605326,
+                0.00000075194, 1.60633621497, 956.2891559706,
+                0.00000070197, 1.50916343132, 213.299095438,
+                0.00000066425, 5.47411271821, 199.0720014364,
+                0.00000061758, 6.10246926546, 1045.1548361876,
+                0.00000056365, 0.95014515126, 1162.4747044078,
+                0.00000051793, 5.58477632168, 942.062061969,
+                0.00000050128, 2.72034786035, 532.8723588323,
+                0.00000044584, 5.52437023269, 508.3503240922,
+                0.00000044215, 0.26965913924, 526.5095713569,
+                0.00000039925, 5.94843040319, 95.9792272178,
+                0.00000030130, 0.93896301926, 1155.361157407,
+                0.00000029439, 1.78672212056, 831.8557407496,
+                0.00000028433, 2.87743261296, 525.7588118315,
+                0.00000027531, 2.64852579481, 2118.7638603784,
+                0.00000027064, 2.80927398799, 1169.5882514086,
+                0.00000026377, 4.26907277677, 1596.1864422846,
+                0.00000022695, 0.18097965354, 302.164775655,
+                0.00000021698, 1.88986950330, 1272.6810256272,
+                0.00000021474, 4.34579246643, 316.3918696566,
+                0.00000021174, 0.54776446005, 1265.5674786264,
+                0.00000020007, 0.03856532918, 949.1756089698,
+                0.00000019915, 1.15792331540, 533.6231183577,
+                0.00000019878, 0.06616288602, 1581.959348283,
+                0.00000017678, 4.14815218724, 846.0828347512,
+                0.00000017064, 5.88794387217, 1258.4539316256,
+                0.00000017028, 0.53404092917, 1368.660252845,
+                0.00000012887, 0.81112211137, 110.2063212194,
+                0.00000012874, 3.89924775426, 433.7117378768,
+                0.00000012042, 2.22601252935, 220.4126424388,
+                0.00000011716, 0.40420153376, 1361.5467058442,
+                0.00000011655, 4.43864372476, 405.2575498736,
+                0.00000010252, 0.99356542172, 1471.7530270636,
+                0.00000009620, 6.01003863537, 853.196381752,
+                0.00000009118, 1.51639567636, 1148.2476104062,
+                0.00000009102, 1.61635845262, 1692.1656695024,
+                0.00000008917, 6.26263765188, 519.3960243561,
+                0.00000008722, 3.51382233353, 1073.6090241908,
+                0.00000008283, 5.61696036887, 1574.8458012822,
+                0.00000007962, 0.64245582750, 1478.8665740644,
+                0.00000007722, 0.17138136003, 1685.0521225016,
+                0.00000007445, 0.90537428710, 88.865680217,
+                0.00000007337, 0.88996282570, 721.6494195302,
+                0.00000007001, 4.44209624915, 330.6189636582,
+                0.00000006139, 2.49651421842, 3.1813937377,
+                0.00000005341, 0.86294969395, 1788.1448967202,
+                0.00000005235, 2.79243270986, 21.3406410024,
+                0.00000005041, 2.97840393432, 1375.7737998458,
+                0.00000004937, 0.04442899397, 1677.9385755008,
+                0.00000004667, 0.84935842035, 3.9321532631,
+                0.00000004633, 2.26661974645, 1485.9801210652,
+                0.00000004453, 1.27731121245, 1464.6394800628,
+                0.00000004248, 0.41663016954, 629.6023455755,
+                0.00000004187, 1.62198715560, 635.9651330509,
+                0.00000003629, 2.71174024514, 551.031606097,
+                0.00000003409, 1.20638860556, 1905.4647649404,
+                0.00000003404, 2.44670518809, 539.9859058331,
+                0.00000003266, 0.54602174256, 1795.258443721,
+                0.00000003168, 5.58075929197, 191.9584544356,
+                0.00000003164, 6.20189662302, 1038.0412891868,
+                0.00000003096, 6.21099164255, 2001.4439921582,
+                0.00000002624, 2.36922205485, 227.5261894396,
+                0.00000002609, 4.82665360488, 416.3032501375,
+                0.00000002597, 0.57986674442, 2104.5367663768,
+                0.00000002553, 3.20949626593, 1062.5633239269,
+                0.00000002553, 1.24739305569, 2221.856634597,
+                0.00000002547, 0.14627545776, 750.1036075334,
+                0.00000002484, 0.04731413707, 1898.3512179396,
+                0.00000002386, 4.29199230828, 963.4027029714,
+                0.00000002279, 1.96058124545, 824.7421937488,
+                0.00000002258, 6.17429279705, 1994.3304451574,
+                0.00000002201, 5.33344494715, 1891.2376709388,
+                0.00000002187, 1.71707514653, 628.8515860501,
+                0.00000002099, 1.05944599014, 1781.0313497194,
+                0.00000002097, 3.31460321409, 1699.2792165032,
+                0.00000002081, 0.31057710726, 2111.6503133776,
+                0.00000002027, 3.15533834136, 611.4430983108,
+                0.00000001999, 4.62828691526, 423.4167971383,
+                0.00000001983, 2.99080832362, 2648.454825473,
+                0.00000001971, 1.15435477931, 618.5566453116,
+                0.00000001963, 0.29583638556, 636.7158925763,
+                0.00000001881, 2.76425929784, 1802.3719907218,
+                0.00000001850, 1.60578508516, 2008.557539159,
+                0.00000001829, 4.69907372627, 2125.8774073792,
+                0.00000001829, 0.33004933298, 295.0512286542,
+                0.00000001786, 3.46994340828, 1055.4497769261,
+                0.00000001785, 3.51009274020, 647.0108333148,
+                0.00000001742, 2.43853510157, 10.2949407385,
+                0.00000001639, 0.45469643466, 1056.2005364515,
+                0.00000001628, 5.86754764931, 2317.8358618148,
+                0.00000001611, 5.83466560322, 422.6660376129,
+                0.00000001570, 2.39516560987, 440.8252848776,
+                0.00000001502, 5.74598263477, 117.3198682202,
+                0.00000001480, 0.02394813605, 1382.8873468466,
+                0.00000001402, 0.15904673895, 2420.9286360334,
+                0.00000001321, 1.26221998203, 1063.3140834523,
+                0.00000001174, 1.55354182426, 380.12776796,
+                0.00000001165, 0.72510519647, 2097.423219376,
+                0.00000001150, 4.12219328847, 547.8502123593,
+                0.00000001138, 5.93242605811, 2310.722314814,
+                0.00000001080, 4.41192013439, 934.9485149682,
+                0.00000001033, 5.63854408052, 99.9113804809,
+                0.00000001012, 3.80744305824, 1603.2999892854,
+                0.00000000949, 6.07298626146, 511.5317178299,
+                0.00000000924, 1.43423249860, 732.6951197941,
+                0.00000000922, 6.16494528393, 945.9942152321,
+                0.00000000915, 5.22425774632, 2207.6295405954,
+                0.00000000889, 0.10251260092, 2737.32050569,
+                0.00000000868, 2.67598866406, 3370.1042450032,
+                0.00000000866, 3.02831268213, 3046.5988283458,
+                0.00000000860, 2.48740591818, 6283.0758499914,
+                0.00000000858, 1.51763095265, 2324.9494088156,
+                0.00000000851, 4.69371733745, 5746.271337896,
+                0.00000000846, 0.77030801324, 5760.4984318976,
+                0.00000000841, 1.22483116811, 952.3570027075,
+                0.00000000836, 1.08651799806, 81.7521332162,
+                0.00000000812, 5.00490295474, 319.5732633943,
+                0.00000000805, 6.11630827296, 9676.4810341156,
+                0.00000000800, 2.19289534160, 9690.7081281172,
+                0.00000000789, 3.91035208173, 10213.285546211,
+                0.00000000782, 2.52401202862, 3679.382567659,
+                0.00000000779, 2.38608991574, 3267.0114707846,
+                0.00000000771, 6.01059588645, 2214.7430875962,
+                0.00000000743, 0.60536479474, 1354.4331588434,
+                0.00000000733, 5.84583969196, 2634.2277314714,
+                0.00000000720, 3.95975713584, 337.732510659,
+                0.00000000717, 4.14222389339, 9683.5945811164,
+                0.00000000711, 1.23970970528, 106.2741679563,
+                0.00000000710, 0.65180853077, 2538.2485042536,
+                0.00000000691, 1.14062641255, 2641.3412784722,
+                0.00000000681, 1.18831331541, 739.8086667949,
+                0.00000000660, 6.01207640959, 1049.0869894507,
+                0.00000000651, 5.12199308959, 3156.8051495652,
+                0.00000000639, 4.77149952374, 860.3099287528,
+                0.00000000633, 1.37719198152, 124.433415221,
+                0.00000000631, 2.27765412816, 2015.6710861598,
+                0.00000000621, 1.24462887440, 3803.81598288,
+                0.00000000593, 1.80277592426, 453.424893819,
+                0.00000000586, 5.68149019460, 107.0249274817,
+                0.00000000584, 3.00542907219, 1262.3860848887,
+                0.00000000546, 3.43095520503, 18.1592472647,
+                0.00000000545, 5.65426574985, 2627.1141844706,
+                0.00000000544, 1.81488805078, 1251.3403846248,
+                0.00000000543, 3.09924086245, 3281.2385647862,
+                0.00000000543, 5.56620814561, 2524.021410252,
+                0.00000000541, 6.19275150397, 1987.2168981566,
+                0.00000000538, 4.92334194042, 447.7958195265,
+                0.00000000537, 5.33205206604, 2751.5475996916,
+                0.00000000535, 2.42171003067, 739.0579072695,
+                0.00000000534, 0.99911551571, 462.0229135281,
+                0.00000000533, 4.77083438961, 3473.1970192218,
+                0.00000000519, 2.43126348834, 3686.4961146598,
+                0.00000000516, 3.89424540015, 2516.9078632512,
+                0.00000000511, 3.28553278370, 4.665866446,
+                0.00000000510, 5.35664230912, 9.5612275556,
+                0.00000000482, 0.38718011166, 2428.0421830342,
+                0.00000000434, 5.36713537673, 2531.1349572528,
+                0.00000000426, 2.10841334313, 149.5631971346,
+                0.00000000404, 2.77840802846, 7.1617311106,
+                0.00000000386, 6.06244501785, 203.0041546995,
+                0.00000000370, 6.04174787347, 1670.82502850
+        };
     }
 
-    public double R3(double t) // 97 terms of order 3
+    private static double[] r3() // 97 terms of order 3
     {
-        double R3 = 0;
-        R3 += 0.00003519277 * Math.cos(6.05800355513 + 529.6909650946 * t);
-        R3 += 0.00001073281 * Math.cos(1.67319166156 + 536.8045120954 * t);
-        R3 += 0.00000915630 * Math.cos(1.41326157617 + 522.5774180938 * t);
-        R3 += 0.00000341654 * Math.cos(0.52294532787 + 1059.3819301892 * t);
-        R3 += 0.00000254881 * Math.cos(1.19631092831 + 7.1135470008 * t);
-        R3 += 0.00000221477 * Math.cos(0.95234304351 + 515.463871093 * t);
-        R3 += 0.00000069020 * Math.cos(2.26889455907 + 1066.49547719 * t);
-        R3 -= 0.00000089777;
-        R3 += 0.00000057885 * Math.cos(1.41227055539 + 543.9180590962 * t);
-        R3 += 0.00000057700 * Math.cos(0.52564805704 + 639.897286314 * t);
-        R3 += 0.00000051213 * Math.cos(5.97994255422 + 412.3710968744 * t);
-        R3 += 0.00000046968 * Math.cos(1.57861666908 + 625.6701923124 * t);
-        R3 += 0.00000042744 * Math.cos(6.11814173992 + 419.4846438752 * t);
-        R3 += 0.00000037444 * Math.cos(1.18048940249 + 14.2270940016 * t);
-        R3 += 0.00000033816 * Math.cos(1.66573652907 + 1052.2683831884 * t);
-        R3 += 0.00000031166 * Math.cos(1.04468072620 + 1589.0728952838 * t);
-        R3 += 0.00000029943 * Math.cos(4.63498871771 + 426.598190876 * t);
-        R3 += 0.00000033558 * Math.cos(0.84853879170 + 206.1855484372 * t);
-        R3 += 0.00000020709 * Math.cos(2.50340319894 + 728.762966531 * t);
-        R3 += 0.00000014470 * Math.cos(0.96111460506 + 508.3503240922 * t);
-        R3 += 0.00000012974 * Math.cos(1.50391478213 + 1045.1548361876 * t);
-        R3 += 0.00000011596 * Math.cos(3.55299164531 + 323.5054166574 * t);
-        R3 += 0.00000012357 * Math.cos(2.60797398650 + 735.8765135318 * t);
-        R3 += 0.00000015065 * Math.cos(0.87961214090 + 199.0720014364 * t);
-        R3 += 0.00000011062 * Math.cos(1.78854133467 + 309.2783226558 * t);
-        R3 += 0.00000010576 * Math.cos(0.00265970762 + 956.2891559706 * t);
-        R3 += 0.00000009798 * Math.cos(6.24533081819 + 103.0927742186 * t);
-        R3 += 0.00000006725 * Math.cos(1.86312777034 + 302.164775655 * t);
-        R3 += 0.00000009133 * Math.cos(3.46071465629 + 838.9692877504 * t);
-        R3 += 0.00000007338 * Math.cos(1.28438797074 + 742.9900605326 * t);
-        R3 += 0.00000007182 * Math.cos(0.91717952341 + 942.062061969 * t);
-        R3 += 0.00000005482 * Math.cos(1.35541254124 + 95.9792272178 * t);
-        R3 += 0.00000006754 * Math.cos(3.45186268696 + 831.8557407496 * t);
-        R3 += 0.00000004626 * Math.cos(2.83572146596 + 1596.1864422846 * t);
-        R3 += 0.00000004106 * Math.cos(6.01730779864 + 213.299095438 * t);
-        R3 += 0.00000003942 * Math.cos(1.19384143223 + 1169.5882514086 * t);
-        R3 += 0.00000003469 * Math.cos(6.10664206989 + 405.2575498736 * t);
-        R3 += 0.00000002861 * Math.cos(2.32367020387 + 1155.361157407 * t);
-        R3 += 0.00000002519 * Math.cos(0.42500820125 + 220.4126424388 * t);
-        if (highAccuracy) {
-            R3 += 0.00000002468 * Math.cos(1.84219414782 + 532.8723588323 * t);
-            R3 += 0.00000002322 * Math.cos(1.57653167974 + 2118.7638603784 * t);
-            R3 += 0.00000002283 * Math.cos(0.13415259559 + 632.7837393132 * t);
-            R3 += 0.00000002243 * Math.cos(1.91751229130 + 1073.6090241908 * t);
-            R3 += 0.00000002285 * Math.cos(5.94194291108 + 1162.4747044078 * t);
-            R3 += 0.00000002137 * Math.cos(1.06953434212 + 21.3406410024 * t);
-            R3 += 0.00000002515 * Math.cos(0.33520672477 + 1272.6810256272 * t);
-            R3 += 0.00000002042 * Math.cos(5.92779916530 + 110.2063212194 * t);
-            R3 += 0.00000001927 * Math.cos(2.58542297225 + 88.865680217 * t);
-            R3 += 0.00000002021 * Math.cos(2.21761113830 + 433.7117378768 * t);
-            R3 += 0.00000001943 * Math.cos(1.46376661665 + 1258.4539316256 * t);
-            R3 += 0.00000001700 * Math.cos(1.88459425041 + 525.7588118315 * t);
-            R3 += 0.00000001815 * Math.cos(2.67626558650 + 330.6189636582 * t);
-            R3 += 0.00000001821 * Math.cos(2.75572507789 + 721.6494195302 * t);
-            R3 += 0.00000002068 * Math.cos(3.17049523925 + 1148.2476104062 * t);
-            R3 += 0.00000001866 * Math.cos(2.28678298902 + 1361.5467058442 * t);
-            R3 += 0.00000001526 * Math.cos(4.47646904898 + 853.196381752 * t);
-            R3 += 0.00000001508 * Math.cos(0.11633951449 + 949.1756089698 * t);
-            R3 += 0.00000001655 * Math.cos(0.44340210808 + 533.6231183577 * t);
-            R3 += 0.00000001572 * Math.cos(0.45863923926 + 526.5095713569 * t);
-            R3 += 0.00000001161 * Math.cos(3.10471097791 + 963.4027029714 * t);
-            R3 += 0.00000001162 * Math.cos(1.19270352887 + 1574.8458012822 * t);
-            R3 += 0.00000001140 * Math.cos(2.46324106660 + 846.0828347512 * t);
-            R3 += 0.00000001259 * Math.cos(1.24988357144 + 1038.0412891868 * t);
-            R3 += 0.00000001396 * Math.cos(0.69581007586 + 551.031606097 * t);
-            R3 += 0.00000001182 * Math.cos(1.93125671013 + 1581.959348283 * t);
-            R3 += 0.00000000894 * Math.cos(2.85762385272 + 519.3960243561 * t);
-            R3 += 0.00000000983 * Math.cos(4.17198081351 + 2627.1141844706 * t);
-            R3 += 0.00000001061 * Math.cos(0.66716890315 + 539.9859058331 * t);
-            R3 += 0.00000000859 * Math.cos(4.91931457958 + 611.4430983108 * t);
-            R3 += 0.00000000918 * Math.cos(4.89690742057 + 1670.82502850 * t);
-            R3 += 0.00000000866 * Math.cos(3.00153408458 + 1368.660252845 * t);
-            R3 += 0.00000001115 * Math.cos(0.97017156126 + 227.5261894396 * t);
-            R3 += 0.00000000887 * Math.cos(3.68665606145 + 824.7421937488 * t);
-            R3 += 0.00000000737 * Math.cos(3.20041743453 + 2125.8774073792 * t);
-            R3 += 0.00000000730 * Math.cos(2.32845485663 + 2317.8358618148 * t);
-            R3 += 0.00000000828 * Math.cos(1.01037712742 + 191.9584544356 * t);
-            R3 += 0.00000000778 * Math.cos(0.25303611679 + 1141.1340634054 * t);
-            R3 += 0.00000000757 * Math.cos(2.24232615954 + 2538.2485042536 * t);
-            R3 += 0.00000000720 * Math.cos(0.55787809007 + 440.8252848776 * t);
-            R3 += 0.00000000672 * Math.cos(4.17028096565 + 1692.1656695024 * t);
-            R3 += 0.00000000691 * Math.cos(5.78026436421 + 1485.9801210652 * t);
-            R3 += 0.00000000611 * Math.cos(2.66934999696 + 1265.5674786264 * t);
-            R3 += 0.00000000592 * Math.cos(2.26781665598 + 1471.7530270636 * t);
-            R3 += 0.00000000561 * Math.cos(6.11300561068 + 1279.794572628 * t);
-            R3 += 0.00000000566 * Math.cos(1.93294355027 + 2634.2277314714 * t);
-            R3 += 0.00000000545 * Math.cos(2.21244108948 + 1062.5633239269 * t);
-            R3 += 0.00000000640 * Math.cos(2.47352731748 + 1699.2792165032 * t);
-            R3 += 0.00000000694 * Math.cos(4.71564977334 + 750.1036075334 * t);
-            R3 += 0.00000000604 * Math.cos(1.97421641416 + 1677.9385755008 * t);
-            R3 += 0.00000000501 * Math.cos(2.45269887786 + 81.7521332162 * t);
-            R3 += 0.00000000552 * Math.cos(4.37775459043 + 1382.8873468466 * t);
-            R3 += 0.00000000556 * Math.cos(5.31872445991 + 2413.8150890326 * t);
-            R3 += 0.00000000589 * Math.cos(0.19759573714 + 10.2949407385 * t);
-            R3 += 0.00000000497 * Math.cos(2.52744546318 + 2207.6295405954 * t);
-            R3 += 0.00000000416 * Math.cos(6.19072120624 + 934.9485149682 * t);
-            R3 += 0.00000000433 * Math.cos(5.80559659477 + 1478.8665740644 * t);
-            R3 += 0.00000000395 * Math.cos(2.34556406839 + 295.0512286542 * t);
-        }
-        return R3 * t * t * t;
+        return new double[] {
+                0.00003519277, 6.05800355513, 529.6909650946,
+                0.00001073281, 1.67319166156, 536.8045120954,
+                0.00000915630, 1.41326157617, 522.5774180938,
+                0.00000341654, 0.52294532787, 1059.3819301892,
+                0.00000254881, 1.19631092831, 7.1135470008,
+                0.00000221477, 0.95234304351, 515.463871093,
+                -0.00000089777, 0, 0,
+                0.00000069020, 2.26889455907, 1066.49547719,
+                0.00000057885, 1.41227055539, 543.9180590962,
+                0.00000057700, 0.52564805704, 639.897286314,
+                0.00000051213, 5.97994255422, 412.3710968744,
+                0.00000046968, 1.57861666908, 625.6701923124,
+                0.00000042744, 6.11814173992, 419.4846438752,
+                0.00000037444, 1.18048940249, 14.2270940016,
+                0.00000033816, 1.66573652907, 1052.2683831884,
+                0.00000033558, 0.84853879170, 206.1855484372,
+                0.00000031166, 1.04468072620, 1589.0728952838,
+                0.00000029943, 4.63498871771, 426.598190876,
+                0.00000020709, 2.50340319894, 728.762966531,
+                0.00000015065, 0.87961214090, 199.0720014364,
+                0.00000014470, 0.96111460506, 508.3503240922,
+                0.00000012974, 1.50391478213, 1045.1548361876,
+                0.00000012357, 2.60797398650, 735.8765135318,
+                0.00000011596, 3.55299164531, 323.5054166574,
+                0.00000011062, 1.78854133467, 309.2783226558,
+                0.00000010576, 0.00265970762, 956.2891559706,
+                0.00000009798, 6.24533081819, 103.0927742186,
+                0.00000009133, 3.46071465629, 838.9692877504,
+                0.00000007338, 1.28438797074, 742.9900605326,
+                0.00000007182, 0.91717952341, 942.062061969,
+                0.00000006754, 3.45186268696, 831.8557407496,
+                0.00000006725, 1.86312777034, 302.164775655,
+                0.00000005482, 1.35541254124, 95.9792272178,
+                0.00000004626, 2.83572146596, 1596.1864422846,
+                0.00000004106, 6.01730779864, 213.299095438,
+                0.00000003942, 1.19384143223, 1169.5882514086,
+                0.00000003469, 6.10664206989, 405.2575498736,
+                0.00000002861, 2.32367020387, 1155.361157407,
+                0.00000002519, 0.42500820125, 220.4126424388,
+                0.00000002515, 0.33520672477, 1272.6810256272,
+                0.00000002468, 1.84219414782, 532.8723588323,
+                0.00000002322, 1.57653167974, 2118.7638603784,
+                0.00000002285, 5.94194291108, 1162.4747044078,
+                0.00000002283, 0.13415259559, 632.7837393132,
+                0.00000002243, 1.91751229130, 1073.6090241908,
+                0.00000002137, 1.06953434212, 21.3406410024,
+                0.00000002068, 3.17049523925, 1148.2476104062,
+                0.00000002042, 5.92779916530, 110.2063212194,
+                0.00000002021, 2.21761113830, 433.7117378768,
+                0.00000001943, 1.46376661665, 1258.4539316256,
+                0.00000001927, 2.58542297225, 88.865680217,
+                0.00000001866, 2.28678298902, 1361.5467058442,
+                0.00000001821, 2.75572507789, 721.6494195302,
+                0.00000001815, 2.67626558650, 330.6189636582,
+                0.00000001700, 1.88459425041, 525.7588118315,
+                0.00000001655, 0.44340210808, 533.6231183577,
+                0.00000001572, 0.45863923926, 526.5095713569,
+                0.00000001526, 4.47646904898, 853.196381752,
+                0.00000001508, 0.11633951449, 949.1756089698,
+                0.00000001396, 0.69581007586, 551.031606097,
+                0.00000001259, 1.24988357144, 1038.0412891868,
+                0.00000001182, 1.93125671013, 1581.959348283,
+                0.00000001162, 1.19270352887, 1574.8458012822,
+                0.00000001161, 3.10471097791, 963.4027029714,
+                0.00000001140, 2.46324106660, 846.0828347512,
+                0.00000001115, 0.97017156126, 227.5261894396,
+                0.00000001061, 0.66716890315, 539.9859058331,
+                0.00000000983, 4.17198081351, 2627.1141844706,
+                0.00000000918, 4.89690742057, 1670.82502850,
+                0.00000000894, 2.85762385272, 519.3960243561,
+                0.00000000887, 3.68665606145, 824.7421937488,
+                0.00000000866, 3.00153408458, 1368.660252845,
+                0.00000000859, 4.91931457958, 611.4430983108,
+                0.00000000828, 1.01037712742, 191.9584544356,
+                0.00000000778, 0.25303611679, 1141.1340634054,
+                0.00000000757, 2.24232615954, 2538.2485042536,
+                0.00000000737, 3.20041743453, 2125.8774073792,
+                0.00000000730, 2.32845485663, 2317.8358618148,
+                0.00000000720, 0.55787809007, 440.8252848776,
+                0.00000000694, 4.71564977334, 750.1036075334,
+                0.00000000691, 5.78026436421, 1485.9801210652,
+                0.00000000672, 4.17028096565, 1692.1656695024,
+                0.00000000640, 2.47352731748, 1699.2792165032,
+                0.00000000611, 2.66934999696, 1265.5674786264,
+                0.00000000604, 1.97421641416, 1677.9385755008,
+                0.00000000592, 2.26781665598, 1471.7530270636,
+                0.00000000589, 0.19759573714, 10.2949407385,
+                0.00000000566, 1.93294355027, 2634.2277314714,
+                0.00000000561, 6.11300561068, 1279.794572628,
+                0.00000000556, 5.31872445991, 2413.8150890326,
+                0.00000000552, 4.37775459043, 1382.8873468466,
+                0.00000000545, 2.21244108948, 1062.5633239269,
+                0.00000000501, 2.45269887786, 81.7521332162,
+                0.00000000497, 2.52744546318, 2207.6295405954,
+                0.00000000433, 5.80559659477, 1478.8665740644,
+                0.00000000416, 6.19072120624, 934.9485149682,
+                0.00000000395, 2.34556406839, 295.0512286542
+        };
     }
 
-    public double R4(double t) // 45 terms of order 4
+    private static double[] r4() // 45 terms of order 4
     {
-        double R4 = 0;
-        R4 += 0.00000128623 * Math.cos(0.08347608895 + 536.8045120954 * t);
-        R4 += 0.00000113458 * Math.cos(4.24818938180 + 529.6909650946 * t);
-        R4 += 0.00000082704 * Math.cos(3.29801136583 + 522.5774180938 * t);
-        R4 += 0.00000037897 * Math.cos(2.73402665560 + 515.463871093 * t);
-        R4 += 0.00000026713 * Math.cos(5.68996992467 + 7.1135470008 * t);
-        R4 += 0.00000017808 * Math.cos(5.40366594364 + 1059.3819301892 * t);
-        R4 += 0.00000012564 * Math.cos(6.00543529469 + 543.9180590962 * t);
-        R4 += 0.00000009272 * Math.cos(0.75619260404 + 1066.49547719 * t);
-        R4 += 0.00000008141 * Math.cos(5.68230705037 + 14.2270940016 * t);
-        R4 += 0.00000006174 * Math.cos(5.10190413726 + 639.897286314 * t);
-        R4 += 0.00000006920 * Math.cos(1.42214334807 + 412.3710968744 * t);
-        R4 += 0.00000005327 * Math.cos(3.33829390777 + 625.6701923124 * t);
-        R4 += 0.00000002895 * Math.cos(3.38407751603 + 1052.2683831884 * t);
-        R4 += 0.00000002696 * Math.cos(4.18310762577 + 728.762966531 * t);
-        R4 += 0.00000002435 * Math.cos(2.96139551556 + 426.598190876 * t);
-        R4 += 0.00000002176 * Math.cos(6.21232313303 + 1589.0728952838 * t);
-        R4 += 0.00000002008 * Math.cos(3.13891134942 + 1045.1548361876 * t);
-        R4 += 0.00000001817 * Math.cos(2.74670205576 + 206.1855484372 * t);
-        R4 += 0.00000001883 * Math.cos(1.87835568033 + 419.4846438752 * t);
-        R4 += 0.00000001501 * Math.cos(1.26929907808 + 1596.1864422846 * t);
-        R4 += 0.00000001701 * Math.cos(2.58901479440 + 199.0720014364 * t);
-        if (highAccuracy) {
-            R4 += 0.00000001689;
-            R4 += 0.00000001148 * Math.cos(5.18914327333 + 831.8557407496 * t);
-            R4 += 0.00000001033 * Math.cos(5.35702238710 + 220.4126424388 * t);
-            R4 += 0.00000000874 * Math.cos(5.79483644819 + 1169.5882514086 * t);
-            R4 += 0.00000000854 * Math.cos(4.55476058022 + 956.2891559706 * t);
-            R4 += 0.00000000913 * Math.cos(1.89622509837 + 1148.2476104062 * t);
-            R4 += 0.00000000949 * Math.cos(0.68597092334 + 1361.5467058442 * t);
-            R4 += 0.00000000788 * Math.cos(1.44319075028 + 1272.6810256272 * t);
-            R4 += 0.00000000774 * Math.cos(3.21426219962 + 508.3503240922 * t);
-            R4 += 0.00000000921 * Math.cos(5.33422516215 + 551.031606097 * t);
-            R4 += 0.00000000681 * Math.cos(0.44800059149 + 1073.6090241908 * t);
-            R4 += 0.00000000681 * Math.cos(5.21435913114 + 21.3406410024 * t);
-            R4 += 0.00000000587 * Math.cos(4.57539103016 + 110.2063212194 * t);
-            R4 += 0.00000000578 * Math.cos(1.97098995055 + 647.0108333148 * t);
-            R4 += 0.00000000596 * Math.cos(2.85043907413 + 191.9584544356 * t);
-            R4 += 0.00000000599 * Math.cos(2.43146933611 + 117.3198682202 * t);
-            R4 += 0.00000000544 * Math.cos(0.53039419311 + 330.6189636582 * t);
-            R4 += 0.00000000545 * Math.cos(3.50461220615 + 302.164775655 * t);
-            R4 += 0.00000000538 * Math.cos(4.22160404735 + 88.865680217 * t);
-            R4 += 0.00000000757 * Math.cos(2.28818475655 + 942.062061969 * t);
-            R4 += 0.00000000562 * Math.cos(1.48594378600 + 3.1813937377 * t);
-            R4 += 0.00000000631 * Math.cos(1.83863158533 + 10.2949407385 * t);
-            R4 += 0.00000000504 * Math.cos(2.08322743695 + 103.0927742186 * t);
-            R4 += 0.00000000462 * Math.cos(0.40130574859 + 433.7117378768 * t);
-        }
-        return R4 * t * t * t * t;
+        return new double[] {
+                0.00000128623, 0.08347608895, 536.8045120954,
+                0.00000113458, 4.24818938180, 529.6909650946,
+                0.00000082704, 3.29801136583, 522.5774180938,
+                0.00000037897, 2.73402665560, 515.463871093,
+                0.00000026713, 5.68996992467, 7.1135470008,
+                0.00000017808, 5.40366594364, 1059.3819301892,
+                0.00000012564, 6.00543529469, 543.9180590962,
+                0.00000009272, 0.75619260404, 1066.49547719,
+                0.00000008141, 5.68230705037, 14.2270940016,
+                0.00000006920, 1.42214334807, 412.3710968744,
+                0.00000006174, 5.10190413726, 639.897286314,
+                0.00000005327, 3.33829390777, 625.6701923124,
+                0.00000002895, 3.38407751603, 1052.2683831884,
+                0.00000002696, 4.18310762577, 728.762966531,
+                0.00000002435, 2.96139551556, 426.598190876,
+                0.00000002176, 6.21232313303, 1589.0728952838,
+                0.00000002008, 3.13891134942, 1045.1548361876,
+                0.00000001883, 1.87835568033, 419.4846438752,
+                0.00000001817, 2.74670205576, 206.1855484372,
+                0.00000001701, 2.58901479440, 199.0720014364,
+                0.00000001689, 0, 0,
+                0.00000001501, 1.26929907808, 1596.1864422846,
+                0.00000001148, 5.18914327333, 831.8557407496,
+                0.00000001033, 5.35702238710, 220.4126424388,
+                0.00000000949, 0.68597092334, 1361.5467058442,
+                0.00000000921, 5.33422516215, 551.031606097,
+                0.00000000913, 1.89622509837, 1148.2476104062,
+                0.00000000874, 5.79483644819, 1169.5882514086,
+                0.00000000854, 4.55476058022, 956.2891559706,
+                0.00000000788, 1.44319075028, 1272.6810256272,
+                0.00000000774, 3.21426219962, 508.3503240922,
+                0.00000000757, 2.28818475655, 942.062061969,
+                0.00000000681, 0.44800059149, 1073.6090241908,
+                0.00000000681, 5.21435913114, 21.3406410024,
+                0.00000000631, 1.83863158533, 10.2949407385,
+                0.00000000599, 2.43146933611, 117.3198682202,
+                0.00000000596, 2.85043907413, 191.9584544356,
+                0.00000000587, 4.57539103016, 110.2063212194,
+                0.00000000578, 1.97098995055, 647.0108333148,
+                0.00000000562, 1.48594378600, 3.1813937377,
+                0.00000000545, 3.50461220615, 302.164775655,
+                0.00000000544, 0.53039419311, 330.6189636582,
+                0.00000000538, 4.22160404735, 88.865680217,
+                0.00000000504, 2.08322743695, 103.0927742186,
+                0.00000000462, 0.40130574859, 433.7117378768
+        };
     }
 
-    public double R5(double t) // 9 terms of order 5
+    private static double[] r5() // 9 terms of order 5
     {
-        double R5 = 0;
-        R5 += 0.00000011193 * Math.cos(4.74280611863 + 536.8045120954 * t);
-        R5 += 0.00000004288 * Math.cos(5.90497787277 + 522.5774180938 * t);
-        R5 += 0.00000002004 * Math.cos(3.65178377123 + 7.1135470008 * t);
-        R5 += 0.00000002118 * Math.cos(5.57290745004 + 515.463871093 * t);
-        R5 += 0.00000001908 * Math.cos(4.29659647286 + 543.9180590962 * t);
-        R5 += 0.00000001534 * Math.cos(5.46373729640 + 1066.49547719 * t);
-        R5 += 0.00000001596 * Math.cos(4.11045079899 + 1059.3819301892 * t);
-        if (highAccuracy) {
-            R5 += 0.00000001301 * Math.cos(3.72955393027 + 14.2270940016 * t);
-            R5 += 0.00000001033 * Math.cos(4.50671820436 + 529.6909650946 * t);
-        }
-        return R5 * t * t * t * t * t;
+        return new double[] {
+                0.00000011193, 4.74280611863, 536.8045120954,
+                0.00000004288, 5.90497787277, 522.5774180938,
+                0.00000002118, 5.57290745004, 515.463871093,
+                0.00000002004, 3.65178377123, 7.1135470008,
+                0.00000001908, 4.29659647286, 543.9180590962,
+                0.00000001596, 4.11045079899, 1059.3819301892,
+                0.00000001534, 5.46373729640, 1066.49547719,
+                0.00000001301, 3.72955393027, 14.2270940016,
+                0.00000001033, 4.50671820436, 529.6909650946
+        };
     }
 
 }
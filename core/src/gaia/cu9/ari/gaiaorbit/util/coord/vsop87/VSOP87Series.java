@@ -0,0 +1,129 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.coord.vsop87;
+
+/**
+ * A single VSOP87 series of a given order, the sum of the terms
+ * <code>A cos(B + C t)</code> multiplied by <code>t^order</code>. The
+ * coefficients are kept in primitive arrays sorted by decreasing amplitude, so
+ * that a truncated series is just a prefix of the arrays.
+ *
+ * @author tsagrista
+ */
+public final class VSOP87Series {
+    private final int order;
+    private final double[] a, b, c;
+
+    /**
+     * Creates a series from its terms
+     *
+     * @param order The order of the series, the power of t
+     * @param terms The terms as consecutive (A, B, C) triplets, sorted by decreasing |A|
+     */
+    public VSOP87Series(int order, double[] terms) {
+        if (terms.length % 3 != 0)
+            throw new IllegalArgumentException("The terms must be (A, B, C) triplets: " + terms.length);
+        this.order = order;
+        int n = terms.length / 3;
+        this.a = new double[n];
+        this.b = new double[n];
+        this.c = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = terms[i * 3];
+            b[i] = terms[i * 3 + 1];
+            c[i] = terms[i * 3 + 2];
+            if (i > 0 && Math.abs(a[i]) > Math.abs(a[i - 1]))
+                throw new IllegalArgumentException("The terms must be sorted by decreasing amplitude: " + i);
+        }
+    }
+
+    /**
+     * @return The order of the series
+     */
+    public int order() {
+        return order;
+    }
+
+    /**
+     * @return The number of terms
+     */
+    public int size() {
+        return a.length;
+    }
+
+    /**
+     * Number of leading terms whose amplitude is at least the given one
+     *
+     * @param minAmplitude The minimum amplitude
+     * @return The number of terms
+     */
+    public int count(double minAmplitude) {
+        int lo = 0, hi = a.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Math.abs(a[mid]) >= minAmplitude)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    /**
+     * Sum of the first n terms, without the <code>t^order</code> factor
+     *
+     * @param t The time in Julian millennia since J2000
+     * @param n The number of terms
+     * @return The sum
+     */
+    public double sum(double t, int n) {
+        double s = 0;
+        for (int i = 0; i < n; i++)
+            s += a[i] * Math.cos(b[i] + c[i] * t);
+        return s;
+    }
+
+    /**
+     * Value of the series truncated to the first n terms
+     *
+     * @param t The time in Julian millennia since J2000
+     * @param n The number of terms
+     * @return The value
+     */
+    public double value(double t, int n) {
+        double s = sum(t, n);
+        for (int k = 0; k < order; k++)
+            s *= t;
+        return s;
+    }
+
+    /**
+     * Adds the value of the series truncated to the first n terms at many
+     * epochs to the output. The loop over the epochs is the inner one, so that
+     * every term is loaded once for all of them.
+     *
+     * @param t       The times in Julian millennia since J2000
+     * @param m       The number of epochs
+     * @param n       The number of terms
+     * @param out     The values are added here
+     * @param scratch Scratch array with room for m values
+     */
+    public void add(double[] t, int m, int n, double[] out, double[] scratch) {
+        for (int j = 0; j < m; j++)
+            scratch[j] = 0;
+        for (int i = 0; i < n; i++) {
+            double ai = a[i], bi = b[i], ci = c[i];
+            for (int j = 0; j < m; j++)
+                scratch[j] += ai * Math.cos(bi + ci * t[j]);
+        }
+        for (int j = 0; j < m; j++) {
+            double s = scratch[j];
+            for (int k = 0; k < order; k++)
+                s *= t[j];
+            out[j] += s;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.ds;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Sorts indices by a key without boxing. Each key and its index are packed
+ * into a single long, with the key (as a float) in the high bits and the index
+ * in the low bits, so that sorting the longs sorts the indices by key. Work is
+ * split in chunks which run in parallel in the given pool, and all the arrays
+ * are provided by the caller. The chunk operations and tasks are created once
+ * per sorter and reused, so nothing is allocated per sort.
+ * <p>
+ * A sorter must not be used by more than one thread at a time.
+ *
+ * @author tsagrista
+ */
+public class IndexSorter {
+
+    /**
+     * Packs a key and an index into a long which sorts by key first
+     *
+     * @param key   The key
+     * @param index The index
+     * @return The packed value
+     */
+    public static long pack(double key, int index) {
+        int bits = Float.floatToIntBits((float) key);
+        // Negative floats sort in reverse order as integers, flip them
+        bits ^= (bits >> 31) & 0x7fffffff;
+        return ((long) bits << 32) | (index & 0xffffffffL);
+    }
+
+    /**
+     * Gets the index from a packed value
+     *
+     * @param packed The packed value
+     * @return The index
+     */
+    public static int index(long packed) {
+        return (int) packed;
+    }
+
+    private final ForkJoinPool pool;
+    private final ChunkAction root;
+    private Chunk[] chunks;
+
+    // State of the current sort, read by the chunk operations
+    private long[] keys, src, dst;
+    private int n, k, nChunks, width;
+
+    private final IntConsumer selectOp = c -> select(keys, chunkStart(n, nChunks, c), chunkStart(n, nChunks, c + 1), k);
+    private final IntConsumer sortOp = c -> Arrays.sort(keys, chunkStart(n, nChunks, c), chunkStart(n, nChunks, c + 1));
+    private final IntConsumer mergeOp = m -> {
+        int c0 = m * 2 * width;
+        int lo = chunkStart(n, nChunks, c0);
+        int mid = chunkStart(n, nChunks, Math.min(c0 + width, nChunks));
+        int hi = chunkStart(n, nChunks, Math.min(c0 + 2 * width, nChunks));
+        merge(src, lo, mid, hi, dst);
+    };
+
+    /**
+     * Creates a sorter
+     *
+     * @param pool The pool where the chunks run, may be null to run them in
+     *             the calling thread
+     */
+    public IndexSorter(ForkJoinPool pool) {
+        this.pool = pool;
+        this.root = new ChunkAction();
+        this.chunks = new Chunk[0];
+    }
+
+    /**
+     * Runs the operation for each chunk index in [0, nChunks), in parallel in
+     * the pool if there is more than one chunk
+     *
+     * @param nChunks The number of chunks
+     * @param op      The operation, which gets the chunk index. It should be
+     *                created once and reused, so that nothing is allocated
+     */
+    public void forEachChunk(int nChunks, IntConsumer op) {
+        if (pool == null || nChunks <= 1) {
+            for (int c = 0; c < nChunks; c++)
+                op.accept(c);
+        } else {
+            if (chunks.length < nChunks) {
+                Chunk[] grown = Arrays.copyOf(chunks, nChunks);
+                for (int c = chunks.length; c < nChunks; c++)
+                    grown[c] = new Chunk(c);
+                chunks = grown;
+            }
+            root.reinitialize();
+            root.count = nChunks;
+            root.op = op;
+            try {
+                pool.invoke(root);
+            } finally {
+                root.op = null;
+            }
+        }
+    }
+
+    /**
+     * Start of the given chunk when n elements are split in nChunks chunks
+     */
+    public static int chunkStart(int n, int nChunks, int chunk) {
+        return (int) ((long) n * chunk / nChunks);
+    }
+
+    /**
+     * Puts the k smallest of the first n values in the first k positions of
+     * the array, sorted ascending. The rest of the first n positions are left
+     * in undefined order. If k is large compared to n, the n values are sorted.
+     *
+     * @param keys    The packed values
+     * @param n       The number of values
+     * @param k       The number of smallest values wanted
+     * @param tmp     Scratch array of at least n values, only used if all values are
+     *                sorted in more than one chunk. May be null, in which case the
+     *                values are sorted in one chunk.
+     * @param nChunks The maximum number of chunks
+     */
+    public void sortTopK(long[] keys, int n, int k, long[] tmp, int nChunks) {
+        k = Math.min(k, n);
+        if (k <= 0)
+            return;
+        // Chunks must hold at least k values for the selection to work
+        nChunks = Math.max(1, Math.min(nChunks, n / k));
+        if ((long) k * nChunks * 2 > n) {
+            // Close to a full sort
+            if (nChunks == 1 || tmp == null || tmp.length < n) {
+                Arrays.sort(keys, 0, n);
+            } else {
+                sortChunked(keys, n, tmp, nChunks);
+            }
+        } else {
+            this.keys = keys;
+            this.n = n;
+            this.k = k;
+            this.nChunks = nChunks;
+            // Select the k smallest of each chunk
+            forEachChunk(nChunks, selectOp);
+            // Move them to the front. Chunks hold at least k values, so the
+            // destinations never overlap the sources still to be moved
+            for (int c = 1; c < nChunks; c++)
+                System.arraycopy(keys, chunkStart(n, nChunks, c), keys, c * k, k);
+            // Select the k smallest of the candidates, and sort them
+            select(keys, 0, nChunks * k, k);
+            Arrays.sort(keys, 0, k);
+            this.keys = null;
+        }
+    }
+
+    /**
+     * Sorts the first n values in chunks, in parallel, and merges them
+     */
+    private void sortChunked(long[] keys, int n, long[] tmp, int nChunks) {
+        this.keys = keys;
+        this.n = n;
+        this.nChunks = nChunks;
+        forEachChunk(nChunks, sortOp);
+
+        src = keys;
+        dst = tmp;
+        for (width = 1; width < nChunks; width *= 2) {
+            int nMerges = (nChunks + 2 * width - 1) / (2 * width);
+            forEachChunk(nMerges, mergeOp);
+            long[] s = src;
+            src = dst;
+            dst = s;
+        }
+        if (src != keys)
+            System.arraycopy(src, 0, keys, 0, n);
+        this.keys = null;
+        this.src = null;
+        this.dst = null;
+    }
+
+    private static void merge(long[] src, int lo, int mid, int hi, long[] dst) {
+        int i = lo, j = mid, o = lo;
+        while (i < mid && j < hi)
+            dst[o++] = src[i] <= src[j] ? src[i++] : src[j++];
+        while (i < mid)
+            dst[o++] = src[i++];
+        while (j < hi)
+            dst[o++] = src[j++];
+    }
+
+    /**
+     * Quickselect. Rearranges a[from, to) so that its k smallest values are in
+     * a[from, from + k), in no particular order.
+     */
+    public static void select(long[] a, int from, int to, int k) {
+        int lo = from, hi = to - 1;
+        int target = from + k - 1;
+        if (k <= 0 || target >= hi)
+            return;
+        while (hi > lo) {
+            // Median of three pivot
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < a[lo])
+                swap(a, mid, lo);
+            if (a[hi] < a[lo])
+                swap(a, hi, lo);
+            if (a[hi] < a[mid])
+                swap(a, hi, mid);
+            long pivot = a[mid];
+
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (a[i] < pivot)
+                    i++;
+                while (a[j] > pivot)
+                    j--;
+                if (i <= j) {
+                    swap(a, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (target <= j)
+                hi = j;
+            else if (target >= i)
+                lo = i;
+            else
+                return;
+        }
+    }
+
+    private static void swap(long[] a, int i, int j) {
+        long t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * Runs the operation for the first count chunks, reused across sorts
+     */
+    private class ChunkAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        int count;
+        IntConsumer op;
+
+        @Override
+        protected void compute() {
+            for (int c = 1; c < count; c++) {
+                Chunk chunk = chunks[c];
+                chunk.reinitialize();
+                chunk.op = op;
+                chunk.fork();
+            }
+            Throwable error = null;
+            try {
+                op.accept(0);
+            } catch (RuntimeException | Error e) {
+                error = e;
+            }
+            // All chunks are waited for, even on errors, so that none is
+            // still running when the tasks are reused
+            for (int c = count - 1; c >= 1; c--) {
+                Chunk chunk = chunks[c];
+                chunk.quietlyJoin();
+                if (error == null)
+                    error = chunk.getException();
+                chunk.op = null;
+            }
+            if (error instanceof Error)
+                throw (Error) error;
+            if (error instanceof RuntimeException)
+                throw (RuntimeException) error;
+        }
+    }
+
+    private static class Chunk extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final int index;
+        IntConsumer op;
+
+        Chunk(int index) {
+            this.index = index;
+        }
+
+        @Override
+        protected void compute() {
+            op.accept(index);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.ds;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Off-heap map from long keys to double values, see {@link LongPrimitiveMap}.
+ *
+ * @author tsagrista
+ */
+public class LongDoubleMap extends LongPrimitiveMap {
+
+    /**
+     * Creates an empty map
+     *
+     * @param expectedSize The expected number of entries
+     */
+    public LongDoubleMap(long expectedSize) {
+        super(expectedSize, 8);
+    }
+
+    /**
+     * Opens the read only table in the given file
+     *
+     * @param file The file, written with {@link #write(File)}
+     * @throws IOException If the file can't be read or it is not a table of doubles
+     */
+    public LongDoubleMap(File file) throws IOException {
+        super(file, 8);
+    }
+
+    /**
+     * Puts the value of the key, replacing the previous one
+     *
+     * @param key   The key, not 0
+     * @param value The value
+     */
+    public void put(long key, double value) {
+        putBits(key, Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Gets the value of the key
+     *
+     * @param key          The key
+     * @param defaultValue The value to return if the key is not in the map
+     * @return The value
+     */
+    public double get(long key, double defaultValue) {
+        Shard s = shardOf(key);
+        int pos = find(s, key);
+        return pos < 0 ? defaultValue : s.buf.getDouble(pos + 8);
+    }
+}
@@ -0,0 +1,412 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.ds;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Base of the maps from long keys to primitive values which hold billions of
+ * entries, like the Gaia source ids of a catalog, out of the Java heap. The
+ * entries are split in shards by the hash of the key, and every shard is an
+ * open addressing table with linear probing in a direct buffer. Entries are
+ * a long key followed by the raw bits of the value. The key 0 marks the empty
+ * slots, so it can't be used.
+ * <p>
+ * Insertions can run in several threads at once, since they lock the shard
+ * only. Lookups don't lock nor allocate, and can run in several threads at
+ * once, but not at the same time as insertions.
+ * <p>
+ * The shards count against the direct memory of the JVM, which defaults to
+ * the maximum heap size. Set -XX:MaxDirectMemorySize to at least twice the
+ * number of entries times the size of an entry, e.g. 40 GB for the 1.3
+ * billion geometric distances of DR2. Running out of direct memory throws an
+ * {@link OutOfMemoryError}, and leaves the map unusable.
+ * <p>
+ * A map can be written to a file as a sorted table, which is memory-mapped
+ * when opened again. Tables are read only, their lookups are binary searches
+ * within the shard. File layout (big endian): a header with the magic number,
+ * the format version, the size of the values, the number of shards and the
+ * number of entries of every shard; then the entries of every shard, sorted by
+ * key.
+ *
+ * @author tsagrista
+ */
+public abstract class LongPrimitiveMap {
+    private static final long MAGIC = 0x474c4d4150303031L;
+    private static final int VERSION = 1;
+
+    /** Most slots of a shard, so that it fits in a buffer **/
+    private static final int MAX_SLOTS = 1 << 26;
+    private static final int INITIAL_SLOTS = 1 << 10;
+    private static final double LOAD_FACTOR = 0.7;
+    /** Expected entries per shard, half of what a shard can hold **/
+    private static final long SHARD_ENTRIES = (long) (MAX_SLOTS * LOAD_FACTOR / 2);
+    /** Fewest shards, so that parallel insertions seldom wait **/
+    private static final int MIN_SHARDS = 64;
+
+    static final class Shard {
+        ByteBuffer buf;
+        int slots, size;
+        // Sorted shards are read only
+        boolean sorted;
+    }
+
+    protected final int valueSize, entrySize;
+    private final Shard[] shards;
+
+    /**
+     * Creates an empty map
+     *
+     * @param expectedSize The expected number of entries. The map holds up to
+     *                     twice as many, depending on the distribution of the keys
+     * @param valueSize    The size of the values in bytes, 4 or 8
+     */
+    protected LongPrimitiveMap(long expectedSize, int valueSize) {
+        this.valueSize = valueSize;
+        this.entrySize = 8 + valueSize;
+        int n = (int) Math.max(MIN_SHARDS, (expectedSize + SHARD_ENTRIES - 1) / SHARD_ENTRIES);
+        this.shards = new Shard[n];
+        for (int i = 0; i < n; i++) {
+            Shard s = new Shard();
+            s.slots = INITIAL_SLOTS;
+            s.buf = ByteBuffer.allocateDirect(INITIAL_SLOTS * entrySize);
+            shards[i] = s;
+        }
+    }
+
+    /**
+     * Opens the table in the given file, written with {@link #write(File)}
+     *
+     * @param file      The file
+     * @param valueSize The size of the values in bytes, must match the file
+     * @throws IOException If the file can't be read or it is not a table
+     */
+    protected LongPrimitiveMap(File file, int valueSize) throws IOException {
+        this.valueSize = valueSize;
+        this.entrySize = 8 + valueSize;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            if (raf.length() < 24 || raf.readLong() != MAGIC || raf.readInt() != VERSION)
+                throw new IOException("Not a table file: " + file.getAbsolutePath());
+            int vs = raf.readInt();
+            if (vs != valueSize)
+                throw new IOException("Table values have " + vs + " bytes, expected " + valueSize + ": " + file.getAbsolutePath());
+            int n = raf.readInt();
+            raf.readInt();
+            this.shards = new Shard[n];
+            long offset = 24 + 8L * n;
+            FileChannel channel = raf.getChannel();
+            for (int i = 0; i < n; i++) {
+                Shard s = new Shard();
+                s.size = (int) raf.readLong();
+                s.sorted = true;
+                long bytes = (long) s.size * entrySize;
+                if (offset + bytes > raf.length())
+                    throw new IOException("Table file is truncated: " + file.getAbsolutePath());
+                s.buf = channel.map(FileChannel.MapMode.READ_ONLY, offset, bytes);
+                offset += bytes;
+                shards[i] = s;
+            }
+        }
+    }
+
+    /**
+     * Checks whether the given file holds a table written with
+     * {@link #write(File)}
+     *
+     * @param file The file
+     * @return Whether it is a table
+     */
+    public static boolean isTable(File file) {
+        if (!file.isFile() || file.length() < 24)
+            return false;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            return raf.readLong() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /** Murmur3 finalizer, spreads the sequential bits of the source ids **/
+    private static long hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+
+    private Shard shard(long hash) {
+        return shards[(int) ((hash >>> 32) % shards.length)];
+    }
+
+    /**
+     * @param key The key
+     * @return The shard of the key
+     */
+    final Shard shardOf(long key) {
+        return shard(hash(key));
+    }
+
+    /**
+     * Position of the entry of the key in the shard buffer
+     *
+     * @return The position, or -1 if absent
+     */
+    final int find(Shard s, long key) {
+        return s.sorted ? search(s, key) : probe(s, key, hash(key));
+    }
+
+    private int probe(Shard s, long key, long h) {
+        if (key == 0)
+            return -1;
+        ByteBuffer buf = s.buf;
+        int mask = s.slots - 1;
+        int i = (int) h & mask;
+        while (true) {
+            int pos = i * entrySize;
+            long k = buf.getLong(pos);
+            if (k == key)
+                return pos;
+            if (k == 0)
+                return -1;
+            i = (i + 1) & mask;
+        }
+    }
+
+    private int search(Shard s, long key) {
+        ByteBuffer buf = s.buf;
+        int lo = 0, hi = s.size - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long k = buf.getLong(mid * entrySize);
+            if (k < key)
+                lo = mid + 1;
+            else if (k > key)
+                hi = mid - 1;
+            else
+                return mid * entrySize;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts the key, or finds it if it is there already
+     *
+     * @param s   The shard of the key, which must be locked
+     * @param key The key
+     * @return The position of the entry in the shard buffer
+     */
+    private int insert(Shard s, long key, long h) {
+        if (s.sorted)
+            throw new UnsupportedOperationException("Tables opened from a file are read only");
+        if (s.size + 1 > s.slots * LOAD_FACTOR)
+            grow(s);
+        ByteBuffer buf = s.buf;
+        int mask = s.slots - 1;
+        int i = (int) h & mask;
+        while (true) {
+            int pos = i * entrySize;
+            long k = buf.getLong(pos);
+            if (k == key)
+                return pos;
+            if (k == 0) {
+                buf.putLong(pos, key);
+                s.size++;
+                return pos;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void grow(Shard s) {
+        if (s.slots >= MAX_SLOTS)
+            throw new IllegalStateException("Map shard is full (" + s.size + " entries), the expected size is too small");
+        ByteBuffer old = s.buf;
+        int oldSlots = s.slots;
+        s.slots = oldSlots * 2;
+        s.buf = ByteBuffer.allocateDirect(s.slots * entrySize);
+        s.size = 0;
+        for (int i = 0; i < oldSlots; i++) {
+            int from = i * entrySize;
+            long key = old.getLong(from);
+            if (key != 0) {
+                int to = insert(s, key, hash(key));
+                copyValue(old, from, s.buf, to);
+            }
+        }
+    }
+
+    private void copyValue(ByteBuffer from, int fromPos, ByteBuffer to, int toPos) {
+        if (valueSize == 8)
+            to.putLong(toPos + 8, from.getLong(fromPos + 8));
+        else
+            to.putInt(toPos + 8, from.getInt(fromPos + 8));
+    }
+
+    /**
+     * Puts the raw bits of a value
+     *
+     * @param key  The key, not 0
+     * @param bits The bits of the value, only the low 32 are used for 4-byte
+     *             values
+     */
+    protected final void putBits(long key, long bits) {
+        if (key == 0)
+            throw new IllegalArgumentException("The key 0 is reserved");
+        long h = hash(key);
+        Shard s = shard(h);
+        synchronized (s) {
+            int pos = insert(s, key, h);
+            if (valueSize == 8)
+                s.buf.putLong(pos + 8, bits);
+            else
+                s.buf.putInt(pos + 8, (int) bits);
+        }
+    }
+
+    /**
+     * Checks whether the map contains the key
+     *
+     * @param key The key
+     * @return Whether it is in the map
+     */
+    public boolean containsKey(long key) {
+        long h = hash(key);
+        Shard s = shard(h);
+        return (s.sorted ? search(s, key) : probe(s, key, h)) >= 0;
+    }
+
+    /**
+     * @return The number of entries
+     */
+    public long size() {
+        long size = 0;
+        for (Shard s : shards)
+            size += s.size;
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (Shard s : shards)
+            if (s.size > 0)
+                return false;
+        return true;
+    }
+
+    /**
+     * Writes the map to the given file as a sorted table, which can be opened
+     * again with the constructor which takes a file. There must be no
+     * insertions meanwhile.
+     *
+     * @param file The file
+     * @throws IOException If the file can't be written
+     */
+    public void write(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(24 + 8 * shards.length);
+            header.putLong(MAGIC).putInt(VERSION).putInt(valueSize).putInt(shards.length).putInt(0);
+            for (Shard s : shards)
+                header.putLong(s.size);
+            header.flip();
+            writeFully(channel, header);
+            for (Shard s : shards) {
+                synchronized (s) {
+                    writeFully(channel, sortedEntries(s));
+                }
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer b) throws IOException {
+        while (b.hasRemaining())
+            channel.write(b);
+    }
+
+    /**
+     * The entries of the shard, compacted and sorted by key in a new buffer
+     */
+    private ByteBuffer sortedEntries(Shard s) {
+        if (s.sorted) {
+            ByteBuffer b = s.buf.duplicate();
+            b.clear();
+            return b;
+        }
+        ByteBuffer b = ByteBuffer.allocateDirect(s.size * entrySize);
+        int n = 0;
+        for (int i = 0; i < s.slots; i++) {
+            int from = i * entrySize;
+            long key = s.buf.getLong(from);
+            if (key != 0) {
+                b.putLong(n * entrySize, key);
+                copyValue(s.buf, from, b, n * entrySize);
+                n++;
+            }
+        }
+        sort(b, 0, n - 1);
+        return b;
+    }
+
+    /** Quicksort of the entries in [lo, hi] by key **/
+    private void sort(ByteBuffer b, int lo, int hi) {
+        while (hi - lo > 16) {
+            // Median of three as pivot
+            int mid = (lo + hi) >>> 1;
+            if (key(b, mid) < key(b, lo))
+                swap(b, mid, lo);
+            if (key(b, hi) < key(b, lo))
+                swap(b, hi, lo);
+            if (key(b, hi) < key(b, mid))
+                swap(b, hi, mid);
+            long pivot = key(b, mid);
+            int i = lo, j = hi;
+            while (i <= j) {
+                while (key(b, i) < pivot)
+                    i++;
+                while (key(b, j) > pivot)
+                    j--;
+                if (i <= j)
+                    swap(b, i++, j--);
+            }
+            // Recurse into the smaller part only
+            if (j - lo < hi - i) {
+                sort(b, lo, j);
+                lo = i;
+            } else {
+                sort(b, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++)
+            for (int j = i; j > lo && key(b, j) < key(b, j - 1); j--)
+                swap(b, j, j - 1);
+    }
+
+    private long key(ByteBuffer b, int i) {
+        return b.getLong(i * entrySize);
+    }
+
+    private void swap(ByteBuffer b, int i, int j) {
+        int pi = i * entrySize, pj = j * entrySize;
+        long k = b.getLong(pi);
+        b.putLong(pi, b.getLong(pj));
+        b.putLong(pj, k);
+        if (valueSize == 8) {
+            long v = b.getLong(pi + 8);
+            b.putLong(pi + 8, b.getLong(pj + 8));
+            b.putLong(pj + 8, v);
+        } else {
+            int v = b.getInt(pi + 8);
+            b.putInt(pi + 8, b.getInt(pj + 8));
+            b.putInt(pj + 8, v);
+        }
+    }
+}
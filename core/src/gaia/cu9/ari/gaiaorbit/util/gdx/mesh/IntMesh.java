@@ -138,7 +138,7 @@ public class IntMesh implements Disposable {
 
 	private VertexData makeVertexBuffer (boolean isStatic, int maxVertices, VertexAttributes vertexAttributes) {
 		if (Gdx.gl30 != null) {
-			return new VertexBufferObjectWithVAO(isStatic, maxVertices, vertexAttributes);
+			return new SubDataVertexBufferObjectWithVAO(isStatic, maxVertices, vertexAttributes);
 		} else {
 			return new VertexBufferObject(isStatic, maxVertices, vertexAttributes);
 		}
@@ -551,6 +551,26 @@ public class IntMesh implements Disposable {
 		return vertices.getBuffer();
 	}
 
+	/** @param forWriting whether the buffer is modified through the returned reference. If false, changes must be sent with
+	 *           {@link #updateVerticesRange(int, int)}. Only honoured by {@link SubDataVertexBufferObjectWithVAO}, otherwise the
+	 *           whole buffer is sent again on the next bind.
+	 * @return the backing FloatBuffer holding the vertices */
+	public FloatBuffer getVerticesBuffer (boolean forWriting) {
+		if (vertices instanceof SubDataVertexBufferObjectWithVAO)
+			return ((SubDataVertexBufferObjectWithVAO) vertices).getBuffer(forWriting);
+		return vertices.getBuffer();
+	}
+
+	/** Sends a range of the vertices buffer, modified via {@link #getVerticesBuffer(boolean)}, to the GPU right away. Falls back
+	 * to sending the whole buffer on the next bind if the vertex data does not support range updates. Must be called in the GL
+	 * thread.
+	 * @param offset the offset of the range, in floats
+	 * @param count the number of floats in the range */
+	public void updateVerticesRange (int offset, int count) {
+		if (!(vertices instanceof SubDataVertexBufferObjectWithVAO) || !((SubDataVertexBufferObjectWithVAO) vertices).updateRange(offset, count))
+			vertices.getBuffer();
+	}
+
 	/** Calculates the {@link BoundingBox} of the vertices contained in this mesh. In case no vertices are defined yet a
 	 * {@link GdxRuntimeException} is thrown. This method creates a new BoundingBox instance.
 	 * 
@@ -0,0 +1,119 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.gdx.mesh;
+
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+
+/**
+ * Pool of vertex-only meshes with the same vertex attributes. Capacities are
+ * rounded up to a set of geometric size classes so that meshes freed by a
+ * group can be reused by another group of similar size, instead of deleting
+ * and creating vertex buffers every time octants are streamed in and out.
+ * The total size of the idle meshes is capped, meshes freed beyond the cap
+ * are disposed. Must only be used from the GL thread.
+ *
+ * @author tsagrista
+ */
+public class IntMeshPool {
+    /** Smallest size class, in vertices **/
+    private static final int MIN_CAPACITY = 1024;
+    /** Ratio between consecutive size classes **/
+    private static final double CLASS_RATIO = 1.25;
+
+    private final VertexAttributes attributes;
+    private final long maxIdleBytes;
+    private final IntMap<Array<IntMesh>> idle;
+    private long idleBytes;
+
+    /**
+     * Creates a new pool
+     *
+     * @param attributes   The vertex attributes of all the meshes
+     * @param maxIdleBytes The maximum size of the idle meshes, in bytes
+     */
+    public IntMeshPool(VertexAttributes attributes, long maxIdleBytes) {
+        this.attributes = attributes;
+        this.maxIdleBytes = maxIdleBytes;
+        this.idle = new IntMap<>();
+        this.idleBytes = 0;
+    }
+
+    /**
+     * Gets the size class for the given number of vertices, which is the
+     * capacity of the meshes handed out for it
+     *
+     * @param nVertices The number of vertices
+     * @return The capacity, in vertices
+     */
+    public static int capacity(int nVertices) {
+        double cap = MIN_CAPACITY;
+        while (cap < nVertices)
+            cap *= CLASS_RATIO;
+        return (int) Math.min(Integer.MAX_VALUE, Math.ceil(cap));
+    }
+
+    /**
+     * Gets an idle mesh which can hold the given number of vertices, or
+     * creates a new one
+     *
+     * @param nVertices The number of vertices
+     * @return The mesh
+     */
+    public IntMesh obtain(int nVertices) {
+        int cap = capacity(nVertices);
+        Array<IntMesh> meshes = idle.get(cap);
+        if (meshes != null && meshes.size > 0) {
+            idleBytes -= bytes(cap);
+            return meshes.pop();
+        }
+        return new IntMesh(false, cap, 0, attributes);
+    }
+
+    /**
+     * Returns a mesh to the pool. The mesh is disposed if it does not belong
+     * to a size class or if the pool is full.
+     *
+     * @param mesh The mesh
+     */
+    public void free(IntMesh mesh) {
+        int cap = mesh.getMaxVertices();
+        if (cap != capacity(cap) || idleBytes + bytes(cap) > maxIdleBytes) {
+            mesh.dispose();
+            return;
+        }
+        Array<IntMesh> meshes = idle.get(cap);
+        if (meshes == null) {
+            meshes = new Array<>(false, 4);
+            idle.put(cap, meshes);
+        }
+        meshes.add(mesh);
+        idleBytes += bytes(cap);
+    }
+
+    /**
+     * @return The size of the idle meshes, in bytes
+     */
+    public long getIdleBytes() {
+        return idleBytes;
+    }
+
+    /**
+     * Disposes all the idle meshes
+     */
+    public void dispose() {
+        for (Array<IntMesh> meshes : idle.values())
+            for (IntMesh mesh : meshes)
+                mesh.dispose();
+        idle.clear();
+        idleBytes = 0;
+    }
+
+    private long bytes(int nVertices) {
+        return (long) nVertices * attributes.vertexSize;
+    }
+}
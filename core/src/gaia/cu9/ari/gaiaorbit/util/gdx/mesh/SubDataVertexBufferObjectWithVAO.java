@@ -0,0 +1,332 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package gaia.cu9.ari.gaiaorbit.util.gdx.mesh;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GL30;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.graphics.glutils.VertexData;
+import com.badlogic.gdx.utils.BufferUtils;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * <p>
+ * Same as {@link com.badlogic.gdx.graphics.glutils.VertexBufferObjectWithVAO}, but the buffer can also be read and written
+ * without marking it dirty, and a range of it can be sent to the GPU with glBufferSubData via {@link #updateRange(int, int)}.
+ * Otherwise, any access to the buffer sends the whole buffer again on the next bind.
+ * </p>
+ * 
+ * <p>
+ * A {@link VertexData} implementation that uses vertex buffer objects and vertex array objects. (This is required for OpenGL 3.0+
+ * core profiles. In particular, the default VAO has been deprecated, as has the use of client memory for passing vertex
+ * attributes.) Use of VAOs should give a slight performance benefit since you don't have to bind the attributes on every draw
+ * anymore.
+ * </p>
+ * 
+ * <p>
+ * VertexBufferObjects must be disposed via the {@link #dispose()} method when no longer needed
+ * </p>
+ * 
+ * @author mzechner, Dave Clayton <contact@redskyforge.com>, Nate Austin <nate.austin gmail> */
+public class SubDataVertexBufferObjectWithVAO implements VertexData {
+	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	final VertexAttributes attributes;
+	final FloatBuffer buffer;
+	final ByteBuffer byteBuffer;
+	int bufferHandle;
+	final boolean isStatic;
+	final int usage;
+	boolean isDirty = false;
+	boolean isBound = false;
+	int vaoHandle = -1;
+	IntArray cachedLocations = new IntArray();
+	/** Number of bytes in the GPU data store, allocated at the full capacity on the first upload **/
+	int storeBytes = 0;
+
+	/** Constructs a new interleaved SubDataVertexBufferObjectWithVAO.
+	 * 
+	 * @param isStatic whether the vertex data is static.
+	 * @param numVertices the maximum number of vertices
+	 * @param attributes the {@link VertexAttribute}s. */
+	public SubDataVertexBufferObjectWithVAO (boolean isStatic, int numVertices, VertexAttribute... attributes) {
+		this(isStatic, numVertices, new VertexAttributes(attributes));
+	}
+
+	/** Constructs a new interleaved SubDataVertexBufferObjectWithVAO.
+	 * 
+	 * @param isStatic whether the vertex data is static.
+	 * @param numVertices the maximum number of vertices
+	 * @param attributes the {@link VertexAttributes}. */
+	public SubDataVertexBufferObjectWithVAO (boolean isStatic, int numVertices, VertexAttributes attributes) {
+		this.isStatic = isStatic;
+		this.attributes = attributes;
+
+		byteBuffer = BufferUtils.newUnsafeByteBuffer(this.attributes.vertexSize * numVertices);
+		buffer = byteBuffer.asFloatBuffer();
+		buffer.flip();
+		byteBuffer.flip();
+		bufferHandle = Gdx.gl20.glGenBuffer();
+		usage = isStatic ? GL20.GL_STATIC_DRAW : GL20.GL_DYNAMIC_DRAW;
+		createVAO();
+	}
+
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	@Override
+	public int getNumMaxVertices () {
+		return byteBuffer.capacity() / attributes.vertexSize;
+	}
+
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	/** @param forWriting whether the buffer is modified through the returned reference. If false, changes to the buffer are
+	 *           only sent to the GPU with {@link #updateRange(int, int)}.
+	 * @return the underlying FloatBuffer */
+	public FloatBuffer getBuffer (boolean forWriting) {
+		isDirty |= forWriting;
+		return buffer;
+	}
+
+	private void bufferChanged () {
+		if (isBound) {
+			upload(Gdx.gl20);
+			isDirty = false;
+		}
+	}
+
+	/** Sends the data in the buffer to the bound GPU data store. The store is allocated once at the full capacity of the buffer,
+	 * so that refilling the object with a different number of vertices writes into it instead of reallocating it. */
+	private void upload (GL20 gl) {
+		if (storeBytes < byteBuffer.capacity()) {
+			gl.glBufferData(GL20.GL_ARRAY_BUFFER, byteBuffer.capacity(), null, usage);
+			storeBytes = byteBuffer.capacity();
+		}
+		if (byteBuffer.limit() > 0)
+			gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, 0, byteBuffer.limit(), byteBuffer);
+	}
+
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, byteBuffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+		bufferChanged();
+	}
+
+	@Override
+	public void updateVertices (int targetOffset, float[] vertices, int sourceOffset, int count) {
+		isDirty = true;
+		final int pos = byteBuffer.position();
+		byteBuffer.position(targetOffset * 4);
+		BufferUtils.copy(vertices, sourceOffset, count, byteBuffer);
+		byteBuffer.position(pos);
+		buffer.position(0);
+		bufferChanged();
+	}
+
+	/** Sends a range of the buffer to the GPU with glBufferSubData. Nothing is done if the whole buffer is to be sent on the next
+	 * bind anyway, or if the range is not in the data store yet. Must be called in the GL thread.
+	 * @param offset the offset of the range, in floats
+	 * @param count the number of floats in the range
+	 * @return whether the range was sent, or the whole buffer is to be sent on the next bind */
+	public boolean updateRange (int offset, int count) {
+		if (isDirty)
+			return true;
+		if (count <= 0)
+			return true;
+		if ((offset + count) * 4 > storeBytes)
+			return false;
+		final GL20 gl = Gdx.gl20;
+		final int pos = byteBuffer.position();
+		final int limit = byteBuffer.limit();
+		byteBuffer.limit((offset + count) * 4);
+		byteBuffer.position(offset * 4);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		gl.glBufferSubData(GL20.GL_ARRAY_BUFFER, offset * 4, count * 4, byteBuffer);
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		byteBuffer.limit(limit);
+		byteBuffer.position(pos);
+		return true;
+	}
+
+	/** Binds this SubDataVertexBufferObjectWithVAO for rendering via glDrawArrays or glDrawElements
+	 * 
+	 * @param shader the shader */
+	@Override
+	public void bind (ShaderProgram shader) {
+		bind(shader, null);
+	}
+
+	@Override
+	public void bind (ShaderProgram shader, int[] locations) {
+		GL30 gl = Gdx.gl30;
+
+		gl.glBindVertexArray(vaoHandle);
+
+		bindAttributes(shader, locations);
+
+		//if our data has changed upload it:
+		bindData(gl);
+
+		isBound = true;
+	}
+
+	private void bindAttributes (ShaderProgram shader, int[] locations) {
+		boolean stillValid = this.cachedLocations.size != 0;
+		final int numAttributes = attributes.size();
+
+		if (stillValid) {
+			if (locations == null) {
+				for (int i = 0; stillValid && i < numAttributes; i++) {
+					VertexAttribute attribute = attributes.get(i);
+					int location = shader.getAttributeLocation(attribute.alias);
+					stillValid = location == this.cachedLocations.get(i);
+				}
+			} else {
+				stillValid = locations.length == this.cachedLocations.size;
+				for (int i = 0; stillValid && i < numAttributes; i++) {
+					stillValid = locations[i] == this.cachedLocations.get(i);
+				}
+			}
+		}
+
+		if (!stillValid) {
+			Gdx.gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+			unbindAttributes(shader);
+			this.cachedLocations.clear();
+
+			for (int i = 0; i < numAttributes; i++) {
+				VertexAttribute attribute = attributes.get(i);
+				if (locations == null) {
+					this.cachedLocations.add(shader.getAttributeLocation(attribute.alias));
+				} else {
+					this.cachedLocations.add(locations[i]);
+				}
+
+				int location = this.cachedLocations.get(i);
+				if (location < 0) {
+					continue;
+				}
+
+				shader.enableVertexAttribute(location);
+				shader.setVertexAttribute(location, attribute.numComponents, attribute.type, attribute.normalized, attributes.vertexSize, attribute.offset);
+			}
+		}
+	}
+
+	private void unbindAttributes (ShaderProgram shaderProgram) {
+		if (cachedLocations.size == 0) {
+			return;
+		}
+		int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			int location = cachedLocations.get(i);
+			if (location < 0) {
+				continue;
+			}
+			shaderProgram.disableVertexAttribute(location);
+		}
+	}
+
+	private void bindData (GL20 gl) {
+		if (isDirty) {
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+			byteBuffer.limit(buffer.limit() * 4);
+			upload(gl);
+			isDirty = false;
+		}
+	}
+
+	/** Unbinds this SubDataVertexBufferObjectWithVAO.
+	 * 
+	 * @param shader the shader */
+	@Override
+	public void unbind (final ShaderProgram shader) {
+		unbind(shader, null);
+	}
+
+	@Override
+	public void unbind (final ShaderProgram shader, final int[] locations) {
+		GL30 gl = Gdx.gl30;
+		gl.glBindVertexArray(0);
+		isBound = false;
+	}
+
+	/** Invalidates the SubDataVertexBufferObjectWithVAO so a new OpenGL buffer handle is created. Use this in case of a context
+	 * loss. */
+	@Override
+	public void invalidate () {
+		bufferHandle = Gdx.gl30.glGenBuffer();
+		createVAO();
+		storeBytes = 0;
+		isDirty = true;
+	}
+
+	/** Disposes of all resources this SubDataVertexBufferObjectWithVAO uses. */
+	@Override
+	public void dispose () {
+		GL30 gl = Gdx.gl30;
+
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		gl.glDeleteBuffer(bufferHandle);
+		bufferHandle = 0;
+		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
+		deleteVAO();
+	}
+
+	private void createVAO () {
+		tmpHandle.clear();
+		Gdx.gl30.glGenVertexArrays(1, tmpHandle);
+		vaoHandle = tmpHandle.get();
+	}
+
+	private void deleteVAO () {
+		if (vaoHandle != -1) {
+			tmpHandle.clear();
+			tmpHandle.put(vaoHandle);
+			tmpHandle.flip();
+			Gdx.gl30.glDeleteVertexArrays(1, tmpHandle);
+			vaoHandle = -1;
+		}
+	}
+}
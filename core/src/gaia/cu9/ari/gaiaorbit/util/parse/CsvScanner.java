@@ -0,0 +1,346 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.parse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Scans delimited text files at the byte level. Lines are tokenized in place
+ * in a reusable buffer, only the token boundaries are recorded, and numbers
+ * are parsed directly from the bytes, so no strings are created per line or
+ * per token. Only single-byte separators and ASCII numbers are supported,
+ * and quoted fields are not. Alternatively, tokens can be separated by runs of
+ * white space, like <code>line.trim().split("\\s+")</code>.
+ * <p>
+ * Not thread safe, use one scanner per stream.
+ *
+ * @author tsagrista
+ */
+public class CsvScanner {
+    private static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+    /** Powers of ten which are exact in double precision **/
+    private static final double[] POW10 = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+    private final InputStream in;
+    private final byte separator;
+    private final boolean whiteSpace;
+
+    private byte[] buf;
+    // Valid bytes in buf are [0, limit), the next line starts at pos
+    private int pos, limit;
+    private boolean eof;
+
+    // Token boundaries of the current line, as [start, end) offsets in buf
+    private int[] starts, ends;
+    private int nTokens;
+    private long lineNumber;
+
+    /**
+     * Creates a scanner over the given stream
+     *
+     * @param in        The stream
+     * @param separator The separator character
+     */
+    public CsvScanner(InputStream in, char separator) {
+        this(in, separator, false);
+    }
+
+    /**
+     * Creates a scanner over the given stream whose tokens are separated by
+     * runs of spaces and tabs
+     *
+     * @param in The stream
+     */
+    public CsvScanner(InputStream in) {
+        this(in, ' ', true);
+    }
+
+    private CsvScanner(InputStream in, char separator, boolean whiteSpace) {
+        this.in = in;
+        this.separator = (byte) separator;
+        this.whiteSpace = whiteSpace;
+        this.buf = new byte[DEFAULT_BUFFER_SIZE];
+        this.starts = new int[32];
+        this.ends = new int[32];
+        this.lineNumber = 0;
+    }
+
+    /**
+     * Advances to the next line and tokenizes it
+     *
+     * @return False if the end of the stream has been reached
+     * @throws IOException If the stream can't be read
+     */
+    public boolean nextLine() throws IOException {
+        int end;
+        int from = pos;
+        while (true) {
+            end = indexOfNewLine(from);
+            if (end >= 0)
+                break;
+            if (eof) {
+                if (pos >= limit)
+                    return false;
+                // Last line without terminator
+                end = limit;
+                break;
+            }
+            from = limit - pos;
+            fill();
+            from = pos + from;
+        }
+        int lineEnd = end > pos && buf[end - 1] == '\r' ? end - 1 : end;
+        tokenize(pos, lineEnd);
+        pos = Math.min(end + 1, limit);
+        lineNumber++;
+        return true;
+    }
+
+    private int indexOfNewLine(int from) {
+        for (int i = from; i < limit; i++)
+            if (buf[i] == '\n')
+                return i;
+        return -1;
+    }
+
+    /**
+     * Moves the current partial line to the start of the buffer, growing it if
+     * needed, and reads more bytes
+     */
+    private void fill() throws IOException {
+        int remaining = limit - pos;
+        if (pos > 0) {
+            System.arraycopy(buf, pos, buf, 0, remaining);
+        } else if (remaining == buf.length) {
+            // Line longer than the buffer
+            byte[] nbuf = new byte[buf.length * 2];
+            System.arraycopy(buf, 0, nbuf, 0, remaining);
+            buf = nbuf;
+        }
+        pos = 0;
+        limit = remaining;
+        int read = in.read(buf, limit, buf.length - limit);
+        if (read < 0)
+            eof = true;
+        else
+            limit += read;
+    }
+
+    private void tokenize(int from, int to) {
+        if (whiteSpace) {
+            tokenizeWhiteSpace(from, to);
+            return;
+        }
+        nTokens = 0;
+        int start = from;
+        for (int i = from; i <= to; i++) {
+            if (i == to || buf[i] == separator) {
+                addToken(start, i);
+                start = i + 1;
+            }
+        }
+    }
+
+    private void tokenizeWhiteSpace(int from, int to) {
+        nTokens = 0;
+        int i = from;
+        while (true) {
+            while (i < to && (buf[i] == ' ' || buf[i] == '\t'))
+                i++;
+            if (i == to)
+                break;
+            int start = i;
+            while (i < to && buf[i] != ' ' && buf[i] != '\t')
+                i++;
+            addToken(start, i);
+        }
+    }
+
+    private void addToken(int start, int end) {
+        if (nTokens == starts.length) {
+            int[] nstarts = new int[nTokens * 2];
+            int[] nends = new int[nTokens * 2];
+            System.arraycopy(starts, 0, nstarts, 0, nTokens);
+            System.arraycopy(ends, 0, nends, 0, nTokens);
+            starts = nstarts;
+            ends = nends;
+        }
+        starts[nTokens] = start;
+        ends[nTokens] = end;
+        nTokens++;
+    }
+
+    /**
+     * @return The number of tokens in the current line
+     */
+    public int tokenCount() {
+        return nTokens;
+    }
+
+    /**
+     * @return The number of lines read so far
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * Checks whether the given token is empty or contains only white space
+     *
+     * @param i The token index
+     * @return Whether the token is empty
+     */
+    public boolean isEmpty(int i) {
+        for (int j = starts[i]; j < ends[i]; j++)
+            if (!isWhiteSpace(buf[j]))
+                return false;
+        return true;
+    }
+
+    /**
+     * Gets the given token as a string
+     *
+     * @param i The token index
+     * @return The token
+     */
+    public String string(int i) {
+        return new String(buf, starts[i], ends[i] - starts[i], StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parses the given token as a long, like {@link Parser#parseLong(String)}
+     *
+     * @param i The token index
+     * @return The value, or 0 if the token is not a valid integer
+     */
+    public long parseLong(int i) {
+        int p = starts[i], e = ends[i];
+        while (p < e && isWhiteSpace(buf[p]))
+            p++;
+        while (e > p && isWhiteSpace(buf[e - 1]))
+            e--;
+        if (p == e)
+            return 0;
+        long sign = 1;
+        if (buf[p] == '-' || buf[p] == '+') {
+            sign = buf[p] == '-' ? -1 : 1;
+            p++;
+        }
+        long result = 0;
+        for (; p < e; p++) {
+            int d = buf[p] - '0';
+            if (d < 0 || d > 9)
+                return 0;
+            result = result * 10 + d;
+        }
+        return sign * result;
+    }
+
+    /**
+     * Parses the given token as a double. Values with up to 15 significant
+     * digits are exact. Longer mantissas are accurate to a couple of units in
+     * the last place. Values which can't be parsed directly from the bytes
+     * fall back to {@link Double#parseDouble(String)}.
+     *
+     * @param i The token index
+     * @return The value, or NaN if the token is empty or not a number
+     */
+    public double parseDouble(int i) {
+        int p = starts[i], e = ends[i];
+        while (p < e && isWhiteSpace(buf[p]))
+            p++;
+        while (e > p && isWhiteSpace(buf[e - 1]))
+            e--;
+        if (p == e)
+            return Double.NaN;
+
+        byte c = buf[p];
+        if (c == 'N' || c == 'n')
+            return Double.NaN;
+        boolean negative = false;
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            if (++p == e)
+                return Double.NaN;
+            c = buf[p];
+        }
+        if (c == 'I' || c == 'i')
+            return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+
+        long mantissa = 0;
+        int nDigits = 0, exp10 = 0;
+        boolean point = false, any = false;
+        for (; p < e; p++) {
+            c = buf[p];
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (nDigits < 18) {
+                    if (mantissa != 0 || c != '0')
+                        nDigits++;
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (point)
+                        exp10--;
+                } else if (!point) {
+                    // Digits beyond the mantissa precision
+                    exp10++;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (!any)
+            return fallback(i);
+        if (p < e) {
+            if (buf[p] != 'e' && buf[p] != 'E')
+                return fallback(i);
+            p++;
+            boolean expNegative = false;
+            if (p < e && (buf[p] == '-' || buf[p] == '+')) {
+                expNegative = buf[p] == '-';
+                p++;
+            }
+            if (p == e)
+                return fallback(i);
+            int exp = 0;
+            for (; p < e; p++) {
+                int d = buf[p] - '0';
+                if (d < 0 || d > 9 || exp > 10000)
+                    return fallback(i);
+                exp = exp * 10 + d;
+            }
+            exp10 += expNegative ? -exp : exp;
+        }
+
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (exp10 >= 0 && exp10 < POW10.length) {
+            value = mantissa * POW10[exp10];
+        } else if (exp10 < 0 && -exp10 < POW10.length) {
+            value = mantissa / POW10[-exp10];
+        } else {
+            return fallback(i);
+        }
+        return negative ? -value : value;
+    }
+
+    private double fallback(int i) {
+        try {
+            return Double.parseDouble(string(i).trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static boolean isWhiteSpace(byte c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\0';
+    }
+
+}
@@ -0,0 +1,266 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.tree;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Static k-d tree over a set of points, used for cone picking in large particle
+ * groups. The tree is implicit: it is a permutation of the point indices where
+ * the node of the range [lo, hi) is the point at the middle of the range, so
+ * besides the permutation only the split axis of every node is stored. The coordinates are not copied, they are read
+ * from the {@link Points} when needed.
+ * <p>
+ * Points which move (proper motions) are indexed at their reference position.
+ * All queries accept a padding distance which must be at least the maximum
+ * displacement of any point, so that the index returns a superset of the
+ * points which fulfil the query at their actual positions.
+ * <p>
+ * Once built the tree is immutable, and it can be queried from any thread.
+ * Queries which run often pass a {@link Scratch} so that they allocate nothing.
+ *
+ * @author tsagrista
+ */
+public class KdTree {
+    /** Ranges with up to this many points are not split further **/
+    private static final int LEAF_SIZE = 8;
+
+    /**
+     * The coordinates of the indexed points
+     */
+    public interface Points {
+        int size();
+
+        double x(int i);
+
+        double y(int i);
+
+        double z(int i);
+    }
+
+    /**
+     * Scratch buffers of the queries, reused across queries and trees. A
+     * scratch must only be used by one thread at a time.
+     */
+    public static class Scratch {
+        // Cell being visited
+        private final double[] box = new double[6];
+        // Cone of the query
+        private final double[] q = new double[9];
+    }
+
+    private final Points points;
+    private final int n;
+    private final int[] perm;
+    private final byte[] axes;
+    private final double[] bounds;
+
+    /**
+     * Builds the tree. This is O(n log n), large trees should be built off the
+     * main thread.
+     *
+     * @param points The points, which must not change afterwards
+     */
+    public KdTree(Points points) {
+        this.points = points;
+        this.n = points.size();
+        this.perm = new int[n];
+        this.axes = new byte[n];
+        this.bounds = new double[] { Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE };
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+            double x = points.x(i), y = points.y(i), z = points.z(i);
+            bounds[0] = Math.min(bounds[0], x);
+            bounds[1] = Math.min(bounds[1], y);
+            bounds[2] = Math.min(bounds[2], z);
+            bounds[3] = Math.max(bounds[3], x);
+            bounds[4] = Math.max(bounds[4], y);
+            bounds[5] = Math.max(bounds[5], z);
+        }
+        if (n > 0)
+            build(0, n, bounds);
+    }
+
+    /**
+     * @return The number of points in the tree
+     */
+    public int size() {
+        return n;
+    }
+
+    /**
+     * @return The heap size of the tree in bytes, without the points
+     */
+    public long getHeapBytes() {
+        return n * 5L + 64;
+    }
+
+    private void build(int lo, int hi, double[] box) {
+        // The cell is narrowed in place
+        box = box.clone();
+        while (hi - lo > LEAF_SIZE) {
+            // Split the longest side of the cell at the median
+            int axis = 0;
+            for (int a = 1; a < 3; a++)
+                if (box[a + 3] - box[a] > box[axis + 3] - box[axis])
+                    axis = a;
+            int mid = (lo + hi) >>> 1;
+            select(lo, hi - 1, mid, axis);
+            axes[mid] = (byte) axis;
+            double split = coord(perm[mid], axis);
+
+            double max = box[axis + 3];
+            box[axis + 3] = split;
+            build(lo, mid, box);
+            box[axis + 3] = max;
+
+            box[axis] = split;
+            lo = mid + 1;
+        }
+    }
+
+    /**
+     * Partially sorts perm[left, right] so that the k-th element is in place,
+     * with smaller or equal coordinates before and greater or equal after it
+     */
+    private void select(int left, int right, int k, int axis) {
+        while (right > left) {
+            // Median of three pivot
+            int m = (left + right) >>> 1;
+            if (coord(perm[m], axis) < coord(perm[left], axis))
+                swap(m, left);
+            if (coord(perm[right], axis) < coord(perm[left], axis))
+                swap(right, left);
+            if (coord(perm[right], axis) < coord(perm[m], axis))
+                swap(right, m);
+            double pivot = coord(perm[m], axis);
+
+            int i = left, j = right;
+            while (i <= j) {
+                while (coord(perm[i], axis) < pivot)
+                    i++;
+                while (coord(perm[j], axis) > pivot)
+                    j--;
+                if (i <= j) {
+                    swap(i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j)
+                right = j;
+            else if (k >= i)
+                left = i;
+            else
+                return;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int t = perm[i];
+        perm[i] = perm[j];
+        perm[j] = t;
+    }
+
+    private double coord(int i, int axis) {
+        switch (axis) {
+        case 0:
+            return points.x(i);
+        case 1:
+            return points.y(i);
+        default:
+            return points.z(i);
+        }
+    }
+
+    /**
+     * Collects the points within the given distance of a cone, that is, the
+     * points of the cone grown by a ball of that radius
+     *
+     * @param ox       The apex of the cone, x
+     * @param oy       The apex of the cone, y
+     * @param oz       The apex of the cone, z
+     * @param dx       The unit axis of the cone, x
+     * @param dy       The unit axis of the cone, y
+     * @param dz       The unit axis of the cone, z
+     * @param angle    The half aperture of the cone in radians, in [0, pi/2)
+     * @param distance The distance to the cone, including the padding
+     * @param out      The indices of the points are added here
+     */
+    public void cone(double ox, double oy, double oz, double dx, double dy, double dz, double angle, double distance, IntArray out) {
+        cone(ox, oy, oz, dx, dy, dz, angle, distance, out, new Scratch());
+    }
+
+    /**
+     * Same as {@link #cone(double, double, double, double, double, double, double, double, IntArray)},
+     * using the given scratch buffers
+     */
+    public void cone(double ox, double oy, double oz, double dx, double dy, double dz, double angle, double distance, IntArray out, Scratch scratch) {
+        if (n == 0)
+            return;
+        double[] q = scratch.q;
+        q[0] = ox;
+        q[1] = oy;
+        q[2] = oz;
+        q[3] = dx;
+        q[4] = dy;
+        q[5] = dz;
+        q[6] = Math.sin(angle);
+        q[7] = Math.cos(angle);
+        q[8] = distance;
+        System.arraycopy(bounds, 0, scratch.box, 0, 6);
+        cone(0, n, scratch.box, q, out);
+    }
+
+    private void cone(int lo, int hi, double[] box, double[] q, IntArray out) {
+        // Test the bounding sphere of the cell
+        double cx = (box[0] + box[3]) * 0.5, cy = (box[1] + box[4]) * 0.5, cz = (box[2] + box[5]) * 0.5;
+        double ex = box[3] - box[0], ey = box[4] - box[1], ez = box[5] - box[2];
+        double radius = 0.5 * Math.sqrt(ex * ex + ey * ey + ez * ez);
+        if (coneDistance(cx, cy, cz, q) > q[8] + radius)
+            return;
+
+        if (hi - lo <= LEAF_SIZE) {
+            for (int k = lo; k < hi; k++) {
+                int i = perm[k];
+                if (coneDistance(points.x(i), points.y(i), points.z(i), q) <= q[8])
+                    out.add(i);
+            }
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        int i = perm[mid];
+        if (coneDistance(points.x(i), points.y(i), points.z(i), q) <= q[8])
+            out.add(i);
+
+        int axis = axes[mid];
+        double split = coord(i, axis);
+        double max = box[axis + 3];
+        box[axis + 3] = split;
+        cone(lo, mid, box, q, out);
+        box[axis + 3] = max;
+
+        double min = box[axis];
+        box[axis] = split;
+        cone(mid + 1, hi, box, q, out);
+        box[axis] = min;
+    }
+
+    /**
+     * Distance from a point to the cone, negative inside it
+     */
+    private static double coneDistance(double x, double y, double z, double[] q) {
+        double vx = x - q[0], vy = y - q[1], vz = z - q[2];
+        double len2 = vx * vx + vy * vy + vz * vz;
+        double t = vx * q[3] + vy * q[4] + vz * q[5];
+        double perp = Math.sqrt(Math.max(0, len2 - t * t));
+        if (t * q[7] + perp * q[6] <= 0) {
+            // Closest to the apex
+            return Math.sqrt(len2);
+        }
+        return perp * q[7] - t * q[6];
+    }
+}
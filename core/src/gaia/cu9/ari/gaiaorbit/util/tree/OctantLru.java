@@ -0,0 +1,156 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.tree;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Least recently used list of octants. It is an intrusive doubly-linked list
+ * which uses the links stored in the {@link OctreeNode} instances themselves,
+ * so that touching an octant and evicting the oldest one are both O(1) and
+ * do not allocate. An octant can only be in one list at a time.
+ * <p>
+ * All operations are synchronized, as octants are touched from the main
+ * thread and evicted from the loader thread.
+ *
+ * @author tsagrista
+ */
+public class OctantLru {
+    /** Least recently used octant **/
+    private OctreeNode head;
+    /** Most recently used octant **/
+    private OctreeNode tail;
+    private int size;
+
+    /** Running counters, for statistics **/
+    private long touches, evictions;
+
+    /**
+     * Moves the octant to the most recently used end of the list, adding it
+     * if it is not in the list yet
+     *
+     * @param octant The octant
+     */
+    public synchronized void touch(OctreeNode octant) {
+        touches++;
+        if (octant.inLru) {
+            if (octant == tail)
+                return;
+            unlink(octant);
+        }
+        link(octant);
+    }
+
+    /**
+     * Moves the octant to the least recently used end of the list, adding it
+     * if it is not in the list yet, so that it is the first to be evicted
+     *
+     * @param octant The octant
+     */
+    public synchronized void touchOldest(OctreeNode octant) {
+        touches++;
+        if (octant.inLru) {
+            if (octant == head)
+                return;
+            unlink(octant);
+        }
+        octant.lruPrev = null;
+        octant.lruNext = head;
+        if (head != null)
+            head.lruPrev = octant;
+        else
+            tail = octant;
+        head = octant;
+        octant.inLru = true;
+        size++;
+    }
+
+    /**
+     * Removes the least recently used octant from the list and returns it
+     *
+     * @return The least recently used octant, or null if the list is empty
+     */
+    public synchronized OctreeNode evict() {
+        OctreeNode octant = head;
+        if (octant != null) {
+            unlink(octant);
+            evictions++;
+        }
+        return octant;
+    }
+
+    /**
+     * Removes the octant from the list, if it is in it
+     *
+     * @param octant The octant
+     * @return Whether the octant was in the list
+     */
+    public synchronized boolean remove(OctreeNode octant) {
+        if (octant.inLru) {
+            unlink(octant);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the octants in the list to the given array, from the least to the
+     * most recently used
+     *
+     * @param out The array
+     */
+    public synchronized void snapshot(Array<OctreeNode> out) {
+        for (OctreeNode octant = head; octant != null; octant = octant.lruNext)
+            out.add(octant);
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Total number of touches since creation **/
+    public synchronized long getTouches() {
+        return touches;
+    }
+
+    /** Total number of evictions since creation **/
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private void link(OctreeNode octant) {
+        octant.lruPrev = tail;
+        octant.lruNext = null;
+        if (tail != null)
+            tail.lruNext = octant;
+        else
+            head = octant;
+        tail = octant;
+        octant.inLru = true;
+        size++;
+    }
+
+    private void unlink(OctreeNode octant) {
+        OctreeNode prev = octant.lruPrev;
+        OctreeNode next = octant.lruNext;
+        if (prev != null)
+            prev.lruNext = next;
+        else
+            head = next;
+        if (next != null)
+            next.lruPrev = prev;
+        else
+            tail = prev;
+        octant.lruPrev = null;
+        octant.lruNext = null;
+        octant.inLru = false;
+        size--;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Gaia Sky, which is released under the Mozilla Public License 2.0.
+ * See the file LICENSE.md in the project root for full license details.
+ */
+
+package gaia.cu9.ari.gaiaorbit.util.tree;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compact index over octree metadata stored in breadth-first order, in the
+ * version 2 metadata format. Nodes are fixed-size records and the children of
+ * a node are stored contiguously, so the position of the first child of every
+ * node is implicit. It is computed once from the child masks when the index
+ * is created, and it is the only per-node state kept in the heap. Octree nodes
+ * are only created when their parent resolves its children, see
+ * {@link OctreeNode#resolveChildren()}.
+ * <p>
+ * Record layout (big endian, {@link #RECORD_SIZE} bytes): int page id,
+ * float centre x, y and z, float half size, int number of objects, int number of
+ * own objects, byte child mask (bit i set if child i exists), byte depth and
+ * two bytes of padding.
+ *
+ * @author tsagrista
+ */
+public class OctreeIndex {
+    /** Size of a node record in bytes **/
+    public static final int RECORD_SIZE = 32;
+
+    private final ByteBuffer buf;
+    private final int base;
+    private final int nNodes;
+    private final int[] firstChild;
+    private final LoadStatus status;
+
+    /**
+     * Creates an index over the node records in the buffer
+     *
+     * @param buf    The buffer
+     * @param base   The offset of the first node record
+     * @param nNodes The number of nodes
+     * @param status The status to set to the created nodes, or null
+     */
+    public OctreeIndex(ByteBuffer buf, int base, int nNodes, LoadStatus status) {
+        this.buf = buf;
+        this.base = base;
+        this.nNodes = nNodes;
+        this.status = status;
+        this.firstChild = new int[nNodes];
+        int next = 1;
+        for (int i = 0; i < nNodes; i++) {
+            firstChild[i] = next;
+            next += Integer.bitCount(mask(i));
+        }
+        if (next != nNodes)
+            throw new IllegalArgumentException("Octree metadata is corrupt: " + next + " nodes referenced, " + nNodes + " stored");
+    }
+
+    /**
+     * @return The number of nodes in the index
+     */
+    public int size() {
+        return nNodes;
+    }
+
+    /**
+     * Creates the node with the given index
+     *
+     * @param i      The index of the node, 0 is the root
+     * @param parent The parent node, or null for the root
+     * @return The node, with lazy children
+     */
+    public OctreeNode node(int i, OctreeNode parent) {
+        int off = base + i * RECORD_SIZE;
+        long pageId = buf.getInt(off);
+        float x = buf.getFloat(off + 4);
+        float y = buf.getFloat(off + 8);
+        float z = buf.getFloat(off + 12);
+        float hs = buf.getFloat(off + 16);
+        int nObjects = buf.getInt(off + 20);
+        int ownObjects = buf.getInt(off + 24);
+        int mask = buf.get(off + 28) & 0xff;
+        int depth = buf.get(off + 29);
+
+        OctreeNode node = new OctreeNode(pageId, x, y, z, hs, hs, hs, Integer.bitCount(mask), nObjects, ownObjects, depth);
+        node.parent = parent;
+        if (status != null)
+            node.setStatus(status);
+        if (mask != 0)
+            node.setIndex(this, i);
+        return node;
+    }
+
+    /**
+     * Creates the children of the node with the given index and sets them to it
+     *
+     * @param i    The index of the node
+     * @param node The node
+     */
+    void createChildren(int i, OctreeNode node) {
+        int mask = mask(i);
+        int child = firstChild[i];
+        for (int slot = 0; slot < 8; slot++) {
+            if ((mask & (1 << slot)) != 0) {
+                node.children[slot] = node(child++, node);
+            }
+        }
+    }
+
+    /**
+     * Creates the nodes down to the given depth, so that they are available
+     * without resolving them later
+     *
+     * @param node  The node to start at
+     * @param depth The maximum depth
+     */
+    public void materialize(OctreeNode node, int depth) {
+        if (node.depth >= depth)
+            return;
+        node.resolveChildren();
+        for (OctreeNode child : node.children)
+            if (child != null)
+                materialize(child, depth);
+    }
+
+    private int mask(int i) {
+        return buf.get(base + i * RECORD_SIZE + 28) & 0xff;
+    }
+}
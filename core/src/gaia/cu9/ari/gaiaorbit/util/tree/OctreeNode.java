@@ -19,13 +19,11 @@ import gaia.cu9.ari.gaiaorbit.scenegraph.ParticleGroup;
 import gaia.cu9.ari.gaiaorbit.scenegraph.SceneGraphNode;
 import gaia.cu9.ari.gaiaorbit.scenegraph.camera.ICamera;
 import gaia.cu9.ari.gaiaorbit.util.GlobalConf;
-import gaia.cu9.ari.gaiaorbit.util.Pair;
 import gaia.cu9.ari.gaiaorbit.util.math.*;
 import net.jafama.FastMath;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -47,6 +45,8 @@ public class OctreeNode implements ILineRenderable {
      **/
     private static BoundingBoxd boxcopy = new BoundingBoxd(new Vector3d(), new Vector3d());
     private static Vector3d auxD1 = new Vector3d(), auxD2 = new Vector3d(), auxD3 = new Vector3d(), auxD4 = new Vector3d();
+    // Vectors for the visibility checks of other threads than the octree update, like the prefetcher
+    private static final ThreadLocal<Vector3d[]> auxObserved = ThreadLocal.withInitial(() -> new Vector3d[] { new Vector3d(), new Vector3d(), new Vector3d() });
     private static Rayd ray = new Rayd(new Vector3d(), new Vector3d());
 
     private Vector3d aux3d1;
@@ -91,6 +91,17 @@ public class OctreeNode implements ILineRenderable {
     Vector3d transform;
     /** The opacity of this node **/
     public float opacity;
+    /** Links of this node in the {@link OctantLru} it is in, if any **/
+    OctreeNode lruPrev, lruNext;
+    /** Whether this node is in an {@link OctantLru} **/
+    boolean inLru;
+    /** Bytes held by the objects of this node in the heap and in vertex buffers, as accounted by the streaming loader **/
+    public long heapBytes, gpuBytes;
+    /** Index to create the children from, if they have not been created yet **/
+    private volatile OctreeIndex index;
+    private int indexPos;
+    /** Whether this node was queued by the prefetcher and has not been observed yet **/
+    public volatile boolean prefetched;
 
     /**
      * Constructs an octree node
@@ -271,36 +282,30 @@ public class OctreeNode implements ILineRenderable {
     }
 
     /**
-     * Resolves and adds the children of this node using the map. It runs
-     * recursively once the children have been added.
-     * 
-     * @param map
+     * Sets the index to create the children of this node from, when they are
+     * first needed
+     *
+     * @param index The index
+     * @param pos   The position of this node in the index
      */
-    public void resolveChildren(Map<Long, Pair<OctreeNode, long[]>> map) {
-        Pair<OctreeNode, long[]> me = map.get(pageId);
-        if (me == null) {
-            throw new RuntimeException("OctreeNode with page ID " + pageId + " not found in map");
-        }
-
-        long[] childrenIds = me.getSecond();
-        int i = 0;
-        for (long childId : childrenIds) {
-            if (childId != -1) {
-                // Child exists
-                OctreeNode child = map.get(childId).getFirst();
-                children[i] = child;
-                child.parent = this;
-            } else {
-                // No node in this position
-            }
-            i++;
-        }
+    void setIndex(OctreeIndex index, int pos) {
+        this.indexPos = pos;
+        this.index = index;
+    }
 
-        // Recursive running
-        for (int j = 0; j < children.length; j++) {
-            OctreeNode child = children[j];
-            if (child != null) {
-                child.resolveChildren(map);
+    /**
+     * Creates the children of this node if they are still in the metadata
+     * index. Must be called before accessing the children of nodes loaded
+     * from compact metadata.
+     */
+    public void resolveChildren() {
+        if (index != null) {
+            synchronized (this) {
+                OctreeIndex idx = index;
+                if (idx != null) {
+                    idx.createChildren(indexPos, this);
+                    index = null;
+                }
             }
         }
     }
@@ -464,7 +469,8 @@ public class OctreeNode implements ILineRenderable {
     }
 
     /**
-     * Counts the number of nodes recursively
+     * Counts the number of nodes recursively. Children which have not been
+     * resolved from the metadata index yet are not counted.
      * 
      * @return The number of nodes
      */
@@ -568,6 +574,10 @@ public class OctreeNode implements ILineRenderable {
             setChildrenObserved(false);
         } else if(this.observed = computeObserved2(cam)){
             nOctantsObserved++;
+            if (prefetched) {
+                // Prefetched octant came into view
+                StreamingOctreeLoader.prefetchHit(this);
+            }
             //int L_DEPTH = 5;
             /**
              * Load lists of pages
@@ -582,8 +592,6 @@ public class OctreeNode implements ILineRenderable {
                 // Add objects
                 //if (depth == L_DEPTH)
                 addObjectsTo(roulette);
-            } else if (status == LoadStatus.QUEUED) {
-                // What do? Move first in queue?
             }
             double alpha = 1;
             if (GlobalConf.scene.OCTREE_PARTICLE_FADE && viewAngle < th1) {
@@ -593,6 +601,7 @@ public class OctreeNode implements ILineRenderable {
             this.opacity *= alpha;
 
             // Update children
+            resolveChildren();
             for (int i = 0; i < 8; i++) {
                 OctreeNode child = children[i];
                 if (child != null /*&& child.depth <= L_DEPTH*/) {
@@ -668,17 +677,39 @@ public class OctreeNode implements ILineRenderable {
      * @return Whether the octant is observed
      */
     private boolean computeObservedFast(ICamera cam) {
+        return computeObservedFast(cam.getPos(), cam.getDirection(), cam.getCamera().fieldOfView, distToCamera, auxD1, auxD2, auxD3);
+    }
+
+    private boolean computeObservedFast(Vector3d pos, Vector3d dir, double fov, double dist, Vector3d aux1, Vector3d aux2, Vector3d aux3) {
         // vector from camera to center of box
-        Vector3d cpospos = auxD1.set(centre).sub(cam.getPos());
-        // auxD2 rotation axis
-        Vector3d axis = auxD2.set(cam.getDirection()).crs(centre);
-        Vector3d edge = auxD3.set(cam.getDirection()).rotate(axis, cam.getCamera().fieldOfView / 2d);
+        Vector3d cpospos = aux1.set(centre).sub(pos);
+        // aux2 rotation axis
+        Vector3d axis = aux2.set(dir).crs(centre);
+        Vector3d edge = aux3.set(dir).rotate(axis, fov / 2d);
         // get angle at edge (when far side is radius)
         double angle1 = FastMath.toDegrees(FastMath.atan(radius / cpospos.len()));
         // get actual angle
         double angle2 = edge.angle(cpospos);
         // We're in the containing sphere or centre is in front of us
-        return distToCamera <= radius || angle2 < angle1;
+        return dist <= radius || angle2 < angle1;
+    }
+
+    /**
+     * Checks whether this octant would be observed from a camera with the given
+     * state, using the same criteria as {@link #update(Vector3d, ICamera, Array, float)}.
+     * Used to predict which octants will become visible. It does not use the
+     * shared vectors of the octree update, so it can run in another thread.
+     *
+     * @param pos The camera position
+     * @param dir The camera direction
+     * @param fov The field of view angle, in degrees
+     * @return Whether the octant would be observed
+     */
+    public boolean isObservedFrom(Vector3d pos, Vector3d dir, double fov) {
+        Vector3d[] aux = auxObserved.get();
+        double dist = aux[0].set(centre).sub(pos).len();
+        double angle = Math.atan(radius / dist) * 2;
+        return angle >= GlobalConf.scene.OCTANT_THRESHOLD_0 && computeObservedFast(pos, dir, fov, dist, aux[0], aux[1], aux[2]);
     }
 
     public LoadStatus getStatus() {